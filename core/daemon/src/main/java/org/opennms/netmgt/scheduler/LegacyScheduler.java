@@ -47,7 +47,7 @@ import org.springframework.util.Assert;
  * @author <a href="mailto:weave@oculan.com">Brian Weaver </a>
  * @author <a href="http://www.opennms.org/">OpenNMS </a>
  */
-public class LegacyScheduler implements Runnable, PausableFiber, Scheduler {
+public class LegacyScheduler implements Runnable, PausableFiber, ThreadPoolScheduler {
 
     public static interface TimeKeeper extends ReadyRunnable {
         long getTimeToRun();
@@ -309,6 +309,7 @@ public class LegacyScheduler implements Runnable, PausableFiber, Scheduler {
      *
      * @return the sum of all the elements in the various queues
      */
+    @Override
     public int getScheduled() {
         return m_scheduled;
     }
@@ -319,6 +320,7 @@ public class LegacyScheduler implements Runnable, PausableFiber, Scheduler {
      *
      * @return thread pool
      */
+    @Override
     public ExecutorService getRunner() {
         return m_runner;
     }
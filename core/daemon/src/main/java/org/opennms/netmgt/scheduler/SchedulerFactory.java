@@ -0,0 +1,81 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the {@link ThreadPoolScheduler} used by a daemon.
+ *
+ * The implementation is selected by the system property
+ * <code>org.opennms.netmgt.scheduler.type</code>, which can be overridden per
+ * daemon using <code>org.opennms.netmgt.scheduler.type.&lt;daemon&gt;</code>
+ * (i.e. <code>org.opennms.netmgt.scheduler.type.poller</code>). Supported
+ * values are <code>legacy</code> (default) and <code>timing-wheel</code>.
+ */
+public abstract class SchedulerFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchedulerFactory.class);
+
+    public static final String TYPE_PROPERTY = "org.opennms.netmgt.scheduler.type";
+    public static final String TICK_PROPERTY = "org.opennms.netmgt.scheduler.tick";
+    public static final String JITTER_PROPERTY = "org.opennms.netmgt.scheduler.jitter";
+
+    public static final String LEGACY = "legacy";
+    public static final String TIMING_WHEEL = "timing-wheel";
+
+    private SchedulerFactory() {
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param parent
+     *            String prepended to "Scheduler" to create fiber name
+     * @param maxSize
+     *            The maximum size of the thread pool.
+     * @return the scheduler selected by configuration
+     */
+    public static ThreadPoolScheduler createScheduler(final String parent, final int maxSize) {
+        final String type = getType(parent);
+        switch (type) {
+            case LEGACY:
+                return new LegacyScheduler(parent, maxSize);
+            case TIMING_WHEEL:
+                final long tick = Long.getLong(TICK_PROPERTY, TimingWheelScheduler.DEFAULT_TICK_MS);
+                final double jitter = Double.parseDouble(System.getProperty(JITTER_PROPERTY, "0.0"));
+                LOG.info("Using timing wheel scheduler for {} with tick={}ms and jitter={}", parent, tick, jitter);
+                return new TimingWheelScheduler(parent, maxSize, tick, jitter);
+            default:
+                LOG.warn("Unknown scheduler type '{}' for {}. Falling back to {}.", type, parent, LEGACY);
+                return new LegacyScheduler(parent, maxSize);
+        }
+    }
+
+    private static String getType(final String parent) {
+        final String global = System.getProperty(TYPE_PROPERTY, LEGACY);
+        return System.getProperty(TYPE_PROPERTY + "." + Objects.requireNonNull(parent).toLowerCase(), global).trim().toLowerCase();
+    }
+}
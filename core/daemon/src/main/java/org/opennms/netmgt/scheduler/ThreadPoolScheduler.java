@@ -0,0 +1,46 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link Scheduler} which hands ready runnables to a pool of threads for
+ * execution.
+ */
+public interface ThreadPoolScheduler extends Scheduler {
+
+    /**
+     * Returns total number of elements currently scheduled.
+     *
+     * @return the number of scheduled runnables waiting to be executed
+     */
+    int getScheduled();
+
+    /**
+     * Returns the pool of threads that are used to executed the runnable
+     * instances scheduled by the class' instance.
+     *
+     * @return thread pool
+     */
+    ExecutorService getRunner();
+}
@@ -0,0 +1,534 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.core.fiber.PausableFiber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A scheduler backed by a hierarchical timing wheel.
+ *
+ * Time is divided into ticks. Level 0 of the wheel has one slot per tick,
+ * each higher level has one slot per full rotation of the level below. A
+ * runnable is placed into the slot of the lowest level covering its deadline
+ * and is cascaded down whenever the levels below have completed a rotation.
+ * Both inserting and expiring a runnable is therefore O(1), independent of
+ * the number of scheduled runnables.
+ *
+ * Calls to {@link #schedule(long, ReadyRunnable)} only enqueue the runnable
+ * into a lock-free queue. The wheel itself is owned by the worker thread,
+ * which drains that queue once per tick.
+ *
+ * Runnables which are due but not ready are re-checked after one second,
+ * similar to the polling loop of {@link LegacyScheduler}.
+ *
+ * Optionally, the interval of each scheduled runnable can be jittered to
+ * spread runnables which have been scheduled at the same time with the same
+ * interval.
+ */
+public class TimingWheelScheduler implements Runnable, PausableFiber, ThreadPoolScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheelScheduler.class);
+
+    public static final long DEFAULT_TICK_MS = 10;
+
+    private static final int WHEEL_BITS = 9;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final long WHEEL_MASK = WHEEL_SIZE - 1;
+
+    /** Enough levels to cover any positive delta of ticks. */
+    private static final int LEVELS = (63 + WHEEL_BITS - 1) / WHEEL_BITS;
+
+    private static final long NOT_READY_DELAY_MS = 1000;
+
+    private static final long SNAPSHOT_TIMEOUT_MS = 5000;
+
+    /**
+     * The wheel levels. Each slot holds a singly linked list of tasks. Only
+     * accessed by the worker thread.
+     */
+    private final Task[][] m_wheel = new Task[LEVELS][];
+
+    /** The last tick which has been expired. Only accessed by the worker thread. */
+    private long m_currentTick;
+
+    /** Tasks scheduled since the last tick. */
+    private final Queue<Task> m_pending = new ConcurrentLinkedQueue<>();
+
+    /** Pending requests for a snapshot of the schedule. */
+    private final Queue<CompletableFuture<List<LegacyScheduler.TimeKeeper>>> m_snapshots = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger m_scheduled = new AtomicInteger();
+
+    private final long m_tickMs;
+
+    private final long m_notReadyTicks;
+
+    private final double m_jitter;
+
+    /**
+     * The pool of threads that are used to executed the runnable instances
+     * scheduled by the class' instance.
+     */
+    private final ExecutorService m_runner;
+
+    /**
+     * The status for this fiber.
+     */
+    private volatile int m_status;
+
+    /**
+     * The worker thread that executes this instance.
+     */
+    private volatile Thread m_worker;
+
+    /**
+     * Used to keep track of the number of tasks that have been executed.
+     */
+    private volatile long m_numTasksExecuted = 0;
+
+    /**
+     * Constructs a new instance of the scheduler using the default tick and
+     * no jitter.
+     *
+     * @param parent
+     *            String prepended to "Scheduler" to create fiber name
+     * @param maxSize
+     *            The maximum size of the thread pool.
+     */
+    public TimingWheelScheduler(final String parent, final int maxSize) {
+        this(parent, maxSize, DEFAULT_TICK_MS, 0.0);
+    }
+
+    /**
+     * Constructs a new instance of the scheduler.
+     *
+     * @param parent
+     *            String prepended to "Scheduler" to create fiber name
+     * @param maxSize
+     *            The maximum size of the thread pool.
+     * @param tickMs
+     *            The resolution of the wheel in milliseconds.
+     * @param jitter
+     *            The fraction of the interval by which the delay of a
+     *            scheduled runnable is randomly varied. The delay stays
+     *            within <code>interval * (1 +/- jitter / 2)</code>.
+     */
+    public TimingWheelScheduler(final String parent, final int maxSize, final long tickMs, final double jitter) {
+        Assert.isTrue(tickMs > 0, "tickMs must be positive");
+        Assert.isTrue(jitter >= 0.0 && jitter <= 1.0, "jitter must be between 0 and 1");
+
+        m_status = START_PENDING;
+        m_runner = Executors.newFixedThreadPool(maxSize, new LogPreservingThreadFactory(parent, maxSize));
+        m_tickMs = tickMs;
+        m_notReadyTicks = Math.max(1, NOT_READY_DELAY_MS / tickMs);
+        m_jitter = jitter;
+        m_worker = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void schedule(final long interval, final ReadyRunnable runnable) {
+        long delay = interval;
+        if (m_jitter > 0.0 && interval > 0) {
+            delay += (long) ((ThreadLocalRandom.current().nextDouble() - 0.5) * interval * m_jitter);
+        }
+
+        LOG.debug("schedule: Adding ready runnable {} at interval {}", runnable, interval);
+
+        m_pending.add(new Task(runnable, getCurrentTime() + delay));
+        m_scheduled.incrementAndGet();
+    }
+
+    /**
+     * <p>getCurrentTime</p>
+     *
+     * @return a long.
+     */
+    @Override
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * <p>start</p>
+     */
+    @Override
+    public synchronized void start() {
+        Assert.state(m_worker == null, "The fiber has already run or is running");
+
+        m_worker = new Thread(this, getName());
+        m_worker.start();
+        m_status = STARTING;
+
+        LOG.info("start: scheduler started");
+    }
+
+    /**
+     * <p>stop</p>
+     */
+    @Override
+    public synchronized void stop() {
+        Assert.state(m_worker != null, "The fiber has never been started");
+
+        m_status = STOP_PENDING;
+        m_worker.interrupt();
+        m_runner.shutdown();
+
+        LOG.info("stop: scheduler stopped");
+    }
+
+    /**
+     * <p>pause</p>
+     */
+    @Override
+    public synchronized void pause() {
+        Assert.state(m_worker != null, "The fiber has never been started");
+        Assert.state(m_status != STOPPED && m_status != STOP_PENDING, "The fiber is not running or a stop is pending");
+
+        if (m_status == PAUSED) {
+            return;
+        }
+
+        m_status = PAUSE_PENDING;
+        notifyAll();
+    }
+
+    /**
+     * <p>resume</p>
+     */
+    @Override
+    public synchronized void resume() {
+        Assert.state(m_worker != null, "The fiber has never been started");
+        Assert.state(m_status != STOPPED && m_status != STOP_PENDING, "The fiber is not running or a stop is pending");
+
+        if (m_status == RUNNING) {
+            return;
+        }
+
+        m_status = RESUME_PENDING;
+        notifyAll();
+    }
+
+    /**
+     * <p>getStatus</p>
+     *
+     * @return a int.
+     */
+    @Override
+    public synchronized int getStatus() {
+        if (m_worker != null && m_worker.isAlive() == false) {
+            m_status = STOPPED;
+        }
+        return m_status;
+    }
+
+    /**
+     * Returns the name of this fiber.
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    @Override
+    public String getName() {
+        return m_runner.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getScheduled() {
+        return m_scheduled.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ExecutorService getRunner() {
+        return m_runner;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getNumTasksExecuted() {
+        return m_numTasksExecuted;
+    }
+
+    /**
+     * Returns a snapshot of all scheduled runnables. The snapshot is taken by
+     * the worker thread, so this blocks for up to one tick.
+     *
+     * @return the scheduled runnables or an empty list if the scheduler is
+     *         not running
+     */
+    public List<LegacyScheduler.TimeKeeper> getSchedule() {
+        if (getStatus() != RUNNING) {
+            return Collections.emptyList();
+        }
+
+        final CompletableFuture<List<LegacyScheduler.TimeKeeper>> future = new CompletableFuture<>();
+        m_snapshots.add(future);
+        try {
+            return future.get(SNAPSHOT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        } catch (final ExecutionException | TimeoutException e) {
+            LOG.warn("getSchedule: failed to get snapshot of schedule", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * The main method of the scheduler. Once per tick, this method inserts
+     * the newly scheduled runnables into the wheel and hands all runnables
+     * which became due to the thread pool for execution.
+     */
+    @Override
+    public void run() {
+        synchronized (this) {
+            m_status = RUNNING;
+        }
+
+        LOG.debug("run: scheduler running");
+
+        m_currentTick = getCurrentTime() / m_tickMs;
+
+        for (;;) {
+            synchronized (this) {
+
+                if (m_status != RUNNING && m_status != PAUSED && m_status != PAUSE_PENDING && m_status != RESUME_PENDING) {
+                    LOG.debug("run: status = {}, time to exit", m_status);
+                    break;
+                }
+
+                // if paused or pause pending then block
+                while (m_status == PAUSE_PENDING || m_status == PAUSED) {
+                    if (m_status == PAUSE_PENDING) {
+                        LOG.debug("run: pausing.");
+                    }
+                    m_status = PAUSED;
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        // exit
+                        break;
+                    }
+                }
+
+                // if resume pending then change to running
+
+                if (m_status == RESUME_PENDING) {
+                    LOG.debug("run: resuming.");
+
+                    m_status = RUNNING;
+                }
+            }
+
+            try {
+                drainPending();
+
+                // Catch up with the clock. If the clock went backwards, wait for it.
+                final long targetTick = getCurrentTime() / m_tickMs;
+                while (m_currentTick < targetTick) {
+                    m_currentTick++;
+                    advance();
+                }
+
+                drainSnapshots();
+            } catch (RejectedExecutionException e) {
+                if (m_runner.isShutdown()) {
+                    break;
+                }
+                throw new UndeclaredThrowableException(e);
+            }
+
+            // Sleep until the start of the next tick
+            final long sleep = (m_currentTick + 1) * m_tickMs - getCurrentTime();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException ex) {
+                    break;
+                }
+            }
+        }
+
+        LOG.debug("run: scheduler exiting, state = STOPPED");
+        synchronized (this) {
+            m_status = STOPPED;
+        }
+
+        drainSnapshots();
+    }
+
+    private void drainPending() {
+        Task task;
+        while ((task = m_pending.poll()) != null) {
+            // The first tick at which the time to run has been reached
+            task.deadlineTick = (task.timeToRun + m_tickMs - 1) / m_tickMs;
+            insert(task);
+        }
+    }
+
+    /**
+     * Inserts the task into the lowest level covering its deadline. Tasks
+     * which are already due are dispatched immediately.
+     */
+    private void insert(final Task task) {
+        final long delta = task.deadlineTick - m_currentTick;
+        if (delta <= 0) {
+            dispatch(task);
+            return;
+        }
+
+        final int level = (63 - Long.numberOfLeadingZeros(delta)) / WHEEL_BITS;
+        final int slot = (int) ((task.deadlineTick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+
+        Task[] wheel = m_wheel[level];
+        if (wheel == null) {
+            wheel = m_wheel[level] = new Task[WHEEL_SIZE];
+        }
+
+        task.next = wheel[slot];
+        wheel[slot] = task;
+    }
+
+    /**
+     * Expires the current tick. Higher levels which completed a rotation are
+     * cascaded down first, so their tasks end up in the right lower slots.
+     */
+    private void advance() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            final int shift = level * WHEEL_BITS;
+            if ((m_currentTick & ((1L << shift) - 1)) == 0 && m_wheel[level] != null) {
+                final int slot = (int) ((m_currentTick >>> shift) & WHEEL_MASK);
+                Task task = m_wheel[level][slot];
+                m_wheel[level][slot] = null;
+                while (task != null) {
+                    final Task next = task.next;
+                    task.next = null;
+                    insert(task);
+                    task = next;
+                }
+            }
+        }
+
+        if (m_wheel[0] != null) {
+            final int slot = (int) (m_currentTick & WHEEL_MASK);
+            Task task = m_wheel[0][slot];
+            m_wheel[0][slot] = null;
+            while (task != null) {
+                final Task next = task.next;
+                task.next = null;
+                dispatch(task);
+                task = next;
+            }
+        }
+    }
+
+    private void dispatch(final Task task) {
+        if (!task.runnable.isReady()) {
+            LOG.debug("run: runnable {} is not ready, checking again in {}ms", task.runnable, NOT_READY_DELAY_MS);
+            task.deadlineTick = m_currentTick + m_notReadyTicks;
+            insert(task);
+            return;
+        }
+
+        LOG.debug("run: found ready runnable {}", task.runnable);
+
+        m_scheduled.decrementAndGet();
+        m_runner.execute(task);
+        ++m_numTasksExecuted;
+    }
+
+    private void drainSnapshots() {
+        CompletableFuture<List<LegacyScheduler.TimeKeeper>> future;
+        while ((future = m_snapshots.poll()) != null) {
+            final List<LegacyScheduler.TimeKeeper> snapshot = new ArrayList<>(m_scheduled.get());
+            for (final Task[] wheel : m_wheel) {
+                if (wheel == null) {
+                    continue;
+                }
+                for (Task task : wheel) {
+                    for (; task != null; task = task.next) {
+                        snapshot.add(task);
+                    }
+                }
+            }
+            snapshot.addAll(m_pending);
+            future.complete(snapshot);
+        }
+    }
+
+    private static final class Task implements LegacyScheduler.TimeKeeper {
+        private final ReadyRunnable runnable;
+        private final long timeToRun;
+
+        private long deadlineTick;
+        private Task next;
+
+        private Task(final ReadyRunnable runnable, final long timeToRun) {
+            this.runnable = runnable;
+            this.timeToRun = timeToRun;
+        }
+
+        @Override
+        public boolean isReady() {
+            return System.currentTimeMillis() >= timeToRun && runnable.isReady();
+        }
+
+        @Override
+        public long getTimeToRun() {
+            return timeToRun;
+        }
+
+        @Override
+        public ReadyRunnable getRunnable() {
+            return runnable;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+        @Override
+        public String toString() { return runnable.toString()+" (ready in "+Math.max(0, timeToRun-System.currentTimeMillis())+"ms)"; }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how far task executions drift from their scheduled time with a
+ * large number of periodically rescheduled tasks.
+ *
+ * Usage: <code>SchedulerDriftBenchmark [legacy|timing-wheel] [tasks] [intervalMs] [durationS] [threads]</code>
+ *
+ * Defaults to 1M tasks on the timing wheel with an interval of 5 minutes,
+ * initially spread over the whole interval, running for 10 minutes.
+ */
+public class SchedulerDriftBenchmark {
+
+    /** Drift is recorded with millisecond resolution up to this limit. */
+    private static final int MAX_DRIFT_MS = 60_000;
+
+    private final ThreadPoolScheduler scheduler;
+    private final long intervalMs;
+
+    private final AtomicLongArray histogram = new AtomicLongArray(MAX_DRIFT_MS + 1);
+    private final LongAdder executions = new LongAdder();
+
+    private SchedulerDriftBenchmark(final ThreadPoolScheduler scheduler, final long intervalMs) {
+        this.scheduler = scheduler;
+        this.intervalMs = intervalMs;
+    }
+
+    private class Task implements ReadyRunnable {
+        private long due;
+
+        private Task(final long delay) {
+            due = scheduler.getCurrentTime() + delay;
+            scheduler.schedule(delay, this);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void run() {
+            final long now = scheduler.getCurrentTime();
+            histogram.incrementAndGet((int) Math.min(MAX_DRIFT_MS, Math.max(0, now - due)));
+            executions.increment();
+
+            due = now + intervalMs;
+            scheduler.schedule(intervalMs, this);
+        }
+    }
+
+    private long percentile(final long total, final double percentile) {
+        final long threshold = (long) Math.ceil(total * percentile);
+        long count = 0;
+        for (int i = 0; i <= MAX_DRIFT_MS; i++) {
+            count += histogram.get(i);
+            if (count >= threshold) {
+                return i;
+            }
+        }
+        return MAX_DRIFT_MS;
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final String type = args.length > 0 ? args[0] : SchedulerFactory.TIMING_WHEEL;
+        final int tasks = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        final long intervalMs = args.length > 2 ? Long.parseLong(args[2]) : TimeUnit.MINUTES.toMillis(5);
+        final long durationS = args.length > 3 ? Long.parseLong(args[3]) : TimeUnit.MINUTES.toSeconds(10);
+        final int threads = args.length > 4 ? Integer.parseInt(args[4]) : 30;
+
+        final ThreadPoolScheduler scheduler = SchedulerFactory.TIMING_WHEEL.equals(type)
+                ? new TimingWheelScheduler("Benchmark", threads)
+                : new LegacyScheduler("Benchmark", threads);
+        final SchedulerDriftBenchmark benchmark = new SchedulerDriftBenchmark(scheduler, intervalMs);
+
+        scheduler.start();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            benchmark.new Task(ThreadLocalRandom.current().nextLong(intervalMs));
+        }
+        System.out.printf("Scheduled %d tasks on %s in %d ms%n", tasks, type, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        for (long elapsed = 0; elapsed < durationS; elapsed += 10) {
+            Thread.sleep(10_000);
+            final long total = benchmark.executions.sum();
+            System.out.printf("%4ds: executions=%d drift p50=%dms p99=%dms p99.9=%dms max=%dms%n",
+                    elapsed + 10, total,
+                    benchmark.percentile(total, 0.5),
+                    benchmark.percentile(total, 0.99),
+                    benchmark.percentile(total, 0.999),
+                    benchmark.percentile(total, 1.0));
+        }
+
+        scheduler.stop();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.fiber.PausableFiber;
+
+public class TimingWheelSchedulerTest {
+
+    private TimingWheelScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        if (scheduler != null && scheduler.getStatus() != PausableFiber.STOPPED) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    public void testRunsTasksWhenDue() throws InterruptedException {
+        // With a tick of 1ms, level 0 covers 512ms so the longer delays have to be cascaded down
+        scheduler = new TimingWheelScheduler("TimingWheelSchedulerTest", 4, 1, 0.0);
+        scheduler.start();
+
+        final long[] delays = new long[] { 0, 5, 50, 300, 700, 1500 };
+        final List<Long> drifts = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(delays.length);
+        for (final long delay : delays) {
+            final long due = scheduler.getCurrentTime() + delay;
+            scheduler.schedule(delay, new ReadyRunnable() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void run() {
+                    drifts.add(System.currentTimeMillis() - due);
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (final long drift : drifts) {
+            assertTrue("Task ran " + (-drift) + "ms too early", drift >= 0);
+        }
+        assertEquals(delays.length, scheduler.getNumTasksExecuted());
+        assertEquals(0, scheduler.getScheduled());
+    }
+
+    @Test
+    public void testRetriesTasksWhichAreNotReady() throws InterruptedException {
+        scheduler = new TimingWheelScheduler("TimingWheelSchedulerTest", 1, 10, 0.0);
+        scheduler.start();
+
+        final AtomicInteger checks = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule(0, new ReadyRunnable() {
+            @Override
+            public boolean isReady() {
+                return checks.incrementAndGet() > 1;
+            }
+
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(2, checks.get());
+    }
+
+    @Test
+    public void testSchedule() throws InterruptedException {
+        scheduler = new TimingWheelScheduler("TimingWheelSchedulerTest", 1, 10, 0.0);
+        scheduler.start();
+        Thread.sleep(100);
+
+        scheduler.schedule(60000, new ExecutableTest("A", 10));
+        scheduler.schedule(120000, new ExecutableTest("B", 10));
+
+        final List<LegacyScheduler.TimeKeeper> schedule = scheduler.getSchedule();
+        assertEquals(2, schedule.size());
+        assertEquals(2, scheduler.getScheduled());
+    }
+
+    @Test
+    public void testPauseAndResume() throws InterruptedException {
+        scheduler = new TimingWheelScheduler("TimingWheelSchedulerTest", 1, 10, 0.0);
+        scheduler.start();
+        Thread.sleep(100);
+        assertEquals(PausableFiber.RUNNING, scheduler.getStatus());
+
+        scheduler.pause();
+        Thread.sleep(100);
+        assertEquals(PausableFiber.PAUSED, scheduler.getStatus());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule(0, new ReadyRunnable() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+        assertEquals(1, latch.getCount());
+
+        scheduler.resume();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(PausableFiber.RUNNING, scheduler.getStatus());
+    }
+
+    @Test
+    public void testSchedulerFactory() {
+        try {
+            assertTrue(SchedulerFactory.createScheduler("Test", 1) instanceof LegacyScheduler);
+
+            System.setProperty(SchedulerFactory.TYPE_PROPERTY, SchedulerFactory.TIMING_WHEEL);
+            assertTrue(SchedulerFactory.createScheduler("Test", 1) instanceof TimingWheelScheduler);
+
+            System.setProperty(SchedulerFactory.TYPE_PROPERTY + ".test", SchedulerFactory.LEGACY);
+            assertTrue(SchedulerFactory.createScheduler("Test", 1) instanceof LegacyScheduler);
+            assertTrue(SchedulerFactory.createScheduler("Other", 1) instanceof TimingWheelScheduler);
+        } finally {
+            System.clearProperty(SchedulerFactory.TYPE_PROPERTY);
+            System.clearProperty(SchedulerFactory.TYPE_PROPERTY + ".test");
+        }
+    }
+}
@@ -41,7 +41,6 @@ import static org.opennms.core.tracing.api.TracerConstants.TAG_SYSTEM_ID;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -403,7 +402,7 @@ public class MinionGrpcClient extends AbstractMessageDispatcherFactory<String> {
         Span minionSpan = spanBuilder.start();
         setTagsForRpc(requestProto, minionSpan);
 
-        RpcRequest rpcRequest = rpcModule.unmarshalRequest(requestProto.getRpcContent().toStringUtf8());
+        RpcRequest rpcRequest = rpcModule.unmarshalRequestFromBytes(requestProto.getRpcContent().toByteArray());
         CompletableFuture<RpcResponse> future = rpcModule.execute(rpcRequest);
         future.whenComplete((res, ex) -> {
             final RpcResponse rpcResponse;
@@ -419,13 +418,13 @@ public class MinionGrpcClient extends AbstractMessageDispatcherFactory<String> {
             }
             minionSpan.finish();
             // Construct response using the same rpcId;
-            String responseAsString = rpcModule.marshalResponse(rpcResponse);
+            byte[] responseAsBytes = rpcModule.marshalResponseToBytes(rpcResponse);
             RpcResponseProto responseProto = RpcResponseProto.newBuilder()
                     .setRpcId(requestProto.getRpcId())
                     .setSystemId(minionIdentity.getId())
                     .setLocation(requestProto.getLocation())
                     .setModuleId(requestProto.getModuleId())
-                    .setRpcContent(ByteString.copyFrom(responseAsString, StandardCharsets.UTF_8))
+                    .setRpcContent(ByteString.copyFrom(responseAsBytes))
                     .build();
             if (getChannelState().equals(ConnectivityState.READY)) {
                 try {
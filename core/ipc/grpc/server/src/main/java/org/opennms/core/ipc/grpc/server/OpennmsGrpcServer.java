@@ -222,7 +222,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                 final Map<String, String> loggingContext = Logging.getCopyOfContextMap();
 
                 Span span = getTracer().buildSpan(module.getId()).start();
-                String marshalRequest = module.marshalRequest(request);
+                byte[] marshalRequest = module.marshalRequestToBytes(request);
                 String rpcId = UUID.randomUUID().toString();
                 CompletableFuture<T> future = new CompletableFuture<T>();
                 Long timeToLive = request.getTimeToLiveMs();
@@ -236,7 +236,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                         .setRpcId(rpcId)
                         .setLocation(request.getLocation())
                         .setModuleId(module.getId())
-                        .setRpcContent(ByteString.copyFrom(marshalRequest.getBytes()));
+                        .setRpcContent(ByteString.copyFrom(marshalRequest));
                 if (!Strings.isNullOrEmpty(request.getSystemId())) {
                     builder.setSystemId(request.getSystemId());
                 }
@@ -306,7 +306,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
         // Handle response from the Minion.
         RpcResponseHandler responseHandler = rpcResponseMap.get(responseProto.getRpcId());
         if (responseHandler != null && responseProto.getRpcContent() != null) {
-            responseHandler.sendResponse(responseProto.getRpcContent().toStringUtf8());
+            responseHandler.sendResponse(responseProto.getRpcContent().toByteArray());
         } else {
             LOG.debug("Received a response for request for module: {} with RpcId:{}, but no outstanding request was found with this id." +
                     "The request may have timed out", responseProto.getModuleId(), responseProto.getRpcId());
@@ -596,11 +596,11 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
         }
 
         @Override
-        public void sendResponse(String message) {
+        public void sendResponse(byte[] message) {
 
             try (Logging.MDCCloseable mdc = Logging.withContextMapCloseable(loggingContext)) {
                 if (message != null) {
-                    T response = rpcModule.unmarshalResponse(message);
+                    T response = rpcModule.unmarshalResponseFromBytes(message);
                     if (response.getErrorMessage() != null) {
                         span.log(response.getErrorMessage());
                         RpcClientFactory.markFailed(getRpcMetrics(), this.location, rpcModule.getId());
@@ -609,7 +609,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                         responseFuture.complete(response);
                     }
                     isProcessed = true;
-                    RpcClientFactory.updateResponseSize(getRpcMetrics(), this.location, rpcModule.getId(), message.getBytes().length);
+                    RpcClientFactory.updateResponseSize(getRpcMetrics(), this.location, rpcModule.getId(), message.length);
                 } else {
                     span.setTag(TAG_TIMEOUT, "true");
                     RpcClientFactory.markFailed(getRpcMetrics(), this.location, rpcModule.getId());
@@ -619,7 +619,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
                 rpcResponseMap.remove(rpcId);
                 span.finish();
             } catch (Throwable e) {
-                LOG.error("Error while processing RPC response {}", message, e);
+                LOG.error("Error while processing RPC response for RpcId:{}", rpcId, e);
             }
             if (isProcessed) {
                 LOG.debug("RPC Response from module: {} handled successfully for RpcId:{}.", rpcId, rpcModule.getId());
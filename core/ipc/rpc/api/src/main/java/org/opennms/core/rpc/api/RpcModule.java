@@ -21,6 +21,8 @@
  */
 package org.opennms.core.rpc.api;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Provides the ability to execute the RPCs and defines how the requests/responses will
  * be marshaled/unmarshaled over the wire.
@@ -58,6 +60,42 @@ public interface RpcModule<S extends RpcRequest, T extends RpcResponse> extends
      */
     T unmarshalResponse(String response);
 
+    /**
+     * Marshals the request to bytes.
+     *
+     * Transports that carry binary payloads should prefer this over {@link #marshalRequest(RpcRequest)},
+     * since modules may use a more compact binary encoding here.
+     */
+    default byte[] marshalRequestToBytes(S request) {
+        return marshalRequest(request).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Unmarshals a request produced by either {@link #marshalRequest(RpcRequest)}
+     * or {@link #marshalRequestToBytes(RpcRequest)}.
+     */
+    default S unmarshalRequestFromBytes(byte[] request) {
+        return unmarshalRequest(new String(request, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Marshals the response to bytes.
+     *
+     * Transports that carry binary payloads should prefer this over {@link #marshalResponse(RpcResponse)},
+     * since modules may use a more compact binary encoding here.
+     */
+    default byte[] marshalResponseToBytes(T response) {
+        return marshalResponse(response).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Unmarshals a response produced by either {@link #marshalResponse(RpcResponse)}
+     * or {@link #marshalResponseToBytes(RpcResponse)}.
+     */
+    default T unmarshalResponseFromBytes(byte[] response) {
+        return unmarshalResponse(new String(response, StandardCharsets.UTF_8));
+    }
+
     /**
      * Called when the {@link RpcModule} throws an exception while executing a request.
      *
@@ -25,7 +25,7 @@ import java.util.concurrent.Delayed;
 
 public interface RpcResponseHandler extends Delayed {
 
-    void sendResponse(String response);
+    void sendResponse(byte[] response);
 
     boolean isProcessed();
 
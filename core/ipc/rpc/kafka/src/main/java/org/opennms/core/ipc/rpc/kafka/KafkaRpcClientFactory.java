@@ -167,7 +167,7 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
 
                 Span span = buildAndStartSpan(request);
                 String requestTopic = topicProvider.getRequestTopicAtLocation(request.getLocation(), module.getId());
-                String marshalRequest = module.marshalRequest(request);
+                byte[] messageInBytes = module.marshalRequestToBytes(request);
                 // Generate RPC Id for every request to track request/response.
                 String rpcId = UUID.randomUUID().toString();
                 // Calculate timeout based on ttl and default timeout.
@@ -183,7 +183,6 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
                 delayQueue.offer(responseHandler);
                 rpcResponseMap.put(rpcId, responseHandler);
                 kafkaConsumerRunner.startConsumingForModule(module.getId());
-                byte[] messageInBytes = marshalRequest.getBytes();
                 int totalChunks = IntMath.divide(messageInBytes.length, maxBufferSize, RoundingMode.UP);
 
                 RpcMessageProto.Builder builder = RpcMessageProto.newBuilder()
@@ -399,12 +398,12 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
         }
 
         @Override
-        public void sendResponse(String message) {
+        public void sendResponse(byte[] message) {
             // restore Logging context on callback.
             try (MDCCloseable mdc = Logging.withContextMapCloseable(loggingContext)) {
                 // When message is not null, it's called from kafka consumer otherwise it is from timeout tracker.
                 if (message != null) {
-                    T response = rpcModule.unmarshalResponse(message);
+                    T response = rpcModule.unmarshalResponseFromBytes(message);
                     if (response.getErrorMessage() != null) {
                         responseFuture.completeExceptionally(new RemoteExecutionException(response.getErrorMessage()));
                         span.log(response.getErrorMessage());
@@ -413,7 +412,7 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
                         responseFuture.complete(response);
                     }
                     isProcessed = true;
-                    responseSize.update(message.getBytes().length);
+                    responseSize.update(message.length);
                 } else {
                     responseFuture.completeExceptionally(new RequestTimedOutException(new TimeoutException()));
                     span.setTag(TAG_TIMEOUT, "true");
@@ -425,7 +424,8 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
                 rpcDuration.update(System.currentTimeMillis() - requestCreationTime);
                 span.finish();
             } catch (Throwable e) {
-                LOG.warn("Error while handling response for RPC module: {}. Response string: {}", rpcModule.getId(), message, e);
+                LOG.warn("Error while handling response for RPC module: {}. Response size: {}", rpcModule.getId(),
+                        message != null ? message.length : 0, e);
             }
         }
 
@@ -504,7 +504,7 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
                             if (LOG.isTraceEnabled()) {
                                 LOG.trace("Received RPC response for id {}", rpcMessage.getRpcId());
                             }
-                            final String rpcMessageContent = rpcContent.toStringUtf8();
+                            final byte[] rpcMessageContent = rpcContent.toByteArray();
                             responseHandlerExecutor.execute(() ->
                                     responseCb.sendResponse(rpcMessageContent));
                             // Remove rpcId from the maps so that duplicate response will not be handled.
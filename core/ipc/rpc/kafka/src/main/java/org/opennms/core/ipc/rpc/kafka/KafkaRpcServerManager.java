@@ -359,7 +359,7 @@ public class KafkaRpcServerManager {
             Tracer.SpanBuilder spanBuilder = buildSpanFromRpcMessage(rpcRequestProto);
             Span minionSpan = spanBuilder.start();
 
-            RpcRequest request = module.unmarshalRequest(rpcContent.toStringUtf8());
+            RpcRequest request = module.unmarshalRequestFromBytes(rpcContent.toByteArray());
             setTagsOnMinion(rpcRequestProto, request, minionSpan);
             // Modules may run the execution in their own thread pool.
             CompletableFuture<RpcResponse> future = module.execute(request);
@@ -391,8 +391,7 @@ public class KafkaRpcServerManager {
         private void sendResponse(String rpcId, RpcResponse response, RpcModule module) {
             try {
                 String responseTopic = kafkaRpcTopicProvider.getResponseTopic(module.getId());
-                final String responseAsString = module.marshalResponse(response);
-                final byte[] messageInBytes = responseAsString.getBytes();
+                final byte[] messageInBytes = module.marshalResponseToBytes(response);
                 int totalChunks = IntMath.divide(messageInBytes.length, maxBufferSize, RoundingMode.UP);
 
                 // Divide the message in chunks and send each chunk as a different message with the same key.
@@ -407,14 +406,14 @@ public class KafkaRpcServerManager {
                     RpcMessageProto rpcMessage = builder.setCurrentChunkNumber(chunk)
                             .setRpcContent(byteString)
                             .build();
-                    sendMessageToKafka(rpcMessage, responseTopic, responseAsString);
+                    sendMessageToKafka(rpcMessage, responseTopic);
                 }
             } catch (Throwable t) {
                 LOG.error("Marshalling response in RPC module {} failed.", module, t);
             }
         }
 
-        void sendMessageToKafka(RpcMessageProto rpcMessage, String topic, String responseAsString) {
+        void sendMessageToKafka(RpcMessageProto rpcMessage, String topic) {
             String rpcId = rpcMessage.getRpcId();
             int chunkNum = rpcMessage.getCurrentChunkNumber();
             final ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(
@@ -425,7 +424,7 @@ public class KafkaRpcServerManager {
                     RATE_LIMITED_LOG.error(" RPC response {} with id {} couldn't be sent to Kafka", rpcMessage, rpcId, e);
                 } else {
                     if (LOG.isTraceEnabled()) {
-                        LOG.trace("request with id {} executed, sending response {}, chunk number {} ", rpcId, responseAsString, chunkNum);
+                        LOG.trace("request with id {} executed, sending response chunk number {} ", rpcId, chunkNum);
                     }
                 }
             });
@@ -34,7 +34,7 @@ import org.opennms.distributed.core.api.MinionIdentity;
 import com.codahale.metrics.MetricRegistry;
 
 /**
- * This overrides @{@link org.opennms.core.ipc.rpc.kafka.KafkaRpcServerManager.KafkaConsumerRunner#sendMessageToKafka(RpcMessageProto, String, String)}
+ * This overrides @{@link org.opennms.core.ipc.rpc.kafka.KafkaRpcServerManager.KafkaConsumerRunner#sendMessageToKafka(RpcMessageProto, String)}
  * to send duplicate message or skip a chunk in between.
  */
 public class RpcTestServer extends KafkaRpcServerManager {
@@ -59,17 +59,17 @@ public class RpcTestServer extends KafkaRpcServerManager {
         }
 
         @Override
-        void sendMessageToKafka(RpcMessageProto rpcMessage, String topic, String responseAsString) {
+        void sendMessageToKafka(RpcMessageProto rpcMessage, String topic) {
             if (skipChunks && rpcMessage.getCurrentChunkNumber() == 2) {
                 skipChunks = true;
             }
 
             if (!skipChunks) {
-                super.sendMessageToKafka(rpcMessage, topic, responseAsString);
+                super.sendMessageToKafka(rpcMessage, topic);
                 skippedOrDuplicated = true;
             }
             if (rpcMessage.getCurrentChunkNumber() == 1) {
-                super.sendMessageToKafka(rpcMessage, topic, responseAsString);
+                super.sendMessageToKafka(rpcMessage, topic);
                 skippedOrDuplicated = true;
             }
         }
@@ -21,7 +21,16 @@
  */
 package org.opennms.core.rpc.xml;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 
 import org.opennms.core.rpc.api.RpcModule;
 import org.opennms.core.rpc.api.RpcRequest;
@@ -30,18 +39,70 @@ import org.opennms.core.xml.XmlHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
 /**
  * {@link RpcModule} that uses JaxbUtils for marshaling and unmarshaling requests.
  *
+ * When marshaled to bytes, requests and responses can optionally be encoded with a {@link ProtobufRpcCodec}
+ * and/or compressed. Such payloads are framed so that they can be told apart from plain XML, and are
+ * always accepted when unmarshaling, regardless of the local configuration.
+ *
  * @author jwhite
  */
 public abstract class AbstractXmlRpcModule<S extends RpcRequest,T extends RpcResponse> implements RpcModule<S, T>  {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractXmlRpcModule.class);
 
+    /**
+     * Prefix of the system property selecting the codec used to marshal the requests and responses
+     * of a module, i.e. <code>org.opennms.core.rpc.codec.Collect=protobuf</code>.
+     */
+    public static final String CODEC_PROPERTY_PREFIX = "org.opennms.core.rpc.codec.";
+
+    public static final String CODEC_XML = "xml";
+
+    public static final String CODEC_PROTOBUF = "protobuf";
+
+    /**
+     * System property holding the size in bytes from which payloads are compressed. Compression is
+     * disabled when not set or not positive.
+     */
+    public static final String COMPRESSION_THRESHOLD_PROPERTY = "org.opennms.core.rpc.compressionThreshold";
+
+    /**
+     * System property holding the maximum size in bytes of a compressed payload once inflated. Defaults to
+     * the default maximum message size of the gRPC transport.
+     */
+    public static final String MAX_INFLATED_SIZE_PROPERTY = "org.opennms.core.rpc.maxInflatedSize";
+
+    public static final int DEFAULT_MAX_INFLATED_SIZE = 10485760;
+
+    /**
+     * Framed payloads start with a NUL byte, which can never start an XML document, followed by
+     * a flags byte and the codec version.
+     */
+    private static final byte BINARY_MARKER = 0x00;
+
+    private static final int BINARY_HEADER_LENGTH = 3;
+
+    private static final byte FLAG_PROTOBUF = 0x01;
+
+    private static final byte FLAG_DEFLATE = 0x02;
+
     private final Class<S> requestClazz;
     private final Class<T> responseClazz;
 
+    private final ProtobufRpcCodec<S, T> protobufCodec;
+
+    private volatile Boolean marshalProtobuf;
+
+    private volatile Integer compressionThreshold;
+
+    private volatile Integer maxInflatedSize;
+
     /**
      * Store a thread-local reference to the {@link XmlHandler} because 
      * Unmarshalers are not thread-safe.
@@ -50,8 +111,13 @@ public abstract class AbstractXmlRpcModule<S extends RpcRequest,T extends RpcRes
     private final ThreadLocal<XmlHandler<T>> responseXmlHandler = new ThreadLocal<>();
 
     public AbstractXmlRpcModule(Class<S> requestClazz, Class<T> responseClazz) {
+        this(requestClazz, responseClazz, null);
+    }
+
+    public AbstractXmlRpcModule(Class<S> requestClazz, Class<T> responseClazz, ProtobufRpcCodec<S, T> protobufCodec) {
         this.requestClazz = Objects.requireNonNull(requestClazz);
         this.responseClazz = Objects.requireNonNull(responseClazz);
+        this.protobufCodec = protobufCodec;
     }
 
     @Override
@@ -74,6 +140,159 @@ public abstract class AbstractXmlRpcModule<S extends RpcRequest,T extends RpcRes
         return getResponseXmlHandler().unmarshal(response);
     }
 
+    @Override
+    public byte[] marshalRequestToBytes(S request) {
+        final MessageLite proto = isMarshalProtobuf() ? protobufCodec.encodeRequest(request) : null;
+        return toBytes(proto, () -> marshalRequest(request));
+    }
+
+    @Override
+    public S unmarshalRequestFromBytes(byte[] request) {
+        return fromBytes(request, this::unmarshalRequest, input -> protobufCodec.decodeRequest(input));
+    }
+
+    @Override
+    public byte[] marshalResponseToBytes(T response) {
+        final MessageLite proto = isMarshalProtobuf() ? protobufCodec.encodeResponse(response) : null;
+        return toBytes(proto, () -> marshalResponse(response));
+    }
+
+    @Override
+    public T unmarshalResponseFromBytes(byte[] response) {
+        return fromBytes(response, this::unmarshalResponse, input -> protobufCodec.decodeResponse(input));
+    }
+
+    /**
+     * Whether requests and responses are marshaled to bytes with the protobuf codec.
+     */
+    protected boolean isMarshalProtobuf() {
+        if (marshalProtobuf == null) {
+            final String codec = System.getProperty(CODEC_PROPERTY_PREFIX + getId(), CODEC_XML);
+            if (CODEC_PROTOBUF.equalsIgnoreCase(codec) && protobufCodec == null) {
+                LOG.warn("Module {} has no protobuf codec. Using XML.", getId());
+            }
+            marshalProtobuf = CODEC_PROTOBUF.equalsIgnoreCase(codec) && protobufCodec != null;
+        }
+        return marshalProtobuf;
+    }
+
+    private boolean shouldCompress(int size) {
+        if (compressionThreshold == null) {
+            compressionThreshold = Integer.getInteger(COMPRESSION_THRESHOLD_PROPERTY, 0);
+        }
+        return compressionThreshold > 0 && size >= compressionThreshold;
+    }
+
+    private int getMaxInflatedSize() {
+        if (maxInflatedSize == null) {
+            maxInflatedSize = Integer.getInteger(MAX_INFLATED_SIZE_PROPERTY, DEFAULT_MAX_INFLATED_SIZE);
+        }
+        return maxInflatedSize;
+    }
+
+    private byte[] toBytes(MessageLite proto, Supplier<String> xml) {
+        if (proto == null) {
+            final byte[] payload = xml.get().getBytes(StandardCharsets.UTF_8);
+            return shouldCompress(payload.length) ? deflate((byte)0, (byte)0, payload) : payload;
+        }
+
+        final int size = proto.getSerializedSize();
+        if (shouldCompress(size)) {
+            return deflate(FLAG_PROTOBUF, protobufCodec.getVersion(), proto.toByteArray());
+        }
+
+        final byte[] bytes = new byte[BINARY_HEADER_LENGTH + size];
+        bytes[0] = BINARY_MARKER;
+        bytes[1] = FLAG_PROTOBUF;
+        bytes[2] = protobufCodec.getVersion();
+        try {
+            final CodedOutputStream output = CodedOutputStream.newInstance(bytes, BINARY_HEADER_LENGTH, size);
+            proto.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode message for module " + getId(), e);
+        }
+        return bytes;
+    }
+
+    private static byte[] deflate(byte flags, byte version, byte[] payload) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(BINARY_HEADER_LENGTH + payload.length / 4);
+        out.write(BINARY_MARKER);
+        out.write(flags | FLAG_DEFLATE);
+        out.write(version);
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(payload);
+        } catch (IOException e) {
+            // Never thrown by a ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private <W> W fromBytes(byte[] bytes, Function<String, W> xml, Decoder<W> decoder) {
+        if (bytes.length == 0 || bytes[0] != BINARY_MARKER) {
+            return xml.apply(new String(bytes, StandardCharsets.UTF_8));
+        }
+        if (bytes.length < BINARY_HEADER_LENGTH || (bytes[1] & ~(FLAG_PROTOBUF | FLAG_DEFLATE)) != 0) {
+            throw new IllegalArgumentException("Module " + getId() + " received a binary message with an unsupported header");
+        }
+
+        final boolean protobuf = (bytes[1] & FLAG_PROTOBUF) != 0;
+        if (protobuf && protobufCodec == null) {
+            throw new IllegalArgumentException("Module " + getId() + " received a binary message but has no protobuf codec");
+        }
+        if (protobuf && bytes[2] != protobufCodec.getVersion()) {
+            throw new IllegalArgumentException("Module " + getId() + " received a binary message of unsupported version "
+                    + bytes[2] + ", expected " + protobufCodec.getVersion());
+        }
+
+        byte[] payload = bytes;
+        int offset = BINARY_HEADER_LENGTH;
+        try {
+            if ((bytes[1] & FLAG_DEFLATE) != 0) {
+                payload = inflate(bytes, BINARY_HEADER_LENGTH, getMaxInflatedSize());
+                offset = 0;
+            }
+            if (!protobuf) {
+                return xml.apply(new String(payload, offset, payload.length - offset, StandardCharsets.UTF_8));
+            }
+            return decoder.decode(CodedInputStream.newInstance(payload, offset, payload.length - offset));
+        } catch (IOException | DataFormatException e) {
+            throw new IllegalArgumentException("Failed to decode binary message for module " + getId(), e);
+        }
+    }
+
+    private byte[] inflate(byte[] bytes, int offset, int maxSize) throws DataFormatException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min((bytes.length - offset) * 4L, maxSize));
+            final byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                final int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Compressed payload is truncated");
+                }
+                if (out.size() + length > maxSize) {
+                    throw new IllegalArgumentException("Module " + getId() + " received a compressed message exceeding the maximum size of "
+                            + maxSize + " bytes once inflated. See " + MAX_INFLATED_SIZE_PROPERTY + ".");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder<W> {
+        W decode(CodedInputStream input) throws IOException;
+    }
+
     private XmlHandler<S> getRequestXmlHandler() {
         XmlHandler<S> xmlHandler = requestXmlHandler.get();
         if (xmlHandler == null) {
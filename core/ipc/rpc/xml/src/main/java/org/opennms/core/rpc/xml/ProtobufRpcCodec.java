@@ -0,0 +1,68 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.xml;
+
+import java.io.IOException;
+
+import org.opennms.core.rpc.api.RpcRequest;
+import org.opennms.core.rpc.api.RpcResponse;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Binary alternative to the JAXB representation of the requests and responses of an {@link AbstractXmlRpcModule}.
+ *
+ * Codecs may cover only one direction: requests and responses that are not encoded are sent as XML.
+ * Each codec carries a version which is written in front of every encoded message. Bump it whenever
+ * the mapping changes in a way older peers cannot read.
+ */
+public interface ProtobufRpcCodec<S extends RpcRequest, T extends RpcResponse> {
+
+    byte getVersion();
+
+    /**
+     * Converts the request to its protobuf representation.
+     *
+     * @return the protobuf message, or {@code null} if the request must be sent as XML instead
+     */
+    default MessageLite encodeRequest(S request) {
+        return null;
+    }
+
+    default S decodeRequest(CodedInputStream input) throws IOException {
+        throw new IOException("Codec does not support requests");
+    }
+
+    /**
+     * Converts the response to its protobuf representation.
+     *
+     * @return the protobuf message, or {@code null} if the response must be sent as XML instead
+     */
+    default MessageLite encodeResponse(T response) {
+        return null;
+    }
+
+    default T decodeResponse(CodedInputStream input) throws IOException {
+        throw new IOException("Codec does not support responses");
+    }
+}
@@ -21,6 +21,7 @@
  */
 package org.opennms.core.ipc.sink.api;
 
+import java.util.Collection;
 import java.util.Map;
 
 public interface DispatchQueue<T> {
@@ -37,6 +38,21 @@ public interface DispatchQueue<T> {
      */
     Map.Entry<String, T> dequeue() throws InterruptedException;
 
+    /**
+     * Retrieves and removes up to {@code maxEntries} entries from the head of this queue, waiting if necessary until at
+     * least one entry becomes available. Entries are added to the given collection in queue order.
+     * <p>
+     * Implementations that can hand out several entries for the cost of a single dequeue should override this; the
+     * default simply delegates to {@link #dequeue()}.
+     *
+     * @return the number of entries added to the collection, at least one
+     * @throws InterruptedException if interrupted while waiting
+     */
+    default int dequeueBatch(Collection<? super Map.Entry<String, T>> entries, int maxEntries) throws InterruptedException {
+        entries.add(dequeue());
+        return 1;
+    }
+
     /**
      * @return true if the queue has no more capacity, false otherwise
      */
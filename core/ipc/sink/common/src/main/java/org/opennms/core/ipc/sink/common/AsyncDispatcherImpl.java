@@ -23,6 +23,9 @@ package org.opennms.core.ipc.sink.common;
 
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -48,6 +51,7 @@ import org.opennms.core.ipc.sink.api.SinkModule;
 import org.opennms.core.ipc.sink.api.SyncDispatcher;
 import org.opennms.core.ipc.sink.api.WriteFailedException;
 import org.opennms.core.ipc.sink.offheap.DispatchQueueServiceLoader;
+import org.opennms.core.sysprops.SystemProperties;
 import org.opennms.core.utils.SystemInfoUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +65,19 @@ import com.swrve.ratelimitedlogger.RateLimitedLog;
 public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implements AsyncDispatcher<S> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncDispatcherImpl.class);
+
+    /**
+     * Selects the in-memory queue used when no {@link DispatchQueueFactory} service is available:
+     * {@code linked} (the default) or {@code ring-buffer}.
+     */
+    public static final String QUEUE_TYPE_PROPERTY = "org.opennms.core.ipc.sink.queue.type";
+    public static final String RING_BUFFER_QUEUE_TYPE = "ring-buffer";
+
+    /**
+     * The maximum number of messages a dispatcher thread takes off the queue at once.
+     */
+    public static final String QUEUE_BATCH_SIZE_PROPERTY = "org.opennms.core.ipc.sink.queue.batchSize";
+
     private final SyncDispatcher<S> syncDispatcher;
     private final AsyncPolicy asyncPolicy;
     private final Counter droppedCounter;
@@ -70,6 +87,11 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
     private final AtomicResultQueue<S> atomicResultQueue;
     private final AtomicLong missedFutures = new AtomicLong(0);
     private final AtomicInteger activeDispatchers = new AtomicInteger(0);
+    private final int batchSize;
+
+    // Keys only need to be unique, a counter avoids contending on the SecureRandom behind UUID.randomUUID()
+    private final String keyPrefix = UUID.randomUUID().toString() + "-";
+    private final AtomicLong keySequence = new AtomicLong(0);
     
     private final RateLimitedLog RATE_LIMITED_LOGGER = RateLimitedLog
             .withRateLimit(LOG)
@@ -94,12 +116,17 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
             LOG.debug("Using queue from factory");
             dispatchQueue = factory.get().getQueue(asyncPolicy, sinkModule.getId(),
                     sinkModule::marshalSingleMessage, sinkModule::unmarshalSingleMessage);
+        } else if (RING_BUFFER_QUEUE_TYPE.equalsIgnoreCase(System.getProperty(QUEUE_TYPE_PROPERTY))) {
+            LOG.debug("Using ring buffer queue of size {}", asyncPolicy.getQueueSize());
+            dispatchQueue = new RingBufferDispatchQueueFactory().getQueue(asyncPolicy, sinkModule.getId(),
+                    sinkModule::marshalSingleMessage, sinkModule::unmarshalSingleMessage);
         } else {
             int size = asyncPolicy.getQueueSize();
             LOG.debug("Using default in memory queue of size {}", size);
             dispatchQueue = new DefaultQueue<>(size);
         }
         atomicResultQueue = new AtomicResultQueue<>(dispatchQueue);
+        batchSize = Math.max(1, SystemProperties.getInteger(QUEUE_BATCH_SIZE_PROPERTY, 1));
 
         state.getMetrics().register(queueSizeMetricName(), (Gauge<Integer>) activeDispatchers::get);
 
@@ -116,40 +143,54 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
     }
 
     private void dispatchFromQueue() {
+        final List<Map.Entry<String, S>> batch = new ArrayList<>(batchSize);
         while (true) {
             try {
-                LOG.trace("Asking dispatch queue for the next entry...");
-                Map.Entry<String, S> messageEntry = atomicResultQueue.dequeue();
-                LOG.trace("Received message entry from dispatch queue {}", messageEntry);
-                activeDispatchers.incrementAndGet();
-                LOG.trace("Sending message {} via sync dispatcher", messageEntry);
-                syncDispatcher.send(messageEntry.getValue());
-                LOG.trace("Successfully sent message {}", messageEntry);
-
-                if (messageEntry.getKey() != null) {
-                    LOG.trace("Attempting to complete future for message {}", messageEntry);
-                    CompletableFuture<DispatchStatus> messageFuture = futureMap.remove(messageEntry.getKey());
-
-                    if (messageFuture != null) {
-                        messageFuture.complete(DispatchStatus.DISPATCHED);
-                        LOG.trace("Completed future for message {}", messageEntry);
-                    } else {
-                        RATE_LIMITED_LOGGER.warn("No future found for message {}", messageEntry);
-                        missedFutures.incrementAndGet();
-                    }
-                } else {
-                    LOG.trace("Dequeued an entry with a null key");
-                }
-
-                activeDispatchers.decrementAndGet();
+                LOG.trace("Asking dispatch queue for up to {} entries...", batchSize);
+                batch.clear();
+                atomicResultQueue.dequeueBatch(batch, batchSize);
             } catch (InterruptedException e) {
                 break;
             } catch (Exception e) {
                 RATE_LIMITED_LOGGER.warn("Encountered exception while taking from dispatch queue", e);
+                continue;
+            }
+
+            for (Map.Entry<String, S> messageEntry : batch) {
+                try {
+                    dispatch(messageEntry);
+                } catch (Exception e) {
+                    RATE_LIMITED_LOGGER.warn("Encountered exception while dispatching message {}", messageEntry, e);
+                }
             }
         }
     }
 
+    private void dispatch(Map.Entry<String, S> messageEntry) {
+        LOG.trace("Received message entry from dispatch queue {}", messageEntry);
+        activeDispatchers.incrementAndGet();
+        LOG.trace("Sending message {} via sync dispatcher", messageEntry);
+        syncDispatcher.send(messageEntry.getValue());
+        LOG.trace("Successfully sent message {}", messageEntry);
+
+        if (messageEntry.getKey() != null) {
+            LOG.trace("Attempting to complete future for message {}", messageEntry);
+            CompletableFuture<DispatchStatus> messageFuture = futureMap.remove(messageEntry.getKey());
+
+            if (messageFuture != null) {
+                messageFuture.complete(DispatchStatus.DISPATCHED);
+                LOG.trace("Completed future for message {}", messageEntry);
+            } else {
+                RATE_LIMITED_LOGGER.warn("No future found for message {}", messageEntry);
+                missedFutures.incrementAndGet();
+            }
+        } else {
+            LOG.trace("Dequeued an entry with a null key");
+        }
+
+        activeDispatchers.decrementAndGet();
+    }
+
     private void startDrainingQueue() {
         for (int i = 0; i < asyncPolicy.getNumThreads(); i++) {
             executor.execute(this::dispatchFromQueue);
@@ -167,7 +208,7 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
         }
 
         try {
-            String newId = UUID.randomUUID().toString();
+            String newId = keyPrefix + keySequence.incrementAndGet();
             futureMap.put(newId, sendFuture);
             atomicResultQueue.enqueue(message, newId, result -> {
                 LOG.trace("Result of enqueueing for Id {} was {}", newId, result);
@@ -215,19 +256,19 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
             resultRecorded.countDown();
         }
 
-        Map.Entry<String, T> dequeue() throws InterruptedException {
-            Map.Entry<String, T> messageEntry = dispatchQueue.dequeue();
+        void dequeueBatch(List<Map.Entry<String, T>> batch, int maxEntries) throws InterruptedException {
+            dispatchQueue.dequeueBatch(batch, maxEntries);
 
-            // If the key is null, we weren't tracking it so we don't need to synchronize
-            if (messageEntry.getKey() == null) {
-                return messageEntry;
-            }
-            CountDownLatch resultRecorded = resultRecordedMap.remove(messageEntry.getKey());
-            if(resultRecorded != null) {
-                resultRecorded.await();
+            for (Map.Entry<String, T> messageEntry : batch) {
+                // If the key is null, we weren't tracking it so we don't need to synchronize
+                if (messageEntry.getKey() == null) {
+                    continue;
+                }
+                CountDownLatch resultRecorded = resultRecordedMap.remove(messageEntry.getKey());
+                if(resultRecorded != null) {
+                    resultRecorded.await();
+                }
             }
-
-            return messageEntry;
         }
 
         boolean isFull() {
@@ -255,7 +296,8 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
      * This class is intended to be used only when a suitable implementation could not be found at runtime. This should
      * only occur in testing.
      */
-    private static class DefaultQueue<T> implements DispatchQueue<T> {
+    @VisibleForTesting
+    static class DefaultQueue<T> implements DispatchQueue<T> {
         private final BlockingQueue<Map.Entry<String, T>> queue;
 
         DefaultQueue(int size) {
@@ -277,6 +319,12 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
             return queue.take();
         }
 
+        @Override
+        public int dequeueBatch(Collection<? super Map.Entry<String, T>> entries, int maxEntries) throws InterruptedException {
+            entries.add(queue.take());
+            return maxEntries > 1 ? 1 + queue.drainTo(entries, maxEntries - 1) : 1;
+        }
+
         @Override
         public boolean isFull() {
             return queue.remainingCapacity() <= 0;
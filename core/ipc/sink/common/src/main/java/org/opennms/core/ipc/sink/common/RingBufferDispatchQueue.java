@@ -0,0 +1,267 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.common;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+
+/**
+ * A bounded, multi-producer multi-consumer {@link DispatchQueue} backed by a ring buffer.
+ * <p>
+ * Slots carry a sequence number (D. Vyukov's bounded MPMC queue): a producer claims a slot by advancing the tail
+ * with a single CAS and publishes it by bumping the slot's sequence, a consumer does the same with the head. Neither
+ * side takes a lock while the queue is neither full nor empty. {@link #dequeueBatch(Collection, int)} claims a run
+ * of published slots with one CAS on the head, so a dispatcher thread pays for one claim per batch rather than one
+ * per message.
+ * <p>
+ * Threads only fall back to a lock and condition once they have spun for a while on a full (producers) or empty
+ * (consumers) queue. The opposite side only touches the lock when it sees a waiter.
+ * <p>
+ * The capacity is rounded up to the next power of two.
+ */
+public class RingBufferDispatchQueue<T> implements DispatchQueue<T> {
+
+    private static final int SPINS = 128;
+    private static final long PARK_MS = 100;
+
+    // head and tail share an array, 128 bytes apart, to keep them off each other's cache lines
+    private static final int HEAD = 7;
+    private static final int TAIL = 23;
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray cursors = new AtomicLongArray(31);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    public RingBufferDispatchQueue(int size) {
+        if (size < 1 || size > 1 << 30) {
+            throw new IllegalArgumentException("Queue size must be between 1 and 2^30, got " + size);
+        }
+        capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        mask = capacity - 1;
+        entries = new Object[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public EnqueueResult enqueue(T message, String key) throws WriteFailedException {
+        final Map.Entry<String, T> entry = new AbstractMap.SimpleImmutableEntry<>(key, message);
+        int spins = 0;
+        while (!offer(entry)) {
+            if (spins++ < SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                await(notFull, waitingProducers, this::isFull);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WriteFailedException(e);
+            }
+        }
+        if (waitingConsumers.get() > 0) {
+            signal(notEmpty);
+        }
+        return EnqueueResult.IMMEDIATE;
+    }
+
+    @Override
+    public Map.Entry<String, T> dequeue() throws InterruptedException {
+        int spins = 0;
+        Map.Entry<String, T> entry;
+        while ((entry = poll()) == null) {
+            if (spins++ < SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            await(notEmpty, waitingConsumers, this::isEmpty);
+        }
+        if (waitingProducers.get() > 0) {
+            signal(notFull);
+        }
+        return entry;
+    }
+
+    @Override
+    public int dequeueBatch(Collection<? super Map.Entry<String, T>> batch, int maxEntries) throws InterruptedException {
+        if (maxEntries <= 1) {
+            batch.add(dequeue());
+            return 1;
+        }
+        int spins = 0;
+        int count;
+        while ((count = drain(batch, maxEntries)) == 0) {
+            if (spins++ < SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            await(notEmpty, waitingConsumers, this::isEmpty);
+        }
+        if (waitingProducers.get() > 0) {
+            signal(notFull);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isFull() {
+        return getSize() >= capacity;
+    }
+
+    @Override
+    public int getSize() {
+        // Read the head first so that a concurrent dequeue can only make the result larger, never negative
+        final long head = cursors.get(HEAD);
+        final long tail = cursors.get(TAIL);
+        return (int) Math.max(0, Math.min(capacity, tail - head));
+    }
+
+    private boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    private boolean offer(Map.Entry<String, T> entry) {
+        long pos = cursors.get(TAIL);
+        while (true) {
+            final int idx = (int) (pos & mask);
+            final long delta = sequences.get(idx) - pos;
+            if (delta == 0) {
+                if (cursors.compareAndSet(TAIL, pos, pos + 1)) {
+                    entries[idx] = entry;
+                    sequences.set(idx, pos + 1);
+                    return true;
+                }
+                pos = cursors.get(TAIL);
+            } else if (delta < 0) {
+                // The slot has not been consumed since the last lap: full
+                return false;
+            } else {
+                pos = cursors.get(TAIL);
+            }
+        }
+    }
+
+    private Map.Entry<String, T> poll() {
+        long pos = cursors.get(HEAD);
+        while (true) {
+            final int idx = (int) (pos & mask);
+            final long delta = sequences.get(idx) - (pos + 1);
+            if (delta == 0) {
+                if (cursors.compareAndSet(HEAD, pos, pos + 1)) {
+                    return take(idx, pos);
+                }
+                pos = cursors.get(HEAD);
+            } else if (delta < 0) {
+                // Nothing has been published in this slot yet: empty
+                return null;
+            } else {
+                pos = cursors.get(HEAD);
+            }
+        }
+    }
+
+    private int drain(Collection<? super Map.Entry<String, T>> batch, int maxEntries) {
+        final int limit = Math.min(maxEntries, capacity);
+        while (true) {
+            final long pos = cursors.get(HEAD);
+            // Count the run of published slots starting at the head
+            int ready = 0;
+            while (ready < limit) {
+                final long p = pos + ready;
+                if (sequences.get((int) (p & mask)) != p + 1) {
+                    break;
+                }
+                ready++;
+            }
+            if (ready == 0) {
+                return 0;
+            }
+            // Claim the whole run at once; published slots can only be released by whoever owns the head
+            if (cursors.compareAndSet(HEAD, pos, pos + ready)) {
+                for (int i = 0; i < ready; i++) {
+                    final long p = pos + i;
+                    batch.add(take((int) (p & mask), p));
+                }
+                return ready;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map.Entry<String, T> take(int idx, long pos) {
+        final Map.Entry<String, T> entry = (Map.Entry<String, T>) entries[idx];
+        entries[idx] = null;
+        // Hand the slot to the producer of the next lap
+        sequences.set(idx, pos + capacity);
+        return entry;
+    }
+
+    private void await(Condition condition, AtomicInteger waiters, BooleanSupplier blocked) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            waiters.incrementAndGet();
+            try {
+                // Re-check after announcing ourselves: the other side either sees the waiter or we see its update
+                if (blocked.getAsBoolean()) {
+                    condition.await(PARK_MS, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.common;
+
+import java.util.function.Function;
+
+import org.opennms.core.ipc.sink.api.AsyncPolicy;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.DispatchQueueFactory;
+
+/**
+ * Creates lock-free in-memory {@link RingBufferDispatchQueue}s sized by the module's {@link AsyncPolicy}.
+ * <p>
+ * Messages are kept on the heap as-is, so the serializer and deserializer are not used.
+ */
+public class RingBufferDispatchQueueFactory implements DispatchQueueFactory {
+
+    @Override
+    public <T> DispatchQueue<T> getQueue(AsyncPolicy asyncPolicy, String moduleName, Function<T, byte[]> serializer,
+                                         Function<byte[], T> deserializer) {
+        return new RingBufferDispatchQueue<>(asyncPolicy.getQueueSize());
+    }
+}
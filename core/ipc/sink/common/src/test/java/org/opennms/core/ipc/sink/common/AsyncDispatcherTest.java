@@ -36,12 +36,14 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.Before;
@@ -377,5 +379,50 @@ public class AsyncDispatcherTest {
 
         asyncDispatcher.close();
     }
-    
+
+    @Test(timeout=3*60*1000)
+    public void testDispatchesAllInBatchesFromRingBuffer() throws Exception {
+        DispatchQueueServiceLoader.setDispatchQueue(new RingBufferDispatchQueueFactory());
+        System.setProperty(AsyncDispatcherImpl.QUEUE_BATCH_SIZE_PROPERTY, "16");
+
+        when(module.getAsyncPolicy()).thenReturn(new AsyncPolicy() {
+            @Override
+            public int getQueueSize() {
+                return QUEUE_SIZE;
+            }
+
+            @Override
+            public int getNumThreads() {
+                return NUM_THREADS;
+            }
+
+            @Override
+            public boolean isBlockWhenFull() {
+                return true;
+            }
+        });
+
+        try {
+            final AsyncDispatcher<MyMessage> asyncDispatcher = blockableDispatcherFactory.createAsyncDispatcher(module);
+            BlockableSyncDispatcher<MyMessage> blockableSyncDispatcher =
+                    blockableDispatcherFactory.getBlockableSyncDispatcher();
+            blockableSyncDispatcher.unblock();
+
+            final List<CompletableFuture<AsyncDispatcher.DispatchStatus>> futures = IntStream.range(0, 10000).parallel()
+                    .mapToObj(i -> asyncDispatcher.send(new MyMessage(Integer.toString(i))))
+                    .collect(Collectors.toList());
+            for (CompletableFuture<AsyncDispatcher.DispatchStatus> future : futures) {
+                assertThat(future.get(), equalTo(AsyncDispatcher.DispatchStatus.DISPATCHED));
+            }
+
+            assertThat(blockableSyncDispatcher.getNumMessageDispatched(), equalTo(10000));
+            assertThat(new HashSet<>(blockableSyncDispatcher.getDispatchedMessages()), hasSize(10000));
+            assertThat(((AsyncDispatcherImpl) asyncDispatcher).getMissedFutures(), equalTo(0L));
+
+            asyncDispatcher.close();
+        } finally {
+            System.clearProperty(AsyncDispatcherImpl.QUEUE_BATCH_SIZE_PROPERTY);
+        }
+    }
+
 }
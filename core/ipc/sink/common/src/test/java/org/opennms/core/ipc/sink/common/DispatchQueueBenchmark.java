@@ -0,0 +1,147 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the default linked blocking queue of the
+ * {@link AsyncDispatcherImpl} with the {@link RingBufferDispatchQueue}.
+ * <p>
+ * Each benchmark call pushes {@link #MESSAGES} entries through the queue using the given number of producer threads
+ * while {@link #CONSUMERS} dispatcher threads drain it in batches of up to {@code batchSize} entries. The reported
+ * score is the number of entries per second.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DispatchQueueBenchmark {
+
+    private static final int MESSAGES = 100_000;
+    private static final int CONSUMERS = 4;
+    private static final int QUEUE_SIZE = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class QueueState {
+
+        @Param({"linked", "ring-buffer"})
+        public String queueType;
+
+        @Param({"1", "2", "4", "8", "16", "32"})
+        public int producers;
+
+        @Param({"1", "32"})
+        public int batchSize;
+
+        private DispatchQueue<Integer> queue;
+        private ExecutorService producerPool;
+        private ExecutorService consumerPool;
+
+        private final AtomicLong consumed = new AtomicLong();
+        private volatile long target;
+        private volatile CountDownLatch done;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            queue = "linked".equals(queueType)
+                    ? new AsyncDispatcherImpl.DefaultQueue<>(QUEUE_SIZE)
+                    : new RingBufferDispatchQueue<>(QUEUE_SIZE);
+            producerPool = Executors.newFixedThreadPool(producers);
+            consumerPool = Executors.newFixedThreadPool(CONSUMERS);
+            for (int i = 0; i < CONSUMERS; i++) {
+                consumerPool.execute(this::consume);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            producerPool.shutdownNow();
+            consumerPool.shutdownNow();
+        }
+
+        private void consume() {
+            final List<Map.Entry<String, Integer>> batch = new ArrayList<>(batchSize);
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    batch.clear();
+                    final int count = queue.dequeueBatch(batch, batchSize);
+                    if (consumed.addAndGet(count) == target) {
+                        done.countDown();
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Shutting down
+            }
+        }
+
+        void run() throws InterruptedException {
+            done = new CountDownLatch(1);
+            target = consumed.get() + MESSAGES;
+            final int perProducer = MESSAGES / producers;
+            for (int p = 0; p < producers; p++) {
+                final int count = p == 0 ? MESSAGES - perProducer * (producers - 1) : perProducer;
+                producerPool.execute(() -> {
+                    try {
+                        for (int i = 0; i < count; i++) {
+                            queue.enqueue(i, null);
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+            }
+            if (!done.await(1, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("Queue was not drained in time");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void transfer(QueueState state) throws InterruptedException {
+        state.run();
+    }
+}
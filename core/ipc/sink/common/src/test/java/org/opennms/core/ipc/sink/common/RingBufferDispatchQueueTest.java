@@ -0,0 +1,177 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+
+public class RingBufferDispatchQueueTest {
+
+    @Test
+    public void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new RingBufferDispatchQueue<>(1).getCapacity(), equalTo(1));
+        assertThat(new RingBufferDispatchQueue<>(100).getCapacity(), equalTo(128));
+        assertThat(new RingBufferDispatchQueue<>(128).getCapacity(), equalTo(128));
+    }
+
+    @Test
+    public void dequeuesInOrder() throws Exception {
+        final RingBufferDispatchQueue<Integer> queue = new RingBufferDispatchQueue<>(4);
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertThat(queue.enqueue(i, "k" + i), equalTo(DispatchQueue.EnqueueResult.IMMEDIATE));
+            }
+            assertThat(queue.isFull(), is(true));
+            assertThat(queue.getSize(), equalTo(4));
+
+            for (int i = 0; i < 4; i++) {
+                final Map.Entry<String, Integer> entry = queue.dequeue();
+                assertThat(entry.getKey(), equalTo("k" + i));
+                assertThat(entry.getValue(), equalTo(i));
+            }
+            assertThat(queue.isFull(), is(false));
+            assertThat(queue.getSize(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void dequeuesBatchesOfAvailableEntries() throws Exception {
+        final RingBufferDispatchQueue<Integer> queue = new RingBufferDispatchQueue<>(8);
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(i, null);
+        }
+
+        final List<Map.Entry<String, Integer>> batch = new ArrayList<>();
+        assertThat(queue.dequeueBatch(batch, 3), equalTo(3));
+        assertThat(values(batch), contains(0, 1, 2));
+
+        batch.clear();
+        assertThat(queue.dequeueBatch(batch, 10), equalTo(2));
+        assertThat(values(batch), contains(3, 4));
+        assertThat(queue.getSize(), equalTo(0));
+    }
+
+    @Test(timeout = 30000)
+    public void blocksProducersWhenFullAndConsumersWhenEmpty() throws Exception {
+        final RingBufferDispatchQueue<Integer> queue = new RingBufferDispatchQueue<>(2);
+        queue.enqueue(0, null);
+        queue.enqueue(1, null);
+
+        final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            try {
+                queue.enqueue(2, null);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(200);
+        assertThat(producer.isDone(), is(false));
+
+        assertThat(queue.dequeue().getValue(), equalTo(0));
+        producer.get(10, TimeUnit.SECONDS);
+
+        final List<Map.Entry<String, Integer>> batch = new ArrayList<>();
+        queue.dequeueBatch(batch, 10);
+        assertThat(values(batch), contains(1, 2));
+
+        final CompletableFuture<Integer> consumer = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.dequeue().getValue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(200);
+        assertThat(consumer.isDone(), is(false));
+
+        queue.enqueue(3, null);
+        assertThat(consumer.get(10, TimeUnit.SECONDS), equalTo(3));
+    }
+
+    @Test(timeout = 60000)
+    public void deliversEveryEntryExactlyOnceUnderContention() throws Exception {
+        final int producers = 8;
+        final int consumers = 4;
+        final int perProducer = 50000;
+        final int total = producers * perProducer;
+
+        final RingBufferDispatchQueue<Integer> queue = new RingBufferDispatchQueue<>(64);
+        final AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int offset = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.enqueue(offset + i, null);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                final int share = total / consumers;
+                final int batchSize = c + 1;
+                futures.add(executor.submit(() -> {
+                    final List<Map.Entry<String, Integer>> batch = new ArrayList<>();
+                    int taken = 0;
+                    while (taken < share) {
+                        batch.clear();
+                        taken += queue.dequeueBatch(batch, Math.min(batchSize, share - taken));
+                        batch.forEach(e -> seen.incrementAndGet(e.getValue()));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertThat("entry " + i, seen.get(i), equalTo(1));
+        }
+        assertThat(queue.getSize(), equalTo(0));
+    }
+
+    private static List<Integer> values(List<Map.Entry<String, Integer>> entries) {
+        return entries.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,644 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.swrve.ratelimitedlogger.RateLimitedLog;
+
+/**
+ * A {@link DispatchQueue} that appends every message directly to a chain of fixed-size, memory-mapped segment files.
+ * Nothing is held on the heap, so the queue survives restarts and its capacity is bounded only by the configured
+ * off-heap size.
+ * <p>
+ * Each record is framed as {@code [length + 1][checksum][payload]} where the checksum is a CRC32C over the segment's
+ * sequence number, the length and the payload. The length is stored plus one, so that the header of an empty payload
+ * can be told apart from space that has not been written yet. Producers reserve space in the current segment with a single CAS on its
+ * write position and then copy their payload into the mapping without taking any lock; a lock is only taken to roll
+ * over to a new segment once the current one is full. Consumers read records in reservation order and wait on the
+ * first record that has not been completely written yet.
+ * <p>
+ * Consumed segments are kept in a small pool and reused for new segments. Since the checksum is seeded with the
+ * sequence number, the stale records left in a reused segment never validate. The consumer position is kept in a
+ * memory-mapped checkpoint file; on restart the segments are scanned from that position up to the first record that
+ * does not validate. Records written after a record that was still incomplete at the time of a crash are discarded.
+ * <p>
+ * Keys are not persisted, so every entry is queued as {@link EnqueueResult#DEFERRED} and dequeued with a null key.
+ *
+ * @param <T> the type being queued
+ */
+public class MappedSegmentDispatchQueue<T> implements DispatchQueue<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedSegmentDispatchQueue.class);
+    private final RateLimitedLog RATE_LIMITED_LOGGER = RateLimitedLog
+            .withRateLimit(LOG)
+            .maxRate(5)
+            .every(Duration.ofSeconds(30))
+            .build();
+
+    // length + checksum
+    private static final int HEADER_SIZE = 8;
+    // Frames are kept aligned so that the length can be published and read with release/acquire semantics
+    private static final int ALIGNMENT = 8;
+    private static final int MIN_SEGMENT_SIZE = 4096;
+    private static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE & ~(ALIGNMENT - 1);
+    private static final int MAX_RECYCLED_SEGMENTS = 2;
+    private static final long CONSUMER_POLL_INTERVAL_MS = 100;
+    // The minimum room, as a fraction of the segment size, the last segment must have left to not be reported as full
+    private static final int MIN_HEADROOM_DIVISOR = 16;
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    // sequence + position + checksum
+    private static final int CHECKPOINT_SIZE = 16;
+    private static final Pattern SEGMENT_FILE = Pattern.compile("(\\d{20})\\.segment");
+
+    private static final VarHandle INT_HANDLE = MethodHandles.byteBufferViewVarHandle(int[].class,
+            ByteOrder.LITTLE_ENDIAN);
+
+    private final Function<T, byte[]> serializer;
+    private final Function<byte[], T> deserializer;
+    private final String moduleName;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    // Guards the segment chain and the pool of recycled segments
+    private final ReentrantLock rollLock = new ReentrantLock();
+    private final Condition segmentReleased = rollLock.newCondition();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Deque<Segment> recycled = new ArrayDeque<>();
+    private volatile Segment tail;
+    // The size of the segment chain, readable without the lock
+    private volatile int segmentCount;
+
+    // Guards the consumer position and the checkpoint
+    private final ReentrantLock headLock = new ReentrantLock();
+    private final Condition notEmpty = headLock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final FileChannel checkpointChannel;
+    private final MappedByteBuffer checkpoint;
+    private Segment head;
+    private int readPosition;
+
+    private final AtomicLong size = new AtomicLong();
+
+    // The largest frame written so far, used as headroom when reporting whether the queue is full
+    private final AtomicInteger largestFrameSize = new AtomicInteger();
+
+    public MappedSegmentDispatchQueue(Function<T, byte[]> serializer, Function<byte[], T> deserializer,
+                                      String moduleName, Path baseFilePath, long segmentSizeInBytes,
+                                      long maxSizeInBytes) throws IOException {
+        if (segmentSizeInBytes < MIN_SEGMENT_SIZE || segmentSizeInBytes > MAX_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be between " + MIN_SEGMENT_SIZE + " and " +
+                    MAX_SEGMENT_SIZE + " bytes");
+        }
+
+        if (maxSizeInBytes < 2 * segmentSizeInBytes) {
+            throw new IllegalArgumentException("Max size must be at least twice the segment size");
+        }
+
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+        this.moduleName = moduleName;
+        this.directory = baseFilePath.resolve(moduleName + ".segments");
+        this.segmentSize = (int) segmentSizeInBytes & ~(ALIGNMENT - 1);
+        this.maxSegments = (int) Math.min(Integer.MAX_VALUE, maxSizeInBytes / segmentSize);
+
+        Files.createDirectories(directory);
+        checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        checkpoint = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_SIZE);
+        checkpoint.order(ByteOrder.LITTLE_ENDIAN);
+
+        recover();
+    }
+
+    private void recover() throws IOException {
+        long checkpointSequence = -1;
+        int checkpointPosition = 0;
+        if (checkpoint.getInt(12) == checksum(checkpoint.getLong(0), checkpoint.getInt(8), null)) {
+            checkpointSequence = checkpoint.getLong(0);
+            checkpointPosition = checkpoint.getInt(8);
+        }
+
+        final List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(p -> SEGMENT_FILE.matcher(p.getFileName().toString()).matches())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        long nextSequence = checkpointSequence + 1;
+        for (Path file : files) {
+            final Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+            matcher.matches();
+            final long sequence = Long.parseLong(matcher.group(1));
+
+            if (sequence < checkpointSequence) {
+                // Already consumed
+                Files.delete(file);
+                continue;
+            }
+
+            final Segment segment = Segment.open(file, sequence, Files.size(file));
+            int position = sequence == checkpointSequence ? checkpointPosition : 0;
+            if (position % ALIGNMENT != 0 || position > segment.capacity) {
+                LOG.warn("Ignoring invalid checkpoint position {} for segment {}", position, file);
+                position = 0;
+            }
+            if (segments.isEmpty()) {
+                readPosition = position;
+            }
+
+            // Recovered segments are never appended to again, new records always go to a fresh segment
+            byte[] payload;
+            while ((payload = segment.read(position)) != null) {
+                position += frameSize(payload.length);
+                size.incrementAndGet();
+                updateLargestFrameSize(frameSize(payload.length));
+            }
+            segment.seal(position);
+
+            segments.addLast(segment);
+            segmentCount = segments.size();
+            nextSequence = Math.max(nextSequence, sequence + 1);
+        }
+
+        tail = Segment.create(segmentPath(nextSequence), nextSequence, segmentSize);
+        segments.addLast(tail);
+        segmentCount = segments.size();
+        head = segments.getFirst();
+        if (head == tail) {
+            readPosition = 0;
+        }
+        writeCheckpoint();
+
+        LOG.info("Recovered {} queued entries in {} segments for module {}", size.get(), segments.size() - 1,
+                moduleName);
+    }
+
+    @Override
+    public EnqueueResult enqueue(T message, String key) throws WriteFailedException {
+        append(Collections.singletonList(serializer.apply(message)));
+        return EnqueueResult.DEFERRED;
+    }
+
+    /**
+     * Adds all of the messages to the tail of the queue, blocking if the queue is currently full. Messages are
+     * reserved and written as contiguous runs of records, so this costs a single reservation for as many messages as
+     * fit in the current segment.
+     * <p>
+     * This is not part of {@link DispatchQueue}, so the sink dispatchers still enqueue one message at a time.
+     */
+    public EnqueueResult enqueueBatch(Collection<T> messages) throws WriteFailedException {
+        append(messages.stream().map(serializer).collect(Collectors.toList()));
+        return EnqueueResult.DEFERRED;
+    }
+
+    private void append(List<byte[]> payloads) throws WriteFailedException {
+        int start = 0;
+        while (start < payloads.size()) {
+            // Collect the longest run of records that fits in a single segment
+            int end = start;
+            int runSize = 0;
+            int largestFrame = 0;
+            while (end < payloads.size()) {
+                final int length = payloads.get(end).length;
+                if (length > segmentSize - HEADER_SIZE) {
+                    throw new WriteFailedException("Entry of " + payloads.get(end).length + " bytes does not fit " +
+                            "in a segment of " + segmentSize + " bytes");
+                }
+                final int frameSize = frameSize(length);
+                if ((long) runSize + frameSize > segmentSize) {
+                    break;
+                }
+                runSize += frameSize;
+                largestFrame = Math.max(largestFrame, frameSize);
+                end++;
+            }
+            updateLargestFrameSize(largestFrame);
+
+            while (true) {
+                final Segment segment = tail;
+                int offset = segment.reserve(runSize);
+                if (offset < 0) {
+                    roll(segment);
+                    continue;
+                }
+                for (int i = start; i < end; i++) {
+                    offset += segment.write(offset, payloads.get(i));
+                }
+                break;
+            }
+            size.addAndGet(end - start);
+            start = end;
+        }
+
+        if (waitingConsumers.get() > 0) {
+            headLock.lock();
+            try {
+                notEmpty.signalAll();
+            } finally {
+                headLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replaces the given (sealed) tail segment with a new one, blocking while the queue is at capacity.
+     */
+    private void roll(Segment sealed) throws WriteFailedException {
+        try {
+            rollLock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            throw new WriteFailedException(e);
+        }
+        try {
+            while (tail == sealed && sealed.isSealed() && segments.size() >= maxSegments) {
+                RATE_LIMITED_LOGGER.warn("Off-heap queue for module {} is full, blocking until entries are consumed",
+                        moduleName);
+                segmentReleased.await();
+            }
+
+            if (tail != sealed || !sealed.isSealed()) {
+                // Some other producer already rolled over, possibly onto this very segment after it was recycled
+                return;
+            }
+
+            final long sequence = sealed.sequence + 1;
+            Segment next = recycled.pollFirst();
+            if (next != null) {
+                try {
+                    next.reuse(segmentPath(sequence), sequence);
+                } catch (IOException e) {
+                    LOG.warn("Could not reuse segment {}, creating a new one", next.file, e);
+                    next.delete();
+                    next = null;
+                }
+            }
+            if (next == null) {
+                next = Segment.create(segmentPath(sequence), sequence, segmentSize);
+            }
+            segments.addLast(next);
+            segmentCount = segments.size();
+            tail = next;
+        } catch (InterruptedException | IOException e) {
+            throw new WriteFailedException(e);
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    @Override
+    public Map.Entry<String, T> dequeue() throws InterruptedException {
+        final List<Map.Entry<String, T>> entries = new ArrayList<>(1);
+        dequeueBatch(entries, 1);
+        return entries.get(0);
+    }
+
+    @Override
+    public int dequeueBatch(Collection<? super Map.Entry<String, T>> entries, int maxEntries)
+            throws InterruptedException {
+        final List<byte[]> payloads = new ArrayList<>(Math.min(maxEntries, 1024));
+
+        headLock.lockInterruptibly();
+        try {
+            while (read(payloads, maxEntries) == 0) {
+                waitingConsumers.incrementAndGet();
+                try {
+                    // Check again now that producers know to signal us
+                    if (read(payloads, maxEntries) > 0) {
+                        break;
+                    }
+                    notEmpty.await(CONSUMER_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                } finally {
+                    waitingConsumers.decrementAndGet();
+                }
+            }
+            writeCheckpoint();
+        } finally {
+            headLock.unlock();
+        }
+        size.addAndGet(-payloads.size());
+
+        // Deserialize outside of the lock so that other consumers can read in the meantime
+        for (byte[] payload : payloads) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(null, deserializer.apply(payload)));
+        }
+        return payloads.size();
+    }
+
+    /**
+     * Reads up to {@code maxEntries} complete records from the head of the queue. Must be called with the head lock.
+     */
+    private int read(List<byte[]> payloads, int maxEntries) {
+        int count = 0;
+        while (payloads.size() < maxEntries) {
+            if (readPosition >= head.sealedPosition) {
+                if (advance()) {
+                    continue;
+                }
+                break;
+            }
+
+            final byte[] payload = head.read(readPosition);
+            if (payload == null) {
+                // Not completely written yet
+                break;
+            }
+            payloads.add(payload);
+            readPosition += frameSize(payload.length);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Moves the consumer to the segment following the fully consumed head segment, if there is one yet.
+     */
+    private boolean advance() {
+        rollLock.lock();
+        try {
+            if (segments.size() < 2) {
+                return false;
+            }
+            final Segment consumed = segments.removeFirst();
+            segmentCount = segments.size();
+            head = segments.getFirst();
+            readPosition = 0;
+            writeCheckpoint();
+
+            if (recycled.size() < MAX_RECYCLED_SEGMENTS && consumed.capacity == segmentSize) {
+                recycled.addLast(consumed);
+            } else {
+                consumed.delete();
+            }
+            segmentReleased.signalAll();
+            return true;
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    private void writeCheckpoint() {
+        checkpoint.putLong(0, head.sequence);
+        checkpoint.putInt(8, readPosition);
+        checkpoint.putInt(12, checksum(head.sequence, readPosition, null));
+    }
+
+    /**
+     * The queue is full once no more segments can be added and the tail segment is sealed or has less room left than
+     * the largest record written so far, but at least a sixteenth of a segment. Enqueuing a record that does not fit
+     * blocks, so callers which must not block check this first.
+     */
+    @Override
+    public boolean isFull() {
+        return segmentCount >= maxSegments
+                && !tail.hasRoom(Math.max(largestFrameSize.get(), segmentSize / MIN_HEADROOM_DIVISOR));
+    }
+
+    private void updateLargestFrameSize(int frameSize) {
+        if (frameSize > largestFrameSize.get()) {
+            largestFrameSize.accumulateAndGet(frameSize, Math::max);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return (int) Math.min(size.get(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Flushes all segments to disk and closes their files. The queue must not be used afterwards.
+     */
+    @VisibleForTesting
+    void close() throws IOException {
+        rollLock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.close();
+            }
+            for (Segment segment : recycled) {
+                segment.close();
+            }
+            checkpoint.force();
+            checkpointChannel.close();
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    @VisibleForTesting
+    Path getDirectory() {
+        return directory;
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%020d.segment", sequence));
+    }
+
+    private static int frameSize(int payloadLength) {
+        return (HEADER_SIZE + payloadLength + ALIGNMENT - 1) & ~(ALIGNMENT - 1);
+    }
+
+    private static int checksum(long sequence, int length, byte[] payload) {
+        final CRC32C crc = new CRC32C();
+        final ByteBuffer prefix = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        prefix.putLong(sequence).putInt(length).flip();
+        crc.update(prefix);
+        if (payload != null) {
+            crc.update(payload);
+        }
+        return (int) crc.getValue();
+    }
+
+    private static class Segment {
+        // Marks the write position of a segment that does not accept any more records
+        private static final int SEALED = -1;
+
+        private Path file;
+        private volatile long sequence;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicInteger writePosition = new AtomicInteger();
+        private volatile int sealedPosition = Integer.MAX_VALUE;
+
+        private Segment(Path file, long sequence, FileChannel channel, int capacity) throws IOException {
+            this.file = file;
+            this.sequence = sequence;
+            this.channel = channel;
+            this.capacity = capacity;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        static Segment create(Path file, long sequence, int capacity) throws IOException {
+            return new Segment(file, sequence, FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.SPARSE), capacity);
+        }
+
+        static Segment open(Path file, long sequence, long capacity) throws IOException {
+            return new Segment(file, sequence, FileChannel.open(file, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE), (int) Math.min(capacity, MAX_SEGMENT_SIZE));
+        }
+
+        /**
+         * Reserves {@code frameSize} bytes at the end of the segment.
+         *
+         * @return the offset of the reserved space or -1 if the segment is full, in which case it is sealed
+         */
+        int reserve(int frameSize) {
+            while (true) {
+                final int position = writePosition.get();
+                if (position == SEALED) {
+                    return -1;
+                }
+                if ((long) position + frameSize > capacity) {
+                    if (writePosition.compareAndSet(position, SEALED)) {
+                        sealedPosition = position;
+                        return -1;
+                    }
+                    continue;
+                }
+                if (writePosition.compareAndSet(position, position + frameSize)) {
+                    return position;
+                }
+            }
+        }
+
+        /**
+         * Writes a record at the given reserved offset. The length is written last so that the record only becomes
+         * visible to consumers once it is complete.
+         *
+         * @return the size of the written frame
+         */
+        int write(int offset, byte[] payload) {
+            final ByteBuffer target = buffer.duplicate();
+            target.position(offset + HEADER_SIZE);
+            target.put(payload);
+            buffer.putInt(offset + 4, checksum(sequence, payload.length, payload));
+            INT_HANDLE.setRelease(buffer, offset, payload.length + 1);
+            return frameSize(payload.length);
+        }
+
+        /**
+         * @return the payload of the record at the given offset or null if there is no complete, valid record there
+         */
+        byte[] read(int offset) {
+            if (offset > capacity - HEADER_SIZE) {
+                return null;
+            }
+            // Zero is never written as the length is stored plus one
+            final int length = (int) INT_HANDLE.getAcquire(buffer, offset) - 1;
+            if (length < 0 || length > capacity - offset - HEADER_SIZE) {
+                return null;
+            }
+            final byte[] payload = new byte[length];
+            final ByteBuffer source = buffer.duplicate();
+            source.position(offset + HEADER_SIZE);
+            source.get(payload);
+            if (buffer.getInt(offset + 4) != checksum(sequence, length, payload)) {
+                return null;
+            }
+            return payload;
+        }
+
+        boolean isSealed() {
+            return writePosition.get() == SEALED;
+        }
+
+        /**
+         * @return true if a frame of the given size can currently be reserved
+         */
+        boolean hasRoom(int frameSize) {
+            final int position = writePosition.get();
+            return position != SEALED && (long) position + frameSize <= capacity;
+        }
+
+        void seal(int position) {
+            writePosition.set(SEALED);
+            sealedPosition = position;
+        }
+
+        /**
+         * Prepares a consumed segment to be appended to again under a new sequence number. The previous contents are
+         * left in place, they no longer validate against the new sequence number.
+         */
+        void reuse(Path newFile, long newSequence) throws IOException {
+            Files.move(file, newFile);
+            file = newFile;
+            sequence = newSequence;
+            sealedPosition = Integer.MAX_VALUE;
+            writePosition.set(0);
+        }
+
+        void close() throws IOException {
+            buffer.force();
+            channel.close();
+        }
+
+        void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.warn("Could not delete segment {}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import org.opennms.core.ipc.sink.api.DispatchQueueFactory;
+
+/**
+ * Creates the {@link DispatchQueueFactory} selected by the {@code queueType} property of the off-heap configuration.
+ */
+public final class OffHeapDispatchQueueFactories {
+
+    public static final String QUEUE_FILE = "queue-file";
+    public static final String MAPPED_SEGMENT = "mapped-segment";
+
+    private OffHeapDispatchQueueFactories() {
+    }
+
+    public static DispatchQueueFactory create(String queueType, int entriesAllowedOnHeap, int batchSize,
+                                              String offHeapSize, String offHeapFilePath, String segmentSize) {
+        if (queueType == null || queueType.isEmpty() || QUEUE_FILE.equalsIgnoreCase(queueType)) {
+            return new QueueFileOffHeapDispatchQueueFactory(entriesAllowedOnHeap, batchSize, offHeapSize,
+                    offHeapFilePath);
+        } else if (MAPPED_SEGMENT.equalsIgnoreCase(queueType)) {
+            return new MappedSegmentDispatchQueueFactory(segmentSize, offHeapSize, offHeapFilePath);
+        }
+        throw new IllegalArgumentException("Invalid off-heap queue type '" + queueType + "', expected one of " +
+                QUEUE_FILE + " or " + MAPPED_SEGMENT);
+    }
+}
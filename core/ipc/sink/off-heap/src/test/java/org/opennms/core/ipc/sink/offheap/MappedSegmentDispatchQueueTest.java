@@ -0,0 +1,278 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+
+public class MappedSegmentDispatchQueueTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MappedSegmentDispatchQueue<String> createQueue(Path path, long maxSize) throws IOException {
+        return new MappedSegmentDispatchQueue<>(String::getBytes, String::new, "test", path, SEGMENT_SIZE, maxSize);
+    }
+
+    private static List<String> messages(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> String.format("msg%05d", i))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> dequeue(DispatchQueue<String> queue, int count) throws InterruptedException {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        while (entries.size() < count) {
+            queue.dequeueBatch(entries, count - entries.size());
+        }
+        return entries.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+    @Test
+    public void canQueueAndDequeueBatches() throws IOException, WriteFailedException, InterruptedException {
+        MappedSegmentDispatchQueue<String> queue = createQueue(folder.newFolder().toPath(), 1_000_000);
+
+        assertThat(queue.enqueue("single", "key"), equalTo(DispatchQueue.EnqueueResult.DEFERRED));
+        queue.enqueueBatch(messages(0, 100));
+        assertThat(queue.getSize(), equalTo(101));
+
+        Map.Entry<String, String> entry = queue.dequeue();
+        assertThat(entry.getKey(), is(nullValue()));
+        assertThat(entry.getValue(), equalTo("single"));
+
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        assertThat(queue.dequeueBatch(entries, 40), equalTo(40));
+        assertThat(entries.stream().map(Map.Entry::getValue).collect(Collectors.toList()), equalTo(messages(0, 40)));
+        assertThat(dequeue(queue, 60), equalTo(messages(40, 100)));
+        assertThat(queue.getSize(), equalTo(0));
+    }
+
+    @Test
+    public void rollsOverAndRecyclesSegments() throws IOException, WriteFailedException, InterruptedException {
+        MappedSegmentDispatchQueue<String> queue = createQueue(folder.newFolder().toPath(), 4 * SEGMENT_SIZE);
+
+        // Each frame takes 16 bytes, so this spans many more segments than the queue may hold at once
+        for (int i = 0; i < 100; i++) {
+            List<String> batch = messages(i * 100, (i + 1) * 100);
+            queue.enqueueBatch(batch);
+            assertThat(dequeue(queue, 100), equalTo(batch));
+        }
+
+        try (Stream<Path> files = Files.list(queue.getDirectory())) {
+            // The last consumed and the current segment, at most two recycled ones and the checkpoint
+            assertThat(files.count(), lessThanOrEqualTo(5L));
+        }
+    }
+
+    @Test
+    public void resumesFromCheckpointAfterRestart() throws IOException, WriteFailedException, InterruptedException {
+        Path path = folder.newFolder().toPath();
+        MappedSegmentDispatchQueue<String> queue = createQueue(path, 1_000_000);
+        queue.enqueueBatch(messages(0, 500));
+        assertThat(dequeue(queue, 300), equalTo(messages(0, 300)));
+        queue.close();
+
+        queue = createQueue(path, 1_000_000);
+        assertThat(queue.getSize(), equalTo(200));
+        queue.enqueueBatch(messages(500, 600));
+        assertThat(dequeue(queue, 300), equalTo(messages(300, 600)));
+    }
+
+    @Test
+    public void discardsRecordsFromCorruptRecordOnwards() throws IOException, WriteFailedException,
+            InterruptedException {
+        Path path = folder.newFolder().toPath();
+        MappedSegmentDispatchQueue<String> queue = createQueue(path, 1_000_000);
+        queue.enqueueBatch(messages(0, 10));
+        queue.close();
+
+        // Flip a byte in the payload of the sixth record, each frame takes 16 bytes
+        try (Stream<Path> files = Files.list(queue.getDirectory());
+             RandomAccessFile file = new RandomAccessFile(files.filter(p -> p.toString().endsWith(".segment"))
+                     .findFirst().get().toFile(), "rw")) {
+            file.seek(5 * 16 + 8);
+            int value = file.read();
+            file.seek(5 * 16 + 8);
+            file.write(value ^ 0xff);
+        }
+
+        queue = createQueue(path, 1_000_000);
+        assertThat(queue.getSize(), equalTo(5));
+        assertThat(dequeue(queue, 5), equalTo(messages(0, 5)));
+
+        // New records are appended to a new segment
+        queue.enqueue("after", "key");
+        assertThat(queue.dequeue().getValue(), equalTo("after"));
+    }
+
+    @Test
+    public void canQueueEmptyPayloads() throws IOException, WriteFailedException, InterruptedException {
+        Path path = folder.newFolder().toPath();
+        MappedSegmentDispatchQueue<String> queue = createQueue(path, 1_000_000);
+        queue.enqueue("", "key");
+        queue.enqueueBatch(Arrays.asList("first", "", "last"));
+        assertThat(dequeue(queue, 2), equalTo(Arrays.asList("", "first")));
+        queue.close();
+
+        // Empty payloads are recovered as well
+        queue = createQueue(path, 1_000_000);
+        assertThat(queue.getSize(), equalTo(2));
+        queue.enqueue("", "key");
+        assertThat(dequeue(queue, 3), equalTo(Arrays.asList("", "last", "")));
+    }
+
+    @Test
+    public void reportsFullBeforeProducersBlock() throws IOException, WriteFailedException, InterruptedException {
+        MappedSegmentDispatchQueue<String> queue = createQueue(folder.newFolder().toPath(), 2 * SEGMENT_SIZE);
+
+        // A segment holds exactly 256 frames of 16 bytes
+        queue.enqueueBatch(messages(0, 256));
+        assertThat(queue.isFull(), equalTo(false));
+        queue.enqueueBatch(messages(256, 512));
+        assertThat(queue.isFull(), equalTo(true));
+
+        assertThat(dequeue(queue, 512), equalTo(messages(0, 512)));
+        queue.enqueue("next", "key");
+        assertThat(queue.isFull(), equalTo(false));
+    }
+
+    @Test
+    public void reportsFullBeforeLargeRecordsBlock() throws IOException, WriteFailedException, InterruptedException {
+        MappedSegmentDispatchQueue<String> queue = createQueue(folder.newFolder().toPath(), 2 * SEGMENT_SIZE);
+        String large = String.join("", Collections.nCopies(1000, "x"));
+
+        // A frame of 1008 bytes followed by 193 frames of 16 bytes fill the first segment
+        queue.enqueue(large, "key");
+        queue.enqueueBatch(messages(0, 193));
+        queue.enqueueBatch(messages(193, 343));
+        assertThat(queue.isFull(), equalTo(false));
+
+        // The last segment has 976 bytes left, which is enough for small records but not for another large one
+        queue.enqueueBatch(messages(343, 388));
+        assertThat(queue.isFull(), equalTo(true));
+
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            try {
+                queue.enqueue(large, "key");
+            } catch (WriteFailedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(producer.isDone(), equalTo(false));
+
+        List<String> expected = new ArrayList<>();
+        expected.add(large);
+        expected.addAll(messages(0, 388));
+        expected.add(large);
+        assertThat(dequeue(queue, 390), equalTo(expected));
+        producer.join();
+    }
+
+    @Test
+    public void blocksWhenFull() throws IOException, InterruptedException {
+        MappedSegmentDispatchQueue<String> queue = createQueue(folder.newFolder().toPath(), 2 * SEGMENT_SIZE);
+
+        // Two segments hold 2 * 256 frames of 16 bytes
+        List<String> toQueue = messages(0, 1000);
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            for (String message : toQueue) {
+                try {
+                    queue.enqueue(message, "key");
+                } catch (WriteFailedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+
+        await().atMost(1, TimeUnit.MINUTES).until(queue::isFull);
+        assertThat(producer.isDone(), equalTo(false));
+
+        assertThat(dequeue(queue, 1000), equalTo(toQueue));
+        producer.join();
+        assertThat(queue.isFull(), equalTo(false));
+    }
+
+    @Test
+    public void canQueueAndDequeueInParallel() throws IOException {
+        MappedSegmentDispatchQueue<String> queue = createQueue(folder.newFolder().toPath(), 8 * SEGMENT_SIZE);
+
+        int numProducers = 4;
+        int numEntries = 10_000;
+        List<CompletableFuture<Void>> producers = IntStream.range(0, numProducers)
+                .mapToObj(p -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < numEntries; i++) {
+                        try {
+                            queue.enqueue(p + ":" + i, "key");
+                        } catch (WriteFailedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }))
+                .collect(Collectors.toList());
+
+        int[] next = new int[numProducers];
+        CompletableFuture<Void> consumer = CompletableFuture.runAsync(() -> {
+            try {
+                for (String value : dequeue(queue, numProducers * numEntries)) {
+                    String[] parts = value.split(":");
+                    int producer = Integer.parseInt(parts[0]);
+                    // Entries of each producer are dequeued in the order they were queued
+                    assertThat(Integer.parseInt(parts[1]), equalTo(next[producer]++));
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        CompletableFuture.allOf(producers.toArray(new CompletableFuture[0])).join();
+        consumer.orTimeout(1, TimeUnit.MINUTES).join();
+        assertThat(queue.getSize(), equalTo(0));
+    }
+}
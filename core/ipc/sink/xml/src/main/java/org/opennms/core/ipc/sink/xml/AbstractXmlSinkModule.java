@@ -21,6 +21,7 @@
  */
 package org.opennms.core.ipc.sink.xml;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
@@ -30,12 +31,39 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.opennms.core.ipc.sink.api.Message;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
 public abstract class AbstractXmlSinkModule<S extends Message, T extends Message> implements SinkModule<S, T> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractXmlSinkModule.class);
 
+    /**
+     * Prefix of the system property selecting the codec used to marshal the messages of a module,
+     * i.e. <code>org.opennms.core.ipc.sink.codec.Trap=protobuf</code>.
+     */
+    public static final String CODEC_PROPERTY_PREFIX = "org.opennms.core.ipc.sink.codec.";
+
+    public static final String CODEC_XML = "xml";
+
+    public static final String CODEC_PROTOBUF = "protobuf";
+
+    /**
+     * Binary messages start with a NUL byte followed by the codec version. A NUL byte can never
+     * start an XML document, so consumers tell both formats apart without any configuration and
+     * producers can switch codecs once their consumers have been upgraded.
+     */
+    private static final byte BINARY_MARKER = 0x00;
+
+    private static final int BINARY_HEADER_LENGTH = 2;
+
     private final Class<T> messageClazz;
 
+    private final ProtobufSinkCodec<T> protobufCodec;
+
+    private volatile Boolean marshalProtobuf;
+
     /**
      * Store a thread-local reference to the {@link XmlHandler} because 
      * Unmarshalers are not thread-safe.
@@ -44,16 +72,30 @@ public abstract class AbstractXmlSinkModule<S extends Message, T extends Message
 
 
     public AbstractXmlSinkModule(Class<T> messageClazz) {
+        this(messageClazz, null);
+    }
+
+    public AbstractXmlSinkModule(Class<T> messageClazz, ProtobufSinkCodec<T> protobufCodec) {
         this.messageClazz = Objects.requireNonNull(messageClazz);
+        this.protobufCodec = protobufCodec;
     }
 
     @Override
     public byte[] marshal(T message) {
+        if (isMarshalProtobuf()) {
+            final MessageLite proto = protobufCodec.encode(message);
+            if (proto != null) {
+                return frame(proto);
+            }
+        }
         return getXmlHandler().marshal(message).getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
     public T unmarshal(byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == BINARY_MARKER) {
+            return unframe(bytes);
+        }
         return getXmlHandler().unmarshal(new String(bytes, StandardCharsets.UTF_8));
     }
 
@@ -81,6 +123,52 @@ public abstract class AbstractXmlSinkModule<S extends Message, T extends Message
         return getClass() == obj.getClass();
     }
 
+    /**
+     * Whether messages are marshalled with the protobuf codec. Messages are always unmarshalled
+     * in whichever format they were sent.
+     */
+    protected boolean isMarshalProtobuf() {
+        if (marshalProtobuf == null) {
+            final String codec = System.getProperty(CODEC_PROPERTY_PREFIX + getId(), CODEC_XML);
+            if (CODEC_PROTOBUF.equalsIgnoreCase(codec) && protobufCodec == null) {
+                LOG.warn("Module {} has no protobuf codec. Using XML.", getId());
+            }
+            marshalProtobuf = CODEC_PROTOBUF.equalsIgnoreCase(codec) && protobufCodec != null;
+        }
+        return marshalProtobuf;
+    }
+
+    private byte[] frame(MessageLite proto) {
+        final int size = proto.getSerializedSize();
+        final byte[] bytes = new byte[BINARY_HEADER_LENGTH + size];
+        bytes[0] = BINARY_MARKER;
+        bytes[1] = protobufCodec.getVersion();
+        try {
+            final CodedOutputStream output = CodedOutputStream.newInstance(bytes, BINARY_HEADER_LENGTH, size);
+            proto.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode message for module " + getId(), e);
+        }
+        return bytes;
+    }
+
+    private T unframe(byte[] bytes) {
+        if (protobufCodec == null) {
+            throw new IllegalArgumentException("Module " + getId() + " received a binary message but has no protobuf codec");
+        }
+        if (bytes.length < BINARY_HEADER_LENGTH || bytes[1] != protobufCodec.getVersion()) {
+            throw new IllegalArgumentException("Module " + getId() + " received a binary message of unsupported version "
+                    + (bytes.length < BINARY_HEADER_LENGTH ? "?" : Byte.toString(bytes[1]))
+                    + ", expected " + protobufCodec.getVersion());
+        }
+        try {
+            return protobufCodec.decode(CodedInputStream.newInstance(bytes, BINARY_HEADER_LENGTH, bytes.length - BINARY_HEADER_LENGTH));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode binary message for module " + getId(), e);
+        }
+    }
+
     private XmlHandler<T> getXmlHandler() {
         XmlHandler<T> xmlHandler = messageXmlHandler.get();
         if (xmlHandler == null) {
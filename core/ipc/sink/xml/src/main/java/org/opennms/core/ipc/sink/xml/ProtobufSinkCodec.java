@@ -0,0 +1,48 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.xml;
+
+import java.io.IOException;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Binary alternative to the JAXB representation of the messages of an {@link AbstractXmlSinkModule}.
+ *
+ * Each codec carries a version which is written in front of every encoded message. Bump it whenever
+ * the mapping changes in a way older consumers cannot read.
+ */
+public interface ProtobufSinkCodec<T> {
+
+    byte getVersion();
+
+    /**
+     * Converts the message to its protobuf representation.
+     *
+     * @return the protobuf message, or {@code null} if the message holds data the schema does
+     *         not cover and must be sent as XML instead
+     */
+    MessageLite encode(T message);
+
+    T decode(CodedInputStream input) throws IOException;
+}
@@ -0,0 +1,293 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opennms.core.sysprops.SystemProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.snmp4j.MessageDispatcher;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.Target;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.smi.Address;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * A fixed set of long-lived SNMPv1/v2c sessions shared by all requests.
+ *
+ * By default every get and every walk opens its own {@link Snmp} session, which costs a UDP
+ * socket, a listener thread and a timer thread for the lifetime of the request. With the pool
+ * enabled, requests are multiplexed over a handful of sessions instead: SNMP4J already
+ * demultiplexes responses by request ID, and retransmissions and timeouts are driven by the
+ * timer of the session the request was sent on.
+ *
+ * Each agent is always mapped to the same session, and the number of requests outstanding
+ * against a single agent is bounded. Requests above the limit are queued and sent as soon as
+ * an earlier request to the same agent completes or times out, so callers never block.
+ *
+ * SNMPv3 requests are not pooled since the USM is bound to the session.
+ */
+public class Snmp4JSessionPool {
+    private static final Logger LOG = LoggerFactory.getLogger(Snmp4JSessionPool.class);
+
+    public static final String ENABLED_PROPERTY = "org.opennms.core.snmp.sharedSessions";
+    public static final String SESSIONS_PROPERTY = "org.opennms.core.snmp.sharedSessions.count";
+    public static final String MAX_IN_FLIGHT_PROPERTY = "org.opennms.core.snmp.sharedSessions.maxInFlightPerAgent";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static Snmp4JSessionPool s_instance;
+
+    private final Snmp[] m_sessions;
+    private final int m_maxInFlightPerAgent;
+    private final Map<Address, AgentQueue> m_agents = new ConcurrentHashMap<>();
+
+    private volatile boolean m_closed = false;
+
+    Snmp4JSessionPool(final int sessions, final int maxInFlightPerAgent) throws IOException {
+        if (sessions < 1) {
+            throw new IllegalArgumentException("At least one session is required");
+        }
+        if (maxInFlightPerAgent < 1) {
+            throw new IllegalArgumentException("At least one request per agent must be allowed in flight");
+        }
+
+        m_maxInFlightPerAgent = maxInFlightPerAgent;
+        m_sessions = new Snmp[sessions];
+        try {
+            for (int i = 0; i < sessions; i++) {
+                final MessageDispatcher disp = new MessageDispatcherImpl();
+                disp.addMessageProcessingModel(new MPv1());
+                disp.addMessageProcessingModel(new MPv2c());
+                m_sessions[i] = new Snmp(disp, new DefaultUdpTransportMapping());
+                m_sessions[i].listen();
+            }
+        } catch (final IOException e) {
+            close();
+            throw e;
+        }
+        LOG.info("Sharing {} SNMP sessions with at most {} requests in flight per agent", sessions, maxInFlightPerAgent);
+    }
+
+    /**
+     * Whether requests for the given agent should go through the shared pool.
+     */
+    public static boolean handles(final Snmp4JAgentConfig agentConfig) {
+        return ENABLED && !agentConfig.isSnmpV3();
+    }
+
+    public static synchronized Snmp4JSessionPool getInstance() throws IOException {
+        if (s_instance == null) {
+            s_instance = new Snmp4JSessionPool(
+                    SystemProperties.getInteger(SESSIONS_PROPERTY, 4),
+                    SystemProperties.getInteger(MAX_IN_FLIGHT_PROPERTY, 4));
+        }
+        return s_instance;
+    }
+
+    /**
+     * Sends a request and notifies the listener once the response arrives or the request times out.
+     *
+     * The request is queued if the agent already has the maximum number of requests in flight.
+     * The listener must not block since it is called on the listener thread of a shared session.
+     *
+     * @throws IOException if the request could not be sent immediately
+     */
+    public void send(final PDU pdu, final Target target, final ResponseListener listener) throws IOException {
+        if (m_closed) {
+            throw new IOException("The shared SNMP session pool is closed");
+        }
+        m_agents.computeIfAbsent(target.getAddress(), this::createAgentQueue)
+                .submit(new PendingRequest(pdu, target, listener));
+    }
+
+    /**
+     * Sends a request for which no response is expected, e.g. a trap.
+     */
+    public void send(final PDU pdu, final Target target) throws IOException {
+        if (m_closed) {
+            throw new IOException("The shared SNMP session pool is closed");
+        }
+        sessionFor(target.getAddress()).send(pdu, target);
+    }
+
+    public int getSessionCount() {
+        return m_sessions.length;
+    }
+
+    public int getInFlight(final Address address) {
+        final AgentQueue queue = m_agents.get(address);
+        return queue != null ? queue.getInFlight() : 0;
+    }
+
+    public int getQueued(final Address address) {
+        final AgentQueue queue = m_agents.get(address);
+        return queue != null ? queue.getQueued() : 0;
+    }
+
+    /**
+     * Closes all sessions. Requests in flight are completed with an {@link InterruptedException}
+     * by SNMP4J, queued requests with an {@link IOException}.
+     */
+    public void close() {
+        m_closed = true;
+        for (final AgentQueue queue : m_agents.values()) {
+            queue.abort();
+        }
+        for (final Snmp session : m_sessions) {
+            if (session == null) {
+                continue;
+            }
+            try {
+                session.close();
+            } catch (final IOException e) {
+                LOG.warn("Failed to close shared SNMP session", e);
+            }
+        }
+    }
+
+    private Snmp sessionFor(final Address address) {
+        return m_sessions[Math.floorMod(address.hashCode(), m_sessions.length)];
+    }
+
+    private AgentQueue createAgentQueue(final Address address) {
+        return new AgentQueue(sessionFor(address));
+    }
+
+    private static void fail(final Snmp session, final PendingRequest request, final Exception e) {
+        try {
+            request.m_listener.onResponse(new ResponseEvent(session, null, request.m_pdu, null, null, e));
+        } catch (final RuntimeException re) {
+            LOG.warn("Response listener failed while handling a send error", re);
+        }
+    }
+
+    private static final class PendingRequest {
+        private final PDU m_pdu;
+        private final Target m_target;
+        private final ResponseListener m_listener;
+
+        private PendingRequest(final PDU pdu, final Target target, final ResponseListener listener) {
+            m_pdu = pdu;
+            m_target = target;
+            m_listener = listener;
+        }
+    }
+
+    /**
+     * Tracks the requests in flight against, and waiting for, a single agent.
+     */
+    private final class AgentQueue {
+        private final Snmp m_session;
+        private final Deque<PendingRequest> m_pending = new ArrayDeque<>();
+        private int m_inFlight = 0;
+
+        private AgentQueue(final Snmp session) {
+            m_session = session;
+        }
+
+        private void submit(final PendingRequest request) throws IOException {
+            synchronized (this) {
+                if (m_inFlight >= m_maxInFlightPerAgent) {
+                    m_pending.addLast(request);
+                    return;
+                }
+                m_inFlight++;
+            }
+
+            try {
+                dispatch(request);
+            } catch (final IOException e) {
+                release();
+                throw e;
+            }
+        }
+
+        /**
+         * Frees the slot held by a completed request, handing it over to the next queued request if any.
+         */
+        private void release() {
+            while (true) {
+                final PendingRequest next;
+                synchronized (this) {
+                    next = m_pending.pollFirst();
+                    if (next == null) {
+                        m_inFlight--;
+                        return;
+                    }
+                }
+
+                try {
+                    dispatch(next);
+                    return;
+                } catch (final IOException e) {
+                    LOG.debug("Failed to send queued request to {}", next.m_target.getAddress(), e);
+                    fail(m_session, next, e);
+                }
+            }
+        }
+
+        private void dispatch(final PendingRequest request) throws IOException {
+            m_session.send(request.m_pdu, request.m_target, null, new ResponseListener() {
+                @Override
+                public void onResponse(final ResponseEvent event) {
+                    // need to cancel the request here otherwise SNMP4J keeps it around forever
+                    m_session.cancel(event.getRequest(), this);
+                    release();
+                    request.m_listener.onResponse(event);
+                }
+            });
+        }
+
+        private void abort() {
+            final List<PendingRequest> aborted;
+            synchronized (this) {
+                aborted = new ArrayList<>(m_pending);
+                m_pending.clear();
+            }
+            for (final PendingRequest request : aborted) {
+                fail(m_session, request, new IOException("The shared SNMP session pool was closed"));
+            }
+        }
+
+        private synchronized int getInFlight() {
+            return m_inFlight;
+        }
+
+        private synchronized int getQueued() {
+            return m_pending.size();
+        }
+    }
+}
@@ -322,6 +322,11 @@ public class Snmp4JStrategy implements SnmpStrategy {
     }
 
     private void send(Snmp4JAgentConfig agentConfig, PDU pdu, boolean expectResponse, CompletableFuture<SnmpValue[]> future) {
+        if (Snmp4JSessionPool.handles(agentConfig)) {
+            sendShared(agentConfig, pdu, expectResponse, future);
+            return;
+        }
+
         Snmp session;
 
         try {
@@ -386,6 +391,27 @@ public class Snmp4JStrategy implements SnmpStrategy {
         }
     }
 
+    private void sendShared(Snmp4JAgentConfig agentConfig, PDU pdu, boolean expectResponse, CompletableFuture<SnmpValue[]> future) {
+        try {
+            final Snmp4JSessionPool pool = Snmp4JSessionPool.getInstance();
+            if (expectResponse) {
+                pool.send(pdu, agentConfig.getTarget(), responseEvent -> {
+                    try {
+                        future.complete(processResponse(agentConfig, responseEvent, pdu));
+                    } catch (final Exception e) {
+                        future.completeExceptionally(new SnmpException(e));
+                    }
+                });
+            } else {
+                pool.send(pdu, agentConfig.getTarget());
+                future.complete(null);
+            }
+        } catch (final Exception e) {
+            LOG.error("send: error during SNMP operation", e);
+            future.completeExceptionally(new SnmpException(e));
+        }
+    }
+
     protected static PDU buildPdu(Snmp4JAgentConfig agentConfig, int pduType, SnmpObjId[] oids, SnmpValue[] values) {
         PDU pdu = agentConfig.createPdu(pduType);
         
@@ -155,8 +155,15 @@ public class Snmp4JWalker extends SnmpWalker {
 
         @Override
         public void onResponse(ResponseEvent responseEvent) {
-            // need to cancel the request here otherwise SNMP4J Keeps it around forever... go figure
-            m_session.cancel(responseEvent.getRequest(), this);
+            final Snmp session = m_session;
+            if (session != null) {
+                // need to cancel the request here otherwise SNMP4J Keeps it around forever... go figure
+                session.cancel(responseEvent.getRequest(), this);
+            } else if (m_closed) {
+                // Requests sent on a shared session outlive the walker
+                LOG.debug("Ignoring response for closed walker {} from {}", getName(), getAddress());
+                return;
+            }
 
             // Check to see if we got an interrupted exception
             if (responseEvent.getError() instanceof InterruptedException) {
@@ -182,6 +189,7 @@ public class Snmp4JWalker extends SnmpWalker {
     }
     
     private Snmp m_session;
+    private volatile boolean m_closed = false;
     private final Target m_tgt;
     private final ResponseListener m_listener;
     private final Snmp4JAgentConfig m_agentConfig;
@@ -213,6 +221,17 @@ public class Snmp4JWalker extends SnmpWalker {
         @Override
     protected void sendNextPdu(WalkerPduBuilder pduBuilder) throws SnmpException {
         Snmp4JPduBuilder snmp4JPduBuilder = (Snmp4JPduBuilder)pduBuilder;
+        if (Snmp4JSessionPool.handles(m_agentConfig)) {
+            LOG.debug("Sending tracker pdu of size {} on a shared session", snmp4JPduBuilder.getPdu().size());
+            try {
+                Snmp4JSessionPool.getInstance().send(snmp4JPduBuilder.getPdu(), m_tgt, m_listener);
+            } catch (final IOException e) {
+                LOG.debug("Failed to send pdu of size {}", snmp4JPduBuilder.getPdu().size(), e);
+                throw new SnmpException(e);
+            }
+            return;
+        }
+
         try {
             if (m_session == null) {
                 m_session = m_agentConfig.createSnmpSession();
@@ -240,6 +259,7 @@ public class Snmp4JWalker extends SnmpWalker {
 
     @Override
     public void close() {
+        m_closed = true;
         if (m_session != null) {
             try {
                 m_session.close();
@@ -0,0 +1,97 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * A minimal SNMPv1/v2c agent on the loopback interface which answers every request by echoing
+ * the requested OIDs, each bound to its own OID as string value.
+ */
+public class LoopbackSnmpResponder implements Closeable {
+
+    private final DefaultUdpTransportMapping m_transport;
+    private final Snmp m_snmp;
+    private final AtomicInteger m_received = new AtomicInteger();
+
+    private volatile boolean m_responding = true;
+
+    public LoopbackSnmpResponder() throws IOException {
+        m_transport = new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/0"));
+        m_snmp = new Snmp(m_transport);
+        m_snmp.addCommandResponder(this::processPdu);
+        m_snmp.listen();
+    }
+
+    public int getPort() {
+        return m_transport.getListenAddress().getPort();
+    }
+
+    public int getReceived() {
+        return m_received.get();
+    }
+
+    public void setResponding(final boolean responding) {
+        m_responding = responding;
+    }
+
+    private void processPdu(final CommandResponderEvent event) {
+        m_received.incrementAndGet();
+        event.setProcessed(true);
+        if (!m_responding) {
+            return;
+        }
+
+        final PDU response = new PDU(event.getPDU());
+        response.setType(PDU.RESPONSE);
+        response.setErrorStatus(PDU.noError);
+        response.setErrorIndex(0);
+        for (final VariableBinding vb : response.getVariableBindings()) {
+            vb.setVariable(new OctetString(vb.getOid().toDottedString()));
+        }
+
+        try {
+            event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(),
+                    event.getSecurityModel(), event.getSecurityName(), event.getSecurityLevel(),
+                    response, event.getMaxSizeResponsePDU(), event.getStateReference(), new StatusInformation());
+        } catch (final MessageException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        m_snmp.close();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.netmgt.snmp.SnmpAgentConfig;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare a session per request, as used by
+ * {@link Snmp4JStrategy} by default, with the {@link Snmp4JSessionPool}.
+ * <p>
+ * Each benchmark call sends {@link #REQUESTS} GET requests to a {@link LoopbackSnmpResponder}, keeping
+ * {@code concurrency} requests in flight. The reported score is the number of PDUs per second, and the
+ * {@code peakThreads} counter reports the highest number of live threads seen during the iteration.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class Snmp4JSessionPoolBenchmark {
+
+    private static final int REQUESTS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class AgentState {
+
+        @Param({"per-request", "shared"})
+        public String transport;
+
+        @Param({"16", "128"})
+        public int concurrency;
+
+        private LoopbackSnmpResponder responder;
+        private Snmp4JAgentConfig agentConfig;
+        private Snmp4JSessionPool pool;
+        private ExecutorService reaper;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            responder = new LoopbackSnmpResponder();
+
+            final SnmpAgentConfig config = new SnmpAgentConfig(InetAddress.getLoopbackAddress());
+            config.setPort(responder.getPort());
+            config.setVersion(SnmpAgentConfig.VERSION2C);
+            config.setTimeout(5000);
+            config.setRetries(0);
+            agentConfig = new Snmp4JAgentConfig(config);
+
+            if ("shared".equals(transport)) {
+                // Allow the whole window in flight so both variants put the same load on the agent
+                pool = new Snmp4JSessionPool(4, concurrency);
+            }
+            reaper = Executors.newCachedThreadPool();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException, InterruptedException {
+            if (pool != null) {
+                pool.close();
+            }
+            reaper.shutdown();
+            reaper.awaitTermination(1, TimeUnit.MINUTES);
+            responder.close();
+        }
+
+        void run(final ThreadCounters counters) throws Exception {
+            final Semaphore window = new Semaphore(concurrency);
+            for (int i = 0; i < REQUESTS; i++) {
+                window.acquire();
+                counters.sample();
+
+                final PDU pdu = agentConfig.createPdu(PDU.GET);
+                pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.1.1.0")));
+                if (pool != null) {
+                    pool.send(pdu, agentConfig.getTarget(), e -> window.release());
+                } else {
+                    final Snmp session = agentConfig.createSnmpSession();
+                    session.listen();
+                    session.send(pdu, agentConfig.getTarget(), null, new ResponseListener() {
+                        @Override
+                        public void onResponse(final ResponseEvent e) {
+                            session.cancel(e.getRequest(), this);
+                            window.release();
+                            // Closing joins the listener thread, so it must happen elsewhere
+                            reaper.execute(() -> {
+                                try {
+                                    session.close();
+                                } catch (IOException ex) {
+                                    throw new RuntimeException(ex);
+                                }
+                            });
+                        }
+                    });
+                }
+            }
+            window.acquire(concurrency);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCounters {
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        public long peakThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakThreads = 0;
+        }
+
+        void sample() {
+            peakThreads = Math.max(peakThreads, threads.getThreadCount());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void get(AgentState state, ThreadCounters counters) throws Exception {
+        state.run(counters);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.netmgt.snmp.SnmpAgentConfig;
+import org.snmp4j.PDU;
+import org.snmp4j.Target;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+public class Snmp4JSessionPoolTest {
+
+    private LoopbackSnmpResponder m_responder;
+    private Snmp4JSessionPool m_pool;
+
+    @Before
+    public void setUp() throws Exception {
+        m_responder = new LoopbackSnmpResponder();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (m_pool != null) {
+            m_pool.close();
+        }
+        m_responder.close();
+    }
+
+    @Test
+    public void responsesAreMatchedToTheirRequests() throws Exception {
+        m_pool = new Snmp4JSessionPool(2, 4);
+        final Snmp4JAgentConfig agentConfig = agentConfig(1000, 1);
+        final Target target = agentConfig.getTarget();
+
+        final int requests = 200;
+        final Map<String, String> responses = new ConcurrentHashMap<>();
+        final CountDownLatch latch = new CountDownLatch(requests);
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        for (int i = 0; i < requests; i++) {
+            final String oid = ".1.3.6.1.4.1.5813.99." + i;
+            final PDU pdu = agentConfig.createPdu(PDU.GET);
+            pdu.add(new VariableBinding(new OID(oid)));
+            m_pool.send(pdu, target, e -> {
+                maxInFlight.accumulateAndGet(m_pool.getInFlight(target.getAddress()), Math::max);
+                if (e.getResponse() != null) {
+                    final VariableBinding vb = e.getResponse().get(0);
+                    responses.put(vb.getOid().toDottedString(), vb.getVariable().toString());
+                }
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertEquals(requests, responses.size());
+        responses.forEach((oid, value) -> assertEquals(oid, value));
+        assertTrue("at most 4 requests in flight, was " + maxInFlight.get(), maxInFlight.get() <= 4);
+        assertEquals(0, m_pool.getInFlight(target.getAddress()));
+        assertEquals(0, m_pool.getQueued(target.getAddress()));
+    }
+
+    @Test
+    public void requestsAboveTheLimitAreQueuedUntilEarlierRequestsTimeOut() throws Exception {
+        m_pool = new Snmp4JSessionPool(1, 2);
+        m_responder.setResponding(false);
+        final Snmp4JAgentConfig agentConfig = agentConfig(200, 0);
+        final Target target = agentConfig.getTarget();
+
+        final List<ResponseEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(6);
+        for (int i = 0; i < 6; i++) {
+            final PDU pdu = agentConfig.createPdu(PDU.GET);
+            pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.1.1.0")));
+            m_pool.send(pdu, target, e -> {
+                events.add(e);
+                latch.countDown();
+            });
+        }
+
+        assertEquals(2, m_pool.getInFlight(target.getAddress()));
+        assertEquals(4, m_pool.getQueued(target.getAddress()));
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        for (final ResponseEvent e : events) {
+            assertNull("request should have timed out", e.getResponse());
+            assertNull(e.getError());
+        }
+        assertEquals(6, m_responder.getReceived());
+        assertEquals(0, m_pool.getInFlight(target.getAddress()));
+    }
+
+    @Test
+    public void queuedRequestsFailWhenThePoolIsClosed() throws Exception {
+        m_pool = new Snmp4JSessionPool(1, 1);
+        m_responder.setResponding(false);
+        final Snmp4JAgentConfig agentConfig = agentConfig(10000, 0);
+
+        final List<ResponseEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            final PDU pdu = agentConfig.createPdu(PDU.GET);
+            pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.1.1.0")));
+            m_pool.send(pdu, agentConfig.getTarget(), e -> {
+                events.add(e);
+                latch.countDown();
+            });
+        }
+
+        m_pool.close();
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        for (final ResponseEvent e : events) {
+            assertNull(e.getResponse());
+            assertNotNull(e.getError());
+        }
+    }
+
+    private Snmp4JAgentConfig agentConfig(final int timeout, final int retries) throws Exception {
+        final SnmpAgentConfig config = new SnmpAgentConfig(InetAddress.getLoopbackAddress());
+        config.setPort(m_responder.getPort());
+        config.setVersion(SnmpAgentConfig.VERSION2C);
+        config.setTimeout(timeout);
+        config.setRetries(retries);
+        return new Snmp4JAgentConfig(config);
+    }
+}
@@ -32,12 +32,16 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
@@ -75,24 +79,55 @@ import edu.uci.ics.jung.algorithms.layout.KKLayout;
 import edu.uci.ics.jung.algorithms.layout.Layout;
 import edu.uci.ics.jung.visualization.VisualizationImageServer;
 
+/**
+ * Maintains the operational status of the business services by propagating
+ * the status of the alarms through the {@link BusinessServiceGraph}.
+ *
+ * When the concurrent propagation mode is enabled (see {@link #CONCURRENT_PROPAGATION_KEY}),
+ * alarm updates are queued and coalesced by reduction key. The thread that acquires
+ * the write lock applies all of the queued updates in a single pass that reduces
+ * every affected vertex once, from the deepest level of the graph up to the roots.
+ * Status lookups no longer take the read lock and instead read the status of the
+ * vertex from the current graph, which is only ever replaced as a whole.
+ */
 public class DefaultBusinessServiceStateMachine implements BusinessServiceStateMachine {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultBusinessServiceStateMachine.class);
     public static final Status MIN_SEVERITY = Status.NORMAL;
 
+    public static final String CONCURRENT_PROPAGATION_KEY = "org.opennms.features.bsm.concurrentPropagation";
+
     @Autowired
     private AlarmProvider m_alarmProvider;
 
     private final List<BusinessServiceStateChangeHandler> m_handlers = Lists.newArrayList();
     private final ReadWriteLock m_rwLock = new ReentrantReadWriteLock();
-    private BusinessServiceGraph m_g = new BusinessServiceGraphImpl(Collections.emptyList());
+    private volatile BusinessServiceGraph m_g = new BusinessServiceGraphImpl(Collections.emptyList());
 
     private boolean m_recordAndDeferStatusUpdates = false;
     private final Map<GraphVertex, StatusUpdate> m_statusUpdatesByVertex = new LinkedHashMap<>();
 
+    private final boolean m_concurrentPropagation;
+    private final Map<String, Status> m_pendingStatusByReductionKey = new ConcurrentHashMap<>();
+
+    public DefaultBusinessServiceStateMachine() {
+        this(Boolean.getBoolean(CONCURRENT_PROPAGATION_KEY));
+    }
+
+    public DefaultBusinessServiceStateMachine(boolean concurrentPropagation) {
+        m_concurrentPropagation = concurrentPropagation;
+    }
+
+    public boolean isConcurrentPropagation() {
+        return m_concurrentPropagation;
+    }
+
     @Override
     public void setBusinessServices(List<BusinessService> businessServices) {
         m_rwLock.writeLock().lock();
         try {
+            // Apply any queued updates to the current graph, so that they carry over
+            propagatePendingStatuses();
+
             // Defer status updates until we've processed the whole graph
             m_recordAndDeferStatusUpdates = true;
 
@@ -101,11 +136,12 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
 
             // Prime the graph with the state from the previous graph and
             // keep track of the new reductions keys
+            final Map<GraphVertex, Status> primedStatuses = new LinkedHashMap<>();
             Set<String> reductionsKeysToLookup = Sets.newHashSet();
             for (String reductionKey : g.getReductionKeys()) {
                 GraphVertex reductionKeyVertex = m_g.getVertexByReductionKey(reductionKey);
                 if (reductionKeyVertex != null) {
-                    updateAndPropagateVertex(g, g.getVertexByReductionKey(reductionKey), reductionKeyVertex.getStatus());
+                    primedStatuses.put(g.getVertexByReductionKey(reductionKey), reductionKeyVertex.getStatus());
                 } else {
                     reductionsKeysToLookup.add(reductionKey);
                 }
@@ -120,10 +156,11 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
                     // graph without having to wait for calls to handleNewOrUpdatedAlarm()
                     final Map<String, AlarmWrapper> lookup = m_alarmProvider.lookup(reductionsKeysToLookup);
                     for (Entry<String, AlarmWrapper> eachEntry : lookup.entrySet()) {
-                        updateAndPropagateVertex(g, g.getVertexByReductionKey(eachEntry.getKey()), eachEntry.getValue().getStatus());
+                        primedStatuses.put(g.getVertexByReductionKey(eachEntry.getKey()), eachEntry.getValue().getStatus());
                     }
                 }
             }
+            updateAndPropagateVertices(g, primedStatuses);
             m_g = g;
 
             // Stop recording, and release the status updates
@@ -142,6 +179,24 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
 
     @Override
     public void handleNewOrUpdatedAlarm(AlarmWrapper alarm) {
+        if (m_concurrentPropagation) {
+            if (alarm.getReductionKey() == null) {
+                // Nothing to do here
+                return;
+            }
+            // Queue the update, replacing any update for the same reduction key that
+            // has not been applied yet. Once we hold the lock, the update has either
+            // been applied by another thread, or we apply it along with the others.
+            m_pendingStatusByReductionKey.put(alarm.getReductionKey(), alarm.getStatus());
+            m_rwLock.writeLock().lock();
+            try {
+                propagatePendingStatuses();
+            } finally {
+                m_rwLock.writeLock().unlock();
+            }
+            return;
+        }
+
         m_rwLock.writeLock().lock();
         try {
             // Recursively propagate the status
@@ -156,9 +211,20 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
         final Set<String> reductionKeysFromGivenAlarms = new HashSet<>(alarms.size());
         m_rwLock.writeLock().lock();
         try {
+            propagatePendingStatuses();
+
+            final Map<GraphVertex, Status> statuses = new LinkedHashMap<>();
             for (AlarmWrapper alarm : alarms) {
-                // Recursively propagate the status for all of the given alarms
-                updateAndPropagateVertex(m_g, m_g.getVertexByReductionKey(alarm.getReductionKey()), alarm.getStatus());
+                final GraphVertex vertex = m_g.getVertexByReductionKey(alarm.getReductionKey());
+                if (m_concurrentPropagation) {
+                    // Collect the statuses and propagate them all at once
+                    if (vertex != null) {
+                        statuses.put(vertex, alarm.getStatus());
+                    }
+                } else {
+                    // Recursively propagate the status for all of the given alarms
+                    updateAndPropagateVertex(m_g, vertex, alarm.getStatus());
+                }
                 // Keep track of the reduction keys that have been processed
                 reductionKeysFromGivenAlarms.add(alarm.getReductionKey());
             }
@@ -166,19 +232,96 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
             for (String missingReductionKey : Sets.difference(m_g.getReductionKeys(), reductionKeysFromGivenAlarms)) {
                 // There is a vertex on the graph that corresponds to this reduction key
                 // but no alarm with this reduction key exists
-                updateAndPropagateVertex(m_g, m_g.getVertexByReductionKey(missingReductionKey), Status.INDETERMINATE);
+                statuses.put(m_g.getVertexByReductionKey(missingReductionKey), Status.INDETERMINATE);
             }
+            updateAndPropagateVertices(m_g, statuses);
         } finally {
             m_rwLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Applies the queued alarm updates to the current graph.
+     * Must be called while holding the write lock.
+     */
+    private void propagatePendingStatuses() {
+        if (m_pendingStatusByReductionKey.isEmpty()) {
+            // Nothing queued, or another thread already applied our update
+            return;
+        }
+
+        final Map<GraphVertex, Status> statuses = new LinkedHashMap<>();
+        for (String reductionKey : m_pendingStatusByReductionKey.keySet()) {
+            final Status status = m_pendingStatusByReductionKey.remove(reductionKey);
+            final GraphVertex vertex = m_g.getVertexByReductionKey(reductionKey);
+            if (status != null && vertex != null) {
+                statuses.put(vertex, status);
+            }
+        }
+        LOG.debug("Propagating {} coalesced status update(s).", statuses.size());
+        updateAndPropagateVertices(m_g, statuses);
+    }
+
+    /**
+     * Updates the status of the given vertices and propagates the changes.
+     *
+     * In concurrent propagation mode, the parents of the updated vertices are
+     * reduced level by level, starting from the deepest level of the graph, so
+     * that every affected vertex is reduced exactly once after all of its
+     * children have been updated. Otherwise, the statuses are propagated
+     * recursively, one vertex at a time.
+     */
+    private void updateAndPropagateVertices(BusinessServiceGraph graph, Map<GraphVertex, Status> statusesByVertex) {
+        if (!m_concurrentPropagation) {
+            for (Entry<GraphVertex, Status> entry : statusesByVertex.entrySet()) {
+                updateAndPropagateVertex(graph, entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+
+        // Vertices that need to be reduced, with the deepest level first
+        final NavigableMap<Integer, Set<GraphVertex>> verticesToReduceByLevel = new TreeMap<>(Collections.reverseOrder());
+        for (Entry<GraphVertex, Status> entry : statusesByVertex.entrySet()) {
+            updateVertex(graph, entry.getKey(), entry.getValue(), verticesToReduceByLevel);
+        }
+
+        Entry<Integer, Set<GraphVertex>> verticesAtLevel;
+        while ((verticesAtLevel = verticesToReduceByLevel.pollFirstEntry()) != null) {
+            for (GraphVertex vertex : verticesAtLevel.getValue()) {
+                updateVertex(graph, vertex, reduce(graph, vertex), verticesToReduceByLevel);
+            }
+        }
+    }
+
+    private void updateVertex(BusinessServiceGraph graph, GraphVertex vertex, Status newStatus, NavigableMap<Integer, Set<GraphVertex>> verticesToReduceByLevel) {
+        if (vertex == null) {
+            // Nothing to do here
+            return;
+        }
+        for (GraphEdge edge : updateVertexAndEdges(graph, vertex, newStatus)) {
+            final GraphVertex parent = graph.getOpposite(vertex, edge);
+            verticesToReduceByLevel.computeIfAbsent(parent.getLevel(), level -> new LinkedHashSet<>()).add(parent);
+        }
+    }
+
     private void updateAndPropagateVertex(BusinessServiceGraph graph, GraphVertex vertex, Status newStatus) {
         if (vertex == null) {
             // Nothing to do here
             return;
         }
 
+        // Propagate once all of the edges have been updated
+        for (GraphEdge edge : updateVertexAndEdges(graph, vertex, newStatus)) {
+            reduceUpdateAndPropagateVertex(graph, graph.getOpposite(vertex, edge));
+        }
+    }
+
+    /**
+     * Updates the status of the vertex and the mapped status of its incoming edges.
+     *
+     * @return the edges whose status was changed
+     */
+    private List<GraphEdge> updateVertexAndEdges(BusinessServiceGraph graph, GraphVertex vertex, Status newStatus) {
         // Apply lower bound
         newStatus = newStatus.isLessThan(MIN_SEVERITY) ? MIN_SEVERITY : newStatus;
 
@@ -186,7 +329,7 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
         Status previousStatus = vertex.getStatus();
         if (previousStatus.equals(newStatus)) {
             // The status hasn't changed, there's nothing to propagate
-            return;
+            return Collections.emptyList();
         }
         vertex.setStatus(newStatus);
 
@@ -213,11 +356,7 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
             edge.setStatus(mappedStatus);
             updatedEges.add(edge);
         }
-
-        // Propagate once all of the edges have been updated
-        for (GraphEdge edge : updatedEges) {
-            reduceUpdateAndPropagateVertex(graph, graph.getOpposite(vertex, edge));
-        }
+        return updatedEges;
     }
 
     private void reduceUpdateAndPropagateVertex(BusinessServiceGraph graph, GraphVertex vertex) {
@@ -226,21 +365,22 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
             return;
         }
 
+        // Update and propagate
+        updateAndPropagateVertex(graph, vertex, reduce(graph, vertex));
+    }
+
+    private static Status reduce(BusinessServiceGraph graph, GraphVertex vertex) {
         // Calculate the weighed statuses from the child edges
         List<StatusWithIndex> statuses = weighEdges(graph.getOutEdges(vertex));
 
         // Reduce
         Optional<StatusWithIndices> reducedStatus = vertex.getReductionFunction().reduce(statuses);
 
-        Status newStatus;
         if (reducedStatus.isPresent()) {
-            newStatus = reducedStatus.get().getStatus();
+            return reducedStatus.get().getStatus();
         } else {
-            newStatus = MIN_SEVERITY;
+            return MIN_SEVERITY;
         }
-
-        // Update and propagate
-        updateAndPropagateVertex(graph, vertex, newStatus);
     }
 
     public static List<StatusWithIndex> weighEdges(Collection<GraphEdge> edges) {
@@ -312,51 +452,33 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
     @Override
     public Status getOperationalStatus(BusinessService businessService) {
         Objects.requireNonNull(businessService);
-        m_rwLock.readLock().lock();
-        try {
-            GraphVertex vertex = m_g.getVertexByBusinessServiceId(businessService.getId());
-            if (vertex != null) {
-                return vertex.getStatus();
-            }
-            return null;
-        } finally {
-            m_rwLock.readLock().unlock();
-        }
+        return getOperationalStatus(g -> g.getVertexByBusinessServiceId(businessService.getId()));
     }
 
     @Override
     public Status getOperationalStatus(IpService ipService) {
-        m_rwLock.readLock().lock();
-        try {
-            GraphVertex vertex = m_g.getVertexByIpServiceId(ipService.getId());
-            if (vertex != null) {
-                return vertex.getStatus();
-            }
-            return null;
-        } finally {
-            m_rwLock.readLock().unlock();
-        }
+        return getOperationalStatus(g -> g.getVertexByIpServiceId(ipService.getId()));
     }
 
     @Override
     public Status getOperationalStatus(String reductionKey) {
-        m_rwLock.readLock().lock();
-        try {
-            GraphVertex vertex = m_g.getVertexByReductionKey(reductionKey);
-            if (vertex != null) {
-                return vertex.getStatus();
-            }
-            return null;
-        } finally {
-            m_rwLock.readLock().unlock();
-        }
+        return getOperationalStatus(g -> g.getVertexByReductionKey(reductionKey));
     }
 
     @Override
     public Status getOperationalStatus(Edge edge) {
+        return getOperationalStatus(g -> g.getVertexByEdgeId(edge.getId()));
+    }
+
+    private Status getOperationalStatus(Function<BusinessServiceGraph, GraphVertex> vertexLookup) {
+        if (m_concurrentPropagation) {
+            // The status of a vertex is always consistent, don't block while an update is being propagated
+            final GraphVertex vertex = vertexLookup.apply(m_g);
+            return vertex != null ? vertex.getStatus() : null;
+        }
         m_rwLock.readLock().lock();
         try {
-            GraphVertex vertex = m_g.getVertexByEdgeId(edge.getId());
+            final GraphVertex vertex = vertexLookup.apply(m_g);
             if (vertex != null) {
                 return vertex.getStatus();
             }
@@ -456,7 +578,7 @@ public class DefaultBusinessServiceStateMachine implements BusinessServiceStateM
     public BusinessServiceStateMachine clone(boolean preserveState) {
         m_rwLock.readLock().lock();
         try {
-            final BusinessServiceStateMachine sm = new DefaultBusinessServiceStateMachine();
+            final BusinessServiceStateMachine sm = new DefaultBusinessServiceStateMachine(m_concurrentPropagation);
 
             // Rebuild the graph using the business services from the existing state machine
             final BusinessServiceGraph graph = getGraph();
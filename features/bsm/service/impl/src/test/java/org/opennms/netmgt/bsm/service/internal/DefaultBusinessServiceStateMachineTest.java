@@ -26,10 +26,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -49,6 +56,7 @@ import org.opennms.netmgt.bsm.service.model.graph.GraphVertex;
 import org.opennms.netmgt.bsm.test.LoggingStateChangeHandler;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 public class DefaultBusinessServiceStateMachineTest {
@@ -234,6 +242,104 @@ public class DefaultBusinessServiceStateMachineTest {
         assertEquals("b1", impacts.get(0).getBusinessService().getName());
     }
 
+    @Test
+    public void canPropagateStatusesConcurrently() throws Exception {
+        Threshold threshold = new Threshold();
+        threshold.setThreshold(0.5f);
+        HighestSeverityAbove highestSeverityAbove = new HighestSeverityAbove();
+        highestSeverityAbove.setThreshold(Status.MINOR);
+
+        MockBusinessServiceHierarchy h = MockBusinessServiceHierarchy.builder()
+                .withBusinessService(1)
+                    .withName("b1")
+                    .withReductionFunction(new HighestSeverity())
+                    .withBusinessService(2)
+                        .withName("b2")
+                        .withReductionFunction(threshold)
+                        .withReductionKey(21, "a1")
+                        .withReductionKey(22, "a2")
+                        .withReductionKey(23, "a3")
+                        .withReductionKey(24, "a4")
+                    .commit()
+                    .withBusinessService(3)
+                        .withName("b3")
+                        .withReductionFunction(highestSeverityAbove)
+                        .withReductionKey(35, "a5")
+                        .withReductionKey(36, "a6")
+                        .withReductionKey(37, "a7")
+                        .withReductionKey(38, "a8")
+                    .commit()
+                .commit()
+                .build();
+        final List<String> reductionKeys = Lists.newArrayList("a1", "a2", "a3", "a4", "a5", "a6", "a7", "a8");
+
+        // The reference state machine propagates the statuses recursively
+        DefaultBusinessServiceStateMachine recursive = new DefaultBusinessServiceStateMachine(false);
+        recursive.setBusinessServices(h.getBusinessServices());
+        DefaultBusinessServiceStateMachine concurrent = new DefaultBusinessServiceStateMachine(true);
+        assertTrue(concurrent.isConcurrentPropagation());
+        concurrent.setBusinessServices(h.getBusinessServices());
+
+        // Generate a random sequence of updates for every reduction key
+        final Random random = new Random(42);
+        final Map<String, List<Status>> updatesByReductionKey = new HashMap<>();
+        for (String reductionKey : reductionKeys) {
+            final List<Status> updates = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                updates.add(Status.values()[random.nextInt(Status.values().length)]);
+            }
+            updatesByReductionKey.put(reductionKey, updates);
+        }
+
+        // Apply the updates sequentially to the reference state machine
+        for (String reductionKey : reductionKeys) {
+            for (Status status : updatesByReductionKey.get(reductionKey)) {
+                recursive.handleNewOrUpdatedAlarm(new MockAlarmWrapper(reductionKey, status));
+            }
+        }
+
+        // Apply the updates to the concurrent state machine using one thread per reduction key
+        final ExecutorService executor = Executors.newFixedThreadPool(reductionKeys.size());
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+            for (String reductionKey : reductionKeys) {
+                tasks.add(() -> {
+                    for (Status status : updatesByReductionKey.get(reductionKey)) {
+                        concurrent.handleNewOrUpdatedAlarm(new MockAlarmWrapper(reductionKey, status));
+                        // Reads must not block, and must always return a status
+                        assertTrue(concurrent.getOperationalStatus(h.getBusinessServiceById(1)) != null);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Both state machines should end up in the same state
+        for (long id = 1; id <= 3; id++) {
+            assertEquals(recursive.getOperationalStatus(h.getBusinessServiceById(id)),
+                    concurrent.getOperationalStatus(h.getBusinessServiceById(id)));
+        }
+        for (String reductionKey : reductionKeys) {
+            assertEquals(recursive.getOperationalStatus(reductionKey), concurrent.getOperationalStatus(reductionKey));
+        }
+
+        // Reset the state using a partial list of alarms, the missing reduction keys become indeterminate
+        final List<AlarmWrapper> alarms = Collections.singletonList(new MockAlarmWrapper("a5", Status.CRITICAL));
+        recursive.handleAllAlarms(alarms);
+        concurrent.handleAllAlarms(alarms);
+        for (long id = 1; id <= 3; id++) {
+            assertEquals(recursive.getOperationalStatus(h.getBusinessServiceById(id)),
+                    concurrent.getOperationalStatus(h.getBusinessServiceById(id)));
+        }
+        assertEquals(Status.CRITICAL, concurrent.getOperationalStatus(h.getBusinessServiceById(1)));
+        assertEquals(Status.NORMAL, concurrent.getOperationalStatus(h.getBusinessServiceById(2)));
+    }
+
     @Test
     public void canRenderGraphToPng() {
         // Create a simple hierarchy
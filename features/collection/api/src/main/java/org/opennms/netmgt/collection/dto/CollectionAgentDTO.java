@@ -102,6 +102,10 @@ public class CollectionAgentDTO implements CollectionAgent {
         this.address = address;
     }
 
+    public List<CollectionAttributeDTO> getAttributes() {
+        return attributes;
+    }
+
     @Override
     public Set<String> getAttributeNames() {
         return attributes.stream()
@@ -138,10 +138,22 @@ public class CollectionSetDTO implements CollectionSet {
         return timestamp;
     }
 
+    public CollectionAgentDTO getCollectionAgent() {
+        return agent;
+    }
+
     public void setCollectionAgent(CollectionAgentDTO agent) {
         this.agent = agent;
     }
 
+    public List<CollectionResourceDTO> getCollectionResources() {
+        return collectionResources;
+    }
+
+    public Boolean getDisableCounterPersistence() {
+        return disableCounterPersistence;
+    }
+
     private Set<CollectionResource> buildCollectionResources() {
         final Set<CollectionResource> collectionResources = new LinkedHashSet<>();
         for (CollectionResourceDTO entry : this.collectionResources) {
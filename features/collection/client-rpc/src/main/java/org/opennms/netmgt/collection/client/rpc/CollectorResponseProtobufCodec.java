@@ -0,0 +1,318 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.collection.client.rpc;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.opennms.core.rpc.xml.ProtobufRpcCodec;
+import org.opennms.netmgt.collection.api.AttributeType;
+import org.opennms.netmgt.collection.api.CollectionSet;
+import org.opennms.netmgt.collection.api.CollectionStatus;
+import org.opennms.netmgt.collection.api.ResourceType;
+import org.opennms.netmgt.collection.api.ResourceTypeMapper;
+import org.opennms.netmgt.collection.dto.CollectionAgentDTO;
+import org.opennms.netmgt.collection.dto.CollectionAttributeDTO;
+import org.opennms.netmgt.collection.dto.CollectionResourceDTO;
+import org.opennms.netmgt.collection.dto.CollectionSetDTO;
+import org.opennms.netmgt.collection.support.builder.Attribute;
+import org.opennms.netmgt.collection.support.builder.DeferredGenericTypeResource;
+import org.opennms.netmgt.collection.support.builder.GenericTypeResource;
+import org.opennms.netmgt.collection.support.builder.InterfaceLevelResource;
+import org.opennms.netmgt.collection.support.builder.NodeLevelResource;
+import org.opennms.netmgt.collection.support.builder.NumericAttribute;
+import org.opennms.netmgt.collection.support.builder.Resource;
+import org.opennms.netmgt.collection.support.builder.StringAttribute;
+import org.opennms.netmgt.model.ResourcePath;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Maps {@link CollectorResponseDTO} to and from {@link CollectorRpcProtos.CollectorResponse}.
+ *
+ * Collection sets are by far the largest payloads exchanged with Minions, so only the responses
+ * are covered; requests are always sent as XML. The mapping follows the JAXB adapters of the
+ * collection DTOs: numeric values are carried as doubles and generic type resources are resolved
+ * with the {@link ResourceTypeMapper} when decoded.
+ */
+public class CollectorResponseProtobufCodec implements ProtobufRpcCodec<CollectorRequestDTO, CollectorResponseDTO> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public MessageLite encodeResponse(CollectorResponseDTO response) {
+        final CollectorRpcProtos.CollectorResponse.Builder builder = CollectorRpcProtos.CollectorResponse.newBuilder();
+        ifSet(response.getErrorMessage(), builder::setError);
+
+        final CollectionSet collectionSet = response.getCollectionSet();
+        if (collectionSet != null) {
+            if (!(collectionSet instanceof CollectionSetDTO)) {
+                return null;
+            }
+            final CollectorRpcProtos.CollectionSet proto = toProto((CollectionSetDTO) collectionSet);
+            if (proto == null) {
+                return null;
+            }
+            builder.setCollectionSet(proto);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public CollectorResponseDTO decodeResponse(CodedInputStream input) throws IOException {
+        final CollectorRpcProtos.CollectorResponse proto = CollectorRpcProtos.CollectorResponse.parseFrom(input);
+        final CollectorResponseDTO response = new CollectorResponseDTO(proto.hasCollectionSet() ? fromProto(proto.getCollectionSet()) : null);
+        if (proto.hasError()) {
+            response.setErrorMessage(proto.getError());
+        }
+        return response;
+    }
+
+    private static CollectorRpcProtos.CollectionSet toProto(CollectionSetDTO collectionSet) {
+        final CollectorRpcProtos.CollectionSet.Builder builder = CollectorRpcProtos.CollectionSet.newBuilder()
+                .setStatus(collectionSet.getStatus().name());
+        if (collectionSet.getCollectionAgent() != null) {
+            builder.setAgent(toProto(collectionSet.getCollectionAgent()));
+        }
+        ifSet(collectionSet.getCollectionTimestamp(), ts -> builder.setTimestamp(ts.getTime()));
+        ifSet(collectionSet.getDisableCounterPersistence(), builder::setDisableCounterPersistence);
+        collectionSet.getSequenceNumber().ifPresent(builder::setSequenceNumber);
+
+        for (final CollectionResourceDTO resource : collectionSet.getCollectionResources()) {
+            final CollectorRpcProtos.CollectionResource.Builder resourceBuilder = CollectorRpcProtos.CollectionResource.newBuilder();
+            if (!setResource(resourceBuilder, resource.getResource())) {
+                return null;
+            }
+            for (final Attribute<?> attribute : resource.getAttributes()) {
+                final CollectorRpcProtos.Attribute attributeProto = toProto(attribute);
+                if (attributeProto == null) {
+                    return null;
+                }
+                resourceBuilder.addAttribute(attributeProto);
+            }
+            builder.addResource(resourceBuilder);
+        }
+        return builder.build();
+    }
+
+    private static CollectorRpcProtos.CollectionAgent toProto(CollectionAgentDTO agent) {
+        final CollectorRpcProtos.CollectionAgent.Builder builder = CollectorRpcProtos.CollectionAgent.newBuilder()
+                .setNodeId(agent.getNodeId())
+                .setSysUpTime(agent.getSavedSysUpTime());
+        for (final CollectionAttributeDTO attribute : agent.getAttributes()) {
+            // Like the XML representation, only string values are carried over
+            final CollectorRpcProtos.AgentAttribute.Builder attributeBuilder = CollectorRpcProtos.AgentAttribute.newBuilder()
+                    .setKey(attribute.getKey());
+            ifSet(attribute.getValue(), attributeBuilder::setValue);
+            builder.addAttribute(attributeBuilder);
+        }
+        ifSet(agent.getAddress(), address -> builder.setAddress(ByteString.copyFrom(address.getAddress())));
+        ifSet(agent.isStoreByForeignSource(), builder::setStoreByForeignSource);
+        ifSet(agent.getNodeLabel(), builder::setNodeLabel);
+        ifSet(agent.getForeignSource(), builder::setForeignSource);
+        ifSet(agent.getForeignId(), builder::setForeignId);
+        ifSet(agent.getLocationName(), builder::setLocation);
+        ifSet(agent.getStorageResourcePath(), path -> builder.setStorageResourcePath(ResourcePath.toString(path)));
+        return builder.build();
+    }
+
+    private static boolean setResource(CollectorRpcProtos.CollectionResource.Builder builder, Resource resource) {
+        if (resource instanceof NodeLevelResource) {
+            builder.setNodeResource(toProto((NodeLevelResource) resource));
+        } else if (resource instanceof InterfaceLevelResource) {
+            final InterfaceLevelResource interfaceResource = (InterfaceLevelResource) resource;
+            final CollectorRpcProtos.InterfaceLevelResource.Builder resourceBuilder = CollectorRpcProtos.InterfaceLevelResource.newBuilder()
+                    .setParent(toProto(interfaceResource.getParent()))
+                    .setIfName(interfaceResource.getIfName());
+            ifSet(interfaceResource.getTimestamp(), ts -> resourceBuilder.setTimestamp(ts.getTime()));
+            builder.setInterfaceResource(resourceBuilder);
+        } else if (resource instanceof DeferredGenericTypeResource) {
+            final DeferredGenericTypeResource genericResource = (DeferredGenericTypeResource) resource;
+            final CollectorRpcProtos.GenericTypeResource.Builder resourceBuilder = CollectorRpcProtos.GenericTypeResource.newBuilder()
+                    .setParent(toProto(genericResource.getParent()))
+                    .setName(genericResource.getTypeName())
+                    .setInstance(genericResource.getInstance());
+            ifSet(genericResource.getFallbackTypeName(), resourceBuilder::setFallback);
+            ifSet(genericResource.getTimestamp(), ts -> resourceBuilder.setTimestamp(ts.getTime()));
+            builder.setGenericResource(resourceBuilder);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static CollectorRpcProtos.NodeLevelResource toProto(NodeLevelResource resource) {
+        final CollectorRpcProtos.NodeLevelResource.Builder builder = CollectorRpcProtos.NodeLevelResource.newBuilder()
+                .setNodeId(resource.getNodeId());
+        ifSet(resource.getPath(), builder::setPath);
+        ifSet(resource.getTimestamp(), ts -> builder.setTimestamp(ts.getTime()));
+        return builder.build();
+    }
+
+    private static CollectorRpcProtos.Attribute toProto(Attribute<?> attribute) {
+        final CollectorRpcProtos.Attribute.Builder builder = CollectorRpcProtos.Attribute.newBuilder()
+                .setGroup(attribute.getGroup())
+                .setName(attribute.getName());
+        switch (attribute.getType()) {
+            case GAUGE:
+                builder.setType(CollectorRpcProtos.AttributeType.GAUGE);
+                break;
+            case COUNTER:
+                builder.setType(CollectorRpcProtos.AttributeType.COUNTER);
+                break;
+            case STRING:
+                builder.setType(CollectorRpcProtos.AttributeType.STRING);
+                break;
+            default:
+                return null;
+        }
+        ifSet(attribute.getIdentifier(), builder::setIdentifier);
+        if (attribute instanceof NumericAttribute) {
+            ifSet(attribute.getNumericValue(), value -> builder.setNumericValue(value.doubleValue()));
+        } else if (attribute instanceof StringAttribute) {
+            ifSet(attribute.getStringValue(), builder::setStringValue);
+        } else {
+            return null;
+        }
+        return builder.build();
+    }
+
+    private static CollectionSetDTO fromProto(CollectorRpcProtos.CollectionSet proto) throws IOException {
+        final Map<Resource, List<Attribute<?>>> attributesByResource = new LinkedHashMap<>();
+        for (final CollectorRpcProtos.CollectionResource resourceProto : proto.getResourceList()) {
+            final List<Attribute<?>> attributes = new ArrayList<>(resourceProto.getAttributeCount());
+            for (final CollectorRpcProtos.Attribute attributeProto : resourceProto.getAttributeList()) {
+                attributes.add(fromProto(attributeProto));
+            }
+            attributesByResource.computeIfAbsent(fromProto(resourceProto), r -> new ArrayList<>()).addAll(attributes);
+        }
+
+        final CollectionAgentDTO agent = proto.hasAgent() ? fromProto(proto.getAgent()) : new CollectionAgentDTO();
+        final CollectionSetDTO collectionSet = new CollectionSetDTO(agent, CollectionStatus.valueOf(proto.getStatus()),
+                proto.hasTimestamp() ? new Date(proto.getTimestamp()) : null, attributesByResource,
+                proto.getDisableCounterPersistence(), proto.hasSequenceNumber() ? proto.getSequenceNumber() : null);
+        // The constructor copies the agent, which does not preserve the order of its attributes
+        collectionSet.setCollectionAgent(proto.hasAgent() ? agent : null);
+        return collectionSet;
+    }
+
+    private static CollectionAgentDTO fromProto(CollectorRpcProtos.CollectionAgent proto) throws IOException {
+        final CollectionAgentDTO agent = new CollectionAgentDTO();
+        for (final CollectorRpcProtos.AgentAttribute attribute : proto.getAttributeList()) {
+            agent.setAttribute(attribute.getKey(), attribute.hasValue() ? attribute.getValue() : null);
+        }
+        if (!proto.getAddress().isEmpty()) {
+            agent.setAddress(toInetAddress(proto.getAddress()));
+        }
+        agent.setStoreByForeignSource(proto.hasStoreByForeignSource() ? proto.getStoreByForeignSource() : null);
+        agent.setNodeId(proto.getNodeId());
+        agent.setNodeLabel(proto.hasNodeLabel() ? proto.getNodeLabel() : null);
+        agent.setForeignSource(proto.hasForeignSource() ? proto.getForeignSource() : null);
+        agent.setForeignId(proto.hasForeignId() ? proto.getForeignId() : null);
+        agent.setLocationName(proto.hasLocation() ? proto.getLocation() : null);
+        agent.setStorageResourcePath(proto.hasStorageResourcePath() ? ResourcePath.fromString(proto.getStorageResourcePath()) : null);
+        agent.setSavedSysUpTime(proto.getSysUpTime());
+        return agent;
+    }
+
+    private static Resource fromProto(CollectorRpcProtos.CollectionResource proto) throws IOException {
+        switch (proto.getResourceCase()) {
+            case NODE_RESOURCE:
+                return fromProto(proto.getNodeResource());
+            case INTERFACE_RESOURCE: {
+                final CollectorRpcProtos.InterfaceLevelResource resourceProto = proto.getInterfaceResource();
+                final InterfaceLevelResource resource = new InterfaceLevelResource(fromProto(resourceProto.getParent()), resourceProto.getIfName());
+                resource.setTimestamp(resourceProto.hasTimestamp() ? new Date(resourceProto.getTimestamp()) : null);
+                return resource;
+            }
+            case GENERIC_RESOURCE: {
+                final CollectorRpcProtos.GenericTypeResource resourceProto = proto.getGenericResource();
+                final String fallback = resourceProto.hasFallback() ? resourceProto.getFallback() : null;
+                final ResourceType resourceType = ResourceTypeMapper.getInstance().getResourceTypeWithFallback(resourceProto.getName(), fallback);
+                if (resourceType == null) {
+                    throw new IllegalArgumentException(String.format("No resource type found with name '%s'!", resourceProto.getName()));
+                }
+                final GenericTypeResource resource = new GenericTypeResource(fromProto(resourceProto.getParent()), resourceType, resourceProto.getInstance());
+                resource.setTimestamp(resourceProto.hasTimestamp() ? new Date(resourceProto.getTimestamp()) : null);
+                return resource;
+            }
+            default:
+                throw new IOException("Collection resource without a resource");
+        }
+    }
+
+    private static NodeLevelResource fromProto(CollectorRpcProtos.NodeLevelResource proto) {
+        final NodeLevelResource resource = new NodeLevelResource(proto.getNodeId(), proto.hasPath() ? proto.getPath() : null);
+        resource.setTimestamp(proto.hasTimestamp() ? new Date(proto.getTimestamp()) : null);
+        return resource;
+    }
+
+    private static Attribute<?> fromProto(CollectorRpcProtos.Attribute proto) throws IOException {
+        final String identifier = proto.hasIdentifier() ? proto.getIdentifier() : null;
+        final AttributeType type;
+        switch (proto.getType()) {
+            case GAUGE:
+                type = AttributeType.GAUGE;
+                break;
+            case COUNTER:
+                type = AttributeType.COUNTER;
+                break;
+            case STRING:
+                type = AttributeType.STRING;
+                break;
+            default:
+                throw new IOException("Unsupported attribute type " + proto.getType());
+        }
+        if (type == AttributeType.STRING) {
+            return new StringAttribute(proto.getGroup(), proto.getName(), proto.hasStringValue() ? proto.getStringValue() : null, identifier);
+        }
+        return new NumericAttribute(proto.getGroup(), proto.getName(), proto.hasNumericValue() ? proto.getNumericValue() : null, type, identifier);
+    }
+
+    private static InetAddress toInetAddress(ByteString address) throws IOException {
+        try {
+            return InetAddress.getByAddress(address.toByteArray());
+        } catch (UnknownHostException e) {
+            throw new IOException("Invalid address of length " + address.size(), e);
+        }
+    }
+
+    private static <V> void ifSet(V value, Consumer<V> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.collection.client.rpc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+import org.opennms.netmgt.collection.api.AttributeType;
+import org.opennms.netmgt.collection.api.ResourceType;
+import org.opennms.netmgt.collection.api.ResourceTypeMapper;
+import org.opennms.netmgt.collection.dto.CollectionAgentDTO;
+import org.opennms.netmgt.collection.support.IndexStorageStrategy;
+import org.opennms.netmgt.collection.support.PersistAllSelectorStrategy;
+import org.opennms.netmgt.collection.support.builder.CollectionSetBuilder;
+import org.opennms.netmgt.collection.support.builder.DeferredGenericTypeResource;
+import org.opennms.netmgt.collection.support.builder.InterfaceLevelResource;
+import org.opennms.netmgt.collection.support.builder.NodeLevelResource;
+
+public class CollectorResponseProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlRpcModule.CODEC_PROPERTY_PREFIX + CollectorClientRpcModule.RPC_MODULE_ID;
+
+    @BeforeClass
+    public static void setUpResourceTypes() {
+        final ResourceType resourceType = mock(ResourceType.class, RETURNS_DEEP_STUBS);
+        when(resourceType.getName()).thenReturn("hrStorageIndex");
+        when(resourceType.getStorageStrategy().getClazz()).thenReturn(IndexStorageStrategy.class.getCanonicalName());
+        when(resourceType.getPersistenceSelectorStrategy().getClazz()).thenReturn(PersistAllSelectorStrategy.class.getCanonicalName());
+        ResourceTypeMapper.getInstance().setResourceTypeMapper(name -> resourceType);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+        System.clearProperty(AbstractXmlRpcModule.COMPRESSION_THRESHOLD_PROPERTY);
+        System.clearProperty(AbstractXmlRpcModule.MAX_INFLATED_SIZE_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripResponses() throws Exception {
+        final CollectorResponseDTO response = createResponse(10);
+        final CollectorClientRpcModule xmlModule = createModule(AbstractXmlRpcModule.CODEC_XML, 0);
+        final CollectorClientRpcModule protobufModule = createModule(AbstractXmlRpcModule.CODEC_PROTOBUF, 0);
+
+        // Plain XML is sent as before, so peers that have not been upgraded can still read it
+        final byte[] xml = xmlModule.marshalResponseToBytes(response);
+        assertArrayEquals(xmlModule.marshalResponse(response).getBytes(StandardCharsets.UTF_8), xml);
+
+        final byte[] protobuf = protobufModule.marshalResponseToBytes(response);
+        assertEquals(0, protobuf[0]);
+        assertTrue("binary encoding should be smaller", protobuf.length < xml.length / 2);
+
+        // Compare against the XML round trip, which resolves the generic type resources in the same way
+        final CollectorResponseDTO expected = xmlModule.unmarshalResponseFromBytes(xml);
+        assertEquals(expected, protobufModule.unmarshalResponseFromBytes(protobuf));
+        assertEquals(expected, xmlModule.unmarshalResponseFromBytes(protobuf));
+        assertEquals(expected, protobufModule.unmarshalResponseFromBytes(xml));
+    }
+
+    @Test
+    public void canRoundTripErrors() {
+        final CollectorClientRpcModule module = createModule(AbstractXmlRpcModule.CODEC_PROTOBUF, 0);
+        final CollectorResponseDTO response = new CollectorResponseDTO(new IllegalStateException("boom"));
+
+        final CollectorResponseDTO decoded = module.unmarshalResponseFromBytes(module.marshalResponseToBytes(response));
+        assertEquals(response.getErrorMessage(), decoded.getErrorMessage());
+        assertEquals(null, decoded.getCollectionSet());
+    }
+
+    @Test
+    public void canCompressLargePayloads() throws Exception {
+        final CollectorResponseDTO response = createResponse(100);
+        final CollectorClientRpcModule xmlModule = createModule(AbstractXmlRpcModule.CODEC_XML, 1024);
+        final CollectorClientRpcModule protobufModule = createModule(AbstractXmlRpcModule.CODEC_PROTOBUF, 1024);
+        final CollectorResponseDTO expected = xmlModule.unmarshalResponse(xmlModule.marshalResponse(response));
+
+        final byte[] compressedXml = xmlModule.marshalResponseToBytes(response);
+        assertEquals(0, compressedXml[0]);
+        assertTrue("compressed XML should be smaller", compressedXml.length < xmlModule.marshalResponse(response).length() / 4);
+        assertEquals(expected, protobufModule.unmarshalResponseFromBytes(compressedXml));
+
+        final byte[] compressedProtobuf = protobufModule.marshalResponseToBytes(response);
+        assertEquals(0, compressedProtobuf[0]);
+        assertEquals(expected, xmlModule.unmarshalResponseFromBytes(compressedProtobuf));
+
+        // Small payloads are left alone
+        final CollectorResponseDTO error = new CollectorResponseDTO(new IllegalStateException("boom"));
+        assertEquals('<', xmlModule.marshalResponseToBytes(error)[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsPayloadsExceedingTheMaximumSizeOnceInflated() throws Exception {
+        final CollectorResponseDTO response = createResponse(100);
+        // The uncompressed message holds the payload behind a three byte header
+        final int size = createModule(AbstractXmlRpcModule.CODEC_PROTOBUF, 0).marshalResponseToBytes(response).length - 3;
+        final byte[] bytes = createModule(AbstractXmlRpcModule.CODEC_PROTOBUF, 1024).marshalResponseToBytes(response);
+        assertTrue("payload should be smaller than the limit", bytes.length < size - 1);
+
+        System.setProperty(AbstractXmlRpcModule.MAX_INFLATED_SIZE_PROPERTY, Integer.toString(size - 1));
+        createModule(AbstractXmlRpcModule.CODEC_PROTOBUF, 0).unmarshalResponseFromBytes(bytes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownVersions() throws Exception {
+        final CollectorClientRpcModule module = createModule(AbstractXmlRpcModule.CODEC_PROTOBUF, 0);
+        final byte[] bytes = module.marshalResponseToBytes(createResponse(1));
+        bytes[2]++;
+        module.unmarshalResponseFromBytes(bytes);
+    }
+
+    private static CollectorClientRpcModule createModule(String codec, int compressionThreshold) {
+        System.setProperty(CODEC_PROPERTY, codec);
+        System.setProperty(AbstractXmlRpcModule.COMPRESSION_THRESHOLD_PROPERTY, Integer.toString(compressionThreshold));
+        final CollectorClientRpcModule module = new CollectorClientRpcModule();
+        // The codec and the threshold are resolved lazily, so force them while the properties are set
+        module.marshalResponseToBytes(new CollectorResponseDTO(new IllegalStateException()));
+        return module;
+    }
+
+    static CollectorResponseDTO createResponse(int interfaces) throws Exception {
+        final CollectionAgentDTO agent = new CollectionAgentDTO();
+        agent.setAddress(InetAddress.getByName("192.168.1.1"));
+        agent.setNodeId(1);
+        agent.setNodeLabel("router");
+        agent.setForeignSource("routers");
+        agent.setForeignId("1");
+        agent.setLocationName("Default");
+        agent.setStoreByForeignSource(true);
+        agent.setSavedSysUpTime(42);
+        agent.setAttribute("SNMP_COLLECTION_NAME", "default");
+        agent.setAttribute("SNMP_AGENT_CONFIG", "v2c");
+
+        // The XML representation has a precision of seconds
+        final Date timestamp = new Date(1_500_000_000_000L);
+        final NodeLevelResource node = new NodeLevelResource(1);
+        final CollectionSetBuilder builder = new CollectionSetBuilder(agent)
+                .withTimestamp(timestamp)
+                .withSequenceNumber(7L)
+                .withGauge(node, "mib2-tcp", "tcpCurrEstab", 12)
+                .withIdentifiedNumericAttribute(new DeferredGenericTypeResource(node, "hrStorageIndex", "1"),
+                        "mib2-host-resources-storage", "hrStorageUsed", 1024, AttributeType.GAUGE, ".1.3.6.1.2.1.25.2.3.1.6.1");
+        for (int i = 0; i < interfaces; i++) {
+            final InterfaceLevelResource iface = new InterfaceLevelResource(node, "eth" + i);
+            iface.setTimestamp(timestamp);
+            builder.withCounter(iface, "mib2-X-interfaces", "ifHCInOctets", 1_000_000L * i)
+                    .withCounter(iface, "mib2-X-interfaces", "ifHCOutOctets", 2_000_000L * i)
+                    .withGauge(iface, "mib2-X-interfaces", "ifHighSpeed", 1000)
+                    .withStringAttribute(iface, "mib2-X-interfaces", "ifAlias", "uplink " + i);
+        }
+        return new CollectorResponseDTO(builder.build());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.collection.client.rpc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the XML and protobuf marshalling of
+ * {@link CollectorClientRpcModule} responses, with and without compression.
+ * <p>
+ * Each call marshals or unmarshals a collection set with {@code interfaces} interface level resources.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CollectorRpcCodecBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Thread)
+    public static class CodecState {
+
+        @Param({"xml", "protobuf"})
+        public String codec;
+
+        @Param({"0", "1024"})
+        public int compressionThreshold;
+
+        @Param({"10", "500"})
+        public int interfaces;
+
+        private CollectorClientRpcModule module;
+        private CollectorResponseDTO response;
+        private byte[] bytes;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            CollectorResponseProtobufCodecTest.setUpResourceTypes();
+            System.setProperty(AbstractXmlRpcModule.CODEC_PROPERTY_PREFIX + CollectorClientRpcModule.RPC_MODULE_ID, codec);
+            System.setProperty(AbstractXmlRpcModule.COMPRESSION_THRESHOLD_PROPERTY, Integer.toString(compressionThreshold));
+            module = new CollectorClientRpcModule();
+            response = CollectorResponseProtobufCodecTest.createResponse(interfaces);
+            bytes = module.marshalResponseToBytes(response);
+        }
+    }
+
+    @Benchmark
+    public byte[] marshal(CodecState state) {
+        return state.module.marshalResponseToBytes(state.response);
+    }
+
+    @Benchmark
+    public CollectorResponseDTO unmarshal(CodecState state) {
+        return state.module.unmarshalResponseFromBytes(state.bytes);
+    }
+}
@@ -90,6 +90,8 @@ public abstract class AbstractThresholdEvaluatorState<T extends AbstractThreshol
 
     private final SerializingBlobStore<T> kvStore;
 
+    private final WriteBehindStateStore writeBehindStore;
+
     protected T state;
     
     protected final ThresholdingSession thresholdingSession;
@@ -169,6 +171,8 @@ public abstract class AbstractThresholdEvaluatorState<T extends AbstractThreshol
 
         this.thresholdingSession = thresholdingSession;
         kvStore = getKvStoreForType(stateType, thresholdingSession.getBlobStore());
+        writeBehindStore = WriteBehindStateStore.forBlobStore(thresholdingSession.getBlobStore(),
+                THRESHOLDING_KV_CONTEXT, stateTTL, lastUpdatedCache::put);
         key = String.format("%d-%s-%s-%s-%s-%s", thresholdingSession.getKey().getNodeId(),
                 thresholdingSession.getKey().getLocation(), threshold.getDsType(),
                 threshold.getDatasourceExpression(), threshold.getType(),
@@ -223,7 +227,16 @@ public abstract class AbstractThresholdEvaluatorState<T extends AbstractThreshol
     }
 
     private void persistStateIfNeeded() {
-        if (shouldPersist()) {
+        if (shouldPersist() && writeBehindStore != null) {
+            try {
+                // The state is serialized now but written along with other states in the next batch, the last
+                // updated cache is maintained by the write-behind store once the batch has been stored
+                writeBehindStore.enqueue(key, fst.asByteArray(state));
+                isStateDirty = false;
+            } catch (RuntimeException e) {
+                RATE_LIMITED_LOGGER.warn("Failed to queue state for threshold {}", key, e);
+            }
+        } else if (shouldPersist()) {
             try {
                 long newTimestamp = kvStore.put(key, state, THRESHOLDING_KV_CONTEXT, stateTTL);
                 lastUpdatedCache.put(key, newTimestamp);
@@ -249,6 +262,11 @@ public abstract class AbstractThresholdEvaluatorState<T extends AbstractThreshol
                 return;
             }
 
+            // Our in-memory state is newer than the persisted one until the pending write has been flushed
+            if (writeBehindStore != null && writeBehindStore.isPending(key)) {
+                return;
+            }
+
             try {
                 Long lastKnownUpdate = lastUpdatedCache.get(key);
 
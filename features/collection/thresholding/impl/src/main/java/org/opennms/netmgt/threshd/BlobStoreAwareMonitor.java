@@ -104,10 +104,19 @@ public class BlobStoreAwareMonitor implements ThresholdStateMonitor {
     }
 
     private void clearSingleStateFromPersistence(String stateKey) {
+        // Make sure a pending write-behind does not resurrect the state after we delete it
+        WriteBehindStateStore writeBehindStore = WriteBehindStateStore.getIfExists(blobStore);
+        if (writeBehindStore != null) {
+            writeBehindStore.discard(stateKey);
+        }
         blobStore.delete(stateKey, AbstractThresholdEvaluatorState.THRESHOLDING_KV_CONTEXT);
     }
 
     private void clearAllStatesFromPersistence() {
+        WriteBehindStateStore writeBehindStore = WriteBehindStateStore.getIfExists(blobStore);
+        if (writeBehindStore != null) {
+            writeBehindStore.discardAll();
+        }
         blobStore.truncateContext(AbstractThresholdEvaluatorState.THRESHOLDING_KV_CONTEXT);
     }
 }
@@ -0,0 +1,294 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.threshd;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.opennms.core.sysprops.SystemProperties;
+import org.opennms.features.distributed.kvstore.api.BlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.jmx.JmxReporter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.swrve.ratelimitedlogger.RateLimitedLog;
+
+/**
+ * Buffers serialized threshold states and writes them to the {@link BlobStore} in batches rather than issuing a
+ * round trip for every evaluation.
+ * <p>
+ * States are keyed by their state key so repeated updates to the same threshold between two flushes are coalesced
+ * and only the latest one is written. The buffer is flushed every {@link #INTERVAL_PROPERTY} milliseconds, as soon as
+ * {@link #BATCH_SIZE_PROPERTY} states are pending and when the JVM shuts down. Once {@link #MAX_PENDING_PROPERTY}
+ * states are pending the thread enqueuing a state flushes synchronously, so a crash loses at most that many updates
+ * and never more than one interval's worth of them.
+ * <p>
+ * Write-behind is disabled by default. When thresholding is distributed across several Sentinels the persisted states
+ * lag the in-memory ones by up to one interval.
+ */
+public class WriteBehindStateStore {
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindStateStore.class);
+    private static final RateLimitedLog RATE_LIMITED_LOGGER = RateLimitedLog
+            .withRateLimit(LOG)
+            .maxRate(5).every(Duration.ofSeconds(30))
+            .build();
+
+    public static final String INTERVAL_PROPERTY = "org.opennms.netmgt.threshd.state_write_behind_interval_ms";
+    public static final String BATCH_SIZE_PROPERTY = "org.opennms.netmgt.threshd.state_write_behind_batch_size";
+    public static final String MAX_PENDING_PROPERTY = "org.opennms.netmgt.threshd.state_write_behind_max_pending";
+
+    private static final String METRICS_DOMAIN = "org.opennms.netmgt.threshd.state";
+
+    /**
+     * A single write-behind store is shared by all the evaluators persisting to a given blob store.
+     */
+    private static final Map<BlobStore, WriteBehindStateStore> stores = new ConcurrentHashMap<>();
+
+    private final BlobStore blobStore;
+    private final String context;
+    private final Integer ttlInSeconds;
+    private final int batchSize;
+    private final int maxPending;
+    private final BiConsumer<String, Long> onPersisted;
+
+    private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    private final MetricRegistry metrics = new MetricRegistry();
+    private final Timer flushTimer = metrics.timer("flush");
+    private final Histogram batchSizes = metrics.histogram("batch-size");
+    private final Counter coalesced = metrics.counter("coalesced");
+    private final Counter failures = metrics.counter("failures");
+    private final Counter dropped = metrics.counter("dropped");
+    private final JmxReporter reporter;
+
+    /**
+     * @return the write-behind store for the given blob store or null if write-behind is disabled
+     */
+    static WriteBehindStateStore forBlobStore(BlobStore blobStore, String context, Integer ttlInSeconds,
+                                              BiConsumer<String, Long> onPersisted) {
+        long intervalMs = SystemProperties.getLong(INTERVAL_PROPERTY, 0);
+        if (intervalMs <= 0) {
+            return null;
+        }
+        return stores.computeIfAbsent(blobStore, bs -> {
+            int batchSize = SystemProperties.getInteger(BATCH_SIZE_PROPERTY, 500);
+            int maxPending = SystemProperties.getInteger(MAX_PENDING_PROPERTY, batchSize * 10);
+            WriteBehindStateStore store = new WriteBehindStateStore(bs, context, ttlInSeconds, intervalMs, batchSize,
+                    maxPending, onPersisted);
+            Runtime.getRuntime().addShutdownHook(new Thread(store::close, "threshd-state-write-behind-shutdown"));
+            return store;
+        });
+    }
+
+    /**
+     * @return the write-behind store already created for the given blob store, if any
+     */
+    static WriteBehindStateStore getIfExists(BlobStore blobStore) {
+        return stores.get(blobStore);
+    }
+
+    @VisibleForTesting
+    WriteBehindStateStore(BlobStore blobStore, String context, Integer ttlInSeconds, long intervalMs, int batchSize,
+                          int maxPending, BiConsumer<String, Long> onPersisted) {
+        this.blobStore = Objects.requireNonNull(blobStore);
+        this.context = Objects.requireNonNull(context);
+        this.ttlInSeconds = ttlInSeconds;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPending = Math.max(this.batchSize, maxPending);
+        this.onPersisted = Objects.requireNonNull(onPersisted);
+
+        metrics.register("pending", (Gauge<Integer>) pending::size);
+        reporter = JmxReporter.forRegistry(metrics)
+                .inDomain(METRICS_DOMAIN)
+                .build();
+        reporter.start();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("threshd-state-write-behind-%d")
+                .setDaemon(true)
+                .build());
+        if (intervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Queues the serialized state for the given key, replacing any state for the key that has not been written yet.
+     */
+    void enqueue(String key, byte[] serializedState) {
+        if (pending.put(key, serializedState) != null) {
+            coalesced.inc();
+        }
+
+        int size = pending.size();
+        if (size >= maxPending) {
+            // Apply back-pressure so that the number of updates we could lose stays bounded
+            flush();
+            if (pending.size() > maxPending && pending.remove(key, serializedState)) {
+                // The store is failing and the buffer is full, treat this like a failed synchronous put
+                dropped.inc();
+                RATE_LIMITED_LOGGER.warn("Dropped state for threshold {} since the store is not keeping up", key);
+            }
+        } else if (size >= batchSize) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * @return true if a state for the given key is waiting to be written
+     */
+    boolean isPending(String key) {
+        return pending.containsKey(key);
+    }
+
+    /**
+     * Drops the pending state for the given key. Once this returns no write for the key is in flight.
+     */
+    void discard(String key) {
+        flushLock.lock();
+        try {
+            pending.remove(key);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Drops all pending states. Once this returns no write is in flight.
+     */
+    void discardAll() {
+        flushLock.lock();
+        try {
+            pending.clear();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes all of the pending states in batches of at most the configured batch size.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            // Only drain what is pending now so that a steady stream of updates can not keep us here indefinitely
+            int batches = (pending.size() + batchSize - 1) / batchSize;
+            for (int i = 0; i < batches; i++) {
+                Map<String, byte[]> batch = takeBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                if (!writeBatch(batch)) {
+                    // Leave the remaining states for the next attempt rather than hammering a failing store
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            RATE_LIMITED_LOGGER.warn("Failed to flush threshold states", e);
+        }
+    }
+
+    private Map<String, byte[]> takeBatch() {
+        Map<String, byte[]> batch = new HashMap<>();
+        Iterator<Map.Entry<String, byte[]>> it = pending.entrySet().iterator();
+        while (it.hasNext() && batch.size() < batchSize) {
+            Map.Entry<String, byte[]> entry = it.next();
+            // Only take the entry if it has not been replaced by a newer state since we looked at it
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    private boolean writeBatch(Map<String, byte[]> batch) {
+        batchSizes.update(batch.size());
+        try (Timer.Context ignored = flushTimer.time()) {
+            Map<String, Long> timestamps = blobStore.putAll(batch, context, ttlInSeconds);
+            timestamps.forEach(onPersisted);
+            return true;
+        } catch (RuntimeException e) {
+            failures.inc();
+            RATE_LIMITED_LOGGER.warn("Failed to store {} threshold states", batch.size(), e);
+            requeue(batch);
+            return false;
+        }
+    }
+
+    private void requeue(Map<String, byte[]> batch) {
+        List<String> droppedKeys = new ArrayList<>();
+        batch.forEach((key, state) -> {
+            // A newer state for the key may have been queued in the meantime, in which case it takes precedence
+            if (pending.size() < maxPending) {
+                pending.putIfAbsent(key, state);
+            } else if (!pending.containsKey(key)) {
+                droppedKeys.add(key);
+            }
+        });
+        if (!droppedKeys.isEmpty()) {
+            dropped.inc(droppedKeys.size());
+            RATE_LIMITED_LOGGER.warn("Dropped {} threshold states that could not be stored", droppedKeys.size());
+        }
+    }
+
+    /**
+     * Flushes the pending states and stops the periodic flush.
+     */
+    void close() {
+        scheduler.shutdown();
+        flushQuietly();
+        reporter.stop();
+    }
+
+    @VisibleForTesting
+    MetricRegistry getMetrics() {
+        return metrics;
+    }
+}
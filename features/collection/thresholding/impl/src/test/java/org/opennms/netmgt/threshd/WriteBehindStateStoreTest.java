@@ -0,0 +1,138 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.threshd;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.features.distributed.kvstore.api.BlobStore;
+import org.opennms.features.distributed.kvstore.blob.inmemory.InMemoryMapBlobStore;
+
+public class WriteBehindStateStoreTest {
+    private static final String CONTEXT = AbstractThresholdEvaluatorState.THRESHOLDING_KV_CONTEXT;
+
+    private final Map<String, Long> persisted = new ConcurrentHashMap<>();
+
+    private WriteBehindStateStore writeBehindStore;
+
+    @After
+    public void tearDown() {
+        if (writeBehindStore != null) {
+            writeBehindStore.close();
+        }
+    }
+
+    @Test
+    public void canCoalesceUpdatesUntilFlushed() {
+        BlobStore blobStore = InMemoryMapBlobStore.withDefaultTicks();
+        writeBehindStore = new WriteBehindStateStore(blobStore, CONTEXT, null, 0, 100, 1000, persisted::put);
+
+        writeBehindStore.enqueue("a", new byte[]{1});
+        writeBehindStore.enqueue("a", new byte[]{2});
+        writeBehindStore.enqueue("b", new byte[]{3});
+
+        assertTrue(writeBehindStore.isPending("a"));
+        assertFalse(blobStore.get("a", CONTEXT).isPresent());
+
+        writeBehindStore.flush();
+
+        assertFalse(writeBehindStore.isPending("a"));
+        assertArrayEquals(new byte[]{2}, blobStore.get("a", CONTEXT).get());
+        assertArrayEquals(new byte[]{3}, blobStore.get("b", CONTEXT).get());
+        assertEquals(blobStore.getLastUpdated("a", CONTEXT).getAsLong(), (long) persisted.get("a"));
+        assertEquals(blobStore.getLastUpdated("b", CONTEXT).getAsLong(), (long) persisted.get("b"));
+
+        assertEquals(1, writeBehindStore.getMetrics().counter("coalesced").getCount());
+        assertEquals(1, writeBehindStore.getMetrics().histogram("batch-size").getCount());
+        assertEquals(1, writeBehindStore.getMetrics().timer("flush").getCount());
+    }
+
+    @Test
+    public void canFlushSynchronouslyWhenTooManyArePending() {
+        BlobStore blobStore = InMemoryMapBlobStore.withDefaultTicks();
+        writeBehindStore = new WriteBehindStateStore(blobStore, CONTEXT, null, 0, 2, 4, persisted::put);
+
+        for (int i = 0; i < 4; i++) {
+            writeBehindStore.enqueue("key" + i, new byte[]{(byte) i});
+        }
+
+        // The last enqueue hit the limit and must have written everything before returning
+        for (int i = 0; i < 4; i++) {
+            assertFalse(writeBehindStore.isPending("key" + i));
+            assertArrayEquals(new byte[]{(byte) i}, blobStore.get("key" + i, CONTEXT).get());
+        }
+    }
+
+    @Test
+    public void canRetryFailedBatches() {
+        BlobStore blobStore = mock(BlobStore.class);
+        when(blobStore.putAll(anyMap(), anyString(), any()))
+                .thenThrow(new RuntimeException("unavailable"))
+                .thenReturn(Collections.singletonMap("a", 42L));
+        writeBehindStore = new WriteBehindStateStore(blobStore, CONTEXT, 60, 0, 100, 1000, persisted::put);
+
+        writeBehindStore.enqueue("a", new byte[]{1});
+        writeBehindStore.flush();
+
+        assertTrue(writeBehindStore.isPending("a"));
+        assertTrue(persisted.isEmpty());
+        assertEquals(1, writeBehindStore.getMetrics().counter("failures").getCount());
+
+        writeBehindStore.flush();
+
+        assertFalse(writeBehindStore.isPending("a"));
+        assertEquals(42L, (long) persisted.get("a"));
+    }
+
+    @Test
+    public void canDiscardPendingStates() {
+        BlobStore blobStore = InMemoryMapBlobStore.withDefaultTicks();
+        writeBehindStore = new WriteBehindStateStore(blobStore, CONTEXT, null, 0, 100, 1000, persisted::put);
+
+        writeBehindStore.enqueue("a", new byte[]{1});
+        writeBehindStore.enqueue("b", new byte[]{2});
+        writeBehindStore.discard("a");
+        writeBehindStore.flush();
+
+        assertFalse(blobStore.get("a", CONTEXT).isPresent());
+        assertTrue(blobStore.get("b", CONTEXT).isPresent());
+
+        writeBehindStore.enqueue("c", new byte[]{3});
+        writeBehindStore.discardAll();
+        writeBehindStore.flush();
+
+        assertFalse(blobStore.get("c", CONTEXT).isPresent());
+    }
+}
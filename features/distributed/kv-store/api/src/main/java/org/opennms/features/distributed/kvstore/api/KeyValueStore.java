@@ -21,6 +21,7 @@
  */
 package org.opennms.features.distributed.kvstore.api;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -61,6 +62,24 @@ public interface KeyValueStore<T> {
      */
     long put(String key, T value, String context, Integer ttlInSeconds);
 
+    /**
+     * Put several values in the same context with a suggested time-to-live.
+     * <p>
+     * The default implementation puts the values one at a time. Implementations that are able to write several
+     * values in a single round trip should override this. The values are not guaranteed to be written atomically, if
+     * this call fails some of the values may have been persisted.
+     *
+     * @param values       the values to persist keyed by key
+     * @param context      a context used to differentiate between keys with the same name (forms a compound key)
+     * @param ttlInSeconds the time to live in seconds for these keys or no ttl if null
+     * @return the timestamps the values were persisted with keyed by key
+     */
+    default Map<String, Long> putAll(Map<String, T> values, String context, Integer ttlInSeconds) {
+        Map<String, Long> timestamps = new HashMap<>();
+        values.forEach((key, value) -> timestamps.put(key, put(key, value, context, ttlInSeconds)));
+        return timestamps;
+    }
+
     /**
      * @param context a context used to differentiate between keys with the same name (forms a compound key)
      * @return an optional containing the value if present or empty if the key did not exist
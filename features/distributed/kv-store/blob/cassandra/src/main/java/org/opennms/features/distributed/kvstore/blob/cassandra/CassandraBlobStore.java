@@ -112,6 +112,18 @@ public class CassandraBlobStore extends AbstractKeyValueStore<byte[]> implements
         return timestamp;
     }
 
+    @Override
+    public Map<String, Long> putAll(Map<String, byte[]> values, String context, Integer ttlInSeconds) {
+        // Issue all of the inserts concurrently rather than waiting on each round trip in turn
+        Map<String, CompletableFuture<Long>> futures = new HashMap<>();
+        values.forEach((key, value) -> futures.put(key, putAsync(key, value, context, ttlInSeconds)));
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+
+        Map<String, Long> timestamps = new HashMap<>();
+        futures.forEach((key, future) -> timestamps.put(key, future.join()));
+        return timestamps;
+    }
+
     @Override
     public Optional<byte[]> get(String key, String context) {
         // Cassandra will throw a runtime exception here if the execution fails
@@ -27,6 +27,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -104,6 +105,28 @@ public abstract class AbstractPostgresKeyValueStore<T, S> extends AbstractAsyncK
                 getTableName(), CONTEXT_COLUMN));
     }
 
+    private void bindUpsertStatement(PreparedStatement upsertStatement, String key, T value, String context,
+                                     Integer ttlInSeconds, long now) throws SQLException {
+        // The below sets the prepared values for both the INSERT and UPDATE cases hence some values being 
+        // repeated
+        upsertStatement.setString(1, key);
+        upsertStatement.setString(2, context);
+        upsertStatement.setTimestamp(3, new java.sql.Timestamp(now));
+        upsertStatement.setTimestamp(6, new java.sql.Timestamp(now));
+
+        if (ttlInSeconds != null) {
+            long expireTime = now + TimeUnit.MILLISECONDS.convert(ttlInSeconds, TimeUnit.SECONDS);
+            upsertStatement.setTimestamp(4, new java.sql.Timestamp(expireTime));
+            upsertStatement.setTimestamp(7, new java.sql.Timestamp(expireTime));
+        } else {
+            upsertStatement.setNull(4, Types.DATE);
+            upsertStatement.setNull(7, Types.DATE);
+        }
+
+        upsertStatement.setObject(5, getSQLTypeFromValueType(value));
+        upsertStatement.setObject(8, getSQLTypeFromValueType(value));
+    }
+
     @Override
     public long put(String key, T value, String context, Integer ttlInSeconds) {
         Objects.requireNonNull(key);
@@ -112,30 +135,40 @@ public abstract class AbstractPostgresKeyValueStore<T, S> extends AbstractAsyncK
         long now = System.currentTimeMillis();
 
         withStatement(this::getUpsertStatement, upsertStatement -> {
-            // The below sets the prepared values for both the INSERT and UPDATE cases hence some values being 
-            // repeated
-            upsertStatement.setString(1, key);
-            upsertStatement.setString(2, context);
-            upsertStatement.setTimestamp(3, new java.sql.Timestamp(now));
-            upsertStatement.setTimestamp(6, new java.sql.Timestamp(now));
-
-            if (ttlInSeconds != null) {
-                long expireTime = now + TimeUnit.MILLISECONDS.convert(ttlInSeconds, TimeUnit.SECONDS);
-                upsertStatement.setTimestamp(4, new java.sql.Timestamp(expireTime));
-                upsertStatement.setTimestamp(7, new java.sql.Timestamp(expireTime));
-            } else {
-                upsertStatement.setNull(4, Types.DATE);
-                upsertStatement.setNull(7, Types.DATE);
-            }
-
-            upsertStatement.setObject(5, getSQLTypeFromValueType(value));
-            upsertStatement.setObject(8, getSQLTypeFromValueType(value));
+            bindUpsertStatement(upsertStatement, key, value, context, ttlInSeconds, now);
             return upsertStatement.execute();
         });
 
         return now;
     }
 
+    @Override
+    public Map<String, Long> putAll(Map<String, T> values, String context, Integer ttlInSeconds) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(context);
+
+        if (values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        long now = System.currentTimeMillis();
+
+        // All of the upserts share a single connection and are sent to the database as one JDBC batch
+        withStatement(this::getUpsertStatement, upsertStatement -> {
+            for (Map.Entry<String, T> entry : values.entrySet()) {
+                Objects.requireNonNull(entry.getKey());
+                Objects.requireNonNull(entry.getValue());
+                bindUpsertStatement(upsertStatement, entry.getKey(), entry.getValue(), context, ttlInSeconds, now);
+                upsertStatement.addBatch();
+            }
+            return upsertStatement.executeBatch();
+        });
+
+        Map<String, Long> timestamps = new HashMap<>();
+        values.keySet().forEach(key -> timestamps.put(key, now));
+        return timestamps;
+    }
+
     @Override
     public Optional<T> get(String key, String context) {
         Objects.requireNonNull(key);
@@ -40,6 +40,7 @@ import org.opennms.netmgt.enlinkd.service.api.BridgeTopologyException;
 import org.opennms.netmgt.enlinkd.service.api.BridgeTopologyService;
 import org.opennms.netmgt.enlinkd.service.api.BroadcastDomain;
 import org.opennms.netmgt.enlinkd.service.api.DiscoveryBridgeTopology;
+import org.opennms.netmgt.enlinkd.service.api.MacAddressSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,7 +63,7 @@ public class DiscoveryBridgeDomains extends Schedulable {
     }
 
     public static boolean checkMacSets(Set<String> setA, Set<String> setB) {
-        Set<String> retainedSet = new HashSet<>(setB);
+        Set<String> retainedSet = new MacAddressSet(setB);
         retainedSet.retainAll(setA);
         // should contain at list 20 or 50% of the all size
         return retainedSet.size() > DOMAIN_MATCH_MIN_SIZE
@@ -138,7 +139,7 @@ public class DiscoveryBridgeDomains extends Schedulable {
                 continue;
             }
             nodeBft.put(nodeid, links);
-            Set<String> macs = new HashSet<>();
+            Set<String> macs = new MacAddressSet();
             for (BridgeForwardingTableEntry link : links) {
                 macs.add(link.getMacAddress());
             }
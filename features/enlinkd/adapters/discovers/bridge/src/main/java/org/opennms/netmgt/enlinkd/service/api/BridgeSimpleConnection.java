@@ -21,7 +21,6 @@
  */
 package org.opennms.netmgt.enlinkd.service.api;
 
-import java.util.HashSet;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -336,19 +335,27 @@ public class BridgeSimpleConnection implements Topology {
             BridgeForwardingTable bftA,
             BridgeForwardingTable bftB) {
 
-        Set<String> commonLearnedMacs = new HashSet<>(bftA.getBftMacs());
-        commonLearnedMacs.retainAll(new HashSet<>(bftB.getBftMacs()));
-        String[] array = commonLearnedMacs.toArray(new String[0]);
+        Set<String> commonLearnedMacs = new MacAddressSet(bftA.getBftMacs());
+        commonLearnedMacs.retainAll(bftB.getBftMacs());
+        // look up the ports only once, the pairs are compared by port number
+        final BridgePort[] portsA = new BridgePort[commonLearnedMacs.size()];
+        final int[] bridgePortsA = new int[portsA.length];
+        final int[] bridgePortsB = new int[portsA.length];
+        int k = 0;
+        for (String mac : commonLearnedMacs) {
+            portsA[k] = bftA.getMactoport().get(mac);
+            bridgePortsA[k] = portsA[k].getBridgePort();
+            bridgePortsB[k] = bftB.getMactoport().get(mac).getBridgePort();
+            k++;
+        }
 
-        for (int i=0; i < array.length; i++) {
-            BridgePort pab = bftA.getMactoport().get(array[i]);
-            BridgePort pb1 = bftB.getMactoport().get(array[i]);
-            for (int j=i+1; j < array.length; j++) {
-                if (bftB.getMactoport().get(array[j]).getBridgePort().intValue() == pb1.getBridgePort().intValue()) {
+        for (int i=0; i < portsA.length; i++) {
+            for (int j=i+1; j < portsA.length; j++) {
+                if (bridgePortsB[j] == bridgePortsB[i]) {
                     continue;
                 }
-                if (bftA.getMactoport().get(array[j]).getBridgePort().intValue() == pab.getBridgePort().intValue()) {
-                    return pab;
+                if (bridgePortsA[j] == bridgePortsA[i]) {
+                    return portsA[i];
                 }
             }
         }
@@ -123,7 +123,7 @@ public class DiscoveryBridgeTopology {
 
             BridgePortWithMacs bpwm = bridgeFt.getBridgePortWithMacs(bridgeport);
             if (bpwm == null ) {
-                bridgeFt.getPorttomac().add(new BridgePortWithMacs(bridgeport, new HashSet<>()));
+                bridgeFt.getPorttomac().add(new BridgePortWithMacs(bridgeport, new MacAddressSet()));
             }
             bridgeFt.getBridgePortWithMacs(bridgeport).getMacs().add(link.getMacAddress());
 
@@ -224,7 +224,7 @@ public class DiscoveryBridgeTopology {
             }
 
             if (!bft.containsKey(bridgeport)) {
-                bft.put(bridgeport, new HashSet<>());
+                bft.put(bridgeport, new MacAddressSet());
             }
             bft.get(bridgeport).addAll(segment.getMacsOnSegment());
         }
@@ -35,7 +35,7 @@ public class BridgeForwardingTable implements Topology {
 
     private final Bridge m_bridge;
     private final Set<BridgeForwardingTableEntry> m_entries;
-    private Map<String, BridgePort> m_mactoport = new HashMap<>();
+    private Map<String, BridgePort> m_mactoport = new MacAddressMap<>();
     private Map<String, Set<BridgePort>> m_duplicated = new HashMap<>();
     private final Set<BridgePortWithMacs> m_porttomac = new HashSet<>();
 
@@ -22,6 +22,7 @@
 package org.opennms.netmgt.enlinkd.service.api;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -63,7 +64,7 @@ public class BroadcastDomain implements Topology {
             SharedSegment splitsegment = new SharedSegment();
             splitsegment.getBridgePortsOnSegment().add(designated.getPort());
             splitsegment.setDesignatedBridge(designated.getPort().getNodeId());
-            Set<String> macs = new HashSet<>(designated.getMacs());
+            Set<String> macs = new MacAddressSet(designated.getMacs());
             ports.forEach(bft ->
             {
                 macs.retainAll(bft.getMacs());
@@ -76,31 +77,25 @@ public class BroadcastDomain implements Topology {
             cleanForwarders(macs);
         });
 
-        //Add macs from forwarders
-        Map<String, Integer> forfpmacs = new HashMap<>();
-        upsegment.getBridgePortsOnSegment().forEach(port ->
-        {
+        //Add macs from forwarders: a bit for each port on segment forwarding the mac
+        Map<String, BitSet> forfpmacs = new MacAddressMap<>();
+        int portindex = 0;
+        for (BridgePort port : upsegment.getBridgePortsOnSegment()) {
+            final int bit = portindex++;
             getForwarders(port.getNodeId()).stream().filter(forward -> forward.getPort().equals(port)).
             forEach( forward ->
-                    forward.getMacs().forEach(mac -> {
-                        int itemsfound=1;
-                        if (forfpmacs.containsKey(mac)) {
-                            itemsfound = forfpmacs.get(mac);
-                            itemsfound++;
-                        }
-                        forfpmacs.put(mac, itemsfound);
-                    }));
+                    forward.getMacs().forEach(mac -> forfpmacs.computeIfAbsent(mac, k -> new BitSet()).set(bit)));
 
-            Set<String> clearmacs = new HashSet<>();
-            forfpmacs.keySet().forEach(mac -> {
-                if (forfpmacs.get(mac) == upsegment.getBridgePortsOnSegment().size()) {
+            Set<String> clearmacs = new MacAddressSet();
+            forfpmacs.forEach((mac, ports) -> {
+                if (ports.cardinality() == upsegment.getBridgePortsOnSegment().size()) {
                     upsegment.getMacsOnSegment().add(mac);
                     clearmacs.add(mac);
                 }
             });
             cleanForwarders(clearmacs);
 
-        });
+        }
 
         upsegment.getBridgePortsOnSegment().add(rootport);
         upsegment.getMacsOnSegment().retainAll(macsonsegment);
@@ -221,25 +216,35 @@ public class BroadcastDomain implements Topology {
         }
 
         setTopology(topology);
-        //assigning again the forwarders to segment if is the case
-        Map<String, Set<BridgePort>> forwardermap = new HashMap<>();
+        //assigning again the forwarders to segment if is the case:
+        //a bit for each forwarding port on the mac
+        List<BridgePort> forwarderports = new ArrayList<>();
+        Map<BridgePort, Integer> forwarderindex = new HashMap<>();
+        Map<String, BitSet> forwardermap = new MacAddressMap<>();
         for (BridgePortWithMacs forwarder: getForwarding()) {
+            Integer bit = forwarderindex.get(forwarder.getPort());
+            if (bit == null) {
+                bit = forwarderports.size();
+                forwarderports.add(forwarder.getPort());
+                forwarderindex.put(forwarder.getPort(), bit);
+            }
             for (String mac: forwarder.getMacs()) {
-                if (!forwardermap.containsKey(mac)) {
-                    forwardermap.put(mac, new HashSet<>());
-                }
-                forwardermap.get(mac).add(forwarder.getPort());
+                forwardermap.computeIfAbsent(mac, k -> new BitSet()).set(bit);
             }
         }
 
-        for (String mac: forwardermap.keySet()) {
-            SharedSegment first = getSharedSegment(forwardermap.get(mac).iterator().next());
+        NEXT: for (Map.Entry<String, BitSet> entry: forwardermap.entrySet()) {
+            SharedSegment first = getSharedSegment(forwarderports.get(entry.getValue().nextSetBit(0)));
             if (first == null) {
                 continue;
             }
-            if (forwardermap.get(mac).containsAll(first.getBridgePortsOnSegment())) {
-                first.getMacsOnSegment().add(mac);
+            for (BridgePort port: first.getBridgePortsOnSegment()) {
+                Integer bit = forwarderindex.get(port);
+                if (bit == null || !entry.getValue().get(bit)) {
+                    continue NEXT;
+                }
             }
+            first.getMacsOnSegment().add(entry.getKey());
         }
         cleanForwarders();
     }
@@ -298,7 +303,7 @@ public class BroadcastDomain implements Topology {
     }
 
     public void addforwarders(BridgeForwardingTable bridgeFT) {
-        Set<String> macs = new HashSet<>(getMacsOnSegments());
+        Set<String> macs = getMacsOnSegments();
         cleanForwarders(bridgeFT.getNodeId());
         for (String forward :  bridgeFT.getMactoport().keySet()) {
             if (macs.contains(forward)) {
@@ -333,7 +338,7 @@ public class BroadcastDomain implements Topology {
                 return;
             }
         }
-        BridgePortWithMacs bpm = new BridgePortWithMacs(forwardport,new HashSet<>());
+        BridgePortWithMacs bpm = new BridgePortWithMacs(forwardport,new MacAddressSet());
         bpm.getMacs().add(forwardmac);
         m_forwarding.add(bpm);
     }
@@ -401,7 +406,7 @@ public class BroadcastDomain implements Topology {
     }
 
     public Set<String> getMacsOnSegments() {
-        Set<String>macs = new HashSet<>();
+        Set<String>macs = new MacAddressSet();
         for (SharedSegment segment: m_topology) 
             macs.addAll(segment.getMacsOnSegment());
         return macs;
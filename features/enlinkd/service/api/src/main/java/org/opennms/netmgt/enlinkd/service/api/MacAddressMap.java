@@ -0,0 +1,399 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.enlinkd.service.api;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link Map} keyed by MAC address, the counterpart of {@link MacAddressSet}.
+ *
+ * Keys in the form used by the forwarding tables are stored as 48-bit {@code long}s in an open-addressing table with
+ * the values in a parallel array, any other key is kept in an overflow map.
+ */
+public class MacAddressMap<V> extends AbstractMap<String, V> {
+
+    private long[] m_keys;
+    private Object[] m_values;
+    private int m_size;
+    private int m_used;
+    private Map<String, V> m_other;
+    private int m_modCount;
+
+    public MacAddressMap() {
+        this(0);
+    }
+
+    public MacAddressMap(int expectedSize) {
+        allocate(MacAddressSet.capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        m_keys = new long[capacity];
+        Arrays.fill(m_keys, MacAddressSet.FREE);
+        m_values = new Object[capacity];
+    }
+
+    @Override
+    public int size() {
+        return m_size + (m_other == null ? 0 : m_other.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private int indexOf(long key) {
+        return MacAddressSet.indexOf(m_keys, key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String)) {
+            return false;
+        }
+        final long value = MacAddressSet.encode((String) key);
+        if (value < 0) {
+            return m_other != null && m_other.containsKey(key);
+        }
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final long value = MacAddressSet.encode((String) key);
+        if (value < 0) {
+            return m_other == null ? null : m_other.get(key);
+        }
+        final int i = indexOf(value);
+        return i < 0 ? null : (V) m_values[i];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(String key, V v) {
+        final long value = MacAddressSet.encode(key);
+        if (value < 0) {
+            if (m_other == null) {
+                m_other = new HashMap<>();
+            }
+            if (!m_other.containsKey(key)) {
+                m_modCount++;
+            }
+            return m_other.put(key, v);
+        }
+        int i = indexOf(value);
+        if (i >= 0) {
+            final V old = (V) m_values[i];
+            m_values[i] = v;
+            return old;
+        }
+        if ((m_used + 1) * 2L > m_keys.length) {
+            rehash(MacAddressSet.capacityFor(m_size + 1));
+        }
+        final int mask = m_keys.length - 1;
+        i = MacAddressSet.slot(value, mask);
+        while (m_keys[i] >= 0) {
+            i = (i + 1) & mask;
+        }
+        if (m_keys[i] == MacAddressSet.FREE) {
+            m_used++;
+        }
+        m_keys[i] = value;
+        m_values[i] = v;
+        m_size++;
+        m_modCount++;
+        return null;
+    }
+
+    private void rehash(int capacity) {
+        final long[] keys = m_keys;
+        final Object[] values = m_values;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int j = 0; j < keys.length; j++) {
+            if (keys[j] < 0) {
+                continue;
+            }
+            int i = MacAddressSet.slot(keys[j], mask);
+            while (m_keys[i] != MacAddressSet.FREE) {
+                i = (i + 1) & mask;
+            }
+            m_keys[i] = keys[j];
+            m_values[i] = values[j];
+        }
+        m_used = m_size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final long value = MacAddressSet.encode((String) key);
+        if (value < 0) {
+            if (m_other == null || !m_other.containsKey(key)) {
+                return null;
+            }
+            m_modCount++;
+            return m_other.remove(key);
+        }
+        final int i = indexOf(value);
+        if (i < 0) {
+            return null;
+        }
+        final V old = (V) m_values[i];
+        removeAt(i);
+        return old;
+    }
+
+    private void removeAt(int i) {
+        m_keys[i] = MacAddressSet.REMOVED;
+        m_values[i] = null;
+        m_size--;
+        m_modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (m_used > 0) {
+            Arrays.fill(m_keys, MacAddressSet.FREE);
+            Arrays.fill(m_values, null);
+        }
+        m_size = 0;
+        m_used = 0;
+        m_other = null;
+        m_modCount++;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new KeySet();
+    }
+
+    /**
+     * The keys of the map, which {@link MacAddressSet} copies and intersects without decoding them.
+     */
+    final class KeySet extends AbstractSet<String> {
+        long[] table() {
+            return m_keys;
+        }
+
+        Set<String> other() {
+            return m_other == null ? null : m_other.keySet();
+        }
+
+        @Override
+        public int size() {
+            return MacAddressMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!containsKey(o)) {
+                return false;
+            }
+            MacAddressMap.this.remove(o);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            MacAddressMap.this.clear();
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            final Iterator<Entry<String, V>> entries = new EntryIterator();
+            return new Iterator<String>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return entries.next().getKey();
+                }
+
+                @Override
+                public void remove() {
+                    entries.remove();
+                }
+            };
+        }
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public int size() {
+                return MacAddressMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                MacAddressMap.this.clear();
+            }
+
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+        private int m_next = advance(0);
+        private int m_last = -1;
+        private Iterator<Entry<String, V>> m_otherIterator;
+        private int m_expectedModCount = m_modCount;
+
+        private int advance(int i) {
+            while (i < m_keys.length && m_keys[i] < 0) {
+                i++;
+            }
+            return i;
+        }
+
+        private Iterator<Entry<String, V>> otherIterator() {
+            if (m_otherIterator == null) {
+                m_otherIterator = m_other == null ? null : m_other.entrySet().iterator();
+            }
+            return m_otherIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (m_next < m_keys.length) {
+                return true;
+            }
+            final Iterator<Entry<String, V>> other = otherIterator();
+            return other != null && other.hasNext();
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if (m_expectedModCount != m_modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (m_next < m_keys.length) {
+                m_last = m_next;
+                m_next = advance(m_next + 1);
+                return new TableEntry(m_last);
+            }
+            final Iterator<Entry<String, V>> other = otherIterator();
+            if (other == null) {
+                throw new NoSuchElementException();
+            }
+            m_last = -1;
+            return other.next();
+        }
+
+        @Override
+        public void remove() {
+            if (m_expectedModCount != m_modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (m_last >= 0) {
+                if (m_keys[m_last] < 0) {
+                    throw new IllegalStateException();
+                }
+                removeAt(m_last);
+            } else if (m_otherIterator != null) {
+                m_otherIterator.remove();
+                m_modCount++;
+            } else {
+                throw new IllegalStateException();
+            }
+            m_expectedModCount = m_modCount;
+        }
+    }
+
+    private final class TableEntry implements Entry<String, V> {
+        private final int m_index;
+        private final String m_key;
+
+        private TableEntry(int index) {
+            m_index = index;
+            m_key = MacAddressSet.decode(m_keys[index]);
+        }
+
+        @Override
+        public String getKey() {
+            return m_key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) m_values[m_index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            final V old = (V) m_values[m_index];
+            m_values[m_index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> that = (Entry<?, ?>) o;
+            return m_key.equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return m_key.hashCode() ^ (getValue() == null ? 0 : getValue().hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return m_key + "=" + getValue();
+        }
+    }
+}
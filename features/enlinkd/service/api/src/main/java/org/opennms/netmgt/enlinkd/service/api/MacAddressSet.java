@@ -0,0 +1,467 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.enlinkd.service.api;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Set} of MAC addresses tuned for the bridge topology algorithms.
+ *
+ * MAC addresses in the form used by the forwarding tables (twelve lower case hex digits) are stored as 48-bit
+ * {@code long}s in an open-addressing table, which avoids a {@link String} and a hash map node per address and makes
+ * copying and intersecting sets cheap. Any other string is kept as is in an overflow set, so the set behaves exactly
+ * like a {@link HashSet} of strings, apart from the iteration order.
+ */
+public class MacAddressSet extends AbstractSet<String> {
+
+    static final long FREE = -1L;
+    static final long REMOVED = -2L;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private long[] m_table;
+    private int m_size;
+    private int m_used;
+    private Set<String> m_other;
+    private int m_modCount;
+
+    public MacAddressSet() {
+        m_table = newTable(MIN_CAPACITY);
+    }
+
+    public MacAddressSet(Collection<String> macs) {
+        final long[] table = tableOf(macs);
+        if (table != null) {
+            m_table = table.clone();
+            for (long value : table) {
+                if (value >= 0) {
+                    m_size++;
+                }
+                if (value != FREE) {
+                    m_used++;
+                }
+            }
+            final Collection<String> other = otherOf(macs);
+            if (other != null && !other.isEmpty()) {
+                m_other = new HashSet<>(other);
+            }
+        } else {
+            m_table = newTable(capacityFor(macs.size()));
+            addAll(macs);
+        }
+    }
+
+    /**
+     * Returns the table of 48-bit values backing the given collection, if it is a {@link MacAddressSet} or the key set
+     * of a {@link MacAddressMap}, and {@code null} otherwise.
+     */
+    private static long[] tableOf(Collection<?> c) {
+        if (c instanceof MacAddressSet) {
+            return ((MacAddressSet) c).m_table;
+        }
+        if (c instanceof MacAddressMap.KeySet) {
+            return ((MacAddressMap<?>.KeySet) c).table();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the strings kept besides the table by a collection for which {@link #tableOf(Collection)} is not null.
+     */
+    private static Collection<String> otherOf(Collection<?> c) {
+        if (c instanceof MacAddressSet) {
+            return ((MacAddressSet) c).m_other;
+        }
+        return ((MacAddressMap<?>.KeySet) c).other();
+    }
+
+    /**
+     * Returns the 48-bit value of the given MAC address or a negative value if it is not twelve lower case hex digits.
+     */
+    static long encode(String mac) {
+        if (mac == null || mac.length() != 12) {
+            return FREE;
+        }
+        long value = 0L;
+        for (int i = 0; i < 12; i++) {
+            final char c = mac.charAt(i);
+            final int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                return FREE;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    static String decode(long value) {
+        final char[] chars = new char[12];
+        for (int i = 11; i >= 0; i--) {
+            chars[i] = HEX[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+        return new String(chars);
+    }
+
+    static int slot(long value, int mask) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    static int indexOf(long[] table, long value) {
+        final int mask = table.length - 1;
+        int i = slot(value, mask);
+        long current;
+        while ((current = table[i]) != FREE) {
+            if (current == value) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static long[] newTable(int capacity) {
+        final long[] table = new long[capacity];
+        Arrays.fill(table, FREE);
+        return table;
+    }
+
+    @Override
+    public int size() {
+        return m_size + (m_other == null ? 0 : m_other.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+        final long value = encode((String) o);
+        if (value < 0) {
+            return m_other != null && m_other.contains(o);
+        }
+        return indexOf(m_table, value) >= 0;
+    }
+
+    @Override
+    public boolean add(String mac) {
+        final long value = encode(mac);
+        if (value < 0) {
+            if (m_other == null) {
+                m_other = new HashSet<>();
+            }
+            if (m_other.add(mac)) {
+                m_modCount++;
+                return true;
+            }
+            return false;
+        }
+        return addValue(value);
+    }
+
+    private boolean addValue(long value) {
+        if (indexOf(m_table, value) >= 0) {
+            return false;
+        }
+        if ((m_used + 1) * 2L > m_table.length) {
+            rehash(capacityFor(m_size + 1));
+        }
+        final int mask = m_table.length - 1;
+        int i = slot(value, mask);
+        while (m_table[i] >= 0) {
+            i = (i + 1) & mask;
+        }
+        if (m_table[i] == FREE) {
+            m_used++;
+        }
+        m_table[i] = value;
+        m_size++;
+        m_modCount++;
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        final long[] old = m_table;
+        m_table = newTable(capacity);
+        final int mask = capacity - 1;
+        for (long value : old) {
+            if (value < 0) {
+                continue;
+            }
+            int i = slot(value, mask);
+            while (m_table[i] != FREE) {
+                i = (i + 1) & mask;
+            }
+            m_table[i] = value;
+        }
+        m_used = m_size;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+        final long value = encode((String) o);
+        if (value < 0) {
+            if (m_other != null && m_other.remove(o)) {
+                m_modCount++;
+                return true;
+            }
+            return false;
+        }
+        final int i = indexOf(m_table, value);
+        if (i < 0) {
+            return false;
+        }
+        removeAt(i);
+        return true;
+    }
+
+    private void removeAt(int i) {
+        m_table[i] = REMOVED;
+        m_size--;
+        m_modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (m_used > 0) {
+            Arrays.fill(m_table, FREE);
+        }
+        m_size = 0;
+        m_used = 0;
+        m_other = null;
+        m_modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends String> c) {
+        final long[] table = tableOf(c);
+        if (table == null) {
+            return super.addAll(c);
+        }
+        boolean modified = false;
+        for (long value : table) {
+            if (value >= 0) {
+                modified |= addValue(value);
+            }
+        }
+        final Collection<String> other = otherOf(c);
+        if (other != null) {
+            for (String mac : other) {
+                modified |= add(mac);
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        final long[] table = tableOf(c);
+        if (table == null) {
+            return super.containsAll(c);
+        }
+        for (long value : table) {
+            if (value >= 0 && indexOf(m_table, value) < 0) {
+                return false;
+            }
+        }
+        final Collection<String> other = otherOf(c);
+        return other == null || other.isEmpty() || (m_other != null && m_other.containsAll(other));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean modified = false;
+        final long[] table = tableOf(c);
+        if (table != null) {
+            for (int i = 0; i < m_table.length; i++) {
+                final long value = m_table[i];
+                if (value >= 0 && indexOf(table, value) < 0) {
+                    removeAt(i);
+                    modified = true;
+                }
+            }
+            if (m_other != null && !m_other.isEmpty()) {
+                final Collection<String> other = otherOf(c);
+                if (other == null) {
+                    m_other.clear();
+                    modified = true;
+                } else {
+                    modified |= m_other.retainAll(other);
+                }
+            }
+        } else {
+            for (int i = 0; i < m_table.length; i++) {
+                final long value = m_table[i];
+                if (value >= 0 && !c.contains(decode(value))) {
+                    removeAt(i);
+                    modified = true;
+                }
+            }
+            if (m_other != null) {
+                modified |= m_other.retainAll(c);
+            }
+        }
+        if (modified) {
+            m_modCount++;
+        }
+        return modified;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (isEmpty()) {
+            return false;
+        }
+        boolean modified = false;
+        final long[] table = tableOf(c);
+        if (table != null) {
+            if (table.length < m_table.length) {
+                for (long value : table) {
+                    if (value < 0) {
+                        continue;
+                    }
+                    final int i = indexOf(m_table, value);
+                    if (i >= 0) {
+                        removeAt(i);
+                        modified = true;
+                    }
+                }
+            } else {
+                for (int i = 0; i < m_table.length; i++) {
+                    final long value = m_table[i];
+                    if (value >= 0 && indexOf(table, value) >= 0) {
+                        removeAt(i);
+                        modified = true;
+                    }
+                }
+            }
+            final Collection<String> other = otherOf(c);
+            if (m_other != null && other != null) {
+                modified |= m_other.removeAll(other);
+            }
+        } else {
+            for (Object o : c) {
+                modified |= remove(o);
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int m_next = advance(0);
+            private int m_last = -1;
+            private Iterator<String> m_otherIterator;
+            private int m_expectedModCount = m_modCount;
+
+            private int advance(int i) {
+                while (i < m_table.length && m_table[i] < 0) {
+                    i++;
+                }
+                return i;
+            }
+
+            private Iterator<String> otherIterator() {
+                if (m_otherIterator == null) {
+                    m_otherIterator = m_other == null ? null : m_other.iterator();
+                }
+                return m_otherIterator;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (m_next < m_table.length) {
+                    return true;
+                }
+                final Iterator<String> other = otherIterator();
+                return other != null && other.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (m_expectedModCount != m_modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (m_next < m_table.length) {
+                    m_last = m_next;
+                    m_next = advance(m_next + 1);
+                    return decode(m_table[m_last]);
+                }
+                final Iterator<String> other = otherIterator();
+                if (other == null) {
+                    throw new NoSuchElementException();
+                }
+                m_last = -1;
+                return other.next();
+            }
+
+            @Override
+            public void remove() {
+                if (m_expectedModCount != m_modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (m_last >= 0) {
+                    if (m_table[m_last] < 0) {
+                        throw new IllegalStateException();
+                    }
+                    removeAt(m_last);
+                } else if (m_otherIterator != null) {
+                    m_otherIterator.remove();
+                    m_modCount++;
+                } else {
+                    throw new IllegalStateException();
+                }
+                m_expectedModCount = m_modCount;
+            }
+        };
+    }
+}
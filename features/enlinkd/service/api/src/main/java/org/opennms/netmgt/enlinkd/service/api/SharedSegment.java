@@ -34,7 +34,7 @@ import org.opennms.netmgt.model.OnmsNode;
 public class SharedSegment implements Topology{
 
     private Integer m_designatedBridgeId;
-    private final Set<String> m_macsOnSegment = new HashSet<>();
+    private final Set<String> m_macsOnSegment = new MacAddressSet();
     private final Set<BridgePort> m_portsOnSegment = new HashSet<>();
     private Date m_createTime;
     private Date m_lastPollTime;
@@ -23,7 +23,6 @@ package org.opennms.netmgt.enlinkd.service.api;
 
 import java.net.InetAddress;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -39,7 +38,7 @@ public interface TopologyService {
                                                 macPortsOnSegment, shs.getDesignatedPort());
 
 
-        final Set<String>  noPortMacs = new HashSet<>(shs.getMacsOnSegment());
+        final Set<String>  noPortMacs = new MacAddressSet(shs.getMacsOnSegment());
         macPortsOnSegment.forEach(mp -> noPortMacs.removeAll(mp.getMacPortMap().keySet()));
 
         if (noPortMacs.size() >0) {
@@ -0,0 +1,95 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.enlinkd.service.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class MacAddressMapTest {
+
+    @Test
+    public void shouldBehaveLikeHashMap() {
+        final Random random = new Random(42);
+        final Map<String, Integer> expected = new HashMap<>();
+        final Map<String, Integer> macs = new MacAddressMap<>();
+        for (int i = 0; i < 20000; i++) {
+            final String mac = random.nextInt(20) == 0 ? "mac" + random.nextInt(100) : String.format("%012x", random.nextInt(50000));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(mac), macs.remove(mac));
+            } else {
+                assertEquals(expected.put(mac, i), macs.put(mac, i));
+            }
+            assertEquals(expected.get(mac), macs.get(mac));
+        }
+        assertEquals(expected.size(), macs.size());
+        assertEquals(expected, macs);
+        assertEquals(macs, expected);
+        assertEquals(expected.keySet(), macs.keySet());
+        assertEquals(expected.keySet(), new MacAddressSet(macs.keySet()));
+
+        final Set<String> retained = new MacAddressSet(Arrays.asList("000000000001", "000000000002", "mac1", "mac1000"));
+        retained.retainAll(macs.keySet());
+        final Set<String> expectedRetained = new HashSet<>(Arrays.asList("000000000001", "000000000002", "mac1", "mac1000"));
+        expectedRetained.retainAll(expected.keySet());
+        assertEquals(expectedRetained, retained);
+        assertEquals(expected.hashCode(), macs.hashCode());
+    }
+
+    @Test
+    public void shouldUpdateThroughEntries() {
+        final Map<String, Integer> macs = new MacAddressMap<>();
+        macs.put("000000000001", 1);
+        macs.put("000000000002", 2);
+        macs.put("other", 3);
+        macs.computeIfAbsent("000000000003", k -> 4);
+        assertEquals(4, macs.size());
+        assertTrue(macs.containsKey("000000000003"));
+        assertFalse(macs.containsKey("000000000004"));
+
+        macs.entrySet().forEach(e -> e.setValue(e.getValue() * 10));
+        assertEquals(Integer.valueOf(10), macs.get("000000000001"));
+        assertEquals(Integer.valueOf(30), macs.get("other"));
+
+        final Iterator<Map.Entry<String, Integer>> it = macs.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue() > 15) {
+                it.remove();
+            }
+        }
+        assertEquals(1, macs.size());
+        assertNull(macs.get("other"));
+        assertEquals(Integer.valueOf(10), macs.remove("000000000001"));
+        assertTrue(macs.isEmpty());
+    }
+}
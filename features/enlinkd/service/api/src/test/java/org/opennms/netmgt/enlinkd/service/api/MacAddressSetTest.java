@@ -0,0 +1,140 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.enlinkd.service.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class MacAddressSetTest {
+
+    @Test
+    public void shouldEncodeOnlyForwardingTableMacs() {
+        assertEquals(0L, MacAddressSet.encode("000000000000"));
+        assertEquals(0xffffffffffffL, MacAddressSet.encode("ffffffffffff"));
+        assertEquals(0x001122aabbccL, MacAddressSet.encode("001122aabbcc"));
+        assertEquals("001122aabbcc", MacAddressSet.decode(0x001122aabbccL));
+        assertTrue(MacAddressSet.encode("001122AABBCC") < 0);
+        assertTrue(MacAddressSet.encode("00:11:22:aa:bb:cc") < 0);
+        assertTrue(MacAddressSet.encode("001122aabbc") < 0);
+        assertTrue(MacAddressSet.encode(null) < 0);
+    }
+
+    @Test
+    public void shouldBehaveLikeHashSet() {
+        final Random random = new Random(42);
+        final Set<String> expected = new HashSet<>();
+        final Set<String> macs = new MacAddressSet();
+        for (int i = 0; i < 20000; i++) {
+            final String mac = randomMac(random);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(mac), macs.remove(mac));
+            } else {
+                assertEquals(expected.add(mac), macs.add(mac));
+            }
+        }
+        assertEquals(expected.size(), macs.size());
+        assertEquals(expected, macs);
+        assertEquals(macs, expected);
+        assertEquals(expected.hashCode(), macs.hashCode());
+        assertEquals(expected, new HashSet<>(macs));
+        assertEquals(expected, new MacAddressSet(macs));
+    }
+
+    @Test
+    public void shouldKeepOtherStringsAsIs() {
+        final Set<String> macs = new MacAddressSet(Arrays.asList("001122aabbcc", "001122AABBCC", "00:11:22:aa:bb:cc"));
+        assertEquals(3, macs.size());
+        assertTrue(macs.contains("001122AABBCC"));
+        assertTrue(macs.contains("00:11:22:aa:bb:cc"));
+        assertEquals(new HashSet<>(Arrays.asList("001122aabbcc", "001122AABBCC", "00:11:22:aa:bb:cc")), macs);
+        assertFalse(macs.contains(1L));
+        assertTrue(macs.remove("001122AABBCC"));
+        assertEquals(2, macs.size());
+    }
+
+    @Test
+    public void shouldRetainAndRemoveAll() {
+        final Set<String> a = new MacAddressSet(Arrays.asList("000000000001", "000000000002", "000000000003", "other"));
+        final Set<String> b = new MacAddressSet(Arrays.asList("000000000002", "000000000003", "000000000004"));
+
+        final Set<String> retained = new MacAddressSet(a);
+        assertTrue(retained.retainAll(b));
+        assertEquals(new HashSet<>(Arrays.asList("000000000002", "000000000003")), retained);
+        assertFalse(retained.retainAll(b));
+
+        final Set<String> retainedHash = new MacAddressSet(a);
+        assertTrue(retainedHash.retainAll(new HashSet<>(Arrays.asList("000000000001", "other"))));
+        assertEquals(new HashSet<>(Arrays.asList("000000000001", "other")), retainedHash);
+
+        final Set<String> removed = new MacAddressSet(a);
+        assertTrue(removed.removeAll(b));
+        assertEquals(new HashSet<>(Arrays.asList("000000000001", "other")), removed);
+        assertFalse(removed.removeAll(b));
+
+        assertTrue(a.containsAll(retained));
+        assertFalse(retained.containsAll(a));
+
+        // the copies are independent of the original
+        assertEquals(4, a.size());
+        assertTrue(a.addAll(b));
+        assertEquals(5, a.size());
+    }
+
+    @Test
+    public void shouldRemoveWhileIterating() {
+        final Set<String> macs = new MacAddressSet();
+        for (int i = 0; i < 1000; i++) {
+            macs.add(String.format("%012d", i));
+        }
+        macs.add("other");
+        final Iterator<String> it = macs.iterator();
+        int visited = 0;
+        while (it.hasNext()) {
+            final String mac = it.next();
+            visited++;
+            if (!mac.endsWith("0")) {
+                it.remove();
+            }
+        }
+        assertEquals(1001, visited);
+        assertEquals(100, macs.size());
+        assertTrue(macs.contains("000000000990"));
+        assertFalse(macs.contains("000000000991"));
+
+        macs.clear();
+        assertTrue(macs.isEmpty());
+        assertFalse(macs.iterator().hasNext());
+    }
+
+    private static String randomMac(Random random) {
+        return String.format("%012x", random.nextInt(50000));
+    }
+}
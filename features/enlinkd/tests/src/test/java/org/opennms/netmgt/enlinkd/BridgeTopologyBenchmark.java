@@ -0,0 +1,174 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.enlinkd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.opennms.enlinkd.generator.util.MacAddressGenerator;
+import org.opennms.netmgt.enlinkd.service.api.BridgeForwardingTableEntry;
+import org.opennms.netmgt.enlinkd.service.api.BridgeForwardingTableEntry.BridgeDot1qTpFdbStatus;
+import org.opennms.netmgt.enlinkd.service.api.BroadcastDomain;
+import org.opennms.netmgt.enlinkd.service.api.DiscoveryBridgeTopology;
+import org.opennms.netmgt.enlinkd.service.api.MacAddressSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the bridge topology discovery on synthetic forwarding tables.
+ *
+ * Like the bridge topologies of the enlinkd generator the bridges form a tree: every bridge has its root port 1 and
+ * connects the next bridges on the ports 2 and up. Each bridge additionally has a port with a cloud of hosts, so every
+ * bridge learns every host mac either on its cloud port, on the port towards the bridge below which the host is
+ * located or on its root port.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BridgeTopologyBenchmark {
+
+    @Param({"3"})
+    public int depth;
+
+    @Param({"3"})
+    public int fanout;
+
+    @Param({"100", "1000"})
+    public int macsPerBridge;
+
+    private final Map<Integer, Set<BridgeForwardingTableEntry>> bfts = new HashMap<>();
+
+    private List<String> domainMacs;
+
+    private List<String> bridgeMacs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final MacAddressGenerator macGenerator = new MacAddressGenerator();
+
+        // the bridges in breadth first order: the parent of bridge i is bridge (i - 1) / fanout
+        int bridges = 0;
+        for (int level = 0, width = 1; level <= depth; level++, width *= fanout) {
+            bridges += width;
+        }
+        final List<List<String>> cloud = new ArrayList<>();
+        for (int bridge = 0; bridge < bridges; bridge++) {
+            final List<String> macs = new ArrayList<>();
+            for (int i = 0; i < macsPerBridge; i++) {
+                macs.add(macGenerator.next());
+            }
+            cloud.add(macs);
+        }
+
+        for (int bridge = 0; bridge < bridges; bridge++) {
+            final Set<BridgeForwardingTableEntry> bft = new HashSet<>();
+            for (int host = 0; host < bridges; host++) {
+                final int port = portTowards(bridge, host);
+                for (String mac : cloud.get(host)) {
+                    bft.add(entry(bridge + 1, port, mac));
+                }
+            }
+            bfts.put(bridge + 1, bft);
+        }
+
+        domainMacs = new ArrayList<>();
+        cloud.forEach(domainMacs::addAll);
+        bridgeMacs = new ArrayList<>(cloud.get(0));
+    }
+
+    /**
+     * Returns the port on which the bridge learns the macs in the cloud of the host bridge.
+     */
+    private int portTowards(int bridge, int host) {
+        if (host == bridge) {
+            return fanout + 2;
+        }
+        int child = host;
+        while (child > 0) {
+            final int parent = (child - 1) / fanout;
+            if (parent == bridge) {
+                return child - bridge * fanout + 1;
+            }
+            child = parent;
+        }
+        return 1;
+    }
+
+    private static BridgeForwardingTableEntry entry(int nodeid, int port, String mac) {
+        final BridgeForwardingTableEntry link = new BridgeForwardingTableEntry();
+        link.setNodeId(nodeid);
+        link.setBridgePort(port);
+        link.setBridgePortIfIndex(port);
+        link.setMacAddress(mac);
+        link.setVlan(1);
+        link.setBridgeDot1qTpFdbStatus(BridgeDot1qTpFdbStatus.DOT1D_TP_FDB_STATUS_LEARNED);
+        return link;
+    }
+
+    @Benchmark
+    public BroadcastDomain calculate() {
+        final BroadcastDomain domain = new BroadcastDomain();
+        final DiscoveryBridgeTopology topology = new DiscoveryBridgeTopology(domain);
+        bfts.forEach(topology::addUpdatedBFT);
+        topology.calculate();
+        return domain;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void intersectHashSet(final Blackhole blackhole) {
+        final Set<String> macs = new HashSet<>(domainMacs);
+        macs.retainAll(new HashSet<>(bridgeMacs));
+        blackhole.consume(macs);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void intersectMacAddressSet(final Blackhole blackhole) {
+        final Set<String> macs = new MacAddressSet(domainMacs);
+        macs.retainAll(new MacAddressSet(bridgeMacs));
+        blackhole.consume(macs);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -21,13 +21,17 @@
  */
 package org.opennms.netmgt.eventd;
 
+import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import org.opennms.core.utils.InetAddressUtils;
 import org.opennms.netmgt.events.api.EventHandler;
 import org.opennms.netmgt.events.api.EventProcessor;
 import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.dao.api.InterfaceToNodeCache;
+import org.opennms.netmgt.dao.api.MonitoringLocationDao;
 import org.opennms.netmgt.dao.api.NodeDao;
 import org.opennms.netmgt.model.OnmsNode;
 import org.opennms.netmgt.xml.event.Event;
@@ -68,6 +72,8 @@ public final class DefaultEventHandlerImpl implements InitializingBean, EventHan
 
     private NodeDao m_nodeDao;
 
+    private InterfaceToNodeCache m_interfaceToNodeCache;
+
     /**
      * <p>Constructor for DefaultEventHandlerImpl.</p>
      */
@@ -115,68 +121,117 @@ public final class DefaultEventHandlerImpl implements InitializingBean, EventHan
                 return;
             }
 
-            for (final Event event : events.getEventCollection()) {
-                if (event.getNodeid() == 0) {
-                    final Parm foreignSource = event.getParm("_foreignSource");
-                    if (foreignSource != null && foreignSource.getValue() != null) {
-                        final Parm foreignId = event.getParm("_foreignId");
-                        if (foreignId != null && foreignId.getValue() != null) {
-                            final OnmsNode node = getNodeDao().findByForeignId(foreignSource.getValue().getContent(), foreignId.getValue().getContent());
-                            if (node != null) {
-                                event.setNodeid(node.getId().longValue());
-                            } else {
-                                LOG.warn("Can't find node associated with foreignSource {} and foreignId {}", foreignSource, foreignId);
-                            }
-                        }
-                    }
-                }
+            prepare(m_eventLog);
 
-                if (LOG.isInfoEnabled() && getLogEventSummaries()) {
-                    LOG.info("Received event: UEI={}, src={}, iface={}, svc={}, time={}, parms={}", event.getUei(), event.getSource(), event.getInterface(), event.getService(), event.getTime(), getPrettyParms(event));
-                }
+            try (Timer.Context context = processTimer.time()) {
+                process(m_eventLog, m_synchronous, m_eventProcessors);
+            }
+        }
+
+    }
 
-                if (LOG.isDebugEnabled()) {
-                    // Log the uei, source, and other important aspects
-                    final String uuid = event.getUuid();
-                    LOG.debug("Event {");
-                    LOG.debug("  uuid  = {}", (uuid != null && uuid.length() > 0 ? uuid : "<not-set>"));
-                    LOG.debug("  uei   = {}", event.getUei());
-                    LOG.debug("  src   = {}", event.getSource());
-                    LOG.debug("  iface = {}", event.getInterface());
-                    LOG.debug("  svc   = {}", event.getService());
-                    LOG.debug("  time  = {}", event.getTime());
-                    // NMS-8413: I'm seeing a ConcurrentModificationException in the logs here,
-                    // copy the parm collection to avoid this
-                    List<Parm> parms = new ArrayList<>(event.getParmCollection());
-                    if (parms.size() > 0) {
-                        LOG.debug("  parms {");
-                        for (final Parm parm : parms) {
-                            if ((parm.getParmName() != null) && (parm.getValue().getContent() != null)) {
-                                LOG.debug("    ({}, {})", parm.getParmName().trim(), parm.getValue().getContent().trim());
-                            }
+    /**
+     * Resolves the node of events which reference the node by foreign source and foreign ID only
+     * and logs the received events.
+     */
+    void prepare(final Log eventLog) {
+        for (final Event event : eventLog.getEvents().getEventCollection()) {
+            resolveNode(event);
+
+            if (LOG.isInfoEnabled() && getLogEventSummaries()) {
+                LOG.info("Received event: UEI={}, src={}, iface={}, svc={}, time={}, parms={}", event.getUei(), event.getSource(), event.getInterface(), event.getService(), event.getTime(), getPrettyParms(event));
+            }
+
+            if (LOG.isDebugEnabled()) {
+                // Log the uei, source, and other important aspects
+                final String uuid = event.getUuid();
+                LOG.debug("Event {");
+                LOG.debug("  uuid  = {}", (uuid != null && uuid.length() > 0 ? uuid : "<not-set>"));
+                LOG.debug("  uei   = {}", event.getUei());
+                LOG.debug("  src   = {}", event.getSource());
+                LOG.debug("  iface = {}", event.getInterface());
+                LOG.debug("  svc   = {}", event.getService());
+                LOG.debug("  time  = {}", event.getTime());
+                // NMS-8413: I'm seeing a ConcurrentModificationException in the logs here,
+                // copy the parm collection to avoid this
+                List<Parm> parms = new ArrayList<>(event.getParmCollection());
+                if (parms.size() > 0) {
+                    LOG.debug("  parms {");
+                    for (final Parm parm : parms) {
+                        if ((parm.getParmName() != null) && (parm.getValue().getContent() != null)) {
+                            LOG.debug("    ({}, {})", parm.getParmName().trim(), parm.getValue().getContent().trim());
                         }
-                        LOG.debug("  }");
                     }
-                    LOG.debug("}");
+                    LOG.debug("  }");
                 }
+                LOG.debug("}");
             }
+        }
+    }
 
-            try (Timer.Context context = processTimer.time()) {
-                for (final EventProcessor eventProcessor : m_eventProcessors) {
-                    try {
-                        eventProcessor.process(m_eventLog, m_synchronous);
-                        logSizes.update(events.getEventCount());
-                    } catch (EventProcessorException e) {
-                        LOG.warn("Unable to process event using processor {}; not processing with any later processors.", eventProcessor, e);
-                        break;
-                    } catch (Throwable t) {
-                        LOG.warn("Unknown exception processing event with processor {}; not processing with any later processors.", eventProcessor, t);
-                        break;
-                    }
+    /**
+     * Resolves the node of an event which references the node by foreign source and foreign ID only.
+     */
+    void resolveNode(final Event event) {
+        if (event.getNodeid() != 0) {
+            return;
+        }
+        final Parm foreignSource = event.getParm("_foreignSource");
+        if (foreignSource != null && foreignSource.getValue() != null) {
+            final Parm foreignId = event.getParm("_foreignId");
+            if (foreignId != null && foreignId.getValue() != null) {
+                final OnmsNode node = getNodeDao().findByForeignId(foreignSource.getValue().getContent(), foreignId.getValue().getContent());
+                if (node != null) {
+                    event.setNodeid(node.getId().longValue());
+                } else {
+                    LOG.warn("Can't find node associated with foreignSource {} and foreignId {}", foreignSource, foreignId);
                 }
             }
         }
+    }
+
+    /**
+     * Looks up the node owning the given interface in the default location.
+     *
+     * @return the ID of the node or {@code null} if it is not known
+     */
+    Long findNodeIdByInterface(final String ipAddr) {
+        if (m_interfaceToNodeCache == null) {
+            return null;
+        }
+        final InetAddress addr;
+        try {
+            addr = InetAddressUtils.addr(ipAddr);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (addr == null) {
+            return null;
+        }
+        return m_interfaceToNodeCache.getFirstNodeId(MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID, addr)
+                .map(Integer::longValue)
+                .orElse(null);
+    }
 
+    /**
+     * Runs the given processors in order.
+     *
+     * @return {@code false} if one of the processors failed, in which case the later processors have not been run
+     */
+    boolean process(final Log eventLog, final boolean synchronous, final List<EventProcessor> eventProcessors) {
+        for (final EventProcessor eventProcessor : eventProcessors) {
+            try {
+                eventProcessor.process(eventLog, synchronous);
+                logSizes.update(eventLog.getEvents().getEventCount());
+            } catch (EventProcessorException e) {
+                LOG.warn("Unable to process event using processor {}; not processing with any later processors.", eventProcessor, e);
+                return false;
+            } catch (Throwable t) {
+                LOG.warn("Unknown exception processing event with processor {}; not processing with any later processors.", eventProcessor, t);
+                return false;
+            }
+        }
+        return true;
     }
 
     private static List<String> getPrettyParms(final Event event) {
@@ -230,4 +285,12 @@ public final class DefaultEventHandlerImpl implements InitializingBean, EventHan
     public NodeDao getNodeDao() {
         return m_nodeDao;
     }
+
+    public void setInterfaceToNodeCache(InterfaceToNodeCache interfaceToNodeCache) {
+        m_interfaceToNodeCache = interfaceToNodeCache;
+    }
+
+    public InterfaceToNodeCache getInterfaceToNodeCache() {
+        return m_interfaceToNodeCache;
+    }
 }
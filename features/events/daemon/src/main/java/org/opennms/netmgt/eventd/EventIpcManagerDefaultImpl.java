@@ -51,6 +51,7 @@ import org.opennms.netmgt.events.api.model.ImmutableMapper;
 import org.opennms.netmgt.xml.event.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -65,7 +66,7 @@ import com.codahale.metrics.MetricRegistry;
  * @author <A HREF="mailto:sowmya@opennms.org">Sowmya Nataraj </A>
  * @author <A HREF="http://www.opennms.org">OpenNMS.org </A>
  */
-public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroadcaster, InitializingBean {
+public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroadcaster, InitializingBean, DisposableBean {
     
     
     private static final Logger LOG = LoggerFactory.getLogger(EventIpcManagerDefaultImpl.class);
@@ -115,6 +116,11 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
 
     private EventHandler m_eventHandler;
 
+    /**
+     * Processes the event logs in stages instead of the pool, if enabled
+     */
+    private EventPipeline m_eventPipeline;
+
     private Integer m_handlerPoolSize;
     
     private Integer m_handlerQueueLength;
@@ -254,7 +260,11 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
         if (LOG.isDebugEnabled()) LOG.debug("sending: {}", eventLog);
 
         try {
-            m_eventHandlerPool.execute(m_eventHandler.createRunnable(eventLog));
+            if (m_eventPipeline != null) {
+                m_eventPipeline.submit(eventLog);
+            } else {
+                m_eventHandlerPool.execute(m_eventHandler.createRunnable(eventLog));
+            }
         } catch (RejectedExecutionException e) {
             LOG.warn("Unable to queue event log to the event handler pool queue", e);
             throw e;
@@ -277,6 +287,18 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
     @Override
     public void sendNowSync(Log eventLog) {
         Objects.requireNonNull(eventLog);
+        if (m_eventPipeline != null) {
+            // Process the log in the lanes of its nodes, so it is ordered with the other events of these nodes
+            Logging.withPrefix(Eventd.LOG4J_CATEGORY, () -> {
+                try {
+                    m_eventPipeline.submitAndWait(eventLog);
+                } catch (InterruptedException e) {
+                    LOG.warn("Interrupted while waiting for event log to be processed", e);
+                    Thread.currentThread().interrupt();
+                }
+            });
+            return;
+        }
         // Create the runnable and invoke it using the current thread
         // Also set the logging prefix to ensure that the log messages are
         // properly routed to eventd's log file
@@ -567,11 +589,35 @@ public class EventIpcManagerDefaultImpl implements EventIpcManager, EventIpcBroa
                     workQueue,
                     new LogPreservingThreadFactory(EventIpcManagerDefaultImpl.class.getSimpleName(), m_handlerPoolSize)
                 );
+
+                if (EventPipeline.PIPELINE_ENABLED) {
+                    if (m_eventHandler instanceof DefaultEventHandlerImpl) {
+                        m_eventPipeline = new EventPipeline((DefaultEventHandlerImpl) m_eventHandler,
+                                EventPipeline.PIPELINE_LANES > 0 ? EventPipeline.PIPELINE_LANES : m_handlerPoolSize,
+                                m_handlerQueueLength,
+                                EventPipeline.PIPELINE_BATCH_SIZE,
+                                EventPipeline.PIPELINE_BATCH_WINDOW_MS,
+                                m_registry);
+                        m_eventPipeline.start();
+                    } else {
+                        LOG.warn("The event pipeline requires the default event handler, but {} is used. Processing events without the pipeline.", m_eventHandler);
+                    }
+                }
             }
             
         });
     }
 
+    /**
+     * Stops the event pipeline, if enabled, after the logs queued so far have been processed.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (m_eventPipeline != null) {
+            m_eventPipeline.stop();
+        }
+    }
+
     /**
      * <p>getEventHandler</p>
      *
@@ -0,0 +1,508 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.core.sysprops.SystemProperties;
+import org.opennms.netmgt.eventd.processor.EventWriter;
+import org.opennms.netmgt.events.api.EventProcessor;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Events;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Parm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * Processes event logs in three pipelined stages instead of running all
+ * processors of the {@link DefaultEventHandlerImpl} for one log at a time.
+ *
+ * <ol>
+ *     <li>expand - resolves the node and runs the processors configured before the {@link EventWriter}</li>
+ *     <li>persist - stores the logs collected for up to {@code batchWindowMs} (or {@code batchSize} logs)
+ *     in a single transaction using {@link EventWriter#processAll(List)}</li>
+ *     <li>broadcast - runs the processors configured after the {@link EventWriter}</li>
+ * </ol>
+ *
+ * The work is partitioned into lanes by the node of the events. Each stage of
+ * a lane is served by a single thread and the stages hand the logs over in
+ * order, so the events of a node are processed in the order they have been
+ * sent while the events of different nodes are processed in parallel.
+ *
+ * If a batch can not be stored, its logs are stored one by one and only the
+ * logs which failed are dropped - just like a failing processor stops the
+ * processing of a log in the {@link DefaultEventHandlerImpl}.
+ */
+public class EventPipeline {
+    private static final Logger LOG = LoggerFactory.getLogger(EventPipeline.class);
+
+    public static final boolean PIPELINE_ENABLED = Boolean.getBoolean("org.opennms.eventd.pipeline.enabled");
+    public static final Integer PIPELINE_LANES = SystemProperties.getInteger("org.opennms.eventd.pipeline.lanes", 0);
+    public static final Integer PIPELINE_BATCH_SIZE = SystemProperties.getInteger("org.opennms.eventd.pipeline.batchSize", 100);
+    public static final Long PIPELINE_BATCH_WINDOW_MS = SystemProperties.getLong("org.opennms.eventd.pipeline.batchWindowMs", 10L);
+
+    private static final long POLL_INTERVAL_MS = 250;
+
+    private static final ThreadLocal<Boolean> PIPELINE_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final DefaultEventHandlerImpl m_eventHandler;
+
+    private final List<EventProcessor> m_expandProcessors;
+    private final EventWriter m_eventWriter;
+    private final List<EventProcessor> m_broadcastProcessors;
+
+    private final int m_batchSize;
+    private final long m_batchWindowMs;
+
+    private final Lane[] m_lanes;
+
+    private final Timer m_expandTimer;
+    private final Timer m_persistTimer;
+    private final Timer m_broadcastTimer;
+    private final Histogram m_batchSizes;
+
+    private volatile boolean m_running = false;
+
+    public EventPipeline(final DefaultEventHandlerImpl eventHandler,
+                         final int lanes,
+                         final Integer queueLength,
+                         final int batchSize,
+                         final long batchWindowMs,
+                         final MetricRegistry registry) {
+        m_eventHandler = Objects.requireNonNull(eventHandler);
+        if (lanes < 1) {
+            throw new IllegalArgumentException("At least 1 lane must be defined");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        m_batchSize = batchSize;
+        m_batchWindowMs = batchWindowMs;
+
+        // Split the processors at the writer
+        final List<EventProcessor> processors = eventHandler.getEventProcessors();
+        int writerIndex = -1;
+        for (int i = 0; i < processors.size(); i++) {
+            if (processors.get(i) instanceof EventWriter) {
+                writerIndex = i;
+                break;
+            }
+        }
+        if (writerIndex < 0) {
+            m_expandProcessors = Collections.unmodifiableList(new ArrayList<>(processors));
+            m_eventWriter = null;
+            m_broadcastProcessors = Collections.emptyList();
+        } else {
+            m_expandProcessors = Collections.unmodifiableList(new ArrayList<>(processors.subList(0, writerIndex)));
+            m_eventWriter = (EventWriter) processors.get(writerIndex);
+            m_broadcastProcessors = Collections.unmodifiableList(new ArrayList<>(processors.subList(writerIndex + 1, processors.size())));
+        }
+
+        final int capacity = queueLength == null ? Integer.MAX_VALUE : queueLength;
+        m_lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            m_lanes[i] = new Lane(capacity);
+        }
+
+        Objects.requireNonNull(registry);
+        m_expandTimer = registry.timer("eventlogs.pipeline.expand");
+        m_persistTimer = registry.timer("eventlogs.pipeline.persist");
+        m_broadcastTimer = registry.timer("eventlogs.pipeline.broadcast");
+        m_batchSizes = registry.histogram("eventlogs.pipeline.batch.sizes");
+
+        registry.remove("eventlogs.pipeline.queued");
+        registry.register("eventlogs.pipeline.queued", new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+                int queued = 0;
+                for (final Lane lane : m_lanes) {
+                    queued += lane.expandQueue.size() + lane.persistQueue.size() + lane.broadcastQueue.size();
+                }
+                return queued;
+            }
+        });
+    }
+
+    /**
+     * Starts the threads of all lanes.
+     *
+     * The threads inherit the logging context of the calling thread.
+     */
+    public synchronized void start() {
+        if (m_running) {
+            return;
+        }
+        m_running = true;
+
+        final ThreadFactory expandThreads = new LogPreservingThreadFactory("EventPipeline-expand", m_lanes.length);
+        final ThreadFactory persistThreads = new LogPreservingThreadFactory("EventPipeline-persist", m_lanes.length);
+        final ThreadFactory broadcastThreads = new LogPreservingThreadFactory("EventPipeline-broadcast", m_lanes.length);
+        for (final Lane lane : m_lanes) {
+            lane.start(expandThreads, persistThreads, broadcastThreads);
+        }
+
+        LOG.info("Started event pipeline with {} lanes, batches of up to {} logs and a batch window of {}ms.", m_lanes.length, m_batchSize, m_batchWindowMs);
+    }
+
+    /**
+     * Stops the threads of all lanes after the logs queued so far have been processed.
+     */
+    public synchronized void stop() throws InterruptedException {
+        if (!m_running) {
+            return;
+        }
+        m_running = false;
+
+        for (final Lane lane : m_lanes) {
+            lane.join();
+        }
+    }
+
+    /**
+     * Queues the given log for processing.
+     *
+     * A log containing events of different nodes is split, so that every
+     * part ends up in the lane of its node.
+     *
+     * @throws RejectedExecutionException if the queue of the lane is full or the pipeline is not running
+     */
+    public void submit(final Log eventLog) {
+        for (final Map.Entry<Integer, Log> part : partition(eventLog).entrySet()) {
+            m_lanes[part.getKey()].enqueue(new Submission(part.getValue(), false, null));
+        }
+    }
+
+    /**
+     * Processes the given log synchronously in the lanes of its nodes and waits until
+     * all of its parts have been processed, so that it is ordered with the logs of the
+     * same nodes submitted before.
+     *
+     * If called from one of the pipeline's own threads, the log is processed right away
+     * instead, as waiting on the lane could dead-lock.
+     *
+     * @throws RejectedExecutionException if the queue of a lane is full or the pipeline is not running
+     */
+    public void submitAndWait(final Log eventLog) throws InterruptedException {
+        if (PIPELINE_THREAD.get()) {
+            m_eventHandler.prepare(eventLog);
+            m_eventHandler.process(eventLog, true, m_eventHandler.getEventProcessors());
+            return;
+        }
+
+        final Map<Integer, Log> parts = partition(eventLog);
+        final CountDownLatch done = new CountDownLatch(parts.size());
+        for (final Map.Entry<Integer, Log> part : parts.entrySet()) {
+            m_lanes[part.getKey()].enqueue(new Submission(part.getValue(), true, done));
+        }
+        done.await();
+    }
+
+    /**
+     * Splits the log by the lanes of its events.
+     */
+    private Map<Integer, Log> partition(final Log eventLog) {
+        if (!m_running) {
+            throw new RejectedExecutionException("The event pipeline is not running");
+        }
+
+        final Events events = eventLog.getEvents();
+        if (events == null || events.getEventCount() <= 0) {
+            // no events to process
+            return Collections.emptyMap();
+        }
+
+        // The lane is chosen by node, so nodes referenced by foreign source and foreign ID must be resolved first
+        for (final Event event : events.getEventCollection()) {
+            m_eventHandler.resolveNode(event);
+        }
+
+        if (m_lanes.length == 1 || events.getEventCount() == 1) {
+            return Collections.singletonMap(laneOf(events.getEvent(0)), eventLog);
+        }
+
+        final Map<Integer, List<Event>> eventsByLane = new LinkedHashMap<>();
+        for (final Event event : events.getEventCollection()) {
+            eventsByLane.computeIfAbsent(laneOf(event), k -> new ArrayList<>()).add(event);
+        }
+
+        if (eventsByLane.size() == 1) {
+            return Collections.singletonMap(eventsByLane.keySet().iterator().next(), eventLog);
+        }
+
+        final Map<Integer, Log> parts = new LinkedHashMap<>();
+        for (final Map.Entry<Integer, List<Event>> entry : eventsByLane.entrySet()) {
+            final Events part = new Events();
+            part.setEvent(entry.getValue());
+
+            final Log partLog = new Log();
+            partLog.setHeader(eventLog.getHeader());
+            partLog.setEvents(part);
+
+            parts.put(entry.getKey(), partLog);
+        }
+        return parts;
+    }
+
+    /**
+     * Determines the lane of the event.
+     *
+     * Events are keyed by their node. The node of events carrying only an interface is looked up by the
+     * interface. If no node is known, the events are keyed by their foreign source and foreign ID or by
+     * their interface. Events without any of these share the first lane.
+     */
+    protected int laneOf(final Event event) {
+        final Object key;
+        if (event.getNodeid() != null && event.getNodeid() != 0) {
+            key = event.getNodeid();
+        } else {
+            final Long nodeId = event.getInterface() != null ? m_eventHandler.findNodeIdByInterface(event.getInterface()) : null;
+            final Parm foreignSource = event.getParm("_foreignSource");
+            final Parm foreignId = event.getParm("_foreignId");
+            if (nodeId != null) {
+                key = nodeId;
+            } else if (foreignSource != null && foreignSource.getValue() != null && foreignId != null && foreignId.getValue() != null) {
+                key = foreignSource.getValue().getContent() + ":" + foreignId.getValue().getContent();
+            } else if (event.getInterface() != null) {
+                key = event.getInterface();
+            } else {
+                return 0;
+            }
+        }
+        return Math.floorMod(key.hashCode(), m_lanes.length);
+    }
+
+    private void expand(final Lane lane, final Submission submission) throws InterruptedException {
+        final boolean expanded;
+        try (Timer.Context context = m_expandTimer.time()) {
+            m_eventHandler.prepare(submission.eventLog);
+            expanded = m_eventHandler.process(submission.eventLog, submission.synchronous, m_expandProcessors);
+        } catch (Throwable t) {
+            LOG.warn("Unknown exception preparing event log; not processing with any later processors.", t);
+            submission.complete();
+            return;
+        }
+
+        if (expanded) {
+            lane.persistQueue.put(submission);
+        } else {
+            submission.complete();
+        }
+    }
+
+    private void persist(final Lane lane, final List<Submission> batch) throws InterruptedException {
+        m_batchSizes.update(batch.size());
+
+        List<Submission> persisted = batch;
+        if (m_eventWriter != null) {
+            try (Timer.Context context = m_persistTimer.time()) {
+                persisted = store(batch);
+            }
+        }
+
+        for (final Submission submission : persisted) {
+            lane.broadcastQueue.put(submission);
+        }
+    }
+
+    private List<Submission> store(final List<Submission> batch) {
+        try {
+            m_eventWriter.processAll(batch.stream().map(submission -> submission.eventLog).collect(Collectors.toList()));
+            return batch;
+        } catch (Throwable t) {
+            if (batch.size() == 1) {
+                LOG.warn("Unable to process event using processor {}; not processing with any later processors.", m_eventWriter, t);
+                batch.get(0).complete();
+                return Collections.emptyList();
+            }
+            LOG.warn("Unable to store batch of {} event logs using processor {}; storing them one by one.", batch.size(), m_eventWriter, t);
+        }
+
+        final List<Submission> persisted = new ArrayList<>(batch.size());
+        for (final Submission submission : batch) {
+            if (m_eventHandler.process(submission.eventLog, submission.synchronous, Collections.singletonList(m_eventWriter))) {
+                persisted.add(submission);
+            } else {
+                submission.complete();
+            }
+        }
+        return persisted;
+    }
+
+    private void broadcast(final Submission submission) {
+        try (Timer.Context context = m_broadcastTimer.time()) {
+            m_eventHandler.process(submission.eventLog, submission.synchronous, m_broadcastProcessors);
+        } finally {
+            submission.complete();
+        }
+    }
+
+    /**
+     * A log queued in a lane.
+     */
+    private static class Submission {
+        private final Log eventLog;
+        private final boolean synchronous;
+        private final CountDownLatch done;
+
+        private Submission(final Log eventLog, final boolean synchronous, final CountDownLatch done) {
+            this.eventLog = eventLog;
+            this.synchronous = synchronous;
+            this.done = done;
+        }
+
+        /**
+         * Signals that the log has been processed by the last stage it reached.
+         */
+        private void complete() {
+            if (done != null) {
+                done.countDown();
+            }
+        }
+    }
+
+    private class Lane {
+        private final BlockingQueue<Submission> expandQueue;
+        private final BlockingQueue<Submission> persistQueue;
+        private final BlockingQueue<Submission> broadcastQueue;
+
+        private final List<Thread> threads = new ArrayList<>(3);
+
+        private Lane(final int capacity) {
+            expandQueue = new LinkedBlockingQueue<>(capacity);
+            persistQueue = new LinkedBlockingQueue<>(capacity);
+            broadcastQueue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        private void enqueue(final Submission submission) {
+            if (!expandQueue.offer(submission)) {
+                throw new RejectedExecutionException("The event pipeline queue is full");
+            }
+        }
+
+        private void start(final ThreadFactory expandThreads, final ThreadFactory persistThreads, final ThreadFactory broadcastThreads) {
+            threads.add(expandThreads.newThread(() -> runStage(this::runExpand)));
+            threads.add(persistThreads.newThread(() -> runStage(this::runPersist)));
+            threads.add(broadcastThreads.newThread(() -> runStage(this::runBroadcast)));
+            threads.forEach(Thread::start);
+        }
+
+        private void join() throws InterruptedException {
+            // The stages drain their queues in order before they exit
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+            threads.clear();
+        }
+
+        private void runStage(final Runnable stage) {
+            PIPELINE_THREAD.set(true);
+            stage.run();
+        }
+
+        private boolean isDrained(final BlockingQueue<Submission> queue, final int stage) {
+            if (m_running) {
+                return false;
+            }
+            // The upstream stage must have exited before, otherwise it may still hand over logs
+            final boolean upstreamDone = stage == 0 || !threads.get(stage - 1).isAlive();
+            return upstreamDone && queue.isEmpty();
+        }
+
+        private void runExpand() {
+            try {
+                while (!isDrained(expandQueue, 0)) {
+                    final Submission submission = expandQueue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (submission != null) {
+                        expand(this, submission);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void runPersist() {
+            try {
+                final List<Submission> batch = new ArrayList<>(m_batchSize);
+                while (!isDrained(persistQueue, 1)) {
+                    final Submission first = persistQueue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+
+                    // Collect more logs until the batch is full or the window has passed
+                    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_batchWindowMs);
+                    while (batch.size() < m_batchSize) {
+                        persistQueue.drainTo(batch, m_batchSize - batch.size());
+                        final long remaining = deadline - System.nanoTime();
+                        if (batch.size() >= m_batchSize || remaining <= 0) {
+                            break;
+                        }
+                        final Submission next = persistQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+
+                    persist(this, new ArrayList<>(batch));
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void runBroadcast() {
+            try {
+                while (!isDrained(broadcastQueue, 2)) {
+                    final Submission submission = broadcastQueue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (submission != null) {
+                        broadcast(submission);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
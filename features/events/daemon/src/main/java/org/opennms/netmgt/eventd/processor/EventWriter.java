@@ -21,7 +21,11 @@
  */
 package org.opennms.netmgt.eventd.processor;
 
+import java.util.List;
+
 import org.opennms.netmgt.events.api.EventProcessor;
+import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.xml.event.Log;
 
 /**
  * EventWriter stores the information for each 'Event' into the database.
@@ -133,4 +137,20 @@ public interface EventWriter extends EventProcessor {
      * The character to put in if the log or display is to be set to no
      */
     public static final char MSG_NO = 'N';
+
+    /**
+     * Stores the events of all the given logs.
+     *
+     * Implementations should store all of them in a single transaction, so
+     * that a batch of logs costs a single commit. If an exception is thrown,
+     * none of the events must have been stored.
+     *
+     * @param eventLogs the logs to store
+     * @throws EventProcessorException if the events could not be stored
+     */
+    default void processAll(final List<Log> eventLogs) throws EventProcessorException {
+        for (final Log eventLog : eventLogs) {
+            process(eventLog);
+        }
+    }
 }
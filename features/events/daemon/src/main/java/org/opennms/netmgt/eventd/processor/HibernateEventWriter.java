@@ -21,12 +21,14 @@
  */
 package org.opennms.netmgt.eventd.processor;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 
 import org.opennms.netmgt.dao.api.DistPollerDao;
 import org.opennms.netmgt.dao.api.EventDao;
@@ -157,44 +159,65 @@ public class HibernateEventWriter implements EventWriter {
 
     @Override
     public void process(Log eventLog) throws EventProcessorException {
-        if (eventLog != null && eventLog.getEvents() != null) {
+        if (eventLog != null) {
+            processAll(Collections.singletonList(eventLog));
+        }
+    }
+
+    /**
+     * Stores the events of all given logs in a single transaction.
+     */
+    @Override
+    public void processAll(List<Log> eventLogs) throws EventProcessorException {
+        // Find the events in the logs that need to be persisted
+        final List<Map.Entry<Header, Event>> eventsToPersist = new ArrayList<>();
+        for (final Log eventLog : eventLogs) {
+            if (eventLog == null || eventLog.getEvents() == null) {
+                continue;
+            }
+
             final List<Event> eventsInLog = eventLog.getEvents().getEventCollection();
             // This shouldn't happen, but just to be safe...
             if (eventsInLog == null) {
-                return;
+                continue;
             }
 
-            // Find the events in the log that need to be persisted
-            final List<Event> eventsToPersist = eventsInLog.stream()
-                .filter(e -> checkEventSanityAndDoWeProcess(e, "HibernateEventWriter"))
-                .collect(Collectors.toList());
-
-            // If there are no events to persist, avoid creating a database transaction
-            if (eventsToPersist.size() < 1) {
-                return;
+            for (final Event event : eventsInLog) {
+                if (checkEventSanityAndDoWeProcess(event, "HibernateEventWriter")) {
+                    eventsToPersist.add(new AbstractMap.SimpleImmutableEntry<>(eventLog.getHeader(), event));
+                }
             }
+        }
 
-            // Time the transaction and insertions
-            try (Context context = writeTimer.time()) {
-                final AtomicReference<EventProcessorException> exception = new AtomicReference<>();
-
-                m_transactionManager.execute(new TransactionCallbackWithoutResult() {
-                    @Override
-                    protected void doInTransactionWithoutResult(TransactionStatus status) {
-                        for (Event eachEvent : eventsToPersist) {
-                            try {
-                                process(eventLog.getHeader(), eachEvent);
-                            } catch (EventProcessorException e) {
-                                exception.set(e);
-                                return;
+        // If there are no events to persist, avoid creating a database transaction
+        if (eventsToPersist.size() < 1) {
+            return;
+        }
+
+        // Time the transaction and insertions
+        try (Context context = writeTimer.time()) {
+            final AtomicReference<EventProcessorException> exception = new AtomicReference<>();
+
+            m_transactionManager.execute(new TransactionCallbackWithoutResult() {
+                @Override
+                protected void doInTransactionWithoutResult(TransactionStatus status) {
+                    for (Map.Entry<Header, Event> eachEvent : eventsToPersist) {
+                        try {
+                            process(eachEvent.getKey(), eachEvent.getValue());
+                        } catch (EventProcessorException e) {
+                            exception.set(e);
+                            if (eventLogs.size() > 1) {
+                                // Don't leave parts of a batch behind, the logs are retried one by one
+                                status.setRollbackOnly();
                             }
+                            return;
                         }
                     }
-                });
-
-                if (exception.get() != null) {
-                    throw exception.get();
                 }
+            });
+
+            if (exception.get() != null) {
+                throw exception.get();
             }
         }
     }
@@ -0,0 +1,342 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.netmgt.dao.api.InterfaceToNodeCache;
+import org.opennms.netmgt.dao.api.MonitoringLocationDao;
+import org.opennms.netmgt.dao.api.NodeDao;
+import org.opennms.netmgt.eventd.processor.EventWriter;
+import org.opennms.netmgt.events.api.EventProcessor;
+import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Events;
+import org.opennms.netmgt.xml.event.Log;
+
+import com.codahale.metrics.MetricRegistry;
+
+public class EventPipelineTest {
+
+    private static final String POISON = "uei.opennms.org/test/poison";
+
+    private final MockEventWriter m_writer = new MockEventWriter();
+
+    private final MockBroadcaster m_broadcaster = new MockBroadcaster();
+
+    private EventPipeline m_pipeline;
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (m_pipeline != null) {
+            m_pipeline.stop();
+        }
+    }
+
+    @Test
+    public void canPreserveOrderPerNode() {
+        m_pipeline = createPipeline(4, 100, 5);
+
+        for (int i = 0; i < 100; i++) {
+            for (int node = 1; node <= 20; node++) {
+                m_pipeline.submit(log(event(node, "uei.opennms.org/test/" + i)));
+            }
+        }
+
+        await().atMost(30, TimeUnit.SECONDS).until(() -> m_broadcaster.count(), equalTo(2000));
+
+        final List<String> expected = IntStream.range(0, 100).mapToObj(i -> "uei.opennms.org/test/" + i).collect(Collectors.toList());
+        for (int node = 1; node <= 20; node++) {
+            assertThat(m_broadcaster.ueis(node), equalTo(expected));
+        }
+    }
+
+    @Test
+    public void canSplitLogsByNode() {
+        m_pipeline = createPipeline(4, 100, 5);
+
+        // The events of node 1 are split across logs containing other nodes
+        for (int i = 0; i < 50; i++) {
+            m_pipeline.submit(log(event(1, "uei.opennms.org/test/" + i), event(i + 2, "uei.opennms.org/test/" + i)));
+        }
+
+        await().atMost(30, TimeUnit.SECONDS).until(() -> m_broadcaster.count(), equalTo(100));
+
+        assertThat(m_broadcaster.ueis(1), equalTo(IntStream.range(0, 50).mapToObj(i -> "uei.opennms.org/test/" + i).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void canBatchWrites() {
+        m_pipeline = createPipeline(1, 50, 100);
+
+        // Hold the writer until all logs have been queued
+        m_writer.hold();
+        for (int i = 0; i < 100; i++) {
+            m_pipeline.submit(log(event(1, "uei.opennms.org/test/" + i)));
+        }
+        m_writer.release();
+
+        await().atMost(30, TimeUnit.SECONDS).until(() -> m_broadcaster.count(), equalTo(100));
+
+        assertThat(m_writer.getBatchSizes().stream().mapToInt(Integer::intValue).max().getAsInt(), greaterThan(1));
+    }
+
+    @Test
+    public void canRetryFailedBatches() {
+        m_pipeline = createPipeline(1, 50, 100);
+
+        m_writer.hold();
+        m_pipeline.submit(log(event(1, "uei.opennms.org/test/a")));
+        m_pipeline.submit(log(event(1, POISON)));
+        m_pipeline.submit(log(event(1, "uei.opennms.org/test/b")));
+        m_writer.release();
+
+        await().atMost(30, TimeUnit.SECONDS).until(() -> m_broadcaster.count(), equalTo(2));
+
+        // The failed log is not broadcasted, the others are in order
+        assertThat(m_broadcaster.ueis(1), contains("uei.opennms.org/test/a", "uei.opennms.org/test/b"));
+        assertThat(m_broadcaster.ueis(1), not(hasItem(POISON)));
+    }
+
+    @Test
+    public void canResolveNodesBeforePartitioning() throws UnknownHostException {
+        final OnmsNode node = new OnmsNode();
+        node.setId(1);
+        final NodeDao nodeDao = mock(NodeDao.class);
+        when(nodeDao.findByForeignId("fs", "fid")).thenReturn(node);
+        final InterfaceToNodeCache interfaceToNodeCache = mock(InterfaceToNodeCache.class);
+        when(interfaceToNodeCache.getFirstNodeId(MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID, InetAddress.getByName("10.0.0.1")))
+                .thenReturn(Optional.of(1));
+
+        m_pipeline = createPipeline(16, 100, 5, nodeDao, interfaceToNodeCache);
+
+        // Events of node 1 referencing the node by ID, by foreign source and foreign ID or by interface only
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            final EventBuilder builder = new EventBuilder("uei.opennms.org/test/" + i, "test");
+            switch (i % 3) {
+                case 0:
+                    builder.setNodeid(1);
+                    break;
+                case 1:
+                    builder.addParam("_foreignSource", "fs").addParam("_foreignId", "fid");
+                    break;
+                default:
+                    builder.setInterface(InetAddress.getByName("10.0.0.1"));
+            }
+            events.add(builder.getEvent());
+        }
+
+        // Events for other nodes, so that the lanes are busy
+        for (int i = 0; i < 30; i++) {
+            m_pipeline.submit(log(events.get(i)));
+            m_pipeline.submit(log(event(i + 2, "uei.opennms.org/test/other")));
+        }
+
+        await().atMost(30, TimeUnit.SECONDS).until(() -> m_broadcaster.count(), equalTo(60));
+
+        // All events of node 1 share a lane and are broadcast in order
+        final int lane = m_pipeline.laneOf(events.get(0));
+        for (final Event event : events) {
+            assertThat(m_pipeline.laneOf(event), equalTo(lane));
+        }
+        assertThat(m_broadcaster.ueis().stream().filter(uei -> !uei.endsWith("other")).collect(Collectors.toList()),
+                equalTo(IntStream.range(0, 30).mapToObj(i -> "uei.opennms.org/test/" + i).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void canWaitForSynchronousLogsInOrder() throws Exception {
+        m_pipeline = createPipeline(4, 100, 5);
+
+        m_writer.hold();
+        for (int i = 0; i < 10; i++) {
+            m_pipeline.submit(log(event(1, "uei.opennms.org/test/" + i)));
+        }
+        final CompletableFuture<Void> sync = CompletableFuture.runAsync(() -> {
+            try {
+                m_pipeline.submitAndWait(log(event(1, "uei.opennms.org/test/sync")));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        // The synchronous log is queued behind the others of the node
+        Thread.sleep(250);
+        assertThat(sync.isDone(), equalTo(false));
+
+        m_writer.release();
+        sync.get(30, TimeUnit.SECONDS);
+
+        // It has been broadcast when the call returns
+        final List<String> expected = IntStream.range(0, 10).mapToObj(i -> "uei.opennms.org/test/" + i).collect(Collectors.toList());
+        expected.add("uei.opennms.org/test/sync");
+        assertThat(m_broadcaster.ueis(1), equalTo(expected));
+    }
+
+    private EventPipeline createPipeline(final int lanes, final int batchSize, final long batchWindowMs) {
+        return createPipeline(lanes, batchSize, batchWindowMs, null, null);
+    }
+
+    private EventPipeline createPipeline(final int lanes, final int batchSize, final long batchWindowMs,
+                                         final NodeDao nodeDao, final InterfaceToNodeCache interfaceToNodeCache) {
+        final DefaultEventHandlerImpl eventHandler = new DefaultEventHandlerImpl(new MetricRegistry());
+        eventHandler.setEventProcessors(Arrays.asList(m_writer, m_broadcaster));
+        eventHandler.setNodeDao(nodeDao);
+        eventHandler.setInterfaceToNodeCache(interfaceToNodeCache);
+
+        final EventPipeline pipeline = new EventPipeline(eventHandler, lanes, null, batchSize, batchWindowMs, new MetricRegistry());
+        pipeline.start();
+        return pipeline;
+    }
+
+    private static Event event(final int nodeId, final String uei) {
+        return new EventBuilder(uei, "test")
+                .setNodeid(nodeId)
+                .getEvent();
+    }
+
+    private static Log log(final Event... events) {
+        final Events e = new Events();
+        for (final Event event : events) {
+            e.addEvent(event);
+        }
+
+        final Log log = new Log();
+        log.setEvents(e);
+        return log;
+    }
+
+    private static class MockEventWriter implements EventWriter {
+        private final List<Integer> m_batchSizes = new CopyOnWriteArrayList<>();
+
+        private final Object m_lock = new Object();
+
+        private boolean m_held = false;
+
+        public void hold() {
+            synchronized (m_lock) {
+                m_held = true;
+            }
+        }
+
+        public void release() {
+            synchronized (m_lock) {
+                m_held = false;
+                m_lock.notifyAll();
+            }
+        }
+
+        public List<Integer> getBatchSizes() {
+            return m_batchSizes;
+        }
+
+        @Override
+        public void process(final Log eventLog) throws EventProcessorException {
+            processAll(Collections.singletonList(eventLog));
+        }
+
+        @Override
+        public void process(final Log eventLog, final boolean synchronous) throws EventProcessorException {
+            process(eventLog);
+        }
+
+        @Override
+        public void processAll(final List<Log> eventLogs) throws EventProcessorException {
+            synchronized (m_lock) {
+                while (m_held) {
+                    try {
+                        m_lock.wait();
+                    } catch (InterruptedException e) {
+                        throw new EventProcessorException(e);
+                    }
+                }
+            }
+
+            for (final Log eventLog : eventLogs) {
+                for (final Event event : eventLog.getEvents().getEventCollection()) {
+                    if (POISON.equals(event.getUei())) {
+                        throw new EventProcessorException("Poisoned");
+                    }
+                }
+            }
+            m_batchSizes.add(eventLogs.size());
+        }
+    }
+
+    private static class MockBroadcaster implements EventProcessor {
+        private final Map<Long, List<String>> m_ueisByNode = new ConcurrentHashMap<>();
+
+        private final List<String> m_ueis = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void process(final Log eventLog) {
+            for (final Event event : eventLog.getEvents().getEventCollection()) {
+                m_ueisByNode.computeIfAbsent(event.getNodeid(), k -> new CopyOnWriteArrayList<>()).add(event.getUei());
+                m_ueis.add(event.getUei());
+            }
+        }
+
+        @Override
+        public void process(final Log eventLog, final boolean synchronous) {
+            process(eventLog);
+        }
+
+        public List<String> ueis(final long nodeId) {
+            return new ArrayList<>(m_ueisByNode.getOrDefault(nodeId, Collections.emptyList()));
+        }
+
+        public List<String> ueis() {
+            return new ArrayList<>(m_ueis);
+        }
+
+        public int count() {
+            return m_ueisByNode.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.events.sink.module;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.opennms.core.ipc.sink.xml.ProtobufSinkCodec;
+import org.opennms.netmgt.xml.event.AlarmData;
+import org.opennms.netmgt.xml.event.Autoacknowledge;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Events;
+import org.opennms.netmgt.xml.event.Header;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Logmsg;
+import org.opennms.netmgt.xml.event.ManagedObject;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+import org.opennms.netmgt.xml.event.Tticket;
+import org.opennms.netmgt.xml.event.UpdateField;
+import org.opennms.netmgt.xml.event.Value;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Maps {@link Log} to and from {@link EventSinkProtos.EventLog}.
+ *
+ * The schema covers the elements set by event producers. Logs holding any event which uses
+ * elements only populated from the event configuration are left to the XML codec.
+ */
+public class EventLogProtobufCodec implements ProtobufSinkCodec<Log> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public MessageLite encode(Log log) {
+        final EventSinkProtos.EventLog.Builder builder = EventSinkProtos.EventLog.newBuilder();
+
+        final Header header = log.getHeader();
+        if (header != null) {
+            final EventSinkProtos.Header.Builder headerBuilder = EventSinkProtos.Header.newBuilder();
+            ifSet(header.getVer(), headerBuilder::setVer);
+            ifSet(header.getDpName(), headerBuilder::setDpName);
+            ifSet(header.getCreated(), headerBuilder::setCreated);
+            ifSet(header.getMstation(), headerBuilder::setMstation);
+            builder.setHeader(headerBuilder);
+        }
+
+        if (log.getEvents() != null) {
+            for (final Event event : log.getEvents().getEventCollection()) {
+                if (!isSupported(event)) {
+                    return null;
+                }
+                builder.addEvent(toProto(event));
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Log decode(CodedInputStream input) throws IOException {
+        final EventSinkProtos.EventLog proto = EventSinkProtos.EventLog.parseFrom(input);
+        final Log log = new Log();
+
+        if (proto.hasHeader()) {
+            final EventSinkProtos.Header headerProto = proto.getHeader();
+            final Header header = new Header();
+            header.setVer(headerProto.hasVer() ? headerProto.getVer() : null);
+            header.setDpName(headerProto.hasDpName() ? headerProto.getDpName() : null);
+            header.setCreated(headerProto.hasCreated() ? headerProto.getCreated() : null);
+            header.setMstation(headerProto.hasMstation() ? headerProto.getMstation() : null);
+            log.setHeader(header);
+        }
+
+        final Events events = new Events();
+        for (final EventSinkProtos.Event eventProto : proto.getEventList()) {
+            events.addEvent(fromProto(eventProto));
+        }
+        log.setEvents(events);
+        return log;
+    }
+
+    private static boolean isSupported(Event event) {
+        return event.getMask() == null
+                && event.getCorrelation() == null
+                && event.getAutoactionCount() == 0
+                && event.getOperactionCount() == 0
+                && event.getForwardCount() == 0
+                && event.getScriptCount() == 0;
+    }
+
+    private static EventSinkProtos.Event toProto(Event event) {
+        final EventSinkProtos.Event.Builder builder = EventSinkProtos.Event.newBuilder();
+        ifSet(event.getUuid(), builder::setUuid);
+        ifSet(event.getDbid(), builder::setDbid);
+        ifSet(event.getDistPoller(), builder::setDistPoller);
+        if (event.getCreationTime() != null) {
+            builder.setCreationTime(event.getCreationTime().getTime());
+        }
+        ifSet(event.getMasterStation(), builder::setMasterStation);
+        ifSet(event.getUei(), builder::setUei);
+        ifSet(event.getSource(), builder::setSource);
+        ifSet(event.getNodeid(), builder::setNodeid);
+        if (event.getTime() != null) {
+            builder.setTime(event.getTime().getTime());
+        }
+        ifSet(event.getHost(), builder::setHost);
+        if (event.getInterfaceAddress() != null) {
+            builder.setInterfaceAddress(ByteString.copyFrom(event.getInterfaceAddress().getAddress()));
+        }
+        ifSet(event.getSnmphost(), builder::setSnmphost);
+        ifSet(event.getService(), builder::setService);
+        if (event.getSnmp() != null) {
+            builder.setSnmp(toProto(event.getSnmp()));
+        }
+        for (final Parm parm : event.getParmCollection()) {
+            builder.addParm(toProto(parm));
+        }
+        ifSet(event.getDescr(), builder::setDescr);
+        if (event.getLogmsg() != null) {
+            final Logmsg logmsg = event.getLogmsg();
+            final EventSinkProtos.Logmsg.Builder logmsgBuilder = EventSinkProtos.Logmsg.newBuilder();
+            ifSet(logmsg.getContent(), logmsgBuilder::setContent);
+            ifSet(logmsg.getNotify(), logmsgBuilder::setNotify);
+            ifSet(logmsg.getDest(), logmsgBuilder::setDest);
+            builder.setLogmsg(logmsgBuilder);
+        }
+        ifSet(event.getSeverity(), builder::setSeverity);
+        ifSet(event.getPathoutage(), builder::setPathoutage);
+        ifSet(event.getOperinstruct(), builder::setOperinstruct);
+        builder.addAllLoggroup(event.getLoggroupCollection());
+        ifSet(event.getIfIndex(), builder::setIfIndex);
+        ifSet(event.getIfAlias(), builder::setIfAlias);
+        ifSet(event.getMouseovertext(), builder::setMouseovertext);
+        if (event.getAlarmData() != null) {
+            builder.setAlarmData(toProto(event.getAlarmData()));
+        }
+        if (event.getAutoacknowledge() != null) {
+            builder.setAutoacknowledge(toStateContent(event.getAutoacknowledge().getContent(), event.getAutoacknowledge().getState()));
+        }
+        if (event.getTticket() != null) {
+            builder.setTticket(toStateContent(event.getTticket().getContent(), event.getTticket().getState()));
+        }
+        return builder.build();
+    }
+
+    private static Event fromProto(EventSinkProtos.Event proto) throws IOException {
+        final Event event = new Event();
+        event.setUuid(proto.hasUuid() ? proto.getUuid() : null);
+        event.setDbid(proto.hasDbid() ? proto.getDbid() : null);
+        event.setDistPoller(proto.hasDistPoller() ? proto.getDistPoller() : null);
+        event.setCreationTime(proto.hasCreationTime() ? new Date(proto.getCreationTime()) : null);
+        event.setMasterStation(proto.hasMasterStation() ? proto.getMasterStation() : null);
+        event.setUei(proto.hasUei() ? proto.getUei() : null);
+        event.setSource(proto.hasSource() ? proto.getSource() : null);
+        event.setNodeid(proto.hasNodeid() ? proto.getNodeid() : null);
+        event.setTime(proto.hasTime() ? new Date(proto.getTime()) : null);
+        event.setHost(proto.hasHost() ? proto.getHost() : null);
+        if (!proto.getInterfaceAddress().isEmpty()) {
+            try {
+                event.setInterfaceAddress(InetAddress.getByAddress(proto.getInterfaceAddress().toByteArray()));
+            } catch (UnknownHostException e) {
+                throw new IOException("Invalid interface address of length " + proto.getInterfaceAddress().size(), e);
+            }
+        }
+        event.setSnmphost(proto.hasSnmphost() ? proto.getSnmphost() : null);
+        event.setService(proto.hasService() ? proto.getService() : null);
+        if (proto.hasSnmp()) {
+            event.setSnmp(fromProto(proto.getSnmp()));
+        }
+        if (proto.getParmCount() > 0) {
+            final List<Parm> parms = new ArrayList<>(proto.getParmCount());
+            for (final EventSinkProtos.Parm parmProto : proto.getParmList()) {
+                parms.add(fromProto(parmProto));
+            }
+            event.setParmCollection(parms);
+        }
+        event.setDescr(proto.hasDescr() ? proto.getDescr() : null);
+        if (proto.hasLogmsg()) {
+            final EventSinkProtos.Logmsg logmsgProto = proto.getLogmsg();
+            final Logmsg logmsg = new Logmsg();
+            logmsg.setContent(logmsgProto.hasContent() ? logmsgProto.getContent() : null);
+            logmsg.setNotify(logmsgProto.hasNotify() ? logmsgProto.getNotify() : null);
+            logmsg.setDest(logmsgProto.hasDest() ? logmsgProto.getDest() : null);
+            event.setLogmsg(logmsg);
+        }
+        event.setSeverity(proto.hasSeverity() ? proto.getSeverity() : null);
+        event.setPathoutage(proto.hasPathoutage() ? proto.getPathoutage() : null);
+        event.setOperinstruct(proto.hasOperinstruct() ? proto.getOperinstruct() : null);
+        if (proto.getLoggroupCount() > 0) {
+            event.setLoggroupCollection(new ArrayList<>(proto.getLoggroupList()));
+        }
+        event.setIfIndex(proto.hasIfIndex() ? proto.getIfIndex() : null);
+        event.setIfAlias(proto.hasIfAlias() ? proto.getIfAlias() : null);
+        event.setMouseovertext(proto.hasMouseovertext() ? proto.getMouseovertext() : null);
+        if (proto.hasAlarmData()) {
+            event.setAlarmData(fromProto(proto.getAlarmData()));
+        }
+        if (proto.hasAutoacknowledge()) {
+            final Autoacknowledge autoacknowledge = new Autoacknowledge();
+            autoacknowledge.setContent(proto.getAutoacknowledge().hasContent() ? proto.getAutoacknowledge().getContent() : null);
+            autoacknowledge.setState(proto.getAutoacknowledge().hasState() ? proto.getAutoacknowledge().getState() : null);
+            event.setAutoacknowledge(autoacknowledge);
+        }
+        if (proto.hasTticket()) {
+            final Tticket tticket = new Tticket();
+            tticket.setContent(proto.getTticket().hasContent() ? proto.getTticket().getContent() : null);
+            tticket.setState(proto.getTticket().hasState() ? proto.getTticket().getState() : null);
+            event.setTticket(tticket);
+        }
+        return event;
+    }
+
+    private static EventSinkProtos.Snmp toProto(Snmp snmp) {
+        final EventSinkProtos.Snmp.Builder builder = EventSinkProtos.Snmp.newBuilder();
+        ifSet(snmp.getId(), builder::setId);
+        ifSet(snmp.getTrapOID(), builder::setTrapOid);
+        ifSet(snmp.getIdtext(), builder::setIdtext);
+        ifSet(snmp.getVersion(), builder::setVersion);
+        ifSet(snmp.getSpecific(), builder::setSpecific);
+        ifSet(snmp.getGeneric(), builder::setGeneric);
+        ifSet(snmp.getCommunity(), builder::setCommunity);
+        ifSet(snmp.getTimeStamp(), builder::setTimeStamp);
+        return builder.build();
+    }
+
+    private static Snmp fromProto(EventSinkProtos.Snmp proto) {
+        final Snmp snmp = new Snmp();
+        snmp.setId(proto.hasId() ? proto.getId() : null);
+        snmp.setTrapOID(proto.hasTrapOid() ? proto.getTrapOid() : null);
+        snmp.setIdtext(proto.hasIdtext() ? proto.getIdtext() : null);
+        snmp.setVersion(proto.hasVersion() ? proto.getVersion() : null);
+        snmp.setSpecific(proto.hasSpecific() ? proto.getSpecific() : null);
+        snmp.setGeneric(proto.hasGeneric() ? proto.getGeneric() : null);
+        snmp.setCommunity(proto.hasCommunity() ? proto.getCommunity() : null);
+        snmp.setTimeStamp(proto.hasTimeStamp() ? proto.getTimeStamp() : null);
+        return snmp;
+    }
+
+    private static EventSinkProtos.Parm toProto(Parm parm) {
+        final EventSinkProtos.Parm.Builder builder = EventSinkProtos.Parm.newBuilder();
+        ifSet(parm.getParmName(), builder::setName);
+        final Value value = parm.getValue();
+        if (value != null) {
+            final EventSinkProtos.Value.Builder valueBuilder = EventSinkProtos.Value.newBuilder();
+            ifSet(value.getContent(), valueBuilder::setContent);
+            ifSet(value.getType(), valueBuilder::setType);
+            ifSet(value.getEncoding(), valueBuilder::setEncoding);
+            builder.setValue(valueBuilder);
+        }
+        return builder.build();
+    }
+
+    private static Parm fromProto(EventSinkProtos.Parm proto) {
+        final Parm parm = new Parm();
+        parm.setParmName(proto.hasName() ? proto.getName() : null);
+        if (proto.hasValue()) {
+            final EventSinkProtos.Value valueProto = proto.getValue();
+            final Value value = new Value();
+            value.setContent(valueProto.hasContent() ? valueProto.getContent() : null);
+            value.setType(valueProto.hasType() ? valueProto.getType() : null);
+            value.setEncoding(valueProto.hasEncoding() ? valueProto.getEncoding() : null);
+            parm.setValue(value);
+        }
+        return parm;
+    }
+
+    private static EventSinkProtos.AlarmData toProto(AlarmData alarmData) {
+        final EventSinkProtos.AlarmData.Builder builder = EventSinkProtos.AlarmData.newBuilder();
+        ifSet(alarmData.getReductionKey(), builder::setReductionKey);
+        ifSet(alarmData.getAlarmType(), builder::setAlarmType);
+        ifSet(alarmData.getClearKey(), builder::setClearKey);
+        ifSet(alarmData.getAutoClean(), builder::setAutoClean);
+        ifSet(alarmData.getX733AlarmType(), builder::setX733AlarmType);
+        ifSet(alarmData.getX733ProbableCause(), builder::setX733ProbableCause);
+        for (final UpdateField updateField : alarmData.hasUpdateFields() ? alarmData.getUpdateFieldList() : Collections.<UpdateField>emptyList()) {
+            final EventSinkProtos.UpdateField.Builder updateFieldBuilder = EventSinkProtos.UpdateField.newBuilder();
+            ifSet(updateField.getFieldName(), updateFieldBuilder::setFieldName);
+            ifSet(updateField.isUpdateOnReduction(), updateFieldBuilder::setUpdateOnReduction);
+            ifSet(updateField.getValueExpression(), updateFieldBuilder::setValueExpression);
+            builder.addUpdateField(updateFieldBuilder);
+        }
+        if (alarmData.getManagedObject() != null) {
+            final EventSinkProtos.ManagedObject.Builder managedObjectBuilder = EventSinkProtos.ManagedObject.newBuilder();
+            ifSet(alarmData.getManagedObject().getType(), managedObjectBuilder::setType);
+            builder.setManagedObject(managedObjectBuilder);
+        }
+        return builder.build();
+    }
+
+    private static AlarmData fromProto(EventSinkProtos.AlarmData proto) {
+        final AlarmData alarmData = new AlarmData();
+        alarmData.setReductionKey(proto.hasReductionKey() ? proto.getReductionKey() : null);
+        alarmData.setAlarmType(proto.hasAlarmType() ? proto.getAlarmType() : null);
+        alarmData.setClearKey(proto.hasClearKey() ? proto.getClearKey() : null);
+        alarmData.setAutoClean(proto.hasAutoClean() ? proto.getAutoClean() : null);
+        alarmData.setX733AlarmType(proto.hasX733AlarmType() ? proto.getX733AlarmType() : null);
+        alarmData.setX733ProbableCause(proto.hasX733ProbableCause() ? proto.getX733ProbableCause() : null);
+        if (proto.getUpdateFieldCount() > 0) {
+            final List<UpdateField> updateFields = new ArrayList<>(proto.getUpdateFieldCount());
+            for (final EventSinkProtos.UpdateField updateFieldProto : proto.getUpdateFieldList()) {
+                final UpdateField updateField = new UpdateField();
+                updateField.setFieldName(updateFieldProto.hasFieldName() ? updateFieldProto.getFieldName() : null);
+                updateField.setUpdateOnReduction(updateFieldProto.hasUpdateOnReduction() ? updateFieldProto.getUpdateOnReduction() : null);
+                updateField.setValueExpression(updateFieldProto.hasValueExpression() ? updateFieldProto.getValueExpression() : null);
+                updateFields.add(updateField);
+            }
+            alarmData.setUpdateField(updateFields);
+        }
+        if (proto.hasManagedObject()) {
+            final ManagedObject managedObject = new ManagedObject();
+            managedObject.setType(proto.getManagedObject().hasType() ? proto.getManagedObject().getType() : null);
+            alarmData.setManagedObject(managedObject);
+        }
+        return alarmData;
+    }
+
+    private static EventSinkProtos.StateContent toStateContent(String content, String state) {
+        final EventSinkProtos.StateContent.Builder builder = EventSinkProtos.StateContent.newBuilder();
+        ifSet(content, builder::setContent);
+        ifSet(state, builder::setState);
+        return builder.build();
+    }
+
+    private static <V> void ifSet(V value, Consumer<V> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
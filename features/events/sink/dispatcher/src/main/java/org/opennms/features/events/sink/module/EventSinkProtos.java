@@ -0,0 +1,15509 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: event-sink.proto
+
+package org.opennms.features.events.sink.module;
+
+public final class EventSinkProtos {
+  private EventSinkProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface EventLogOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EventLog)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.Header header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.Header header = 1;</code>
+     * @return The header.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.Header getHeader();
+    /**
+     * <code>.Header header = 1;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.HeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Event> 
+        getEventList();
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.Event getEvent(int index);
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    int getEventCount();
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder> 
+        getEventOrBuilderList();
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder getEventOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code EventLog}
+   */
+  public static final class EventLog extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:EventLog)
+      EventLogOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EventLog.newBuilder() to construct.
+    private EventLog(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EventLog() {
+      event_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EventLog();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_EventLog_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_EventLog_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.EventLog.class, org.opennms.features.events.sink.module.EventSinkProtos.EventLog.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.opennms.features.events.sink.module.EventSinkProtos.Header header_;
+    /**
+     * <code>.Header header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.Header header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Header getHeader() {
+      return header_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Header.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.Header header = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.HeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Header.getDefaultInstance() : header_;
+    }
+
+    public static final int EVENT_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Event> event_;
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Event> getEventList() {
+      return event_;
+    }
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder> 
+        getEventOrBuilderList() {
+      return event_;
+    }
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    @java.lang.Override
+    public int getEventCount() {
+      return event_.size();
+    }
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Event getEvent(int index) {
+      return event_.get(index);
+    }
+    /**
+     * <code>repeated .Event event = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder getEventOrBuilder(
+        int index) {
+      return event_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getHeader());
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        output.writeMessage(2, event_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      for (int i = 0; i < event_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, event_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.EventLog)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.EventLog other = (org.opennms.features.events.sink.module.EventSinkProtos.EventLog) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getEventList()
+          .equals(other.getEventList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (getEventCount() > 0) {
+        hash = (37 * hash) + EVENT_FIELD_NUMBER;
+        hash = (53 * hash) + getEventList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.EventLog prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code EventLog}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:EventLog)
+        org.opennms.features.events.sink.module.EventSinkProtos.EventLogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_EventLog_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_EventLog_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.EventLog.class, org.opennms.features.events.sink.module.EventSinkProtos.EventLog.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.EventLog.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getHeaderFieldBuilder();
+          getEventFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+        } else {
+          event_ = null;
+          eventBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_EventLog_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.EventLog getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.EventLog.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.EventLog build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.EventLog result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.EventLog buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.EventLog result = new org.opennms.features.events.sink.module.EventSinkProtos.EventLog(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.features.events.sink.module.EventSinkProtos.EventLog result) {
+        if (eventBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            event_ = java.util.Collections.unmodifiableList(event_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.event_ = event_;
+        } else {
+          result.event_ = eventBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.EventLog result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.EventLog) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.EventLog)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.EventLog other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.EventLog.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (eventBuilder_ == null) {
+          if (!other.event_.isEmpty()) {
+            if (event_.isEmpty()) {
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureEventIsMutable();
+              event_.addAll(other.event_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.event_.isEmpty()) {
+            if (eventBuilder_.isEmpty()) {
+              eventBuilder_.dispose();
+              eventBuilder_ = null;
+              event_ = other.event_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              eventBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEventFieldBuilder() : null;
+            } else {
+              eventBuilder_.addAllMessages(other.event_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.opennms.features.events.sink.module.EventSinkProtos.Event m =
+                    input.readMessage(
+                        org.opennms.features.events.sink.module.EventSinkProtos.Event.parser(),
+                        extensionRegistry);
+                if (eventBuilder_ == null) {
+                  ensureEventIsMutable();
+                  event_.add(m);
+                } else {
+                  eventBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.Header header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Header, org.opennms.features.events.sink.module.EventSinkProtos.Header.Builder, org.opennms.features.events.sink.module.EventSinkProtos.HeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.Header header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       * @return The header.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Header getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Header.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       */
+      public Builder setHeader(org.opennms.features.events.sink.module.EventSinkProtos.Header value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       */
+      public Builder setHeader(
+          org.opennms.features.events.sink.module.EventSinkProtos.Header.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       */
+      public Builder mergeHeader(org.opennms.features.events.sink.module.EventSinkProtos.Header value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.opennms.features.events.sink.module.EventSinkProtos.Header.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        if (header_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Header.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.HeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.Header.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.Header header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Header, org.opennms.features.events.sink.module.EventSinkProtos.Header.Builder, org.opennms.features.events.sink.module.EventSinkProtos.HeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.Header, org.opennms.features.events.sink.module.EventSinkProtos.Header.Builder, org.opennms.features.events.sink.module.EventSinkProtos.HeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Event> event_ =
+        java.util.Collections.emptyList();
+      private void ensureEventIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          event_ = new java.util.ArrayList<org.opennms.features.events.sink.module.EventSinkProtos.Event>(event_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Event, org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder, org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder> eventBuilder_;
+
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Event> getEventList() {
+        if (eventBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(event_);
+        } else {
+          return eventBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public int getEventCount() {
+        if (eventBuilder_ == null) {
+          return event_.size();
+        } else {
+          return eventBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Event getEvent(int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);
+        } else {
+          return eventBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder setEvent(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Event value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.set(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder setEvent(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder addEvent(org.opennms.features.events.sink.module.EventSinkProtos.Event value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder addEvent(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Event value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventIsMutable();
+          event_.add(index, value);
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder addEvent(
+          org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder addEvent(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder addAllEvent(
+          java.lang.Iterable<? extends org.opennms.features.events.sink.module.EventSinkProtos.Event> values) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, event_);
+          onChanged();
+        } else {
+          eventBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder clearEvent() {
+        if (eventBuilder_ == null) {
+          event_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          eventBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public Builder removeEvent(int index) {
+        if (eventBuilder_ == null) {
+          ensureEventIsMutable();
+          event_.remove(index);
+          onChanged();
+        } else {
+          eventBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder getEventBuilder(
+          int index) {
+        return getEventFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder getEventOrBuilder(
+          int index) {
+        if (eventBuilder_ == null) {
+          return event_.get(index);  } else {
+          return eventBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder> 
+           getEventOrBuilderList() {
+        if (eventBuilder_ != null) {
+          return eventBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(event_);
+        }
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder addEventBuilder() {
+        return getEventFieldBuilder().addBuilder(
+            org.opennms.features.events.sink.module.EventSinkProtos.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder addEventBuilder(
+          int index) {
+        return getEventFieldBuilder().addBuilder(
+            index, org.opennms.features.events.sink.module.EventSinkProtos.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Event event = 2;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder> 
+           getEventBuilderList() {
+        return getEventFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Event, org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder, org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder> 
+          getEventFieldBuilder() {
+        if (eventBuilder_ == null) {
+          eventBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.Event, org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder, org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder>(
+                  event_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          event_ = null;
+        }
+        return eventBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:EventLog)
+    }
+
+    // @@protoc_insertion_point(class_scope:EventLog)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.EventLog DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.EventLog();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.EventLog getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EventLog>
+        PARSER = new com.google.protobuf.AbstractParser<EventLog>() {
+      @java.lang.Override
+      public EventLog parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<EventLog> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EventLog> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.EventLog getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Header)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return Whether the ver field is set.
+     */
+    boolean hasVer();
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The ver.
+     */
+    java.lang.String getVer();
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The bytes for ver.
+     */
+    com.google.protobuf.ByteString
+        getVerBytes();
+
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return Whether the dpName field is set.
+     */
+    boolean hasDpName();
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The dpName.
+     */
+    java.lang.String getDpName();
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The bytes for dpName.
+     */
+    com.google.protobuf.ByteString
+        getDpNameBytes();
+
+    /**
+     * <code>optional string created = 3;</code>
+     * @return Whether the created field is set.
+     */
+    boolean hasCreated();
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The created.
+     */
+    java.lang.String getCreated();
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The bytes for created.
+     */
+    com.google.protobuf.ByteString
+        getCreatedBytes();
+
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return Whether the mstation field is set.
+     */
+    boolean hasMstation();
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The mstation.
+     */
+    java.lang.String getMstation();
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The bytes for mstation.
+     */
+    com.google.protobuf.ByteString
+        getMstationBytes();
+  }
+  /**
+   * Protobuf type {@code Header}
+   */
+  public static final class Header extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Header)
+      HeaderOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Header.newBuilder() to construct.
+    private Header(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Header() {
+      ver_ = "";
+      dpName_ = "";
+      created_ = "";
+      mstation_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Header();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Header_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Header_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.Header.class, org.opennms.features.events.sink.module.EventSinkProtos.Header.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VER_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object ver_ = "";
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return Whether the ver field is set.
+     */
+    @java.lang.Override
+    public boolean hasVer() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The ver.
+     */
+    @java.lang.Override
+    public java.lang.String getVer() {
+      java.lang.Object ref = ver_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ver_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The bytes for ver.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVerBytes() {
+      java.lang.Object ref = ver_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ver_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DP_NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dpName_ = "";
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return Whether the dpName field is set.
+     */
+    @java.lang.Override
+    public boolean hasDpName() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The dpName.
+     */
+    @java.lang.Override
+    public java.lang.String getDpName() {
+      java.lang.Object ref = dpName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dpName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The bytes for dpName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDpNameBytes() {
+      java.lang.Object ref = dpName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dpName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CREATED_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object created_ = "";
+    /**
+     * <code>optional string created = 3;</code>
+     * @return Whether the created field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreated() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The created.
+     */
+    @java.lang.Override
+    public java.lang.String getCreated() {
+      java.lang.Object ref = created_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        created_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The bytes for created.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCreatedBytes() {
+      java.lang.Object ref = created_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        created_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MSTATION_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object mstation_ = "";
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return Whether the mstation field is set.
+     */
+    @java.lang.Override
+    public boolean hasMstation() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The mstation.
+     */
+    @java.lang.Override
+    public java.lang.String getMstation() {
+      java.lang.Object ref = mstation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        mstation_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The bytes for mstation.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMstationBytes() {
+      java.lang.Object ref = mstation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        mstation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, ver_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dpName_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, created_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, mstation_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, ver_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, dpName_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, created_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, mstation_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.Header)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.Header other = (org.opennms.features.events.sink.module.EventSinkProtos.Header) obj;
+
+      if (hasVer() != other.hasVer()) return false;
+      if (hasVer()) {
+        if (!getVer()
+            .equals(other.getVer())) return false;
+      }
+      if (hasDpName() != other.hasDpName()) return false;
+      if (hasDpName()) {
+        if (!getDpName()
+            .equals(other.getDpName())) return false;
+      }
+      if (hasCreated() != other.hasCreated()) return false;
+      if (hasCreated()) {
+        if (!getCreated()
+            .equals(other.getCreated())) return false;
+      }
+      if (hasMstation() != other.hasMstation()) return false;
+      if (hasMstation()) {
+        if (!getMstation()
+            .equals(other.getMstation())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasVer()) {
+        hash = (37 * hash) + VER_FIELD_NUMBER;
+        hash = (53 * hash) + getVer().hashCode();
+      }
+      if (hasDpName()) {
+        hash = (37 * hash) + DP_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getDpName().hashCode();
+      }
+      if (hasCreated()) {
+        hash = (37 * hash) + CREATED_FIELD_NUMBER;
+        hash = (53 * hash) + getCreated().hashCode();
+      }
+      if (hasMstation()) {
+        hash = (37 * hash) + MSTATION_FIELD_NUMBER;
+        hash = (53 * hash) + getMstation().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.Header prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Header}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Header)
+        org.opennms.features.events.sink.module.EventSinkProtos.HeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Header_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Header_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.Header.class, org.opennms.features.events.sink.module.EventSinkProtos.Header.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.Header.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        ver_ = "";
+        dpName_ = "";
+        created_ = "";
+        mstation_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Header_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Header getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.Header.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Header build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Header result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Header buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Header result = new org.opennms.features.events.sink.module.EventSinkProtos.Header(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.Header result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.ver_ = ver_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.dpName_ = dpName_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.created_ = created_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.mstation_ = mstation_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.Header) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.Header)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.Header other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.Header.getDefaultInstance()) return this;
+        if (other.hasVer()) {
+          ver_ = other.ver_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasDpName()) {
+          dpName_ = other.dpName_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasCreated()) {
+          created_ = other.created_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasMstation()) {
+          mstation_ = other.mstation_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                ver_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                dpName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                created_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                mstation_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object ver_ = "";
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return Whether the ver field is set.
+       */
+      public boolean hasVer() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return The ver.
+       */
+      public java.lang.String getVer() {
+        java.lang.Object ref = ver_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ver_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return The bytes for ver.
+       */
+      public com.google.protobuf.ByteString
+          getVerBytes() {
+        java.lang.Object ref = ver_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ver_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @param value The ver to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVer(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ver_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVer() {
+        ver_ = getDefaultInstance().getVer();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @param value The bytes for ver to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ver_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dpName_ = "";
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return Whether the dpName field is set.
+       */
+      public boolean hasDpName() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return The dpName.
+       */
+      public java.lang.String getDpName() {
+        java.lang.Object ref = dpName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dpName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return The bytes for dpName.
+       */
+      public com.google.protobuf.ByteString
+          getDpNameBytes() {
+        java.lang.Object ref = dpName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dpName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @param value The dpName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDpName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dpName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDpName() {
+        dpName_ = getDefaultInstance().getDpName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @param value The bytes for dpName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDpNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dpName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object created_ = "";
+      /**
+       * <code>optional string created = 3;</code>
+       * @return Whether the created field is set.
+       */
+      public boolean hasCreated() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @return The created.
+       */
+      public java.lang.String getCreated() {
+        java.lang.Object ref = created_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          created_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @return The bytes for created.
+       */
+      public com.google.protobuf.ByteString
+          getCreatedBytes() {
+        java.lang.Object ref = created_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          created_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @param value The created to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreated(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        created_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreated() {
+        created_ = getDefaultInstance().getCreated();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @param value The bytes for created to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        created_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object mstation_ = "";
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return Whether the mstation field is set.
+       */
+      public boolean hasMstation() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return The mstation.
+       */
+      public java.lang.String getMstation() {
+        java.lang.Object ref = mstation_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          mstation_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return The bytes for mstation.
+       */
+      public com.google.protobuf.ByteString
+          getMstationBytes() {
+        java.lang.Object ref = mstation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          mstation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @param value The mstation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMstation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        mstation_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMstation() {
+        mstation_ = getDefaultInstance().getMstation();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @param value The bytes for mstation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMstationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        mstation_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Header)
+    }
+
+    // @@protoc_insertion_point(class_scope:Header)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.Header DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.Header();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Header getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Header>
+        PARSER = new com.google.protobuf.AbstractParser<Header>() {
+      @java.lang.Override
+      public Header parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Header> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Header> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Header getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Event)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return Whether the uuid field is set.
+     */
+    boolean hasUuid();
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The uuid.
+     */
+    java.lang.String getUuid();
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The bytes for uuid.
+     */
+    com.google.protobuf.ByteString
+        getUuidBytes();
+
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return Whether the dbid field is set.
+     */
+    boolean hasDbid();
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return The dbid.
+     */
+    int getDbid();
+
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return Whether the distPoller field is set.
+     */
+    boolean hasDistPoller();
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The distPoller.
+     */
+    java.lang.String getDistPoller();
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The bytes for distPoller.
+     */
+    com.google.protobuf.ByteString
+        getDistPollerBytes();
+
+    /**
+     * <code>optional int64 creation_time = 4;</code>
+     * @return Whether the creationTime field is set.
+     */
+    boolean hasCreationTime();
+    /**
+     * <code>optional int64 creation_time = 4;</code>
+     * @return The creationTime.
+     */
+    long getCreationTime();
+
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return Whether the masterStation field is set.
+     */
+    boolean hasMasterStation();
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The masterStation.
+     */
+    java.lang.String getMasterStation();
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The bytes for masterStation.
+     */
+    com.google.protobuf.ByteString
+        getMasterStationBytes();
+
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return Whether the uei field is set.
+     */
+    boolean hasUei();
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The uei.
+     */
+    java.lang.String getUei();
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The bytes for uei.
+     */
+    com.google.protobuf.ByteString
+        getUeiBytes();
+
+    /**
+     * <code>optional string source = 7;</code>
+     * @return Whether the source field is set.
+     */
+    boolean hasSource();
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return Whether the nodeid field is set.
+     */
+    boolean hasNodeid();
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return The nodeid.
+     */
+    long getNodeid();
+
+    /**
+     * <code>optional int64 time = 9;</code>
+     * @return Whether the time field is set.
+     */
+    boolean hasTime();
+    /**
+     * <code>optional int64 time = 9;</code>
+     * @return The time.
+     */
+    long getTime();
+
+    /**
+     * <code>optional string host = 10;</code>
+     * @return Whether the host field is set.
+     */
+    boolean hasHost();
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The host.
+     */
+    java.lang.String getHost();
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The bytes for host.
+     */
+    com.google.protobuf.ByteString
+        getHostBytes();
+
+    /**
+     * <pre>
+     * raw 4 or 16 address bytes
+     * </pre>
+     *
+     * <code>bytes interface_address = 11;</code>
+     * @return The interfaceAddress.
+     */
+    com.google.protobuf.ByteString getInterfaceAddress();
+
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return Whether the snmphost field is set.
+     */
+    boolean hasSnmphost();
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The snmphost.
+     */
+    java.lang.String getSnmphost();
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The bytes for snmphost.
+     */
+    com.google.protobuf.ByteString
+        getSnmphostBytes();
+
+    /**
+     * <code>optional string service = 13;</code>
+     * @return Whether the service field is set.
+     */
+    boolean hasService();
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The service.
+     */
+    java.lang.String getService();
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The bytes for service.
+     */
+    com.google.protobuf.ByteString
+        getServiceBytes();
+
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return Whether the snmp field is set.
+     */
+    boolean hasSnmp();
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return The snmp.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.Snmp getSnmp();
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.SnmpOrBuilder getSnmpOrBuilder();
+
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Parm> 
+        getParmList();
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.Parm getParm(int index);
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    int getParmCount();
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder> 
+        getParmOrBuilderList();
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder getParmOrBuilder(
+        int index);
+
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return Whether the descr field is set.
+     */
+    boolean hasDescr();
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The descr.
+     */
+    java.lang.String getDescr();
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The bytes for descr.
+     */
+    com.google.protobuf.ByteString
+        getDescrBytes();
+
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return Whether the logmsg field is set.
+     */
+    boolean hasLogmsg();
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return The logmsg.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.Logmsg getLogmsg();
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.LogmsgOrBuilder getLogmsgOrBuilder();
+
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return Whether the severity field is set.
+     */
+    boolean hasSeverity();
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The severity.
+     */
+    java.lang.String getSeverity();
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The bytes for severity.
+     */
+    com.google.protobuf.ByteString
+        getSeverityBytes();
+
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return Whether the pathoutage field is set.
+     */
+    boolean hasPathoutage();
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The pathoutage.
+     */
+    java.lang.String getPathoutage();
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The bytes for pathoutage.
+     */
+    com.google.protobuf.ByteString
+        getPathoutageBytes();
+
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return Whether the operinstruct field is set.
+     */
+    boolean hasOperinstruct();
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The operinstruct.
+     */
+    java.lang.String getOperinstruct();
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The bytes for operinstruct.
+     */
+    com.google.protobuf.ByteString
+        getOperinstructBytes();
+
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return A list containing the loggroup.
+     */
+    java.util.List<java.lang.String>
+        getLoggroupList();
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return The count of loggroup.
+     */
+    int getLoggroupCount();
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the element to return.
+     * @return The loggroup at the given index.
+     */
+    java.lang.String getLoggroup(int index);
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the loggroup at the given index.
+     */
+    com.google.protobuf.ByteString
+        getLoggroupBytes(int index);
+
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return Whether the ifIndex field is set.
+     */
+    boolean hasIfIndex();
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return The ifIndex.
+     */
+    int getIfIndex();
+
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return Whether the ifAlias field is set.
+     */
+    boolean hasIfAlias();
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The ifAlias.
+     */
+    java.lang.String getIfAlias();
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The bytes for ifAlias.
+     */
+    com.google.protobuf.ByteString
+        getIfAliasBytes();
+
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return Whether the mouseovertext field is set.
+     */
+    boolean hasMouseovertext();
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The mouseovertext.
+     */
+    java.lang.String getMouseovertext();
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The bytes for mouseovertext.
+     */
+    com.google.protobuf.ByteString
+        getMouseovertextBytes();
+
+    /**
+     * <code>.AlarmData alarm_data = 25;</code>
+     * @return Whether the alarmData field is set.
+     */
+    boolean hasAlarmData();
+    /**
+     * <code>.AlarmData alarm_data = 25;</code>
+     * @return The alarmData.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.AlarmData getAlarmData();
+    /**
+     * <code>.AlarmData alarm_data = 25;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.AlarmDataOrBuilder getAlarmDataOrBuilder();
+
+    /**
+     * <code>.StateContent autoacknowledge = 26;</code>
+     * @return Whether the autoacknowledge field is set.
+     */
+    boolean hasAutoacknowledge();
+    /**
+     * <code>.StateContent autoacknowledge = 26;</code>
+     * @return The autoacknowledge.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.StateContent getAutoacknowledge();
+    /**
+     * <code>.StateContent autoacknowledge = 26;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder getAutoacknowledgeOrBuilder();
+
+    /**
+     * <code>.StateContent tticket = 27;</code>
+     * @return Whether the tticket field is set.
+     */
+    boolean hasTticket();
+    /**
+     * <code>.StateContent tticket = 27;</code>
+     * @return The tticket.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.StateContent getTticket();
+    /**
+     * <code>.StateContent tticket = 27;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder getTticketOrBuilder();
+  }
+  /**
+   * Protobuf type {@code Event}
+   */
+  public static final class Event extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Event)
+      EventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Event.newBuilder() to construct.
+    private Event(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Event() {
+      uuid_ = "";
+      distPoller_ = "";
+      masterStation_ = "";
+      uei_ = "";
+      source_ = "";
+      host_ = "";
+      interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+      snmphost_ = "";
+      service_ = "";
+      parm_ = java.util.Collections.emptyList();
+      descr_ = "";
+      severity_ = "";
+      pathoutage_ = "";
+      operinstruct_ = "";
+      loggroup_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      ifAlias_ = "";
+      mouseovertext_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Event();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Event_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Event_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.Event.class, org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int UUID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object uuid_ = "";
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return Whether the uuid field is set.
+     */
+    @java.lang.Override
+    public boolean hasUuid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The uuid.
+     */
+    @java.lang.Override
+    public java.lang.String getUuid() {
+      java.lang.Object ref = uuid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uuid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The bytes for uuid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUuidBytes() {
+      java.lang.Object ref = uuid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uuid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DBID_FIELD_NUMBER = 2;
+    private int dbid_ = 0;
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return Whether the dbid field is set.
+     */
+    @java.lang.Override
+    public boolean hasDbid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return The dbid.
+     */
+    @java.lang.Override
+    public int getDbid() {
+      return dbid_;
+    }
+
+    public static final int DIST_POLLER_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object distPoller_ = "";
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return Whether the distPoller field is set.
+     */
+    @java.lang.Override
+    public boolean hasDistPoller() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The distPoller.
+     */
+    @java.lang.Override
+    public java.lang.String getDistPoller() {
+      java.lang.Object ref = distPoller_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        distPoller_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The bytes for distPoller.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDistPollerBytes() {
+      java.lang.Object ref = distPoller_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        distPoller_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CREATION_TIME_FIELD_NUMBER = 4;
+    private long creationTime_ = 0L;
+    /**
+     * <code>optional int64 creation_time = 4;</code>
+     * @return Whether the creationTime field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreationTime() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int64 creation_time = 4;</code>
+     * @return The creationTime.
+     */
+    @java.lang.Override
+    public long getCreationTime() {
+      return creationTime_;
+    }
+
+    public static final int MASTER_STATION_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object masterStation_ = "";
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return Whether the masterStation field is set.
+     */
+    @java.lang.Override
+    public boolean hasMasterStation() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The masterStation.
+     */
+    @java.lang.Override
+    public java.lang.String getMasterStation() {
+      java.lang.Object ref = masterStation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        masterStation_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The bytes for masterStation.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMasterStationBytes() {
+      java.lang.Object ref = masterStation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        masterStation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int UEI_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object uei_ = "";
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return Whether the uei field is set.
+     */
+    @java.lang.Override
+    public boolean hasUei() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The uei.
+     */
+    @java.lang.Override
+    public java.lang.String getUei() {
+      java.lang.Object ref = uei_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uei_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The bytes for uei.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUeiBytes() {
+      java.lang.Object ref = uei_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uei_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>optional string source = 7;</code>
+     * @return Whether the source field is set.
+     */
+    @java.lang.Override
+    public boolean hasSource() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NODEID_FIELD_NUMBER = 8;
+    private long nodeid_ = 0L;
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return Whether the nodeid field is set.
+     */
+    @java.lang.Override
+    public boolean hasNodeid() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return The nodeid.
+     */
+    @java.lang.Override
+    public long getNodeid() {
+      return nodeid_;
+    }
+
+    public static final int TIME_FIELD_NUMBER = 9;
+    private long time_ = 0L;
+    /**
+     * <code>optional int64 time = 9;</code>
+     * @return Whether the time field is set.
+     */
+    @java.lang.Override
+    public boolean hasTime() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional int64 time = 9;</code>
+     * @return The time.
+     */
+    @java.lang.Override
+    public long getTime() {
+      return time_;
+    }
+
+    public static final int HOST_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object host_ = "";
+    /**
+     * <code>optional string host = 10;</code>
+     * @return Whether the host field is set.
+     */
+    @java.lang.Override
+    public boolean hasHost() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The host.
+     */
+    @java.lang.Override
+    public java.lang.String getHost() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        host_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The bytes for host.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getHostBytes() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        host_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INTERFACE_ADDRESS_FIELD_NUMBER = 11;
+    private com.google.protobuf.ByteString interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * raw 4 or 16 address bytes
+     * </pre>
+     *
+     * <code>bytes interface_address = 11;</code>
+     * @return The interfaceAddress.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getInterfaceAddress() {
+      return interfaceAddress_;
+    }
+
+    public static final int SNMPHOST_FIELD_NUMBER = 12;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object snmphost_ = "";
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return Whether the snmphost field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnmphost() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The snmphost.
+     */
+    @java.lang.Override
+    public java.lang.String getSnmphost() {
+      java.lang.Object ref = snmphost_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        snmphost_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The bytes for snmphost.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSnmphostBytes() {
+      java.lang.Object ref = snmphost_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        snmphost_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVICE_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object service_ = "";
+    /**
+     * <code>optional string service = 13;</code>
+     * @return Whether the service field is set.
+     */
+    @java.lang.Override
+    public boolean hasService() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The service.
+     */
+    @java.lang.Override
+    public java.lang.String getService() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        service_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The bytes for service.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getServiceBytes() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        service_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SNMP_FIELD_NUMBER = 14;
+    private org.opennms.features.events.sink.module.EventSinkProtos.Snmp snmp_;
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return Whether the snmp field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnmp() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     * @return The snmp.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Snmp getSnmp() {
+      return snmp_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Snmp.getDefaultInstance() : snmp_;
+    }
+    /**
+     * <code>.Snmp snmp = 14;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.SnmpOrBuilder getSnmpOrBuilder() {
+      return snmp_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Snmp.getDefaultInstance() : snmp_;
+    }
+
+    public static final int PARM_FIELD_NUMBER = 15;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Parm> parm_;
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Parm> getParmList() {
+      return parm_;
+    }
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder> 
+        getParmOrBuilderList() {
+      return parm_;
+    }
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    @java.lang.Override
+    public int getParmCount() {
+      return parm_.size();
+    }
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Parm getParm(int index) {
+      return parm_.get(index);
+    }
+    /**
+     * <code>repeated .Parm parm = 15;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder getParmOrBuilder(
+        int index) {
+      return parm_.get(index);
+    }
+
+    public static final int DESCR_FIELD_NUMBER = 16;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object descr_ = "";
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return Whether the descr field is set.
+     */
+    @java.lang.Override
+    public boolean hasDescr() {
+      return ((bitField0_ & 0x00002000) != 0);
+    }
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The descr.
+     */
+    @java.lang.Override
+    public java.lang.String getDescr() {
+      java.lang.Object ref = descr_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        descr_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The bytes for descr.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescrBytes() {
+      java.lang.Object ref = descr_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        descr_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOGMSG_FIELD_NUMBER = 17;
+    private org.opennms.features.events.sink.module.EventSinkProtos.Logmsg logmsg_;
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return Whether the logmsg field is set.
+     */
+    @java.lang.Override
+    public boolean hasLogmsg() {
+      return ((bitField0_ & 0x00004000) != 0);
+    }
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     * @return The logmsg.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Logmsg getLogmsg() {
+      return logmsg_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.getDefaultInstance() : logmsg_;
+    }
+    /**
+     * <code>.Logmsg logmsg = 17;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.LogmsgOrBuilder getLogmsgOrBuilder() {
+      return logmsg_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.getDefaultInstance() : logmsg_;
+    }
+
+    public static final int SEVERITY_FIELD_NUMBER = 18;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object severity_ = "";
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return Whether the severity field is set.
+     */
+    @java.lang.Override
+    public boolean hasSeverity() {
+      return ((bitField0_ & 0x00008000) != 0);
+    }
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The severity.
+     */
+    @java.lang.Override
+    public java.lang.String getSeverity() {
+      java.lang.Object ref = severity_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        severity_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The bytes for severity.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSeverityBytes() {
+      java.lang.Object ref = severity_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        severity_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PATHOUTAGE_FIELD_NUMBER = 19;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object pathoutage_ = "";
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return Whether the pathoutage field is set.
+     */
+    @java.lang.Override
+    public boolean hasPathoutage() {
+      return ((bitField0_ & 0x00010000) != 0);
+    }
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The pathoutage.
+     */
+    @java.lang.Override
+    public java.lang.String getPathoutage() {
+      java.lang.Object ref = pathoutage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pathoutage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The bytes for pathoutage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPathoutageBytes() {
+      java.lang.Object ref = pathoutage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pathoutage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPERINSTRUCT_FIELD_NUMBER = 20;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object operinstruct_ = "";
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return Whether the operinstruct field is set.
+     */
+    @java.lang.Override
+    public boolean hasOperinstruct() {
+      return ((bitField0_ & 0x00020000) != 0);
+    }
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The operinstruct.
+     */
+    @java.lang.Override
+    public java.lang.String getOperinstruct() {
+      java.lang.Object ref = operinstruct_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        operinstruct_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The bytes for operinstruct.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOperinstructBytes() {
+      java.lang.Object ref = operinstruct_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        operinstruct_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOGGROUP_FIELD_NUMBER = 21;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList loggroup_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return A list containing the loggroup.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getLoggroupList() {
+      return loggroup_;
+    }
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return The count of loggroup.
+     */
+    public int getLoggroupCount() {
+      return loggroup_.size();
+    }
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the element to return.
+     * @return The loggroup at the given index.
+     */
+    public java.lang.String getLoggroup(int index) {
+      return loggroup_.get(index);
+    }
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the loggroup at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getLoggroupBytes(int index) {
+      return loggroup_.getByteString(index);
+    }
+
+    public static final int IF_INDEX_FIELD_NUMBER = 22;
+    private int ifIndex_ = 0;
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return Whether the ifIndex field is set.
+     */
+    @java.lang.Override
+    public boolean hasIfIndex() {
+      return ((bitField0_ & 0x00040000) != 0);
+    }
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return The ifIndex.
+     */
+    @java.lang.Override
+    public int getIfIndex() {
+      return ifIndex_;
+    }
+
+    public static final int IF_ALIAS_FIELD_NUMBER = 23;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object ifAlias_ = "";
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return Whether the ifAlias field is set.
+     */
+    @java.lang.Override
+    public boolean hasIfAlias() {
+      return ((bitField0_ & 0x00080000) != 0);
+    }
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The ifAlias.
+     */
+    @java.lang.Override
+    public java.lang.String getIfAlias() {
+      java.lang.Object ref = ifAlias_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ifAlias_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The bytes for ifAlias.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIfAliasBytes() {
+      java.lang.Object ref = ifAlias_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ifAlias_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MOUSEOVERTEXT_FIELD_NUMBER = 24;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object mouseovertext_ = "";
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return Whether the mouseovertext field is set.
+     */
+    @java.lang.Override
+    public boolean hasMouseovertext() {
+      return ((bitField0_ & 0x00100000) != 0);
+    }
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The mouseovertext.
+     */
+    @java.lang.Override
+    public java.lang.String getMouseovertext() {
+      java.lang.Object ref = mouseovertext_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        mouseovertext_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The bytes for mouseovertext.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMouseovertextBytes() {
+      java.lang.Object ref = mouseovertext_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        mouseovertext_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ALARM_DATA_FIELD_NUMBER = 25;
+    private org.opennms.features.events.sink.module.EventSinkProtos.AlarmData alarmData_;
+    /**
+     * <code>.AlarmData alarm_data = 25;</code>
+     * @return Whether the alarmData field is set.
+     */
+    @java.lang.Override
+    public boolean hasAlarmData() {
+      return ((bitField0_ & 0x00200000) != 0);
+    }
+    /**
+     * <code>.AlarmData alarm_data = 25;</code>
+     * @return The alarmData.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.AlarmData getAlarmData() {
+      return alarmData_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.getDefaultInstance() : alarmData_;
+    }
+    /**
+     * <code>.AlarmData alarm_data = 25;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.AlarmDataOrBuilder getAlarmDataOrBuilder() {
+      return alarmData_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.getDefaultInstance() : alarmData_;
+    }
+
+    public static final int AUTOACKNOWLEDGE_FIELD_NUMBER = 26;
+    private org.opennms.features.events.sink.module.EventSinkProtos.StateContent autoacknowledge_;
+    /**
+     * <code>.StateContent autoacknowledge = 26;</code>
+     * @return Whether the autoacknowledge field is set.
+     */
+    @java.lang.Override
+    public boolean hasAutoacknowledge() {
+      return ((bitField0_ & 0x00400000) != 0);
+    }
+    /**
+     * <code>.StateContent autoacknowledge = 26;</code>
+     * @return The autoacknowledge.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.StateContent getAutoacknowledge() {
+      return autoacknowledge_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : autoacknowledge_;
+    }
+    /**
+     * <code>.StateContent autoacknowledge = 26;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder getAutoacknowledgeOrBuilder() {
+      return autoacknowledge_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : autoacknowledge_;
+    }
+
+    public static final int TTICKET_FIELD_NUMBER = 27;
+    private org.opennms.features.events.sink.module.EventSinkProtos.StateContent tticket_;
+    /**
+     * <code>.StateContent tticket = 27;</code>
+     * @return Whether the tticket field is set.
+     */
+    @java.lang.Override
+    public boolean hasTticket() {
+      return ((bitField0_ & 0x00800000) != 0);
+    }
+    /**
+     * <code>.StateContent tticket = 27;</code>
+     * @return The tticket.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.StateContent getTticket() {
+      return tticket_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : tticket_;
+    }
+    /**
+     * <code>.StateContent tticket = 27;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder getTticketOrBuilder() {
+      return tticket_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : tticket_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, dbid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, distPoller_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, creationTime_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, masterStation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, uei_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, source_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt64(8, nodeid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt64(9, time_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 10, host_);
+      }
+      if (!interfaceAddress_.isEmpty()) {
+        output.writeBytes(11, interfaceAddress_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 12, snmphost_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 13, service_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        output.writeMessage(14, getSnmp());
+      }
+      for (int i = 0; i < parm_.size(); i++) {
+        output.writeMessage(15, parm_.get(i));
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 16, descr_);
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        output.writeMessage(17, getLogmsg());
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 18, severity_);
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 19, pathoutage_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 20, operinstruct_);
+      }
+      for (int i = 0; i < loggroup_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 21, loggroup_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        output.writeInt32(22, ifIndex_);
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 23, ifAlias_);
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 24, mouseovertext_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        output.writeMessage(25, getAlarmData());
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        output.writeMessage(26, getAutoacknowledge());
+      }
+      if (((bitField0_ & 0x00800000) != 0)) {
+        output.writeMessage(27, getTticket());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, dbid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, distPoller_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, creationTime_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, masterStation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, uei_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, source_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, nodeid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, time_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, host_);
+      }
+      if (!interfaceAddress_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, interfaceAddress_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(12, snmphost_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(13, service_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, getSnmp());
+      }
+      for (int i = 0; i < parm_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, parm_.get(i));
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(16, descr_);
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, getLogmsg());
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(18, severity_);
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(19, pathoutage_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(20, operinstruct_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < loggroup_.size(); i++) {
+          dataSize += computeStringSizeNoTag(loggroup_.getRaw(i));
+        }
+        size += dataSize;
+        size += 2 * getLoggroupList().size();
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(22, ifIndex_);
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(23, ifAlias_);
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(24, mouseovertext_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(25, getAlarmData());
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(26, getAutoacknowledge());
+      }
+      if (((bitField0_ & 0x00800000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(27, getTticket());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.Event)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.Event other = (org.opennms.features.events.sink.module.EventSinkProtos.Event) obj;
+
+      if (hasUuid() != other.hasUuid()) return false;
+      if (hasUuid()) {
+        if (!getUuid()
+            .equals(other.getUuid())) return false;
+      }
+      if (hasDbid() != other.hasDbid()) return false;
+      if (hasDbid()) {
+        if (getDbid()
+            != other.getDbid()) return false;
+      }
+      if (hasDistPoller() != other.hasDistPoller()) return false;
+      if (hasDistPoller()) {
+        if (!getDistPoller()
+            .equals(other.getDistPoller())) return false;
+      }
+      if (hasCreationTime() != other.hasCreationTime()) return false;
+      if (hasCreationTime()) {
+        if (getCreationTime()
+            != other.getCreationTime()) return false;
+      }
+      if (hasMasterStation() != other.hasMasterStation()) return false;
+      if (hasMasterStation()) {
+        if (!getMasterStation()
+            .equals(other.getMasterStation())) return false;
+      }
+      if (hasUei() != other.hasUei()) return false;
+      if (hasUei()) {
+        if (!getUei()
+            .equals(other.getUei())) return false;
+      }
+      if (hasSource() != other.hasSource()) return false;
+      if (hasSource()) {
+        if (!getSource()
+            .equals(other.getSource())) return false;
+      }
+      if (hasNodeid() != other.hasNodeid()) return false;
+      if (hasNodeid()) {
+        if (getNodeid()
+            != other.getNodeid()) return false;
+      }
+      if (hasTime() != other.hasTime()) return false;
+      if (hasTime()) {
+        if (getTime()
+            != other.getTime()) return false;
+      }
+      if (hasHost() != other.hasHost()) return false;
+      if (hasHost()) {
+        if (!getHost()
+            .equals(other.getHost())) return false;
+      }
+      if (!getInterfaceAddress()
+          .equals(other.getInterfaceAddress())) return false;
+      if (hasSnmphost() != other.hasSnmphost()) return false;
+      if (hasSnmphost()) {
+        if (!getSnmphost()
+            .equals(other.getSnmphost())) return false;
+      }
+      if (hasService() != other.hasService()) return false;
+      if (hasService()) {
+        if (!getService()
+            .equals(other.getService())) return false;
+      }
+      if (hasSnmp() != other.hasSnmp()) return false;
+      if (hasSnmp()) {
+        if (!getSnmp()
+            .equals(other.getSnmp())) return false;
+      }
+      if (!getParmList()
+          .equals(other.getParmList())) return false;
+      if (hasDescr() != other.hasDescr()) return false;
+      if (hasDescr()) {
+        if (!getDescr()
+            .equals(other.getDescr())) return false;
+      }
+      if (hasLogmsg() != other.hasLogmsg()) return false;
+      if (hasLogmsg()) {
+        if (!getLogmsg()
+            .equals(other.getLogmsg())) return false;
+      }
+      if (hasSeverity() != other.hasSeverity()) return false;
+      if (hasSeverity()) {
+        if (!getSeverity()
+            .equals(other.getSeverity())) return false;
+      }
+      if (hasPathoutage() != other.hasPathoutage()) return false;
+      if (hasPathoutage()) {
+        if (!getPathoutage()
+            .equals(other.getPathoutage())) return false;
+      }
+      if (hasOperinstruct() != other.hasOperinstruct()) return false;
+      if (hasOperinstruct()) {
+        if (!getOperinstruct()
+            .equals(other.getOperinstruct())) return false;
+      }
+      if (!getLoggroupList()
+          .equals(other.getLoggroupList())) return false;
+      if (hasIfIndex() != other.hasIfIndex()) return false;
+      if (hasIfIndex()) {
+        if (getIfIndex()
+            != other.getIfIndex()) return false;
+      }
+      if (hasIfAlias() != other.hasIfAlias()) return false;
+      if (hasIfAlias()) {
+        if (!getIfAlias()
+            .equals(other.getIfAlias())) return false;
+      }
+      if (hasMouseovertext() != other.hasMouseovertext()) return false;
+      if (hasMouseovertext()) {
+        if (!getMouseovertext()
+            .equals(other.getMouseovertext())) return false;
+      }
+      if (hasAlarmData() != other.hasAlarmData()) return false;
+      if (hasAlarmData()) {
+        if (!getAlarmData()
+            .equals(other.getAlarmData())) return false;
+      }
+      if (hasAutoacknowledge() != other.hasAutoacknowledge()) return false;
+      if (hasAutoacknowledge()) {
+        if (!getAutoacknowledge()
+            .equals(other.getAutoacknowledge())) return false;
+      }
+      if (hasTticket() != other.hasTticket()) return false;
+      if (hasTticket()) {
+        if (!getTticket()
+            .equals(other.getTticket())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasUuid()) {
+        hash = (37 * hash) + UUID_FIELD_NUMBER;
+        hash = (53 * hash) + getUuid().hashCode();
+      }
+      if (hasDbid()) {
+        hash = (37 * hash) + DBID_FIELD_NUMBER;
+        hash = (53 * hash) + getDbid();
+      }
+      if (hasDistPoller()) {
+        hash = (37 * hash) + DIST_POLLER_FIELD_NUMBER;
+        hash = (53 * hash) + getDistPoller().hashCode();
+      }
+      if (hasCreationTime()) {
+        hash = (37 * hash) + CREATION_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getCreationTime());
+      }
+      if (hasMasterStation()) {
+        hash = (37 * hash) + MASTER_STATION_FIELD_NUMBER;
+        hash = (53 * hash) + getMasterStation().hashCode();
+      }
+      if (hasUei()) {
+        hash = (37 * hash) + UEI_FIELD_NUMBER;
+        hash = (53 * hash) + getUei().hashCode();
+      }
+      if (hasSource()) {
+        hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+        hash = (53 * hash) + getSource().hashCode();
+      }
+      if (hasNodeid()) {
+        hash = (37 * hash) + NODEID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getNodeid());
+      }
+      if (hasTime()) {
+        hash = (37 * hash) + TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTime());
+      }
+      if (hasHost()) {
+        hash = (37 * hash) + HOST_FIELD_NUMBER;
+        hash = (53 * hash) + getHost().hashCode();
+      }
+      hash = (37 * hash) + INTERFACE_ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getInterfaceAddress().hashCode();
+      if (hasSnmphost()) {
+        hash = (37 * hash) + SNMPHOST_FIELD_NUMBER;
+        hash = (53 * hash) + getSnmphost().hashCode();
+      }
+      if (hasService()) {
+        hash = (37 * hash) + SERVICE_FIELD_NUMBER;
+        hash = (53 * hash) + getService().hashCode();
+      }
+      if (hasSnmp()) {
+        hash = (37 * hash) + SNMP_FIELD_NUMBER;
+        hash = (53 * hash) + getSnmp().hashCode();
+      }
+      if (getParmCount() > 0) {
+        hash = (37 * hash) + PARM_FIELD_NUMBER;
+        hash = (53 * hash) + getParmList().hashCode();
+      }
+      if (hasDescr()) {
+        hash = (37 * hash) + DESCR_FIELD_NUMBER;
+        hash = (53 * hash) + getDescr().hashCode();
+      }
+      if (hasLogmsg()) {
+        hash = (37 * hash) + LOGMSG_FIELD_NUMBER;
+        hash = (53 * hash) + getLogmsg().hashCode();
+      }
+      if (hasSeverity()) {
+        hash = (37 * hash) + SEVERITY_FIELD_NUMBER;
+        hash = (53 * hash) + getSeverity().hashCode();
+      }
+      if (hasPathoutage()) {
+        hash = (37 * hash) + PATHOUTAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getPathoutage().hashCode();
+      }
+      if (hasOperinstruct()) {
+        hash = (37 * hash) + OPERINSTRUCT_FIELD_NUMBER;
+        hash = (53 * hash) + getOperinstruct().hashCode();
+      }
+      if (getLoggroupCount() > 0) {
+        hash = (37 * hash) + LOGGROUP_FIELD_NUMBER;
+        hash = (53 * hash) + getLoggroupList().hashCode();
+      }
+      if (hasIfIndex()) {
+        hash = (37 * hash) + IF_INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getIfIndex();
+      }
+      if (hasIfAlias()) {
+        hash = (37 * hash) + IF_ALIAS_FIELD_NUMBER;
+        hash = (53 * hash) + getIfAlias().hashCode();
+      }
+      if (hasMouseovertext()) {
+        hash = (37 * hash) + MOUSEOVERTEXT_FIELD_NUMBER;
+        hash = (53 * hash) + getMouseovertext().hashCode();
+      }
+      if (hasAlarmData()) {
+        hash = (37 * hash) + ALARM_DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getAlarmData().hashCode();
+      }
+      if (hasAutoacknowledge()) {
+        hash = (37 * hash) + AUTOACKNOWLEDGE_FIELD_NUMBER;
+        hash = (53 * hash) + getAutoacknowledge().hashCode();
+      }
+      if (hasTticket()) {
+        hash = (37 * hash) + TTICKET_FIELD_NUMBER;
+        hash = (53 * hash) + getTticket().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.Event prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Event}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Event)
+        org.opennms.features.events.sink.module.EventSinkProtos.EventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Event_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Event_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.Event.class, org.opennms.features.events.sink.module.EventSinkProtos.Event.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.Event.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSnmpFieldBuilder();
+          getParmFieldBuilder();
+          getLogmsgFieldBuilder();
+          getAlarmDataFieldBuilder();
+          getAutoacknowledgeFieldBuilder();
+          getTticketFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        uuid_ = "";
+        dbid_ = 0;
+        distPoller_ = "";
+        creationTime_ = 0L;
+        masterStation_ = "";
+        uei_ = "";
+        source_ = "";
+        nodeid_ = 0L;
+        time_ = 0L;
+        host_ = "";
+        interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+        snmphost_ = "";
+        service_ = "";
+        snmp_ = null;
+        if (snmpBuilder_ != null) {
+          snmpBuilder_.dispose();
+          snmpBuilder_ = null;
+        }
+        if (parmBuilder_ == null) {
+          parm_ = java.util.Collections.emptyList();
+        } else {
+          parm_ = null;
+          parmBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00004000);
+        descr_ = "";
+        logmsg_ = null;
+        if (logmsgBuilder_ != null) {
+          logmsgBuilder_.dispose();
+          logmsgBuilder_ = null;
+        }
+        severity_ = "";
+        pathoutage_ = "";
+        operinstruct_ = "";
+        loggroup_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        ifIndex_ = 0;
+        ifAlias_ = "";
+        mouseovertext_ = "";
+        alarmData_ = null;
+        if (alarmDataBuilder_ != null) {
+          alarmDataBuilder_.dispose();
+          alarmDataBuilder_ = null;
+        }
+        autoacknowledge_ = null;
+        if (autoacknowledgeBuilder_ != null) {
+          autoacknowledgeBuilder_.dispose();
+          autoacknowledgeBuilder_ = null;
+        }
+        tticket_ = null;
+        if (tticketBuilder_ != null) {
+          tticketBuilder_.dispose();
+          tticketBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Event_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Event getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.Event.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Event build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Event result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Event buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Event result = new org.opennms.features.events.sink.module.EventSinkProtos.Event(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.features.events.sink.module.EventSinkProtos.Event result) {
+        if (parmBuilder_ == null) {
+          if (((bitField0_ & 0x00004000) != 0)) {
+            parm_ = java.util.Collections.unmodifiableList(parm_);
+            bitField0_ = (bitField0_ & ~0x00004000);
+          }
+          result.parm_ = parm_;
+        } else {
+          result.parm_ = parmBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.Event result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.uuid_ = uuid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.dbid_ = dbid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.distPoller_ = distPoller_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.creationTime_ = creationTime_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.masterStation_ = masterStation_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.uei_ = uei_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.source_ = source_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.nodeid_ = nodeid_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.time_ = time_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.host_ = host_;
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.interfaceAddress_ = interfaceAddress_;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.snmphost_ = snmphost_;
+          to_bitField0_ |= 0x00000400;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.service_ = service_;
+          to_bitField0_ |= 0x00000800;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          result.snmp_ = snmpBuilder_ == null
+              ? snmp_
+              : snmpBuilder_.build();
+          to_bitField0_ |= 0x00001000;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          result.descr_ = descr_;
+          to_bitField0_ |= 0x00002000;
+        }
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          result.logmsg_ = logmsgBuilder_ == null
+              ? logmsg_
+              : logmsgBuilder_.build();
+          to_bitField0_ |= 0x00004000;
+        }
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          result.severity_ = severity_;
+          to_bitField0_ |= 0x00008000;
+        }
+        if (((from_bitField0_ & 0x00040000) != 0)) {
+          result.pathoutage_ = pathoutage_;
+          to_bitField0_ |= 0x00010000;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          result.operinstruct_ = operinstruct_;
+          to_bitField0_ |= 0x00020000;
+        }
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          loggroup_.makeImmutable();
+          result.loggroup_ = loggroup_;
+        }
+        if (((from_bitField0_ & 0x00200000) != 0)) {
+          result.ifIndex_ = ifIndex_;
+          to_bitField0_ |= 0x00040000;
+        }
+        if (((from_bitField0_ & 0x00400000) != 0)) {
+          result.ifAlias_ = ifAlias_;
+          to_bitField0_ |= 0x00080000;
+        }
+        if (((from_bitField0_ & 0x00800000) != 0)) {
+          result.mouseovertext_ = mouseovertext_;
+          to_bitField0_ |= 0x00100000;
+        }
+        if (((from_bitField0_ & 0x01000000) != 0)) {
+          result.alarmData_ = alarmDataBuilder_ == null
+              ? alarmData_
+              : alarmDataBuilder_.build();
+          to_bitField0_ |= 0x00200000;
+        }
+        if (((from_bitField0_ & 0x02000000) != 0)) {
+          result.autoacknowledge_ = autoacknowledgeBuilder_ == null
+              ? autoacknowledge_
+              : autoacknowledgeBuilder_.build();
+          to_bitField0_ |= 0x00400000;
+        }
+        if (((from_bitField0_ & 0x04000000) != 0)) {
+          result.tticket_ = tticketBuilder_ == null
+              ? tticket_
+              : tticketBuilder_.build();
+          to_bitField0_ |= 0x00800000;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.Event) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.Event)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.Event other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.Event.getDefaultInstance()) return this;
+        if (other.hasUuid()) {
+          uuid_ = other.uuid_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasDbid()) {
+          setDbid(other.getDbid());
+        }
+        if (other.hasDistPoller()) {
+          distPoller_ = other.distPoller_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasCreationTime()) {
+          setCreationTime(other.getCreationTime());
+        }
+        if (other.hasMasterStation()) {
+          masterStation_ = other.masterStation_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasUei()) {
+          uei_ = other.uei_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (other.hasSource()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (other.hasNodeid()) {
+          setNodeid(other.getNodeid());
+        }
+        if (other.hasTime()) {
+          setTime(other.getTime());
+        }
+        if (other.hasHost()) {
+          host_ = other.host_;
+          bitField0_ |= 0x00000200;
+          onChanged();
+        }
+        if (other.getInterfaceAddress() != com.google.protobuf.ByteString.EMPTY) {
+          setInterfaceAddress(other.getInterfaceAddress());
+        }
+        if (other.hasSnmphost()) {
+          snmphost_ = other.snmphost_;
+          bitField0_ |= 0x00000800;
+          onChanged();
+        }
+        if (other.hasService()) {
+          service_ = other.service_;
+          bitField0_ |= 0x00001000;
+          onChanged();
+        }
+        if (other.hasSnmp()) {
+          mergeSnmp(other.getSnmp());
+        }
+        if (parmBuilder_ == null) {
+          if (!other.parm_.isEmpty()) {
+            if (parm_.isEmpty()) {
+              parm_ = other.parm_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+            } else {
+              ensureParmIsMutable();
+              parm_.addAll(other.parm_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parm_.isEmpty()) {
+            if (parmBuilder_.isEmpty()) {
+              parmBuilder_.dispose();
+              parmBuilder_ = null;
+              parm_ = other.parm_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+              parmBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getParmFieldBuilder() : null;
+            } else {
+              parmBuilder_.addAllMessages(other.parm_);
+            }
+          }
+        }
+        if (other.hasDescr()) {
+          descr_ = other.descr_;
+          bitField0_ |= 0x00008000;
+          onChanged();
+        }
+        if (other.hasLogmsg()) {
+          mergeLogmsg(other.getLogmsg());
+        }
+        if (other.hasSeverity()) {
+          severity_ = other.severity_;
+          bitField0_ |= 0x00020000;
+          onChanged();
+        }
+        if (other.hasPathoutage()) {
+          pathoutage_ = other.pathoutage_;
+          bitField0_ |= 0x00040000;
+          onChanged();
+        }
+        if (other.hasOperinstruct()) {
+          operinstruct_ = other.operinstruct_;
+          bitField0_ |= 0x00080000;
+          onChanged();
+        }
+        if (!other.loggroup_.isEmpty()) {
+          if (loggroup_.isEmpty()) {
+            loggroup_ = other.loggroup_;
+            bitField0_ |= 0x00100000;
+          } else {
+            ensureLoggroupIsMutable();
+            loggroup_.addAll(other.loggroup_);
+          }
+          onChanged();
+        }
+        if (other.hasIfIndex()) {
+          setIfIndex(other.getIfIndex());
+        }
+        if (other.hasIfAlias()) {
+          ifAlias_ = other.ifAlias_;
+          bitField0_ |= 0x00400000;
+          onChanged();
+        }
+        if (other.hasMouseovertext()) {
+          mouseovertext_ = other.mouseovertext_;
+          bitField0_ |= 0x00800000;
+          onChanged();
+        }
+        if (other.hasAlarmData()) {
+          mergeAlarmData(other.getAlarmData());
+        }
+        if (other.hasAutoacknowledge()) {
+          mergeAutoacknowledge(other.getAutoacknowledge());
+        }
+        if (other.hasTticket()) {
+          mergeTticket(other.getTticket());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                uuid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                dbid_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                distPoller_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                creationTime_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                masterStation_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                uei_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 64: {
+                nodeid_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 72: {
+                time_ = input.readInt64();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 82: {
+                host_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                interfaceAddress_ = input.readBytes();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 98: {
+                snmphost_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                service_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 114: {
+                input.readMessage(
+                    getSnmpFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 114
+              case 122: {
+                org.opennms.features.events.sink.module.EventSinkProtos.Parm m =
+                    input.readMessage(
+                        org.opennms.features.events.sink.module.EventSinkProtos.Parm.parser(),
+                        extensionRegistry);
+                if (parmBuilder_ == null) {
+                  ensureParmIsMutable();
+                  parm_.add(m);
+                } else {
+                  parmBuilder_.addMessage(m);
+                }
+                break;
+              } // case 122
+              case 130: {
+                descr_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 130
+              case 138: {
+                input.readMessage(
+                    getLogmsgFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 138
+              case 146: {
+                severity_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 146
+              case 154: {
+                pathoutage_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 154
+              case 162: {
+                operinstruct_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 162
+              case 170: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureLoggroupIsMutable();
+                loggroup_.add(s);
+                break;
+              } // case 170
+              case 176: {
+                ifIndex_ = input.readInt32();
+                bitField0_ |= 0x00200000;
+                break;
+              } // case 176
+              case 186: {
+                ifAlias_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00400000;
+                break;
+              } // case 186
+              case 194: {
+                mouseovertext_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00800000;
+                break;
+              } // case 194
+              case 202: {
+                input.readMessage(
+                    getAlarmDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x01000000;
+                break;
+              } // case 202
+              case 210: {
+                input.readMessage(
+                    getAutoacknowledgeFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x02000000;
+                break;
+              } // case 210
+              case 218: {
+                input.readMessage(
+                    getTticketFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x04000000;
+                break;
+              } // case 218
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object uuid_ = "";
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return Whether the uuid field is set.
+       */
+      public boolean hasUuid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return The uuid.
+       */
+      public java.lang.String getUuid() {
+        java.lang.Object ref = uuid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uuid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return The bytes for uuid.
+       */
+      public com.google.protobuf.ByteString
+          getUuidBytes() {
+        java.lang.Object ref = uuid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uuid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @param value The uuid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUuid(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        uuid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUuid() {
+        uuid_ = getDefaultInstance().getUuid();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @param value The bytes for uuid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUuidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        uuid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int dbid_ ;
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @return Whether the dbid field is set.
+       */
+      @java.lang.Override
+      public boolean hasDbid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @return The dbid.
+       */
+      @java.lang.Override
+      public int getDbid() {
+        return dbid_;
+      }
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @param value The dbid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDbid(int value) {
+
+        dbid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDbid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        dbid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object distPoller_ = "";
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return Whether the distPoller field is set.
+       */
+      public boolean hasDistPoller() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return The distPoller.
+       */
+      public java.lang.String getDistPoller() {
+        java.lang.Object ref = distPoller_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          distPoller_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return The bytes for distPoller.
+       */
+      public com.google.protobuf.ByteString
+          getDistPollerBytes() {
+        java.lang.Object ref = distPoller_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          distPoller_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @param value The distPoller to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDistPoller(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        distPoller_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDistPoller() {
+        distPoller_ = getDefaultInstance().getDistPoller();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @param value The bytes for distPoller to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDistPollerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        distPoller_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private long creationTime_ ;
+      /**
+       * <code>optional int64 creation_time = 4;</code>
+       * @return Whether the creationTime field is set.
+       */
+      @java.lang.Override
+      public boolean hasCreationTime() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int64 creation_time = 4;</code>
+       * @return The creationTime.
+       */
+      @java.lang.Override
+      public long getCreationTime() {
+        return creationTime_;
+      }
+      /**
+       * <code>optional int64 creation_time = 4;</code>
+       * @param value The creationTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreationTime(long value) {
+
+        creationTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 creation_time = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreationTime() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        creationTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object masterStation_ = "";
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return Whether the masterStation field is set.
+       */
+      public boolean hasMasterStation() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return The masterStation.
+       */
+      public java.lang.String getMasterStation() {
+        java.lang.Object ref = masterStation_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          masterStation_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return The bytes for masterStation.
+       */
+      public com.google.protobuf.ByteString
+          getMasterStationBytes() {
+        java.lang.Object ref = masterStation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          masterStation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @param value The masterStation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMasterStation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        masterStation_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMasterStation() {
+        masterStation_ = getDefaultInstance().getMasterStation();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @param value The bytes for masterStation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMasterStationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        masterStation_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object uei_ = "";
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return Whether the uei field is set.
+       */
+      public boolean hasUei() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return The uei.
+       */
+      public java.lang.String getUei() {
+        java.lang.Object ref = uei_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uei_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return The bytes for uei.
+       */
+      public com.google.protobuf.ByteString
+          getUeiBytes() {
+        java.lang.Object ref = uei_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uei_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @param value The uei to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUei(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        uei_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUei() {
+        uei_ = getDefaultInstance().getUei();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @param value The bytes for uei to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUeiBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        uei_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>optional string source = 7;</code>
+       * @return Whether the source field is set.
+       */
+      public boolean hasSource() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private long nodeid_ ;
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @return Whether the nodeid field is set.
+       */
+      @java.lang.Override
+      public boolean hasNodeid() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @return The nodeid.
+       */
+      @java.lang.Override
+      public long getNodeid() {
+        return nodeid_;
+      }
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @param value The nodeid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeid(long value) {
+
+        nodeid_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeid() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        nodeid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long time_ ;
+      /**
+       * <code>optional int64 time = 9;</code>
+       * @return Whether the time field is set.
+       */
+      @java.lang.Override
+      public boolean hasTime() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional int64 time = 9;</code>
+       * @return The time.
+       */
+      @java.lang.Override
+      public long getTime() {
+        return time_;
+      }
+      /**
+       * <code>optional int64 time = 9;</code>
+       * @param value The time to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTime(long value) {
+
+        time_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 time = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTime() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        time_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object host_ = "";
+      /**
+       * <code>optional string host = 10;</code>
+       * @return Whether the host field is set.
+       */
+      public boolean hasHost() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @return The host.
+       */
+      public java.lang.String getHost() {
+        java.lang.Object ref = host_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          host_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @return The bytes for host.
+       */
+      public com.google.protobuf.ByteString
+          getHostBytes() {
+        java.lang.Object ref = host_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          host_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @param value The host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHost(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        host_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHost() {
+        host_ = getDefaultInstance().getHost();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @param value The bytes for host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        host_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * raw 4 or 16 address bytes
+       * </pre>
+       *
+       * <code>bytes interface_address = 11;</code>
+       * @return The interfaceAddress.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getInterfaceAddress() {
+        return interfaceAddress_;
+      }
+      /**
+       * <pre>
+       * raw 4 or 16 address bytes
+       * </pre>
+       *
+       * <code>bytes interface_address = 11;</code>
+       * @param value The interfaceAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceAddress(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        interfaceAddress_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * raw 4 or 16 address bytes
+       * </pre>
+       *
+       * <code>bytes interface_address = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceAddress() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        interfaceAddress_ = getDefaultInstance().getInterfaceAddress();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object snmphost_ = "";
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return Whether the snmphost field is set.
+       */
+      public boolean hasSnmphost() {
+        return ((bitField0_ & 0x00000800) != 0);
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return The snmphost.
+       */
+      public java.lang.String getSnmphost() {
+        java.lang.Object ref = snmphost_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          snmphost_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return The bytes for snmphost.
+       */
+      public com.google.protobuf.ByteString
+          getSnmphostBytes() {
+        java.lang.Object ref = snmphost_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          snmphost_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @param value The snmphost to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnmphost(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        snmphost_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnmphost() {
+        snmphost_ = getDefaultInstance().getSnmphost();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @param value The bytes for snmphost to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnmphostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        snmphost_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object service_ = "";
+      /**
+       * <code>optional string service = 13;</code>
+       * @return Whether the service field is set.
+       */
+      public boolean hasService() {
+        return ((bitField0_ & 0x00001000) != 0);
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @return The service.
+       */
+      public java.lang.String getService() {
+        java.lang.Object ref = service_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          service_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @return The bytes for service.
+       */
+      public com.google.protobuf.ByteString
+          getServiceBytes() {
+        java.lang.Object ref = service_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          service_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @param value The service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setService(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        service_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearService() {
+        service_ = getDefaultInstance().getService();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @param value The bytes for service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServiceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        service_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.Snmp snmp_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Snmp, org.opennms.features.events.sink.module.EventSinkProtos.Snmp.Builder, org.opennms.features.events.sink.module.EventSinkProtos.SnmpOrBuilder> snmpBuilder_;
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       * @return Whether the snmp field is set.
+       */
+      public boolean hasSnmp() {
+        return ((bitField0_ & 0x00002000) != 0);
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       * @return The snmp.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Snmp getSnmp() {
+        if (snmpBuilder_ == null) {
+          return snmp_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Snmp.getDefaultInstance() : snmp_;
+        } else {
+          return snmpBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder setSnmp(org.opennms.features.events.sink.module.EventSinkProtos.Snmp value) {
+        if (snmpBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          snmp_ = value;
+        } else {
+          snmpBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder setSnmp(
+          org.opennms.features.events.sink.module.EventSinkProtos.Snmp.Builder builderForValue) {
+        if (snmpBuilder_ == null) {
+          snmp_ = builderForValue.build();
+        } else {
+          snmpBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder mergeSnmp(org.opennms.features.events.sink.module.EventSinkProtos.Snmp value) {
+        if (snmpBuilder_ == null) {
+          if (((bitField0_ & 0x00002000) != 0) &&
+            snmp_ != null &&
+            snmp_ != org.opennms.features.events.sink.module.EventSinkProtos.Snmp.getDefaultInstance()) {
+            getSnmpBuilder().mergeFrom(value);
+          } else {
+            snmp_ = value;
+          }
+        } else {
+          snmpBuilder_.mergeFrom(value);
+        }
+        if (snmp_ != null) {
+          bitField0_ |= 0x00002000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public Builder clearSnmp() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        snmp_ = null;
+        if (snmpBuilder_ != null) {
+          snmpBuilder_.dispose();
+          snmpBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Snmp.Builder getSnmpBuilder() {
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return getSnmpFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.SnmpOrBuilder getSnmpOrBuilder() {
+        if (snmpBuilder_ != null) {
+          return snmpBuilder_.getMessageOrBuilder();
+        } else {
+          return snmp_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.Snmp.getDefaultInstance() : snmp_;
+        }
+      }
+      /**
+       * <code>.Snmp snmp = 14;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Snmp, org.opennms.features.events.sink.module.EventSinkProtos.Snmp.Builder, org.opennms.features.events.sink.module.EventSinkProtos.SnmpOrBuilder> 
+          getSnmpFieldBuilder() {
+        if (snmpBuilder_ == null) {
+          snmpBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.Snmp, org.opennms.features.events.sink.module.EventSinkProtos.Snmp.Builder, org.opennms.features.events.sink.module.EventSinkProtos.SnmpOrBuilder>(
+                  getSnmp(),
+                  getParentForChildren(),
+                  isClean());
+          snmp_ = null;
+        }
+        return snmpBuilder_;
+      }
+
+      private java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Parm> parm_ =
+        java.util.Collections.emptyList();
+      private void ensureParmIsMutable() {
+        if (!((bitField0_ & 0x00004000) != 0)) {
+          parm_ = new java.util.ArrayList<org.opennms.features.events.sink.module.EventSinkProtos.Parm>(parm_);
+          bitField0_ |= 0x00004000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Parm, org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder> parmBuilder_;
+
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Parm> getParmList() {
+        if (parmBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parm_);
+        } else {
+          return parmBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public int getParmCount() {
+        if (parmBuilder_ == null) {
+          return parm_.size();
+        } else {
+          return parmBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Parm getParm(int index) {
+        if (parmBuilder_ == null) {
+          return parm_.get(index);
+        } else {
+          return parmBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder setParm(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Parm value) {
+        if (parmBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmIsMutable();
+          parm_.set(index, value);
+          onChanged();
+        } else {
+          parmBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder setParm(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder builderForValue) {
+        if (parmBuilder_ == null) {
+          ensureParmIsMutable();
+          parm_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          parmBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder addParm(org.opennms.features.events.sink.module.EventSinkProtos.Parm value) {
+        if (parmBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmIsMutable();
+          parm_.add(value);
+          onChanged();
+        } else {
+          parmBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder addParm(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Parm value) {
+        if (parmBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmIsMutable();
+          parm_.add(index, value);
+          onChanged();
+        } else {
+          parmBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder addParm(
+          org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder builderForValue) {
+        if (parmBuilder_ == null) {
+          ensureParmIsMutable();
+          parm_.add(builderForValue.build());
+          onChanged();
+        } else {
+          parmBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder addParm(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder builderForValue) {
+        if (parmBuilder_ == null) {
+          ensureParmIsMutable();
+          parm_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          parmBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder addAllParm(
+          java.lang.Iterable<? extends org.opennms.features.events.sink.module.EventSinkProtos.Parm> values) {
+        if (parmBuilder_ == null) {
+          ensureParmIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parm_);
+          onChanged();
+        } else {
+          parmBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder clearParm() {
+        if (parmBuilder_ == null) {
+          parm_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+          onChanged();
+        } else {
+          parmBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public Builder removeParm(int index) {
+        if (parmBuilder_ == null) {
+          ensureParmIsMutable();
+          parm_.remove(index);
+          onChanged();
+        } else {
+          parmBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder getParmBuilder(
+          int index) {
+        return getParmFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder getParmOrBuilder(
+          int index) {
+        if (parmBuilder_ == null) {
+          return parm_.get(index);  } else {
+          return parmBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder> 
+           getParmOrBuilderList() {
+        if (parmBuilder_ != null) {
+          return parmBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parm_);
+        }
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder addParmBuilder() {
+        return getParmFieldBuilder().addBuilder(
+            org.opennms.features.events.sink.module.EventSinkProtos.Parm.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder addParmBuilder(
+          int index) {
+        return getParmFieldBuilder().addBuilder(
+            index, org.opennms.features.events.sink.module.EventSinkProtos.Parm.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Parm parm = 15;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder> 
+           getParmBuilderList() {
+        return getParmFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Parm, org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder> 
+          getParmFieldBuilder() {
+        if (parmBuilder_ == null) {
+          parmBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.Parm, org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder>(
+                  parm_,
+                  ((bitField0_ & 0x00004000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          parm_ = null;
+        }
+        return parmBuilder_;
+      }
+
+      private java.lang.Object descr_ = "";
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return Whether the descr field is set.
+       */
+      public boolean hasDescr() {
+        return ((bitField0_ & 0x00008000) != 0);
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return The descr.
+       */
+      public java.lang.String getDescr() {
+        java.lang.Object ref = descr_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          descr_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return The bytes for descr.
+       */
+      public com.google.protobuf.ByteString
+          getDescrBytes() {
+        java.lang.Object ref = descr_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          descr_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @param value The descr to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescr(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        descr_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDescr() {
+        descr_ = getDefaultInstance().getDescr();
+        bitField0_ = (bitField0_ & ~0x00008000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @param value The bytes for descr to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescrBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        descr_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.Logmsg logmsg_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Logmsg, org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.Builder, org.opennms.features.events.sink.module.EventSinkProtos.LogmsgOrBuilder> logmsgBuilder_;
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       * @return Whether the logmsg field is set.
+       */
+      public boolean hasLogmsg() {
+        return ((bitField0_ & 0x00010000) != 0);
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       * @return The logmsg.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Logmsg getLogmsg() {
+        if (logmsgBuilder_ == null) {
+          return logmsg_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.getDefaultInstance() : logmsg_;
+        } else {
+          return logmsgBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder setLogmsg(org.opennms.features.events.sink.module.EventSinkProtos.Logmsg value) {
+        if (logmsgBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          logmsg_ = value;
+        } else {
+          logmsgBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder setLogmsg(
+          org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.Builder builderForValue) {
+        if (logmsgBuilder_ == null) {
+          logmsg_ = builderForValue.build();
+        } else {
+          logmsgBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder mergeLogmsg(org.opennms.features.events.sink.module.EventSinkProtos.Logmsg value) {
+        if (logmsgBuilder_ == null) {
+          if (((bitField0_ & 0x00010000) != 0) &&
+            logmsg_ != null &&
+            logmsg_ != org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.getDefaultInstance()) {
+            getLogmsgBuilder().mergeFrom(value);
+          } else {
+            logmsg_ = value;
+          }
+        } else {
+          logmsgBuilder_.mergeFrom(value);
+        }
+        if (logmsg_ != null) {
+          bitField0_ |= 0x00010000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public Builder clearLogmsg() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        logmsg_ = null;
+        if (logmsgBuilder_ != null) {
+          logmsgBuilder_.dispose();
+          logmsgBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.Builder getLogmsgBuilder() {
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return getLogmsgFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.LogmsgOrBuilder getLogmsgOrBuilder() {
+        if (logmsgBuilder_ != null) {
+          return logmsgBuilder_.getMessageOrBuilder();
+        } else {
+          return logmsg_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.getDefaultInstance() : logmsg_;
+        }
+      }
+      /**
+       * <code>.Logmsg logmsg = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Logmsg, org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.Builder, org.opennms.features.events.sink.module.EventSinkProtos.LogmsgOrBuilder> 
+          getLogmsgFieldBuilder() {
+        if (logmsgBuilder_ == null) {
+          logmsgBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.Logmsg, org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.Builder, org.opennms.features.events.sink.module.EventSinkProtos.LogmsgOrBuilder>(
+                  getLogmsg(),
+                  getParentForChildren(),
+                  isClean());
+          logmsg_ = null;
+        }
+        return logmsgBuilder_;
+      }
+
+      private java.lang.Object severity_ = "";
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return Whether the severity field is set.
+       */
+      public boolean hasSeverity() {
+        return ((bitField0_ & 0x00020000) != 0);
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return The severity.
+       */
+      public java.lang.String getSeverity() {
+        java.lang.Object ref = severity_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          severity_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return The bytes for severity.
+       */
+      public com.google.protobuf.ByteString
+          getSeverityBytes() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          severity_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @param value The severity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeverity(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        severity_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeverity() {
+        severity_ = getDefaultInstance().getSeverity();
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @param value The bytes for severity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeverityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        severity_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pathoutage_ = "";
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return Whether the pathoutage field is set.
+       */
+      public boolean hasPathoutage() {
+        return ((bitField0_ & 0x00040000) != 0);
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return The pathoutage.
+       */
+      public java.lang.String getPathoutage() {
+        java.lang.Object ref = pathoutage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pathoutage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return The bytes for pathoutage.
+       */
+      public com.google.protobuf.ByteString
+          getPathoutageBytes() {
+        java.lang.Object ref = pathoutage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pathoutage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @param value The pathoutage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathoutage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        pathoutage_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPathoutage() {
+        pathoutage_ = getDefaultInstance().getPathoutage();
+        bitField0_ = (bitField0_ & ~0x00040000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @param value The bytes for pathoutage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathoutageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        pathoutage_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object operinstruct_ = "";
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return Whether the operinstruct field is set.
+       */
+      public boolean hasOperinstruct() {
+        return ((bitField0_ & 0x00080000) != 0);
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return The operinstruct.
+       */
+      public java.lang.String getOperinstruct() {
+        java.lang.Object ref = operinstruct_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          operinstruct_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return The bytes for operinstruct.
+       */
+      public com.google.protobuf.ByteString
+          getOperinstructBytes() {
+        java.lang.Object ref = operinstruct_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          operinstruct_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @param value The operinstruct to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperinstruct(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        operinstruct_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOperinstruct() {
+        operinstruct_ = getDefaultInstance().getOperinstruct();
+        bitField0_ = (bitField0_ & ~0x00080000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @param value The bytes for operinstruct to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperinstructBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        operinstruct_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList loggroup_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureLoggroupIsMutable() {
+        if (!loggroup_.isModifiable()) {
+          loggroup_ = new com.google.protobuf.LazyStringArrayList(loggroup_);
+        }
+        bitField0_ |= 0x00100000;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @return A list containing the loggroup.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getLoggroupList() {
+        loggroup_.makeImmutable();
+        return loggroup_;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @return The count of loggroup.
+       */
+      public int getLoggroupCount() {
+        return loggroup_.size();
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param index The index of the element to return.
+       * @return The loggroup at the given index.
+       */
+      public java.lang.String getLoggroup(int index) {
+        return loggroup_.get(index);
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the loggroup at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getLoggroupBytes(int index) {
+        return loggroup_.getByteString(index);
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param index The index to set the value at.
+       * @param value The loggroup to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLoggroup(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLoggroupIsMutable();
+        loggroup_.set(index, value);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param value The loggroup to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLoggroup(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLoggroupIsMutable();
+        loggroup_.add(value);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param values The loggroup to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLoggroup(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureLoggroupIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, loggroup_);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLoggroup() {
+        loggroup_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00100000);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param value The bytes of the loggroup to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLoggroupBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureLoggroupIsMutable();
+        loggroup_.add(value);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+
+      private int ifIndex_ ;
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @return Whether the ifIndex field is set.
+       */
+      @java.lang.Override
+      public boolean hasIfIndex() {
+        return ((bitField0_ & 0x00200000) != 0);
+      }
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @return The ifIndex.
+       */
+      @java.lang.Override
+      public int getIfIndex() {
+        return ifIndex_;
+      }
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @param value The ifIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfIndex(int value) {
+
+        ifIndex_ = value;
+        bitField0_ |= 0x00200000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfIndex() {
+        bitField0_ = (bitField0_ & ~0x00200000);
+        ifIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object ifAlias_ = "";
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return Whether the ifAlias field is set.
+       */
+      public boolean hasIfAlias() {
+        return ((bitField0_ & 0x00400000) != 0);
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return The ifAlias.
+       */
+      public java.lang.String getIfAlias() {
+        java.lang.Object ref = ifAlias_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ifAlias_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return The bytes for ifAlias.
+       */
+      public com.google.protobuf.ByteString
+          getIfAliasBytes() {
+        java.lang.Object ref = ifAlias_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ifAlias_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @param value The ifAlias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfAlias(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ifAlias_ = value;
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfAlias() {
+        ifAlias_ = getDefaultInstance().getIfAlias();
+        bitField0_ = (bitField0_ & ~0x00400000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @param value The bytes for ifAlias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfAliasBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ifAlias_ = value;
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object mouseovertext_ = "";
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return Whether the mouseovertext field is set.
+       */
+      public boolean hasMouseovertext() {
+        return ((bitField0_ & 0x00800000) != 0);
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return The mouseovertext.
+       */
+      public java.lang.String getMouseovertext() {
+        java.lang.Object ref = mouseovertext_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          mouseovertext_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return The bytes for mouseovertext.
+       */
+      public com.google.protobuf.ByteString
+          getMouseovertextBytes() {
+        java.lang.Object ref = mouseovertext_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          mouseovertext_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @param value The mouseovertext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMouseovertext(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        mouseovertext_ = value;
+        bitField0_ |= 0x00800000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMouseovertext() {
+        mouseovertext_ = getDefaultInstance().getMouseovertext();
+        bitField0_ = (bitField0_ & ~0x00800000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @param value The bytes for mouseovertext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMouseovertextBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        mouseovertext_ = value;
+        bitField0_ |= 0x00800000;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.AlarmData alarmData_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.AlarmData, org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.Builder, org.opennms.features.events.sink.module.EventSinkProtos.AlarmDataOrBuilder> alarmDataBuilder_;
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       * @return Whether the alarmData field is set.
+       */
+      public boolean hasAlarmData() {
+        return ((bitField0_ & 0x01000000) != 0);
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       * @return The alarmData.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.AlarmData getAlarmData() {
+        if (alarmDataBuilder_ == null) {
+          return alarmData_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.getDefaultInstance() : alarmData_;
+        } else {
+          return alarmDataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       */
+      public Builder setAlarmData(org.opennms.features.events.sink.module.EventSinkProtos.AlarmData value) {
+        if (alarmDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          alarmData_ = value;
+        } else {
+          alarmDataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x01000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       */
+      public Builder setAlarmData(
+          org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.Builder builderForValue) {
+        if (alarmDataBuilder_ == null) {
+          alarmData_ = builderForValue.build();
+        } else {
+          alarmDataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x01000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       */
+      public Builder mergeAlarmData(org.opennms.features.events.sink.module.EventSinkProtos.AlarmData value) {
+        if (alarmDataBuilder_ == null) {
+          if (((bitField0_ & 0x01000000) != 0) &&
+            alarmData_ != null &&
+            alarmData_ != org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.getDefaultInstance()) {
+            getAlarmDataBuilder().mergeFrom(value);
+          } else {
+            alarmData_ = value;
+          }
+        } else {
+          alarmDataBuilder_.mergeFrom(value);
+        }
+        if (alarmData_ != null) {
+          bitField0_ |= 0x01000000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       */
+      public Builder clearAlarmData() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        alarmData_ = null;
+        if (alarmDataBuilder_ != null) {
+          alarmDataBuilder_.dispose();
+          alarmDataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.Builder getAlarmDataBuilder() {
+        bitField0_ |= 0x01000000;
+        onChanged();
+        return getAlarmDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.AlarmDataOrBuilder getAlarmDataOrBuilder() {
+        if (alarmDataBuilder_ != null) {
+          return alarmDataBuilder_.getMessageOrBuilder();
+        } else {
+          return alarmData_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.getDefaultInstance() : alarmData_;
+        }
+      }
+      /**
+       * <code>.AlarmData alarm_data = 25;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.AlarmData, org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.Builder, org.opennms.features.events.sink.module.EventSinkProtos.AlarmDataOrBuilder> 
+          getAlarmDataFieldBuilder() {
+        if (alarmDataBuilder_ == null) {
+          alarmDataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.AlarmData, org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.Builder, org.opennms.features.events.sink.module.EventSinkProtos.AlarmDataOrBuilder>(
+                  getAlarmData(),
+                  getParentForChildren(),
+                  isClean());
+          alarmData_ = null;
+        }
+        return alarmDataBuilder_;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.StateContent autoacknowledge_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.StateContent, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder, org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder> autoacknowledgeBuilder_;
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       * @return Whether the autoacknowledge field is set.
+       */
+      public boolean hasAutoacknowledge() {
+        return ((bitField0_ & 0x02000000) != 0);
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       * @return The autoacknowledge.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContent getAutoacknowledge() {
+        if (autoacknowledgeBuilder_ == null) {
+          return autoacknowledge_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : autoacknowledge_;
+        } else {
+          return autoacknowledgeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       */
+      public Builder setAutoacknowledge(org.opennms.features.events.sink.module.EventSinkProtos.StateContent value) {
+        if (autoacknowledgeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          autoacknowledge_ = value;
+        } else {
+          autoacknowledgeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x02000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       */
+      public Builder setAutoacknowledge(
+          org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder builderForValue) {
+        if (autoacknowledgeBuilder_ == null) {
+          autoacknowledge_ = builderForValue.build();
+        } else {
+          autoacknowledgeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x02000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       */
+      public Builder mergeAutoacknowledge(org.opennms.features.events.sink.module.EventSinkProtos.StateContent value) {
+        if (autoacknowledgeBuilder_ == null) {
+          if (((bitField0_ & 0x02000000) != 0) &&
+            autoacknowledge_ != null &&
+            autoacknowledge_ != org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance()) {
+            getAutoacknowledgeBuilder().mergeFrom(value);
+          } else {
+            autoacknowledge_ = value;
+          }
+        } else {
+          autoacknowledgeBuilder_.mergeFrom(value);
+        }
+        if (autoacknowledge_ != null) {
+          bitField0_ |= 0x02000000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       */
+      public Builder clearAutoacknowledge() {
+        bitField0_ = (bitField0_ & ~0x02000000);
+        autoacknowledge_ = null;
+        if (autoacknowledgeBuilder_ != null) {
+          autoacknowledgeBuilder_.dispose();
+          autoacknowledgeBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder getAutoacknowledgeBuilder() {
+        bitField0_ |= 0x02000000;
+        onChanged();
+        return getAutoacknowledgeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder getAutoacknowledgeOrBuilder() {
+        if (autoacknowledgeBuilder_ != null) {
+          return autoacknowledgeBuilder_.getMessageOrBuilder();
+        } else {
+          return autoacknowledge_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : autoacknowledge_;
+        }
+      }
+      /**
+       * <code>.StateContent autoacknowledge = 26;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.StateContent, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder, org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder> 
+          getAutoacknowledgeFieldBuilder() {
+        if (autoacknowledgeBuilder_ == null) {
+          autoacknowledgeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.StateContent, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder, org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder>(
+                  getAutoacknowledge(),
+                  getParentForChildren(),
+                  isClean());
+          autoacknowledge_ = null;
+        }
+        return autoacknowledgeBuilder_;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.StateContent tticket_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.StateContent, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder, org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder> tticketBuilder_;
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       * @return Whether the tticket field is set.
+       */
+      public boolean hasTticket() {
+        return ((bitField0_ & 0x04000000) != 0);
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       * @return The tticket.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContent getTticket() {
+        if (tticketBuilder_ == null) {
+          return tticket_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : tticket_;
+        } else {
+          return tticketBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       */
+      public Builder setTticket(org.opennms.features.events.sink.module.EventSinkProtos.StateContent value) {
+        if (tticketBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          tticket_ = value;
+        } else {
+          tticketBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x04000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       */
+      public Builder setTticket(
+          org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder builderForValue) {
+        if (tticketBuilder_ == null) {
+          tticket_ = builderForValue.build();
+        } else {
+          tticketBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x04000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       */
+      public Builder mergeTticket(org.opennms.features.events.sink.module.EventSinkProtos.StateContent value) {
+        if (tticketBuilder_ == null) {
+          if (((bitField0_ & 0x04000000) != 0) &&
+            tticket_ != null &&
+            tticket_ != org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance()) {
+            getTticketBuilder().mergeFrom(value);
+          } else {
+            tticket_ = value;
+          }
+        } else {
+          tticketBuilder_.mergeFrom(value);
+        }
+        if (tticket_ != null) {
+          bitField0_ |= 0x04000000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       */
+      public Builder clearTticket() {
+        bitField0_ = (bitField0_ & ~0x04000000);
+        tticket_ = null;
+        if (tticketBuilder_ != null) {
+          tticketBuilder_.dispose();
+          tticketBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder getTticketBuilder() {
+        bitField0_ |= 0x04000000;
+        onChanged();
+        return getTticketFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder getTticketOrBuilder() {
+        if (tticketBuilder_ != null) {
+          return tticketBuilder_.getMessageOrBuilder();
+        } else {
+          return tticket_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance() : tticket_;
+        }
+      }
+      /**
+       * <code>.StateContent tticket = 27;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.StateContent, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder, org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder> 
+          getTticketFieldBuilder() {
+        if (tticketBuilder_ == null) {
+          tticketBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.StateContent, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder, org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder>(
+                  getTticket(),
+                  getParentForChildren(),
+                  isClean());
+          tticket_ = null;
+        }
+        return tticketBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Event)
+    }
+
+    // @@protoc_insertion_point(class_scope:Event)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.Event DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.Event();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Event getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Event>
+        PARSER = new com.google.protobuf.AbstractParser<Event>() {
+      @java.lang.Override
+      public Event parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Event> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Event> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Event getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Snmp)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    boolean hasId();
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return Whether the trapOid field is set.
+     */
+    boolean hasTrapOid();
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The trapOid.
+     */
+    java.lang.String getTrapOid();
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The bytes for trapOid.
+     */
+    com.google.protobuf.ByteString
+        getTrapOidBytes();
+
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return Whether the idtext field is set.
+     */
+    boolean hasIdtext();
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The idtext.
+     */
+    java.lang.String getIdtext();
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The bytes for idtext.
+     */
+    com.google.protobuf.ByteString
+        getIdtextBytes();
+
+    /**
+     * <code>optional string version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return Whether the specific field is set.
+     */
+    boolean hasSpecific();
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return The specific.
+     */
+    int getSpecific();
+
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return Whether the generic field is set.
+     */
+    boolean hasGeneric();
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return The generic.
+     */
+    int getGeneric();
+
+    /**
+     * <code>optional string community = 7;</code>
+     * @return Whether the community field is set.
+     */
+    boolean hasCommunity();
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The community.
+     */
+    java.lang.String getCommunity();
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The bytes for community.
+     */
+    com.google.protobuf.ByteString
+        getCommunityBytes();
+
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return Whether the timeStamp field is set.
+     */
+    boolean hasTimeStamp();
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return The timeStamp.
+     */
+    long getTimeStamp();
+  }
+  /**
+   * Protobuf type {@code Snmp}
+   */
+  public static final class Snmp extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Snmp)
+      SnmpOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Snmp.newBuilder() to construct.
+    private Snmp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Snmp() {
+      id_ = "";
+      trapOid_ = "";
+      idtext_ = "";
+      version_ = "";
+      community_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Snmp();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Snmp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Snmp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.Snmp.class, org.opennms.features.events.sink.module.EventSinkProtos.Snmp.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <code>optional string id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    @java.lang.Override
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRAP_OID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object trapOid_ = "";
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return Whether the trapOid field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapOid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The trapOid.
+     */
+    @java.lang.Override
+    public java.lang.String getTrapOid() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        trapOid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The bytes for trapOid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTrapOidBytes() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        trapOid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IDTEXT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object idtext_ = "";
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return Whether the idtext field is set.
+     */
+    @java.lang.Override
+    public boolean hasIdtext() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The idtext.
+     */
+    @java.lang.Override
+    public java.lang.String getIdtext() {
+      java.lang.Object ref = idtext_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        idtext_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The bytes for idtext.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdtextBytes() {
+      java.lang.Object ref = idtext_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        idtext_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <code>optional string version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SPECIFIC_FIELD_NUMBER = 5;
+    private int specific_ = 0;
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return Whether the specific field is set.
+     */
+    @java.lang.Override
+    public boolean hasSpecific() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return The specific.
+     */
+    @java.lang.Override
+    public int getSpecific() {
+      return specific_;
+    }
+
+    public static final int GENERIC_FIELD_NUMBER = 6;
+    private int generic_ = 0;
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return Whether the generic field is set.
+     */
+    @java.lang.Override
+    public boolean hasGeneric() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return The generic.
+     */
+    @java.lang.Override
+    public int getGeneric() {
+      return generic_;
+    }
+
+    public static final int COMMUNITY_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object community_ = "";
+    /**
+     * <code>optional string community = 7;</code>
+     * @return Whether the community field is set.
+     */
+    @java.lang.Override
+    public boolean hasCommunity() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The community.
+     */
+    @java.lang.Override
+    public java.lang.String getCommunity() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        community_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The bytes for community.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCommunityBytes() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        community_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIME_STAMP_FIELD_NUMBER = 8;
+    private long timeStamp_ = 0L;
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return Whether the timeStamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimeStamp() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return The timeStamp.
+     */
+    @java.lang.Override
+    public long getTimeStamp() {
+      return timeStamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, trapOid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, idtext_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, specific_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt32(6, generic_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, community_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt64(8, timeStamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, trapOid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, idtext_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, specific_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, generic_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, community_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, timeStamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.Snmp)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.Snmp other = (org.opennms.features.events.sink.module.EventSinkProtos.Snmp) obj;
+
+      if (hasId() != other.hasId()) return false;
+      if (hasId()) {
+        if (!getId()
+            .equals(other.getId())) return false;
+      }
+      if (hasTrapOid() != other.hasTrapOid()) return false;
+      if (hasTrapOid()) {
+        if (!getTrapOid()
+            .equals(other.getTrapOid())) return false;
+      }
+      if (hasIdtext() != other.hasIdtext()) return false;
+      if (hasIdtext()) {
+        if (!getIdtext()
+            .equals(other.getIdtext())) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (!getVersion()
+            .equals(other.getVersion())) return false;
+      }
+      if (hasSpecific() != other.hasSpecific()) return false;
+      if (hasSpecific()) {
+        if (getSpecific()
+            != other.getSpecific()) return false;
+      }
+      if (hasGeneric() != other.hasGeneric()) return false;
+      if (hasGeneric()) {
+        if (getGeneric()
+            != other.getGeneric()) return false;
+      }
+      if (hasCommunity() != other.hasCommunity()) return false;
+      if (hasCommunity()) {
+        if (!getCommunity()
+            .equals(other.getCommunity())) return false;
+      }
+      if (hasTimeStamp() != other.hasTimeStamp()) return false;
+      if (hasTimeStamp()) {
+        if (getTimeStamp()
+            != other.getTimeStamp()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasId()) {
+        hash = (37 * hash) + ID_FIELD_NUMBER;
+        hash = (53 * hash) + getId().hashCode();
+      }
+      if (hasTrapOid()) {
+        hash = (37 * hash) + TRAP_OID_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapOid().hashCode();
+      }
+      if (hasIdtext()) {
+        hash = (37 * hash) + IDTEXT_FIELD_NUMBER;
+        hash = (53 * hash) + getIdtext().hashCode();
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion().hashCode();
+      }
+      if (hasSpecific()) {
+        hash = (37 * hash) + SPECIFIC_FIELD_NUMBER;
+        hash = (53 * hash) + getSpecific();
+      }
+      if (hasGeneric()) {
+        hash = (37 * hash) + GENERIC_FIELD_NUMBER;
+        hash = (53 * hash) + getGeneric();
+      }
+      if (hasCommunity()) {
+        hash = (37 * hash) + COMMUNITY_FIELD_NUMBER;
+        hash = (53 * hash) + getCommunity().hashCode();
+      }
+      if (hasTimeStamp()) {
+        hash = (37 * hash) + TIME_STAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimeStamp());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.Snmp prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Snmp}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Snmp)
+        org.opennms.features.events.sink.module.EventSinkProtos.SnmpOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Snmp_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Snmp_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.Snmp.class, org.opennms.features.events.sink.module.EventSinkProtos.Snmp.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.Snmp.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        trapOid_ = "";
+        idtext_ = "";
+        version_ = "";
+        specific_ = 0;
+        generic_ = 0;
+        community_ = "";
+        timeStamp_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Snmp_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Snmp getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.Snmp.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Snmp build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Snmp result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Snmp buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Snmp result = new org.opennms.features.events.sink.module.EventSinkProtos.Snmp(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.Snmp result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.trapOid_ = trapOid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.idtext_ = idtext_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.specific_ = specific_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.generic_ = generic_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.community_ = community_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.timeStamp_ = timeStamp_;
+          to_bitField0_ |= 0x00000080;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.Snmp) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.Snmp)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.Snmp other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.Snmp.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasTrapOid()) {
+          trapOid_ = other.trapOid_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasIdtext()) {
+          idtext_ = other.idtext_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasVersion()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasSpecific()) {
+          setSpecific(other.getSpecific());
+        }
+        if (other.hasGeneric()) {
+          setGeneric(other.getGeneric());
+        }
+        if (other.hasCommunity()) {
+          community_ = other.community_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (other.hasTimeStamp()) {
+          setTimeStamp(other.getTimeStamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                trapOid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                idtext_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                specific_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                generic_ = input.readInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 58: {
+                community_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 64: {
+                timeStamp_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string id = 1;</code>
+       * @return Whether the id field is set.
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object trapOid_ = "";
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return Whether the trapOid field is set.
+       */
+      public boolean hasTrapOid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return The trapOid.
+       */
+      public java.lang.String getTrapOid() {
+        java.lang.Object ref = trapOid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          trapOid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return The bytes for trapOid.
+       */
+      public com.google.protobuf.ByteString
+          getTrapOidBytes() {
+        java.lang.Object ref = trapOid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          trapOid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @param value The trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOid(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        trapOid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTrapOid() {
+        trapOid_ = getDefaultInstance().getTrapOid();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @param value The bytes for trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        trapOid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object idtext_ = "";
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return Whether the idtext field is set.
+       */
+      public boolean hasIdtext() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return The idtext.
+       */
+      public java.lang.String getIdtext() {
+        java.lang.Object ref = idtext_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          idtext_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return The bytes for idtext.
+       */
+      public com.google.protobuf.ByteString
+          getIdtextBytes() {
+        java.lang.Object ref = idtext_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          idtext_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @param value The idtext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdtext(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        idtext_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdtext() {
+        idtext_ = getDefaultInstance().getIdtext();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @param value The bytes for idtext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdtextBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        idtext_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <code>optional string version = 4;</code>
+       * @return Whether the version field is set.
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private int specific_ ;
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @return Whether the specific field is set.
+       */
+      @java.lang.Override
+      public boolean hasSpecific() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @return The specific.
+       */
+      @java.lang.Override
+      public int getSpecific() {
+        return specific_;
+      }
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @param value The specific to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecific(int value) {
+
+        specific_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpecific() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        specific_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int generic_ ;
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @return Whether the generic field is set.
+       */
+      @java.lang.Override
+      public boolean hasGeneric() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @return The generic.
+       */
+      @java.lang.Override
+      public int getGeneric() {
+        return generic_;
+      }
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @param value The generic to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGeneric(int value) {
+
+        generic_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGeneric() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        generic_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object community_ = "";
+      /**
+       * <code>optional string community = 7;</code>
+       * @return Whether the community field is set.
+       */
+      public boolean hasCommunity() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @return The community.
+       */
+      public java.lang.String getCommunity() {
+        java.lang.Object ref = community_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          community_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @return The bytes for community.
+       */
+      public com.google.protobuf.ByteString
+          getCommunityBytes() {
+        java.lang.Object ref = community_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          community_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @param value The community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunity(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        community_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommunity() {
+        community_ = getDefaultInstance().getCommunity();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @param value The bytes for community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        community_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private long timeStamp_ ;
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @return Whether the timeStamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimeStamp() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @return The timeStamp.
+       */
+      @java.lang.Override
+      public long getTimeStamp() {
+        return timeStamp_;
+      }
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @param value The timeStamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeStamp(long value) {
+
+        timeStamp_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeStamp() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        timeStamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Snmp)
+    }
+
+    // @@protoc_insertion_point(class_scope:Snmp)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.Snmp DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.Snmp();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Snmp getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Snmp>
+        PARSER = new com.google.protobuf.AbstractParser<Snmp>() {
+      @java.lang.Override
+      public Snmp parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Snmp> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Snmp> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Snmp getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ParmOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Parm)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>optional string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>.Value value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>.Value value = 2;</code>
+     * @return The value.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.Value getValue();
+    /**
+     * <code>.Value value = 2;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.ValueOrBuilder getValueOrBuilder();
+  }
+  /**
+   * Protobuf type {@code Parm}
+   */
+  public static final class Parm extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Parm)
+      ParmOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Parm.newBuilder() to construct.
+    private Parm(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Parm() {
+      name_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Parm();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Parm_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Parm_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.Parm.class, org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>optional string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    @java.lang.Override
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private org.opennms.features.events.sink.module.EventSinkProtos.Value value_;
+    /**
+     * <code>.Value value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>.Value value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Value getValue() {
+      return value_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Value.getDefaultInstance() : value_;
+    }
+    /**
+     * <code>.Value value = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.ValueOrBuilder getValueOrBuilder() {
+      return value_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Value.getDefaultInstance() : value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getValue());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getValue());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.Parm)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.Parm other = (org.opennms.features.events.sink.module.EventSinkProtos.Parm) obj;
+
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.Parm prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Parm}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Parm)
+        org.opennms.features.events.sink.module.EventSinkProtos.ParmOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Parm_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Parm_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.Parm.class, org.opennms.features.events.sink.module.EventSinkProtos.Parm.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.Parm.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getValueFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Parm_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Parm getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.Parm.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Parm build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Parm result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Parm buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Parm result = new org.opennms.features.events.sink.module.EventSinkProtos.Parm(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.Parm result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.value_ = valueBuilder_ == null
+              ? value_
+              : valueBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.Parm) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.Parm)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.Parm other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.Parm.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getValueFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.Value value_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Value, org.opennms.features.events.sink.module.EventSinkProtos.Value.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ValueOrBuilder> valueBuilder_;
+      /**
+       * <code>.Value value = 2;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       * @return The value.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Value getValue() {
+        if (valueBuilder_ == null) {
+          return value_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.Value.getDefaultInstance() : value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       */
+      public Builder setValue(org.opennms.features.events.sink.module.EventSinkProtos.Value value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       */
+      public Builder setValue(
+          org.opennms.features.events.sink.module.EventSinkProtos.Value.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       */
+      public Builder mergeValue(org.opennms.features.events.sink.module.EventSinkProtos.Value value) {
+        if (valueBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            value_ != null &&
+            value_ != org.opennms.features.events.sink.module.EventSinkProtos.Value.getDefaultInstance()) {
+            getValueBuilder().mergeFrom(value);
+          } else {
+            value_ = value;
+          }
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+        if (value_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.Value.Builder getValueBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.ValueOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.Value.getDefaultInstance() : value_;
+        }
+      }
+      /**
+       * <code>.Value value = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.Value, org.opennms.features.events.sink.module.EventSinkProtos.Value.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ValueOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.Value, org.opennms.features.events.sink.module.EventSinkProtos.Value.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ValueOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Parm)
+    }
+
+    // @@protoc_insertion_point(class_scope:Parm)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.Parm DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.Parm();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Parm getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Parm>
+        PARSER = new com.google.protobuf.AbstractParser<Parm>() {
+      @java.lang.Override
+      public Parm parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Parm> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Parm> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Parm getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ValueOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Value)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    boolean hasContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    java.lang.String getContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    com.google.protobuf.ByteString
+        getContentBytes();
+
+    /**
+     * <code>optional string type = 2;</code>
+     * @return Whether the type field is set.
+     */
+    boolean hasType();
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return Whether the encoding field is set.
+     */
+    boolean hasEncoding();
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The encoding.
+     */
+    java.lang.String getEncoding();
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The bytes for encoding.
+     */
+    com.google.protobuf.ByteString
+        getEncodingBytes();
+  }
+  /**
+   * Protobuf type {@code Value}
+   */
+  public static final class Value extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Value)
+      ValueOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Value.newBuilder() to construct.
+    private Value(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Value() {
+      content_ = "";
+      type_ = "";
+      encoding_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Value();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Value_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Value_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.Value.class, org.opennms.features.events.sink.module.EventSinkProtos.Value.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object content_ = "";
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    @java.lang.Override
+    public boolean hasContent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public java.lang.String getContent() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        content_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getContentBytes() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        content_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <code>optional string type = 2;</code>
+     * @return Whether the type field is set.
+     */
+    @java.lang.Override
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ENCODING_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object encoding_ = "";
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return Whether the encoding field is set.
+     */
+    @java.lang.Override
+    public boolean hasEncoding() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The encoding.
+     */
+    @java.lang.Override
+    public java.lang.String getEncoding() {
+      java.lang.Object ref = encoding_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        encoding_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The bytes for encoding.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEncodingBytes() {
+      java.lang.Object ref = encoding_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        encoding_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, type_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, encoding_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, type_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, encoding_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.Value)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.Value other = (org.opennms.features.events.sink.module.EventSinkProtos.Value) obj;
+
+      if (hasContent() != other.hasContent()) return false;
+      if (hasContent()) {
+        if (!getContent()
+            .equals(other.getContent())) return false;
+      }
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (!getType()
+            .equals(other.getType())) return false;
+      }
+      if (hasEncoding() != other.hasEncoding()) return false;
+      if (hasEncoding()) {
+        if (!getEncoding()
+            .equals(other.getEncoding())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasContent()) {
+        hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getContent().hashCode();
+      }
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+      }
+      if (hasEncoding()) {
+        hash = (37 * hash) + ENCODING_FIELD_NUMBER;
+        hash = (53 * hash) + getEncoding().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.Value prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Value}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Value)
+        org.opennms.features.events.sink.module.EventSinkProtos.ValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Value_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Value_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.Value.class, org.opennms.features.events.sink.module.EventSinkProtos.Value.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.Value.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        content_ = "";
+        type_ = "";
+        encoding_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Value_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Value getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.Value.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Value build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Value result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Value buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Value result = new org.opennms.features.events.sink.module.EventSinkProtos.Value(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.Value result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.content_ = content_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.type_ = type_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.encoding_ = encoding_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.Value) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.Value)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.Value other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.Value.getDefaultInstance()) return this;
+        if (other.hasContent()) {
+          content_ = other.content_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasType()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasEncoding()) {
+          encoding_ = other.encoding_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                content_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                encoding_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object content_ = "";
+      /**
+       * <code>optional string content = 1;</code>
+       * @return Whether the content field is set.
+       */
+      public boolean hasContent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The content.
+       */
+      public java.lang.String getContent() {
+        java.lang.Object ref = content_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          content_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The bytes for content.
+       */
+      public com.google.protobuf.ByteString
+          getContentBytes() {
+        java.lang.Object ref = content_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          content_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        content_ = getDefaultInstance().getContent();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The bytes for content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>optional string type = 2;</code>
+       * @return Whether the type field is set.
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object encoding_ = "";
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return Whether the encoding field is set.
+       */
+      public boolean hasEncoding() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return The encoding.
+       */
+      public java.lang.String getEncoding() {
+        java.lang.Object ref = encoding_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          encoding_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return The bytes for encoding.
+       */
+      public com.google.protobuf.ByteString
+          getEncodingBytes() {
+        java.lang.Object ref = encoding_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          encoding_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @param value The encoding to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEncoding(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        encoding_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEncoding() {
+        encoding_ = getDefaultInstance().getEncoding();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @param value The bytes for encoding to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEncodingBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        encoding_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Value)
+    }
+
+    // @@protoc_insertion_point(class_scope:Value)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.Value DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.Value();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Value getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Value>
+        PARSER = new com.google.protobuf.AbstractParser<Value>() {
+      @java.lang.Override
+      public Value parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Value> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Value> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Value getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LogmsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Logmsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    boolean hasContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    java.lang.String getContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    com.google.protobuf.ByteString
+        getContentBytes();
+
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return Whether the notify field is set.
+     */
+    boolean hasNotify();
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return The notify.
+     */
+    boolean getNotify();
+
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return Whether the dest field is set.
+     */
+    boolean hasDest();
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The dest.
+     */
+    java.lang.String getDest();
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The bytes for dest.
+     */
+    com.google.protobuf.ByteString
+        getDestBytes();
+  }
+  /**
+   * Protobuf type {@code Logmsg}
+   */
+  public static final class Logmsg extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Logmsg)
+      LogmsgOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Logmsg.newBuilder() to construct.
+    private Logmsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Logmsg() {
+      content_ = "";
+      dest_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Logmsg();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Logmsg_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Logmsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.class, org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object content_ = "";
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    @java.lang.Override
+    public boolean hasContent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public java.lang.String getContent() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        content_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getContentBytes() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        content_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NOTIFY_FIELD_NUMBER = 2;
+    private boolean notify_ = false;
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return Whether the notify field is set.
+     */
+    @java.lang.Override
+    public boolean hasNotify() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return The notify.
+     */
+    @java.lang.Override
+    public boolean getNotify() {
+      return notify_;
+    }
+
+    public static final int DEST_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dest_ = "";
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return Whether the dest field is set.
+     */
+    @java.lang.Override
+    public boolean hasDest() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The dest.
+     */
+    @java.lang.Override
+    public java.lang.String getDest() {
+      java.lang.Object ref = dest_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dest_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The bytes for dest.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestBytes() {
+      java.lang.Object ref = dest_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dest_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, notify_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dest_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, notify_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dest_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.Logmsg)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.Logmsg other = (org.opennms.features.events.sink.module.EventSinkProtos.Logmsg) obj;
+
+      if (hasContent() != other.hasContent()) return false;
+      if (hasContent()) {
+        if (!getContent()
+            .equals(other.getContent())) return false;
+      }
+      if (hasNotify() != other.hasNotify()) return false;
+      if (hasNotify()) {
+        if (getNotify()
+            != other.getNotify()) return false;
+      }
+      if (hasDest() != other.hasDest()) return false;
+      if (hasDest()) {
+        if (!getDest()
+            .equals(other.getDest())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasContent()) {
+        hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getContent().hashCode();
+      }
+      if (hasNotify()) {
+        hash = (37 * hash) + NOTIFY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getNotify());
+      }
+      if (hasDest()) {
+        hash = (37 * hash) + DEST_FIELD_NUMBER;
+        hash = (53 * hash) + getDest().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.Logmsg prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Logmsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Logmsg)
+        org.opennms.features.events.sink.module.EventSinkProtos.LogmsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Logmsg_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Logmsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.class, org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        content_ = "";
+        notify_ = false;
+        dest_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_Logmsg_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Logmsg getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Logmsg build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Logmsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.Logmsg buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.Logmsg result = new org.opennms.features.events.sink.module.EventSinkProtos.Logmsg(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.Logmsg result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.content_ = content_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.notify_ = notify_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.dest_ = dest_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.Logmsg) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.Logmsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.Logmsg other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.Logmsg.getDefaultInstance()) return this;
+        if (other.hasContent()) {
+          content_ = other.content_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasNotify()) {
+          setNotify(other.getNotify());
+        }
+        if (other.hasDest()) {
+          dest_ = other.dest_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                content_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                notify_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                dest_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object content_ = "";
+      /**
+       * <code>optional string content = 1;</code>
+       * @return Whether the content field is set.
+       */
+      public boolean hasContent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The content.
+       */
+      public java.lang.String getContent() {
+        java.lang.Object ref = content_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          content_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The bytes for content.
+       */
+      public com.google.protobuf.ByteString
+          getContentBytes() {
+        java.lang.Object ref = content_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          content_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        content_ = getDefaultInstance().getContent();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The bytes for content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean notify_ ;
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @return Whether the notify field is set.
+       */
+      @java.lang.Override
+      public boolean hasNotify() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @return The notify.
+       */
+      @java.lang.Override
+      public boolean getNotify() {
+        return notify_;
+      }
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @param value The notify to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNotify(boolean value) {
+
+        notify_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNotify() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        notify_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dest_ = "";
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return Whether the dest field is set.
+       */
+      public boolean hasDest() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return The dest.
+       */
+      public java.lang.String getDest() {
+        java.lang.Object ref = dest_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dest_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return The bytes for dest.
+       */
+      public com.google.protobuf.ByteString
+          getDestBytes() {
+        java.lang.Object ref = dest_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dest_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @param value The dest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDest(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dest_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDest() {
+        dest_ = getDefaultInstance().getDest();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @param value The bytes for dest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dest_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Logmsg)
+    }
+
+    // @@protoc_insertion_point(class_scope:Logmsg)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.Logmsg DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.Logmsg();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.Logmsg getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Logmsg>
+        PARSER = new com.google.protobuf.AbstractParser<Logmsg>() {
+      @java.lang.Override
+      public Logmsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Logmsg> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Logmsg> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.Logmsg getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AlarmDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AlarmData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string reduction_key = 1;</code>
+     * @return Whether the reductionKey field is set.
+     */
+    boolean hasReductionKey();
+    /**
+     * <code>optional string reduction_key = 1;</code>
+     * @return The reductionKey.
+     */
+    java.lang.String getReductionKey();
+    /**
+     * <code>optional string reduction_key = 1;</code>
+     * @return The bytes for reductionKey.
+     */
+    com.google.protobuf.ByteString
+        getReductionKeyBytes();
+
+    /**
+     * <code>optional int32 alarm_type = 2;</code>
+     * @return Whether the alarmType field is set.
+     */
+    boolean hasAlarmType();
+    /**
+     * <code>optional int32 alarm_type = 2;</code>
+     * @return The alarmType.
+     */
+    int getAlarmType();
+
+    /**
+     * <code>optional string clear_key = 3;</code>
+     * @return Whether the clearKey field is set.
+     */
+    boolean hasClearKey();
+    /**
+     * <code>optional string clear_key = 3;</code>
+     * @return The clearKey.
+     */
+    java.lang.String getClearKey();
+    /**
+     * <code>optional string clear_key = 3;</code>
+     * @return The bytes for clearKey.
+     */
+    com.google.protobuf.ByteString
+        getClearKeyBytes();
+
+    /**
+     * <code>optional bool auto_clean = 4;</code>
+     * @return Whether the autoClean field is set.
+     */
+    boolean hasAutoClean();
+    /**
+     * <code>optional bool auto_clean = 4;</code>
+     * @return The autoClean.
+     */
+    boolean getAutoClean();
+
+    /**
+     * <code>optional string x733_alarm_type = 5;</code>
+     * @return Whether the x733AlarmType field is set.
+     */
+    boolean hasX733AlarmType();
+    /**
+     * <code>optional string x733_alarm_type = 5;</code>
+     * @return The x733AlarmType.
+     */
+    java.lang.String getX733AlarmType();
+    /**
+     * <code>optional string x733_alarm_type = 5;</code>
+     * @return The bytes for x733AlarmType.
+     */
+    com.google.protobuf.ByteString
+        getX733AlarmTypeBytes();
+
+    /**
+     * <code>optional int32 x733_probable_cause = 6;</code>
+     * @return Whether the x733ProbableCause field is set.
+     */
+    boolean hasX733ProbableCause();
+    /**
+     * <code>optional int32 x733_probable_cause = 6;</code>
+     * @return The x733ProbableCause.
+     */
+    int getX733ProbableCause();
+
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.UpdateField> 
+        getUpdateFieldList();
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.UpdateField getUpdateField(int index);
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    int getUpdateFieldCount();
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder> 
+        getUpdateFieldOrBuilderList();
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder getUpdateFieldOrBuilder(
+        int index);
+
+    /**
+     * <code>.ManagedObject managed_object = 8;</code>
+     * @return Whether the managedObject field is set.
+     */
+    boolean hasManagedObject();
+    /**
+     * <code>.ManagedObject managed_object = 8;</code>
+     * @return The managedObject.
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject getManagedObject();
+    /**
+     * <code>.ManagedObject managed_object = 8;</code>
+     */
+    org.opennms.features.events.sink.module.EventSinkProtos.ManagedObjectOrBuilder getManagedObjectOrBuilder();
+  }
+  /**
+   * Protobuf type {@code AlarmData}
+   */
+  public static final class AlarmData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:AlarmData)
+      AlarmDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AlarmData.newBuilder() to construct.
+    private AlarmData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AlarmData() {
+      reductionKey_ = "";
+      clearKey_ = "";
+      x733AlarmType_ = "";
+      updateField_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AlarmData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_AlarmData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_AlarmData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.class, org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int REDUCTION_KEY_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object reductionKey_ = "";
+    /**
+     * <code>optional string reduction_key = 1;</code>
+     * @return Whether the reductionKey field is set.
+     */
+    @java.lang.Override
+    public boolean hasReductionKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string reduction_key = 1;</code>
+     * @return The reductionKey.
+     */
+    @java.lang.Override
+    public java.lang.String getReductionKey() {
+      java.lang.Object ref = reductionKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        reductionKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string reduction_key = 1;</code>
+     * @return The bytes for reductionKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getReductionKeyBytes() {
+      java.lang.Object ref = reductionKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reductionKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ALARM_TYPE_FIELD_NUMBER = 2;
+    private int alarmType_ = 0;
+    /**
+     * <code>optional int32 alarm_type = 2;</code>
+     * @return Whether the alarmType field is set.
+     */
+    @java.lang.Override
+    public boolean hasAlarmType() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 alarm_type = 2;</code>
+     * @return The alarmType.
+     */
+    @java.lang.Override
+    public int getAlarmType() {
+      return alarmType_;
+    }
+
+    public static final int CLEAR_KEY_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object clearKey_ = "";
+    /**
+     * <code>optional string clear_key = 3;</code>
+     * @return Whether the clearKey field is set.
+     */
+    @java.lang.Override
+    public boolean hasClearKey() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string clear_key = 3;</code>
+     * @return The clearKey.
+     */
+    @java.lang.Override
+    public java.lang.String getClearKey() {
+      java.lang.Object ref = clearKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        clearKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string clear_key = 3;</code>
+     * @return The bytes for clearKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getClearKeyBytes() {
+      java.lang.Object ref = clearKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clearKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AUTO_CLEAN_FIELD_NUMBER = 4;
+    private boolean autoClean_ = false;
+    /**
+     * <code>optional bool auto_clean = 4;</code>
+     * @return Whether the autoClean field is set.
+     */
+    @java.lang.Override
+    public boolean hasAutoClean() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional bool auto_clean = 4;</code>
+     * @return The autoClean.
+     */
+    @java.lang.Override
+    public boolean getAutoClean() {
+      return autoClean_;
+    }
+
+    public static final int X733_ALARM_TYPE_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object x733AlarmType_ = "";
+    /**
+     * <code>optional string x733_alarm_type = 5;</code>
+     * @return Whether the x733AlarmType field is set.
+     */
+    @java.lang.Override
+    public boolean hasX733AlarmType() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string x733_alarm_type = 5;</code>
+     * @return The x733AlarmType.
+     */
+    @java.lang.Override
+    public java.lang.String getX733AlarmType() {
+      java.lang.Object ref = x733AlarmType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        x733AlarmType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string x733_alarm_type = 5;</code>
+     * @return The bytes for x733AlarmType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getX733AlarmTypeBytes() {
+      java.lang.Object ref = x733AlarmType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        x733AlarmType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int X733_PROBABLE_CAUSE_FIELD_NUMBER = 6;
+    private int x733ProbableCause_ = 0;
+    /**
+     * <code>optional int32 x733_probable_cause = 6;</code>
+     * @return Whether the x733ProbableCause field is set.
+     */
+    @java.lang.Override
+    public boolean hasX733ProbableCause() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional int32 x733_probable_cause = 6;</code>
+     * @return The x733ProbableCause.
+     */
+    @java.lang.Override
+    public int getX733ProbableCause() {
+      return x733ProbableCause_;
+    }
+
+    public static final int UPDATE_FIELD_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.UpdateField> updateField_;
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.UpdateField> getUpdateFieldList() {
+      return updateField_;
+    }
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder> 
+        getUpdateFieldOrBuilderList() {
+      return updateField_;
+    }
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    @java.lang.Override
+    public int getUpdateFieldCount() {
+      return updateField_.size();
+    }
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField getUpdateField(int index) {
+      return updateField_.get(index);
+    }
+    /**
+     * <code>repeated .UpdateField update_field = 7;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder getUpdateFieldOrBuilder(
+        int index) {
+      return updateField_.get(index);
+    }
+
+    public static final int MANAGED_OBJECT_FIELD_NUMBER = 8;
+    private org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject managedObject_;
+    /**
+     * <code>.ManagedObject managed_object = 8;</code>
+     * @return Whether the managedObject field is set.
+     */
+    @java.lang.Override
+    public boolean hasManagedObject() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>.ManagedObject managed_object = 8;</code>
+     * @return The managedObject.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject getManagedObject() {
+      return managedObject_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.getDefaultInstance() : managedObject_;
+    }
+    /**
+     * <code>.ManagedObject managed_object = 8;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObjectOrBuilder getManagedObjectOrBuilder() {
+      return managedObject_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.getDefaultInstance() : managedObject_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, reductionKey_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, alarmType_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, clearKey_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(4, autoClean_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, x733AlarmType_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt32(6, x733ProbableCause_);
+      }
+      for (int i = 0; i < updateField_.size(); i++) {
+        output.writeMessage(7, updateField_.get(i));
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeMessage(8, getManagedObject());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, reductionKey_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, alarmType_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, clearKey_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, autoClean_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, x733AlarmType_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, x733ProbableCause_);
+      }
+      for (int i = 0; i < updateField_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, updateField_.get(i));
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getManagedObject());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.AlarmData)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.AlarmData other = (org.opennms.features.events.sink.module.EventSinkProtos.AlarmData) obj;
+
+      if (hasReductionKey() != other.hasReductionKey()) return false;
+      if (hasReductionKey()) {
+        if (!getReductionKey()
+            .equals(other.getReductionKey())) return false;
+      }
+      if (hasAlarmType() != other.hasAlarmType()) return false;
+      if (hasAlarmType()) {
+        if (getAlarmType()
+            != other.getAlarmType()) return false;
+      }
+      if (hasClearKey() != other.hasClearKey()) return false;
+      if (hasClearKey()) {
+        if (!getClearKey()
+            .equals(other.getClearKey())) return false;
+      }
+      if (hasAutoClean() != other.hasAutoClean()) return false;
+      if (hasAutoClean()) {
+        if (getAutoClean()
+            != other.getAutoClean()) return false;
+      }
+      if (hasX733AlarmType() != other.hasX733AlarmType()) return false;
+      if (hasX733AlarmType()) {
+        if (!getX733AlarmType()
+            .equals(other.getX733AlarmType())) return false;
+      }
+      if (hasX733ProbableCause() != other.hasX733ProbableCause()) return false;
+      if (hasX733ProbableCause()) {
+        if (getX733ProbableCause()
+            != other.getX733ProbableCause()) return false;
+      }
+      if (!getUpdateFieldList()
+          .equals(other.getUpdateFieldList())) return false;
+      if (hasManagedObject() != other.hasManagedObject()) return false;
+      if (hasManagedObject()) {
+        if (!getManagedObject()
+            .equals(other.getManagedObject())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasReductionKey()) {
+        hash = (37 * hash) + REDUCTION_KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getReductionKey().hashCode();
+      }
+      if (hasAlarmType()) {
+        hash = (37 * hash) + ALARM_TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getAlarmType();
+      }
+      if (hasClearKey()) {
+        hash = (37 * hash) + CLEAR_KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getClearKey().hashCode();
+      }
+      if (hasAutoClean()) {
+        hash = (37 * hash) + AUTO_CLEAN_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getAutoClean());
+      }
+      if (hasX733AlarmType()) {
+        hash = (37 * hash) + X733_ALARM_TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getX733AlarmType().hashCode();
+      }
+      if (hasX733ProbableCause()) {
+        hash = (37 * hash) + X733_PROBABLE_CAUSE_FIELD_NUMBER;
+        hash = (53 * hash) + getX733ProbableCause();
+      }
+      if (getUpdateFieldCount() > 0) {
+        hash = (37 * hash) + UPDATE_FIELD_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdateFieldList().hashCode();
+      }
+      if (hasManagedObject()) {
+        hash = (37 * hash) + MANAGED_OBJECT_FIELD_NUMBER;
+        hash = (53 * hash) + getManagedObject().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.AlarmData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code AlarmData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AlarmData)
+        org.opennms.features.events.sink.module.EventSinkProtos.AlarmDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_AlarmData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_AlarmData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.class, org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getUpdateFieldFieldBuilder();
+          getManagedObjectFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        reductionKey_ = "";
+        alarmType_ = 0;
+        clearKey_ = "";
+        autoClean_ = false;
+        x733AlarmType_ = "";
+        x733ProbableCause_ = 0;
+        if (updateFieldBuilder_ == null) {
+          updateField_ = java.util.Collections.emptyList();
+        } else {
+          updateField_ = null;
+          updateFieldBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        managedObject_ = null;
+        if (managedObjectBuilder_ != null) {
+          managedObjectBuilder_.dispose();
+          managedObjectBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_AlarmData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.AlarmData getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.AlarmData build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.AlarmData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.AlarmData buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.AlarmData result = new org.opennms.features.events.sink.module.EventSinkProtos.AlarmData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.features.events.sink.module.EventSinkProtos.AlarmData result) {
+        if (updateFieldBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            updateField_ = java.util.Collections.unmodifiableList(updateField_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.updateField_ = updateField_;
+        } else {
+          result.updateField_ = updateFieldBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.AlarmData result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.reductionKey_ = reductionKey_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.alarmType_ = alarmType_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.clearKey_ = clearKey_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.autoClean_ = autoClean_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.x733AlarmType_ = x733AlarmType_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.x733ProbableCause_ = x733ProbableCause_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.managedObject_ = managedObjectBuilder_ == null
+              ? managedObject_
+              : managedObjectBuilder_.build();
+          to_bitField0_ |= 0x00000040;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.AlarmData) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.AlarmData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.AlarmData other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.AlarmData.getDefaultInstance()) return this;
+        if (other.hasReductionKey()) {
+          reductionKey_ = other.reductionKey_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasAlarmType()) {
+          setAlarmType(other.getAlarmType());
+        }
+        if (other.hasClearKey()) {
+          clearKey_ = other.clearKey_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasAutoClean()) {
+          setAutoClean(other.getAutoClean());
+        }
+        if (other.hasX733AlarmType()) {
+          x733AlarmType_ = other.x733AlarmType_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasX733ProbableCause()) {
+          setX733ProbableCause(other.getX733ProbableCause());
+        }
+        if (updateFieldBuilder_ == null) {
+          if (!other.updateField_.isEmpty()) {
+            if (updateField_.isEmpty()) {
+              updateField_ = other.updateField_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureUpdateFieldIsMutable();
+              updateField_.addAll(other.updateField_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.updateField_.isEmpty()) {
+            if (updateFieldBuilder_.isEmpty()) {
+              updateFieldBuilder_.dispose();
+              updateFieldBuilder_ = null;
+              updateField_ = other.updateField_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              updateFieldBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getUpdateFieldFieldBuilder() : null;
+            } else {
+              updateFieldBuilder_.addAllMessages(other.updateField_);
+            }
+          }
+        }
+        if (other.hasManagedObject()) {
+          mergeManagedObject(other.getManagedObject());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                reductionKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                alarmType_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                clearKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                autoClean_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                x733AlarmType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 48: {
+                x733ProbableCause_ = input.readInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 58: {
+                org.opennms.features.events.sink.module.EventSinkProtos.UpdateField m =
+                    input.readMessage(
+                        org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.parser(),
+                        extensionRegistry);
+                if (updateFieldBuilder_ == null) {
+                  ensureUpdateFieldIsMutable();
+                  updateField_.add(m);
+                } else {
+                  updateFieldBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              case 66: {
+                input.readMessage(
+                    getManagedObjectFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object reductionKey_ = "";
+      /**
+       * <code>optional string reduction_key = 1;</code>
+       * @return Whether the reductionKey field is set.
+       */
+      public boolean hasReductionKey() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string reduction_key = 1;</code>
+       * @return The reductionKey.
+       */
+      public java.lang.String getReductionKey() {
+        java.lang.Object ref = reductionKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          reductionKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string reduction_key = 1;</code>
+       * @return The bytes for reductionKey.
+       */
+      public com.google.protobuf.ByteString
+          getReductionKeyBytes() {
+        java.lang.Object ref = reductionKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reductionKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string reduction_key = 1;</code>
+       * @param value The reductionKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReductionKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        reductionKey_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reduction_key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReductionKey() {
+        reductionKey_ = getDefaultInstance().getReductionKey();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reduction_key = 1;</code>
+       * @param value The bytes for reductionKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReductionKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        reductionKey_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int alarmType_ ;
+      /**
+       * <code>optional int32 alarm_type = 2;</code>
+       * @return Whether the alarmType field is set.
+       */
+      @java.lang.Override
+      public boolean hasAlarmType() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 alarm_type = 2;</code>
+       * @return The alarmType.
+       */
+      @java.lang.Override
+      public int getAlarmType() {
+        return alarmType_;
+      }
+      /**
+       * <code>optional int32 alarm_type = 2;</code>
+       * @param value The alarmType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAlarmType(int value) {
+
+        alarmType_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 alarm_type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAlarmType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        alarmType_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object clearKey_ = "";
+      /**
+       * <code>optional string clear_key = 3;</code>
+       * @return Whether the clearKey field is set.
+       */
+      public boolean hasClearKey() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string clear_key = 3;</code>
+       * @return The clearKey.
+       */
+      public java.lang.String getClearKey() {
+        java.lang.Object ref = clearKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          clearKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string clear_key = 3;</code>
+       * @return The bytes for clearKey.
+       */
+      public com.google.protobuf.ByteString
+          getClearKeyBytes() {
+        java.lang.Object ref = clearKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clearKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string clear_key = 3;</code>
+       * @param value The clearKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClearKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        clearKey_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string clear_key = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClearKey() {
+        clearKey_ = getDefaultInstance().getClearKey();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string clear_key = 3;</code>
+       * @param value The bytes for clearKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClearKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        clearKey_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private boolean autoClean_ ;
+      /**
+       * <code>optional bool auto_clean = 4;</code>
+       * @return Whether the autoClean field is set.
+       */
+      @java.lang.Override
+      public boolean hasAutoClean() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional bool auto_clean = 4;</code>
+       * @return The autoClean.
+       */
+      @java.lang.Override
+      public boolean getAutoClean() {
+        return autoClean_;
+      }
+      /**
+       * <code>optional bool auto_clean = 4;</code>
+       * @param value The autoClean to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAutoClean(boolean value) {
+
+        autoClean_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool auto_clean = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAutoClean() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        autoClean_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object x733AlarmType_ = "";
+      /**
+       * <code>optional string x733_alarm_type = 5;</code>
+       * @return Whether the x733AlarmType field is set.
+       */
+      public boolean hasX733AlarmType() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string x733_alarm_type = 5;</code>
+       * @return The x733AlarmType.
+       */
+      public java.lang.String getX733AlarmType() {
+        java.lang.Object ref = x733AlarmType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          x733AlarmType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string x733_alarm_type = 5;</code>
+       * @return The bytes for x733AlarmType.
+       */
+      public com.google.protobuf.ByteString
+          getX733AlarmTypeBytes() {
+        java.lang.Object ref = x733AlarmType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          x733AlarmType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string x733_alarm_type = 5;</code>
+       * @param value The x733AlarmType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX733AlarmType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        x733AlarmType_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string x733_alarm_type = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX733AlarmType() {
+        x733AlarmType_ = getDefaultInstance().getX733AlarmType();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string x733_alarm_type = 5;</code>
+       * @param value The bytes for x733AlarmType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX733AlarmTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        x733AlarmType_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private int x733ProbableCause_ ;
+      /**
+       * <code>optional int32 x733_probable_cause = 6;</code>
+       * @return Whether the x733ProbableCause field is set.
+       */
+      @java.lang.Override
+      public boolean hasX733ProbableCause() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int32 x733_probable_cause = 6;</code>
+       * @return The x733ProbableCause.
+       */
+      @java.lang.Override
+      public int getX733ProbableCause() {
+        return x733ProbableCause_;
+      }
+      /**
+       * <code>optional int32 x733_probable_cause = 6;</code>
+       * @param value The x733ProbableCause to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX733ProbableCause(int value) {
+
+        x733ProbableCause_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 x733_probable_cause = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX733ProbableCause() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        x733ProbableCause_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.UpdateField> updateField_ =
+        java.util.Collections.emptyList();
+      private void ensureUpdateFieldIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          updateField_ = new java.util.ArrayList<org.opennms.features.events.sink.module.EventSinkProtos.UpdateField>(updateField_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.UpdateField, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder, org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder> updateFieldBuilder_;
+
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.UpdateField> getUpdateFieldList() {
+        if (updateFieldBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(updateField_);
+        } else {
+          return updateFieldBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public int getUpdateFieldCount() {
+        if (updateFieldBuilder_ == null) {
+          return updateField_.size();
+        } else {
+          return updateFieldBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField getUpdateField(int index) {
+        if (updateFieldBuilder_ == null) {
+          return updateField_.get(index);
+        } else {
+          return updateFieldBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder setUpdateField(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField value) {
+        if (updateFieldBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdateFieldIsMutable();
+          updateField_.set(index, value);
+          onChanged();
+        } else {
+          updateFieldBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder setUpdateField(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder builderForValue) {
+        if (updateFieldBuilder_ == null) {
+          ensureUpdateFieldIsMutable();
+          updateField_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          updateFieldBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder addUpdateField(org.opennms.features.events.sink.module.EventSinkProtos.UpdateField value) {
+        if (updateFieldBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdateFieldIsMutable();
+          updateField_.add(value);
+          onChanged();
+        } else {
+          updateFieldBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder addUpdateField(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField value) {
+        if (updateFieldBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdateFieldIsMutable();
+          updateField_.add(index, value);
+          onChanged();
+        } else {
+          updateFieldBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder addUpdateField(
+          org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder builderForValue) {
+        if (updateFieldBuilder_ == null) {
+          ensureUpdateFieldIsMutable();
+          updateField_.add(builderForValue.build());
+          onChanged();
+        } else {
+          updateFieldBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder addUpdateField(
+          int index, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder builderForValue) {
+        if (updateFieldBuilder_ == null) {
+          ensureUpdateFieldIsMutable();
+          updateField_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          updateFieldBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder addAllUpdateField(
+          java.lang.Iterable<? extends org.opennms.features.events.sink.module.EventSinkProtos.UpdateField> values) {
+        if (updateFieldBuilder_ == null) {
+          ensureUpdateFieldIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, updateField_);
+          onChanged();
+        } else {
+          updateFieldBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder clearUpdateField() {
+        if (updateFieldBuilder_ == null) {
+          updateField_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          updateFieldBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public Builder removeUpdateField(int index) {
+        if (updateFieldBuilder_ == null) {
+          ensureUpdateFieldIsMutable();
+          updateField_.remove(index);
+          onChanged();
+        } else {
+          updateFieldBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder getUpdateFieldBuilder(
+          int index) {
+        return getUpdateFieldFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder getUpdateFieldOrBuilder(
+          int index) {
+        if (updateFieldBuilder_ == null) {
+          return updateField_.get(index);  } else {
+          return updateFieldBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public java.util.List<? extends org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder> 
+           getUpdateFieldOrBuilderList() {
+        if (updateFieldBuilder_ != null) {
+          return updateFieldBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(updateField_);
+        }
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder addUpdateFieldBuilder() {
+        return getUpdateFieldFieldBuilder().addBuilder(
+            org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder addUpdateFieldBuilder(
+          int index) {
+        return getUpdateFieldFieldBuilder().addBuilder(
+            index, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .UpdateField update_field = 7;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder> 
+           getUpdateFieldBuilderList() {
+        return getUpdateFieldFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.UpdateField, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder, org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder> 
+          getUpdateFieldFieldBuilder() {
+        if (updateFieldBuilder_ == null) {
+          updateFieldBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.UpdateField, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder, org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder>(
+                  updateField_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          updateField_ = null;
+        }
+        return updateFieldBuilder_;
+      }
+
+      private org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject managedObject_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObjectOrBuilder> managedObjectBuilder_;
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       * @return Whether the managedObject field is set.
+       */
+      public boolean hasManagedObject() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       * @return The managedObject.
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject getManagedObject() {
+        if (managedObjectBuilder_ == null) {
+          return managedObject_ == null ? org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.getDefaultInstance() : managedObject_;
+        } else {
+          return managedObjectBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       */
+      public Builder setManagedObject(org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject value) {
+        if (managedObjectBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          managedObject_ = value;
+        } else {
+          managedObjectBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       */
+      public Builder setManagedObject(
+          org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.Builder builderForValue) {
+        if (managedObjectBuilder_ == null) {
+          managedObject_ = builderForValue.build();
+        } else {
+          managedObjectBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       */
+      public Builder mergeManagedObject(org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject value) {
+        if (managedObjectBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+            managedObject_ != null &&
+            managedObject_ != org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.getDefaultInstance()) {
+            getManagedObjectBuilder().mergeFrom(value);
+          } else {
+            managedObject_ = value;
+          }
+        } else {
+          managedObjectBuilder_.mergeFrom(value);
+        }
+        if (managedObject_ != null) {
+          bitField0_ |= 0x00000080;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       */
+      public Builder clearManagedObject() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        managedObject_ = null;
+        if (managedObjectBuilder_ != null) {
+          managedObjectBuilder_.dispose();
+          managedObjectBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.Builder getManagedObjectBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getManagedObjectFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       */
+      public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObjectOrBuilder getManagedObjectOrBuilder() {
+        if (managedObjectBuilder_ != null) {
+          return managedObjectBuilder_.getMessageOrBuilder();
+        } else {
+          return managedObject_ == null ?
+              org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.getDefaultInstance() : managedObject_;
+        }
+      }
+      /**
+       * <code>.ManagedObject managed_object = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObjectOrBuilder> 
+          getManagedObjectFieldBuilder() {
+        if (managedObjectBuilder_ == null) {
+          managedObjectBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.Builder, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObjectOrBuilder>(
+                  getManagedObject(),
+                  getParentForChildren(),
+                  isClean());
+          managedObject_ = null;
+        }
+        return managedObjectBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AlarmData)
+    }
+
+    // @@protoc_insertion_point(class_scope:AlarmData)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.AlarmData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.AlarmData();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.AlarmData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AlarmData>
+        PARSER = new com.google.protobuf.AbstractParser<AlarmData>() {
+      @java.lang.Override
+      public AlarmData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<AlarmData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AlarmData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.AlarmData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdateFieldOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:UpdateField)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string field_name = 1;</code>
+     * @return Whether the fieldName field is set.
+     */
+    boolean hasFieldName();
+    /**
+     * <code>optional string field_name = 1;</code>
+     * @return The fieldName.
+     */
+    java.lang.String getFieldName();
+    /**
+     * <code>optional string field_name = 1;</code>
+     * @return The bytes for fieldName.
+     */
+    com.google.protobuf.ByteString
+        getFieldNameBytes();
+
+    /**
+     * <code>optional bool update_on_reduction = 2;</code>
+     * @return Whether the updateOnReduction field is set.
+     */
+    boolean hasUpdateOnReduction();
+    /**
+     * <code>optional bool update_on_reduction = 2;</code>
+     * @return The updateOnReduction.
+     */
+    boolean getUpdateOnReduction();
+
+    /**
+     * <code>optional string value_expression = 3;</code>
+     * @return Whether the valueExpression field is set.
+     */
+    boolean hasValueExpression();
+    /**
+     * <code>optional string value_expression = 3;</code>
+     * @return The valueExpression.
+     */
+    java.lang.String getValueExpression();
+    /**
+     * <code>optional string value_expression = 3;</code>
+     * @return The bytes for valueExpression.
+     */
+    com.google.protobuf.ByteString
+        getValueExpressionBytes();
+  }
+  /**
+   * Protobuf type {@code UpdateField}
+   */
+  public static final class UpdateField extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:UpdateField)
+      UpdateFieldOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdateField.newBuilder() to construct.
+    private UpdateField(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdateField() {
+      fieldName_ = "";
+      valueExpression_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UpdateField();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_UpdateField_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_UpdateField_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.class, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int FIELD_NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fieldName_ = "";
+    /**
+     * <code>optional string field_name = 1;</code>
+     * @return Whether the fieldName field is set.
+     */
+    @java.lang.Override
+    public boolean hasFieldName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string field_name = 1;</code>
+     * @return The fieldName.
+     */
+    @java.lang.Override
+    public java.lang.String getFieldName() {
+      java.lang.Object ref = fieldName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fieldName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string field_name = 1;</code>
+     * @return The bytes for fieldName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFieldNameBytes() {
+      java.lang.Object ref = fieldName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fieldName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int UPDATE_ON_REDUCTION_FIELD_NUMBER = 2;
+    private boolean updateOnReduction_ = false;
+    /**
+     * <code>optional bool update_on_reduction = 2;</code>
+     * @return Whether the updateOnReduction field is set.
+     */
+    @java.lang.Override
+    public boolean hasUpdateOnReduction() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional bool update_on_reduction = 2;</code>
+     * @return The updateOnReduction.
+     */
+    @java.lang.Override
+    public boolean getUpdateOnReduction() {
+      return updateOnReduction_;
+    }
+
+    public static final int VALUE_EXPRESSION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object valueExpression_ = "";
+    /**
+     * <code>optional string value_expression = 3;</code>
+     * @return Whether the valueExpression field is set.
+     */
+    @java.lang.Override
+    public boolean hasValueExpression() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string value_expression = 3;</code>
+     * @return The valueExpression.
+     */
+    @java.lang.Override
+    public java.lang.String getValueExpression() {
+      java.lang.Object ref = valueExpression_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        valueExpression_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string value_expression = 3;</code>
+     * @return The bytes for valueExpression.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getValueExpressionBytes() {
+      java.lang.Object ref = valueExpression_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        valueExpression_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, fieldName_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, updateOnReduction_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, valueExpression_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, fieldName_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, updateOnReduction_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, valueExpression_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.UpdateField)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.UpdateField other = (org.opennms.features.events.sink.module.EventSinkProtos.UpdateField) obj;
+
+      if (hasFieldName() != other.hasFieldName()) return false;
+      if (hasFieldName()) {
+        if (!getFieldName()
+            .equals(other.getFieldName())) return false;
+      }
+      if (hasUpdateOnReduction() != other.hasUpdateOnReduction()) return false;
+      if (hasUpdateOnReduction()) {
+        if (getUpdateOnReduction()
+            != other.getUpdateOnReduction()) return false;
+      }
+      if (hasValueExpression() != other.hasValueExpression()) return false;
+      if (hasValueExpression()) {
+        if (!getValueExpression()
+            .equals(other.getValueExpression())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasFieldName()) {
+        hash = (37 * hash) + FIELD_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getFieldName().hashCode();
+      }
+      if (hasUpdateOnReduction()) {
+        hash = (37 * hash) + UPDATE_ON_REDUCTION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getUpdateOnReduction());
+      }
+      if (hasValueExpression()) {
+        hash = (37 * hash) + VALUE_EXPRESSION_FIELD_NUMBER;
+        hash = (53 * hash) + getValueExpression().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.UpdateField prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code UpdateField}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:UpdateField)
+        org.opennms.features.events.sink.module.EventSinkProtos.UpdateFieldOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_UpdateField_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_UpdateField_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.class, org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        fieldName_ = "";
+        updateOnReduction_ = false;
+        valueExpression_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_UpdateField_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.UpdateField result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.UpdateField result = new org.opennms.features.events.sink.module.EventSinkProtos.UpdateField(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.UpdateField result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fieldName_ = fieldName_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.updateOnReduction_ = updateOnReduction_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.valueExpression_ = valueExpression_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.UpdateField) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.UpdateField)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.UpdateField other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.UpdateField.getDefaultInstance()) return this;
+        if (other.hasFieldName()) {
+          fieldName_ = other.fieldName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasUpdateOnReduction()) {
+          setUpdateOnReduction(other.getUpdateOnReduction());
+        }
+        if (other.hasValueExpression()) {
+          valueExpression_ = other.valueExpression_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                fieldName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                updateOnReduction_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                valueExpression_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object fieldName_ = "";
+      /**
+       * <code>optional string field_name = 1;</code>
+       * @return Whether the fieldName field is set.
+       */
+      public boolean hasFieldName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string field_name = 1;</code>
+       * @return The fieldName.
+       */
+      public java.lang.String getFieldName() {
+        java.lang.Object ref = fieldName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fieldName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string field_name = 1;</code>
+       * @return The bytes for fieldName.
+       */
+      public com.google.protobuf.ByteString
+          getFieldNameBytes() {
+        java.lang.Object ref = fieldName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fieldName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string field_name = 1;</code>
+       * @param value The fieldName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFieldName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fieldName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string field_name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFieldName() {
+        fieldName_ = getDefaultInstance().getFieldName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string field_name = 1;</code>
+       * @param value The bytes for fieldName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFieldNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fieldName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean updateOnReduction_ ;
+      /**
+       * <code>optional bool update_on_reduction = 2;</code>
+       * @return Whether the updateOnReduction field is set.
+       */
+      @java.lang.Override
+      public boolean hasUpdateOnReduction() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bool update_on_reduction = 2;</code>
+       * @return The updateOnReduction.
+       */
+      @java.lang.Override
+      public boolean getUpdateOnReduction() {
+        return updateOnReduction_;
+      }
+      /**
+       * <code>optional bool update_on_reduction = 2;</code>
+       * @param value The updateOnReduction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUpdateOnReduction(boolean value) {
+
+        updateOnReduction_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool update_on_reduction = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUpdateOnReduction() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        updateOnReduction_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object valueExpression_ = "";
+      /**
+       * <code>optional string value_expression = 3;</code>
+       * @return Whether the valueExpression field is set.
+       */
+      public boolean hasValueExpression() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string value_expression = 3;</code>
+       * @return The valueExpression.
+       */
+      public java.lang.String getValueExpression() {
+        java.lang.Object ref = valueExpression_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          valueExpression_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string value_expression = 3;</code>
+       * @return The bytes for valueExpression.
+       */
+      public com.google.protobuf.ByteString
+          getValueExpressionBytes() {
+        java.lang.Object ref = valueExpression_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          valueExpression_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string value_expression = 3;</code>
+       * @param value The valueExpression to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValueExpression(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        valueExpression_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value_expression = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValueExpression() {
+        valueExpression_ = getDefaultInstance().getValueExpression();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value_expression = 3;</code>
+       * @param value The bytes for valueExpression to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValueExpressionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        valueExpression_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:UpdateField)
+    }
+
+    // @@protoc_insertion_point(class_scope:UpdateField)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.UpdateField DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.UpdateField();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.UpdateField getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UpdateField>
+        PARSER = new com.google.protobuf.AbstractParser<UpdateField>() {
+      @java.lang.Override
+      public UpdateField parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdateField> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateField> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.UpdateField getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ManagedObjectOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ManagedObject)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string type = 1;</code>
+     * @return Whether the type field is set.
+     */
+    boolean hasType();
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+  }
+  /**
+   * Protobuf type {@code ManagedObject}
+   */
+  public static final class ManagedObject extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ManagedObject)
+      ManagedObjectOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ManagedObject.newBuilder() to construct.
+    private ManagedObject(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ManagedObject() {
+      type_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ManagedObject();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_ManagedObject_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_ManagedObject_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.class, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <code>optional string type = 1;</code>
+     * @return Whether the type field is set.
+     */
+    @java.lang.Override
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject other = (org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject) obj;
+
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (!getType()
+            .equals(other.getType())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ManagedObject}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ManagedObject)
+        org.opennms.features.events.sink.module.EventSinkProtos.ManagedObjectOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_ManagedObject_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_ManagedObject_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.class, org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_ManagedObject_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject result = new org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>optional string type = 1;</code>
+       * @return Whether the type field is set.
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ManagedObject)
+    }
+
+    // @@protoc_insertion_point(class_scope:ManagedObject)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ManagedObject>
+        PARSER = new com.google.protobuf.AbstractParser<ManagedObject>() {
+      @java.lang.Override
+      public ManagedObject parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ManagedObject> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ManagedObject> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.ManagedObject getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StateContentOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StateContent)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    boolean hasContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    java.lang.String getContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    com.google.protobuf.ByteString
+        getContentBytes();
+
+    /**
+     * <code>optional string state = 2;</code>
+     * @return Whether the state field is set.
+     */
+    boolean hasState();
+    /**
+     * <code>optional string state = 2;</code>
+     * @return The state.
+     */
+    java.lang.String getState();
+    /**
+     * <code>optional string state = 2;</code>
+     * @return The bytes for state.
+     */
+    com.google.protobuf.ByteString
+        getStateBytes();
+  }
+  /**
+   * Protobuf type {@code StateContent}
+   */
+  public static final class StateContent extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:StateContent)
+      StateContentOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StateContent.newBuilder() to construct.
+    private StateContent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StateContent() {
+      content_ = "";
+      state_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StateContent();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_StateContent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_StateContent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.EventSinkProtos.StateContent.class, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object content_ = "";
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    @java.lang.Override
+    public boolean hasContent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public java.lang.String getContent() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        content_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getContentBytes() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        content_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object state_ = "";
+    /**
+     * <code>optional string state = 2;</code>
+     * @return Whether the state field is set.
+     */
+    @java.lang.Override
+    public boolean hasState() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string state = 2;</code>
+     * @return The state.
+     */
+    @java.lang.Override
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        state_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string state = 2;</code>
+     * @return The bytes for state.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, state_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, state_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.EventSinkProtos.StateContent)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.EventSinkProtos.StateContent other = (org.opennms.features.events.sink.module.EventSinkProtos.StateContent) obj;
+
+      if (hasContent() != other.hasContent()) return false;
+      if (hasContent()) {
+        if (!getContent()
+            .equals(other.getContent())) return false;
+      }
+      if (hasState() != other.hasState()) return false;
+      if (hasState()) {
+        if (!getState()
+            .equals(other.getState())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasContent()) {
+        hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getContent().hashCode();
+      }
+      if (hasState()) {
+        hash = (37 * hash) + STATE_FIELD_NUMBER;
+        hash = (53 * hash) + getState().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.EventSinkProtos.StateContent prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code StateContent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StateContent)
+        org.opennms.features.events.sink.module.EventSinkProtos.StateContentOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_StateContent_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_StateContent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.EventSinkProtos.StateContent.class, org.opennms.features.events.sink.module.EventSinkProtos.StateContent.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.EventSinkProtos.StateContent.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        content_ = "";
+        state_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.internal_static_StateContent_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContent getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContent build() {
+        org.opennms.features.events.sink.module.EventSinkProtos.StateContent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.EventSinkProtos.StateContent buildPartial() {
+        org.opennms.features.events.sink.module.EventSinkProtos.StateContent result = new org.opennms.features.events.sink.module.EventSinkProtos.StateContent(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.EventSinkProtos.StateContent result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.content_ = content_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.state_ = state_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.EventSinkProtos.StateContent) {
+          return mergeFrom((org.opennms.features.events.sink.module.EventSinkProtos.StateContent)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.EventSinkProtos.StateContent other) {
+        if (other == org.opennms.features.events.sink.module.EventSinkProtos.StateContent.getDefaultInstance()) return this;
+        if (other.hasContent()) {
+          content_ = other.content_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasState()) {
+          state_ = other.state_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                content_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                state_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object content_ = "";
+      /**
+       * <code>optional string content = 1;</code>
+       * @return Whether the content field is set.
+       */
+      public boolean hasContent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The content.
+       */
+      public java.lang.String getContent() {
+        java.lang.Object ref = content_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          content_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The bytes for content.
+       */
+      public com.google.protobuf.ByteString
+          getContentBytes() {
+        java.lang.Object ref = content_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          content_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        content_ = getDefaultInstance().getContent();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The bytes for content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object state_ = "";
+      /**
+       * <code>optional string state = 2;</code>
+       * @return Whether the state field is set.
+       */
+      public boolean hasState() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string state = 2;</code>
+       * @return The state.
+       */
+      public java.lang.String getState() {
+        java.lang.Object ref = state_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          state_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string state = 2;</code>
+       * @return The bytes for state.
+       */
+      public com.google.protobuf.ByteString
+          getStateBytes() {
+        java.lang.Object ref = state_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          state_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string state = 2;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string state = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        state_ = getDefaultInstance().getState();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string state = 2;</code>
+       * @param value The bytes for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:StateContent)
+    }
+
+    // @@protoc_insertion_point(class_scope:StateContent)
+    private static final org.opennms.features.events.sink.module.EventSinkProtos.StateContent DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.EventSinkProtos.StateContent();
+    }
+
+    public static org.opennms.features.events.sink.module.EventSinkProtos.StateContent getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StateContent>
+        PARSER = new com.google.protobuf.AbstractParser<StateContent>() {
+      @java.lang.Override
+      public StateContent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<StateContent> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StateContent> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.EventSinkProtos.StateContent getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EventLog_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_EventLog_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Header_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Header_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Event_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Event_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Snmp_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Snmp_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Parm_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Parm_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Value_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Value_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Logmsg_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Logmsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AlarmData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AlarmData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_UpdateField_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_UpdateField_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ManagedObject_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ManagedObject_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StateContent_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StateContent_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020event-sink.proto\":\n\010EventLog\022\027\n\006header" +
+      "\030\001 \001(\0132\007.Header\022\025\n\005event\030\002 \003(\0132\006.Event\"\212" +
+      "\001\n\006Header\022\020\n\003ver\030\001 \001(\tH\000\210\001\001\022\024\n\007dp_name\030\002" +
+      " \001(\tH\001\210\001\001\022\024\n\007created\030\003 \001(\tH\002\210\001\001\022\025\n\010mstat" +
+      "ion\030\004 \001(\tH\003\210\001\001B\006\n\004_verB\n\n\010_dp_nameB\n\n\010_c" +
+      "reatedB\013\n\t_mstation\"\203\007\n\005Event\022\021\n\004uuid\030\001 " +
+      "\001(\tH\000\210\001\001\022\021\n\004dbid\030\002 \001(\005H\001\210\001\001\022\030\n\013dist_poll" +
+      "er\030\003 \001(\tH\002\210\001\001\022\032\n\rcreation_time\030\004 \001(\003H\003\210\001" +
+      "\001\022\033\n\016master_station\030\005 \001(\tH\004\210\001\001\022\020\n\003uei\030\006 " +
+      "\001(\tH\005\210\001\001\022\023\n\006source\030\007 \001(\tH\006\210\001\001\022\023\n\006nodeid\030" +
+      "\010 \001(\003H\007\210\001\001\022\021\n\004time\030\t \001(\003H\010\210\001\001\022\021\n\004host\030\n " +
+      "\001(\tH\t\210\001\001\022\031\n\021interface_address\030\013 \001(\014\022\025\n\010s" +
+      "nmphost\030\014 \001(\tH\n\210\001\001\022\024\n\007service\030\r \001(\tH\013\210\001\001" +
+      "\022\023\n\004snmp\030\016 \001(\0132\005.Snmp\022\023\n\004parm\030\017 \003(\0132\005.Pa" +
+      "rm\022\022\n\005descr\030\020 \001(\tH\014\210\001\001\022\027\n\006logmsg\030\021 \001(\0132\007" +
+      ".Logmsg\022\025\n\010severity\030\022 \001(\tH\r\210\001\001\022\027\n\npathou" +
+      "tage\030\023 \001(\tH\016\210\001\001\022\031\n\014operinstruct\030\024 \001(\tH\017\210" +
+      "\001\001\022\020\n\010loggroup\030\025 \003(\t\022\025\n\010if_index\030\026 \001(\005H\020" +
+      "\210\001\001\022\025\n\010if_alias\030\027 \001(\tH\021\210\001\001\022\032\n\rmouseovert" +
+      "ext\030\030 \001(\tH\022\210\001\001\022\036\n\nalarm_data\030\031 \001(\0132\n.Ala" +
+      "rmData\022&\n\017autoacknowledge\030\032 \001(\0132\r.StateC" +
+      "ontent\022\036\n\007tticket\030\033 \001(\0132\r.StateContentB\007" +
+      "\n\005_uuidB\007\n\005_dbidB\016\n\014_dist_pollerB\020\n\016_cre" +
+      "ation_timeB\021\n\017_master_stationB\006\n\004_ueiB\t\n" +
+      "\007_sourceB\t\n\007_nodeidB\007\n\005_timeB\007\n\005_hostB\013\n" +
+      "\t_snmphostB\n\n\010_serviceB\010\n\006_descrB\013\n\t_sev" +
+      "erityB\r\n\013_pathoutageB\017\n\r_operinstructB\013\n" +
+      "\t_if_indexB\013\n\t_if_aliasB\020\n\016_mouseovertex" +
+      "t\"\230\002\n\004Snmp\022\017\n\002id\030\001 \001(\tH\000\210\001\001\022\025\n\010trap_oid\030" +
+      "\002 \001(\tH\001\210\001\001\022\023\n\006idtext\030\003 \001(\tH\002\210\001\001\022\024\n\007versi" +
+      "on\030\004 \001(\tH\003\210\001\001\022\025\n\010specific\030\005 \001(\005H\004\210\001\001\022\024\n\007" +
+      "generic\030\006 \001(\005H\005\210\001\001\022\026\n\tcommunity\030\007 \001(\tH\006\210" +
+      "\001\001\022\027\n\ntime_stamp\030\010 \001(\003H\007\210\001\001B\005\n\003_idB\013\n\t_t" +
+      "rap_oidB\t\n\007_idtextB\n\n\010_versionB\013\n\t_speci" +
+      "ficB\n\n\010_genericB\014\n\n_communityB\r\n\013_time_s" +
+      "tamp\"9\n\004Parm\022\021\n\004name\030\001 \001(\tH\000\210\001\001\022\025\n\005value" +
+      "\030\002 \001(\0132\006.ValueB\007\n\005_name\"i\n\005Value\022\024\n\007cont" +
+      "ent\030\001 \001(\tH\000\210\001\001\022\021\n\004type\030\002 \001(\tH\001\210\001\001\022\025\n\010enc" +
+      "oding\030\003 \001(\tH\002\210\001\001B\n\n\010_contentB\007\n\005_typeB\013\n" +
+      "\t_encoding\"f\n\006Logmsg\022\024\n\007content\030\001 \001(\tH\000\210" +
+      "\001\001\022\023\n\006notify\030\002 \001(\010H\001\210\001\001\022\021\n\004dest\030\003 \001(\tH\002\210" +
+      "\001\001B\n\n\010_contentB\t\n\007_notifyB\007\n\005_dest\"\347\002\n\tA" +
+      "larmData\022\032\n\rreduction_key\030\001 \001(\tH\000\210\001\001\022\027\n\n" +
+      "alarm_type\030\002 \001(\005H\001\210\001\001\022\026\n\tclear_key\030\003 \001(\t" +
+      "H\002\210\001\001\022\027\n\nauto_clean\030\004 \001(\010H\003\210\001\001\022\034\n\017x733_a" +
+      "larm_type\030\005 \001(\tH\004\210\001\001\022 \n\023x733_probable_ca" +
+      "use\030\006 \001(\005H\005\210\001\001\022\"\n\014update_field\030\007 \003(\0132\014.U" +
+      "pdateField\022&\n\016managed_object\030\010 \001(\0132\016.Man" +
+      "agedObjectB\020\n\016_reduction_keyB\r\n\013_alarm_t" +
+      "ypeB\014\n\n_clear_keyB\r\n\013_auto_cleanB\022\n\020_x73" +
+      "3_alarm_typeB\026\n\024_x733_probable_cause\"\243\001\n" +
+      "\013UpdateField\022\027\n\nfield_name\030\001 \001(\tH\000\210\001\001\022 \n" +
+      "\023update_on_reduction\030\002 \001(\010H\001\210\001\001\022\035\n\020value" +
+      "_expression\030\003 \001(\tH\002\210\001\001B\r\n\013_field_nameB\026\n" +
+      "\024_update_on_reductionB\023\n\021_value_expressi" +
+      "on\"+\n\rManagedObject\022\021\n\004type\030\001 \001(\tH\000\210\001\001B\007" +
+      "\n\005_type\"N\n\014StateContent\022\024\n\007content\030\001 \001(\t" +
+      "H\000\210\001\001\022\022\n\005state\030\002 \001(\tH\001\210\001\001B\n\n\010_contentB\010\n" +
+      "\006_stateB:\n\'org.opennms.features.events.s" +
+      "ink.moduleB\017EventSinkProtosb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_EventLog_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_EventLog_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_EventLog_descriptor,
+        new java.lang.String[] { "Header", "Event", });
+    internal_static_Header_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Header_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Header_descriptor,
+        new java.lang.String[] { "Ver", "DpName", "Created", "Mstation", "Ver", "DpName", "Created", "Mstation", });
+    internal_static_Event_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_Event_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Event_descriptor,
+        new java.lang.String[] { "Uuid", "Dbid", "DistPoller", "CreationTime", "MasterStation", "Uei", "Source", "Nodeid", "Time", "Host", "InterfaceAddress", "Snmphost", "Service", "Snmp", "Parm", "Descr", "Logmsg", "Severity", "Pathoutage", "Operinstruct", "Loggroup", "IfIndex", "IfAlias", "Mouseovertext", "AlarmData", "Autoacknowledge", "Tticket", "Uuid", "Dbid", "DistPoller", "CreationTime", "MasterStation", "Uei", "Source", "Nodeid", "Time", "Host", "Snmphost", "Service", "Descr", "Severity", "Pathoutage", "Operinstruct", "IfIndex", "IfAlias", "Mouseovertext", });
+    internal_static_Snmp_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_Snmp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Snmp_descriptor,
+        new java.lang.String[] { "Id", "TrapOid", "Idtext", "Version", "Specific", "Generic", "Community", "TimeStamp", "Id", "TrapOid", "Idtext", "Version", "Specific", "Generic", "Community", "TimeStamp", });
+    internal_static_Parm_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_Parm_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Parm_descriptor,
+        new java.lang.String[] { "Name", "Value", "Name", });
+    internal_static_Value_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_Value_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Value_descriptor,
+        new java.lang.String[] { "Content", "Type", "Encoding", "Content", "Type", "Encoding", });
+    internal_static_Logmsg_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_Logmsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Logmsg_descriptor,
+        new java.lang.String[] { "Content", "Notify", "Dest", "Content", "Notify", "Dest", });
+    internal_static_AlarmData_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_AlarmData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AlarmData_descriptor,
+        new java.lang.String[] { "ReductionKey", "AlarmType", "ClearKey", "AutoClean", "X733AlarmType", "X733ProbableCause", "UpdateField", "ManagedObject", "ReductionKey", "AlarmType", "ClearKey", "AutoClean", "X733AlarmType", "X733ProbableCause", });
+    internal_static_UpdateField_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_UpdateField_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_UpdateField_descriptor,
+        new java.lang.String[] { "FieldName", "UpdateOnReduction", "ValueExpression", "FieldName", "UpdateOnReduction", "ValueExpression", });
+    internal_static_ManagedObject_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_ManagedObject_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ManagedObject_descriptor,
+        new java.lang.String[] { "Type", "Type", });
+    internal_static_StateContent_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_StateContent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StateContent_descriptor,
+        new java.lang.String[] { "Content", "State", "Content", "State", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.events.sink.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Header;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Logmsg;
+import org.opennms.netmgt.xml.event.Mask;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+
+public class EventLogProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlSinkModule.CODEC_PROPERTY_PREFIX + EventSinkModule.MODULE_ID;
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripEventLogs() {
+        final Log log = createEventLog(10);
+
+        final EventSinkModule xmlModule = createModule(AbstractXmlSinkModule.CODEC_XML);
+        final EventSinkModule protobufModule = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+
+        final byte[] xml = xmlModule.marshal(log);
+        final byte[] protobuf = protobufModule.marshal(log);
+        assertEquals('<', xml[0]);
+        assertEquals(0, protobuf[0]);
+        assertTrue("binary encoding should be smaller", protobuf.length < xml.length);
+
+        // Events have no equals(), so compare their XML representations
+        final String expected = toXml(xmlModule, log);
+        assertEquals(expected, toXml(xmlModule, protobufModule.unmarshal(protobuf)));
+
+        // Consumers read both formats, whatever they are configured to send
+        assertEquals(expected, toXml(xmlModule, protobufModule.unmarshal(xml)));
+        assertEquals(expected, toXml(xmlModule, xmlModule.unmarshal(protobuf)));
+    }
+
+    @Test
+    public void fallsBackToXmlForUnsupportedElements() {
+        final Log log = createEventLog(2);
+        log.getEvents().getEvent(1).setMask(new Mask());
+
+        final EventSinkModule protobufModule = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] bytes = protobufModule.marshal(log);
+        assertEquals('<', bytes[0]);
+        assertEquals(2, protobufModule.unmarshal(bytes).getEvents().getEventCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownVersions() {
+        final EventSinkModule module = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] bytes = module.marshal(createEventLog(1));
+        bytes[1]++;
+        module.unmarshal(bytes);
+    }
+
+    private static String toXml(EventSinkModule xmlModule, Log log) {
+        return new String(xmlModule.marshal(log), StandardCharsets.UTF_8);
+    }
+
+    private static EventSinkModule createModule(String codec) {
+        System.setProperty(CODEC_PROPERTY, codec);
+        final EventSinkModule module = new EventSinkModule(null);
+        // The codec is resolved lazily, so force it while the property is set
+        module.marshal(new Log());
+        return module;
+    }
+
+    static Log createEventLog(int size) {
+        final Log log = new Log();
+        final Header header = new Header();
+        header.setCreated("Wednesday, 18 October 2026 10:00:00 o'clock UTC");
+        header.setMstation("localhost");
+        log.setHeader(header);
+
+        for (int i = 0; i < size; i++) {
+            final Event event = new Event();
+            event.setUuid("00000000-0000-0000-0000-00000000000" + (i % 10));
+            event.setUei("uei.opennms.org/generic/traps/SNMP_Link_Down");
+            event.setSource("trapd");
+            event.setTime(new Date(1_500_000_000_000L + i * 1000L));
+            event.setNodeid((long) i);
+            event.setInterfaceAddress(InetAddress.getLoopbackAddress());
+            event.setDistPoller("00000000-0000-0000-0000-000000000000");
+            event.setSeverity("Minor");
+            event.setIfIndex(i);
+
+            final Snmp snmp = new Snmp();
+            snmp.setId(".1.3.6.1.6.3.1.1.5");
+            snmp.setVersion("v2c");
+            snmp.setCommunity("public");
+            snmp.setGeneric(2);
+            snmp.setSpecific(0);
+            snmp.setTimeStamp(1000L + i);
+            event.setSnmp(snmp);
+
+            final Logmsg logmsg = new Logmsg();
+            logmsg.setContent("Agent Interface Down (linkDown Trap) on interface " + i);
+            logmsg.setDest("logndisplay");
+            event.setLogmsg(logmsg);
+
+            event.addParm(new Parm("ifIndex", Integer.toString(i)));
+            event.addParm(new Parm("ifDescr", "eth" + i));
+            log.addEvent(event);
+        }
+        return log;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.opennms.core.ipc.sink.xml.ProtobufSinkCodec;
+import org.opennms.netmgt.syslogd.api.SyslogMessageDTO;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Maps {@link SyslogMessageLogDTO} to and from {@link SyslogSinkProtos.SyslogMessageLog}.
+ */
+public class SyslogMessageLogProtobufCodec implements ProtobufSinkCodec<SyslogMessageLogDTO> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public MessageLite encode(SyslogMessageLogDTO log) {
+        final SyslogSinkProtos.SyslogMessageLog.Builder builder = SyslogSinkProtos.SyslogMessageLog.newBuilder()
+                .setSourcePort(log.getSourcePort());
+        if (log.getSourceAddress() != null) {
+            builder.setSourceAddress(ByteString.copyFrom(log.getSourceAddress().getAddress()));
+        }
+        if (log.getSystemId() != null) {
+            builder.setSystemId(log.getSystemId());
+        }
+        if (log.getLocation() != null) {
+            builder.setLocation(log.getLocation());
+        }
+        for (final SyslogMessageDTO message : log.getMessages()) {
+            final SyslogSinkProtos.SyslogMessage.Builder messageBuilder = SyslogSinkProtos.SyslogMessage.newBuilder();
+            if (message.getTimestamp() != null) {
+                messageBuilder.setTimestamp(message.getTimestamp().getTime());
+            }
+            if (message.getBytes() != null) {
+                // Copy from a duplicate so the position of the shared buffer is left untouched
+                messageBuilder.setBytes(ByteString.copyFrom(message.getBytes().duplicate()));
+            }
+            builder.addMessage(messageBuilder);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public SyslogMessageLogDTO decode(CodedInputStream input) throws IOException {
+        final SyslogSinkProtos.SyslogMessageLog proto = SyslogSinkProtos.SyslogMessageLog.parseFrom(input);
+
+        final List<SyslogMessageDTO> messages = new ArrayList<>(proto.getMessageCount());
+        for (final SyslogSinkProtos.SyslogMessage messageProto : proto.getMessageList()) {
+            final SyslogMessageDTO message = new SyslogMessageDTO();
+            if (messageProto.hasTimestamp()) {
+                message.setTimestamp(new Date(messageProto.getTimestamp()));
+            }
+            if (messageProto.hasBytes()) {
+                message.setBytes(ByteBuffer.wrap(messageProto.getBytes().toByteArray()));
+            }
+            messages.add(message);
+        }
+
+        final SyslogMessageLogDTO log = new SyslogMessageLogDTO();
+        log.setSourcePort(proto.getSourcePort());
+        if (!proto.getSourceAddress().isEmpty()) {
+            try {
+                log.setSourceAddress(InetAddress.getByAddress(proto.getSourceAddress().toByteArray()));
+            } catch (UnknownHostException e) {
+                throw new IOException("Invalid source address of length " + proto.getSourceAddress().size(), e);
+            }
+        }
+        log.setSystemId(proto.hasSystemId() ? proto.getSystemId() : null);
+        log.setLocation(proto.hasLocation() ? proto.getLocation() : null);
+        log.setMessages(messages);
+        return log;
+    }
+}
@@ -41,7 +41,7 @@ public class SyslogSinkModule extends AbstractXmlSinkModule<SyslogConnection, Sy
     private final DistPollerDao distPollerDao;
 
     public SyslogSinkModule(SyslogdConfig config, DistPollerDao distPollerDao) {
-        super(SyslogMessageLogDTO.class);
+        super(SyslogMessageLogDTO.class, new SyslogMessageLogProtobufCodec());
         this.config = Objects.requireNonNull(config);
         this.distPollerDao = Objects.requireNonNull(distPollerDao);
     }
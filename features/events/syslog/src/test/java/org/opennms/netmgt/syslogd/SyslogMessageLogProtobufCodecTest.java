@@ -0,0 +1,115 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.netmgt.dao.api.DistPollerDao;
+import org.opennms.netmgt.syslogd.api.SyslogConnection;
+import org.opennms.netmgt.syslogd.api.SyslogMessageDTO;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+
+public class SyslogMessageLogProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlSinkModule.CODEC_PROPERTY_PREFIX + SyslogSinkModule.MODULE_ID;
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripMessageLogs() throws Exception {
+        final SyslogMessageLogDTO log = createMessageLog(10);
+
+        final SyslogSinkModule xmlModule = createModule(AbstractXmlSinkModule.CODEC_XML);
+        final SyslogSinkModule protobufModule = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+
+        final byte[] xml = xmlModule.marshal(log);
+        final byte[] protobuf = protobufModule.marshal(log);
+        assertEquals('<', xml[0]);
+        assertEquals(0, protobuf[0]);
+        assertTrue("binary encoding should be smaller", protobuf.length < xml.length);
+
+        assertEquals(log, protobufModule.unmarshal(protobuf));
+        assertEquals(0, log.getMessages().get(0).getBytes().position());
+
+        // Consumers read both formats, whatever they are configured to send
+        assertEquals(log, protobufModule.unmarshal(xml));
+        assertEquals(log, xmlModule.unmarshal(protobuf));
+    }
+
+    @Test
+    public void canRoundTripSingleMessages() throws Exception {
+        final SyslogSinkModule module = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final InetSocketAddress source = new InetSocketAddress(InetAddress.getByName("10.0.0.1"), 514);
+        final ByteBuffer buffer = ByteBuffer.wrap("<34>Oct 11 22:14:15 mymachine su: 'su root' failed".getBytes(StandardCharsets.US_ASCII));
+
+        final byte[] bytes = module.marshalSingleMessage(new SyslogConnection(source, buffer));
+        assertEquals(0, bytes[0]);
+
+        final SyslogConnection connection = module.unmarshalSingleMessage(bytes);
+        assertEquals(source, connection.getSource());
+        assertEquals(buffer, connection.getBuffer());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownVersions() throws Exception {
+        final SyslogSinkModule module = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] bytes = module.marshal(createMessageLog(1));
+        bytes[1]++;
+        module.unmarshal(bytes);
+    }
+
+    private static SyslogSinkModule createModule(String codec) {
+        System.setProperty(CODEC_PROPERTY, codec);
+        final SyslogSinkModule module = new SyslogSinkModule(new SyslogConfigBean(), Mockito.mock(DistPollerDao.class, Mockito.RETURNS_DEEP_STUBS));
+        // The codec is resolved lazily, so force it while the property is set
+        module.marshal(new SyslogMessageLogDTO("location", "id", new InetSocketAddress(InetAddress.getLoopbackAddress(), 514)));
+        return module;
+    }
+
+    static SyslogMessageLogDTO createMessageLog(int size) throws Exception {
+        final SyslogMessageLogDTO log = new SyslogMessageLogDTO("Default", "00000000-0000-0000-0000-000000000000",
+                new InetSocketAddress(InetAddress.getByName("10.0.0.1"), 514));
+        for (int i = 0; i < size; i++) {
+            // The XML representation has a precision of seconds
+            final SyslogMessageDTO message = new SyslogMessageDTO(ByteBuffer.wrap(
+                    ("<34>1 2003-10-11T22:14:15.003Z mymachine.example.com su - ID47 - 'su root' failed for lonvick on /dev/pts/" + i)
+                            .getBytes(StandardCharsets.US_ASCII)));
+            message.setTimestamp(new Date(1_500_000_000_000L + i * 1000L));
+            log.getMessages().add(message);
+        }
+        return log;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.netmgt.dao.api.DistPollerDao;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the XML and protobuf codecs of the
+ * {@link SyslogSinkModule}.
+ * <p>
+ * Each call marshals or unmarshals a log of {@code batchSize} messages.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SyslogSinkCodecBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Thread)
+    public static class CodecState {
+
+        @Param({"xml", "protobuf"})
+        public String codec;
+
+        @Param({"1", "100"})
+        public int batchSize;
+
+        private SyslogSinkModule module;
+        private SyslogMessageLogDTO log;
+        private byte[] bytes;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            System.setProperty(AbstractXmlSinkModule.CODEC_PROPERTY_PREFIX + SyslogSinkModule.MODULE_ID, codec);
+            module = new SyslogSinkModule(new SyslogConfigBean(), Mockito.mock(DistPollerDao.class));
+            log = SyslogMessageLogProtobufCodecTest.createMessageLog(batchSize);
+            bytes = module.marshal(log);
+        }
+    }
+
+    @Benchmark
+    public byte[] marshal(CodecState state) {
+        return state.module.marshal(state.log);
+    }
+
+    @Benchmark
+    public SyslogMessageLogDTO unmarshal(CodecState state) {
+        return state.module.unmarshal(state.bytes);
+    }
+}
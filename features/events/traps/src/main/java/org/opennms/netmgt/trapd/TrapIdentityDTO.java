@@ -89,6 +89,10 @@ public class TrapIdentityDTO {
         return trapOID;
     }
 
+    public void setTrapOID(String trapOID) {
+        this.trapOID = trapOID;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("Generic", getGeneric())
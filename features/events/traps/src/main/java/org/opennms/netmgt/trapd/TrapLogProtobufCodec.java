@@ -0,0 +1,193 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.opennms.core.ipc.sink.xml.ProtobufSinkCodec;
+import org.opennms.netmgt.snmp.SnmpInstId;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpUtils;
+import org.opennms.netmgt.snmp.SnmpValue;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Maps {@link TrapLogDTO} to and from {@link TrapSinkProtos.TrapLog}.
+ */
+public class TrapLogProtobufCodec implements ProtobufSinkCodec<TrapLogDTO> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public MessageLite encode(TrapLogDTO log) {
+        final TrapSinkProtos.TrapLog.Builder builder = TrapSinkProtos.TrapLog.newBuilder()
+                .setTrapAddress(toBytes(log.getTrapAddress()));
+        if (log.getSystemId() != null) {
+            builder.setSystemId(log.getSystemId());
+        }
+        if (log.getLocation() != null) {
+            builder.setLocation(log.getLocation());
+        }
+        for (final TrapDTO trap : log.getMessages()) {
+            builder.addTrap(toProto(trap));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public TrapLogDTO decode(CodedInputStream input) throws IOException {
+        final TrapSinkProtos.TrapLog proto = TrapSinkProtos.TrapLog.parseFrom(input);
+        final TrapLogDTO log = new TrapLogDTO(emptyToNull(proto.getSystemId()), emptyToNull(proto.getLocation()), toAddress(proto.getTrapAddress()));
+        for (final TrapSinkProtos.Trap trap : proto.getTrapList()) {
+            log.addMessage(fromProto(trap));
+        }
+        return log;
+    }
+
+    private static TrapSinkProtos.Trap toProto(TrapDTO trap) {
+        final TrapSinkProtos.Trap.Builder builder = TrapSinkProtos.Trap.newBuilder()
+                .setAgentAddress(toBytes(trap.getAgentAddress()))
+                .setTimestamp(trap.getTimestamp())
+                .setPduLength(trap.getPduLength())
+                .setCreationTime(trap.getCreationTime());
+        if (trap.getCommunity() != null) {
+            builder.setCommunity(trap.getCommunity());
+        }
+        if (trap.getVersion() != null) {
+            builder.setVersion(trap.getVersion());
+        }
+        if (trap.getRawMessage() != null) {
+            builder.setRawMessage(ByteString.copyFrom(trap.getRawMessage()));
+        }
+
+        final TrapIdentityDTO identity = trap.getTrapIdentity();
+        if (identity != null) {
+            final TrapSinkProtos.TrapIdentity.Builder identityBuilder = TrapSinkProtos.TrapIdentity.newBuilder()
+                    .setGeneric(identity.getGeneric())
+                    .setSpecific(identity.getSpecific());
+            if (identity.getEnterpriseId() != null) {
+                identityBuilder.setEnterpriseId(identity.getEnterpriseId());
+            }
+            if (identity.getTrapOID() != null) {
+                identityBuilder.setTrapOid(identity.getTrapOID());
+            }
+            builder.setTrapIdentity(identityBuilder);
+        }
+
+        for (final SnmpResult result : trap.getResults()) {
+            final TrapSinkProtos.SnmpResult.Builder resultBuilder = TrapSinkProtos.SnmpResult.newBuilder();
+            if (result.getBase() != null) {
+                resultBuilder.setBase(toProto(result.getBase()));
+            }
+            if (result.getInstance() != null) {
+                resultBuilder.setInstance(toProto(result.getInstance()));
+            }
+            final SnmpValue value = result.getValue();
+            if (value != null) {
+                resultBuilder.setValue(TrapSinkProtos.SnmpValue.newBuilder()
+                        .setType(value.getType())
+                        .setBytes(ByteString.copyFrom(value.getBytes())));
+            }
+            builder.addResult(resultBuilder);
+        }
+        return builder.build();
+    }
+
+    private static TrapDTO fromProto(TrapSinkProtos.Trap proto) throws IOException {
+        final TrapDTO trap = new TrapDTO();
+        trap.setAgentAddress(toAddress(proto.getAgentAddress()));
+        trap.setCommunity(proto.hasCommunity() ? proto.getCommunity() : null);
+        trap.setVersion(emptyToNull(proto.getVersion()));
+        trap.setTimestamp(proto.getTimestamp());
+        trap.setPduLength(proto.getPduLength());
+        trap.setCreationTime(proto.getCreationTime());
+        if (proto.hasRawMessage()) {
+            trap.setRawMessage(proto.getRawMessage().toByteArray());
+        }
+
+        if (proto.hasTrapIdentity()) {
+            final TrapSinkProtos.TrapIdentity identityProto = proto.getTrapIdentity();
+            final TrapIdentityDTO identity = new TrapIdentityDTO();
+            identity.setGeneric(identityProto.getGeneric());
+            identity.setSpecific(identityProto.getSpecific());
+            identity.setEnterpriseId(identityProto.hasEnterpriseId() ? identityProto.getEnterpriseId() : null);
+            identity.setTrapOID(identityProto.hasTrapOid() ? identityProto.getTrapOid() : null);
+            trap.setTrapIdentity(identity);
+        }
+
+        for (final TrapSinkProtos.SnmpResult resultProto : proto.getResultList()) {
+            final SnmpObjId base = resultProto.hasBase() ? SnmpObjId.get(toIds(resultProto.getBase())) : null;
+            final SnmpInstId instance = resultProto.hasInstance() ? new SnmpInstId(toIds(resultProto.getInstance())) : null;
+            final SnmpValue value = resultProto.hasValue()
+                    ? SnmpUtils.getValueFactory().getValue(resultProto.getValue().getType(), resultProto.getValue().getBytes().toByteArray())
+                    : null;
+            trap.getResults().add(new SnmpResult(base, instance, value));
+        }
+        return trap;
+    }
+
+    private static TrapSinkProtos.ObjectId toProto(SnmpObjId oid) {
+        final TrapSinkProtos.ObjectId.Builder builder = TrapSinkProtos.ObjectId.newBuilder();
+        for (final int id : oid.getIds()) {
+            builder.addId(id);
+        }
+        return builder.build();
+    }
+
+    private static int[] toIds(TrapSinkProtos.ObjectId proto) {
+        final int[] ids = new int[proto.getIdCount()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = proto.getId(i);
+        }
+        return ids;
+    }
+
+    private static ByteString toBytes(InetAddress address) {
+        return address != null ? ByteString.copyFrom(address.getAddress()) : ByteString.EMPTY;
+    }
+
+    private static InetAddress toAddress(ByteString bytes) throws IOException {
+        if (bytes.isEmpty()) {
+            return null;
+        }
+        try {
+            return InetAddress.getByAddress(bytes.toByteArray());
+        } catch (UnknownHostException e) {
+            throw new IOException("Invalid address of length " + bytes.size(), e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
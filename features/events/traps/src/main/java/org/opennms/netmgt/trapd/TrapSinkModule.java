@@ -46,7 +46,7 @@ public class TrapSinkModule extends AbstractXmlSinkModule<TrapInformationWrapper
     private OnmsDistPoller distPoller;
 
     public TrapSinkModule(TrapdConfig trapdConfig, OnmsDistPoller distPoller) {
-        super(TrapLogDTO.class);
+        super(TrapLogDTO.class, new TrapLogProtobufCodec());
         this.config = Objects.requireNonNull(trapdConfig);
         this.distPoller = Objects.requireNonNull(distPoller);
     }
@@ -0,0 +1,6050 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: trap-sink.proto
+
+package org.opennms.netmgt.trapd;
+
+public final class TrapSinkProtos {
+  private TrapSinkProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface TrapLogOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TrapLog)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string system_id = 1;</code>
+     * @return The systemId.
+     */
+    java.lang.String getSystemId();
+    /**
+     * <code>string system_id = 1;</code>
+     * @return The bytes for systemId.
+     */
+    com.google.protobuf.ByteString
+        getSystemIdBytes();
+
+    /**
+     * <code>string location = 2;</code>
+     * @return The location.
+     */
+    java.lang.String getLocation();
+    /**
+     * <code>string location = 2;</code>
+     * @return The bytes for location.
+     */
+    com.google.protobuf.ByteString
+        getLocationBytes();
+
+    /**
+     * <code>bytes trap_address = 3;</code>
+     * @return The trapAddress.
+     */
+    com.google.protobuf.ByteString getTrapAddress();
+
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.Trap> 
+        getTrapList();
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.Trap getTrap(int index);
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    int getTrapCount();
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder> 
+        getTrapOrBuilderList();
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder getTrapOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code TrapLog}
+   */
+  public static final class TrapLog extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TrapLog)
+      TrapLogOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TrapLog.newBuilder() to construct.
+    private TrapLog(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TrapLog() {
+      systemId_ = "";
+      location_ = "";
+      trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+      trap_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TrapLog();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapLog_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapLog_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog.class, org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog.Builder.class);
+    }
+
+    public static final int SYSTEM_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object systemId_ = "";
+    /**
+     * <code>string system_id = 1;</code>
+     * @return The systemId.
+     */
+    @java.lang.Override
+    public java.lang.String getSystemId() {
+      java.lang.Object ref = systemId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        systemId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string system_id = 1;</code>
+     * @return The bytes for systemId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSystemIdBytes() {
+      java.lang.Object ref = systemId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        systemId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOCATION_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object location_ = "";
+    /**
+     * <code>string location = 2;</code>
+     * @return The location.
+     */
+    @java.lang.Override
+    public java.lang.String getLocation() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        location_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string location = 2;</code>
+     * @return The bytes for location.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLocationBytes() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        location_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRAP_ADDRESS_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes trap_address = 3;</code>
+     * @return The trapAddress.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getTrapAddress() {
+      return trapAddress_;
+    }
+
+    public static final int TRAP_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.Trap> trap_;
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.Trap> getTrapList() {
+      return trap_;
+    }
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder> 
+        getTrapOrBuilderList() {
+      return trap_;
+    }
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    @java.lang.Override
+    public int getTrapCount() {
+      return trap_.size();
+    }
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.Trap getTrap(int index) {
+      return trap_.get(index);
+    }
+    /**
+     * <code>repeated .Trap trap = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder getTrapOrBuilder(
+        int index) {
+      return trap_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(systemId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, systemId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(location_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, location_);
+      }
+      if (!trapAddress_.isEmpty()) {
+        output.writeBytes(3, trapAddress_);
+      }
+      for (int i = 0; i < trap_.size(); i++) {
+        output.writeMessage(4, trap_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(systemId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, systemId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(location_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, location_);
+      }
+      if (!trapAddress_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, trapAddress_);
+      }
+      for (int i = 0; i < trap_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, trap_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog other = (org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog) obj;
+
+      if (!getSystemId()
+          .equals(other.getSystemId())) return false;
+      if (!getLocation()
+          .equals(other.getLocation())) return false;
+      if (!getTrapAddress()
+          .equals(other.getTrapAddress())) return false;
+      if (!getTrapList()
+          .equals(other.getTrapList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SYSTEM_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getSystemId().hashCode();
+      hash = (37 * hash) + LOCATION_FIELD_NUMBER;
+      hash = (53 * hash) + getLocation().hashCode();
+      hash = (37 * hash) + TRAP_ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getTrapAddress().hashCode();
+      if (getTrapCount() > 0) {
+        hash = (37 * hash) + TRAP_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TrapLog}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TrapLog)
+        org.opennms.netmgt.trapd.TrapSinkProtos.TrapLogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapLog_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapLog_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog.class, org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        systemId_ = "";
+        location_ = "";
+        trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+        if (trapBuilder_ == null) {
+          trap_ = java.util.Collections.emptyList();
+        } else {
+          trap_ = null;
+          trapBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapLog_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog build() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog buildPartial() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog result = new org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog result) {
+        if (trapBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            trap_ = java.util.Collections.unmodifiableList(trap_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.trap_ = trap_;
+        } else {
+          result.trap_ = trapBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.systemId_ = systemId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.location_ = location_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.trapAddress_ = trapAddress_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog) {
+          return mergeFrom((org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog other) {
+        if (other == org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog.getDefaultInstance()) return this;
+        if (!other.getSystemId().isEmpty()) {
+          systemId_ = other.systemId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getLocation().isEmpty()) {
+          location_ = other.location_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.getTrapAddress() != com.google.protobuf.ByteString.EMPTY) {
+          setTrapAddress(other.getTrapAddress());
+        }
+        if (trapBuilder_ == null) {
+          if (!other.trap_.isEmpty()) {
+            if (trap_.isEmpty()) {
+              trap_ = other.trap_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureTrapIsMutable();
+              trap_.addAll(other.trap_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.trap_.isEmpty()) {
+            if (trapBuilder_.isEmpty()) {
+              trapBuilder_.dispose();
+              trapBuilder_ = null;
+              trap_ = other.trap_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              trapBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTrapFieldBuilder() : null;
+            } else {
+              trapBuilder_.addAllMessages(other.trap_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                systemId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                location_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                trapAddress_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                org.opennms.netmgt.trapd.TrapSinkProtos.Trap m =
+                    input.readMessage(
+                        org.opennms.netmgt.trapd.TrapSinkProtos.Trap.parser(),
+                        extensionRegistry);
+                if (trapBuilder_ == null) {
+                  ensureTrapIsMutable();
+                  trap_.add(m);
+                } else {
+                  trapBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object systemId_ = "";
+      /**
+       * <code>string system_id = 1;</code>
+       * @return The systemId.
+       */
+      public java.lang.String getSystemId() {
+        java.lang.Object ref = systemId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          systemId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string system_id = 1;</code>
+       * @return The bytes for systemId.
+       */
+      public com.google.protobuf.ByteString
+          getSystemIdBytes() {
+        java.lang.Object ref = systemId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          systemId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string system_id = 1;</code>
+       * @param value The systemId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSystemId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        systemId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string system_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSystemId() {
+        systemId_ = getDefaultInstance().getSystemId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string system_id = 1;</code>
+       * @param value The bytes for systemId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSystemIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        systemId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object location_ = "";
+      /**
+       * <code>string location = 2;</code>
+       * @return The location.
+       */
+      public java.lang.String getLocation() {
+        java.lang.Object ref = location_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          location_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string location = 2;</code>
+       * @return The bytes for location.
+       */
+      public com.google.protobuf.ByteString
+          getLocationBytes() {
+        java.lang.Object ref = location_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          location_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string location = 2;</code>
+       * @param value The location to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        location_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string location = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLocation() {
+        location_ = getDefaultInstance().getLocation();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string location = 2;</code>
+       * @param value The bytes for location to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        location_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes trap_address = 3;</code>
+       * @return The trapAddress.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getTrapAddress() {
+        return trapAddress_;
+      }
+      /**
+       * <code>bytes trap_address = 3;</code>
+       * @param value The trapAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapAddress(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        trapAddress_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes trap_address = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTrapAddress() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        trapAddress_ = getDefaultInstance().getTrapAddress();
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.Trap> trap_ =
+        java.util.Collections.emptyList();
+      private void ensureTrapIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          trap_ = new java.util.ArrayList<org.opennms.netmgt.trapd.TrapSinkProtos.Trap>(trap_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.Trap, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder> trapBuilder_;
+
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.Trap> getTrapList() {
+        if (trapBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(trap_);
+        } else {
+          return trapBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public int getTrapCount() {
+        if (trapBuilder_ == null) {
+          return trap_.size();
+        } else {
+          return trapBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.Trap getTrap(int index) {
+        if (trapBuilder_ == null) {
+          return trap_.get(index);
+        } else {
+          return trapBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder setTrap(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.Trap value) {
+        if (trapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTrapIsMutable();
+          trap_.set(index, value);
+          onChanged();
+        } else {
+          trapBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder setTrap(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder builderForValue) {
+        if (trapBuilder_ == null) {
+          ensureTrapIsMutable();
+          trap_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          trapBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder addTrap(org.opennms.netmgt.trapd.TrapSinkProtos.Trap value) {
+        if (trapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTrapIsMutable();
+          trap_.add(value);
+          onChanged();
+        } else {
+          trapBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder addTrap(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.Trap value) {
+        if (trapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTrapIsMutable();
+          trap_.add(index, value);
+          onChanged();
+        } else {
+          trapBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder addTrap(
+          org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder builderForValue) {
+        if (trapBuilder_ == null) {
+          ensureTrapIsMutable();
+          trap_.add(builderForValue.build());
+          onChanged();
+        } else {
+          trapBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder addTrap(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder builderForValue) {
+        if (trapBuilder_ == null) {
+          ensureTrapIsMutable();
+          trap_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          trapBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder addAllTrap(
+          java.lang.Iterable<? extends org.opennms.netmgt.trapd.TrapSinkProtos.Trap> values) {
+        if (trapBuilder_ == null) {
+          ensureTrapIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, trap_);
+          onChanged();
+        } else {
+          trapBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder clearTrap() {
+        if (trapBuilder_ == null) {
+          trap_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          trapBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public Builder removeTrap(int index) {
+        if (trapBuilder_ == null) {
+          ensureTrapIsMutable();
+          trap_.remove(index);
+          onChanged();
+        } else {
+          trapBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder getTrapBuilder(
+          int index) {
+        return getTrapFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder getTrapOrBuilder(
+          int index) {
+        if (trapBuilder_ == null) {
+          return trap_.get(index);  } else {
+          return trapBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder> 
+           getTrapOrBuilderList() {
+        if (trapBuilder_ != null) {
+          return trapBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(trap_);
+        }
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder addTrapBuilder() {
+        return getTrapFieldBuilder().addBuilder(
+            org.opennms.netmgt.trapd.TrapSinkProtos.Trap.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder addTrapBuilder(
+          int index) {
+        return getTrapFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Trap trap = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder> 
+           getTrapBuilderList() {
+        return getTrapFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.Trap, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder> 
+          getTrapFieldBuilder() {
+        if (trapBuilder_ == null) {
+          trapBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.trapd.TrapSinkProtos.Trap, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder>(
+                  trap_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          trap_ = null;
+        }
+        return trapBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TrapLog)
+    }
+
+    // @@protoc_insertion_point(class_scope:TrapLog)
+    private static final org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog();
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TrapLog>
+        PARSER = new com.google.protobuf.AbstractParser<TrapLog>() {
+      @java.lang.Override
+      public TrapLog parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TrapLog> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TrapLog> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.TrapLog getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TrapOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Trap)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes agent_address = 1;</code>
+     * @return The agentAddress.
+     */
+    com.google.protobuf.ByteString getAgentAddress();
+
+    /**
+     * <code>optional string community = 2;</code>
+     * @return Whether the community field is set.
+     */
+    boolean hasCommunity();
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The community.
+     */
+    java.lang.String getCommunity();
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The bytes for community.
+     */
+    com.google.protobuf.ByteString
+        getCommunityBytes();
+
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>int64 timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>int32 pdu_length = 5;</code>
+     * @return The pduLength.
+     */
+    int getPduLength();
+
+    /**
+     * <code>int64 creation_time = 6;</code>
+     * @return The creationTime.
+     */
+    long getCreationTime();
+
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return Whether the rawMessage field is set.
+     */
+    boolean hasRawMessage();
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return The rawMessage.
+     */
+    com.google.protobuf.ByteString getRawMessage();
+
+    /**
+     * <code>.TrapIdentity trap_identity = 8;</code>
+     * @return Whether the trapIdentity field is set.
+     */
+    boolean hasTrapIdentity();
+    /**
+     * <code>.TrapIdentity trap_identity = 8;</code>
+     * @return The trapIdentity.
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity getTrapIdentity();
+    /**
+     * <code>.TrapIdentity trap_identity = 8;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentityOrBuilder getTrapIdentityOrBuilder();
+
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult> 
+        getResultList();
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult getResult(int index);
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    int getResultCount();
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder> 
+        getResultOrBuilderList();
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder getResultOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code Trap}
+   */
+  public static final class Trap extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Trap)
+      TrapOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Trap.newBuilder() to construct.
+    private Trap(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Trap() {
+      agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+      community_ = "";
+      version_ = "";
+      rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+      result_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Trap();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_Trap_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_Trap_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.TrapSinkProtos.Trap.class, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int AGENT_ADDRESS_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes agent_address = 1;</code>
+     * @return The agentAddress.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getAgentAddress() {
+      return agentAddress_;
+    }
+
+    public static final int COMMUNITY_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object community_ = "";
+    /**
+     * <code>optional string community = 2;</code>
+     * @return Whether the community field is set.
+     */
+    @java.lang.Override
+    public boolean hasCommunity() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The community.
+     */
+    @java.lang.Override
+    public java.lang.String getCommunity() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        community_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The bytes for community.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCommunityBytes() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        community_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 4;
+    private long timestamp_ = 0L;
+    /**
+     * <code>int64 timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int PDU_LENGTH_FIELD_NUMBER = 5;
+    private int pduLength_ = 0;
+    /**
+     * <code>int32 pdu_length = 5;</code>
+     * @return The pduLength.
+     */
+    @java.lang.Override
+    public int getPduLength() {
+      return pduLength_;
+    }
+
+    public static final int CREATION_TIME_FIELD_NUMBER = 6;
+    private long creationTime_ = 0L;
+    /**
+     * <code>int64 creation_time = 6;</code>
+     * @return The creationTime.
+     */
+    @java.lang.Override
+    public long getCreationTime() {
+      return creationTime_;
+    }
+
+    public static final int RAW_MESSAGE_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return Whether the rawMessage field is set.
+     */
+    @java.lang.Override
+    public boolean hasRawMessage() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return The rawMessage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getRawMessage() {
+      return rawMessage_;
+    }
+
+    public static final int TRAP_IDENTITY_FIELD_NUMBER = 8;
+    private org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity trapIdentity_;
+    /**
+     * <code>.TrapIdentity trap_identity = 8;</code>
+     * @return Whether the trapIdentity field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapIdentity() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>.TrapIdentity trap_identity = 8;</code>
+     * @return The trapIdentity.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity getTrapIdentity() {
+      return trapIdentity_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+    }
+    /**
+     * <code>.TrapIdentity trap_identity = 8;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentityOrBuilder getTrapIdentityOrBuilder() {
+      return trapIdentity_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+    }
+
+    public static final int RESULT_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult> result_;
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult> getResultList() {
+      return result_;
+    }
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder> 
+        getResultOrBuilderList() {
+      return result_;
+    }
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    @java.lang.Override
+    public int getResultCount() {
+      return result_.size();
+    }
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult getResult(int index) {
+      return result_.get(index);
+    }
+    /**
+     * <code>repeated .SnmpResult result = 9;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder getResultOrBuilder(
+        int index) {
+      return result_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!agentAddress_.isEmpty()) {
+        output.writeBytes(1, agentAddress_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, community_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, version_);
+      }
+      if (timestamp_ != 0L) {
+        output.writeInt64(4, timestamp_);
+      }
+      if (pduLength_ != 0) {
+        output.writeInt32(5, pduLength_);
+      }
+      if (creationTime_ != 0L) {
+        output.writeInt64(6, creationTime_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBytes(7, rawMessage_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(8, getTrapIdentity());
+      }
+      for (int i = 0; i < result_.size(); i++) {
+        output.writeMessage(9, result_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!agentAddress_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, agentAddress_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, community_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, version_);
+      }
+      if (timestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, timestamp_);
+      }
+      if (pduLength_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, pduLength_);
+      }
+      if (creationTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, creationTime_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, rawMessage_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getTrapIdentity());
+      }
+      for (int i = 0; i < result_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, result_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.TrapSinkProtos.Trap)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.TrapSinkProtos.Trap other = (org.opennms.netmgt.trapd.TrapSinkProtos.Trap) obj;
+
+      if (!getAgentAddress()
+          .equals(other.getAgentAddress())) return false;
+      if (hasCommunity() != other.hasCommunity()) return false;
+      if (hasCommunity()) {
+        if (!getCommunity()
+            .equals(other.getCommunity())) return false;
+      }
+      if (!getVersion()
+          .equals(other.getVersion())) return false;
+      if (getTimestamp()
+          != other.getTimestamp()) return false;
+      if (getPduLength()
+          != other.getPduLength()) return false;
+      if (getCreationTime()
+          != other.getCreationTime()) return false;
+      if (hasRawMessage() != other.hasRawMessage()) return false;
+      if (hasRawMessage()) {
+        if (!getRawMessage()
+            .equals(other.getRawMessage())) return false;
+      }
+      if (hasTrapIdentity() != other.hasTrapIdentity()) return false;
+      if (hasTrapIdentity()) {
+        if (!getTrapIdentity()
+            .equals(other.getTrapIdentity())) return false;
+      }
+      if (!getResultList()
+          .equals(other.getResultList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + AGENT_ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getAgentAddress().hashCode();
+      if (hasCommunity()) {
+        hash = (37 * hash) + COMMUNITY_FIELD_NUMBER;
+        hash = (53 * hash) + getCommunity().hashCode();
+      }
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion().hashCode();
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (37 * hash) + PDU_LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getPduLength();
+      hash = (37 * hash) + CREATION_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCreationTime());
+      if (hasRawMessage()) {
+        hash = (37 * hash) + RAW_MESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getRawMessage().hashCode();
+      }
+      if (hasTrapIdentity()) {
+        hash = (37 * hash) + TRAP_IDENTITY_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapIdentity().hashCode();
+      }
+      if (getResultCount() > 0) {
+        hash = (37 * hash) + RESULT_FIELD_NUMBER;
+        hash = (53 * hash) + getResultList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.TrapSinkProtos.Trap prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Trap}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Trap)
+        org.opennms.netmgt.trapd.TrapSinkProtos.TrapOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_Trap_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_Trap_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.TrapSinkProtos.Trap.class, org.opennms.netmgt.trapd.TrapSinkProtos.Trap.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.TrapSinkProtos.Trap.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTrapIdentityFieldBuilder();
+          getResultFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+        community_ = "";
+        version_ = "";
+        timestamp_ = 0L;
+        pduLength_ = 0;
+        creationTime_ = 0L;
+        rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+        trapIdentity_ = null;
+        if (trapIdentityBuilder_ != null) {
+          trapIdentityBuilder_.dispose();
+          trapIdentityBuilder_ = null;
+        }
+        if (resultBuilder_ == null) {
+          result_ = java.util.Collections.emptyList();
+        } else {
+          result_ = null;
+          resultBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_Trap_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.Trap getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.Trap.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.Trap build() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.Trap result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.Trap buildPartial() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.Trap result = new org.opennms.netmgt.trapd.TrapSinkProtos.Trap(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.trapd.TrapSinkProtos.Trap result) {
+        if (resultBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0)) {
+            result_ = java.util.Collections.unmodifiableList(result_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.result_ = result_;
+        } else {
+          result.result_ = resultBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.TrapSinkProtos.Trap result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.agentAddress_ = agentAddress_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.community_ = community_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.version_ = version_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.timestamp_ = timestamp_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.pduLength_ = pduLength_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.creationTime_ = creationTime_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.rawMessage_ = rawMessage_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.trapIdentity_ = trapIdentityBuilder_ == null
+              ? trapIdentity_
+              : trapIdentityBuilder_.build();
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.TrapSinkProtos.Trap) {
+          return mergeFrom((org.opennms.netmgt.trapd.TrapSinkProtos.Trap)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.TrapSinkProtos.Trap other) {
+        if (other == org.opennms.netmgt.trapd.TrapSinkProtos.Trap.getDefaultInstance()) return this;
+        if (other.getAgentAddress() != com.google.protobuf.ByteString.EMPTY) {
+          setAgentAddress(other.getAgentAddress());
+        }
+        if (other.hasCommunity()) {
+          community_ = other.community_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getVersion().isEmpty()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.getPduLength() != 0) {
+          setPduLength(other.getPduLength());
+        }
+        if (other.getCreationTime() != 0L) {
+          setCreationTime(other.getCreationTime());
+        }
+        if (other.hasRawMessage()) {
+          setRawMessage(other.getRawMessage());
+        }
+        if (other.hasTrapIdentity()) {
+          mergeTrapIdentity(other.getTrapIdentity());
+        }
+        if (resultBuilder_ == null) {
+          if (!other.result_.isEmpty()) {
+            if (result_.isEmpty()) {
+              result_ = other.result_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureResultIsMutable();
+              result_.addAll(other.result_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.result_.isEmpty()) {
+            if (resultBuilder_.isEmpty()) {
+              resultBuilder_.dispose();
+              resultBuilder_ = null;
+              result_ = other.result_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              resultBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultFieldBuilder() : null;
+            } else {
+              resultBuilder_.addAllMessages(other.result_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                agentAddress_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                community_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                pduLength_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                creationTime_ = input.readInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 58: {
+                rawMessage_ = input.readBytes();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                input.readMessage(
+                    getTrapIdentityFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult m =
+                    input.readMessage(
+                        org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.parser(),
+                        extensionRegistry);
+                if (resultBuilder_ == null) {
+                  ensureResultIsMutable();
+                  result_.add(m);
+                } else {
+                  resultBuilder_.addMessage(m);
+                }
+                break;
+              } // case 74
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes agent_address = 1;</code>
+       * @return The agentAddress.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getAgentAddress() {
+        return agentAddress_;
+      }
+      /**
+       * <code>bytes agent_address = 1;</code>
+       * @param value The agentAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAgentAddress(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        agentAddress_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes agent_address = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAgentAddress() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        agentAddress_ = getDefaultInstance().getAgentAddress();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object community_ = "";
+      /**
+       * <code>optional string community = 2;</code>
+       * @return Whether the community field is set.
+       */
+      public boolean hasCommunity() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @return The community.
+       */
+      public java.lang.String getCommunity() {
+        java.lang.Object ref = community_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          community_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @return The bytes for community.
+       */
+      public com.google.protobuf.ByteString
+          getCommunityBytes() {
+        java.lang.Object ref = community_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          community_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @param value The community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunity(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        community_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommunity() {
+        community_ = getDefaultInstance().getCommunity();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @param value The bytes for community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        community_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <code>string version = 3;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>int64 timestamp = 4;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>int64 timestamp = 4;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 timestamp = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int pduLength_ ;
+      /**
+       * <code>int32 pdu_length = 5;</code>
+       * @return The pduLength.
+       */
+      @java.lang.Override
+      public int getPduLength() {
+        return pduLength_;
+      }
+      /**
+       * <code>int32 pdu_length = 5;</code>
+       * @param value The pduLength to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPduLength(int value) {
+
+        pduLength_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pdu_length = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPduLength() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        pduLength_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long creationTime_ ;
+      /**
+       * <code>int64 creation_time = 6;</code>
+       * @return The creationTime.
+       */
+      @java.lang.Override
+      public long getCreationTime() {
+        return creationTime_;
+      }
+      /**
+       * <code>int64 creation_time = 6;</code>
+       * @param value The creationTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreationTime(long value) {
+
+        creationTime_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 creation_time = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreationTime() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        creationTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @return Whether the rawMessage field is set.
+       */
+      @java.lang.Override
+      public boolean hasRawMessage() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @return The rawMessage.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getRawMessage() {
+        return rawMessage_;
+      }
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @param value The rawMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRawMessage(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        rawMessage_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRawMessage() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rawMessage_ = getDefaultInstance().getRawMessage();
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity trapIdentity_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentityOrBuilder> trapIdentityBuilder_;
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       * @return Whether the trapIdentity field is set.
+       */
+      public boolean hasTrapIdentity() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       * @return The trapIdentity.
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity getTrapIdentity() {
+        if (trapIdentityBuilder_ == null) {
+          return trapIdentity_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+        } else {
+          return trapIdentityBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder setTrapIdentity(org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity value) {
+        if (trapIdentityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          trapIdentity_ = value;
+        } else {
+          trapIdentityBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder setTrapIdentity(
+          org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.Builder builderForValue) {
+        if (trapIdentityBuilder_ == null) {
+          trapIdentity_ = builderForValue.build();
+        } else {
+          trapIdentityBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder mergeTrapIdentity(org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity value) {
+        if (trapIdentityBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+            trapIdentity_ != null &&
+            trapIdentity_ != org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.getDefaultInstance()) {
+            getTrapIdentityBuilder().mergeFrom(value);
+          } else {
+            trapIdentity_ = value;
+          }
+        } else {
+          trapIdentityBuilder_.mergeFrom(value);
+        }
+        if (trapIdentity_ != null) {
+          bitField0_ |= 0x00000080;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder clearTrapIdentity() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        trapIdentity_ = null;
+        if (trapIdentityBuilder_ != null) {
+          trapIdentityBuilder_.dispose();
+          trapIdentityBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.Builder getTrapIdentityBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getTrapIdentityFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentityOrBuilder getTrapIdentityOrBuilder() {
+        if (trapIdentityBuilder_ != null) {
+          return trapIdentityBuilder_.getMessageOrBuilder();
+        } else {
+          return trapIdentity_ == null ?
+              org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+        }
+      }
+      /**
+       * <code>.TrapIdentity trap_identity = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentityOrBuilder> 
+          getTrapIdentityFieldBuilder() {
+        if (trapIdentityBuilder_ == null) {
+          trapIdentityBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentityOrBuilder>(
+                  getTrapIdentity(),
+                  getParentForChildren(),
+                  isClean());
+          trapIdentity_ = null;
+        }
+        return trapIdentityBuilder_;
+      }
+
+      private java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult> result_ =
+        java.util.Collections.emptyList();
+      private void ensureResultIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          result_ = new java.util.ArrayList<org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult>(result_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder> resultBuilder_;
+
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult> getResultList() {
+        if (resultBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(result_);
+        } else {
+          return resultBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public int getResultCount() {
+        if (resultBuilder_ == null) {
+          return result_.size();
+        } else {
+          return resultBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult getResult(int index) {
+        if (resultBuilder_ == null) {
+          return result_.get(index);
+        } else {
+          return resultBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder setResult(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult value) {
+        if (resultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultIsMutable();
+          result_.set(index, value);
+          onChanged();
+        } else {
+          resultBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder setResult(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder builderForValue) {
+        if (resultBuilder_ == null) {
+          ensureResultIsMutable();
+          result_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder addResult(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult value) {
+        if (resultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultIsMutable();
+          result_.add(value);
+          onChanged();
+        } else {
+          resultBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder addResult(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult value) {
+        if (resultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultIsMutable();
+          result_.add(index, value);
+          onChanged();
+        } else {
+          resultBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder addResult(
+          org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder builderForValue) {
+        if (resultBuilder_ == null) {
+          ensureResultIsMutable();
+          result_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder addResult(
+          int index, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder builderForValue) {
+        if (resultBuilder_ == null) {
+          ensureResultIsMutable();
+          result_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder addAllResult(
+          java.lang.Iterable<? extends org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult> values) {
+        if (resultBuilder_ == null) {
+          ensureResultIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, result_);
+          onChanged();
+        } else {
+          resultBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder clearResult() {
+        if (resultBuilder_ == null) {
+          result_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          resultBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public Builder removeResult(int index) {
+        if (resultBuilder_ == null) {
+          ensureResultIsMutable();
+          result_.remove(index);
+          onChanged();
+        } else {
+          resultBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder getResultBuilder(
+          int index) {
+        return getResultFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder getResultOrBuilder(
+          int index) {
+        if (resultBuilder_ == null) {
+          return result_.get(index);  } else {
+          return resultBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder> 
+           getResultOrBuilderList() {
+        if (resultBuilder_ != null) {
+          return resultBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(result_);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder addResultBuilder() {
+        return getResultFieldBuilder().addBuilder(
+            org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder addResultBuilder(
+          int index) {
+        return getResultFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResult result = 9;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder> 
+           getResultBuilderList() {
+        return getResultFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder> 
+          getResultFieldBuilder() {
+        if (resultBuilder_ == null) {
+          resultBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder>(
+                  result_,
+                  ((bitField0_ & 0x00000100) != 0),
+                  getParentForChildren(),
+                  isClean());
+          result_ = null;
+        }
+        return resultBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Trap)
+    }
+
+    // @@protoc_insertion_point(class_scope:Trap)
+    private static final org.opennms.netmgt.trapd.TrapSinkProtos.Trap DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.TrapSinkProtos.Trap();
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.Trap getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Trap>
+        PARSER = new com.google.protobuf.AbstractParser<Trap>() {
+      @java.lang.Override
+      public Trap parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Trap> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Trap> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.Trap getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TrapIdentityOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TrapIdentity)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 generic = 1;</code>
+     * @return The generic.
+     */
+    int getGeneric();
+
+    /**
+     * <code>int32 specific = 2;</code>
+     * @return The specific.
+     */
+    int getSpecific();
+
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return Whether the enterpriseId field is set.
+     */
+    boolean hasEnterpriseId();
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The enterpriseId.
+     */
+    java.lang.String getEnterpriseId();
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The bytes for enterpriseId.
+     */
+    com.google.protobuf.ByteString
+        getEnterpriseIdBytes();
+
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return Whether the trapOid field is set.
+     */
+    boolean hasTrapOid();
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The trapOid.
+     */
+    java.lang.String getTrapOid();
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The bytes for trapOid.
+     */
+    com.google.protobuf.ByteString
+        getTrapOidBytes();
+  }
+  /**
+   * Protobuf type {@code TrapIdentity}
+   */
+  public static final class TrapIdentity extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TrapIdentity)
+      TrapIdentityOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TrapIdentity.newBuilder() to construct.
+    private TrapIdentity(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TrapIdentity() {
+      enterpriseId_ = "";
+      trapOid_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TrapIdentity();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapIdentity_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapIdentity_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.class, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int GENERIC_FIELD_NUMBER = 1;
+    private int generic_ = 0;
+    /**
+     * <code>int32 generic = 1;</code>
+     * @return The generic.
+     */
+    @java.lang.Override
+    public int getGeneric() {
+      return generic_;
+    }
+
+    public static final int SPECIFIC_FIELD_NUMBER = 2;
+    private int specific_ = 0;
+    /**
+     * <code>int32 specific = 2;</code>
+     * @return The specific.
+     */
+    @java.lang.Override
+    public int getSpecific() {
+      return specific_;
+    }
+
+    public static final int ENTERPRISE_ID_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object enterpriseId_ = "";
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return Whether the enterpriseId field is set.
+     */
+    @java.lang.Override
+    public boolean hasEnterpriseId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The enterpriseId.
+     */
+    @java.lang.Override
+    public java.lang.String getEnterpriseId() {
+      java.lang.Object ref = enterpriseId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        enterpriseId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The bytes for enterpriseId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEnterpriseIdBytes() {
+      java.lang.Object ref = enterpriseId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        enterpriseId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRAP_OID_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object trapOid_ = "";
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return Whether the trapOid field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapOid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The trapOid.
+     */
+    @java.lang.Override
+    public java.lang.String getTrapOid() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        trapOid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The bytes for trapOid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTrapOidBytes() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        trapOid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (generic_ != 0) {
+        output.writeInt32(1, generic_);
+      }
+      if (specific_ != 0) {
+        output.writeInt32(2, specific_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, enterpriseId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, trapOid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (generic_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, generic_);
+      }
+      if (specific_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, specific_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, enterpriseId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, trapOid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity other = (org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity) obj;
+
+      if (getGeneric()
+          != other.getGeneric()) return false;
+      if (getSpecific()
+          != other.getSpecific()) return false;
+      if (hasEnterpriseId() != other.hasEnterpriseId()) return false;
+      if (hasEnterpriseId()) {
+        if (!getEnterpriseId()
+            .equals(other.getEnterpriseId())) return false;
+      }
+      if (hasTrapOid() != other.hasTrapOid()) return false;
+      if (hasTrapOid()) {
+        if (!getTrapOid()
+            .equals(other.getTrapOid())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + GENERIC_FIELD_NUMBER;
+      hash = (53 * hash) + getGeneric();
+      hash = (37 * hash) + SPECIFIC_FIELD_NUMBER;
+      hash = (53 * hash) + getSpecific();
+      if (hasEnterpriseId()) {
+        hash = (37 * hash) + ENTERPRISE_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getEnterpriseId().hashCode();
+      }
+      if (hasTrapOid()) {
+        hash = (37 * hash) + TRAP_OID_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapOid().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TrapIdentity}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TrapIdentity)
+        org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentityOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapIdentity_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapIdentity_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.class, org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        generic_ = 0;
+        specific_ = 0;
+        enterpriseId_ = "";
+        trapOid_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_TrapIdentity_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity build() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity buildPartial() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity result = new org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.generic_ = generic_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.specific_ = specific_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.enterpriseId_ = enterpriseId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.trapOid_ = trapOid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity) {
+          return mergeFrom((org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity other) {
+        if (other == org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity.getDefaultInstance()) return this;
+        if (other.getGeneric() != 0) {
+          setGeneric(other.getGeneric());
+        }
+        if (other.getSpecific() != 0) {
+          setSpecific(other.getSpecific());
+        }
+        if (other.hasEnterpriseId()) {
+          enterpriseId_ = other.enterpriseId_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasTrapOid()) {
+          trapOid_ = other.trapOid_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                generic_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                specific_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                enterpriseId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                trapOid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int generic_ ;
+      /**
+       * <code>int32 generic = 1;</code>
+       * @return The generic.
+       */
+      @java.lang.Override
+      public int getGeneric() {
+        return generic_;
+      }
+      /**
+       * <code>int32 generic = 1;</code>
+       * @param value The generic to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGeneric(int value) {
+
+        generic_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 generic = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGeneric() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        generic_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int specific_ ;
+      /**
+       * <code>int32 specific = 2;</code>
+       * @return The specific.
+       */
+      @java.lang.Override
+      public int getSpecific() {
+        return specific_;
+      }
+      /**
+       * <code>int32 specific = 2;</code>
+       * @param value The specific to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecific(int value) {
+
+        specific_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 specific = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpecific() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        specific_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object enterpriseId_ = "";
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return Whether the enterpriseId field is set.
+       */
+      public boolean hasEnterpriseId() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return The enterpriseId.
+       */
+      public java.lang.String getEnterpriseId() {
+        java.lang.Object ref = enterpriseId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          enterpriseId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return The bytes for enterpriseId.
+       */
+      public com.google.protobuf.ByteString
+          getEnterpriseIdBytes() {
+        java.lang.Object ref = enterpriseId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          enterpriseId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @param value The enterpriseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEnterpriseId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        enterpriseId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEnterpriseId() {
+        enterpriseId_ = getDefaultInstance().getEnterpriseId();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @param value The bytes for enterpriseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEnterpriseIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        enterpriseId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object trapOid_ = "";
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return Whether the trapOid field is set.
+       */
+      public boolean hasTrapOid() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return The trapOid.
+       */
+      public java.lang.String getTrapOid() {
+        java.lang.Object ref = trapOid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          trapOid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return The bytes for trapOid.
+       */
+      public com.google.protobuf.ByteString
+          getTrapOidBytes() {
+        java.lang.Object ref = trapOid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          trapOid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @param value The trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOid(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        trapOid_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTrapOid() {
+        trapOid_ = getDefaultInstance().getTrapOid();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @param value The bytes for trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        trapOid_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TrapIdentity)
+    }
+
+    // @@protoc_insertion_point(class_scope:TrapIdentity)
+    private static final org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity();
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TrapIdentity>
+        PARSER = new com.google.protobuf.AbstractParser<TrapIdentity>() {
+      @java.lang.Override
+      public TrapIdentity parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TrapIdentity> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TrapIdentity> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.TrapIdentity getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ObjectIdOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ObjectId)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated uint32 id = 1;</code>
+     * @return A list containing the id.
+     */
+    java.util.List<java.lang.Integer> getIdList();
+    /**
+     * <code>repeated uint32 id = 1;</code>
+     * @return The count of id.
+     */
+    int getIdCount();
+    /**
+     * <code>repeated uint32 id = 1;</code>
+     * @param index The index of the element to return.
+     * @return The id at the given index.
+     */
+    int getId(int index);
+  }
+  /**
+   * Protobuf type {@code ObjectId}
+   */
+  public static final class ObjectId extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ObjectId)
+      ObjectIdOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ObjectId.newBuilder() to construct.
+    private ObjectId(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ObjectId() {
+      id_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ObjectId();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_ObjectId_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_ObjectId_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.class, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList id_ =
+        emptyIntList();
+    /**
+     * <code>repeated uint32 id = 1;</code>
+     * @return A list containing the id.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getIdList() {
+      return id_;
+    }
+    /**
+     * <code>repeated uint32 id = 1;</code>
+     * @return The count of id.
+     */
+    public int getIdCount() {
+      return id_.size();
+    }
+    /**
+     * <code>repeated uint32 id = 1;</code>
+     * @param index The index of the element to return.
+     * @return The id at the given index.
+     */
+    public int getId(int index) {
+      return id_.getInt(index);
+    }
+    private int idMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getIdList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(idMemoizedSerializedSize);
+      }
+      for (int i = 0; i < id_.size(); i++) {
+        output.writeUInt32NoTag(id_.getInt(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < id_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(id_.getInt(i));
+        }
+        size += dataSize;
+        if (!getIdList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId other = (org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId) obj;
+
+      if (!getIdList()
+          .equals(other.getIdList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getIdCount() > 0) {
+        hash = (37 * hash) + ID_FIELD_NUMBER;
+        hash = (53 * hash) + getIdList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ObjectId}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ObjectId)
+        org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_ObjectId_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_ObjectId_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.class, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = emptyIntList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_ObjectId_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId build() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId buildPartial() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId result = new org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          id_.makeImmutable();
+          result.id_ = id_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId) {
+          return mergeFrom((org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId other) {
+        if (other == org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance()) return this;
+        if (!other.id_.isEmpty()) {
+          if (id_.isEmpty()) {
+            id_ = other.id_;
+            id_.makeImmutable();
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureIdIsMutable();
+            id_.addAll(other.id_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                int v = input.readUInt32();
+                ensureIdIsMutable();
+                id_.addInt(v);
+                break;
+              } // case 8
+              case 10: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureIdIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  id_.addInt(input.readUInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.IntList id_ = emptyIntList();
+      private void ensureIdIsMutable() {
+        if (!id_.isModifiable()) {
+          id_ = makeMutableCopy(id_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated uint32 id = 1;</code>
+       * @return A list containing the id.
+       */
+      public java.util.List<java.lang.Integer>
+          getIdList() {
+        id_.makeImmutable();
+        return id_;
+      }
+      /**
+       * <code>repeated uint32 id = 1;</code>
+       * @return The count of id.
+       */
+      public int getIdCount() {
+        return id_.size();
+      }
+      /**
+       * <code>repeated uint32 id = 1;</code>
+       * @param index The index of the element to return.
+       * @return The id at the given index.
+       */
+      public int getId(int index) {
+        return id_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 id = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          int index, int value) {
+
+        ensureIdIsMutable();
+        id_.setInt(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 id = 1;</code>
+       * @param value The id to add.
+       * @return This builder for chaining.
+       */
+      public Builder addId(int value) {
+
+        ensureIdIsMutable();
+        id_.addInt(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 id = 1;</code>
+       * @param values The id to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllId(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, id_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ObjectId)
+    }
+
+    // @@protoc_insertion_point(class_scope:ObjectId)
+    private static final org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId();
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ObjectId>
+        PARSER = new com.google.protobuf.AbstractParser<ObjectId>() {
+      @java.lang.Override
+      public ObjectId parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ObjectId> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ObjectId> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.ObjectId base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    boolean hasBase();
+    /**
+     * <code>.ObjectId base = 1;</code>
+     * @return The base.
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getBase();
+    /**
+     * <code>.ObjectId base = 1;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder getBaseOrBuilder();
+
+    /**
+     * <code>.ObjectId instance = 2;</code>
+     * @return Whether the instance field is set.
+     */
+    boolean hasInstance();
+    /**
+     * <code>.ObjectId instance = 2;</code>
+     * @return The instance.
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getInstance();
+    /**
+     * <code>.ObjectId instance = 2;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder getInstanceOrBuilder();
+
+    /**
+     * <code>.SnmpValue value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>.SnmpValue value = 3;</code>
+     * @return The value.
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue getValue();
+    /**
+     * <code>.SnmpValue value = 3;</code>
+     */
+    org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValueOrBuilder getValueOrBuilder();
+  }
+  /**
+   * Protobuf type {@code SnmpResult}
+   */
+  public static final class SnmpResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpResult)
+      SnmpResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpResult.newBuilder() to construct.
+    private SnmpResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpResult() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpResult();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.class, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int BASE_FIELD_NUMBER = 1;
+    private org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId base_;
+    /**
+     * <code>.ObjectId base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    @java.lang.Override
+    public boolean hasBase() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.ObjectId base = 1;</code>
+     * @return The base.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getBase() {
+      return base_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : base_;
+    }
+    /**
+     * <code>.ObjectId base = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder getBaseOrBuilder() {
+      return base_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : base_;
+    }
+
+    public static final int INSTANCE_FIELD_NUMBER = 2;
+    private org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId instance_;
+    /**
+     * <code>.ObjectId instance = 2;</code>
+     * @return Whether the instance field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstance() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>.ObjectId instance = 2;</code>
+     * @return The instance.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getInstance() {
+      return instance_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : instance_;
+    }
+    /**
+     * <code>.ObjectId instance = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder getInstanceOrBuilder() {
+      return instance_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : instance_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 3;
+    private org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue value_;
+    /**
+     * <code>.SnmpValue value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>.SnmpValue value = 3;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue getValue() {
+      return value_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.getDefaultInstance() : value_;
+    }
+    /**
+     * <code>.SnmpValue value = 3;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValueOrBuilder getValueOrBuilder() {
+      return value_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.getDefaultInstance() : value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getBase());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getInstance());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(3, getValue());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getBase());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getInstance());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getValue());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult other = (org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult) obj;
+
+      if (hasBase() != other.hasBase()) return false;
+      if (hasBase()) {
+        if (!getBase()
+            .equals(other.getBase())) return false;
+      }
+      if (hasInstance() != other.hasInstance()) return false;
+      if (hasInstance()) {
+        if (!getInstance()
+            .equals(other.getInstance())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBase()) {
+        hash = (37 * hash) + BASE_FIELD_NUMBER;
+        hash = (53 * hash) + getBase().hashCode();
+      }
+      if (hasInstance()) {
+        hash = (37 * hash) + INSTANCE_FIELD_NUMBER;
+        hash = (53 * hash) + getInstance().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpResult)
+        org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.class, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBaseFieldBuilder();
+          getInstanceFieldBuilder();
+          getValueFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        instance_ = null;
+        if (instanceBuilder_ != null) {
+          instanceBuilder_.dispose();
+          instanceBuilder_ = null;
+        }
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpResult_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult build() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult buildPartial() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult result = new org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.base_ = baseBuilder_ == null
+              ? base_
+              : baseBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.instance_ = instanceBuilder_ == null
+              ? instance_
+              : instanceBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.value_ = valueBuilder_ == null
+              ? value_
+              : valueBuilder_.build();
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult) {
+          return mergeFrom((org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult other) {
+        if (other == org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult.getDefaultInstance()) return this;
+        if (other.hasBase()) {
+          mergeBase(other.getBase());
+        }
+        if (other.hasInstance()) {
+          mergeInstance(other.getInstance());
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getBaseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getInstanceFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getValueFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId base_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder> baseBuilder_;
+      /**
+       * <code>.ObjectId base = 1;</code>
+       * @return Whether the base field is set.
+       */
+      public boolean hasBase() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       * @return The base.
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getBase() {
+        if (baseBuilder_ == null) {
+          return base_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : base_;
+        } else {
+          return baseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       */
+      public Builder setBase(org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId value) {
+        if (baseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          base_ = value;
+        } else {
+          baseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       */
+      public Builder setBase(
+          org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder builderForValue) {
+        if (baseBuilder_ == null) {
+          base_ = builderForValue.build();
+        } else {
+          baseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       */
+      public Builder mergeBase(org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId value) {
+        if (baseBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            base_ != null &&
+            base_ != org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance()) {
+            getBaseBuilder().mergeFrom(value);
+          } else {
+            base_ = value;
+          }
+        } else {
+          baseBuilder_.mergeFrom(value);
+        }
+        if (base_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       */
+      public Builder clearBase() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder getBaseBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getBaseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder getBaseOrBuilder() {
+        if (baseBuilder_ != null) {
+          return baseBuilder_.getMessageOrBuilder();
+        } else {
+          return base_ == null ?
+              org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : base_;
+        }
+      }
+      /**
+       * <code>.ObjectId base = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder> 
+          getBaseFieldBuilder() {
+        if (baseBuilder_ == null) {
+          baseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder>(
+                  getBase(),
+                  getParentForChildren(),
+                  isClean());
+          base_ = null;
+        }
+        return baseBuilder_;
+      }
+
+      private org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId instance_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder> instanceBuilder_;
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       * @return Whether the instance field is set.
+       */
+      public boolean hasInstance() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       * @return The instance.
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId getInstance() {
+        if (instanceBuilder_ == null) {
+          return instance_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : instance_;
+        } else {
+          return instanceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       */
+      public Builder setInstance(org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId value) {
+        if (instanceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instance_ = value;
+        } else {
+          instanceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       */
+      public Builder setInstance(
+          org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder builderForValue) {
+        if (instanceBuilder_ == null) {
+          instance_ = builderForValue.build();
+        } else {
+          instanceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       */
+      public Builder mergeInstance(org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId value) {
+        if (instanceBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            instance_ != null &&
+            instance_ != org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance()) {
+            getInstanceBuilder().mergeFrom(value);
+          } else {
+            instance_ = value;
+          }
+        } else {
+          instanceBuilder_.mergeFrom(value);
+        }
+        if (instance_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       */
+      public Builder clearInstance() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        instance_ = null;
+        if (instanceBuilder_ != null) {
+          instanceBuilder_.dispose();
+          instanceBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder getInstanceBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInstanceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder getInstanceOrBuilder() {
+        if (instanceBuilder_ != null) {
+          return instanceBuilder_.getMessageOrBuilder();
+        } else {
+          return instance_ == null ?
+              org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.getDefaultInstance() : instance_;
+        }
+      }
+      /**
+       * <code>.ObjectId instance = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder> 
+          getInstanceFieldBuilder() {
+        if (instanceBuilder_ == null) {
+          instanceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectId.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.ObjectIdOrBuilder>(
+                  getInstance(),
+                  getParentForChildren(),
+                  isClean());
+          instance_ = null;
+        }
+        return instanceBuilder_;
+      }
+
+      private org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue value_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValueOrBuilder> valueBuilder_;
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       * @return The value.
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue getValue() {
+        if (valueBuilder_ == null) {
+          return value_ == null ? org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.getDefaultInstance() : value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       */
+      public Builder setValue(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       */
+      public Builder setValue(
+          org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       */
+      public Builder mergeValue(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue value) {
+        if (valueBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            value_ != null &&
+            value_ != org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.getDefaultInstance()) {
+            getValueBuilder().mergeFrom(value);
+          } else {
+            value_ = value;
+          }
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+        if (value_ != null) {
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.Builder getValueBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       */
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValueOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_ == null ?
+              org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.getDefaultInstance() : value_;
+        }
+      }
+      /**
+       * <code>.SnmpValue value = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValueOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.Builder, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValueOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpResult)
+    private static final org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult();
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpResult>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpResult>() {
+      @java.lang.Override
+      public SnmpResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpValueOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpValue)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 type = 1;</code>
+     * @return The type.
+     */
+    int getType();
+
+    /**
+     * <code>bytes bytes = 2;</code>
+     * @return The bytes.
+     */
+    com.google.protobuf.ByteString getBytes();
+  }
+  /**
+   * Protobuf type {@code SnmpValue}
+   */
+  public static final class SnmpValue extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpValue)
+      SnmpValueOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpValue.newBuilder() to construct.
+    private SnmpValue(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpValue() {
+      bytes_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpValue();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpValue_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpValue_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.class, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.Builder.class);
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private int type_ = 0;
+    /**
+     * <code>int32 type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public int getType() {
+      return type_;
+    }
+
+    public static final int BYTES_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString bytes_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes bytes = 2;</code>
+     * @return The bytes.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getBytes() {
+      return bytes_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (type_ != 0) {
+        output.writeInt32(1, type_);
+      }
+      if (!bytes_.isEmpty()) {
+        output.writeBytes(2, bytes_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (type_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, type_);
+      }
+      if (!bytes_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, bytes_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue other = (org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue) obj;
+
+      if (getType()
+          != other.getType()) return false;
+      if (!getBytes()
+          .equals(other.getBytes())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType();
+      hash = (37 * hash) + BYTES_FIELD_NUMBER;
+      hash = (53 * hash) + getBytes().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpValue}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpValue)
+        org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpValue_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpValue_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.class, org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = 0;
+        bytes_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.internal_static_SnmpValue_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue build() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue buildPartial() {
+        org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue result = new org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.bytes_ = bytes_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue) {
+          return mergeFrom((org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue other) {
+        if (other == org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue.getDefaultInstance()) return this;
+        if (other.getType() != 0) {
+          setType(other.getType());
+        }
+        if (other.getBytes() != com.google.protobuf.ByteString.EMPTY) {
+          setBytes(other.getBytes());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                type_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                bytes_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int type_ ;
+      /**
+       * <code>int32 type = 1;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public int getType() {
+        return type_;
+      }
+      /**
+       * <code>int32 type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(int value) {
+
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString bytes_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @return The bytes.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getBytes() {
+        return bytes_;
+      }
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @param value The bytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBytes(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        bytes_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBytes() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        bytes_ = getDefaultInstance().getBytes();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpValue)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpValue)
+    private static final org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue();
+    }
+
+    public static org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpValue>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpValue>() {
+      @java.lang.Override
+      public SnmpValue parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpValue> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpValue> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.TrapSinkProtos.SnmpValue getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TrapLog_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TrapLog_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Trap_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Trap_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TrapIdentity_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TrapIdentity_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ObjectId_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ObjectId_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpValue_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpValue_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\017trap-sink.proto\"Y\n\007TrapLog\022\021\n\tsystem_i" +
+      "d\030\001 \001(\t\022\020\n\010location\030\002 \001(\t\022\024\n\014trap_addres" +
+      "s\030\003 \001(\014\022\023\n\004trap\030\004 \003(\0132\005.Trap\"\377\001\n\004Trap\022\025\n" +
+      "\ragent_address\030\001 \001(\014\022\026\n\tcommunity\030\002 \001(\tH" +
+      "\000\210\001\001\022\017\n\007version\030\003 \001(\t\022\021\n\ttimestamp\030\004 \001(\003" +
+      "\022\022\n\npdu_length\030\005 \001(\005\022\025\n\rcreation_time\030\006 " +
+      "\001(\003\022\030\n\013raw_message\030\007 \001(\014H\001\210\001\001\022$\n\rtrap_id" +
+      "entity\030\010 \001(\0132\r.TrapIdentity\022\033\n\006result\030\t " +
+      "\003(\0132\013.SnmpResultB\014\n\n_communityB\016\n\014_raw_m" +
+      "essage\"\203\001\n\014TrapIdentity\022\017\n\007generic\030\001 \001(\005" +
+      "\022\020\n\010specific\030\002 \001(\005\022\032\n\renterprise_id\030\003 \001(" +
+      "\tH\000\210\001\001\022\025\n\010trap_oid\030\004 \001(\tH\001\210\001\001B\020\n\016_enterp" +
+      "rise_idB\013\n\t_trap_oid\"\026\n\010ObjectId\022\n\n\002id\030\001" +
+      " \003(\r\"]\n\nSnmpResult\022\027\n\004base\030\001 \001(\0132\t.Objec" +
+      "tId\022\033\n\010instance\030\002 \001(\0132\t.ObjectId\022\031\n\005valu" +
+      "e\030\003 \001(\0132\n.SnmpValue\"(\n\tSnmpValue\022\014\n\004type" +
+      "\030\001 \001(\005\022\r\n\005bytes\030\002 \001(\014B*\n\030org.opennms.net" +
+      "mgt.trapdB\016TrapSinkProtosb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_TrapLog_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_TrapLog_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TrapLog_descriptor,
+        new java.lang.String[] { "SystemId", "Location", "TrapAddress", "Trap", });
+    internal_static_Trap_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Trap_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Trap_descriptor,
+        new java.lang.String[] { "AgentAddress", "Community", "Version", "Timestamp", "PduLength", "CreationTime", "RawMessage", "TrapIdentity", "Result", "Community", "RawMessage", });
+    internal_static_TrapIdentity_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_TrapIdentity_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TrapIdentity_descriptor,
+        new java.lang.String[] { "Generic", "Specific", "EnterpriseId", "TrapOid", "EnterpriseId", "TrapOid", });
+    internal_static_ObjectId_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_ObjectId_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ObjectId_descriptor,
+        new java.lang.String[] { "Id", });
+    internal_static_SnmpResult_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_SnmpResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpResult_descriptor,
+        new java.lang.String[] { "Base", "Instance", "Value", });
+    internal_static_SnmpValue_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_SnmpValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpValue_descriptor,
+        new java.lang.String[] { "Type", "Bytes", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
+import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.VariableBinding;
+
+public class TrapLogProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlSinkModule.CODEC_PROPERTY_PREFIX + "Trap";
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripTrapLogs() throws Exception {
+        final TrapLogDTO log = createTrapLog();
+
+        final TrapSinkModule xmlModule = createModule(AbstractXmlSinkModule.CODEC_XML);
+        final TrapSinkModule protobufModule = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+
+        final byte[] xml = xmlModule.marshal(log);
+        final byte[] protobuf = protobufModule.marshal(log);
+        assertEquals('<', xml[0]);
+        assertEquals(0, protobuf[0]);
+        assertTrue("binary encoding should be smaller", protobuf.length * 2 < xml.length);
+
+        assertEquals(log, protobufModule.unmarshal(protobuf));
+
+        // Consumers read both formats, whatever they are configured to send
+        assertEquals(protobufModule.unmarshal(xml), xmlModule.unmarshal(protobuf));
+    }
+
+    @Test
+    public void canRoundTripSingleMessages() throws Exception {
+        final TrapSinkModule module = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final TrapLogDTO log = createTrapLog();
+
+        final TrapInformationWrapper wrapper = new TrapInformationWrapper(log.getMessages().get(0));
+        wrapper.setTrapAddress(log.getTrapAddress());
+
+        final byte[] bytes = module.marshalSingleMessage(wrapper);
+        assertEquals(0, bytes[0]);
+        final TrapInformationWrapper result = module.unmarshalSingleMessage(bytes);
+        assertEquals(log.getMessages().get(0), result.getTrapDTO());
+        assertEquals(log.getTrapAddress(), result.getTrapAddress());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownVersions() throws Exception {
+        final TrapSinkModule module = createModule(AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] bytes = module.marshal(createTrapLog());
+        bytes[1]++;
+        module.unmarshal(bytes);
+    }
+
+    private static TrapSinkModule createModule(String codec) {
+        System.setProperty(CODEC_PROPERTY, codec);
+        final TrapdConfigBean config = new TrapdConfigBean();
+        final TrapSinkModule module = new TrapSinkModule(config, Mockito.mock(OnmsDistPoller.class));
+        // The codec is resolved lazily, so force it while the property is set
+        module.marshal(new TrapLogDTO("id", "location", InetAddressUtils.ONE_TWENTY_SEVEN));
+        return module;
+    }
+
+    static TrapLogDTO createTrapLog() throws Exception {
+        final PDU v2Pdu = new PDU();
+        v2Pdu.setType(PDU.TRAP);
+        v2Pdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(5000)));
+        v2Pdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, new OID(".1.3.6.1.4.1.5813.1.99")));
+        v2Pdu.add(new VariableBinding(SnmpConstants.snmpTrapAddress, new IpAddress("10.1.2.3")));
+        v2Pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.2.2.1.1.7"), new Integer32(7)));
+        v2Pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.2.2.1.2.7"), new OctetString("GigabitEthernet0/7")));
+        v2Pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.31.1.1.1.6.7"), new Counter64(1234567890123L)));
+        v2Pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.1.5.0"), new Null(128)));
+        final TrapDTO v2Trap = new TrapDTO(new Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation(InetAddressUtils.ONE_TWENTY_SEVEN, "public", v2Pdu));
+        v2Trap.setRawMessage(new byte[] { 0x30, 0x26, 0x02, 0x01, 0x01 });
+
+        final PDUv1 v1Pdu = new PDUv1();
+        v1Pdu.setType(PDU.V1TRAP);
+        v1Pdu.setEnterprise(new OID(".1.3.6.1.4.1.9.9.41.2"));
+        v1Pdu.setGenericTrap(6);
+        v1Pdu.setSpecificTrap(1);
+        v1Pdu.setTimestamp(4200);
+        v1Pdu.add(new VariableBinding(new OID(".1.3.6.1.4.1.9.9.41.1.2.3.1.5.12"), new OctetString("Interface down")));
+        final TrapDTO v1Trap = new TrapDTO(new Snmp4JTrapNotifier.Snmp4JV1TrapInformation(InetAddress.getByName("192.168.0.1"), "private", v1Pdu));
+
+        final TrapLogDTO log = new TrapLogDTO("00000000-0000-0000-0000-000000000000", "Default", InetAddressUtils.ONE_TWENTY_SEVEN);
+        log.addMessage(v2Trap);
+        log.addMessage(v1Trap);
+        assertNotEquals(0, v2Trap.getResults().size());
+        return log;
+    }
+}
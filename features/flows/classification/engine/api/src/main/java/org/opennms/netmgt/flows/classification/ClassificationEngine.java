@@ -23,6 +23,7 @@ package org.opennms.netmgt.flows.classification;
 
 import java.util.List;
 
+import org.opennms.netmgt.flows.classification.persistence.api.Protocols;
 import org.opennms.netmgt.flows.classification.persistence.api.Rule;
 
 public interface ClassificationEngine {
@@ -32,6 +33,32 @@ public interface ClassificationEngine {
 
     String classify(ClassificationRequest classificationRequest);
 
+    /**
+     * Classifies a flow given by its raw fields.
+     * <p>
+     * Engines may override this method in order to classify flows without creating an intermediate
+     * {@link ClassificationRequest} for each flow.
+     *
+     * @return Returns <code>null</code> if the flow does not match a rule or can not be classified
+     */
+    default String classify(final String location, final int protocol,
+                            final int srcPort, final String srcAddress,
+                            final int dstPort, final String dstAddress,
+                            final String exporterAddress) {
+        final ClassificationRequest classificationRequest = new ClassificationRequest();
+        classificationRequest.setLocation(location);
+        classificationRequest.setProtocol(Protocols.getProtocol(protocol));
+        classificationRequest.setSrcPort(srcPort);
+        classificationRequest.setSrcAddress(srcAddress);
+        classificationRequest.setDstPort(dstPort);
+        classificationRequest.setDstAddress(dstAddress);
+        classificationRequest.setExporterAddress(exporterAddress);
+        if (!classificationRequest.isClassifiable()) {
+            return null;
+        }
+        return classify(classificationRequest);
+    }
+
     List<Rule> getInvalidRules();
 
     void reload() throws InterruptedException;
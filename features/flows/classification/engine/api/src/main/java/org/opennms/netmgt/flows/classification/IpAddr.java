@@ -69,6 +69,10 @@ public abstract class IpAddr implements Comparable<IpAddr> {
             this.value = value;
         }
 
+        public int getValue() {
+            return value;
+        }
+
         @Override
         public int compareTo(IpAddr other) {
             if (other instanceof Ip6Addr) {
@@ -117,6 +121,14 @@ public abstract class IpAddr implements Comparable<IpAddr> {
             this.low = low;
         }
 
+        public long getHigh() {
+            return high;
+        }
+
+        public long getLow() {
+            return low;
+        }
+
         @Override
         public int compareTo(IpAddr other) {
             if (other instanceof Ip4Addr) {
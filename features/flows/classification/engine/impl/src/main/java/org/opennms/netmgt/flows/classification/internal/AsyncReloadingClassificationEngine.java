@@ -123,6 +123,15 @@ public class AsyncReloadingClassificationEngine implements ClassificationEngine
         return delegate.classify(classificationRequest);
     }
 
+    @Override
+    public synchronized String classify(final String location, final int protocol,
+                                        final int srcPort, final String srcAddress,
+                                        final int dstPort, final String dstAddress,
+                                        final String exporterAddress) {
+        waitUntilReadyOrFailed();
+        return delegate.classify(location, protocol, srcPort, srcAddress, dstPort, dstAddress, exporterAddress);
+    }
+
     @Override
     public synchronized List<Rule> getInvalidRules() {
         waitUntilReadyOrFailed();
@@ -0,0 +1,55 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal;
+
+import org.opennms.netmgt.flows.classification.ClassificationEngine;
+import org.opennms.netmgt.flows.classification.ClassificationRuleProvider;
+import org.opennms.netmgt.flows.classification.FilterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory to create a {@link ClassificationEngine} from a string.
+ * Allows to select the engine implementation in blueprint.xml files.
+ */
+public class ClassificationEngineFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassificationEngineFactory.class);
+
+    public static final String DECISION_TREE = "decision-tree";
+
+    public static final String COMPILED = "compiled";
+
+    public static ClassificationEngine createClassificationEngine(final String type,
+                                                                  final ClassificationRuleProvider ruleProvider,
+                                                                  final FilterService filterService,
+                                                                  final boolean initialize) throws InterruptedException {
+        if (COMPILED.equalsIgnoreCase(type)) {
+            LOG.debug("Using compiled classification engine");
+            return new CompiledClassificationEngine(ruleProvider, filterService, initialize);
+        }
+        if (!DECISION_TREE.equalsIgnoreCase(type)) {
+            LOG.warn("No classification engine found for type {}, falling back to {}", type, DECISION_TREE);
+        }
+        return new DefaultClassificationEngine(ruleProvider, filterService, initialize);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opennms.netmgt.flows.classification.ClassificationEngine;
+import org.opennms.netmgt.flows.classification.ClassificationRequest;
+import org.opennms.netmgt.flows.classification.ClassificationRuleProvider;
+import org.opennms.netmgt.flows.classification.FilterService;
+import org.opennms.netmgt.flows.classification.internal.compiled.CompiledRuleSet;
+import org.opennms.netmgt.flows.classification.internal.decision.PreprocessedRule;
+import org.opennms.netmgt.flows.classification.persistence.api.Rule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A classification engine that compiles the rules into a {@link CompiledRuleSet}.
+ * <p>
+ * In contrast to the {@link DefaultClassificationEngine} this engine classifies flows without creating any objects
+ * per flow when used with {@link #classify(String, int, int, String, int, String, String)}. It yields the same
+ * results as the decision tree based engine.
+ * <p>
+ * The implementation is thread-safe.
+ */
+public class CompiledClassificationEngine implements ClassificationEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledClassificationEngine.class);
+
+    private final List<ClassificationRulesReloadedListener> classificationRulesReloadedListeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicReference<RuleSetAndInvalidRules> ruleSetAndInvalidRules = new AtomicReference<>(new RuleSetAndInvalidRules(CompiledRuleSet.EMPTY, Collections.emptyList()));
+
+    private final ClassificationRuleProvider ruleProvider;
+    private final FilterService filterService;
+
+    public CompiledClassificationEngine(final ClassificationRuleProvider ruleProvider, final FilterService filterService) throws InterruptedException {
+        this(ruleProvider, filterService, true);
+    }
+
+    public CompiledClassificationEngine(final ClassificationRuleProvider ruleProvider, final FilterService filterService, final boolean initialize) throws InterruptedException {
+        this.ruleProvider = Objects.requireNonNull(ruleProvider);
+        this.filterService = Objects.requireNonNull(filterService);
+        if (initialize) {
+            this.reload();
+        }
+    }
+
+    @Override
+    public void reload() throws InterruptedException {
+        final var start = System.currentTimeMillis();
+        final var invalid = new ArrayList<Rule>();
+
+        // Load all rules and validate them
+        final List<PreprocessedRule> preprocessedRules = Lists.newArrayList();
+        final var rules = ruleProvider.getRules();
+        rules.forEach(rule -> {
+            try {
+                final var preprocessedRule = PreprocessedRule.of(rule);
+                preprocessedRules.add(preprocessedRule);
+                if (rule.canBeReversed()) {
+                    preprocessedRules.add(preprocessedRule.reverse());
+                }
+            } catch (Exception ex) {
+                LOG.error("Rule {} is not valid. Ignoring rule.", rule, ex);
+                invalid.add(rule);
+            }
+        });
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        final var ruleSet = CompiledRuleSet.of(preprocessedRules, filterService);
+
+        LOG.info("compiled flow classification rules - time (ms): {}; rules: {} (including reversed rules: {}); intervals: {}",
+                 System.currentTimeMillis() - start, rules.size(), ruleSet.size(), ruleSet.intervals());
+
+        ruleSetAndInvalidRules.set(new RuleSetAndInvalidRules(ruleSet, invalid));
+
+        fireClassificationReloadedListeners(Collections.unmodifiableList(rules));
+    }
+
+    private void fireClassificationReloadedListeners(final List<Rule> rules) {
+        for (final ClassificationRulesReloadedListener classificationRulesReloadedListener : this.classificationRulesReloadedListeners) {
+            classificationRulesReloadedListener.classificationRulesReloaded(rules);
+        }
+    }
+
+    @Override
+    public List<Rule> getInvalidRules() {
+        return Collections.unmodifiableList(ruleSetAndInvalidRules.get().invalidRules);
+    }
+
+    @Override
+    public String classify(final ClassificationRequest classificationRequest) {
+        return ruleSetAndInvalidRules.get().ruleSet.classify(classificationRequest);
+    }
+
+    @Override
+    public String classify(final String location, final int protocol,
+                           final int srcPort, final String srcAddress,
+                           final int dstPort, final String dstAddress,
+                           final String exporterAddress) {
+        return ruleSetAndInvalidRules.get().ruleSet.classify(protocol, srcPort, srcAddress, dstPort, dstAddress, exporterAddress);
+    }
+
+    @Override
+    public void addClassificationRulesReloadedListener(final ClassificationRulesReloadedListener classificationRulesReloadedListener) {
+        this.classificationRulesReloadedListeners.add(classificationRulesReloadedListener);
+    }
+
+    @Override
+    public void removeClassificationRulesReloadedListener(final ClassificationRulesReloadedListener classificationRulesReloadedListener) {
+        this.classificationRulesReloadedListeners.remove(classificationRulesReloadedListener);
+    }
+
+    private static class RuleSetAndInvalidRules {
+        private final CompiledRuleSet ruleSet;
+        private final List<Rule> invalidRules;
+
+        private RuleSetAndInvalidRules(final CompiledRuleSet ruleSet, final List<Rule> invalidRules) {
+            this.ruleSet = ruleSet;
+            this.invalidRules = invalidRules;
+        }
+    }
+}
@@ -52,6 +52,16 @@ public class TimingClassificationEngine implements ClassificationEngine {
         }
     }
 
+    @Override
+    public String classify(final String location, final int protocol,
+                           final int srcPort, final String srcAddress,
+                           final int dstPort, final String dstAddress,
+                           final String exporterAddress) {
+        try (final Timer.Context ctx = classifyTimer.time()) {
+            return delegate.classify(location, protocol, srcPort, srcAddress, dstPort, dstAddress, exporterAddress);
+        }
+    }
+
     @Override
     public void reload() throws InterruptedException {
         try (final Timer.Context ctx = reloadTimer.time()) {
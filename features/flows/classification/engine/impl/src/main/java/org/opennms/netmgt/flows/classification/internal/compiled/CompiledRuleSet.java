@@ -0,0 +1,437 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal.compiled;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.opennms.core.network.IPPortRange;
+import org.opennms.netmgt.flows.classification.ClassificationRequest;
+import org.opennms.netmgt.flows.classification.FilterService;
+import org.opennms.netmgt.flows.classification.IpAddr;
+import org.opennms.netmgt.flows.classification.internal.decision.PreprocessedRule;
+import org.opennms.netmgt.flows.classification.internal.value.IpRange;
+import org.opennms.netmgt.flows.classification.internal.value.IpValue;
+
+import com.google.common.primitives.Ints;
+
+/**
+ * A rule set that is compiled into flat primitive arrays for fast classification.
+ * <p>
+ * Rules are sorted by their priority and identified by their index in that order. For each aspect of a flow
+ * (protocol, source and destination port, source and destination address) an index maps the flow's value to the
+ * sorted indices of all rules that match that value. Rules that do not constrain an aspect are kept in a separate
+ * "wildcard" list per aspect. Classification intersects these sorted lists in a leapfrog manner: the first index
+ * that is contained in the lists of all aspects is the matching rule with the highest priority.
+ * <p>
+ * Classification does not allocate any objects if the addresses are given as IPv4 strings or {@link IpAddr}s.
+ * <p>
+ * The implementation is immutable and therefore thread-safe.
+ */
+public class CompiledRuleSet {
+
+    public static final CompiledRuleSet EMPTY = CompiledRuleSet.of(Collections.emptyList(), FilterService.NOOP);
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private static final int ASPECTS = 5;
+
+    private static final int PROTOCOLS = 256;
+
+    /**
+     * Compiles the given rules.
+     */
+    public static CompiledRuleSet of(final List<PreprocessedRule> rules, final FilterService filterService) {
+        // sort the rules by their priority - the sort is stable and keeps reversed rules next to their origin
+        final List<PreprocessedRule> sorted = new ArrayList<>(rules);
+        sorted.sort(Comparator.<PreprocessedRule>comparingInt(r -> r.ruleDefinition.getGroupPosition())
+                              .thenComparingInt(r -> r.ruleDefinition.getPosition()));
+
+        final int size = sorted.size();
+        final String[] names = new String[size];
+        final String[] exporterFilters = new String[size];
+        final int[] groupPositions = new int[size];
+        final int[] positions = new int[size];
+        final int[] matchedAspects = new int[size];
+
+        final List<List<Integer>> protocols = new ArrayList<>(PROTOCOLS);
+        for (int p = 0; p < PROTOCOLS; p++) {
+            protocols.add(new ArrayList<>());
+        }
+
+        final List<Integer> protocolWildcards = new ArrayList<>();
+        final List<Integer> srcPortWildcards = new ArrayList<>();
+        final List<Integer> dstPortWildcards = new ArrayList<>();
+        final List<Integer> srcAddressWildcards = new ArrayList<>();
+        final List<Integer> dstAddressWildcards = new ArrayList<>();
+
+        final RangeIndex.Builder srcPorts = new RangeIndex.Builder();
+        final RangeIndex.Builder dstPorts = new RangeIndex.Builder();
+        final AddressIndex.Builder srcAddresses = new AddressIndex.Builder();
+        final AddressIndex.Builder dstAddresses = new AddressIndex.Builder();
+
+        for (int i = 0; i < size; i++) {
+            final PreprocessedRule rule = sorted.get(i);
+
+            names[i] = rule.ruleDefinition.getName();
+            exporterFilters[i] = rule.ruleDefinition.hasExportFilterDefinition() ? rule.ruleDefinition.getExporterFilter() : null;
+            groupPositions[i] = rule.ruleDefinition.getGroupPosition();
+            positions[i] = rule.ruleDefinition.getPosition();
+
+            if (rule.protocol != null) {
+                matchedAspects[i]++;
+                for (final Integer protocol : rule.protocol.getProtocols()) {
+                    if (protocol >= 0 && protocol < PROTOCOLS) {
+                        protocols.get(protocol).add(i);
+                    }
+                }
+            } else {
+                protocolWildcards.add(i);
+            }
+
+            if (rule.srcPort != null) {
+                matchedAspects[i]++;
+                for (final IPPortRange range : rule.srcPort.getPortRanges()) {
+                    srcPorts.withRange(i, range.getBegin(), range.getEnd());
+                }
+            } else {
+                srcPortWildcards.add(i);
+            }
+
+            if (rule.dstPort != null) {
+                matchedAspects[i]++;
+                for (final IPPortRange range : rule.dstPort.getPortRanges()) {
+                    dstPorts.withRange(i, range.getBegin(), range.getEnd());
+                }
+            } else {
+                dstPortWildcards.add(i);
+            }
+
+            if (rule.srcAddr != null) {
+                matchedAspects[i]++;
+                srcAddresses.withValue(i, rule.srcAddr);
+            } else {
+                srcAddressWildcards.add(i);
+            }
+
+            if (rule.dstAddr != null) {
+                matchedAspects[i]++;
+                dstAddresses.withValue(i, rule.dstAddr);
+            } else {
+                dstAddressWildcards.add(i);
+            }
+        }
+
+        final int[][] protocolPostings = new int[PROTOCOLS][];
+        for (int p = 0; p < PROTOCOLS; p++) {
+            protocolPostings[p] = toArray(protocols.get(p));
+        }
+
+        return new CompiledRuleSet(filterService,
+                                   names, exporterFilters, groupPositions, positions, matchedAspects,
+                                   protocolPostings, toArray(protocolWildcards),
+                                   srcPorts.build(), toArray(srcPortWildcards),
+                                   dstPorts.build(), toArray(dstPortWildcards),
+                                   srcAddresses.build(), toArray(srcAddressWildcards),
+                                   dstAddresses.build(), toArray(dstAddressWildcards));
+    }
+
+    private static int[] toArray(final List<Integer> list) {
+        return list.isEmpty() ? RangeIndex.EMPTY : Ints.toArray(list);
+    }
+
+    private final FilterService filterService;
+
+    // rule properties indexed by the rule index
+    private final String[] names;
+    private final String[] exporterFilters;
+    private final int[] groupPositions;
+    private final int[] positions;
+    private final int[] matchedAspects;
+
+    // aspect indices
+    private final int[][] protocols;
+    private final int[] protocolWildcards;
+    private final RangeIndex srcPorts;
+    private final int[] srcPortWildcards;
+    private final RangeIndex dstPorts;
+    private final int[] dstPortWildcards;
+    private final AddressIndex srcAddresses;
+    private final int[] srcAddressWildcards;
+    private final AddressIndex dstAddresses;
+    private final int[] dstAddressWildcards;
+
+    private CompiledRuleSet(final FilterService filterService,
+                            final String[] names, final String[] exporterFilters, final int[] groupPositions, final int[] positions, final int[] matchedAspects,
+                            final int[][] protocols, final int[] protocolWildcards,
+                            final RangeIndex srcPorts, final int[] srcPortWildcards,
+                            final RangeIndex dstPorts, final int[] dstPortWildcards,
+                            final AddressIndex srcAddresses, final int[] srcAddressWildcards,
+                            final AddressIndex dstAddresses, final int[] dstAddressWildcards) {
+        this.filterService = Objects.requireNonNull(filterService);
+        this.names = names;
+        this.exporterFilters = exporterFilters;
+        this.groupPositions = groupPositions;
+        this.positions = positions;
+        this.matchedAspects = matchedAspects;
+        this.protocols = protocols;
+        this.protocolWildcards = protocolWildcards;
+        this.srcPorts = srcPorts;
+        this.srcPortWildcards = srcPortWildcards;
+        this.dstPorts = dstPorts;
+        this.dstPortWildcards = dstPortWildcards;
+        this.srcAddresses = srcAddresses;
+        this.srcAddressWildcards = srcAddressWildcards;
+        this.dstAddresses = dstAddresses;
+        this.dstAddressWildcards = dstAddressWildcards;
+    }
+
+    /**
+     * @return the number of compiled rules (including reversed rules)
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * @return the number of elementary intervals of all port and address indices
+     */
+    public int intervals() {
+        return this.srcPorts.intervals() + this.dstPorts.intervals() + this.srcAddresses.intervals() + this.dstAddresses.intervals();
+    }
+
+    /**
+     * @return Returns <code>null</code> if the request does not match a rule
+     */
+    public String classify(final ClassificationRequest request) {
+        final var protocol = request.getProtocol();
+        final var srcPort = request.getSrcPort();
+        final var dstPort = request.getDstPort();
+        return this.classify(protocol != null ? this.protocolPostings(protocol.getDecimal()) : RangeIndex.EMPTY,
+                             srcPort != null ? this.srcPorts.postings(0L, srcPort) : RangeIndex.EMPTY,
+                             dstPort != null ? this.dstPorts.postings(0L, dstPort) : RangeIndex.EMPTY,
+                             this.srcAddresses.postings(request.getSrcAddress()),
+                             this.dstAddresses.postings(request.getDstAddress()),
+                             request.getExporterAddress());
+    }
+
+    /**
+     * @return Returns <code>null</code> if the flow does not match a rule
+     */
+    public String classify(final int protocol,
+                           final int srcPort, final String srcAddress,
+                           final int dstPort, final String dstAddress,
+                           final String exporterAddress) {
+        return this.classify(this.protocolPostings(protocol),
+                             this.srcPorts.postings(0L, srcPort),
+                             this.dstPorts.postings(0L, dstPort),
+                             this.srcAddresses.postings(srcAddress),
+                             this.dstAddresses.postings(dstAddress),
+                             exporterAddress);
+    }
+
+    private int[] protocolPostings(final int protocol) {
+        return protocol >= 0 && protocol < PROTOCOLS ? this.protocols[protocol] : RangeIndex.EMPTY;
+    }
+
+    private String classify(final int[] protocols,
+                            final int[] srcPorts,
+                            final int[] dstPorts,
+                            final int[] srcAddresses,
+                            final int[] dstAddresses,
+                            final String exporterAddress) {
+        // rules with the same priority are tried in order and the rule that matches the most aspects wins
+        int result = -1;
+        int candidate = this.nextMatch(protocols, srcPorts, dstPorts, srcAddresses, dstAddresses, 0);
+        while (candidate != NONE) {
+            if (result != -1 && (this.groupPositions[result] != this.groupPositions[candidate] || this.positions[result] != this.positions[candidate])) {
+                // all following rules have a lower priority
+                break;
+            }
+
+            if (this.exporterFilters[candidate] == null || this.filterService.matches(exporterAddress, this.exporterFilters[candidate])) {
+                if (result == -1 || this.matchedAspects[candidate] > this.matchedAspects[result]) {
+                    result = candidate;
+                }
+            }
+
+            candidate = this.nextMatch(protocols, srcPorts, dstPorts, srcAddresses, dstAddresses, candidate + 1);
+        }
+
+        return result != -1 ? this.names[result] : null;
+    }
+
+    /**
+     * Finds the smallest rule index starting at the given index that matches all aspects.
+     */
+    private int nextMatch(final int[] protocols,
+                          final int[] srcPorts,
+                          final int[] dstPorts,
+                          final int[] srcAddresses,
+                          final int[] dstAddresses,
+                          final int from) {
+        int candidate = from;
+        int agreed = 0;
+        int aspect = 0;
+        while (agreed < ASPECTS) {
+            final int next;
+            switch (aspect) {
+                case 0: next = next(protocols, this.protocolWildcards, candidate); break;
+                case 1: next = next(srcPorts, this.srcPortWildcards, candidate); break;
+                case 2: next = next(dstPorts, this.dstPortWildcards, candidate); break;
+                case 3: next = next(srcAddresses, this.srcAddressWildcards, candidate); break;
+                default: next = next(dstAddresses, this.dstAddressWildcards, candidate); break;
+            }
+
+            if (next == NONE) {
+                return NONE;
+            }
+
+            if (next == candidate) {
+                agreed++;
+            } else {
+                // the aspect skipped ahead - all other aspects must confirm the new candidate
+                candidate = next;
+                agreed = 1;
+            }
+
+            aspect = aspect == ASPECTS - 1 ? 0 : aspect + 1;
+        }
+        return candidate;
+    }
+
+    private static int next(final int[] postings, final int[] wildcards, final int from) {
+        return Math.min(lowerBound(postings, from), lowerBound(wildcards, from));
+    }
+
+    /**
+     * @return the smallest element of the given sorted array that is greater than or equal to the given value
+     */
+    private static int lowerBound(final int[] sorted, final int value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo < sorted.length ? sorted[lo] : NONE;
+    }
+
+    /**
+     * Indexes IPv4 and IPv6 address ranges separately.
+     */
+    private static class AddressIndex {
+        private final RangeIndex ip4;
+        private final RangeIndex ip6;
+
+        private AddressIndex(final RangeIndex ip4, final RangeIndex ip6) {
+            this.ip4 = ip4;
+            this.ip6 = ip6;
+        }
+
+        private int intervals() {
+            return this.ip4.intervals() + this.ip6.intervals();
+        }
+
+        private int[] postings(final IpAddr address) {
+            if (address == null) {
+                return RangeIndex.EMPTY;
+            }
+            if (address instanceof IpAddr.Ip4Addr) {
+                return this.ip4.postings(0L, Integer.toUnsignedLong(((IpAddr.Ip4Addr) address).getValue()));
+            }
+            final IpAddr.Ip6Addr ip6Addr = (IpAddr.Ip6Addr) address;
+            return this.ip6.postings(ip6Addr.getHigh(), ip6Addr.getLow());
+        }
+
+        private int[] postings(final String address) {
+            if (address == null) {
+                return RangeIndex.EMPTY;
+            }
+            // avoid the allocations of address parsing for the common case of dotted IPv4 addresses
+            final long ip4 = parseIp4(address);
+            if (ip4 >= 0) {
+                return this.ip4.postings(0L, ip4);
+            }
+            return this.postings(IpAddr.of(address));
+        }
+
+        /**
+         * @return the address as unsigned value or -1 if the given string is not a dotted IPv4 address
+         */
+        private static long parseIp4(final String address) {
+            long result = 0;
+            int octets = 0;
+            int octet = -1;
+            for (int i = 0; i < address.length(); i++) {
+                final char c = address.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    octet = octet == -1 ? c - '0' : octet * 10 + (c - '0');
+                    if (octet > 255) {
+                        return -1;
+                    }
+                } else if (c == '.' && octet != -1 && octets < 3) {
+                    result = (result << 8) | octet;
+                    octets++;
+                    octet = -1;
+                } else {
+                    return -1;
+                }
+            }
+            if (octet == -1 || octets != 3) {
+                return -1;
+            }
+            return (result << 8) | octet;
+        }
+
+        private static class Builder {
+            private final RangeIndex.Builder ip4 = new RangeIndex.Builder();
+            private final RangeIndex.Builder ip6 = new RangeIndex.Builder();
+
+            private Builder withValue(final int rule, final IpValue value) {
+                for (final IpRange range : value.getIpAddressRanges()) {
+                    if (range.begin instanceof IpAddr.Ip4Addr) {
+                        this.ip4.withRange(rule,
+                                           Integer.toUnsignedLong(((IpAddr.Ip4Addr) range.begin).getValue()),
+                                           Integer.toUnsignedLong(((IpAddr.Ip4Addr) range.end).getValue()));
+                    } else {
+                        final IpAddr.Ip6Addr begin = (IpAddr.Ip6Addr) range.begin;
+                        final IpAddr.Ip6Addr end = (IpAddr.Ip6Addr) range.end;
+                        this.ip6.withRange(rule, begin.getHigh(), begin.getLow(), end.getHigh(), end.getLow());
+                    }
+                }
+                return this;
+            }
+
+            private AddressIndex build() {
+                return new AddressIndex(this.ip4.build(), this.ip6.build());
+            }
+        }
+    }
+}
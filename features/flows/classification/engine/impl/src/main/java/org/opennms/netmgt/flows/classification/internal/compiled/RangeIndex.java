@@ -0,0 +1,190 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal.compiled;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.primitives.Ints;
+
+/**
+ * Maps values to the rules that contain these values.
+ * <p>
+ * Values are unsigned 128 bit numbers represented by a high and a low part. Ports and IPv4 addresses just use the
+ * low part. The value space is split into elementary intervals at the boundaries of all the ranges of all rules.
+ * Each elementary interval stores the sorted indices of the rules whose ranges cover that interval. Intervals covered
+ * by the same rules share a single array. Looking up the rules for a value is a binary search for the interval that
+ * contains the value.
+ */
+final class RangeIndex {
+
+    static final int[] EMPTY = new int[0];
+
+    // the start of the elementary intervals; the first interval always starts at zero
+    private final long[] startsHigh;
+    private final long[] startsLow;
+
+    // the rule indices for each elementary interval
+    private final int[][] postings;
+
+    private RangeIndex(final long[] startsHigh, final long[] startsLow, final int[][] postings) {
+        this.startsHigh = startsHigh;
+        this.startsLow = startsLow;
+        this.postings = postings;
+    }
+
+    /**
+     * @return the sorted indices of all rules that contain the given value
+     */
+    int[] postings(final long high, final long low) {
+        return this.postings[interval(high, low)];
+    }
+
+    int intervals() {
+        return this.postings.length;
+    }
+
+    /**
+     * @return the index of the last interval that starts at or before the given value
+     */
+    private int interval(final long high, final long low) {
+        int lo = 0;
+        int hi = this.startsLow.length - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi + 1) >>> 1;
+            if (compare(this.startsHigh[mid], this.startsLow[mid], high, low) <= 0) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private static int compare(final long h1, final long l1, final long h2, final long l2) {
+        return h1 != h2 ? Long.compareUnsigned(h1, h2) : Long.compareUnsigned(l1, l2);
+    }
+
+    static class Builder {
+        private final List<long[]> ranges = new ArrayList<>();
+        private final List<Integer> rules = new ArrayList<>();
+
+        /**
+         * Adds the (inclusive) range of a rule.
+         * <p>
+         * Rules must be added in ascending order of their indices.
+         */
+        Builder withRange(final int rule, final long beginHigh, final long beginLow, final long endHigh, final long endLow) {
+            this.ranges.add(new long[] { beginHigh, beginLow, endHigh, endLow });
+            this.rules.add(rule);
+            return this;
+        }
+
+        Builder withRange(final int rule, final long begin, final long end) {
+            return this.withRange(rule, 0L, begin, 0L, end);
+        }
+
+        RangeIndex build() {
+            // collect the boundaries of all elementary intervals
+            final List<long[]> boundaries = new ArrayList<>(this.ranges.size() * 2 + 1);
+            boundaries.add(new long[] { 0L, 0L });
+            for (final long[] range : this.ranges) {
+                boundaries.add(new long[] { range[0], range[1] });
+                // the interval following the range starts after its end - unless the end is the maximum value
+                if (range[2] != -1L || range[3] != -1L) {
+                    final long low = range[3] + 1;
+                    final long high = low == 0 ? range[2] + 1 : range[2];
+                    boundaries.add(new long[] { high, low });
+                }
+            }
+            boundaries.sort((b1, b2) -> compare(b1[0], b1[1], b2[0], b2[1]));
+
+            final List<long[]> distinct = new ArrayList<>(boundaries.size());
+            for (final long[] boundary : boundaries) {
+                if (distinct.isEmpty() || compare(distinct.get(distinct.size() - 1)[0], distinct.get(distinct.size() - 1)[1], boundary[0], boundary[1]) != 0) {
+                    distinct.add(boundary);
+                }
+            }
+
+            final long[] startsHigh = new long[distinct.size()];
+            final long[] startsLow = new long[distinct.size()];
+            for (int i = 0; i < distinct.size(); i++) {
+                startsHigh[i] = distinct.get(i)[0];
+                startsLow[i] = distinct.get(i)[1];
+            }
+            final RangeIndex lookup = new RangeIndex(startsHigh, startsLow, null);
+
+            // a rule enters the index at the first interval covered by a range and leaves it after the last one
+            final List<int[]> deltas = new ArrayList<>(this.ranges.size() * 2);
+            for (int r = 0; r < this.ranges.size(); r++) {
+                final long[] range = this.ranges.get(r);
+                final int rule = this.rules.get(r);
+                deltas.add(new int[] { lookup.interval(range[0], range[1]), rule, 1 });
+                deltas.add(new int[] { lookup.interval(range[2], range[3]) + 1, rule, -1 });
+            }
+            deltas.sort((d1, d2) -> Integer.compare(d1[0], d2[0]));
+
+            // sweep over the intervals while tracking the rules covering the current one - a rule may have several
+            // ranges that cover the same interval. Intervals covered by the same rules share their postings and
+            // adjacent ones are merged.
+            final TreeMap<Integer, Integer> active = new TreeMap<>();
+            final Map<List<Integer>, int[]> shared = new HashMap<>();
+            final List<Integer> merged = new ArrayList<>(distinct.size());
+            final List<int[]> postings = new ArrayList<>(distinct.size());
+            int d = 0;
+            for (int i = 0; i < distinct.size(); i++) {
+                boolean changed = false;
+                for (; d < deltas.size() && deltas.get(d)[0] == i; d++) {
+                    final int rule = deltas.get(d)[1];
+                    final int count = active.getOrDefault(rule, 0) + deltas.get(d)[2];
+                    if (count == 0) {
+                        active.remove(rule);
+                        changed = true;
+                    } else {
+                        changed |= active.put(rule, count) == null;
+                    }
+                }
+                if (i > 0 && !changed) {
+                    continue;
+                }
+
+                final int[] current = active.isEmpty() ? EMPTY : shared.computeIfAbsent(new ArrayList<>(active.keySet()), Ints::toArray);
+                if (postings.isEmpty() || postings.get(postings.size() - 1) != current) {
+                    merged.add(i);
+                    postings.add(current);
+                }
+            }
+
+            final long[] mergedStartsHigh = new long[merged.size()];
+            final long[] mergedStartsLow = new long[merged.size()];
+            for (int i = 0; i < merged.size(); i++) {
+                mergedStartsHigh[i] = startsHigh[merged.get(i)];
+                mergedStartsLow[i] = startsLow[merged.get(i)];
+            }
+
+            return new RangeIndex(mergedStartsHigh, mergedStartsLow, postings.toArray(new int[0][]));
+        }
+    }
+}
@@ -22,6 +22,7 @@
 package org.opennms.netmgt.flows.classification.internal;
 
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -44,11 +45,14 @@ import org.opennms.netmgt.flows.classification.persistence.api.GroupBuilder;
 import org.opennms.netmgt.flows.classification.persistence.api.Groups;
 import org.opennms.netmgt.flows.classification.persistence.api.Rule;
 
+import net.jqwik.api.Shrinkable;
+
 /**
  * Use the Java Microbenchmarking Harness (JMH) to measure classification performance.
  * <p>
  * Rule sets are loaded from csv files and classification is done with randomly generated flows based on the
- * protocols, ports, and addresses found in the loaded rule sets.
+ * protocols, ports, and addresses found in the loaded rule sets. In addition, a set of 10k random rules is used and
+ * the decision tree based engine is compared with the compiled engine.
  */
 public class ClassificationEngineBenchmark {
 
@@ -60,12 +64,23 @@ public class ClassificationEngineBenchmark {
     // the benchmark is run for different rule sets
     private static final String EXAMPLE_RULES_RESOURCE = "/example-rules.csv";
     private static final String PRE_DEFINED_RULES_RESOURCE = "/pre-defined-rules.csv";
+    private static final String RANDOM_RULES = "random-10000";
+
+    private static final int RANDOM_RULES_SIZE = 10000;
 
     public static void main(String[] args) throws Exception {
         org.openjdk.jmh.Main.main(args);
     }
 
     public static List<Rule> getRules(String resource) {
+        if (RANDOM_RULES.equals(resource)) {
+            return RandomClassificationEngineTest.rules(RANDOM_RULES_SIZE, RANDOM_RULES_SIZE, 17, 65535, Integer.MAX_VALUE)
+                    .generator(1000)
+                    .stream(new Random(123456l))
+                    .map(Shrinkable::value)
+                    .findFirst()
+                    .get();
+        }
         var group = new GroupBuilder().withName(Groups.USER_DEFINED).build();
         final CsvService csvService = new CsvServiceImpl(org.mockito.Mockito.mock(RuleValidator.class));
         final List<Rule> rules = csvService.parseCSV(group, CsvServiceTest.class.getResourceAsStream(resource), true).getRules();
@@ -82,16 +97,19 @@ public class ClassificationEngineBenchmark {
         @Param({"0", "1"})
         public int index;
 
-        @Param({EXAMPLE_RULES_RESOURCE, PRE_DEFINED_RULES_RESOURCE})
+        @Param({EXAMPLE_RULES_RESOURCE, PRE_DEFINED_RULES_RESOURCE, RANDOM_RULES})
         public String ruleSet;
 
+        @Param({ClassificationEngineFactory.DECISION_TREE, ClassificationEngineFactory.COMPILED})
+        public String engine;
+
         private ClassificationEngine classificationEngine;
         private List<ClassificationRequest> classificationRequests;
 
         @Setup
         public void setup() throws InterruptedException {
             var rules = getRules(ruleSet);
-            classificationEngine = new DefaultClassificationEngine(() -> rules, org.mockito.Mockito.mock(FilterService.class));
+            classificationEngine = ClassificationEngineFactory.createClassificationEngine(engine, () -> rules, org.mockito.Mockito.mock(FilterService.class), true);
             classificationRequests = RandomClassificationEngineTest.streamOfclassificationRequests(rules, 123456l).skip(index * BATCH_SIZE).limit(BATCH_SIZE).collect(Collectors.toList());
         }
 
@@ -117,4 +135,19 @@ public class ClassificationEngineBenchmark {
         }
     }
 
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    public void classifyFields(BState state, Blackhole blackhole) {
+        var classificationEngine = state.classificationEngine();
+        for (var cr: state.requests()) {
+            var app = classificationEngine.classify(cr.getLocation(), cr.getProtocol().getDecimal(),
+                                                    cr.getSrcPort(), cr.getSrcAddress().toString(),
+                                                    cr.getDstPort(), cr.getDstAddress().toString(),
+                                                    cr.getExporterAddress());
+            blackhole.consume(app);
+        }
+    }
+
 }
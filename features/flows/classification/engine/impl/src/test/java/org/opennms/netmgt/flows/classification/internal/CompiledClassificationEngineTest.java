@@ -0,0 +1,118 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.opennms.netmgt.flows.classification.ClassificationEngine;
+import org.opennms.netmgt.flows.classification.ClassificationRequestBuilder;
+import org.opennms.netmgt.flows.classification.FilterService;
+import org.opennms.netmgt.flows.classification.persistence.api.ProtocolType;
+import org.opennms.netmgt.flows.classification.persistence.api.RuleBuilder;
+
+import com.google.common.collect.Lists;
+
+public class CompiledClassificationEngineTest {
+
+    @Test
+    public void verifyRuleEngineBasic() throws InterruptedException {
+        final ClassificationEngine engine = new CompiledClassificationEngine(() ->
+            Lists.newArrayList(
+                    new RuleBuilder().withName("rule1").withPosition(1).withSrcPort(80).build(),
+                    new RuleBuilder().withName("rule2").withPosition(2).withDstPort(443).build(),
+                    new RuleBuilder().withName("rule3").withPosition(3).withSrcPort(8888).withDstPort(9999).build(),
+                    new RuleBuilder().withName("rule4").withPosition(4).withSrcPort(8888).withDstPort(80).build(),
+                    new RuleBuilder().withName("rule5").withPosition(5).build()
+            ), FilterService.NOOP);
+
+        assertEquals("rule2", engine.classify(new ClassificationRequestBuilder().withSrcPort(9999).withDstPort(443).build()));
+        assertEquals("rule3", engine.classify(new ClassificationRequestBuilder().withSrcPort(8888).withDstPort(9999).build()));
+        assertEquals("rule4", engine.classify(new ClassificationRequestBuilder().withSrcPort(8888).withDstPort(80).build()));
+        assertEquals("rule5", engine.classify(new ClassificationRequestBuilder().withSrcPort(1).withDstPort(2).build()));
+
+        assertEquals("rule1", engine.classify("Default", 6, 80, "10.0.0.1", 443, "10.0.0.2", null));
+        assertEquals("rule5", engine.classify("Default", 6, 1, "10.0.0.1", 2, "10.0.0.2", null));
+    }
+
+    @Test
+    public void verifyAddresses() throws InterruptedException {
+        final ClassificationEngine engine = new CompiledClassificationEngine(() ->
+            Lists.newArrayList(
+                    new RuleBuilder().withName("v4-range").withPosition(1).withDstAddress("192.168.1.0-192.168.1.255").withDstPort("8000-9000").build(),
+                    new RuleBuilder().withName("v4-cidr").withPosition(2).withDstAddress("10.0.0.0/8").build(),
+                    new RuleBuilder().withName("v6-cidr").withPosition(3).withSrcAddress("2001:db8::/32").withProtocol("tcp").build(),
+                    new RuleBuilder().withName("v4-max").withPosition(4).withSrcAddress("255.255.255.255").build()
+            ), FilterService.NOOP);
+
+        assertEquals("v4-range", engine.classify("Default", 6, 1234, "172.16.0.1", 8080, "192.168.1.17", null));
+        assertNull(engine.classify("Default", 6, 1234, "172.16.0.1", 7999, "192.168.1.17", null));
+        assertEquals("v4-cidr", engine.classify("Default", 6, 1234, "172.16.0.1", 7999, "10.255.255.255", null));
+        assertNull(engine.classify("Default", 6, 1234, "172.16.0.1", 7999, "11.0.0.0", null));
+
+        assertEquals("v6-cidr", engine.classify("Default", 6, 1234, "2001:db8::1", 80, "2001:db9::1", null));
+        assertNull(engine.classify("Default", 17, 1234, "2001:db8::1", 80, "2001:db9::1", null));
+        assertNull(engine.classify("Default", 6, 1234, "2001:db9::1", 80, "2001:db8::1", null));
+
+        assertEquals("v4-max", engine.classify("Default", 6, 1234, "255.255.255.255", 80, "8.8.8.8", null));
+
+        // requests without addresses only match rules without address definitions
+        assertNull(engine.classify(new ClassificationRequestBuilder().withProtocol(ProtocolType.TCP).withSrcPort(1234).withDstPort(8080).build()));
+    }
+
+    @Test
+    public void verifyPriorities() throws InterruptedException {
+        final ClassificationEngine engine = new CompiledClassificationEngine(() ->
+            Lists.newArrayList(
+                    new RuleBuilder().withName("low").withPosition(2).withDstPort(80).withDstAddress("10.0.0.1").withProtocol("tcp").build(),
+                    new RuleBuilder().withName("generic").withPosition(1).withDstPort(80).build(),
+                    new RuleBuilder().withName("specific").withPosition(1).withDstPort(80).withProtocol("tcp").build()
+            ), FilterService.NOOP);
+
+        // the rule with the higher priority wins - for equal priorities the rule matching more aspects wins
+        assertEquals("specific", engine.classify("Default", 6, 1234, "10.0.0.2", 80, "10.0.0.1", null));
+        assertEquals("generic", engine.classify("Default", 17, 1234, "10.0.0.2", 80, "10.0.0.1", null));
+    }
+
+    @Test
+    public void verifyExporterFilter() throws InterruptedException {
+        final FilterService filterService = new FilterService() {
+            @Override
+            public void validate(final String filterExpression) {
+            }
+
+            @Override
+            public boolean matches(final String address, final String filterExpression) {
+                return "10.0.0.1".equals(address);
+            }
+        };
+        final ClassificationEngine engine = new CompiledClassificationEngine(() ->
+            Lists.newArrayList(
+                    new RuleBuilder().withName("filtered").withPosition(1).withDstPort(80).withExporterFilter("categoryName == 'Routers'").build(),
+                    new RuleBuilder().withName("http").withPosition(2).withDstPort(80).build()
+            ), filterService);
+
+        assertEquals("filtered", engine.classify("Default", 6, 1234, "10.0.0.2", 80, "10.0.0.3", "10.0.0.1"));
+        assertEquals("http", engine.classify("Default", 6, 1234, "10.0.0.2", 80, "10.0.0.3", "10.0.0.2"));
+    }
+}
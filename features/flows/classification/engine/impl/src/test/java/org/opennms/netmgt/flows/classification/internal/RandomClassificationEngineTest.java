@@ -137,6 +137,31 @@ public class RandomClassificationEngineTest {
         return res;
     }
 
+    @Property
+    public boolean compiled(
+            @ForAll("rulesAndRequests") Tuple.Tuple2<List<Rule>, List<ClassificationRequest>> rulesAndRequests
+    ) throws InterruptedException {
+        var ce = new CompiledClassificationEngine(() -> rulesAndRequests.get1(), FILTER_SERVICE);
+
+        var classifiers = rulesAndRequests.get1().stream()
+                .flatMap(r -> r.isOmnidirectional() ? Stream.of(r, r.reversedRule()) : Stream.of(r))
+                .map(r -> RandomClassificationEngineTest.classifier(r))
+                .sorted()
+                .collect(Collectors.toList());
+
+        return rulesAndRequests.get2().stream().allMatch(r -> {
+            var appCompiled = Optional.ofNullable(ce.classify(r));
+            var appByFields = Optional.ofNullable(ce.classify(r.getLocation(), r.getProtocol().getDecimal(),
+                                                              r.getSrcPort(), r.getSrcAddress().toString(),
+                                                              r.getDstPort(), r.getDstAddress().toString(),
+                                                              r.getExporterAddress()));
+            // brute force classification
+            // -> take the result of the first matching classifier
+            var appDirect = classifiers.stream().map(c -> c.classify(r)).filter(s -> s != null).findFirst().map(cr -> cr.name);
+            return Objects.equals(appCompiled, appDirect) && Objects.equals(appByFields, appDirect);
+        });
+    }
+
     @Provide
     public Arbitrary<Tuple.Tuple2<List<Rule>, List<ClassificationRequest>>> rulesAndRequests() {
         return rules(0, MAX_RULES, MAX_PROTOCOL, MAX_PORT, MAX_ADDR).flatMap(rules -> classificationRequest(rules).list().map(requests -> Tuple.of(rules, requests)));
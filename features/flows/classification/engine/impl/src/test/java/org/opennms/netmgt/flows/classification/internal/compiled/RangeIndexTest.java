@@ -0,0 +1,65 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal.compiled;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class RangeIndexTest {
+
+    @Test
+    public void canShareEqualPostings() {
+        // rule 1 is split into two ranges, so rules 0 and 1 cover [10, 19] and [30, 39] while only rule 0 covers
+        // [20, 29]
+        final RangeIndex index = new RangeIndex.Builder()
+                .withRange(0, 10, 39)
+                .withRange(1, 10, 14)
+                .withRange(1, 15, 19)
+                .withRange(1, 30, 39)
+                .build();
+
+        assertArrayEquals(new int[] { 0, 1 }, index.postings(0L, 10L));
+        assertArrayEquals(new int[] { 0 }, index.postings(0L, 25L));
+        assertSame(index.postings(0L, 10L), index.postings(0L, 35L));
+        assertSame(RangeIndex.EMPTY, index.postings(0L, 5L));
+        assertSame(RangeIndex.EMPTY, index.postings(0L, 40L));
+
+        // the adjacent ranges of rule 1 do not split the interval they cover
+        assertEquals(5, index.intervals());
+    }
+
+    @Test
+    public void canIndexTheWholeValueSpace() {
+        final RangeIndex index = new RangeIndex.Builder()
+                .withRange(0, 0L, 0L, -1L, -1L)
+                .withRange(1, 5L, 0L, 5L, 10L)
+                .build();
+
+        assertArrayEquals(new int[] { 0 }, index.postings(0L, 0L));
+        assertArrayEquals(new int[] { 0, 1 }, index.postings(5L, 3L));
+        assertArrayEquals(new int[] { 0 }, index.postings(5L, 11L));
+        assertArrayEquals(new int[] { 0 }, index.postings(-1L, -1L));
+    }
+}
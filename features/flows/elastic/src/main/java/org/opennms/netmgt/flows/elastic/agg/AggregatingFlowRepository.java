@@ -0,0 +1,321 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimerTask;
+
+import org.opennms.features.jest.client.JestClientWithCircuitBreaker;
+import org.opennms.features.jest.client.bulk.BulkException;
+import org.opennms.features.jest.client.bulk.BulkRequest;
+import org.opennms.features.jest.client.bulk.BulkWrapper;
+import org.opennms.features.jest.client.index.IndexStrategy;
+import org.opennms.features.jest.client.template.DefaultTemplateInitializer;
+import org.opennms.features.jest.client.template.IndexSettings;
+import org.opennms.integration.api.v1.flows.Flow;
+import org.opennms.integration.api.v1.flows.FlowException;
+import org.opennms.integration.api.v1.flows.FlowRepository;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.Lists;
+
+import io.searchbox.core.Bulk;
+import io.searchbox.core.Index;
+
+/**
+ * Computes the {@code netflow_agg} summaries in-process instead of relying
+ * on an external stream processor.
+ *
+ * Persisted flows are fed into a {@link FlowAggregator}. Windows are closed
+ * once they are older than the allowed lateness and their summaries are
+ * written to the aggregate indices in bulks, which are initialized before
+ * the first write.
+ *
+ * The repository is disabled by default. It is only published as a
+ * {@link FlowRepository} service once started while enabled, so the flow
+ * pipeline does not feed it otherwise.
+ */
+public class AggregatingFlowRepository implements FlowRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AggregatingFlowRepository.class);
+
+    private static final String INDEX_NAME = "netflow_agg";
+
+    private static final String REPOSITORY_ID = "elastic-agg";
+
+    private final BundleContext bundleContext;
+
+    private final JestClientWithCircuitBreaker client;
+
+    private final IndexStrategy indexStrategy;
+
+    private final IndexSettings indexSettings;
+
+    private final DefaultTemplateInitializer initializer;
+
+    /**
+     * Flows/second which are aggregated
+     */
+    private final Meter flowsAggregatedMeter;
+
+    /**
+     * Number of flows which were (partially) dropped as their windows have already been flushed
+     */
+    private final Counter flowsLateCounter;
+
+    /**
+     * Summaries/second persisted
+     */
+    private final Meter summariesPersistedMeter;
+
+    /**
+     * Summaries/second which failed to persist
+     */
+    private final Meter summariesFailedMeter;
+
+    /**
+     * Time taken to persist the summaries of the closed windows
+     */
+    private final Timer summariesPersistingTimer;
+
+    private boolean enabled = false;
+    private long windowSizeMs = 60000;
+    private long maxFlowDurationMs = 120000;
+    private long allowedLatenessMs = 120000;
+    private int topK = 10;
+    private int sketchCapacity = 100;
+    private int bulkSize = 1000;
+    private int bulkRetryCount = 5;
+
+    private volatile FlowAggregator aggregator;
+    private java.util.Timer flushTimer;
+    private ServiceRegistration<FlowRepository> registration;
+
+    public AggregatingFlowRepository(final BundleContext bundleContext,
+                                     final MetricRegistry metricRegistry,
+                                     final JestClientWithCircuitBreaker jestClient,
+                                     final IndexStrategy indexStrategy,
+                                     final IndexSettings indexSettings,
+                                     final DefaultTemplateInitializer initializer) {
+        this.bundleContext = Objects.requireNonNull(bundleContext);
+        this.client = Objects.requireNonNull(jestClient);
+        this.indexStrategy = Objects.requireNonNull(indexStrategy);
+        this.indexSettings = Objects.requireNonNull(indexSettings);
+        this.initializer = Objects.requireNonNull(initializer);
+
+        this.flowsAggregatedMeter = metricRegistry.meter("flowsAggregated");
+        this.flowsLateCounter = metricRegistry.counter("flowsLate");
+        this.summariesPersistedMeter = metricRegistry.meter("flowSummariesPersisted");
+        this.summariesFailedMeter = metricRegistry.meter("flowSummariesFailed");
+        this.summariesPersistingTimer = metricRegistry.timer("flowSummariesPersisting");
+    }
+
+    @Override
+    public void persist(final Collection<? extends Flow> flows) throws FlowException {
+        final FlowAggregator aggregator = this.aggregator;
+        if (aggregator == null) {
+            return;
+        }
+        flowsAggregatedMeter.mark(aggregator.aggregate(flows));
+    }
+
+    public synchronized void start() {
+        if (!enabled || aggregator != null) {
+            return;
+        }
+
+        aggregator = new FlowAggregator(windowSizeMs, maxFlowDurationMs, topK, sketchCapacity, flowsLateCounter);
+
+        flushTimer = new java.util.Timer("AggregatingFlowRepositoryFlush");
+        flushTimer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                try {
+                    persistSummaries(aggregator.flush(System.currentTimeMillis() - allowedLatenessMs));
+                } catch (Throwable t) {
+                    LOG.error("An error occurred while persisting flow summaries.", t);
+                }
+            }
+        }, windowSizeMs, Math.min(windowSizeMs, 10000));
+
+        final Dictionary<String, Object> properties = new Hashtable<>();
+        properties.put("flows.repository.id", REPOSITORY_ID);
+        registration = bundleContext.registerService(FlowRepository.class, this, properties);
+    }
+
+    public synchronized void stop() throws FlowException {
+        if (aggregator == null) {
+            return;
+        }
+
+        // Unregister first, so that the pipeline hands over the flows it has queued for this repository
+        registration.unregister();
+        registration = null;
+
+        flushTimer.cancel();
+        flushTimer = null;
+
+        final FlowAggregator aggregator = this.aggregator;
+        this.aggregator = null;
+
+        final List<FlowSummaryDocument> summaries = aggregator.flushAll();
+        if (!initializer.isInitialized()) {
+            // Do not block the shutdown waiting for Elasticsearch
+            LOG.warn("Aggregate indices are not initialized. Dropping {} flow summary documents.", summaries.size());
+            return;
+        }
+        persistSummaries(summaries);
+    }
+
+    private void persistSummaries(final List<FlowSummaryDocument> summaries) throws FlowException {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        // Initialize lazily on the flushing thread to not block the flow pipeline
+        if (!initializer.isInitialized()) {
+            initializer.initialize();
+        }
+        LOG.debug("Persisting {} flow summary documents.", summaries.size());
+        // Attempt all bulks, as the summaries of the flushed windows can not be recomputed
+        final List<FlowException> failures = new ArrayList<>();
+        try (final Timer.Context ctx = summariesPersistingTimer.time()) {
+            for (final List<FlowSummaryDocument> bulk : Lists.partition(summaries, bulkSize)) {
+                try {
+                    persistBulk(bulk);
+                } catch (FlowException ex) {
+                    failures.add(ex);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            final FlowException ex = new FlowException(String.format("Failed to persist %d of %d bulks of flow summaries: %s",
+                    failures.size(), (summaries.size() + bulkSize - 1) / bulkSize, failures.get(0).getMessage()), failures.get(0));
+            failures.stream().skip(1).forEach(ex::addSuppressed);
+            throw ex;
+        }
+    }
+
+    private void persistBulk(final List<FlowSummaryDocument> bulk) throws FlowException {
+        final BulkRequest<FlowSummaryDocument> bulkRequest = new BulkRequest<>(client, bulk, (documents) -> {
+            final Bulk.Builder bulkBuilder = new Bulk.Builder();
+            for (FlowSummaryDocument summary : documents) {
+                final String index = indexStrategy.getIndex(indexSettings, INDEX_NAME, Instant.ofEpochMilli(summary.getTimestamp()));
+                final Index.Builder indexBuilder = new Index.Builder(summary)
+                        .index(index);
+                bulkBuilder.addAction(indexBuilder.build());
+            }
+            return new BulkWrapper(bulkBuilder);
+        }, bulkRetryCount);
+        try {
+            // the bulk request considers retries
+            bulkRequest.execute();
+        } catch (BulkException ex) {
+            final int failed = ex.getBulkResult() != null ? ex.getBulkResult().getFailedItems().size() : bulk.size();
+            summariesFailedMeter.mark(failed);
+            summariesPersistedMeter.mark(bulk.size() - failed);
+            throw new FlowException(String.format("Failed to persist %d of %d flow summaries: %s", failed, bulk.size(), ex.getMessage()), ex);
+        } catch (IOException ex) {
+            summariesFailedMeter.mark(bulk.size());
+            LOG.error("An error occurred while executing the given request: {}", ex.getMessage(), ex);
+            throw new FlowException(ex.getMessage(), ex);
+        }
+        summariesPersistedMeter.mark(bulk.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowSizeMs() {
+        return windowSizeMs;
+    }
+
+    public void setWindowSizeMs(final long windowSizeMs) {
+        this.windowSizeMs = windowSizeMs;
+    }
+
+    public long getMaxFlowDurationMs() {
+        return maxFlowDurationMs;
+    }
+
+    public void setMaxFlowDurationMs(final long maxFlowDurationMs) {
+        this.maxFlowDurationMs = maxFlowDurationMs;
+    }
+
+    public long getAllowedLatenessMs() {
+        return allowedLatenessMs;
+    }
+
+    public void setAllowedLatenessMs(final long allowedLatenessMs) {
+        this.allowedLatenessMs = allowedLatenessMs;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public void setTopK(final int topK) {
+        this.topK = topK;
+    }
+
+    public int getSketchCapacity() {
+        return sketchCapacity;
+    }
+
+    public void setSketchCapacity(final int sketchCapacity) {
+        this.sketchCapacity = sketchCapacity;
+    }
+
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public void setBulkSize(final int bulkSize) {
+        this.bulkSize = bulkSize;
+    }
+
+    public int getBulkRetryCount() {
+        return bulkRetryCount;
+    }
+
+    public void setBulkRetryCount(final int bulkRetryCount) {
+        this.bulkRetryCount = bulkRetryCount;
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.opennms.integration.api.v1.flows.Flow;
+import org.opennms.netmgt.flows.elastic.NodeDocument;
+
+import com.codahale.metrics.Counter;
+
+/**
+ * Aggregates flows into tumbling windows, producing the same summaries that
+ * are otherwise computed by an external stream processor and stored in the
+ * {@code netflow_agg} indices.
+ *
+ * For every window, the ingress and egress bytes are totaled per exporter,
+ * interface and DSCP and the top-K applications, hosts and conversations are
+ * tracked per interface (and DSCP) using {@link HeavyHitterSketch}es. Flows
+ * spanning multiple windows have their bytes split proportionally to the time
+ * spent in each window.
+ *
+ * Flows are attributed to the input interface when ingress and to the output
+ * interface when egress. Flows without exporter or interface are skipped.
+ *
+ * Once a window has been flushed, it is not reopened: the bytes of late flows
+ * falling into a flushed window are dropped and the flows are counted as late.
+ * Flows ending in the future, i.e. exported with a skewed clock, are clamped
+ * to the current time.
+ */
+public class FlowAggregator {
+
+    public static final String UNKNOWN_APPLICATION = "__unknown";
+
+    private final long windowSizeMs;
+    private final long maxFlowDurationMs;
+    private final int topK;
+    private final int sketchCapacity;
+    private final Counter lateFlows;
+    private final Clock clock;
+
+    private final TreeMap<Long, Window> windows = new TreeMap<>();
+
+    /**
+     * The start of the first window which has not been flushed yet.
+     */
+    private long flushedUntil = Long.MIN_VALUE;
+
+    public FlowAggregator(long windowSizeMs, long maxFlowDurationMs, int topK, int sketchCapacity, Counter lateFlows) {
+        this(windowSizeMs, maxFlowDurationMs, topK, sketchCapacity, lateFlows, Clock.systemUTC());
+    }
+
+    FlowAggregator(long windowSizeMs, long maxFlowDurationMs, int topK, int sketchCapacity, Counter lateFlows, Clock clock) {
+        if (windowSizeMs <= 0) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSizeMs);
+        }
+        if (topK <= 0 || sketchCapacity < topK) {
+            throw new IllegalArgumentException("Sketch capacity (" + sketchCapacity + ") must be at least top-K (" + topK + ") and positive.");
+        }
+        this.windowSizeMs = windowSizeMs;
+        this.maxFlowDurationMs = maxFlowDurationMs;
+        this.topK = topK;
+        this.sketchCapacity = sketchCapacity;
+        this.lateFlows = Objects.requireNonNull(lateFlows);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * @return the number of flows which were aggregated
+     */
+    public synchronized int aggregate(final Collection<? extends Flow> flows) {
+        int aggregated = 0;
+        for (final Flow flow : flows) {
+            if (aggregate(flow)) {
+                aggregated++;
+            }
+        }
+        return aggregated;
+    }
+
+    private boolean aggregate(final Flow flow) {
+        final Flow.NodeInfo exporter = flow.getExporterNodeInfo();
+        if (exporter == null || flow.getBytes() == null) {
+            return false;
+        }
+        final boolean egress = flow.getDirection() == Flow.Direction.EGRESS;
+        final Integer ifIndex = egress ? flow.getOutputSnmp() : flow.getInputSnmp();
+        if (ifIndex == null) {
+            return false;
+        }
+
+        final Instant last = flow.getLastSwitched() != null ? flow.getLastSwitched() : flow.getTimestamp();
+        if (last == null) {
+            return false;
+        }
+        final Instant first = flow.getDeltaSwitched() != null ? flow.getDeltaSwitched()
+                : flow.getFirstSwitched() != null ? flow.getFirstSwitched() : last;
+        final long now = clock.millis();
+        final long end = Math.min(last.toEpochMilli(), now);
+        final long start = Math.min(end, Math.max(first.toEpochMilli(), end - maxFlowDurationMs));
+
+        long bytes = flow.getBytes();
+        if (flow.getSamplingInterval() != null && flow.getSamplingInterval() > 0) {
+            bytes = (long) (bytes * flow.getSamplingInterval());
+        }
+
+        final Scope scope = new Scope(exporter, ifIndex, flow.getDscp() != null ? flow.getDscp() : 0);
+        final Entities entities = new Entities(flow);
+
+        // Split the bytes proportionally over the windows covered by the flow
+        final long duration = end - start;
+        long remaining = bytes;
+        boolean late = false;
+        boolean aggregated = false;
+        for (long windowStart = Math.floorDiv(start, windowSizeMs) * windowSizeMs; ; windowStart += windowSizeMs) {
+            final long windowEnd = windowStart + windowSizeMs;
+            final boolean lastWindow = end <= windowEnd || duration == 0;
+            final long windowBytes = lastWindow ? remaining
+                    : (long) ((double) bytes * (windowEnd - Math.max(start, windowStart)) / duration);
+            remaining -= windowBytes;
+
+            if (windowStart < flushedUntil) {
+                // The window has already been flushed
+                late = true;
+            } else {
+                final Window window = windows.computeIfAbsent(windowStart, Window::new);
+                window.add(scope, entities, egress ? 0 : windowBytes, egress ? windowBytes : 0);
+                aggregated = true;
+            }
+
+            if (lastWindow) {
+                if (late) {
+                    lateFlows.inc();
+                }
+                return aggregated;
+            }
+        }
+    }
+
+    /**
+     * Closes all windows which end at or before the given watermark.
+     *
+     * @return the summaries of the closed windows
+     */
+    public synchronized List<FlowSummaryDocument> flush(final long watermark) {
+        final List<FlowSummaryDocument> documents = new ArrayList<>();
+        while (!windows.isEmpty() && windows.firstKey() + windowSizeMs <= watermark) {
+            windows.pollFirstEntry().getValue().summarize(documents);
+        }
+        // All windows ending at or before the watermark are closed, whether they have been opened or not
+        flushedUntil = Math.max(flushedUntil, Math.floorDiv(watermark, windowSizeMs) * windowSizeMs);
+        return documents;
+    }
+
+    /**
+     * Closes all windows.
+     *
+     * @return the summaries of the closed windows
+     */
+    public synchronized List<FlowSummaryDocument> flushAll() {
+        return flush(Long.MAX_VALUE - windowSizeMs);
+    }
+
+    public synchronized int getOpenWindowCount() {
+        return windows.size();
+    }
+
+    /**
+     * The exporter, interface and DSCP a flow is accounted to.
+     */
+    private static class Scope {
+        private final Flow.NodeInfo exporter;
+        private final int ifIndex;
+        private final int dscp;
+        private final String exporterKey;
+        private final String interfaceKey;
+        private final String tosKey;
+
+        private Scope(final Flow.NodeInfo exporter, final int ifIndex, final int dscp) {
+            this.exporter = exporter;
+            this.ifIndex = ifIndex;
+            this.dscp = dscp;
+            this.exporterKey = exporter.getForeignSource() != null && exporter.getForeignId() != null
+                    ? exporter.getForeignSource() + ":" + exporter.getForeignId()
+                    : Integer.toString(exporter.getNodeId());
+            this.interfaceKey = this.exporterKey + "-" + ifIndex;
+            this.tosKey = this.interfaceKey + "-" + dscp;
+        }
+
+        private String keyFor(final GroupedBy groupedBy) {
+            switch (groupedBy) {
+                case EXPORTER:
+                    return exporterKey;
+                case EXPORTER_INTERFACE:
+                    return interfaceKey;
+                default:
+                    return tosKey;
+            }
+        }
+    }
+
+    /**
+     * The entities of a flow which are ranked.
+     */
+    private static class Entities {
+        private final String application;
+        private final String srcAddr;
+        private final String srcHostName;
+        private final String dstAddr;
+        private final String dstHostName;
+        private final String conversationKey;
+        private final boolean congestionEncountered;
+        private final boolean nonEcnCapableTransport;
+
+        private Entities(final Flow flow) {
+            this.application = flow.getApplication() != null ? flow.getApplication() : UNKNOWN_APPLICATION;
+            this.srcAddr = flow.getSrcAddr();
+            this.srcHostName = flow.getSrcAddrHostname() != null ? flow.getSrcAddrHostname().orElse(null) : null;
+            this.dstAddr = flow.getDstAddr();
+            this.dstHostName = flow.getDstAddrHostname() != null ? flow.getDstAddrHostname().orElse(null) : null;
+            this.conversationKey = flow.getConvoKey();
+            this.congestionEncountered = Objects.equals(flow.getEcn(), 3);
+            this.nonEcnCapableTransport = Objects.equals(flow.getEcn(), 0);
+        }
+    }
+
+    private static class Total {
+        private final Scope scope;
+        private long bytesIn;
+        private long bytesOut;
+        private boolean congestionEncountered;
+        private boolean nonEcnCapableTransport;
+
+        private Total(final Scope scope) {
+            this.scope = scope;
+        }
+    }
+
+    private static class Ranking {
+        private final Scope scope;
+        private final HeavyHitterSketch sketch;
+
+        private Ranking(final Scope scope, final HeavyHitterSketch sketch) {
+            this.scope = scope;
+            this.sketch = sketch;
+        }
+    }
+
+    private class Window {
+        private final long start;
+        private final Map<GroupedBy, Map<String, Total>> totals = new EnumMap<>(GroupedBy.class);
+        private final Map<GroupedBy, Map<String, Ranking>> rankings = new EnumMap<>(GroupedBy.class);
+
+        private Window(final long start) {
+            this.start = start;
+        }
+
+        private void add(final Scope scope, final Entities entities, final long bytesIn, final long bytesOut) {
+            total(GroupedBy.EXPORTER, scope, entities, bytesIn, bytesOut);
+            total(GroupedBy.EXPORTER_INTERFACE, scope, entities, bytesIn, bytesOut);
+            total(GroupedBy.EXPORTER_INTERFACE_TOS, scope, entities, bytesIn, bytesOut);
+
+            rank(GroupedBy.EXPORTER_INTERFACE_APPLICATION, scope, entities, entities.application, null, bytesIn, bytesOut);
+            rank(GroupedBy.EXPORTER_INTERFACE_TOS_APPLICATION, scope, entities, entities.application, null, bytesIn, bytesOut);
+            if (entities.srcAddr != null) {
+                rank(GroupedBy.EXPORTER_INTERFACE_HOST, scope, entities, entities.srcAddr, entities.srcHostName, bytesIn, bytesOut);
+                rank(GroupedBy.EXPORTER_INTERFACE_TOS_HOST, scope, entities, entities.srcAddr, entities.srcHostName, bytesIn, bytesOut);
+            }
+            if (entities.dstAddr != null) {
+                rank(GroupedBy.EXPORTER_INTERFACE_HOST, scope, entities, entities.dstAddr, entities.dstHostName, bytesIn, bytesOut);
+                rank(GroupedBy.EXPORTER_INTERFACE_TOS_HOST, scope, entities, entities.dstAddr, entities.dstHostName, bytesIn, bytesOut);
+            }
+            if (entities.conversationKey != null) {
+                rank(GroupedBy.EXPORTER_INTERFACE_CONVERSATION, scope, entities, entities.conversationKey, null, bytesIn, bytesOut);
+                rank(GroupedBy.EXPORTER_INTERFACE_TOS_CONVERSATION, scope, entities, entities.conversationKey, null, bytesIn, bytesOut);
+            }
+        }
+
+        private void total(final GroupedBy groupedBy, final Scope scope, final Entities entities, final long bytesIn, final long bytesOut) {
+            final Total total = totals.computeIfAbsent(groupedBy, g -> new HashMap<>())
+                    .computeIfAbsent(scope.keyFor(groupedBy), k -> new Total(scope));
+            total.bytesIn += bytesIn;
+            total.bytesOut += bytesOut;
+            total.congestionEncountered |= entities.congestionEncountered;
+            total.nonEcnCapableTransport |= entities.nonEcnCapableTransport;
+        }
+
+        private void rank(final GroupedBy groupedBy, final Scope scope, final Entities entities,
+                          final String key, final String hostName, final long bytesIn, final long bytesOut) {
+            final Ranking ranking = rankings.computeIfAbsent(groupedBy, g -> new HashMap<>())
+                    .computeIfAbsent(scope.keyFor(groupedBy.getParent()), k -> new Ranking(scope, new HeavyHitterSketch(sketchCapacity)));
+            final HeavyHitterSketch.Counter counter = ranking.sketch.add(key, bytesIn, bytesOut);
+            counter.updateEcn(entities.congestionEncountered, entities.nonEcnCapableTransport);
+            if (hostName != null) {
+                counter.setHostName(hostName);
+            }
+        }
+
+        private void summarize(final List<FlowSummaryDocument> documents) {
+            for (final Map.Entry<GroupedBy, Map<String, Total>> group : totals.entrySet()) {
+                for (final Map.Entry<String, Total> entry : group.getValue().entrySet()) {
+                    final Total total = entry.getValue();
+                    final FlowSummaryDocument doc = document(group.getKey(), entry.getKey(), Types.AGG_TOTAL, total.scope);
+                    doc.setBytesIngress(total.bytesIn);
+                    doc.setBytesEgress(total.bytesOut);
+                    doc.setBytesTotal(total.bytesIn + total.bytesOut);
+                    doc.setCongestionEncountered(total.congestionEncountered);
+                    doc.setNonEcnCapableTransport(total.nonEcnCapableTransport);
+                    documents.add(doc);
+                }
+            }
+
+            for (final Map.Entry<GroupedBy, Map<String, Ranking>> group : rankings.entrySet()) {
+                final GroupedBy groupedBy = group.getKey();
+                for (final Map.Entry<String, Ranking> entry : group.getValue().entrySet()) {
+                    final Ranking ranking = entry.getValue();
+                    int rank = 1;
+                    for (final Map.Entry<String, HeavyHitterSketch.Counter> top : ranking.sketch.top(topK)) {
+                        final HeavyHitterSketch.Counter counter = top.getValue();
+                        final FlowSummaryDocument doc = document(groupedBy, entry.getKey() + "-" + top.getKey(), Types.AGG_TOPK, ranking.scope);
+                        doc.setRanking(rank++);
+                        doc.setBytesIngress(counter.getBytesIn());
+                        doc.setBytesEgress(counter.getBytesOut());
+                        doc.setBytesTotal(counter.getBytesIn() + counter.getBytesOut());
+                        doc.setCongestionEncountered(counter.isCongestionEncountered());
+                        doc.setNonEcnCapableTransport(counter.isNonEcnCapableTransport());
+                        switch (groupedBy) {
+                            case EXPORTER_INTERFACE_APPLICATION:
+                            case EXPORTER_INTERFACE_TOS_APPLICATION:
+                                doc.setApplication(top.getKey());
+                                break;
+                            case EXPORTER_INTERFACE_HOST:
+                            case EXPORTER_INTERFACE_TOS_HOST:
+                                doc.setHostAddress(top.getKey());
+                                doc.setHostName(counter.getHostName());
+                                break;
+                            default:
+                                doc.setConversationKey(top.getKey());
+                        }
+                        documents.add(doc);
+                    }
+                }
+            }
+        }
+
+        private FlowSummaryDocument document(final GroupedBy groupedBy, final String key, final String aggregationType, final Scope scope) {
+            final FlowSummaryDocument doc = new FlowSummaryDocument();
+            // Windows cover [start, start + size), the timestamp is the last instant in the window
+            doc.setTimestamp(start + windowSizeMs - 1);
+            doc.setRangeStart(start);
+            doc.setRangeEnd(start + windowSizeMs);
+            doc.setGroupedBy(groupedBy);
+            doc.setGroupedByKey(key);
+            doc.setAggregationType(aggregationType);
+            doc.setExporter(NodeDocument.from(scope.exporter));
+            if (groupedBy != GroupedBy.EXPORTER) {
+                doc.setIfIndex(scope.ifIndex);
+            }
+            if (groupedBy.name().startsWith("EXPORTER_INTERFACE_TOS")) {
+                doc.setDscp(scope.dscp);
+            }
+            return doc;
+        }
+    }
+}
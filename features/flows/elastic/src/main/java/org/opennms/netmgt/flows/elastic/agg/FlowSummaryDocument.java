@@ -0,0 +1,258 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import org.opennms.netmgt.flows.elastic.NodeDocument;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * A summary of the flows seen in a time window, as stored in the
+ * {@code netflow_agg} indices and queried by the {@link AggregatedFlowQueryService}.
+ *
+ * Member variables are sorted by the value of the @SerializedName annotation.
+ */
+public class FlowSummaryDocument {
+
+    @SerializedName("@timestamp")
+    private long timestamp;
+
+    @SerializedName("aggregation_type")
+    private String aggregationType;
+
+    @SerializedName("application")
+    private String application;
+
+    @SerializedName("bytes_egress")
+    private long bytesEgress;
+
+    @SerializedName("bytes_ingress")
+    private long bytesIngress;
+
+    @SerializedName("bytes_total")
+    private long bytesTotal;
+
+    @SerializedName("congestion_encountered")
+    private Boolean congestionEncountered;
+
+    @SerializedName("conversation_key")
+    private String conversationKey;
+
+    @SerializedName("dscp")
+    private Integer dscp;
+
+    @SerializedName("exporter")
+    private NodeDocument exporter;
+
+    @SerializedName("grouped_by")
+    private GroupedBy groupedBy;
+
+    @SerializedName("grouped_by_key")
+    private String groupedByKey;
+
+    @SerializedName("host_address")
+    private String hostAddress;
+
+    @SerializedName("host_name")
+    private String hostName;
+
+    @SerializedName("if_index")
+    private Integer ifIndex;
+
+    @SerializedName("non_ect")
+    private Boolean nonEcnCapableTransport;
+
+    @SerializedName("range_end")
+    private long rangeEnd;
+
+    @SerializedName("range_start")
+    private long rangeStart;
+
+    @SerializedName("ranking")
+    private int ranking;
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getAggregationType() {
+        return aggregationType;
+    }
+
+    public void setAggregationType(String aggregationType) {
+        this.aggregationType = aggregationType;
+    }
+
+    public String getApplication() {
+        return application;
+    }
+
+    public void setApplication(String application) {
+        this.application = application;
+    }
+
+    public long getBytesEgress() {
+        return bytesEgress;
+    }
+
+    public void setBytesEgress(long bytesEgress) {
+        this.bytesEgress = bytesEgress;
+    }
+
+    public long getBytesIngress() {
+        return bytesIngress;
+    }
+
+    public void setBytesIngress(long bytesIngress) {
+        this.bytesIngress = bytesIngress;
+    }
+
+    public long getBytesTotal() {
+        return bytesTotal;
+    }
+
+    public void setBytesTotal(long bytesTotal) {
+        this.bytesTotal = bytesTotal;
+    }
+
+    public Boolean getCongestionEncountered() {
+        return congestionEncountered;
+    }
+
+    public void setCongestionEncountered(Boolean congestionEncountered) {
+        this.congestionEncountered = congestionEncountered;
+    }
+
+    public String getConversationKey() {
+        return conversationKey;
+    }
+
+    public void setConversationKey(String conversationKey) {
+        this.conversationKey = conversationKey;
+    }
+
+    public Integer getDscp() {
+        return dscp;
+    }
+
+    public void setDscp(Integer dscp) {
+        this.dscp = dscp;
+    }
+
+    public NodeDocument getExporter() {
+        return exporter;
+    }
+
+    public void setExporter(NodeDocument exporter) {
+        this.exporter = exporter;
+    }
+
+    public GroupedBy getGroupedBy() {
+        return groupedBy;
+    }
+
+    public void setGroupedBy(GroupedBy groupedBy) {
+        this.groupedBy = groupedBy;
+    }
+
+    public String getGroupedByKey() {
+        return groupedByKey;
+    }
+
+    public void setGroupedByKey(String groupedByKey) {
+        this.groupedByKey = groupedByKey;
+    }
+
+    public String getHostAddress() {
+        return hostAddress;
+    }
+
+    public void setHostAddress(String hostAddress) {
+        this.hostAddress = hostAddress;
+    }
+
+    public String getHostName() {
+        return hostName;
+    }
+
+    public void setHostName(String hostName) {
+        this.hostName = hostName;
+    }
+
+    public Integer getIfIndex() {
+        return ifIndex;
+    }
+
+    public void setIfIndex(Integer ifIndex) {
+        this.ifIndex = ifIndex;
+    }
+
+    public Boolean getNonEcnCapableTransport() {
+        return nonEcnCapableTransport;
+    }
+
+    public void setNonEcnCapableTransport(Boolean nonEcnCapableTransport) {
+        this.nonEcnCapableTransport = nonEcnCapableTransport;
+    }
+
+    public long getRangeEnd() {
+        return rangeEnd;
+    }
+
+    public void setRangeEnd(long rangeEnd) {
+        this.rangeEnd = rangeEnd;
+    }
+
+    public long getRangeStart() {
+        return rangeStart;
+    }
+
+    public void setRangeStart(long rangeStart) {
+        this.rangeStart = rangeStart;
+    }
+
+    public int getRanking() {
+        return ranking;
+    }
+
+    public void setRanking(int ranking) {
+        this.ranking = ranking;
+    }
+
+    @Override
+    public String toString() {
+        return "FlowSummaryDocument{" +
+                "groupedBy=" + groupedBy +
+                ", groupedByKey='" + groupedByKey + '\'' +
+                ", aggregationType='" + aggregationType + '\'' +
+                ", ranking=" + ranking +
+                ", rangeStart=" + rangeStart +
+                ", rangeEnd=" + rangeEnd +
+                ", bytesIngress=" + bytesIngress +
+                ", bytesEgress=" + bytesEgress +
+                '}';
+    }
+}
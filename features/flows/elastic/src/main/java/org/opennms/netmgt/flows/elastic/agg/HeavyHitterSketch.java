@@ -0,0 +1,151 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the keys with the most traffic using a bounded number of counters.
+ *
+ * This implements the Space-Saving algorithm, weighted by bytes: once all counters
+ * are in use, the key with the smallest count is evicted and its count is carried
+ * over to the new key as the error. Any key with more than {@code total / capacity}
+ * bytes is guaranteed to be tracked, and the top-K is exact as long as the number of
+ * distinct keys does not exceed the capacity.
+ */
+public class HeavyHitterSketch {
+
+    private static final Comparator<Map.Entry<String, Counter>> BY_ESTIMATE_DESC = Comparator
+            .comparingLong((Map.Entry<String, Counter> e) -> e.getValue().getEstimate()).reversed()
+            .thenComparing(Map.Entry::getKey);
+
+    private final int capacity;
+
+    private final Map<String, Counter> counters;
+
+    public HeavyHitterSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Accounts the given bytes to the key.
+     *
+     * @return the counter of the key, which can be used to record additional details
+     */
+    public Counter add(String key, long bytesIn, long bytesOut) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = new Counter();
+            if (counters.size() >= capacity) {
+                counter.error = evictMinimum();
+            }
+            counters.put(key, counter);
+        }
+        counter.bytesIn += bytesIn;
+        counter.bytesOut += bytesOut;
+        return counter;
+    }
+
+    private long evictMinimum() {
+        Map.Entry<String, Counter> min = null;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().getEstimate() < min.getValue().getEstimate()) {
+                min = entry;
+            }
+        }
+        counters.remove(min.getKey());
+        return min.getValue().getEstimate();
+    }
+
+    /**
+     * @return the (at most) {@code k} keys with the highest estimates, in descending order
+     */
+    public List<Map.Entry<String, Counter>> top(int k) {
+        final List<Map.Entry<String, Counter>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort(BY_ESTIMATE_DESC);
+        return entries.size() > k ? entries.subList(0, k) : entries;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public static class Counter {
+        private long bytesIn;
+        private long bytesOut;
+        private long error;
+        private boolean congestionEncountered;
+        private boolean nonEcnCapableTransport;
+        private String hostName;
+
+        /**
+         * @return the bytes seen since the key was last admitted to the sketch
+         */
+        public long getBytesIn() {
+            return bytesIn;
+        }
+
+        public long getBytesOut() {
+            return bytesOut;
+        }
+
+        /**
+         * @return the upper bound of the bytes attributed to the key before it was admitted
+         */
+        public long getError() {
+            return error;
+        }
+
+        public long getEstimate() {
+            return bytesIn + bytesOut + error;
+        }
+
+        public boolean isCongestionEncountered() {
+            return congestionEncountered;
+        }
+
+        public boolean isNonEcnCapableTransport() {
+            return nonEcnCapableTransport;
+        }
+
+        public String getHostName() {
+            return hostName;
+        }
+
+        public void updateEcn(boolean congestionEncountered, boolean nonEcnCapableTransport) {
+            this.congestionEncountered |= congestionEncountered;
+            this.nonEcnCapableTransport |= nonEcnCapableTransport;
+        }
+
+        public void setHostName(String hostName) {
+            this.hostName = hostName;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.opennms.integration.api.v1.flows.Flow;
+
+import com.codahale.metrics.Counter;
+
+public class FlowAggregatorTest {
+
+    private static final long WINDOW = 60000;
+
+    private final Counter lateFlows = new Counter();
+
+    private final FlowAggregator aggregator = new FlowAggregator(WINDOW, 120000, 2, 10, lateFlows);
+
+    @Test
+    public void canSummarizeTotals() {
+        aggregator.aggregate(List.of(
+                flow(Flow.Direction.INGRESS, 10000, 20000, 100, "http", "10.0.0.1", "10.0.0.2", 0),
+                flow(Flow.Direction.EGRESS, 10000, 20000, 50, "http", "10.0.0.2", "10.0.0.1", 0),
+                flow(Flow.Direction.INGRESS, 10000, 20000, 30, "ssh", "10.0.0.3", "10.0.0.2", 46)));
+
+        final List<FlowSummaryDocument> docs = aggregator.flushAll();
+
+        final FlowSummaryDocument exporter = find(docs, GroupedBy.EXPORTER, "FS:1");
+        assertEquals(Types.AGG_TOTAL, exporter.getAggregationType());
+        assertEquals(130, exporter.getBytesIngress());
+        assertEquals(50, exporter.getBytesEgress());
+        assertEquals(180, exporter.getBytesTotal());
+        assertEquals(0, exporter.getRangeStart());
+        assertEquals(WINDOW, exporter.getRangeEnd());
+        assertEquals(WINDOW - 1, exporter.getTimestamp());
+        assertNull(exporter.getIfIndex());
+
+        final FlowSummaryDocument tos = find(docs, GroupedBy.EXPORTER_INTERFACE_TOS, "FS:1-1-46");
+        assertEquals(30, tos.getBytesIngress());
+        assertEquals(Integer.valueOf(46), tos.getDscp());
+        assertEquals(Integer.valueOf(1), tos.getIfIndex());
+    }
+
+    @Test
+    public void canRankApplicationsAndHosts() {
+        aggregator.aggregate(List.of(
+                flow(Flow.Direction.INGRESS, 10000, 20000, 100, "http", "10.0.0.1", "10.0.0.2", 0),
+                flow(Flow.Direction.INGRESS, 10000, 20000, 30, "ssh", "10.0.0.3", "10.0.0.2", 0),
+                flow(Flow.Direction.INGRESS, 10000, 20000, 10, "dns", "10.0.0.4", "10.0.0.2", 0)));
+
+        final List<FlowSummaryDocument> docs = aggregator.flushAll();
+
+        final List<FlowSummaryDocument> apps = docs.stream()
+                .filter(doc -> doc.getGroupedBy() == GroupedBy.EXPORTER_INTERFACE_APPLICATION)
+                .collect(Collectors.toList());
+        assertThat(apps.stream().map(FlowSummaryDocument::getApplication).collect(Collectors.toList()), contains("http", "ssh"));
+        assertThat(apps.stream().map(FlowSummaryDocument::getRanking).collect(Collectors.toList()), contains(1, 2));
+        assertEquals(Types.AGG_TOPK, apps.get(0).getAggregationType());
+        assertEquals("FS:1-1-http", apps.get(0).getGroupedByKey());
+
+        final List<FlowSummaryDocument> hosts = docs.stream()
+                .filter(doc -> doc.getGroupedBy() == GroupedBy.EXPORTER_INTERFACE_HOST)
+                .collect(Collectors.toList());
+        assertThat(hosts.stream().map(FlowSummaryDocument::getHostAddress).collect(Collectors.toList()), contains("10.0.0.2", "10.0.0.1"));
+        assertEquals(140, hosts.get(0).getBytesIngress());
+    }
+
+    @Test
+    public void canSplitFlowsAcrossWindows() {
+        // 30s in the first window, 60s in the second and 10s in the third
+        aggregator.aggregate(List.of(flow(Flow.Direction.INGRESS, 30000, 130000, 1000, "http", "10.0.0.1", "10.0.0.2", 0)));
+        assertEquals(3, aggregator.getOpenWindowCount());
+
+        final List<FlowSummaryDocument> exporters = aggregator.flushAll().stream()
+                .filter(doc -> doc.getGroupedBy() == GroupedBy.EXPORTER)
+                .collect(Collectors.toList());
+        assertThat(exporters.stream().map(FlowSummaryDocument::getBytesIngress).collect(Collectors.toList()), contains(300L, 600L, 100L));
+        assertThat(exporters.stream().map(FlowSummaryDocument::getRangeStart).collect(Collectors.toList()), contains(0L, WINDOW, 2 * WINDOW));
+    }
+
+    @Test
+    public void canFlushClosedWindowsOnly() {
+        aggregator.aggregate(List.of(
+                flow(Flow.Direction.INGRESS, 10000, 20000, 100, "http", "10.0.0.1", "10.0.0.2", 0),
+                flow(Flow.Direction.INGRESS, 70000, 80000, 100, "http", "10.0.0.1", "10.0.0.2", 0)));
+
+        assertThat(aggregator.flush(WINDOW - 1), empty());
+        assertThat(aggregator.flush(WINDOW).stream()
+                .filter(doc -> doc.getGroupedBy() == GroupedBy.EXPORTER)
+                .collect(Collectors.toList()), hasSize(1));
+        assertEquals(1, aggregator.getOpenWindowCount());
+    }
+
+    @Test
+    public void canDropLateFlows() {
+        aggregator.aggregate(List.of(flow(Flow.Direction.INGRESS, 10000, 20000, 100, "http", "10.0.0.1", "10.0.0.2", 0)));
+        assertThat(aggregator.flush(WINDOW), hasSize(greaterThan(0)));
+
+        // A late flow does not reopen the flushed window
+        assertEquals(0, aggregator.aggregate(List.of(flow(Flow.Direction.INGRESS, 30000, 40000, 100, "http", "10.0.0.1", "10.0.0.2", 0))));
+        assertEquals(0, aggregator.getOpenWindowCount());
+        assertEquals(1, lateFlows.getCount());
+
+        // Windows which were never opened are closed as well
+        assertThat(aggregator.flush(3 * WINDOW), empty());
+        assertEquals(0, aggregator.aggregate(List.of(flow(Flow.Direction.INGRESS, 130000, 140000, 100, "http", "10.0.0.1", "10.0.0.2", 0))));
+        assertEquals(2, lateFlows.getCount());
+
+        // Only the bytes of the open windows are kept for flows spanning a flushed window
+        assertEquals(1, aggregator.aggregate(List.of(flow(Flow.Direction.INGRESS, 150000, 210000, 600, "http", "10.0.0.1", "10.0.0.2", 0))));
+        assertEquals(3, lateFlows.getCount());
+
+        final List<FlowSummaryDocument> exporters = aggregator.flushAll().stream()
+                .filter(doc -> doc.getGroupedBy() == GroupedBy.EXPORTER)
+                .collect(Collectors.toList());
+        assertThat(exporters.stream().map(FlowSummaryDocument::getBytesIngress).collect(Collectors.toList()), contains(300L));
+        assertThat(exporters.stream().map(FlowSummaryDocument::getRangeStart).collect(Collectors.toList()), contains(3 * WINDOW));
+    }
+
+    @Test
+    public void canClampFutureFlows() {
+        final FlowAggregator aggregator = new FlowAggregator(WINDOW, 120000, 2, 10, lateFlows,
+                Clock.fixed(Instant.ofEpochMilli(100000), ZoneOffset.UTC));
+
+        // Both flows end in the future, the second one starts there as well
+        aggregator.aggregate(List.of(
+                flow(Flow.Direction.INGRESS, 80000, 1000000, 100, "http", "10.0.0.1", "10.0.0.2", 0),
+                flow(Flow.Direction.INGRESS, 500000, 600000, 100, "http", "10.0.0.1", "10.0.0.2", 0)));
+        assertEquals(1, aggregator.getOpenWindowCount());
+
+        final FlowSummaryDocument exporter = find(aggregator.flushAll(), GroupedBy.EXPORTER, "FS:1");
+        assertEquals(WINDOW, exporter.getRangeStart());
+        assertEquals(200, exporter.getBytesIngress());
+    }
+
+    @Test
+    public void canApplySamplingInterval() {
+        final Flow flow = flow(Flow.Direction.INGRESS, 10000, 20000, 100, "http", "10.0.0.1", "10.0.0.2", 0);
+        when(flow.getSamplingInterval()).thenReturn(10.0);
+        aggregator.aggregate(List.of(flow));
+
+        assertEquals(1000, find(aggregator.flushAll(), GroupedBy.EXPORTER, "FS:1").getBytesIngress());
+    }
+
+    private static FlowSummaryDocument find(final List<FlowSummaryDocument> docs, final GroupedBy groupedBy, final String key) {
+        return docs.stream()
+                .filter(doc -> doc.getGroupedBy() == groupedBy && doc.getGroupedByKey().equals(key))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Flow flow(final Flow.Direction direction, final long first, final long last, final long bytes,
+                             final String application, final String srcAddr, final String dstAddr, final int dscp) {
+        final Flow.NodeInfo exporter = mock(Flow.NodeInfo.class);
+        when(exporter.getForeignSource()).thenReturn("FS");
+        when(exporter.getForeignId()).thenReturn("1");
+        when(exporter.getNodeId()).thenReturn(1);
+
+        final Flow flow = mock(Flow.class);
+        when(flow.getExporterNodeInfo()).thenReturn(exporter);
+        when(flow.getDirection()).thenReturn(direction);
+        when(flow.getInputSnmp()).thenReturn(1);
+        when(flow.getOutputSnmp()).thenReturn(1);
+        when(flow.getFirstSwitched()).thenReturn(Instant.ofEpochMilli(first));
+        when(flow.getLastSwitched()).thenReturn(Instant.ofEpochMilli(last));
+        when(flow.getBytes()).thenReturn(bytes);
+        when(flow.getDscp()).thenReturn(dscp);
+        when(flow.getApplication()).thenReturn(application);
+        when(flow.getSrcAddr()).thenReturn(srcAddr);
+        when(flow.getSrcAddrHostname()).thenReturn(Optional.empty());
+        when(flow.getDstAddr()).thenReturn(dstAddr);
+        when(flow.getDstAddrHostname()).thenReturn(Optional.empty());
+        return flow;
+    }
+}
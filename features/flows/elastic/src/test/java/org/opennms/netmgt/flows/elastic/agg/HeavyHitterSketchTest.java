@@ -0,0 +1,75 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class HeavyHitterSketchTest {
+
+    @Test
+    public void canTrackExactCountsWithinCapacity() {
+        final HeavyHitterSketch sketch = new HeavyHitterSketch(3);
+        sketch.add("a", 10, 0);
+        sketch.add("b", 0, 20);
+        sketch.add("a", 5, 5);
+
+        final List<Map.Entry<String, HeavyHitterSketch.Counter>> top = sketch.top(3);
+        assertThat(top.stream().map(Map.Entry::getKey).collect(Collectors.toList()), contains("b", "a"));
+        assertEquals(15, top.get(1).getValue().getBytesIn());
+        assertEquals(5, top.get(1).getValue().getBytesOut());
+        assertEquals(0, top.get(1).getValue().getError());
+    }
+
+    @Test
+    public void canRetainHeavyHittersWhenEvicting() {
+        final HeavyHitterSketch sketch = new HeavyHitterSketch(2);
+        for (int i = 0; i < 100; i++) {
+            sketch.add("heavy", 100, 0);
+            sketch.add("light-" + i, 1, 0);
+        }
+
+        assertThat(sketch.size(), equalTo(2));
+        final Map.Entry<String, HeavyHitterSketch.Counter> top = sketch.top(1).get(0);
+        assertThat(top.getKey(), equalTo("heavy"));
+        assertThat(top.getValue().getBytesIn(), equalTo(10000L));
+    }
+
+    @Test
+    public void canInheritErrorOfEvictedCounter() {
+        final HeavyHitterSketch sketch = new HeavyHitterSketch(1);
+        sketch.add("a", 10, 0);
+        final HeavyHitterSketch.Counter b = sketch.add("b", 1, 0);
+
+        assertEquals(10, b.getError());
+        assertEquals(11, b.getEstimate());
+        assertEquals(1, b.getBytesIn());
+    }
+}
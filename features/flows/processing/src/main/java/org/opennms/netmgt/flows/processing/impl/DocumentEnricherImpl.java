@@ -23,11 +23,16 @@ package org.opennms.netmgt.flows.processing.impl;
 
 import java.net.InetAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,6 +41,7 @@ import org.opennms.core.cache.Cache;
 import org.opennms.core.cache.CacheBuilder;
 import org.opennms.core.cache.CacheConfig;
 import org.opennms.core.cache.CacheConfigBuilder;
+import org.opennms.core.criteria.CriteriaBuilder;
 import org.opennms.core.mate.api.ContextKey;
 import org.opennms.core.utils.InetAddressUtils;
 import org.opennms.netmgt.dao.api.InterfaceToNodeCache;
@@ -59,12 +65,15 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.google.common.base.Strings;
 import com.google.common.cache.CacheLoader;
+import com.google.common.collect.Iterables;
 
 public class DocumentEnricherImpl {
     private static final Logger LOG = LoggerFactory.getLogger(DocumentEnricherImpl.class);
 
     private static final String NODE_METADATA_CACHE = "flows.node.metadata";
 
+    private static final int MAX_NODES_PER_QUERY = 1000;
+
     private final NodeDao nodeDao;
 
     private final IpInterfaceDao ipInterfaceDao;
@@ -87,6 +96,8 @@ public class DocumentEnricherImpl {
 
     private final DocumentMangler mangler;
 
+    private boolean batchEnrichment = false;
+
     public DocumentEnricherImpl(final MetricRegistry metricRegistry,
                                 final NodeDao nodeDao,
                                 final IpInterfaceDao ipInterfaceDao,
@@ -134,6 +145,10 @@ public class DocumentEnricherImpl {
             return Collections.emptyList();
         }
 
+        if (this.batchEnrichment) {
+            return sessionUtils.withTransaction(() -> enrichBatch(flows, source));
+        }
+
         return sessionUtils.withTransaction(() -> flows.stream().flatMap(flow -> {
             final EnrichedFlow document = this.mangler.mangle(EnrichedFlow.from(flow));
             if (document == null) {
@@ -161,45 +176,128 @@ public class DocumentEnricherImpl {
                 document.setDstLocality(isPrivateAddress(flow.getDstAddr()) ? EnrichedFlow.Locality.PRIVATE : EnrichedFlow.Locality.PUBLIC);
             }
 
-            if (EnrichedFlow.Locality.PUBLIC.equals(document.getDstLocality()) || EnrichedFlow.Locality.PUBLIC.equals(document.getSrcLocality())) {
-                document.setFlowLocality(EnrichedFlow.Locality.PUBLIC);
-            } else if (EnrichedFlow.Locality.PRIVATE.equals(document.getDstLocality()) || EnrichedFlow.Locality.PRIVATE.equals(document.getSrcLocality())) {
-                document.setFlowLocality(EnrichedFlow.Locality.PRIVATE);
+            completeDocument(flow, document);
+
+            return Stream.of(document);
+        }).collect(Collectors.toList()));
+    }
+
+    /**
+     * Enriches a whole batch of flows at once.
+     *
+     * All addresses and metadata keys of the batch are de-duplicated and parsed only once. Node information missing
+     * from the caches is resolved using a single bulk query instead of loading each node on its own.
+     */
+    private List<EnrichedFlow> enrichBatch(final Collection<Flow> flows, final FlowSource source) {
+        final List<Flow> mangledFlows = new ArrayList<>(flows.size());
+        final List<EnrichedFlow> documents = new ArrayList<>(flows.size());
+
+        // Parse each distinct address only once
+        final Map<String, InetAddress> addresses = new HashMap<>();
+        addresses.computeIfAbsent(source.getSourceAddress(), InetAddressUtils::addr);
+
+        for (final Flow flow : flows) {
+            final EnrichedFlow document = this.mangler.mangle(EnrichedFlow.from(flow));
+            if (document == null) {
+                continue;
             }
 
-            final ClassificationRequest classificationRequest = createClassificationRequest(document);
+            mangledFlows.add(flow);
+            documents.add(document);
 
-            // Check whether classification is possible
-            if (classificationRequest.isClassifiable()) {
-                // Apply Application mapping
-                document.setApplication(classificationEngine.classify(classificationRequest));
+            if (flow.getSrcAddr() != null) {
+                addresses.computeIfAbsent(flow.getSrcAddr(), InetAddressUtils::addr);
             }
+            if (flow.getDstAddr() != null) {
+                addresses.computeIfAbsent(flow.getDstAddr(), InetAddressUtils::addr);
+            }
+        }
 
-            // Fix skewed clock
-            // If received time and export time differ to much, correct all timestamps by the difference
-            if (this.clockSkewCorrectionThreshold > 0) {
-                final var skew = Duration.between(flow.getReceivedAt(), flow.getTimestamp());
-                if (skew.abs().toMillis() >= this.clockSkewCorrectionThreshold) {
-                    // The applied correction is the negative skew
-                    document.setClockCorrection(skew.negated());
-
-                    // Fix the skew on all timestamps of the flow
-                    document.setTimestamp(flow.getTimestamp().minus(skew));
-                    document.setFirstSwitched(flow.getFirstSwitched().minus(skew));
-                    document.setDeltaSwitched(flow.getDeltaSwitched().minus(skew));
-                    document.setLastSwitched(flow.getLastSwitched().minus(skew));
-                }
+        final Map<InetAddress, Optional<NodeInfo>> nodeInfos = getNodeInfosFromCache(source.getLocation(), addresses.values());
+        final Map<NodeMetadataKey, Optional<NodeInfo>> metadataNodeInfos = new HashMap<>();
+
+        for (int i = 0; i < documents.size(); i++) {
+            final Flow flow = mangledFlows.get(i);
+            final EnrichedFlow document = documents.get(i);
+
+            // Metadata from message
+            document.setHost(source.getSourceAddress());
+            document.setLocation(source.getLocation());
+
+            // Node data
+            Optional<NodeInfo> exporterNodeInfo = Optional.empty();
+            if (source.getContextKey() != null && !Strings.isNullOrEmpty(flow.getNodeIdentifier())) {
+                exporterNodeInfo = metadataNodeInfos.computeIfAbsent(new NodeMetadataKey(source.getContextKey(), flow.getNodeIdentifier()),
+                                                                     this::getNodeInfoFromMetadataCache);
+            }
+            if (!exporterNodeInfo.isPresent()) {
+                exporterNodeInfo = nodeInfos.getOrDefault(addresses.get(source.getSourceAddress()), Optional.empty());
             }
+            exporterNodeInfo.ifPresent(document::setExporterNodeInfo);
 
-            return Stream.of(document);
-        }).collect(Collectors.toList()));
+            if (flow.getDstAddr() != null) {
+                final InetAddress dstAddr = addresses.get(flow.getDstAddr());
+                nodeInfos.getOrDefault(dstAddr, Optional.empty()).ifPresent(document::setSrcNodeInfo);
+                document.setDstLocality(getLocality(dstAddr));
+            }
+            if (flow.getSrcAddr() != null) {
+                final InetAddress srcAddr = addresses.get(flow.getSrcAddr());
+                nodeInfos.getOrDefault(srcAddr, Optional.empty()).ifPresent(document::setDstNodeInfo);
+                document.setSrcLocality(getLocality(srcAddr));
+            }
+
+            completeDocument(flow, document);
+        }
+
+        return documents;
+    }
+
+    private void completeDocument(final Flow flow, final EnrichedFlow document) {
+        if (EnrichedFlow.Locality.PUBLIC.equals(document.getDstLocality()) || EnrichedFlow.Locality.PUBLIC.equals(document.getSrcLocality())) {
+            document.setFlowLocality(EnrichedFlow.Locality.PUBLIC);
+        } else if (EnrichedFlow.Locality.PRIVATE.equals(document.getDstLocality()) || EnrichedFlow.Locality.PRIVATE.equals(document.getSrcLocality())) {
+            document.setFlowLocality(EnrichedFlow.Locality.PRIVATE);
+        }
+
+        // Check whether classification is possible
+        if (isClassifiable(document)) {
+            // Apply Application mapping
+            document.setApplication(classificationEngine.classify(document.getLocation(),
+                                                                  document.getProtocol(),
+                                                                  document.getSrcPort(), document.getSrcAddr(),
+                                                                  document.getDstPort(), document.getDstAddr(),
+                                                                  document.getHost()));
+        }
+
+        // Fix skewed clock
+        // If received time and export time differ to much, correct all timestamps by the difference
+        if (this.clockSkewCorrectionThreshold > 0) {
+            final var skew = Duration.between(flow.getReceivedAt(), flow.getTimestamp());
+            if (skew.abs().toMillis() >= this.clockSkewCorrectionThreshold) {
+                // The applied correction is the negative skew
+                document.setClockCorrection(skew.negated());
+
+                // Fix the skew on all timestamps of the flow
+                document.setTimestamp(flow.getTimestamp().minus(skew));
+                document.setFirstSwitched(flow.getFirstSwitched().minus(skew));
+                document.setDeltaSwitched(flow.getDeltaSwitched().minus(skew));
+                document.setLastSwitched(flow.getLastSwitched().minus(skew));
+            }
+        }
     }
 
     private static boolean isPrivateAddress(String ipAddress) {
-        final InetAddress inetAddress = InetAddressUtils.addr(ipAddress);
+        return isPrivateAddress(InetAddressUtils.addr(ipAddress));
+    }
+
+    private static boolean isPrivateAddress(final InetAddress inetAddress) {
         return inetAddress.isLoopbackAddress() || inetAddress.isLinkLocalAddress() || inetAddress.isSiteLocalAddress();
     }
 
+    private static EnrichedFlow.Locality getLocality(final InetAddress inetAddress) {
+        return isPrivateAddress(inetAddress) ? EnrichedFlow.Locality.PRIVATE : EnrichedFlow.Locality.PUBLIC;
+    }
+
     private Optional<NodeInfo> getNodeInfoFromCache(final String location, final String ipAddress, final ContextKey contextKey, final String value) {
         Optional<NodeInfo> nodeDocument = Optional.empty();
         if (contextKey != null && !Strings.isNullOrEmpty(value)) {
@@ -228,6 +326,65 @@ public class DocumentEnricherImpl {
     }
 
 
+    private Optional<NodeInfo> getNodeInfoFromMetadataCache(final NodeMetadataKey metadataKey) {
+        try {
+            return this.nodeMetadataCache.get(metadataKey);
+        } catch (ExecutionException e) {
+            LOG.error("Error while retrieving NodeDocument from NodeMetadataCache: {}.", e.getMessage(), e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Map<InetAddress, Optional<NodeInfo>> getNodeInfosFromCache(final String location, final Collection<InetAddress> addresses) {
+        final Map<InetAddress, InterfaceToNodeCache.Entry> entries = new HashMap<>();
+        final Map<InterfaceToNodeCache.Entry, Optional<NodeInfo>> nodeInfos = new HashMap<>();
+        final Set<Integer> missingNodeIds = new HashSet<>();
+
+        for (final InetAddress address : addresses) {
+            final var entry = this.interfaceToNodeCache.getFirst(location, address);
+            if (!entry.isPresent()) {
+                continue;
+            }
+
+            entries.put(address, entry.get());
+            if (!nodeInfos.containsKey(entry.get())) {
+                final Optional<NodeInfo> nodeInfo = this.nodeInfoCache.getIfCached(entry.get());
+                if (nodeInfo != null) {
+                    nodeInfos.put(entry.get(), nodeInfo);
+                } else {
+                    missingNodeIds.add(entry.get().nodeId);
+                }
+            }
+        }
+
+        if (!missingNodeIds.isEmpty()) {
+            final Map<Integer, OnmsNode> nodes = getNodes(missingNodeIds);
+            for (final InterfaceToNodeCache.Entry entry : entries.values()) {
+                if (!nodeInfos.containsKey(entry)) {
+                    final Optional<NodeInfo> nodeInfo = mapOnmsNodeToNodeDocument(nodes.get(entry.nodeId), entry.interfaceId);
+                    nodeInfos.put(entry, nodeInfo);
+                    this.nodeInfoCache.put(entry, nodeInfo);
+                }
+            }
+        }
+
+        final Map<InetAddress, Optional<NodeInfo>> result = new HashMap<>();
+        entries.forEach((address, entry) -> result.put(address, nodeInfos.get(entry)));
+        return result;
+    }
+
+    private Map<Integer, OnmsNode> getNodes(final Set<Integer> nodeIds) {
+        final Map<Integer, OnmsNode> nodes = new HashMap<>();
+        try (Timer.Context ctx = this.nodeLoadTimer.time()) {
+            for (final List<Integer> partition : Iterables.partition(nodeIds, MAX_NODES_PER_QUERY)) {
+                for (final OnmsNode node : this.nodeDao.findMatching(new CriteriaBuilder(OnmsNode.class).in("id", partition).toCriteria())) {
+                    nodes.put(node.getId(), node);
+                }
+            }
+        }
+        return nodes;
+    }
+
     // Key class, which is used to cache NodeInfo for a given node metadata.
     private static class NodeMetadataKey {
 
@@ -302,6 +459,22 @@ public class DocumentEnricherImpl {
         return Optional.empty();
     }
 
+    public boolean isBatchEnrichment() {
+        return this.batchEnrichment;
+    }
+
+    public void setBatchEnrichment(final boolean batchEnrichment) {
+        this.batchEnrichment = batchEnrichment;
+    }
+
+    private static boolean isClassifiable(final EnrichedFlow document) {
+        // Same as ClassificationRequest.isClassifiable() without creating a request
+        return document.getSrcPort() != null
+               && document.getDstPort() != null
+               && document.getProtocol() != null
+               && Protocols.getProtocol(document.getProtocol()) != null;
+    }
+
     public static ClassificationRequest createClassificationRequest(EnrichedFlow document) {
         final ClassificationRequest request = new ClassificationRequest();
         request.setProtocol(Protocols.getProtocol(document.getProtocol()));
@@ -21,12 +21,20 @@
  */
 package org.opennms.netmgt.flows.processing.impl;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.opennms.netmgt.flows.api.DetailedFlowException;
 import org.opennms.netmgt.flows.api.Flow;
 import org.opennms.integration.api.v1.flows.FlowException;
 import org.opennms.netmgt.flows.api.FlowSource;
@@ -39,10 +47,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class PipelineImpl implements Pipeline {
 
@@ -85,6 +96,23 @@ public class PipelineImpl implements Pipeline {
 
     private final Map<String, Persister> persisters = Maps.newConcurrentMap();
 
+    /**
+     * Number of threads persisting flows per repository. If zero, flows are persisted on the calling thread.
+     */
+    private int persisterThreads = 1;
+
+    /**
+     * Number of flow batches queued per repository before the calling thread is blocked.
+     */
+    private int persisterQueueSize = 64;
+
+    /**
+     * Maximum number of flows coalesced from queued batches into a single call to the repository.
+     */
+    private int persisterMaxBatchSize = 5000;
+
+    private long persisterShutdownTimeoutMs = 30000;
+
     public PipelineImpl(final MetricRegistry metricRegistry,
                         final DocumentEnricherImpl documentEnricher,
                         final InterfaceMarkerImpl interfaceMarker,
@@ -135,12 +163,19 @@ public class PipelineImpl implements Pipeline {
             throw new FlowException("Failed to threshold one or more flows.", e);
         }
 
-        // Push flows to persistence
+        // Push flows to persistence - this blocks if any of the persisters can not keep up
         for (final var persister : this.persisters.entrySet()) {
             persister.getValue().persist(enrichedFlows);
         }
     }
 
+    public synchronized void destroy() {
+        for (final var persister : this.persisters.values()) {
+            persister.close();
+        }
+        this.persisters.clear();
+    }
+
     @SuppressWarnings("rawtypes")
     public synchronized void onBind(final FlowRepository repository, final Map properties) {
         if (properties.get(REPOSITORY_ID) == null) {
@@ -149,8 +184,12 @@ public class PipelineImpl implements Pipeline {
         }
 
         final String pid = Objects.toString(properties.get(REPOSITORY_ID));
-        this.persisters.put(pid, new Persister(repository,
-                                               this.metricRegistry.timer(MetricRegistry.name("logPersisting", pid))));
+        final Persister previous = this.persisters.put(pid, this.persisterThreads > 0
+                                                            ? new QueuedPersister(pid, repository)
+                                                            : new Persister(pid, repository));
+        if (previous != null) {
+            previous.close();
+        }
     }
 
     @SuppressWarnings("rawtypes")
@@ -161,22 +200,232 @@ public class PipelineImpl implements Pipeline {
         }
 
         final String pid = Objects.toString(properties.get(REPOSITORY_ID));
-        this.persisters.remove(pid);
+        final Persister persister = this.persisters.remove(pid);
+        if (persister != null) {
+            persister.close();
+        }
+    }
+
+    public int getPersisterThreads() {
+        return this.persisterThreads;
+    }
+
+    public void setPersisterThreads(final int persisterThreads) {
+        this.persisterThreads = persisterThreads;
+    }
+
+    public int getPersisterQueueSize() {
+        return this.persisterQueueSize;
+    }
+
+    public void setPersisterQueueSize(final int persisterQueueSize) {
+        this.persisterQueueSize = persisterQueueSize;
+    }
+
+    public int getPersisterMaxBatchSize() {
+        return this.persisterMaxBatchSize;
+    }
+
+    public void setPersisterMaxBatchSize(final int persisterMaxBatchSize) {
+        this.persisterMaxBatchSize = persisterMaxBatchSize;
     }
 
-    private static class Persister {
-        public final FlowRepository repository;
-        public final Timer logTimer;
+    public long getPersisterShutdownTimeoutMs() {
+        return this.persisterShutdownTimeoutMs;
+    }
+
+    public void setPersisterShutdownTimeoutMs(final long persisterShutdownTimeoutMs) {
+        this.persisterShutdownTimeoutMs = persisterShutdownTimeoutMs;
+    }
 
-        public Persister(final FlowRepository repository, final Timer logTimer) {
+    /**
+     * Persists flows to a repository on the calling thread.
+     */
+    private class Persister {
+        protected final String pid;
+        protected final FlowRepository repository;
+
+        /**
+         * Time taken to persist the flows to the repository
+         */
+        protected final Timer logTimer;
+
+        public Persister(final String pid, final FlowRepository repository) {
+            this.pid = Objects.requireNonNull(pid);
             this.repository = Objects.requireNonNull(repository);
-            this.logTimer = Objects.requireNonNull(logTimer);
+            this.logTimer = metricRegistry.timer(MetricRegistry.name("logPersisting", pid));
         }
 
-        public void persist(final Collection<EnrichedFlow> flows) throws FlowException {
+        public void persist(final List<EnrichedFlow> flows) throws FlowException {
             try (final var ctx = this.logTimer.time()) {
                 this.repository.persist(flows);
             }
         }
+
+        public void close() {
+        }
+    }
+
+    /**
+     * Persists flows to a repository using dedicated threads.
+     *
+     * Batches are handed over using a bounded queue. If the queue is full, the calling thread is blocked until the
+     * repository catches up, which propagates the back-pressure to the sink consumer. Batches queued while the
+     * repository was busy are coalesced into a single call.
+     */
+    private class QueuedPersister extends Persister {
+        private final BlockingQueue<Batch> queue;
+        private final ExecutorService executor;
+        private volatile boolean running = true;
+
+        /**
+         * Held by callers while handing over a batch, so that no batch is queued once closing started
+         */
+        private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+        /**
+         * Time batches spent in the queue
+         */
+        private final Timer queueLatencyTimer;
+
+        /**
+         * Time callers were blocked because the queue was full
+         */
+        private final Timer backPressureTimer;
+
+        /**
+         * Number of flows passed to the repository per call
+         */
+        private final Histogram batchSizeHistogram;
+
+        /**
+         * Number of flows which failed to persist
+         */
+        private final Meter flowsFailedMeter;
+
+        private final String queueDepthGaugeName;
+
+        private final Gauge<Integer> queueDepthGauge;
+
+        public QueuedPersister(final String pid, final FlowRepository repository) {
+            super(pid, repository);
+            this.queue = new ArrayBlockingQueue<>(persisterQueueSize);
+
+            this.queueLatencyTimer = metricRegistry.timer(MetricRegistry.name("logQueued", pid));
+            this.backPressureTimer = metricRegistry.timer(MetricRegistry.name("logBackPressure", pid));
+            this.batchSizeHistogram = metricRegistry.histogram(MetricRegistry.name("flowsPerPersist", pid));
+            this.flowsFailedMeter = metricRegistry.meter(MetricRegistry.name("flowsFailed", pid));
+
+            this.queueDepthGaugeName = MetricRegistry.name("persisterQueueDepth", pid);
+            this.queueDepthGauge = this.queue::size;
+            metricRegistry.remove(this.queueDepthGaugeName);
+            metricRegistry.register(this.queueDepthGaugeName, this.queueDepthGauge);
+
+            this.executor = Executors.newFixedThreadPool(persisterThreads, new ThreadFactoryBuilder()
+                    .setNameFormat("flow-persister-" + pid + "-%d")
+                    .build());
+            for (int i = 0; i < persisterThreads; i++) {
+                this.executor.execute(this::drain);
+            }
+        }
+
+        @Override
+        public void persist(final List<EnrichedFlow> flows) throws FlowException {
+            this.closeLock.readLock().lock();
+            try {
+                if (!this.running) {
+                    throw new FlowException("Persister for " + this.pid + " has been closed.");
+                }
+
+                final Batch batch = new Batch(flows);
+                if (this.queue.offer(batch)) {
+                    return;
+                }
+
+                // The workers keep draining while a caller is blocked here, so closing waits for the batch to be queued
+                try (final var ctx = this.backPressureTimer.time()) {
+                    this.queue.put(batch);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new FlowException("Interrupted while waiting for persister " + this.pid + ".", e);
+                }
+            } finally {
+                this.closeLock.readLock().unlock();
+            }
+        }
+
+        private void drain() {
+            while (this.running || !this.queue.isEmpty()) {
+                final Batch first;
+                try {
+                    first = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    LOG.warn("Persister for {} was interrupted. {} batches are lost.", this.pid, this.queue.size());
+                    return;
+                }
+                if (first == null) {
+                    continue;
+                }
+                this.queueLatencyTimer.update(System.nanoTime() - first.queued, TimeUnit.NANOSECONDS);
+
+                // Coalesce batches queued in the meantime
+                List<EnrichedFlow> flows = first.flows;
+                Batch next;
+                while (flows.size() < persisterMaxBatchSize && (next = this.queue.poll()) != null) {
+                    this.queueLatencyTimer.update(System.nanoTime() - next.queued, TimeUnit.NANOSECONDS);
+                    if (flows == first.flows) {
+                        flows = new ArrayList<>(first.flows);
+                    }
+                    flows.addAll(next.flows);
+                }
+                this.batchSizeHistogram.update(flows.size());
+
+                try {
+                    super.persist(flows);
+                } catch (final DetailedFlowException ex) {
+                    this.flowsFailedMeter.mark(flows.size());
+                    LOG.error("Error while persisting flows to {}: {}", this.pid, ex.getMessage(), ex);
+                    for (final String logMessage : ex.getDetailedLogMessages()) {
+                        LOG.error(logMessage);
+                    }
+                } catch (final Exception ex) {
+                    this.flowsFailedMeter.mark(flows.size());
+                    LOG.error("Error while persisting flows to {}: {}", this.pid, ex.getMessage(), ex);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            this.closeLock.writeLock().lock();
+            try {
+                this.running = false;
+            } finally {
+                this.closeLock.writeLock().unlock();
+            }
+            this.executor.shutdown();
+            try {
+                if (!this.executor.awaitTermination(persisterShutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    LOG.warn("Persister for {} did not finish in time. {} batches are lost.", this.pid, this.queue.size());
+                    this.executor.shutdownNow();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.executor.shutdownNow();
+            }
+            // The persister replacing this one registers its gauge under the same name
+            if (metricRegistry.getMetrics().get(this.queueDepthGaugeName) == this.queueDepthGauge) {
+                metricRegistry.remove(this.queueDepthGaugeName);
+            }
+        }
+    }
+
+    private static class Batch {
+        private final List<EnrichedFlow> flows;
+        private final long queued = System.nanoTime();
+
+        private Batch(final List<EnrichedFlow> flows) {
+            this.flows = flows;
+        }
     }
 }
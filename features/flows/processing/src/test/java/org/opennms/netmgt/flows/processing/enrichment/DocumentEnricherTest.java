@@ -89,6 +89,62 @@ public class DocumentEnricherTest {
         Assert.assertEquals(6, nodeDaoGetCounter.get());
     }
 
+    @Test
+    public void verifyBatchEnrichment() throws InterruptedException {
+        final MockDocumentEnricherFactory factory = new MockDocumentEnricherFactory();
+        final DocumentEnricherImpl enricher = factory.getEnricher();
+        final NodeDao nodeDao = factory.getNodeDao();
+        final InterfaceToNodeCache interfaceToNodeCache = factory.getInterfaceToNodeCache();
+        final AtomicInteger nodeDaoGetCounter = factory.getNodeDaoGetCounter();
+
+        interfaceToNodeCache.setNodeId("Default", InetAddressUtils.addr("10.0.0.1"), 1);
+        interfaceToNodeCache.setNodeId("Default", InetAddressUtils.addr("10.0.0.2"), 2);
+        interfaceToNodeCache.setNodeId("Default", InetAddressUtils.addr("10.0.0.3"), 3);
+
+        nodeDao.save(createOnmsNode(1, "my-requisition"));
+        nodeDao.save(createOnmsNode(2, "my-requisition"));
+        nodeDao.save(createOnmsNode(3, "my-requisition"));
+
+        // get is called for each save
+        Assert.assertEquals(3, nodeDaoGetCounter.get());
+
+        final List<Flow> documents = Lists.newArrayList();
+        documents.add(createFlowDocument("10.0.0.1", "10.0.0.2"));
+        documents.add(createFlowDocument("10.0.0.1", "10.0.0.3"));
+        documents.add(createFlowDocument("10.0.0.2", "8.8.8.8"));
+
+        enricher.setBatchEnrichment(true);
+        final List<EnrichedFlow> batched = enricher.enrich(documents, new FlowSource("Default", "127.0.0.1", null));
+
+        // Nodes are loaded in bulk and never one by one
+        Assert.assertEquals(3, nodeDaoGetCounter.get());
+
+        // Enriching the same flows one by one must yield the same result
+        enricher.setBatchEnrichment(false);
+        final List<EnrichedFlow> single = enricher.enrich(documents, new FlowSource("Default", "127.0.0.1", null));
+
+        // All nodes have been cached by the batch enrichment
+        Assert.assertEquals(3, nodeDaoGetCounter.get());
+
+        Assert.assertEquals(single.size(), batched.size());
+        for (int i = 0; i < single.size(); i++) {
+            Assert.assertEquals(nodeIdOf(single.get(i).getSrcNodeInfo()), nodeIdOf(batched.get(i).getSrcNodeInfo()));
+            Assert.assertEquals(nodeIdOf(single.get(i).getDstNodeInfo()), nodeIdOf(batched.get(i).getDstNodeInfo()));
+            Assert.assertEquals(nodeIdOf(single.get(i).getExporterNodeInfo()), nodeIdOf(batched.get(i).getExporterNodeInfo()));
+            Assert.assertEquals(single.get(i).getSrcLocality(), batched.get(i).getSrcLocality());
+            Assert.assertEquals(single.get(i).getDstLocality(), batched.get(i).getDstLocality());
+            Assert.assertEquals(single.get(i).getFlowLocality(), batched.get(i).getFlowLocality());
+            Assert.assertEquals(single.get(i).getApplication(), batched.get(i).getApplication());
+        }
+
+        Assert.assertEquals(EnrichedFlow.Locality.PUBLIC, batched.get(2).getFlowLocality());
+        Assert.assertEquals(EnrichedFlow.Locality.PRIVATE, batched.get(0).getFlowLocality());
+    }
+
+    private static Integer nodeIdOf(final NodeInfo nodeInfo) {
+        return nodeInfo != null ? nodeInfo.getNodeId() : null;
+    }
+
     private static Flow createFlowDocument(String sourceIp, String destIp) {
         return createFlowDocument(sourceIp, destIp, 0);
     }
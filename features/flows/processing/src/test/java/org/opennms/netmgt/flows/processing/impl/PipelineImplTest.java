@@ -0,0 +1,251 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.processing.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.integration.api.v1.flows.Flow;
+import org.opennms.integration.api.v1.flows.FlowRepository;
+import org.opennms.netmgt.flows.api.FlowSource;
+import org.opennms.netmgt.flows.processing.ProcessingOptions;
+import org.opennms.netmgt.flows.processing.enrichment.EnrichedFlow;
+
+import com.codahale.metrics.MetricRegistry;
+
+public class PipelineImplTest {
+
+    private final FlowSource source = new FlowSource("Default", "127.0.0.1", null);
+
+    private final ProcessingOptions options = ProcessingOptions.builder().build();
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
+    private PipelineImpl pipeline;
+
+    @Before
+    public void setUp() {
+        final DocumentEnricherImpl enricher = mock(DocumentEnricherImpl.class);
+        when(enricher.enrich(any(), any())).thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).stream()
+                .map(flow -> mock(EnrichedFlow.class))
+                .collect(Collectors.toList()));
+
+        this.pipeline = new PipelineImpl(this.metricRegistry,
+                                         enricher,
+                                         mock(InterfaceMarkerImpl.class),
+                                         mock(FlowThresholdingImpl.class));
+    }
+
+    @After
+    public void tearDown() {
+        this.pipeline.destroy();
+    }
+
+    @Test(timeout = 10000)
+    public void slowRepositoryDoesNotDelayOthers() throws Exception {
+        final BlockingRepository slow = new BlockingRepository();
+        final BlockingRepository fast = new BlockingRepository();
+        fast.release.countDown();
+
+        this.pipeline.onBind(slow, Map.of(PipelineImpl.REPOSITORY_ID, "slow"));
+        this.pipeline.onBind(fast, Map.of(PipelineImpl.REPOSITORY_ID, "fast"));
+
+        this.pipeline.process(flows(3), this.source, this.options);
+        this.pipeline.process(flows(2), this.source, this.options);
+
+        fast.awaitFlows(5);
+        assertEquals(0, slow.flowCount());
+
+        slow.release.countDown();
+        slow.awaitFlows(5);
+    }
+
+    @Test(timeout = 10000)
+    public void blocksWhenQueueIsFull() throws Exception {
+        this.pipeline.setPersisterQueueSize(1);
+
+        final BlockingRepository slow = new BlockingRepository();
+        this.pipeline.onBind(slow, Map.of(PipelineImpl.REPOSITORY_ID, "slow"));
+
+        // The first batch is taken by the worker, the second one fills the queue
+        this.pipeline.process(flows(1), this.source, this.options);
+        slow.entered.await();
+        this.pipeline.process(flows(1), this.source, this.options);
+        assertEquals(1, this.metricRegistry.getGauges().get("persisterQueueDepth.slow").getValue());
+
+        final CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                this.pipeline.process(flows(1), this.source, this.options);
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(200);
+        assertFalse(blocked.isDone());
+
+        slow.release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        slow.awaitFlows(3);
+        assertTrue(this.metricRegistry.getTimers().get("logBackPressure.slow").getCount() > 0);
+    }
+
+    @Test(timeout = 10000)
+    public void coalescesQueuedBatches() throws Exception {
+        final BlockingRepository slow = new BlockingRepository();
+        this.pipeline.onBind(slow, Map.of(PipelineImpl.REPOSITORY_ID, "slow"));
+
+        this.pipeline.process(flows(1), this.source, this.options);
+        slow.entered.await();
+        this.pipeline.process(flows(2), this.source, this.options);
+        this.pipeline.process(flows(3), this.source, this.options);
+
+        slow.release.countDown();
+        slow.awaitFlows(6);
+        assertThat(slow.batchSizes, contains(1, 5));
+    }
+
+    @Test
+    public void canPersistOnCallingThread() throws Exception {
+        this.pipeline.setPersisterThreads(0);
+
+        final BlockingRepository repository = new BlockingRepository();
+        repository.release.countDown();
+        this.pipeline.onBind(repository, Map.of(PipelineImpl.REPOSITORY_ID, "sync"));
+
+        this.pipeline.process(flows(2), this.source, this.options);
+        assertEquals(2, repository.flowCount());
+    }
+
+    @Test
+    public void flushesQueuedBatchesOnUnbind() throws Exception {
+        final BlockingRepository repository = new BlockingRepository();
+        final Map<String, String> properties = Map.of(PipelineImpl.REPOSITORY_ID, "repo");
+        this.pipeline.onBind(repository, properties);
+
+        this.pipeline.process(flows(2), this.source, this.options);
+        repository.release.countDown();
+        this.pipeline.onUnbind(repository, properties);
+
+        assertEquals(2, repository.flowCount());
+        assertFalse(this.metricRegistry.getGauges().containsKey("persisterQueueDepth.repo"));
+    }
+
+    @Test
+    public void keepsQueueDepthGaugeOfReplacingPersister() throws Exception {
+        final BlockingRepository previous = new BlockingRepository();
+        previous.release.countDown();
+        final BlockingRepository replacement = new BlockingRepository();
+        replacement.release.countDown();
+        final Map<String, String> properties = Map.of(PipelineImpl.REPOSITORY_ID, "repo");
+
+        this.pipeline.onBind(previous, properties);
+        this.pipeline.onBind(replacement, properties);
+        assertTrue(this.metricRegistry.getGauges().containsKey("persisterQueueDepth.repo"));
+
+        this.pipeline.process(flows(2), this.source, this.options);
+        replacement.awaitFlows(2);
+        assertEquals(0, previous.flowCount());
+    }
+
+    @Test(timeout = 10000)
+    public void persistsBatchesQueuedWhileClosing() throws Exception {
+        this.pipeline.setPersisterQueueSize(1);
+
+        final BlockingRepository slow = new BlockingRepository();
+        final Map<String, String> properties = Map.of(PipelineImpl.REPOSITORY_ID, "slow");
+        this.pipeline.onBind(slow, properties);
+
+        // The first batch is taken by the worker, the second one fills the queue and the third one is blocked
+        this.pipeline.process(flows(1), this.source, this.options);
+        slow.entered.await();
+        this.pipeline.process(flows(1), this.source, this.options);
+        final CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                this.pipeline.process(flows(1), this.source, this.options);
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(200);
+
+        final CompletableFuture<Void> unbound = CompletableFuture.runAsync(() -> this.pipeline.onUnbind(slow, properties));
+        Thread.sleep(200);
+        slow.release.countDown();
+
+        blocked.get(5, TimeUnit.SECONDS);
+        unbound.get(5, TimeUnit.SECONDS);
+        assertEquals(3, slow.flowCount());
+    }
+
+    private static List<org.opennms.netmgt.flows.api.Flow> flows(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> mock(org.opennms.netmgt.flows.api.Flow.class))
+                .collect(Collectors.toList());
+    }
+
+    private static class BlockingRepository implements FlowRepository {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void persist(final Collection<? extends Flow> flows) {
+            this.entered.countDown();
+            try {
+                this.release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            this.batchSizes.add(flows.size());
+        }
+
+        private int flowCount() {
+            return this.batchSizes.stream().mapToInt(Integer::intValue).sum();
+        }
+
+        private void awaitFlows(final int count) throws InterruptedException {
+            while (flowCount() < count) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
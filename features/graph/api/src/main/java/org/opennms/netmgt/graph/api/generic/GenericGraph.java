@@ -37,11 +37,13 @@ import java.util.stream.Collectors;
 import org.opennms.netmgt.graph.api.Edge;
 import org.opennms.netmgt.graph.api.ImmutableGraph;
 import org.opennms.netmgt.graph.api.NodeRef;
+import org.opennms.netmgt.graph.api.Vertex;
 import org.opennms.netmgt.graph.api.VertexRef;
 import org.opennms.netmgt.graph.api.focus.Focus;
 import org.opennms.netmgt.graph.api.focus.FocusStrategy;
 import org.opennms.netmgt.graph.api.info.GraphInfo;
 import org.opennms.netmgt.graph.api.transformer.SemanticZoomLevelTransformer;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
@@ -340,14 +342,77 @@ public final class GenericGraph extends GenericElement implements ImmutableGraph
         
         public void removeEdge(GenericEdge edge) {
             Objects.requireNonNull(edge);
-            jungGraph.removeEdge(edge);
-            edgeToIdMap.remove(edge.getId());
+            final GenericEdge removedEdge = edgeToIdMap.remove(edge.getId());
+            jungGraph.removeEdge(removedEdge != null ? removedEdge : edge);
         }
         
         public void removeVertex(GenericVertex vertex) {
             Objects.requireNonNull(vertex);
-            jungGraph.removeVertex(vertex.getVertexRef());
-            vertexToIdMap.remove(vertex.getId());
+            final VertexRef vertexRef = vertex.getVertexRef();
+            if (jungGraph.containsVertex(vertexRef)) {
+                // The jung graph drops the edges of the vertex as well, so do we
+                jungGraph.getIncidentEdges(vertexRef).forEach(edge -> edgeToIdMap.remove(edge.getId()));
+                jungGraph.removeVertex(vertexRef);
+            }
+            final GenericVertex removedVertex = vertexToIdMap.remove(vertex.getId());
+            if (removedVertex != null && removedVertex.getNodeRef() != null) {
+                final List<GenericVertex> vertices = nodeRefToVertexMap.get(removedVertex.getNodeRef());
+                if (vertices != null) {
+                    vertices.remove(removedVertex);
+                    if (vertices.isEmpty()) {
+                        nodeRefToVertexMap.remove(removedVertex.getNodeRef());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Applies the given {@link ChangeSet} to this builder.
+         * Elements are removed first, afterwards updated and added ones are (re-)added.
+         * Updating a vertex keeps its edges.
+         *
+         * @param changeSet The changes to apply. Must share the namespace with this builder.
+         * @return this builder
+         */
+        public GenericGraphBuilder apply(ChangeSet<?, ?, ?> changeSet) {
+            Objects.requireNonNull(changeSet);
+            if (!getNamespace().equals(changeSet.getNamespace())) {
+                throw new IllegalArgumentException(
+                        String.format("The namespace of the change set (%s) doesn't match the namespace of this graph (%s)",
+                                changeSet.getNamespace(), getNamespace()));
+            }
+            changeSet.getEdgesRemoved().forEach(edge -> removeEdge(edge.asGenericEdge()));
+            changeSet.getVerticesRemoved().forEach(vertex -> removeVertex(vertex.asGenericVertex()));
+            for (Vertex eachVertex : changeSet.getVerticesUpdated()) {
+                final GenericVertex vertex = eachVertex.asGenericVertex();
+                final GenericVertex existingVertex = vertexToIdMap.get(vertex.getId());
+                if (existingVertex != null) {
+                    // Keep the edges: only swap the vertex, the jung graph is keyed by the (unchanged) vertex ref
+                    final List<GenericEdge> edges = new ArrayList<>(jungGraph.getIncidentEdges(existingVertex.getVertexRef()));
+                    removeVertex(existingVertex);
+                    addVertex(vertex);
+                    edges.forEach(this::addEdge);
+                } else {
+                    addVertex(vertex);
+                }
+            }
+            changeSet.getVerticesAdded().forEach(vertex -> addVertex(vertex.asGenericVertex()));
+            for (Edge eachEdge : changeSet.getEdgesUpdated()) {
+                final GenericEdge edge = eachEdge.asGenericEdge();
+                if (edgeToIdMap.containsKey(edge.getId())) {
+                    removeEdge(edgeToIdMap.get(edge.getId()));
+                }
+                addEdge(edge);
+            }
+            changeSet.getEdgesAdded().forEach(edge -> addEdge(edge.asGenericEdge()));
+            if (changeSet.hasGraphInfoChanged()) {
+                label(changeSet.getGraphInfo().getLabel());
+                description(changeSet.getGraphInfo().getDescription());
+            }
+            if (changeSet.hasFocusChanged()) {
+                focus(changeSet.getFocus());
+            }
+            return this;
         }
         
         public String getNamespace() {
@@ -22,8 +22,27 @@
 package org.opennms.netmgt.graph.api.service;
 
 import org.opennms.netmgt.graph.api.ImmutableGraphContainer;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
 
 public interface GraphContainerCache {
     void invalidate(String containerId);
     ImmutableGraphContainer get(String containerId);
+
+    /**
+     * Returns the cached container, without loading it if it is not cached.
+     *
+     * @param containerId The id of the container
+     * @return The cached container or null if the container is not cached (yet)
+     */
+    ImmutableGraphContainer getIfPresent(String containerId);
+
+    /**
+     * Applies the given changes to the graph of the cached container, without reloading the container.
+     * Readers keep the snapshot they already obtained, subsequent calls to {@link #get(String)} return the changed container.
+     * If the container is not cached (yet), nothing happens, as it is fully loaded on the next {@link #get(String)} anyways.
+     *
+     * @param containerId The id of the container the changed graph belongs to
+     * @param changeSet The changes of a graph within that container
+     */
+    void apply(String containerId, ChangeSet<?, ?, ?> changeSet);
 }
@@ -124,6 +124,14 @@ public final class ChangeSet<G extends ImmutableGraph<V, E>, V extends Vertex, E
         return new ChangeSetBuilder<>(oldGraph, newGraph);
     }
 
+    /**
+     * Creates a builder for a change set, which is not calculated by comparing two graphs,
+     * but populated explicitly by someone who knows what has changed, e.g. a provider reacting to an event.
+     */
+    public static <G extends ImmutableGraph<V, E>, V extends Vertex, E extends Edge> ChangeSetBuilder<G, V, E> builder(String namespace) {
+        return new ChangeSetBuilder<>(namespace);
+    }
+
     public static final class ChangeSetBuilder<G extends ImmutableGraph<V, E>, V extends Vertex, E extends Edge> {
         private final G newGraph;
         private final G oldGraph;
@@ -147,47 +155,53 @@ public final class ChangeSet<G extends ImmutableGraph<V, E>, V extends Vertex, E
             this.newGraph = newGraph;
         }
 
+        private ChangeSetBuilder(String namespace) {
+            this.namespace = Objects.requireNonNull(namespace);
+            this.oldGraph = null;
+            this.newGraph = null;
+        }
+
         public ChangeSetBuilder withDate(Date changeSetDate) {
             this.changeSetDate = Objects.requireNonNull(changeSetDate);
             return this;
         }
 
-        private ChangeSetBuilder vertexAdded(V vertex) {
+        public ChangeSetBuilder<G, V, E> vertexAdded(V vertex) {
             verticesAdded.add(vertex);
             return this;
         }
 
-        private ChangeSetBuilder vertexRemoved(V vertex) {
+        public ChangeSetBuilder<G, V, E> vertexRemoved(V vertex) {
             verticesRemoved.add(vertex);
             return this;
         }
 
-        private ChangeSetBuilder vertexUpdated(V vertex) {
+        public ChangeSetBuilder<G, V, E> vertexUpdated(V vertex) {
             verticesUpdated.add(vertex);
             return this;
         }
 
-        private ChangeSetBuilder edgeAdded(E edge) {
+        public ChangeSetBuilder<G, V, E> edgeAdded(E edge) {
             edgesAdded.add(edge);
             return this;
         }
 
-        private ChangeSetBuilder edgeRemoved(E edge) {
+        public ChangeSetBuilder<G, V, E> edgeRemoved(E edge) {
             edgesRemoved.add(edge);
             return this;
         }
 
-        private ChangeSetBuilder edgeUpdated(E edge) {
+        public ChangeSetBuilder<G, V, E> edgeUpdated(E edge) {
             edgesUpdated.add(edge);
             return this;
         }
 
-        private ChangeSetBuilder graphInfoChanged(GraphInfo graphInfo) {
+        public ChangeSetBuilder<G, V, E> graphInfoChanged(GraphInfo graphInfo) {
             this.currentGraphInfo = graphInfo;
             return this;
         }
 
-        private ChangeSetBuilder focusChanged(Focus newFocus) {
+        public ChangeSetBuilder<G, V, E> focusChanged(Focus newFocus) {
             this.currentFocus = newFocus;
             return this;
         }
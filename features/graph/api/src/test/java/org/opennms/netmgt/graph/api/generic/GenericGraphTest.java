@@ -35,6 +35,7 @@ import org.opennms.netmgt.graph.api.VertexRef;
 import org.opennms.netmgt.graph.api.focus.Focus;
 import org.opennms.netmgt.graph.api.focus.FocusStrategy;
 import org.opennms.netmgt.graph.api.generic.GenericGraph.GenericGraphBuilder;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
 import org.opennms.netmgt.graph.api.validation.exception.InvalidNamespaceException;
 
 import com.google.common.collect.ImmutableMap;
@@ -188,6 +189,48 @@ public class GenericGraphTest {
         assertThat(emptyGraph.resolveVertices(nodeRef), Matchers.hasSize(0));
     }
 
+    @Test
+    public void shouldApplyChangeSet() {
+        final String namespace = "dummy";
+        final GenericGraph oldGraph = GenericGraph.builder().namespace(namespace).label("Graph")
+                .addVertex(GenericVertex.builder().namespace(namespace).id("v1").build())
+                .addVertex(GenericVertex.builder().namespace(namespace).id("v2").label("Vertex 2").nodeRef("test", "node2").build())
+                .addVertex(GenericVertex.builder().namespace(namespace).id("v3").build())
+                .addEdge(GenericEdge.builder().namespace(namespace).source(namespace, "v1").target(namespace, "v2").build())
+                .addEdge(GenericEdge.builder().namespace(namespace).source(namespace, "v2").target(namespace, "v3").build())
+                .build();
+        final GenericGraph newGraph = GenericGraph.builder().namespace(namespace).label("Changed Graph")
+                .addVertex(GenericVertex.builder().namespace(namespace).id("v1").build())
+                .addVertex(GenericVertex.builder().namespace(namespace).id("v2").label("Changed Vertex 2").nodeRef("test", "node2").build())
+                .addVertex(GenericVertex.builder().namespace(namespace).id("v4").build())
+                .addEdge(GenericEdge.builder().namespace(namespace).source(namespace, "v1").target(namespace, "v2").build())
+                .addEdge(GenericEdge.builder().namespace(namespace).source(namespace, "v2").target(namespace, "v4").build())
+                .focus().all().apply()
+                .build();
+
+        final ChangeSet<GenericGraph, GenericVertex, GenericEdge> changeSet = ChangeSet.builder(oldGraph, newGraph).build();
+        final GenericGraph changedGraph = GenericGraph.from(oldGraph).apply(changeSet).build();
+        assertThat(changedGraph, Matchers.is(newGraph));
+        assertThat(changedGraph.getConnectingEdges(changedGraph.getVertex("v2")), Matchers.hasSize(2));
+        assertThat(changedGraph.resolveVertices(NodeRef.from("test:node2")), Matchers.contains(newGraph.getVertex("v2")));
+
+        // The original graph is untouched
+        assertThat(oldGraph.getVertexIds(), Matchers.contains("v1", "v2", "v3"));
+        assertThat(oldGraph.getVertex("v2").getLabel(), Matchers.is("Vertex 2"));
+
+        // Removing a vertex removes its edges as well
+        final ChangeSet<GenericGraph, GenericVertex, GenericEdge> removeVertex = ChangeSet.<GenericGraph, GenericVertex, GenericEdge>builder(namespace)
+                .vertexRemoved(changedGraph.getVertex("v2"))
+                .build();
+        final GenericGraph graphWithoutVertex = GenericGraph.from(changedGraph).apply(removeVertex).build();
+        assertThat(graphWithoutVertex.getVertexIds(), Matchers.contains("v1", "v4"));
+        assertThat(graphWithoutVertex.getEdges(), Matchers.hasSize(0));
+        assertThat(graphWithoutVertex.resolveVertices(NodeRef.from("test:node2")), Matchers.hasSize(0));
+
+        // Changes of another namespace are rejected
+        assertThrowsException(IllegalArgumentException.class, () -> GenericGraph.from(changedGraph).apply(ChangeSet.builder("other").build()));
+    }
+
     @Test
     public void verifyCannotSetInvalidNamespace() {
         assertThrowsException(InvalidNamespaceException.class, () -> GenericVertex.builder().namespace("$invalid$").build());
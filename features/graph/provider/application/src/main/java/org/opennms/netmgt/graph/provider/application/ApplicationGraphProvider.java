@@ -21,32 +21,62 @@
  */
 package org.opennms.netmgt.graph.provider.application;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.opennms.netmgt.dao.api.ApplicationDao;
 import org.opennms.netmgt.dao.api.SessionUtils;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.EventIpcManager;
+import org.opennms.netmgt.events.api.EventListener;
+import org.opennms.netmgt.events.api.model.IEvent;
 import org.opennms.netmgt.graph.api.ImmutableGraph;
+import org.opennms.netmgt.graph.api.ImmutableGraphContainer;
+import org.opennms.netmgt.graph.api.VertexRef;
+import org.opennms.netmgt.graph.api.generic.GenericEdge;
+import org.opennms.netmgt.graph.api.generic.GenericGraph;
+import org.opennms.netmgt.graph.api.generic.GenericGraph.GenericGraphBuilder;
+import org.opennms.netmgt.graph.api.generic.GenericVertex;
 import org.opennms.netmgt.graph.api.info.DefaultGraphInfo;
 import org.opennms.netmgt.graph.api.info.GraphInfo;
+import org.opennms.netmgt.graph.api.service.GraphContainerCache;
 import org.opennms.netmgt.graph.api.service.GraphProvider;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
 import org.opennms.netmgt.graph.provider.application.ApplicationGraph.ApplicationGraphBuilder;
 import org.opennms.netmgt.graph.domain.simple.SimpleDomainEdge;
 import org.opennms.netmgt.model.OnmsApplication;
 import org.opennms.netmgt.model.OnmsMonitoredService;
+import org.opennms.netmgt.model.events.EventUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class ApplicationGraphProvider implements GraphProvider {
+import com.google.common.collect.Lists;
+
+public class ApplicationGraphProvider implements GraphProvider, EventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationGraphProvider.class);
 
     private static final String GRAPH_LABEL = "Application Graph";
     private static final String GRAPH_DESCRIPTION = "Displays all defined applications and their calculated states.";
 
+    // The UEIs this listener is interested in
+    private static final List<String> UEI_LIST = Lists.newArrayList(
+            EventConstants.APPLICATION_CREATED_EVENT_UEI,
+            EventConstants.APPLICATION_CHANGED_EVENT_UEI,
+            EventConstants.APPLICATION_DELETED_EVENT_UEI);
+
     private final ApplicationDao applicationDao;
     private final SessionUtils sessionUtils;
+    private final GraphContainerCache graphContainerCache;
+    private final EventIpcManager eventIpcManager;
 
-    public ApplicationGraphProvider(SessionUtils sessionUtils, ApplicationDao applicationDao) {
+    public ApplicationGraphProvider(SessionUtils sessionUtils, ApplicationDao applicationDao, GraphContainerCache graphContainerCache, EventIpcManager eventIpcManager) {
         Objects.requireNonNull(applicationDao);
         Objects.requireNonNull(sessionUtils);
         this.applicationDao = applicationDao;
         this.sessionUtils = sessionUtils;
+        this.graphContainerCache = Objects.requireNonNull(graphContainerCache);
+        this.eventIpcManager = Objects.requireNonNull(eventIpcManager);
     }
 
     @Override
@@ -60,30 +90,131 @@ public class ApplicationGraphProvider implements GraphProvider {
     @Override
     public ImmutableGraph<ApplicationVertex, SimpleDomainEdge> loadGraph() {
         return sessionUtils.withReadOnlyTransaction(() -> {
-            final ApplicationGraphBuilder graphBuilder = ApplicationGraph.builder()
-                    .label(GRAPH_LABEL)
-                    .description(GRAPH_DESCRIPTION);
-
+            final ApplicationGraphBuilder graphBuilder = createGraphBuilder();
             for (OnmsApplication application : applicationDao.findAll()) {
-                final ApplicationVertex applicationVertex = ApplicationVertex.builder()
-                        .application(application)
-                        .build();
-                graphBuilder.addVertex(applicationVertex);
+                addApplication(graphBuilder, application);
+            }
+            return graphBuilder.build();
+        });
+    }
 
-                for (OnmsMonitoredService eachMonitoredService : application.getMonitoredServices()) {
-                    final ApplicationVertex serviceVertex = ApplicationVertex.builder().service(eachMonitoredService).build();
-                    graphBuilder.addVertex(serviceVertex);
+    @Override
+    public String getName() {
+        return getClass().getSimpleName();
+    }
 
-                    // connect with application
-                    final SimpleDomainEdge edge = SimpleDomainEdge.builder()
-                            .namespace(ApplicationGraph.NAMESPACE)
-                            .source(applicationVertex.getVertexRef())
-                            .target(serviceVertex.getVertexRef())
-                            .build();
-                    graphBuilder.addEdge(edge);
-                }
+    @Override
+    public void onEvent(IEvent e) {
+        final String applicationId = EventUtils.getParm(e, EventConstants.PARM_APPLICATION_ID);
+        if (applicationId == null) {
+            LOG.warn("Received event {} without parameter {}. Ignoring.", e.getUei(), EventConstants.PARM_APPLICATION_ID);
+            return;
+        }
+        try {
+            updateApplication(Integer.parseInt(applicationId));
+        } catch (NumberFormatException ex) {
+            LOG.warn("Received event {} with invalid application id {}. Ignoring.", e.getUei(), applicationId);
+        }
+    }
+
+    public void init() {
+        eventIpcManager.addEventListener(this, UEI_LIST);
+    }
+
+    public void destroy() {
+        eventIpcManager.removeEventListener(this, UEI_LIST);
+    }
+
+    // Only the changed application is loaded and applied to the cached graph, instead of reloading all applications.
+    // If the graph is not cached, there is nothing to update, as it is fully loaded on the next request.
+    private void updateApplication(int applicationId) {
+        final ImmutableGraphContainer<?> container = graphContainerCache.getIfPresent(ApplicationGraph.NAMESPACE);
+        final ImmutableGraph<?, ?> cachedGraph = container != null ? container.getGraph(ApplicationGraph.NAMESPACE) : null;
+        if (cachedGraph != null) {
+            graphContainerCache.apply(ApplicationGraph.NAMESPACE, getChanges(cachedGraph.asGenericGraph(), applicationId));
+        }
+    }
+
+    /**
+     * Calculates the changes of the given application in relation to the given graph.
+     * As services may be part of multiple applications, they are only removed, if no other application references them.
+     */
+    ChangeSet<GenericGraph, GenericVertex, GenericEdge> getChanges(GenericGraph cachedGraph, int applicationId) {
+        final GenericGraph oldApplicationGraph = getApplicationGraph(cachedGraph, applicationId);
+        final GenericGraph newApplicationGraph = sessionUtils.withReadOnlyTransaction(() -> {
+            final ApplicationGraphBuilder graphBuilder = createGraphBuilder();
+            final OnmsApplication application = applicationDao.get(applicationId);
+            if (application != null) {
+                addApplication(graphBuilder, application);
             }
-            return graphBuilder.build();
+            return graphBuilder.build().asGenericGraph();
         });
+        final ChangeSet<GenericGraph, GenericVertex, GenericEdge> applicationChanges = ChangeSet.builder(oldApplicationGraph, newApplicationGraph).build();
+
+        final ChangeSet.ChangeSetBuilder<GenericGraph, GenericVertex, GenericEdge> changeSetBuilder = ChangeSet.builder(ApplicationGraph.NAMESPACE);
+        applicationChanges.getEdgesRemoved().forEach(changeSetBuilder::edgeRemoved);
+        applicationChanges.getEdgesAdded().forEach(changeSetBuilder::edgeAdded);
+        applicationChanges.getVerticesUpdated().forEach(changeSetBuilder::vertexUpdated);
+        for (GenericVertex eachVertex : applicationChanges.getVerticesAdded()) {
+            // The service may already be known through another application
+            final GenericVertex cachedVertex = cachedGraph.getVertex(eachVertex.getId());
+            if (cachedVertex == null) {
+                changeSetBuilder.vertexAdded(eachVertex);
+            } else if (!cachedVertex.equals(eachVertex)) {
+                changeSetBuilder.vertexUpdated(eachVertex);
+            }
+        }
+        for (GenericVertex eachVertex : applicationChanges.getVerticesRemoved()) {
+            final boolean referencedByOtherApplication = cachedGraph.getConnectingEdges(eachVertex).stream()
+                    .anyMatch(edge -> !applicationChanges.getEdgesRemoved().contains(edge));
+            if (!referencedByOtherApplication) {
+                changeSetBuilder.vertexRemoved(eachVertex);
+            }
+        }
+        return changeSetBuilder.build();
+    }
+
+    // Extracts the application vertex, its services and the edges between them from the given graph
+    private static GenericGraph getApplicationGraph(GenericGraph graph, int applicationId) {
+        final GenericGraphBuilder graphBuilder = GenericGraph.builder().namespace(ApplicationGraph.NAMESPACE);
+        final GenericVertex applicationVertex = graph.getVertex(ApplicationVertexType.Application + ":" + applicationId);
+        if (applicationVertex != null) {
+            graphBuilder.addVertex(applicationVertex);
+            for (GenericEdge eachEdge : graph.getConnectingEdges(applicationVertex)) {
+                final VertexRef opposite = eachEdge.getSource().equals(applicationVertex.getVertexRef()) ? eachEdge.getTarget() : eachEdge.getSource();
+                final GenericVertex serviceVertex = graph.resolveVertex(opposite);
+                if (serviceVertex != null) {
+                    graphBuilder.addVertex(serviceVertex);
+                    graphBuilder.addEdge(eachEdge);
+                }
+            }
+        }
+        return graphBuilder.build();
+    }
+
+    private static ApplicationGraphBuilder createGraphBuilder() {
+        return ApplicationGraph.builder()
+                .label(GRAPH_LABEL)
+                .description(GRAPH_DESCRIPTION);
+    }
+
+    private static void addApplication(ApplicationGraphBuilder graphBuilder, OnmsApplication application) {
+        final ApplicationVertex applicationVertex = ApplicationVertex.builder()
+                .application(application)
+                .build();
+        graphBuilder.addVertex(applicationVertex);
+
+        for (OnmsMonitoredService eachMonitoredService : application.getMonitoredServices()) {
+            final ApplicationVertex serviceVertex = ApplicationVertex.builder().service(eachMonitoredService).build();
+            graphBuilder.addVertex(serviceVertex);
+
+            // connect with application
+            final SimpleDomainEdge edge = SimpleDomainEdge.builder()
+                    .namespace(ApplicationGraph.NAMESPACE)
+                    .source(applicationVertex.getVertexRef())
+                    .target(serviceVertex.getVertexRef())
+                    .build();
+            graphBuilder.addEdge(edge);
+        }
     }
 }
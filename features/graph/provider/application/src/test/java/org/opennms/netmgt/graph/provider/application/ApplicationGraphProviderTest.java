@@ -38,7 +38,13 @@ import org.mockito.Mockito;
 import org.opennms.core.utils.InetAddressUtils;
 import org.opennms.netmgt.dao.api.ApplicationDao;
 import org.opennms.netmgt.dao.mock.MockSessionUtils;
+import org.opennms.netmgt.events.api.EventIpcManager;
 import org.opennms.netmgt.graph.api.ImmutableGraph;
+import org.opennms.netmgt.graph.api.generic.GenericEdge;
+import org.opennms.netmgt.graph.api.generic.GenericGraph;
+import org.opennms.netmgt.graph.api.generic.GenericVertex;
+import org.opennms.netmgt.graph.api.service.GraphContainerCache;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
 import org.opennms.netmgt.graph.domain.simple.SimpleDomainEdge;
 import org.opennms.netmgt.model.OnmsApplication;
 import org.opennms.netmgt.model.OnmsIpInterface;
@@ -54,7 +60,7 @@ public class ApplicationGraphProviderTest {
         final ApplicationDao dao = Mockito.mock(ApplicationDao.class);
         when(dao.findAll()).thenReturn(applications);
 
-        final ApplicationGraphProvider provider = new ApplicationGraphProvider(new MockSessionUtils(), dao);
+        final ApplicationGraphProvider provider = createProvider(dao);
         final ImmutableGraph<ApplicationVertex, SimpleDomainEdge> graph = provider.loadGraph();
         assertEquals(30, graph.getVertices().size());
         assertEquals(25, graph.getEdges().size());
@@ -66,6 +72,61 @@ public class ApplicationGraphProviderTest {
         }
     }
 
+    @Test
+    public void shouldApplyApplicationChanges() {
+        final List<OnmsApplication> applications = generateApplications();
+        final ApplicationDao dao = Mockito.mock(ApplicationDao.class);
+        when(dao.findAll()).thenReturn(applications);
+        when(dao.get(Mockito.anyInt())).thenAnswer(invocation -> applications.stream()
+                .filter(app -> app.getId().equals(invocation.getArguments()[0]))
+                .findAny().orElse(null));
+
+        final ApplicationGraphProvider provider = createProvider(dao);
+        GenericGraph graph = provider.loadGraph().asGenericGraph();
+
+        // Remove a service from the first application
+        final OnmsApplication firstApplication = applications.get(0);
+        firstApplication.getMonitoredServices().remove(firstApplication.getMonitoredServices().iterator().next());
+        graph = applyChanges(provider, graph, firstApplication.getId());
+
+        // Rename the second application
+        applications.get(1).setName("Renamed Application");
+        graph = applyChanges(provider, graph, applications.get(1).getId());
+
+        // Add an application sharing all services with the third one
+        final OnmsApplication newApplication = new OnmsApplication();
+        newApplication.setId(6);
+        newApplication.setName("Application 6");
+        newApplication.setMonitoredServices(new HashSet<>(applications.get(2).getMonitoredServices()));
+        applications.add(newApplication);
+        graph = applyChanges(provider, graph, newApplication.getId());
+
+        // Delete the third application, its services are still referenced by the new one
+        final OnmsApplication thirdApplication = applications.remove(2);
+        graph = applyChanges(provider, graph, thirdApplication.getId());
+
+        // Delete the fourth application, its services are gone as well
+        final OnmsApplication fourthApplication = applications.remove(2);
+        graph = applyChanges(provider, graph, fourthApplication.getId());
+
+        final GenericGraph expectedGraph = provider.loadGraph().asGenericGraph();
+        assertEquals(expectedGraph.getVertexIds(), graph.getVertexIds());
+        assertEquals(expectedGraph.getEdgeIds(), graph.getEdgeIds());
+        assertEquals(new HashSet<>(expectedGraph.getVertices()), new HashSet<>(graph.getVertices()));
+        assertEquals(new HashSet<>(expectedGraph.getEdges()), new HashSet<>(graph.getEdges()));
+        assertEquals(23, graph.getVertices().size());
+        assertEquals(19, graph.getEdges().size());
+    }
+
+    private static GenericGraph applyChanges(ApplicationGraphProvider provider, GenericGraph graph, int applicationId) {
+        final ChangeSet<GenericGraph, GenericVertex, GenericEdge> changeSet = provider.getChanges(graph, applicationId);
+        return GenericGraph.from(graph).apply(changeSet).build();
+    }
+
+    private static ApplicationGraphProvider createProvider(ApplicationDao dao) {
+        return new ApplicationGraphProvider(new MockSessionUtils(), dao, Mockito.mock(GraphContainerCache.class), Mockito.mock(EventIpcManager.class));
+    }
+
     private List<OnmsApplication> generateApplications() {
         final List<OnmsApplication> applications = new ArrayList<>();
         for(int i = 0 ; i < 5; i++){
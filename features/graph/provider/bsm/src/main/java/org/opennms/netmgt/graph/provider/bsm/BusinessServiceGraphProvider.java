@@ -37,11 +37,16 @@ import org.opennms.netmgt.events.api.EventIpcManager;
 import org.opennms.netmgt.events.api.EventListener;
 import org.opennms.netmgt.events.api.model.IEvent;
 import org.opennms.netmgt.graph.api.ImmutableGraph;
+import org.opennms.netmgt.graph.api.ImmutableGraphContainer;
 import org.opennms.netmgt.graph.api.VertexRef;
+import org.opennms.netmgt.graph.api.generic.GenericEdge;
+import org.opennms.netmgt.graph.api.generic.GenericGraph;
+import org.opennms.netmgt.graph.api.generic.GenericVertex;
 import org.opennms.netmgt.graph.api.info.DefaultGraphInfo;
 import org.opennms.netmgt.graph.api.info.GraphInfo;
 import org.opennms.netmgt.graph.api.service.GraphContainerCache;
 import org.opennms.netmgt.graph.api.service.GraphProvider;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
 import org.opennms.netmgt.graph.provider.bsm.BusinessServiceGraph.BusinessServiceGraphBuilder;
 import org.opennms.netmgt.model.events.EventUtils;
 
@@ -111,15 +116,28 @@ public class BusinessServiceGraphProvider implements GraphProvider, EventListene
 
     @Override
     public void onEvent(IEvent e) {
-        // BSM has been reloaded, force reload
+        // BSM has been reloaded, update graph
         if (e.getUei().equals(EventConstants.RELOAD_DAEMON_CONFIG_SUCCESSFUL_UEI)) {
             String daemonName = EventUtils.getParm(e, EventConstants.PARM_DAEMON_NAME);
             if (daemonName != null && "bsmd".equalsIgnoreCase(daemonName)) {
-                graphContainerCache.invalidate(BusinessServiceGraph.NAMESPACE);
+                updateGraph();
             }
         }
     }
 
+    // Rather than invalidating the cached graph, which forces the next reader to wait for the graph to be loaded,
+    // only the differences to the reloaded graph are applied to the cached one.
+    // If the graph is not cached, there is nothing to update, as it is fully loaded on the next request.
+    private void updateGraph() {
+        final ImmutableGraphContainer<?> container = graphContainerCache.getIfPresent(BusinessServiceGraph.NAMESPACE);
+        final ImmutableGraph<?, ?> cachedGraph = container != null ? container.getGraph(BusinessServiceGraph.NAMESPACE) : null;
+        if (cachedGraph == null) {
+            return;
+        }
+        final ChangeSet<GenericGraph, GenericVertex, GenericEdge> changeSet = ChangeSet.builder(cachedGraph.asGenericGraph(), loadGraph().asGenericGraph()).build();
+        graphContainerCache.apply(BusinessServiceGraph.NAMESPACE, changeSet);
+    }
+
     public void init() {
         eventIpcManager.addEventListener(this, UEI_LIST);
     }
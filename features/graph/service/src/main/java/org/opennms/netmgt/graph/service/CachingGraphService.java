@@ -25,6 +25,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.opennms.netmgt.graph.api.ImmutableGraphContainer;
 import org.opennms.netmgt.graph.api.generic.GenericGraph;
@@ -34,39 +39,56 @@ import org.opennms.netmgt.graph.api.info.GraphInfo;
 import org.opennms.netmgt.graph.api.service.GraphContainerCache;
 import org.opennms.netmgt.graph.api.service.GraphContainerProvider;
 import org.opennms.netmgt.graph.api.service.GraphService;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
+import org.opennms.netmgt.graph.api.updates.GraphNotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+/**
+ * Caches the containers of the {@link GraphService}.
+ *
+ * A container is fully loaded once, when it is first requested.
+ * Afterwards it is kept up to date by applying the {@link ChangeSet}s providers hand to {@link #apply(String, ChangeSet)}.
+ * Providers which can't determine their changes may define a <code>cacheInvalidateInterval</code> (in seconds),
+ * in which case the container is reloaded in the background periodically, while readers keep getting the previous container until the reload completes.
+ * All applied changes are published via the {@link GraphNotificationService}.
+ */
 public class CachingGraphService implements GraphService, GraphContainerCache {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CachingGraphService.class);
+
     private final GraphService delegate;
+    private final GraphNotificationService notificationService;
     private final LoadingCache<String, ImmutableGraphContainer> cache;
-    private final Map<String, Long> expireMap = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> refreshMap = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("graph-cache-refresh-%d").setDaemon(true).build());
 
-    public CachingGraphService(final GraphService delegate) {
+    public CachingGraphService(final GraphService delegate, final GraphNotificationService notificationService) {
         this.delegate = Objects.requireNonNull(delegate);
+        this.notificationService = Objects.requireNonNull(notificationService);
         this.cache = Caffeine.newBuilder()
-            .expireAfter(new Expiry<String, ImmutableGraphContainer>() {
-                @Override
-                public long expireAfterCreate(String key, ImmutableGraphContainer value, long currentTime) {
-                    final Long expireInMs = expireMap.getOrDefault(key, Long.MAX_VALUE / 1000000);
-                    return expireInMs * 1000000;
-                }
-
+            .recordStats()
+            .build(new CacheLoader<String, ImmutableGraphContainer>() {
                 @Override
-                public long expireAfterUpdate(String key, ImmutableGraphContainer value, long currentTime, long currentDuration) {
-                   return currentDuration;
+                public ImmutableGraphContainer load(String containerId) {
+                    return delegate.getGraphContainer(containerId);
                 }
 
                 @Override
-                public long expireAfterRead(String key, ImmutableGraphContainer value, long currentTime, long currentDuration) {
-                    return currentDuration;
+                public ImmutableGraphContainer reload(String containerId, ImmutableGraphContainer oldContainer) {
+                    final ImmutableGraphContainer newContainer = load(containerId);
+                    if (newContainer != null) {
+                        notificationService.containerChanged(oldContainer, newContainer);
+                    }
+                    return newContainer;
                 }
-            })
-            .recordStats()
-            .build(delegate::getGraphContainer);
+            });
     }
 
     @Override
@@ -121,20 +143,73 @@ public class CachingGraphService implements GraphService, GraphContainerCache {
         return cache.get(containerId);
     }
 
+    @Override
+    public ImmutableGraphContainer getIfPresent(String containerId) {
+        return cache.getIfPresent(containerId);
+    }
+
+    @Override
+    public void apply(String containerId, ChangeSet<?, ?, ?> changeSet) {
+        Objects.requireNonNull(containerId);
+        Objects.requireNonNull(changeSet);
+        if (!changeSet.hasChanges()) {
+            return;
+        }
+        final AtomicBoolean applied = new AtomicBoolean(false);
+        cache.asMap().computeIfPresent(containerId, (id, container) -> {
+            final GenericGraphContainer genericContainer = container.asGenericGraphContainer();
+            final GenericGraph graph = genericContainer.getGraph(changeSet.getNamespace());
+            if (graph == null) {
+                LOG.warn("Container with id '{}' does not contain a graph with namespace '{}'. Ignoring changes.", containerId, changeSet.getNamespace());
+                return container;
+            }
+            final GenericGraph changedGraph = GenericGraph.from(graph).apply(changeSet).build();
+            final GenericGraphContainer.GenericGraphContainerBuilder containerBuilder = GenericGraphContainer.builder()
+                    .properties(genericContainer.getProperties());
+            genericContainer.getGraphs().forEach(containerBuilder::addGraph);
+            applied.set(true);
+            return containerBuilder.addGraph(changedGraph).build(); // replaces the previous graph
+        });
+        if (applied.get()) {
+            notificationService.graphChanged(changeSet);
+        }
+    }
+
     public synchronized void onUnbind(GraphContainerProvider graphContainerProvider, Map<String, String> props) {
         if (graphContainerProvider != null) {
             final String containerId = graphContainerProvider.getContainerInfo().getId();
+            cancelRefresh(containerId);
             cache.invalidate(containerId);
-            expireMap.remove(containerId);
         }
     }
 
-    public void onBind(GraphContainerProvider graphContainerProvider, Map<String, String> props) {
+    public synchronized void onBind(GraphContainerProvider graphContainerProvider, Map<String, String> props) {
         final String containerId = graphContainerProvider.getContainerInfo().getId();
         final long cacheInvalidateIntervalInSeconds = Long.valueOf(props.getOrDefault("cacheInvalidateInterval", "0"));
+        cancelRefresh(containerId);
         if (cacheInvalidateIntervalInSeconds > 0) {
-            final long cacheInvalidateIntervalInMilliseconds = cacheInvalidateIntervalInSeconds * 1000;
-            expireMap.put(containerId, cacheInvalidateIntervalInMilliseconds);
+            final ScheduledFuture<?> future = refreshExecutor.scheduleWithFixedDelay(() -> refresh(containerId),
+                    cacheInvalidateIntervalInSeconds, cacheInvalidateIntervalInSeconds, TimeUnit.SECONDS);
+            refreshMap.put(containerId, future);
+        }
+    }
+
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // Reloads the container in the background, but only if it was requested before
+    private void refresh(String containerId) {
+        if (cache.getIfPresent(containerId) != null) {
+            LOG.debug("Refreshing container with id '{}'", containerId);
+            cache.refresh(containerId);
+        }
+    }
+
+    private void cancelRefresh(String containerId) {
+        final ScheduledFuture<?> future = refreshMap.remove(containerId);
+        if (future != null) {
+            future.cancel(false);
         }
     }
 }
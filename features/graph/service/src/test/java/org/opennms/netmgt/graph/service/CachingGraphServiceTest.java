@@ -0,0 +1,85 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.graph.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennms.netmgt.graph.api.ImmutableGraphContainer;
+import org.opennms.netmgt.graph.api.generic.GenericEdge;
+import org.opennms.netmgt.graph.api.generic.GenericGraph;
+import org.opennms.netmgt.graph.api.generic.GenericGraphContainer;
+import org.opennms.netmgt.graph.api.generic.GenericVertex;
+import org.opennms.netmgt.graph.api.service.GraphService;
+import org.opennms.netmgt.graph.api.updates.ChangeSet;
+import org.opennms.netmgt.graph.api.updates.GraphNotificationService;
+
+public class CachingGraphServiceTest {
+
+    private static final String CONTAINER_ID = "container";
+    private static final String NAMESPACE = "dummy";
+
+    @Test
+    public void shouldApplyChangesWithoutReloading() {
+        final GenericGraph graph = GenericGraph.builder().namespace(NAMESPACE)
+                .addVertex(GenericVertex.builder().namespace(NAMESPACE).id("v1").build())
+                .build();
+        final GraphService delegate = Mockito.mock(GraphService.class);
+        when(delegate.getGraphContainer(CONTAINER_ID)).thenReturn(GenericGraphContainer.builder().id(CONTAINER_ID).addGraph(graph).build());
+        final GraphNotificationService notificationService = Mockito.mock(GraphNotificationService.class);
+        final CachingGraphService cachingGraphService = new CachingGraphService(delegate, notificationService);
+
+        final ChangeSet<GenericGraph, GenericVertex, GenericEdge> changeSet = ChangeSet.<GenericGraph, GenericVertex, GenericEdge>builder(NAMESPACE)
+                .vertexAdded(GenericVertex.builder().namespace(NAMESPACE).id("v2").build())
+                .edgeAdded(GenericEdge.builder().namespace(NAMESPACE).source(NAMESPACE, "v1").target(NAMESPACE, "v2").build())
+                .build();
+
+        // Not cached yet, so there is nothing to apply the changes to
+        cachingGraphService.apply(CONTAINER_ID, changeSet);
+        verify(delegate, never()).getGraphContainer(CONTAINER_ID);
+        verify(notificationService, never()).graphChanged(changeSet);
+        assertThat(cachingGraphService.getIfPresent(CONTAINER_ID), nullValue());
+        verify(delegate, never()).getGraphContainer(CONTAINER_ID);
+
+        final ImmutableGraphContainer<?> container = cachingGraphService.get(CONTAINER_ID);
+        cachingGraphService.apply(CONTAINER_ID, changeSet);
+
+        final GenericGraph changedGraph = cachingGraphService.getGraph(CONTAINER_ID, NAMESPACE);
+        assertThat(changedGraph.getVertexIds(), contains("v1", "v2"));
+        assertThat(changedGraph.getEdgeIds(), contains("dummy:v1->dummy:v2"));
+
+        // Previously obtained snapshots are not affected
+        assertThat(container.getGraph(NAMESPACE).getVertexIds(), contains("v1"));
+        assertThat(cachingGraphService.getIfPresent(CONTAINER_ID).getGraph(NAMESPACE).getVertexIds(), contains("v1", "v2"));
+
+        verify(delegate, times(1)).getGraphContainer(CONTAINER_ID);
+        verify(notificationService).graphChanged(changeSet);
+        cachingGraphService.destroy();
+    }
+}
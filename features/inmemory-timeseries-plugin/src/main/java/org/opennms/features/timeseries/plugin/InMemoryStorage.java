@@ -21,99 +21,132 @@
  */
 package org.opennms.features.timeseries.plugin;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.opennms.integration.api.v1.timeseries.Aggregation;
+import org.opennms.integration.api.v1.timeseries.DataPoint;
 import org.opennms.integration.api.v1.timeseries.Metric;
 import org.opennms.integration.api.v1.timeseries.Sample;
-import org.opennms.integration.api.v1.timeseries.DataPoint;
-import org.opennms.integration.api.v1.timeseries.Aggregation;
-import org.opennms.integration.api.v1.timeseries.Tag;
-import org.opennms.integration.api.v1.timeseries.TagMatcher;
 import org.opennms.integration.api.v1.timeseries.StorageException;
-import org.opennms.integration.api.v1.timeseries.TimeSeriesStorage;
+import org.opennms.integration.api.v1.timeseries.TagMatcher;
 import org.opennms.integration.api.v1.timeseries.TimeSeriesData;
 import org.opennms.integration.api.v1.timeseries.TimeSeriesFetchRequest;
-import org.opennms.integration.api.v1.timeseries.immutables.ImmutableDataPoint;
+import org.opennms.integration.api.v1.timeseries.TimeSeriesStorage;
 import org.opennms.integration.api.v1.timeseries.immutables.ImmutableTimeSeriesData;
 
-import com.google.re2j.Pattern;
-
 /**
- * Simulates a TimeSeriesStorage in memory (ConcurrentHashMap). The implementation is super simple and not very efficient.
- * For testing and evaluating purposes only, not for production.
+ * Embedded TimeSeriesStorage keeping all samples in memory.
+ *
+ * Samples are compressed into Gorilla style chunks held off-heap (see {@link org.opennms.features.timeseries.plugin.chunk.ChunkAppender}),
+ * metrics are found using an inverted tag index and samples older than the configured retention are evicted
+ * periodically. Suitable for small installations which do not want to run an external time series database.
  */
 public class InMemoryStorage implements TimeSeriesStorage {
 
-    private final Map<Metric, Collection<DataPoint>> data = new ConcurrentHashMap<>();
+    public static final int DEFAULT_SAMPLES_PER_CHUNK = 120;
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    private final TagIndex index = new TagIndex();
+
+    private final int samplesPerChunk;
+
+    private final long retentionMs;
+
+    private final long evictionIntervalMs;
+
+    private ScheduledExecutorService evictor;
+
+    /** Creates a storage which keeps all samples forever. */
+    public InMemoryStorage() {
+        this(DEFAULT_SAMPLES_PER_CHUNK, 0, 0);
+    }
+
+    /**
+     * @param samplesPerChunk maximum number of samples per compressed chunk
+     * @param retentionMs samples older than this are evicted, 0 to keep samples forever
+     * @param evictionIntervalMs how often to run the eviction
+     */
+    public InMemoryStorage(final int samplesPerChunk, final long retentionMs, final long evictionIntervalMs) {
+        if (samplesPerChunk < 1) {
+            throw new IllegalArgumentException("samplesPerChunk must be positive");
+        }
+        this.samplesPerChunk = samplesPerChunk;
+        this.retentionMs = retentionMs;
+        this.evictionIntervalMs = evictionIntervalMs;
+    }
+
+    public void init() {
+        if (this.retentionMs > 0 && this.evictionIntervalMs > 0) {
+            this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "inmemory-timeseries-eviction");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.evictor.scheduleWithFixedDelay(this::evict, this.evictionIntervalMs, this.evictionIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void destroy() {
+        if (this.evictor != null) {
+            this.evictor.shutdownNow();
+            this.evictor = null;
+        }
+    }
 
+    /** Returns a decoded copy of all stored data. Meant for diagnostics only. */
     public final Map<Metric, Collection<DataPoint>> getAllMetrics() {
-        return Collections.unmodifiableMap(data);
+        final Map<Metric, Collection<DataPoint>> result = new LinkedHashMap<>();
+        for (final Series s : this.series.values()) {
+            result.put(s.getMetric(), s.read(Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        return result;
     }
 
     @Override
     public void store(final List<Sample> samples) {
         Objects.requireNonNull(samples);
         for(Sample sample : samples) {
-            Collection<DataPoint> timeseries = data.computeIfAbsent(sample.getMetric(), k -> new ConcurrentLinkedQueue<>());
-            timeseries.add(new ImmutableDataPoint(sample.getTime(), sample.getValue()));
+            final long time = sample.getTime().toEpochMilli();
+            while (!this.series(sample.getMetric()).append(time, sample.getValue())) {
+                // Series got evicted or deleted concurrently - retry with a fresh one
+            }
         }
     }
 
+    private Series series(final Metric metric) {
+        return this.series.computeIfAbsent(metric.getKey(), key -> {
+            this.index.add(metric);
+            return new Series(metric, this.samplesPerChunk);
+        });
+    }
+
     @Override
     public List<Metric> findMetrics(Collection<TagMatcher> tagMatchers) {
         Objects.requireNonNull(tagMatchers);
         if(tagMatchers.isEmpty()) {
             throw new IllegalArgumentException("We expect at least one TagMatcher but none was given.");
         }
-        return data.keySet()
-                .stream()
-                .filter(metric -> this.matches(tagMatchers, metric))
+        final Set<String> keys = this.index.find(tagMatchers);
+        return keys.stream()
+                .map(this.series::get)
+                .filter(Objects::nonNull)
+                .map(Series::getMetric)
                 .collect(Collectors.toList());
     }
 
-    /** Each matcher must be matched by at least one tag. */
-    private static boolean matches(final Collection<TagMatcher> matchers, final Metric metric) {
-        final Set<Tag> searchableTags = new HashSet<>(metric.getIntrinsicTags());
-        searchableTags.addAll(metric.getMetaTags());
-
-        for(TagMatcher matcher : matchers) {
-            if(searchableTags.stream().noneMatch(t -> matches(matcher, t))) {
-                return false; // this TagMatcher didn't find any matching tag => this Metric is not part of search result;
-            }
-        }
-        return true; // all matched
-    }
-
-    private static boolean matches(final TagMatcher matcher, final Tag tag) {
-
-        if(!matcher.getKey().equals(tag.getKey())) {
-            return false; // not even the key matches => we are done.
-        }
-
-        // Tags have always a non null value so we don't have to null check for them.
-        if(TagMatcher.Type.EQUALS == matcher.getType()) {
-            return tag.getValue().equals(matcher.getValue());
-        } else if (TagMatcher.Type.NOT_EQUALS == matcher.getType()) {
-            return !tag.getValue().equals(matcher.getValue());
-        } else if (TagMatcher.Type.EQUALS_REGEX == matcher.getType()) {
-            return Pattern.matches(matcher.getValue(), tag.getValue());
-        } else if (TagMatcher.Type.NOT_EQUALS_REGEX == matcher.getType()) {
-            return !Pattern.matches(matcher.getValue(), tag.getValue());
-        } else {
-            throw new IllegalArgumentException("Implement me for " + matcher.getType());
-        }
-    }
-
     @Override
     public List<Sample> getTimeseries(TimeSeriesFetchRequest request) throws StorageException {
         throw new UnsupportedOperationException("use getTimeSeriesData(TimeSeriesFetchRequest request) instead.");
@@ -123,22 +156,18 @@ public class InMemoryStorage implements TimeSeriesStorage {
     public TimeSeriesData getTimeSeriesData(TimeSeriesFetchRequest request) {
         Objects.requireNonNull(request);
 
-
         if(request.getAggregation() != Aggregation.NONE) {
             throw new IllegalArgumentException(String.format("Aggregation %s is not supported.", request.getAggregation()));
         }
 
+        final Series s = this.series.get(request.getMetric().getKey());
+
         // get the original metric instead of the one from the request since the one from the request might not have all tags
-        Metric metric = data.keySet().stream()
-                .filter(m -> m.getKey().equals(request.getMetric().getKey()))
-                .findFirst()
-                .orElse(request.getMetric());
-
-        List<DataPoint> dataPoints = Optional.ofNullable(data.get(request.getMetric())).stream()
-                .flatMap(Collection::stream)
-                .filter(sample -> sample.getTime().isAfter(request.getStart()))
-                .filter(sample -> sample.getTime().isBefore(request.getEnd()))
-                .collect(Collectors.toList());
+        final Metric metric = s != null ? s.getMetric() : request.getMetric();
+
+        final List<DataPoint> dataPoints = s != null
+                ? s.read(request.getStart().toEpochMilli(), request.getEnd().toEpochMilli())
+                : Collections.emptyList();
 
         return ImmutableTimeSeriesData.builder()
                 .metric(metric)
@@ -149,7 +178,32 @@ public class InMemoryStorage implements TimeSeriesStorage {
     @Override
     public void delete(Metric metric) {
         Objects.requireNonNull(metric);
-        this.data.remove(metric);
+        this.series.computeIfPresent(metric.getKey(), (key, s) -> {
+            s.close();
+            this.index.remove(s.getMetric());
+            return null;
+        });
+    }
+
+    /** Drops all samples older than the retention. */
+    public void evict() {
+        if (this.retentionMs > 0) {
+            this.evict(Instant.now().minusMillis(this.retentionMs));
+        }
+    }
+
+    /** Drops all samples older than the given time and removes metrics left without samples. */
+    public void evict(final Instant cutoff) {
+        final long cutoffMs = cutoff.toEpochMilli();
+        for (final String key : this.series.keySet()) {
+            this.series.computeIfPresent(key, (k, s) -> {
+                if (s.evict(cutoffMs)) {
+                    this.index.remove(s.getMetric());
+                    return null;
+                }
+                return s;
+            });
+        }
     }
 
     @Override
@@ -0,0 +1,191 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.opennms.features.timeseries.plugin.chunk.Chunk;
+import org.opennms.features.timeseries.plugin.chunk.ChunkAppender;
+import org.opennms.features.timeseries.plugin.chunk.ChunkIterator;
+import org.opennms.integration.api.v1.timeseries.DataPoint;
+import org.opennms.integration.api.v1.timeseries.Metric;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableDataPoint;
+
+/**
+ * The samples of a single metric, kept as a list of sealed off-heap chunks followed by an open head chunk.
+ *
+ * As long as samples arrive in order, the chunks do not overlap and are sorted by time, which allows reads to seek
+ * to the first relevant chunk. Out of order samples start a new head chunk and mark the series as overlapping, in
+ * which case reads have to look at every chunk and sort the result.
+ */
+final class Series {
+
+    private final Metric metric;
+
+    private final int samplesPerChunk;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    private ChunkAppender head;
+
+    private long maxSealedTime = Long.MIN_VALUE;
+
+    private boolean overlapping;
+
+    /** Set once the series has been removed from the storage. */
+    private boolean closed;
+
+    Series(final Metric metric, final int samplesPerChunk) {
+        this.metric = metric;
+        this.samplesPerChunk = samplesPerChunk;
+    }
+
+    Metric getMetric() {
+        return this.metric;
+    }
+
+    /**
+     * Appends a sample.
+     *
+     * @return <code>false</code> if the series was closed concurrently and the sample must go to a new series
+     */
+    synchronized boolean append(final long time, final double value) {
+        if (this.closed) {
+            return false;
+        }
+
+        if (this.head != null && (this.head.count() >= this.samplesPerChunk || time < this.head.maxTime())) {
+            this.seal();
+        }
+
+        if (this.head == null) {
+            this.head = new ChunkAppender();
+            if (time < this.maxSealedTime) {
+                this.overlapping = true;
+            }
+        }
+
+        this.head.append(time, value);
+        return true;
+    }
+
+    private void seal() {
+        final Chunk chunk = this.head.seal();
+        this.chunks.add(chunk);
+        this.maxSealedTime = Math.max(this.maxSealedTime, chunk.maxTime());
+        this.head = null;
+    }
+
+    /** Returns all data points with <code>start &lt; time &lt; end</code>, ordered by time. */
+    synchronized List<DataPoint> read(final long start, final long end) {
+        final List<DataPoint> result = new ArrayList<>();
+
+        // Chunks are sorted by time if not overlapping, so we can skip all chunks ending before the requested range
+        int index = this.overlapping ? 0 : this.seek(start);
+        for (; index < this.chunks.size(); index++) {
+            final Chunk chunk = this.chunks.get(index);
+            if (chunk.minTime() >= end) {
+                if (this.overlapping) {
+                    continue;
+                }
+                break;
+            }
+            if (chunk.maxTime() > start) {
+                collect(chunk.iterator(), start, end, result);
+            }
+        }
+
+        if (this.head != null && this.head.minTime() < end && this.head.maxTime() > start) {
+            collect(this.head.iterator(), start, end, result);
+        }
+
+        if (this.overlapping) {
+            result.sort(Comparator.comparing(DataPoint::getTime));
+        }
+
+        return result;
+    }
+
+    /** Finds the index of the first chunk ending after the given time. */
+    private int seek(final long time) {
+        int low = 0;
+        int high = this.chunks.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.chunks.get(mid).maxTime() <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void collect(final ChunkIterator it, final long start, final long end, final List<DataPoint> result) {
+        while (it.next()) {
+            final long time = it.time();
+            if (time >= end) {
+                break;
+            }
+            if (time > start) {
+                result.add(new ImmutableDataPoint(Instant.ofEpochMilli(time), it.value()));
+            }
+        }
+    }
+
+    /**
+     * Drops all chunks containing only samples older than the given time.
+     *
+     * @return <code>true</code> if the series is empty afterwards and has been closed
+     */
+    synchronized boolean evict(final long cutoff) {
+        if (this.chunks.removeIf(chunk -> chunk.maxTime() < cutoff)) {
+            this.maxSealedTime = Long.MIN_VALUE;
+            this.overlapping = false;
+            for (final Chunk chunk : this.chunks) {
+                this.overlapping |= chunk.minTime() < this.maxSealedTime;
+                this.maxSealedTime = Math.max(this.maxSealedTime, chunk.maxTime());
+            }
+            if (this.head != null) {
+                this.overlapping |= this.head.minTime() < this.maxSealedTime;
+            }
+        }
+
+        if (this.head != null && this.head.maxTime() < cutoff) {
+            this.head = null;
+        }
+
+        if (this.chunks.isEmpty() && this.head == null) {
+            this.closed = true;
+        }
+        return this.closed;
+    }
+
+    synchronized void close() {
+        this.chunks.clear();
+        this.head = null;
+        this.closed = true;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.opennms.integration.api.v1.timeseries.Metric;
+import org.opennms.integration.api.v1.timeseries.Tag;
+import org.opennms.integration.api.v1.timeseries.TagMatcher;
+
+import com.google.re2j.Pattern;
+
+/**
+ * Inverted index from tag key and value to the keys of all metrics carrying that tag (intrinsic or meta).
+ *
+ * Each {@link TagMatcher} is resolved against the values known for its tag key only, so regular expressions are
+ * evaluated once per distinct value instead of once per metric.
+ */
+final class TagIndex {
+
+    /** tag key -> tag value -> metric keys */
+    private final Map<String, Map<String, Set<String>>> postings = new ConcurrentHashMap<>();
+
+    void add(final Metric metric) {
+        for (final Tag tag : tags(metric)) {
+            this.postings.computeIfAbsent(tag.getKey(), k -> new ConcurrentHashMap<>())
+                    .compute(tag.getValue(), (v, keys) -> {
+                        if (keys == null) {
+                            keys = ConcurrentHashMap.newKeySet();
+                        }
+                        keys.add(metric.getKey());
+                        return keys;
+                    });
+        }
+    }
+
+    void remove(final Metric metric) {
+        for (final Tag tag : tags(metric)) {
+            final Map<String, Set<String>> values = this.postings.get(tag.getKey());
+            if (values == null) {
+                continue;
+            }
+            values.computeIfPresent(tag.getValue(), (v, keys) -> {
+                keys.remove(metric.getKey());
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /** Returns the keys of all metrics for which each matcher is matched by at least one tag. */
+    Set<String> find(final Collection<TagMatcher> matchers) {
+        final List<Set<String>> candidates = new ArrayList<>(matchers.size());
+        for (final TagMatcher matcher : matchers) {
+            final Set<String> keys = this.find(matcher);
+            if (keys.isEmpty()) {
+                return Collections.emptySet();
+            }
+            candidates.add(keys);
+        }
+
+        // Intersect starting with the most selective matcher
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        final Set<String> result = new HashSet<>(candidates.get(0));
+        for (int i = 1; i < candidates.size() && !result.isEmpty(); i++) {
+            result.retainAll(candidates.get(i));
+        }
+        return result;
+    }
+
+    private Set<String> find(final TagMatcher matcher) {
+        final Map<String, Set<String>> values = this.postings.get(matcher.getKey());
+        if (values == null) {
+            return Collections.emptySet();
+        }
+
+        // Tags have always a non null value so we don't have to null check for them.
+        if (TagMatcher.Type.EQUALS == matcher.getType()) {
+            final Set<String> keys = values.get(matcher.getValue());
+            return keys != null ? keys : Collections.emptySet();
+        } else if (TagMatcher.Type.NOT_EQUALS == matcher.getType()) {
+            return union(values, value -> !value.equals(matcher.getValue()));
+        } else if (TagMatcher.Type.EQUALS_REGEX == matcher.getType()) {
+            final Pattern pattern = Pattern.compile(matcher.getValue());
+            return union(values, value -> pattern.matches(value));
+        } else if (TagMatcher.Type.NOT_EQUALS_REGEX == matcher.getType()) {
+            final Pattern pattern = Pattern.compile(matcher.getValue());
+            return union(values, value -> !pattern.matches(value));
+        } else {
+            throw new IllegalArgumentException("Implement me for " + matcher.getType());
+        }
+    }
+
+    private static Set<String> union(final Map<String, Set<String>> values, final Predicate<String> predicate) {
+        final Set<String> result = new HashSet<>();
+        for (final Map.Entry<String, Set<String>> entry : values.entrySet()) {
+            if (predicate.test(entry.getKey())) {
+                result.addAll(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static List<Tag> tags(final Metric metric) {
+        final List<Tag> tags = new ArrayList<>(metric.getIntrinsicTags());
+        tags.addAll(metric.getMetaTags());
+        return tags;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin.chunk;
+
+import java.nio.LongBuffer;
+
+/**
+ * Reads bit fields written by {@link BitWriter} from a buffer of words.
+ */
+final class BitReader {
+
+    private final LongBuffer words;
+
+    private int position;
+
+    BitReader(final LongBuffer words) {
+        this.words = words;
+    }
+
+    /** Reads the next <code>bits</code> bits (1 - 64) as an unsigned value. */
+    long read(final int bits) {
+        final int index = this.position >>> 6;
+        final int free = 64 - (this.position & 63);
+
+        final long result;
+        if (bits <= free) {
+            result = (this.words.get(index) >>> (free - bits)) & mask(bits);
+        } else {
+            final int remaining = bits - free;
+            result = ((this.words.get(index) & mask(free)) << remaining)
+                    | (this.words.get(index + 1) >>> (64 - remaining));
+        }
+
+        this.position += bits;
+        return result;
+    }
+
+    /** Reads the next <code>bits</code> bits as a two's complement value. */
+    long readSigned(final int bits) {
+        final long value = this.read(bits);
+        return (value << (64 - bits)) >> (64 - bits);
+    }
+
+    boolean readBit() {
+        return this.read(1) != 0;
+    }
+
+    private static long mask(final int bits) {
+        return bits == 64 ? -1L : (1L << bits) - 1;
+    }
+}
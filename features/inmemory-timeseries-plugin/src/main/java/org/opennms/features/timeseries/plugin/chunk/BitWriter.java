@@ -0,0 +1,73 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin.chunk;
+
+import java.util.Arrays;
+
+/**
+ * Appends variable width bit fields to a growable array of words, most significant bit first.
+ */
+final class BitWriter {
+
+    private long[] words;
+
+    private int position;
+
+    BitWriter(final int initialWords) {
+        this.words = new long[Math.max(2, initialWords)];
+    }
+
+    /** Writes the lowest <code>bits</code> bits (1 - 64) of the given value. */
+    void write(long value, final int bits) {
+        if (bits < 64) {
+            value &= (1L << bits) - 1;
+        }
+
+        final int index = this.position >>> 6;
+        if (index + 1 >= this.words.length) {
+            this.words = Arrays.copyOf(this.words, this.words.length * 2);
+        }
+
+        final int free = 64 - (this.position & 63);
+        if (bits <= free) {
+            this.words[index] |= value << (free - bits);
+        } else {
+            this.words[index] |= value >>> (bits - free);
+            this.words[index + 1] |= value << (64 - (bits - free));
+        }
+
+        this.position += bits;
+    }
+
+    void writeBit(final boolean bit) {
+        this.write(bit ? 1L : 0L, 1);
+    }
+
+    /** The backing words. Only the first {@link #wordCount()} words carry data. */
+    long[] words() {
+        return this.words;
+    }
+
+    int wordCount() {
+        return (this.position + 63) >>> 6;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin.chunk;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * An immutable block of compressed samples stored outside of the java heap.
+ *
+ * Instances are thread safe.
+ */
+public final class Chunk {
+
+    private final long minTime;
+    private final long maxTime;
+    private final int count;
+
+    private final LongBuffer data;
+
+    Chunk(final long minTime, final long maxTime, final int count, final long[] words, final int wordCount) {
+        this.minTime = minTime;
+        this.maxTime = maxTime;
+        this.count = count;
+
+        final LongBuffer data = ByteBuffer.allocateDirect(wordCount * Long.BYTES).asLongBuffer();
+        data.put(words, 0, wordCount);
+        this.data = data.asReadOnlyBuffer();
+    }
+
+    public long minTime() {
+        return this.minTime;
+    }
+
+    public long maxTime() {
+        return this.maxTime;
+    }
+
+    public int count() {
+        return this.count;
+    }
+
+    public int sizeInBytes() {
+        return this.data.capacity() * Long.BYTES;
+    }
+
+    public ChunkIterator iterator() {
+        return new ChunkIterator(this.data, this.count);
+    }
+
+    @Override
+    public String toString() {
+        return this.count + " samples [" + this.minTime + ", " + this.maxTime + "] in " + this.sizeInBytes() + " bytes";
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin.chunk;
+
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * The open, still growing chunk of a series.
+ *
+ * Samples are compressed as described in the Gorilla paper (Pelkonen et al., VLDB 2015): timestamps are stored as
+ * delta-of-delta using variable sized buckets and values are stored as XOR against the previous value, re-using the
+ * previous window of meaningful bits if possible. Timestamps are expected to be non-decreasing.
+ *
+ * Instances are not thread safe.
+ */
+public final class ChunkAppender {
+
+    private static final int INITIAL_WORDS = 16;
+
+    private final BitWriter writer = new BitWriter(INITIAL_WORDS);
+
+    private int count;
+
+    private long minTime;
+    private long lastTime;
+    private long lastDelta;
+
+    private long lastValue;
+    private int lastLeading = -1;
+    private int lastTrailing;
+
+    public void append(final long time, final double value) {
+        final long bits = Double.doubleToRawLongBits(value);
+
+        if (this.count == 0) {
+            this.writer.write(time, 64);
+            this.writer.write(bits, 64);
+
+            this.minTime = time;
+        } else {
+            if (time < this.lastTime) {
+                throw new IllegalArgumentException(String.format("Time %d is before last time %d", time, this.lastTime));
+            }
+
+            final long delta = time - this.lastTime;
+            writeTimestamp(this.writer, delta - this.lastDelta);
+            this.lastDelta = delta;
+
+            this.writeValue(bits ^ this.lastValue);
+        }
+
+        this.lastTime = time;
+        this.lastValue = bits;
+        this.count++;
+    }
+
+    private static void writeTimestamp(final BitWriter writer, final long dod) {
+        if (dod == 0) {
+            writer.write(0b0, 1);
+        } else if (dod >= -64 && dod <= 63) {
+            writer.write(0b10, 2);
+            writer.write(dod, 7);
+        } else if (dod >= -256 && dod <= 255) {
+            writer.write(0b110, 3);
+            writer.write(dod, 9);
+        } else if (dod >= -2048 && dod <= 2047) {
+            writer.write(0b1110, 4);
+            writer.write(dod, 12);
+        } else {
+            writer.write(0b1111, 4);
+            writer.write(dod, 64);
+        }
+    }
+
+    private void writeValue(final long xor) {
+        if (xor == 0) {
+            this.writer.writeBit(false);
+            return;
+        }
+        this.writer.writeBit(true);
+
+        final int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        final int trailing = Long.numberOfTrailingZeros(xor);
+
+        if (this.lastLeading >= 0 && leading >= this.lastLeading && trailing >= this.lastTrailing) {
+            // Meaningful bits fit into the previous window
+            this.writer.writeBit(false);
+            this.writer.write(xor >>> this.lastTrailing, 64 - this.lastLeading - this.lastTrailing);
+        } else {
+            final int significant = 64 - leading - trailing;
+            this.writer.writeBit(true);
+            this.writer.write(leading, 5);
+            this.writer.write(significant - 1, 6);
+            this.writer.write(xor >>> trailing, significant);
+
+            this.lastLeading = leading;
+            this.lastTrailing = trailing;
+        }
+    }
+
+    public int count() {
+        return this.count;
+    }
+
+    public long minTime() {
+        return this.minTime;
+    }
+
+    public long maxTime() {
+        return this.lastTime;
+    }
+
+    /** Iterates the samples appended so far. The iterator is invalidated by further appends. */
+    public ChunkIterator iterator() {
+        return new ChunkIterator(LongBuffer.wrap(this.writer.words()), this.count);
+    }
+
+    /** Copies the compressed samples into an immutable off-heap {@link Chunk}. */
+    public Chunk seal() {
+        if (this.count == 0) {
+            throw new IllegalStateException("Can not seal empty chunk");
+        }
+        return new Chunk(this.minTime, this.lastTime, this.count, this.writer.words(), this.writer.wordCount());
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toString(this.count) + " samples [" + this.minTime + ", " + this.lastTime + "]";
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin.chunk;
+
+import java.nio.LongBuffer;
+
+/**
+ * Decodes the samples of a chunk in order.
+ *
+ * <pre>
+ * final ChunkIterator it = chunk.iterator();
+ * while (it.next()) {
+ *     consume(it.time(), it.value());
+ * }
+ * </pre>
+ */
+public final class ChunkIterator {
+
+    private final BitReader reader;
+
+    private final int count;
+    private int index;
+
+    private long time;
+    private long delta;
+
+    private long value;
+    private int leading;
+    private int trailing;
+
+    ChunkIterator(final LongBuffer data, final int count) {
+        this.reader = new BitReader(data);
+        this.count = count;
+    }
+
+    /** Advances to the next sample. Returns <code>false</code> if the chunk is exhausted. */
+    public boolean next() {
+        if (this.index >= this.count) {
+            return false;
+        }
+
+        if (this.index == 0) {
+            this.time = this.reader.read(64);
+            this.value = this.reader.read(64);
+        } else {
+            this.delta += readTimestamp(this.reader);
+            this.time += this.delta;
+            this.readValue();
+        }
+
+        this.index++;
+        return true;
+    }
+
+    private static long readTimestamp(final BitReader reader) {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (!reader.readBit()) {
+            return reader.readSigned(7);
+        }
+        if (!reader.readBit()) {
+            return reader.readSigned(9);
+        }
+        if (!reader.readBit()) {
+            return reader.readSigned(12);
+        }
+        return reader.read(64);
+    }
+
+    private void readValue() {
+        if (!this.reader.readBit()) {
+            return;
+        }
+
+        if (this.reader.readBit()) {
+            this.leading = (int) this.reader.read(5);
+            final int significant = (int) this.reader.read(6) + 1;
+            this.trailing = 64 - this.leading - significant;
+        }
+
+        final int significant = 64 - this.leading - this.trailing;
+        this.value ^= this.reader.read(significant) << this.trailing;
+    }
+
+    public long time() {
+        return this.time;
+    }
+
+    public double value() {
+        return Double.longBitsToDouble(this.value);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.integration.api.v1.timeseries.Aggregation;
+import org.opennms.integration.api.v1.timeseries.DataPoint;
+import org.opennms.integration.api.v1.timeseries.Metric;
+import org.opennms.integration.api.v1.timeseries.Sample;
+import org.opennms.integration.api.v1.timeseries.TagMatcher;
+import org.opennms.integration.api.v1.timeseries.TimeSeriesData;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableMetric;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableSample;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableTagMatcher;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableTimeSeriesFetchRequest;
+
+public class InMemoryStorageTest {
+
+    private static final Instant START = Instant.ofEpochMilli(1_600_000_000_000L);
+
+    private final Metric ifInOctets = metric("ifInOctets", "node1", "eth0");
+    private final Metric ifOutOctets = metric("ifOutOctets", "node1", "eth0");
+    private final Metric otherNode = metric("ifInOctets", "node2", "eth1");
+
+    private InMemoryStorage storage;
+
+    @Before
+    public void setUp() {
+        // Small chunks to exercise chunk boundaries
+        this.storage = new InMemoryStorage(10, 0, 0);
+    }
+
+    @Test
+    public void canStoreAndFetch() {
+        this.storage.store(samples(this.ifInOctets, 0, 100));
+
+        final TimeSeriesData data = this.fetch(this.ifInOctets, START, START.plusSeconds(100));
+        assertEquals(this.ifInOctets, data.getMetric());
+        // start and end are exclusive
+        assertEquals(range(1, 99), times(data.getDataPoints()));
+        assertEquals(43.0, data.getDataPoints().get(0).getValue(), 0.0);
+
+        assertEquals(range(40, 59), times(this.fetch(this.ifInOctets, START.plusSeconds(39), START.plusSeconds(60)).getDataPoints()));
+        assertTrue(this.fetch(this.ifInOctets, START.plusSeconds(200), START.plusSeconds(300)).getDataPoints().isEmpty());
+        assertTrue(this.fetch(this.ifOutOctets, START, START.plusSeconds(100)).getDataPoints().isEmpty());
+    }
+
+    @Test
+    public void canFetchOutOfOrderSamples() {
+        this.storage.store(samples(this.ifInOctets, 50, 100));
+        this.storage.store(samples(this.ifInOctets, 0, 50));
+        this.storage.store(samples(this.ifInOctets, 100, 110));
+
+        assertEquals(range(1, 109), times(this.fetch(this.ifInOctets, START, START.plusSeconds(110)).getDataPoints()));
+    }
+
+    @Test
+    public void canFindMetrics() {
+        this.storage.store(samples(this.ifInOctets, 0, 1));
+        this.storage.store(samples(this.ifOutOctets, 0, 1));
+        this.storage.store(samples(this.otherNode, 0, 1));
+
+        assertEquals(set(this.ifInOctets, this.otherNode),
+                this.find(matcher(TagMatcher.Type.EQUALS, "name", "ifInOctets")));
+        assertEquals(Collections.singleton(this.ifInOctets),
+                this.find(matcher(TagMatcher.Type.EQUALS, "name", "ifInOctets"),
+                          matcher(TagMatcher.Type.EQUALS, "resourceId", "node1")));
+        assertEquals(set(this.ifInOctets, this.ifOutOctets),
+                this.find(matcher(TagMatcher.Type.EQUALS_REGEX, "name", "if.*Octets"),
+                          matcher(TagMatcher.Type.NOT_EQUALS, "resourceId", "node2")));
+        assertEquals(Collections.singleton(this.otherNode),
+                this.find(matcher(TagMatcher.Type.NOT_EQUALS_REGEX, "resourceId", "node1")));
+        // meta tags are searchable as well
+        assertEquals(Collections.singleton(this.otherNode),
+                this.find(matcher(TagMatcher.Type.EQUALS, "ifName", "eth1")));
+        assertTrue(this.find(matcher(TagMatcher.Type.EQUALS, "unknown", "value")).isEmpty());
+    }
+
+    @Test
+    public void canDelete() {
+        this.storage.store(samples(this.ifInOctets, 0, 20));
+        this.storage.delete(this.ifInOctets);
+
+        assertTrue(this.find(matcher(TagMatcher.Type.EQUALS, "name", "ifInOctets")).isEmpty());
+        assertTrue(this.fetch(this.ifInOctets, START, START.plusSeconds(20)).getDataPoints().isEmpty());
+
+        // Storing again re-creates the series
+        this.storage.store(samples(this.ifInOctets, 0, 20));
+        assertEquals(Collections.singleton(this.ifInOctets), this.find(matcher(TagMatcher.Type.EQUALS, "name", "ifInOctets")));
+    }
+
+    @Test
+    public void canEvict() {
+        this.storage.store(samples(this.ifInOctets, 0, 100));
+        this.storage.store(samples(this.otherNode, 0, 5));
+
+        this.storage.evict(START.plusSeconds(50));
+
+        // Only full chunks are dropped
+        assertEquals(range(50, 99), times(this.fetch(this.ifInOctets, START.minusSeconds(1), START.plusSeconds(100)).getDataPoints()));
+
+        // Metrics without any samples left are removed
+        assertEquals(Collections.singleton(this.ifInOctets), this.find(matcher(TagMatcher.Type.EQUALS, "name", "ifInOctets")));
+    }
+
+    private Set<Metric> find(final TagMatcher... matchers) {
+        return new HashSet<>(this.storage.findMetrics(Arrays.asList(matchers)));
+    }
+
+    private static Set<Metric> set(final Metric... metrics) {
+        return new HashSet<>(Arrays.asList(metrics));
+    }
+
+    private TimeSeriesData fetch(final Metric metric, final Instant start, final Instant end) {
+        return this.storage.getTimeSeriesData(ImmutableTimeSeriesFetchRequest.builder()
+                .metric(metric)
+                .aggregation(Aggregation.NONE)
+                .start(start)
+                .end(end)
+                .step(Duration.ofSeconds(1))
+                .build());
+    }
+
+    private static Metric metric(final String name, final String resourceId, final String ifName) {
+        return ImmutableMetric.builder()
+                .intrinsicTag("name", name)
+                .intrinsicTag("resourceId", resourceId)
+                .metaTag("ifName", ifName)
+                .build();
+    }
+
+    private static TagMatcher matcher(final TagMatcher.Type type, final String key, final String value) {
+        return ImmutableTagMatcher.builder()
+                .type(type)
+                .key(key)
+                .value(value)
+                .build();
+    }
+
+    /** One sample per second for the given range of seconds. */
+    private static List<Sample> samples(final Metric metric, final int from, final int to) {
+        final List<Sample> samples = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            samples.add(ImmutableSample.builder()
+                    .metric(metric)
+                    .time(START.plusSeconds(i))
+                    .value(42.0 + i)
+                    .build());
+        }
+        return samples;
+    }
+
+    private static List<Long> range(final int from, final int to) {
+        final List<Long> result = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            result.add(START.plusSeconds(i).toEpochMilli());
+        }
+        return result;
+    }
+
+    private static List<Long> times(final List<DataPoint> dataPoints) {
+        return dataPoints.stream()
+                .map(p -> p.getTime().toEpochMilli())
+                .collect(Collectors.toList());
+    }
+}
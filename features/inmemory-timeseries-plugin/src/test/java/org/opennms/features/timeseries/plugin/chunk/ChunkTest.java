@@ -0,0 +1,102 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin.chunk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ChunkTest {
+
+    @Test
+    public void canRoundTripSamples() {
+        final Random random = new Random(42);
+
+        for (int run = 0; run < 100; run++) {
+            final int count = 1 + random.nextInt(500);
+            final long[] times = new long[count];
+            final double[] values = new double[count];
+
+            long time = random.nextLong() / 4;
+            for (int i = 0; i < count; i++) {
+                switch (random.nextInt(4)) {
+                    case 0: break; // same timestamp
+                    case 1: time += 30_000; break;
+                    case 2: time += random.nextInt(5_000); break;
+                    default: time += random.nextInt(Integer.MAX_VALUE); break;
+                }
+                times[i] = time;
+
+                switch (random.nextInt(4)) {
+                    case 0: values[i] = i > 0 ? values[i - 1] : 0.0; break;
+                    case 1: values[i] = random.nextInt(100); break;
+                    case 2: values[i] = Double.NaN; break;
+                    default: values[i] = random.nextDouble() * 1e12; break;
+                }
+            }
+
+            final ChunkAppender appender = new ChunkAppender();
+            for (int i = 0; i < count; i++) {
+                appender.append(times[i], values[i]);
+            }
+
+            verify(appender.iterator(), times, values);
+            verify(appender.seal().iterator(), times, values);
+        }
+    }
+
+    @Test
+    public void canCompressRegularSamples() {
+        final ChunkAppender appender = new ChunkAppender();
+        for (int i = 0; i < 120; i++) {
+            appender.append(1_600_000_000_000L + i * 30_000L, 42.0 + (i % 3));
+        }
+
+        final Chunk chunk = appender.seal();
+        assertEquals(120, chunk.count());
+        assertEquals(1_600_000_000_000L, chunk.minTime());
+        assertEquals(1_600_000_000_000L + 119 * 30_000L, chunk.maxTime());
+
+        // 16 bytes per raw sample
+        assertTrue(chunk.sizeInBytes() < 120 * 16 / 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOutOfOrderSamples() {
+        final ChunkAppender appender = new ChunkAppender();
+        appender.append(1000, 1.0);
+        appender.append(999, 1.0);
+    }
+
+    private static void verify(final ChunkIterator it, final long[] times, final double[] values) {
+        for (int i = 0; i < times.length; i++) {
+            assertTrue(it.next());
+            assertEquals(times[i], it.time());
+            assertEquals(values[i], it.value(), 0.0);
+        }
+        assertFalse(it.next());
+    }
+}
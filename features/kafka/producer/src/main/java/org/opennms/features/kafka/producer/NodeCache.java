@@ -61,8 +61,7 @@ public class NodeCache {
      */
     public void triggerIfNeeded(long nodeId, Consumer<OnmsNode> consumer) {
         final long now = System.currentTimeMillis();
-        final Long lastUpdated = lastUpdatedByNodeId.get(nodeId);
-        if (lastUpdated != null && now - lastUpdated <= timeoutInMs) {
+        if (!isUpdateNeeded(nodeId, now)) {
             // No update required
             return;
         }
@@ -83,6 +82,22 @@ public class NodeCache {
         });
     }
 
+    /**
+     * Checks whether a call to {@link #triggerIfNeeded(long, Consumer)} would currently issue a callback
+     * for the given node id, without querying the node.
+     *
+     * @param nodeId db id of the node
+     * @return true if no callback has been made for this node within the configured timeout
+     */
+    public boolean isUpdateNeeded(long nodeId) {
+        return isUpdateNeeded(nodeId, System.currentTimeMillis());
+    }
+
+    private boolean isUpdateNeeded(long nodeId, long now) {
+        final Long lastUpdated = lastUpdatedByNodeId.get(nodeId);
+        return lastUpdated == null || now - lastUpdated > timeoutInMs;
+    }
+
     public void setTimeoutInMs(long timeoutInMs) {
         this.timeoutInMs = timeoutInMs;
     }
@@ -23,6 +23,7 @@ package org.opennms.features.kafka.producer;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Enumeration;
@@ -38,6 +39,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
@@ -71,9 +73,6 @@ import org.opennms.netmgt.xml.event.Event;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
@@ -87,7 +86,7 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
             .build();
 
     public static final String KAFKA_CLIENT_PID = "org.opennms.features.kafka.producer.client";
-    private static final ExpressionParser SPEL_PARSER = new SpelExpressionParser();
+    private static final int KAFKA_SEND_BATCH_SIZE = 500;
     private final ThreadFactory nodeUpdateThreadFactory = new ThreadFactoryBuilder()
             .setNameFormat("kafka-producer-node-update-%d")
             .build();
@@ -110,8 +109,8 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
     private boolean forwardAlarmFeedback;
     private boolean suppressIncrementalAlarms;
     private boolean forwardNodes;
-    private Expression eventFilterExpression;
-    private Expression alarmFilterExpression;
+    private SpelFilter eventFilter;
+    private SpelFilter alarmFilter;
 
     private final CountDownLatch forwardedEvent = new CountDownLatch(1);
     private final CountDownLatch forwardedAlarm = new CountDownLatch(1);
@@ -133,6 +132,7 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
     private final ExecutorService kafkaSendQueueExecutor =
             Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "KafkaSendQueueProcessor"));
     private final ExecutorService nodeUpdateExecutor;
+    private final Set<Long> pendingNodeUpdates = ConcurrentHashMap.newKeySet();
 
     private String encoding = "UTF8";
     private int numEventListenerThreads = 4;
@@ -231,18 +231,19 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
     private void forwardEvent(Event event) {
         boolean shouldForwardEvent = true;
         // Filtering
-        if (eventFilterExpression != null) {
+        final SpelFilter eventFilter = this.eventFilter;
+        if (eventFilter != null) {
             try {
-                shouldForwardEvent = eventFilterExpression.getValue(event, Boolean.class);
+                shouldForwardEvent = eventFilter.matches(event);
             } catch (Exception e) {
                 LOG.error("Event filter '{}' failed to return a result for event: {}. The event will be forwarded anyways.",
-                        eventFilterExpression.getExpressionString(), event.toStringSimple(), e);
+                        eventFilter.getExpressionString(), event.toStringSimple(), e);
             }
         }
         if (!shouldForwardEvent) {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Event {} not forwarded due to event filter: {}",
-                        event.toStringSimple(), eventFilterExpression.getExpressionString());
+                        event.toStringSimple(), eventFilter.getExpressionString());
             }
             return;
         }
@@ -265,20 +266,19 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
     }
 
     public boolean shouldForwardAlarm(OnmsAlarm alarm) {
-        if (alarmFilterExpression != null) {
-            // The expression is not necessarily thread safe
-            synchronized (this) {
-                try {
-                    final boolean shouldForwardAlarm = alarmFilterExpression.getValue(alarm, Boolean.class);
-                    if (LOG.isTraceEnabled()) {
-                        LOG.trace("Alarm {} not forwarded due to event filter: {}",
-                                alarm, alarmFilterExpression.getExpressionString());
-                    }
-                    return shouldForwardAlarm;
-                } catch (Exception e) {
-                    LOG.error("Alarm filter '{}' failed to return a result for event: {}. The alarm will be forwarded anyways.",
-                            alarmFilterExpression.getExpressionString(), alarm, e);
+        final SpelFilter alarmFilter = this.alarmFilter;
+        if (alarmFilter != null) {
+            // The filter can be shared, see SpelFilter
+            try {
+                final boolean shouldForwardAlarm = alarmFilter.matches(alarm);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Alarm {} not forwarded due to event filter: {}",
+                            alarm, alarmFilter.getExpressionString());
                 }
+                return shouldForwardAlarm;
+            } catch (Exception e) {
+                LOG.error("Alarm filter '{}' failed to return a result for event: {}. The alarm will be forwarded anyways.",
+                        alarmFilter.getExpressionString(), alarm, e);
             }
         }
         return true;
@@ -345,10 +345,24 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
     }
 
     private void updateNodeAsynchronously(long nodeId) {
+        // Most events are for nodes which have been forwarded recently or which are already queued for an update,
+        // so check this before handing a task to the executor
+        if (!nodeCache.isUpdateNeeded(nodeId) || !pendingNodeUpdates.add(nodeId)) {
+            return;
+        }
         // Updating node asynchronously will unblock event consumption.
-        nodeUpdateExecutor.execute(() -> {
-            maybeUpdateNode(nodeId);
-        });
+        try {
+            nodeUpdateExecutor.execute(() -> {
+                try {
+                    maybeUpdateNode(nodeId);
+                } finally {
+                    pendingNodeUpdates.remove(nodeId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingNodeUpdates.remove(nodeId);
+            throw e;
+        }
     }
 
     private void maybeUpdateNode(long nodeId) {
@@ -409,39 +423,49 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
     }
 
     private void processKafkaSendQueue() {
+        final List<KafkaRecord> batch = new ArrayList<>(KAFKA_SEND_BATCH_SIZE);
         //noinspection InfiniteLoopStatement
         while (true) {
             try {
-                KafkaRecord kafkaRecord = kafkaSendDeque.take();
-                ProducerRecord<byte[], byte[]> producerRecord = kafkaRecord.getProducerRecord();
-                Consumer<RecordMetadata> consumer = kafkaRecord.getConsumer();
+                // Wait for the next record and take whatever else has been queued in the meantime with it
+                batch.add(kafkaSendDeque.take());
+                kafkaSendDeque.drainTo(batch, KAFKA_SEND_BATCH_SIZE - 1);
+            } catch (InterruptedException ignore) {
+                break;
+            }
+            for (KafkaRecord kafkaRecord : batch) {
+                send(kafkaRecord);
+            }
+            batch.clear();
+        }
+    }
 
-                try {
-                    producer.send(producerRecord, (recordMetadata, e) -> {
-                        if (e != null) {
-                            LOG.warn("Failed to send record to producer: {}.", producerRecord, e);
-                            if (e instanceof TimeoutException) {
-                                // If Kafka is Offline, buffer the record again for events.
-                                // This is best effort to keep the order although in-flight elements may still miss the order.
-                                if (producerRecord != null &&
-                                        this.eventTopic.equalsIgnoreCase(producerRecord.topic())) {
-                                    if(!kafkaSendDeque.offerFirst(kafkaRecord)) {
-                                        RATE_LIMITED_LOGGER.warn("Dropped a Kafka record due to queue capacity being full.");
-                                    }
-                                }
+    private void send(KafkaRecord kafkaRecord) {
+        ProducerRecord<byte[], byte[]> producerRecord = kafkaRecord.getProducerRecord();
+        Consumer<RecordMetadata> consumer = kafkaRecord.getConsumer();
+
+        try {
+            producer.send(producerRecord, (recordMetadata, e) -> {
+                if (e != null) {
+                    LOG.warn("Failed to send record to producer: {}.", producerRecord, e);
+                    if (e instanceof TimeoutException) {
+                        // If Kafka is Offline, buffer the record again for events.
+                        // This is best effort to keep the order although in-flight elements may still miss the order.
+                        if (producerRecord != null &&
+                                this.eventTopic.equalsIgnoreCase(producerRecord.topic())) {
+                            if(!kafkaSendDeque.offerFirst(kafkaRecord)) {
+                                RATE_LIMITED_LOGGER.warn("Dropped a Kafka record due to queue capacity being full.");
                             }
-                            return;
-                        }
-                        if (consumer != null) {
-                            consumer.accept(recordMetadata);
                         }
-                    });
-                } catch (RuntimeException e) {
-                    LOG.warn("Failed to send record to producer: {}.", producerRecord, e);
+                    }
+                    return;
                 }
-            } catch (InterruptedException ignore) {
-                break;
-            }
+                if (consumer != null) {
+                    consumer.accept(recordMetadata);
+                }
+            });
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to send record to producer: {}.", producerRecord, e);
         }
     }
 
@@ -538,17 +562,17 @@ public class OpennmsKafkaProducer implements AlarmLifecycleListener, EventListen
 
     public void setEventFilter(String eventFilter) {
         if (Strings.isNullOrEmpty(eventFilter)) {
-            eventFilterExpression = null;
+            this.eventFilter = null;
         } else {
-            eventFilterExpression = SPEL_PARSER.parseExpression(eventFilter);
+            this.eventFilter = new SpelFilter(eventFilter);
         }
     }
 
     public void setAlarmFilter(String alarmFilter) {
         if (Strings.isNullOrEmpty(alarmFilter)) {
-            alarmFilterExpression = null;
+            this.alarmFilter = null;
         } else {
-            alarmFilterExpression = SPEL_PARSER.parseExpression(alarmFilter);
+            this.alarmFilter = new SpelFilter(alarmFilter);
         }
     }
 
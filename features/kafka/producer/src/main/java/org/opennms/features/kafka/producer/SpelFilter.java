@@ -0,0 +1,83 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.kafka.producer;
+
+import java.util.Objects;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * A SpEL filter expression used to decide whether events and alarms are forwarded.
+ * <p>
+ * The expression is parsed in mixed compiler mode: it is interpreted for the first evaluations and then compiled to
+ * byte code, falling back to the interpreter if the compiled form fails for some root object. The evaluation context
+ * is created and fully initialized once, rather than lazily on the first evaluations, so the filter can be shared by
+ * the event listener threads.
+ */
+public class SpelFilter {
+
+    private static final SpelExpressionParser SPEL_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, SpelFilter.class.getClassLoader()));
+
+    private final Expression expression;
+
+    private final EvaluationContext context;
+
+    public SpelFilter(String expression) {
+        this.expression = SPEL_PARSER.parseExpression(Objects.requireNonNull(expression));
+
+        final StandardEvaluationContext context = new StandardEvaluationContext();
+        // Initialize the lazily created members before the context gets shared
+        context.getPropertyAccessors();
+        context.getConstructorResolvers();
+        context.getMethodResolvers();
+        context.getTypeLocator();
+        context.getTypeConverter();
+        context.getTypeComparator();
+        context.getOperatorOverloader();
+        this.context = context;
+    }
+
+    /**
+     * Evaluates the expression against the given object.
+     *
+     * @param root the event or alarm to filter
+     * @return true if the object should be forwarded
+     * @throws RuntimeException if the expression fails or does not return a boolean
+     */
+    public boolean matches(Object root) {
+        final Boolean result = expression.getValue(context, root, Boolean.class);
+        if (result == null) {
+            throw new IllegalStateException("Filter returned null");
+        }
+        return result;
+    }
+
+    public String getExpressionString() {
+        return expression.getExpressionString();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.kafka.producer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.opennms.netmgt.model.OnmsAlarm;
+import org.opennms.netmgt.xml.event.Event;
+
+/**
+ * Tests for {@link SpelFilter}.
+ */
+public class SpelFilterTest {
+
+    private static Event event(String uei) {
+        final Event event = new Event();
+        event.setUei(uei);
+        return event;
+    }
+
+    /**
+     * Tests that the results stay the same once the expression has been compiled.
+     */
+    @Test
+    public void testMatchingBeforeAndAfterCompilation() {
+        final SpelFilter filter = new SpelFilter("!getUei().equals(\"uei.opennms.org/nodes/newSuspect\")");
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.matches(event("uei.opennms.org/nodes/newSuspect")), is(equalTo(false)));
+            assertThat(filter.matches(event("uei.opennms.org/nodes/nodeDown")), is(equalTo(true)));
+        }
+    }
+
+    /**
+     * Tests that a compiled filter still handles roots of another type.
+     */
+    @Test
+    public void testMatchingOtherRootType() {
+        final SpelFilter filter = new SpelFilter("getUei() != null && getUei().startsWith(\"uei.opennms.org/nodes/\")");
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.matches(event("uei.opennms.org/nodes/nodeDown")), is(equalTo(true)));
+        }
+        final OnmsAlarm alarm = new OnmsAlarm();
+        alarm.setUei("uei.opennms.org/nodes/nodeDown");
+        assertThat(filter.matches(alarm), is(equalTo(true)));
+        alarm.setUei("uei.opennms.org/threshold/highThresholdExceeded");
+        assertThat(filter.matches(alarm), is(equalTo(false)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNullResult() {
+        new SpelFilter("getUei()").matches(event(null));
+    }
+
+    /**
+     * Tests that a single filter can be used by the event listener threads.
+     */
+    @Test
+    public void testConcurrentMatching() throws Exception {
+        final SpelFilter filter = new SpelFilter("getUei().endsWith(\"Down\")");
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tasks.add(() -> {
+                    int matched = 0;
+                    for (int i = 0; i < 10000; i++) {
+                        if (filter.matches(event(i % 2 == 0 ? "uei.opennms.org/nodes/nodeDown" : "uei.opennms.org/nodes/nodeUp"))) {
+                            matched++;
+                        }
+                    }
+                    return matched;
+                });
+            }
+            for (Future<Integer> matched : executor.invokeAll(tasks)) {
+                assertThat(matched.get(), is(equalTo(5000)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
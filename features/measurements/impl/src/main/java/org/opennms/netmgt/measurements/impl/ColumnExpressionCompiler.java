@@ -0,0 +1,1026 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Compiles the arithmetic subset of JEXL used by most graph definitions into a tree of nodes which are
+ * evaluated over whole columns at once rather than row by row.
+ * <p>
+ * The supported subset is numeric literals, variables, the arithmetic, comparison and logical operators, the ternary
+ * operator and the functions of the <code>math</code> and <code>strictmath</code> namespaces. Anything else, or
+ * anything whose outcome would depend on JEXL's handling of types other than numbers and booleans, is rejected with an
+ * {@link UnsupportedExpressionException} so that the caller can fall back to JEXL.
+ * <p>
+ * Results are meant to be identical to the ones JEXL produces, which is why the compiler keeps track of the boxed
+ * type JEXL would be working with. Unsuffixed decimal literals are floats in JEXL, integer operands use integer
+ * division, and two boxed values of the same floating point type are compared with {@link Double#equals(Object)}.
+ *
+ * @see JEXLExpressionEngine
+ */
+final class ColumnExpressionCompiler {
+
+    /**
+     * The static type of a node, which matches the class JEXL would see for its value.
+     */
+    enum Type {
+        DOUBLE, FLOAT, INTEGRAL,
+        /**
+         * A numeric value whose type varies from row to row, i.e. the result of a ternary with branches of different
+         * types. The type of every row is tracked in {@link Column#kinds}.
+         */
+        MIXED,
+        BOOLEAN;
+
+        boolean isNumeric() {
+            return this != BOOLEAN;
+        }
+
+        boolean isFloatingPoint() {
+            return this == DOUBLE || this == FLOAT;
+        }
+    }
+
+    // Per row kinds of mixed columns
+    static final byte K_DOUBLE = 0;
+    static final byte K_FLOAT = 1;
+    static final byte K_INTEGRAL = 2;
+
+    /**
+     * Thrown when an expression uses a construct this compiler does not handle.
+     */
+    static final class UnsupportedExpressionException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedExpressionException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * The values of a node for all of the rows.
+     */
+    static final class Column {
+        final double[] values;
+        /**
+         * The kind of every row if the node is of type {@link Type#MIXED}, null otherwise.
+         */
+        final byte[] kinds;
+        /**
+         * The rows which could not be evaluated, or null if all of them could.
+         */
+        final BitSet errors;
+
+        Column(double[] values, byte[] kinds, BitSet errors) {
+            this.values = values;
+            this.kinds = kinds;
+            this.errors = errors;
+        }
+
+        static Column of(double[] values) {
+            return new Column(values, null, null);
+        }
+    }
+
+    /**
+     * The columns the variables of the compiled nodes are bound to.
+     */
+    static final class Frame {
+        final int rows;
+        final Map<String, double[]> values;
+
+        Frame(int rows, Map<String, double[]> values) {
+            this.rows = rows;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Resolves the variables referenced by an expression.
+     */
+    @FunctionalInterface
+    interface Scope {
+        Node resolve(String name) throws UnsupportedExpressionException;
+    }
+
+    abstract static class Node {
+        final Type type;
+
+        Node(Type type) {
+            this.type = type;
+        }
+
+        abstract Column eval(Frame frame);
+
+        byte kind(Column column, int row) {
+            return kindOf(type, column, row);
+        }
+    }
+
+    private static byte kindOf(Type type, Column column, int row) {
+        switch (type) {
+            case DOUBLE:
+                return K_DOUBLE;
+            case FLOAT:
+                return K_FLOAT;
+            case MIXED:
+                return column.kinds[row];
+            default:
+                return K_INTEGRAL;
+        }
+    }
+
+    private static Type typeOf(byte kind) {
+        switch (kind) {
+            case K_DOUBLE:
+                return Type.DOUBLE;
+            case K_FLOAT:
+                return Type.FLOAT;
+            default:
+                return Type.INTEGRAL;
+        }
+    }
+
+    private static boolean toBoolean(double value) {
+        // Mirrors JexlArithmetic.toBoolean() for numbers, booleans are represented by 0 and 1
+        return !Double.isNaN(value) && value != 0.0d;
+    }
+
+    private static BitSet union(BitSet a, BitSet b) {
+        if (a == null) {
+            return b;
+        } else if (b == null) {
+            return a;
+        }
+        final BitSet result = (BitSet) a.clone();
+        result.or(b);
+        return result;
+    }
+
+    /**
+     * Marks the row as failed. The given set may be updated in place since every column is only consumed by the
+     * parent of the node that produced it.
+     */
+    private static BitSet addError(BitSet errors, int row, int rows) {
+        final BitSet result = errors != null ? errors : new BitSet(rows);
+        result.set(row);
+        return result;
+    }
+
+    /**
+     * Converts the value of a row to the double JEXLExpressionEngine would have stored for it.
+     */
+    static double toResult(Node node, Column column, int row) {
+        final double value = column.values[row];
+        if (node.kind(column, row) == K_FLOAT) {
+            // Utils.toDouble() goes through the string representation of the Float
+            return Double.parseDouble(Float.toString((float) value));
+        }
+        return value;
+    }
+
+    static final class Constant extends Node {
+        private final double value;
+
+        Constant(Type type, double value) {
+            super(type);
+            this.value = value;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final double[] values = new double[frame.rows];
+            Arrays.fill(values, value);
+            return Column.of(values);
+        }
+    }
+
+    static final class Variable extends Node {
+        private final String name;
+
+        Variable(Type type, String name) {
+            super(type);
+            this.name = name;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            return Column.of(frame.values.get(name));
+        }
+    }
+
+    private static final class Negate extends Node {
+        private final Node operand;
+
+        private Negate(Node operand) {
+            super(operand.type);
+            this.operand = operand;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final Column column = operand.eval(frame);
+            final double[] values = new double[frame.rows];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = -column.values[i];
+            }
+            return new Column(values, column.kinds, column.errors);
+        }
+    }
+
+    private static final class Not extends Node {
+        private final Node operand;
+
+        private Not(Node operand) {
+            super(Type.BOOLEAN);
+            this.operand = operand;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final Column column = operand.eval(frame);
+            final double[] values = new double[frame.rows];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = toBoolean(column.values[i]) ? 0 : 1;
+            }
+            return new Column(values, null, column.errors);
+        }
+    }
+
+    private static final class Arithmetic extends Node {
+        private final char operator;
+        private final Node left;
+        private final Node right;
+
+        private Arithmetic(char operator, Node left, Node right) {
+            super(resultType(left, right));
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        private static Type resultType(Node left, Node right) {
+            if (left.type.isFloatingPoint() || right.type.isFloatingPoint()) {
+                return Type.DOUBLE;
+            } else if (left.type == Type.INTEGRAL && right.type == Type.INTEGRAL) {
+                return Type.INTEGRAL;
+            }
+            return Type.MIXED;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final Column l = left.eval(frame);
+            final Column r = right.eval(frame);
+            final double[] values = new double[frame.rows];
+            final byte[] kinds = type == Type.MIXED ? new byte[frame.rows] : null;
+            BitSet errors = union(l.errors, r.errors);
+
+            for (int i = 0; i < values.length; i++) {
+                final double a = l.values[i];
+                final double b = r.values[i];
+                final boolean floatingPoint = type == Type.DOUBLE
+                        || (type == Type.MIXED && (left.kind(l, i) != K_INTEGRAL || right.kind(r, i) != K_INTEGRAL));
+                switch (operator) {
+                    case '+':
+                        values[i] = a + b;
+                        break;
+                    case '-':
+                        values[i] = a - b;
+                        break;
+                    case '*':
+                        values[i] = a * b;
+                        break;
+                    case '/':
+                        if (b == 0.0d) {
+                            // JEXL fails on a division by zero for both integers and floating point numbers
+                            errors = addError(errors, i, frame.rows);
+                        } else if (floatingPoint) {
+                            values[i] = a / b;
+                        } else {
+                            values[i] = (long) a / (long) b;
+                        }
+                        break;
+                    case '%':
+                        // The compiler only accepts floating point operands for the modulo
+                        if (b == 0.0d) {
+                            errors = addError(errors, i, frame.rows);
+                        } else {
+                            values[i] = a % b;
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown operator " + operator);
+                }
+                if (kinds != null) {
+                    kinds[i] = floatingPoint ? K_DOUBLE : K_INTEGRAL;
+                }
+            }
+            return new Column(values, kinds, errors);
+        }
+    }
+
+    private static final class Comparison extends Node {
+        private final String operator;
+        private final Node left;
+        private final Node right;
+
+        private Comparison(String operator, Node left, Node right) {
+            super(Type.BOOLEAN);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * Mirrors JexlArithmetic.equals(): two values of the same floating point class are compared with equals(),
+         * which considers NaN to be equal to itself, anything else is compared numerically.
+         */
+        private boolean equal(Column l, Column r, int row) {
+            final double a = l.values[row];
+            final double b = r.values[row];
+            if (left.type == Type.BOOLEAN) {
+                return a == b;
+            }
+            final byte leftKind = left.kind(l, row);
+            if (leftKind != K_INTEGRAL && leftKind == right.kind(r, row)) {
+                return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+            }
+            return a == b;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final Column l = left.eval(frame);
+            final Column r = right.eval(frame);
+            final double[] values = new double[frame.rows];
+
+            for (int i = 0; i < values.length; i++) {
+                final double a = l.values[i];
+                final double b = r.values[i];
+                final boolean result;
+                switch (operator) {
+                    case "==":
+                        result = equal(l, r, i);
+                        break;
+                    case "!=":
+                        result = !equal(l, r, i);
+                        break;
+                    case "<":
+                        result = a < b;
+                        break;
+                    case ">":
+                        result = a > b;
+                        break;
+                    case "<=":
+                        result = equal(l, r, i) || a < b;
+                        break;
+                    case ">=":
+                        result = equal(l, r, i) || a > b;
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown operator " + operator);
+                }
+                values[i] = result ? 1 : 0;
+            }
+            return new Column(values, null, union(l.errors, r.errors));
+        }
+    }
+
+    private static final class Logical extends Node {
+        private final boolean and;
+        private final Node left;
+        private final Node right;
+
+        private Logical(boolean and, Node left, Node right) {
+            super(Type.BOOLEAN);
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final Column l = left.eval(frame);
+            final Column r = right.eval(frame);
+            final double[] values = new double[frame.rows];
+            BitSet errors = l.errors;
+
+            for (int i = 0; i < values.length; i++) {
+                final boolean a = toBoolean(l.values[i]);
+                // The right operand is only evaluated by JEXL when the left one does not decide the outcome, so its
+                // errors only count for those rows
+                final boolean evaluatesRight = and == a;
+                if (evaluatesRight && r.errors != null && r.errors.get(i)) {
+                    errors = addError(errors, i, frame.rows);
+                }
+                values[i] = (evaluatesRight ? toBoolean(r.values[i]) : a) ? 1 : 0;
+            }
+            return new Column(values, null, errors);
+        }
+    }
+
+    private static final class Ternary extends Node {
+        private final Node condition;
+        private final Node then;
+        private final Node otherwise;
+
+        private Ternary(Type type, Node condition, Node then, Node otherwise) {
+            super(type);
+            this.condition = condition;
+            this.then = then;
+            this.otherwise = otherwise;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final Column c = condition.eval(frame);
+            final Column t = then.eval(frame);
+            final Column o = otherwise.eval(frame);
+            final double[] values = new double[frame.rows];
+            final byte[] kinds = type == Type.MIXED ? new byte[frame.rows] : null;
+            BitSet errors = c.errors;
+
+            for (int i = 0; i < values.length; i++) {
+                // Only the errors of the branch that is taken count
+                final boolean taken = toBoolean(c.values[i]);
+                final Node node = taken ? then : otherwise;
+                final Column column = taken ? t : o;
+                values[i] = column.values[i];
+                if (kinds != null) {
+                    kinds[i] = node.kind(column, i);
+                }
+                if (column.errors != null && column.errors.get(i)) {
+                    errors = addError(errors, i, frame.rows);
+                }
+            }
+            return new Column(values, kinds, errors);
+        }
+    }
+
+    /**
+     * A function of the math or strictmath namespace.
+     */
+    private abstract static class Function {
+        final int arity;
+
+        Function(int arity) {
+            this.arity = arity;
+        }
+
+        /**
+         * @return the kind of the result for the given kinds of arguments, as picked by the overload JEXL resolves
+         */
+        abstract byte kind(byte[] argumentKinds);
+
+        abstract double apply(double[] arguments, byte[] argumentKinds);
+    }
+
+    /**
+     * A function that only has a double overload.
+     */
+    private static Function ofDouble(DoubleUnaryOperator operator) {
+        return new Function(1) {
+            @Override
+            byte kind(byte[] argumentKinds) {
+                return K_DOUBLE;
+            }
+
+            @Override
+            double apply(double[] arguments, byte[] argumentKinds) {
+                return operator.applyAsDouble(arguments[0]);
+            }
+        };
+    }
+
+    private static Function ofDouble(DoubleBinaryOperator operator) {
+        return new Function(2) {
+            @Override
+            byte kind(byte[] argumentKinds) {
+                return K_DOUBLE;
+            }
+
+            @Override
+            double apply(double[] arguments, byte[] argumentKinds) {
+                return operator.applyAsDouble(arguments[0], arguments[1]);
+            }
+        };
+    }
+
+    /**
+     * A function with int, long, float and double overloads which returns the type of its arguments.
+     */
+    private static Function ofAnyNumber(int arity, DoubleBinaryOperator operator) {
+        return new Function(arity) {
+            @Override
+            byte kind(byte[] argumentKinds) {
+                byte kind = K_INTEGRAL;
+                for (byte argumentKind : argumentKinds) {
+                    if (argumentKind == K_DOUBLE) {
+                        return K_DOUBLE;
+                    } else if (argumentKind == K_FLOAT) {
+                        kind = K_FLOAT;
+                    }
+                }
+                return kind;
+            }
+
+            @Override
+            double apply(double[] arguments, byte[] argumentKinds) {
+                final double a = arguments[0];
+                final double b = arity > 1 ? arguments[1] : a;
+                if (kind(argumentKinds) == K_FLOAT) {
+                    return (float) operator.applyAsDouble((float) a, (float) b);
+                }
+                return operator.applyAsDouble(a, b);
+            }
+        };
+    }
+
+    private static Map<String, Function> functions(boolean strict) {
+        final ImmutableMap.Builder<String, Function> builder = ImmutableMap.builder();
+        builder.put("abs", ofAnyNumber(1, (a, b) -> strict ? StrictMath.abs(a) : Math.abs(a)));
+        builder.put("max", ofAnyNumber(2, strict ? StrictMath::max : Math::max));
+        builder.put("min", ofAnyNumber(2, strict ? StrictMath::min : Math::min));
+        builder.put("signum", new Function(1) {
+            @Override
+            byte kind(byte[] argumentKinds) {
+                // There is no integer overload, integers widen to float
+                return argumentKinds[0] == K_DOUBLE ? K_DOUBLE : K_FLOAT;
+            }
+
+            @Override
+            double apply(double[] arguments, byte[] argumentKinds) {
+                return strict ? StrictMath.signum(arguments[0]) : Math.signum(arguments[0]);
+            }
+        });
+        builder.put("round", new Function(1) {
+            @Override
+            byte kind(byte[] argumentKinds) {
+                return K_INTEGRAL;
+            }
+
+            @Override
+            double apply(double[] arguments, byte[] argumentKinds) {
+                // round(double) for doubles, round(float) for anything else
+                if (argumentKinds[0] == K_DOUBLE) {
+                    return strict ? StrictMath.round(arguments[0]) : Math.round(arguments[0]);
+                }
+                return strict ? StrictMath.round((float) arguments[0]) : Math.round((float) arguments[0]);
+            }
+        });
+        if (strict) {
+            builder.put("sqrt", ofDouble(StrictMath::sqrt));
+            builder.put("cbrt", ofDouble(StrictMath::cbrt));
+            builder.put("sin", ofDouble(StrictMath::sin));
+            builder.put("cos", ofDouble(StrictMath::cos));
+            builder.put("tan", ofDouble(StrictMath::tan));
+            builder.put("asin", ofDouble(StrictMath::asin));
+            builder.put("acos", ofDouble(StrictMath::acos));
+            builder.put("atan", ofDouble(StrictMath::atan));
+            builder.put("sinh", ofDouble(StrictMath::sinh));
+            builder.put("cosh", ofDouble(StrictMath::cosh));
+            builder.put("tanh", ofDouble(StrictMath::tanh));
+            builder.put("exp", ofDouble(StrictMath::exp));
+            builder.put("expm1", ofDouble(StrictMath::expm1));
+            builder.put("log", ofDouble(StrictMath::log));
+            builder.put("log10", ofDouble(StrictMath::log10));
+            builder.put("log1p", ofDouble(StrictMath::log1p));
+            builder.put("ceil", ofDouble(StrictMath::ceil));
+            builder.put("floor", ofDouble(StrictMath::floor));
+            builder.put("rint", ofDouble(StrictMath::rint));
+            builder.put("toDegrees", ofDouble(StrictMath::toDegrees));
+            builder.put("toRadians", ofDouble(StrictMath::toRadians));
+            builder.put("pow", ofDouble(StrictMath::pow));
+            builder.put("atan2", ofDouble(StrictMath::atan2));
+            builder.put("hypot", ofDouble(StrictMath::hypot));
+        } else {
+            builder.put("sqrt", ofDouble(Math::sqrt));
+            builder.put("cbrt", ofDouble(Math::cbrt));
+            builder.put("sin", ofDouble(Math::sin));
+            builder.put("cos", ofDouble(Math::cos));
+            builder.put("tan", ofDouble(Math::tan));
+            builder.put("asin", ofDouble(Math::asin));
+            builder.put("acos", ofDouble(Math::acos));
+            builder.put("atan", ofDouble(Math::atan));
+            builder.put("sinh", ofDouble(Math::sinh));
+            builder.put("cosh", ofDouble(Math::cosh));
+            builder.put("tanh", ofDouble(Math::tanh));
+            builder.put("exp", ofDouble(Math::exp));
+            builder.put("expm1", ofDouble(Math::expm1));
+            builder.put("log", ofDouble(Math::log));
+            builder.put("log10", ofDouble(Math::log10));
+            builder.put("log1p", ofDouble(Math::log1p));
+            builder.put("ceil", ofDouble(Math::ceil));
+            builder.put("floor", ofDouble(Math::floor));
+            builder.put("rint", ofDouble(Math::rint));
+            builder.put("toDegrees", ofDouble(Math::toDegrees));
+            builder.put("toRadians", ofDouble(Math::toRadians));
+            builder.put("pow", ofDouble(Math::pow));
+            builder.put("atan2", ofDouble(Math::atan2));
+            builder.put("hypot", ofDouble(Math::hypot));
+        }
+        return builder.build();
+    }
+
+    private static final Map<String, Map<String, Function>> NAMESPACES = ImmutableMap.of(
+            "math", functions(false),
+            "strictmath", functions(true));
+
+    private static final class Call extends Node {
+        private final Function function;
+        private final Node[] arguments;
+
+        private Call(Type type, Function function, Node[] arguments) {
+            super(type);
+            this.function = function;
+            this.arguments = arguments;
+        }
+
+        @Override
+        Column eval(Frame frame) {
+            final Column[] columns = new Column[arguments.length];
+            BitSet errors = null;
+            for (int j = 0; j < arguments.length; j++) {
+                columns[j] = arguments[j].eval(frame);
+                errors = union(errors, columns[j].errors);
+            }
+
+            final double[] values = new double[frame.rows];
+            final byte[] kinds = type == Type.MIXED ? new byte[frame.rows] : null;
+            final double[] args = new double[arguments.length];
+            final byte[] argKinds = new byte[arguments.length];
+            for (int i = 0; i < values.length; i++) {
+                for (int j = 0; j < args.length; j++) {
+                    args[j] = columns[j].values[i];
+                    argKinds[j] = arguments[j].kind(columns[j], i);
+                }
+                values[i] = function.apply(args, argKinds);
+                if (kinds != null) {
+                    kinds[i] = function.kind(argKinds);
+                }
+            }
+            return new Column(values, kinds, errors);
+        }
+    }
+
+    private static final Set<String> RESERVED_WORDS = ImmutableSet.of("null", "empty", "size", "new", "if", "else",
+            "for", "foreach", "while", "var", "return", "in");
+
+    private static final Map<String, String> WORD_OPERATORS = ImmutableMap.<String, String>builder()
+            .put("and", "&&").put("or", "||").put("not", "!")
+            .put("eq", "==").put("ne", "!=").put("lt", "<").put("le", "<=").put("gt", ">").put("ge", ">=")
+            .put("div", "/").put("mod", "%")
+            .build();
+
+    private enum TokenType { NUMBER, IDENTIFIER, OPERATOR, END }
+
+    private static final class Token {
+        final TokenType type;
+        final String text;
+
+        Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        boolean is(String operator) {
+            return type == TokenType.OPERATOR && text.equals(operator);
+        }
+    }
+
+    private final Scope scope;
+    private final List<Token> tokens;
+    private int position;
+
+    private ColumnExpressionCompiler(String expression, Scope scope) throws UnsupportedExpressionException {
+        this.scope = scope;
+        this.tokens = tokenize(expression);
+    }
+
+    /**
+     * Compiles the given expression.
+     *
+     * @throws UnsupportedExpressionException if the expression is not part of the supported subset or is invalid
+     */
+    static Node compile(String expression, Scope scope) throws UnsupportedExpressionException {
+        final ColumnExpressionCompiler compiler = new ColumnExpressionCompiler(expression, scope);
+        final Node node = compiler.parseExpression();
+        if (compiler.peek().type != TokenType.END) {
+            throw new UnsupportedExpressionException("Unexpected token '" + compiler.peek().text + "'");
+        }
+        if (node.type == Type.BOOLEAN) {
+            // JEXL fails to convert those to a double, let it report the error
+            throw new UnsupportedExpressionException("Expression does not evaluate to a number");
+        }
+        return node;
+    }
+
+    private static List<Token> tokenize(String expression) throws UnsupportedExpressionException {
+        final List<Token> tokens = new ArrayList<>();
+        final int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            final char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isDigit(c)) {
+                int end = i;
+                while (end < length && (Character.isLetterOrDigit(expression.charAt(end))
+                        || expression.charAt(end) == '.'
+                        || ((expression.charAt(end) == '+' || expression.charAt(end) == '-')
+                            && (expression.charAt(end - 1) == 'e' || expression.charAt(end - 1) == 'E')))) {
+                    end++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, expression.substring(i, end)));
+                i = end;
+            } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                int end = i;
+                while (end < length && (Character.isLetterOrDigit(expression.charAt(end))
+                        || expression.charAt(end) == '_' || expression.charAt(end) == '$')) {
+                    end++;
+                }
+                final String word = expression.substring(i, end);
+                final String operator = WORD_OPERATORS.get(word);
+                tokens.add(operator != null ? new Token(TokenType.OPERATOR, operator)
+                        : new Token(TokenType.IDENTIFIER, word));
+                i = end;
+            } else {
+                final String two = i + 1 < length ? expression.substring(i, i + 2) : "";
+                if (two.equals("==") || two.equals("!=") || two.equals("<=") || two.equals(">=")
+                        || two.equals("&&") || two.equals("||")) {
+                    tokens.add(new Token(TokenType.OPERATOR, two));
+                    i += 2;
+                } else if (two.equals("=~") || two.equals("!~") || two.equals("?:")) {
+                    throw new UnsupportedExpressionException("Unsupported operator '" + two + "'");
+                } else if ("+-*/%<>!?:(),".indexOf(c) >= 0) {
+                    tokens.add(new Token(TokenType.OPERATOR, String.valueOf(c)));
+                    i++;
+                } else {
+                    throw new UnsupportedExpressionException("Unsupported character '" + c + "'");
+                }
+            }
+        }
+        tokens.add(new Token(TokenType.END, ""));
+        return tokens;
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next() {
+        return tokens.get(position++);
+    }
+
+    private void expect(String operator) throws UnsupportedExpressionException {
+        if (!next().is(operator)) {
+            throw new UnsupportedExpressionException("Expected '" + operator + "'");
+        }
+    }
+
+    private Node parseExpression() throws UnsupportedExpressionException {
+        final Node condition = parseOr();
+        if (!peek().is("?")) {
+            return condition;
+        }
+        next();
+        final Node then = parseExpression();
+        expect(":");
+        final Node otherwise = parseExpression();
+        return new Ternary(mergeBranchTypes(then.type, otherwise.type), condition, then, otherwise);
+    }
+
+    private static Type mergeBranchTypes(Type a, Type b) throws UnsupportedExpressionException {
+        if (a == b) {
+            return a;
+        } else if (a == Type.BOOLEAN || b == Type.BOOLEAN) {
+            throw new UnsupportedExpressionException("Ternary branches mix booleans and numbers");
+        }
+        return Type.MIXED;
+    }
+
+    private Node parseOr() throws UnsupportedExpressionException {
+        Node node = parseAnd();
+        while (peek().is("||")) {
+            next();
+            node = new Logical(false, node, parseAnd());
+        }
+        return node;
+    }
+
+    private Node parseAnd() throws UnsupportedExpressionException {
+        Node node = parseEquality();
+        while (peek().is("&&")) {
+            next();
+            node = new Logical(true, node, parseEquality());
+        }
+        return node;
+    }
+
+    private Node parseEquality() throws UnsupportedExpressionException {
+        Node node = parseRelational();
+        while (peek().is("==") || peek().is("!=")) {
+            final String operator = next().text;
+            final Node right = parseRelational();
+            if ((node.type == Type.BOOLEAN) != (right.type == Type.BOOLEAN)) {
+                throw new UnsupportedExpressionException("Comparing a boolean with a number");
+            }
+            node = new Comparison(operator, node, right);
+        }
+        return node;
+    }
+
+    private Node parseRelational() throws UnsupportedExpressionException {
+        Node node = parseAdditive();
+        while (peek().is("<") || peek().is("<=") || peek().is(">") || peek().is(">=")) {
+            final String operator = next().text;
+            final Node right = parseAdditive();
+            requireNumeric(node, right);
+            node = new Comparison(operator, node, right);
+        }
+        return node;
+    }
+
+    private Node parseAdditive() throws UnsupportedExpressionException {
+        Node node = parseMultiplicative();
+        while (peek().is("+") || peek().is("-")) {
+            final char operator = next().text.charAt(0);
+            final Node right = parseMultiplicative();
+            requireNumeric(node, right);
+            node = new Arithmetic(operator, node, right);
+        }
+        return node;
+    }
+
+    private Node parseMultiplicative() throws UnsupportedExpressionException {
+        Node node = parseUnary();
+        while (peek().is("*") || peek().is("/") || peek().is("%")) {
+            final char operator = next().text.charAt(0);
+            final Node right = parseUnary();
+            requireNumeric(node, right);
+            if (operator == '/' && !node.type.isFloatingPoint() && !right.type.isFloatingPoint()
+                    && (node.type == Type.MIXED || right.type == Type.MIXED)) {
+                throw new UnsupportedExpressionException("Division of values of varying types");
+            }
+            if (operator == '%' && !node.type.isFloatingPoint() && !right.type.isFloatingPoint()) {
+                throw new UnsupportedExpressionException("Integer modulo");
+            }
+            node = new Arithmetic(operator, node, right);
+        }
+        return node;
+    }
+
+    private Node parseUnary() throws UnsupportedExpressionException {
+        if (peek().is("-")) {
+            next();
+            final Node operand = parseUnary();
+            requireNumeric(operand, operand);
+            return new Negate(operand);
+        } else if (peek().is("!")) {
+            next();
+            return new Not(parseUnary());
+        }
+        return parsePrimary();
+    }
+
+    private Node parsePrimary() throws UnsupportedExpressionException {
+        final Token token = next();
+        switch (token.type) {
+            case NUMBER:
+                return parseNumber(token.text);
+            case IDENTIFIER:
+                if (token.text.equals("true") || token.text.equals("false")) {
+                    return new Constant(Type.BOOLEAN, token.text.equals("true") ? 1 : 0);
+                } else if (RESERVED_WORDS.contains(token.text)) {
+                    throw new UnsupportedExpressionException("Unsupported keyword '" + token.text + "'");
+                } else if (isCall()) {
+                    next();
+                    return parseCall(token.text);
+                } else if (peek().is("(")) {
+                    throw new UnsupportedExpressionException("Unsupported function call '" + token.text + "'");
+                }
+                // Property access and antish variables are rejected by the tokenizer which does not know about '.'
+                return scope.resolve(token.text);
+            case OPERATOR:
+                if (token.is("(")) {
+                    final Node node = parseExpression();
+                    expect(")");
+                    return node;
+                }
+                // fall through
+            default:
+                throw new UnsupportedExpressionException("Unexpected token '" + token.text + "'");
+        }
+    }
+
+    /**
+     * @return true if the identifier that was just read is the namespace of a function call rather than the end of
+     * the first branch of a ternary
+     */
+    private boolean isCall() {
+        return peek().is(":") && position + 2 < tokens.size()
+                && tokens.get(position + 1).type == TokenType.IDENTIFIER && tokens.get(position + 2).is("(");
+    }
+
+    private Node parseCall(String namespace) throws UnsupportedExpressionException {
+        final Token name = next();
+        final Map<String, Function> functions = NAMESPACES.get(namespace);
+        final Function function = functions != null && name.type == TokenType.IDENTIFIER ? functions.get(name.text) : null;
+        if (function == null) {
+            throw new UnsupportedExpressionException("Unsupported function '" + namespace + ":" + name.text + "'");
+        }
+
+        expect("(");
+        final List<Node> arguments = new ArrayList<>();
+        if (!peek().is(")")) {
+            arguments.add(parseExpression());
+            while (peek().is(",")) {
+                next();
+                arguments.add(parseExpression());
+            }
+        }
+        expect(")");
+        if (arguments.size() != function.arity) {
+            throw new UnsupportedExpressionException("Wrong number of arguments for '" + name.text + "'");
+        }
+
+        final byte[] kinds = new byte[arguments.size()];
+        boolean mixed = false;
+        for (int j = 0; j < kinds.length; j++) {
+            final Node argument = arguments.get(j);
+            requireNumeric(argument, argument);
+            mixed |= argument.type == Type.MIXED;
+            kinds[j] = argument.type == Type.MIXED ? K_DOUBLE : kindOf(argument.type, null, 0);
+        }
+        final Type type = mixed ? Type.MIXED : typeOf(function.kind(kinds));
+        return new Call(type, function, arguments.toArray(new Node[0]));
+    }
+
+    private static Node parseNumber(String text) throws UnsupportedExpressionException {
+        try {
+            if (text.indexOf('.') < 0) {
+                // Octal, hexadecimal and suffixed integer literals are left to JEXL
+                if ((text.length() > 1 && text.charAt(0) == '0') || !text.chars().allMatch(Character::isDigit)) {
+                    throw new UnsupportedExpressionException("Unsupported literal '" + text + "'");
+                }
+                final long value = Long.parseLong(text);
+                if (Math.abs(value) > (1L << 53)) {
+                    throw new UnsupportedExpressionException("Literal '" + text + "' is not exact as a double");
+                }
+                return new Constant(Type.INTEGRAL, value);
+            }
+
+            final char suffix = text.charAt(text.length() - 1);
+            if (text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+                throw new UnsupportedExpressionException("Unsupported literal '" + text + "'");
+            } else if (suffix == 'd' || suffix == 'D') {
+                return new Constant(Type.DOUBLE, Double.parseDouble(text.substring(0, text.length() - 1)));
+            } else if (suffix == 'f' || suffix == 'F') {
+                return new Constant(Type.FLOAT, Float.parseFloat(text.substring(0, text.length() - 1)));
+            } else if (Character.isDigit(suffix)) {
+                // JEXL treats decimal literals without a suffix as floats
+                return new Constant(Type.FLOAT, Float.parseFloat(text));
+            }
+        } catch (NumberFormatException e) {
+            // Let JEXL report the error
+        }
+        throw new UnsupportedExpressionException("Unsupported literal '" + text + "'");
+    }
+
+    private static void requireNumeric(Node left, Node right) throws UnsupportedExpressionException {
+        if (!left.type.isNumeric() || !right.type.isNumeric()) {
+            throw new UnsupportedExpressionException("Arithmetic on booleans");
+        }
+    }
+}
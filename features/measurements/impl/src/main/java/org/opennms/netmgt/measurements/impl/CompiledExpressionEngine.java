@@ -0,0 +1,224 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.opennms.netmgt.measurements.api.ExpressionEngine;
+import org.opennms.netmgt.measurements.api.FetchResults;
+import org.opennms.netmgt.measurements.api.exceptions.ExpressionException;
+import org.opennms.netmgt.measurements.impl.ColumnExpressionCompiler.Column;
+import org.opennms.netmgt.measurements.impl.ColumnExpressionCompiler.Constant;
+import org.opennms.netmgt.measurements.impl.ColumnExpressionCompiler.Frame;
+import org.opennms.netmgt.measurements.impl.ColumnExpressionCompiler.Node;
+import org.opennms.netmgt.measurements.impl.ColumnExpressionCompiler.Type;
+import org.opennms.netmgt.measurements.impl.ColumnExpressionCompiler.UnsupportedExpressionException;
+import org.opennms.netmgt.measurements.impl.ColumnExpressionCompiler.Variable;
+import org.opennms.netmgt.measurements.model.Expression;
+import org.opennms.netmgt.measurements.model.QueryRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * An expression engine which compiles the expressions and evaluates them over whole columns instead of interpreting
+ * them row by row.
+ * <p>
+ * Only the subset of JEXL supported by {@link ColumnExpressionCompiler} can be compiled. If any of the expressions
+ * of a request uses something else, the whole request is handed to the fallback engine, which is JEXL by default,
+ * since the expressions of a request may reference each other.
+ */
+public class CompiledExpressionEngine implements ExpressionEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledExpressionEngine.class);
+
+    private static final String TIMESTAMP = "timestamp";
+    private static final String INDEX = "__i";
+
+    /**
+     * The constants JEXLExpressionEngine adds to the context, they take precedence over the ones of the fetch results.
+     */
+    private static final Map<String, Double> BUILTIN_CONSTANTS = ImmutableMap.of(
+            "__inf", Double.POSITIVE_INFINITY,
+            "__neg_inf", Double.NEGATIVE_INFINITY,
+            "NaN", Double.NaN,
+            "__E", Math.E,
+            "__PI", Math.PI);
+
+    private static final Set<String> RESERVED_LABELS = ImmutableSet.<String>builder()
+            .add(TIMESTAMP, INDEX, "__diff_time", "__step")
+            .addAll(BUILTIN_CONSTANTS.keySet())
+            .build();
+
+    private final ExpressionEngine fallback;
+
+    public CompiledExpressionEngine() {
+        this(new JEXLExpressionEngine());
+    }
+
+    public CompiledExpressionEngine(ExpressionEngine fallback) {
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void applyExpressions(final QueryRequest request, final FetchResults results) throws ExpressionException {
+        Preconditions.checkNotNull(request, "request argument");
+        Preconditions.checkNotNull(results, "results argument");
+
+        // Don't do anything if there are no expressions
+        if (request.getExpressions().isEmpty()) {
+            return;
+        }
+
+        final List<Node> compiled;
+        try {
+            compiled = compile(request, results);
+        } catch (UnsupportedExpressionException e) {
+            LOG.debug("Falling back to {} for request: {}", fallback.getClass().getSimpleName(), e.getMessage());
+            fallback.applyExpressions(request, results);
+            return;
+        }
+
+        final long[] timestamps = results.getTimestamps();
+        final Map<String, double[]> columns = results.getColumns();
+        final int numRows = timestamps.length;
+
+        // Bind the variables which vary from row to row
+        final Map<String, double[]> values = new HashMap<>(columns);
+        final double[] timestampValues = new double[numRows];
+        final double[] indexValues = new double[numRows];
+        for (int i = 0; i < numRows; i++) {
+            timestampValues[i] = timestamps[i];
+            indexValues[i] = i;
+        }
+        values.put(TIMESTAMP, timestampValues);
+        values.put(INDEX, indexValues);
+        final Frame frame = new Frame(numRows, values);
+
+        // Evaluate the expressions in the order in which they appeared in the query, so that they can reference
+        // the ones before them
+        final Map<String, double[]> expressionValues = new LinkedHashMap<>();
+        int k = 0;
+        for (final Expression e : request.getExpressions()) {
+            final Node node = compiled.get(k++);
+            final Column column = node.eval(frame);
+            if (column.errors != null && !column.errors.isEmpty()) {
+                throw new ExpressionException(new ArithmeticException("divide error"),
+                        "Failed to evaluate expression with label '" + e.getLabel() + "'.");
+            }
+
+            final double[] derived = new double[numRows];
+            for (int i = 0; i < numRows; i++) {
+                derived[i] = ColumnExpressionCompiler.toResult(node, column, i);
+            }
+            values.put(e.getLabel(), derived);
+
+            // Only store the values for non-transient expressions
+            if (!e.getTransient()) {
+                expressionValues.put(e.getLabel(), derived);
+            }
+        }
+
+        columns.putAll(expressionValues);
+    }
+
+    private static List<Node> compile(QueryRequest request, FetchResults results) throws UnsupportedExpressionException {
+        final Map<String, double[]> columns = results.getColumns();
+        final Map<String, Object> constants = results.getConstants();
+        final long[] timestamps = results.getTimestamps();
+        final int numRows = timestamps.length;
+        final double diffTime = numRows < 1 ? 0d : timestamps[numRows - 1] - timestamps[0];
+        final long step = results.getStep();
+
+        final Set<String> allLabels = new HashSet<>();
+        for (final Expression e : request.getExpressions()) {
+            allLabels.add(e.getLabel());
+        }
+
+        final Set<String> labels = new HashSet<>();
+        final List<Node> compiled = new ArrayList<>(request.getExpressions().size());
+        for (final Expression e : request.getExpressions()) {
+            final String label = e.getLabel();
+            // JEXL lets the row values shadow the results of expressions with the same label, leave those to it
+            if (label == null || columns.containsKey(label) || RESERVED_LABELS.contains(label)
+                    || label.startsWith("__") || !labels.add(label)) {
+                throw new UnsupportedExpressionException("Expression label '" + label + "' shadows another variable");
+            }
+            if (e.getExpression() == null) {
+                throw new UnsupportedExpressionException("Missing expression for label '" + label + "'");
+            }
+
+            // Resolve variables in the order in which JEXLExpressionEngine lets them override one another
+            final Set<String> visible = new HashSet<>(labels);
+            visible.remove(label);
+            compiled.add(ColumnExpressionCompiler.compile(e.getExpression(), name -> {
+                if (columns.containsKey(name)) {
+                    return new Variable(Type.DOUBLE, name);
+                } else if (name.startsWith("__") && columns.containsKey(name.substring(2))) {
+                    throw new UnsupportedExpressionException("Sample arrays are not supported");
+                } else if (TIMESTAMP.equals(name) || INDEX.equals(name)) {
+                    return new Variable(Type.INTEGRAL, name);
+                } else if (visible.contains(name)) {
+                    return new Variable(Type.DOUBLE, name);
+                } else if (allLabels.contains(name)) {
+                    // What JEXL yields for labels which are not evaluated yet depends on the values left in its context
+                    throw new UnsupportedExpressionException("Expression references label '" + name + "' before it is evaluated");
+                } else if ("__diff_time".equals(name)) {
+                    return new Constant(Type.DOUBLE, diffTime);
+                } else if ("__step".equals(name)) {
+                    return new Constant(Type.INTEGRAL, step);
+                } else if (BUILTIN_CONSTANTS.containsKey(name)) {
+                    return new Constant(Type.DOUBLE, BUILTIN_CONSTANTS.get(name));
+                }
+                return toConstant(name, constants.get(name));
+            }));
+        }
+        return compiled;
+    }
+
+    private static Node toConstant(String name, Object value) throws UnsupportedExpressionException {
+        if (value instanceof Double) {
+            return new Constant(Type.DOUBLE, (Double) value);
+        } else if (value instanceof Float) {
+            return new Constant(Type.FLOAT, (Float) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return new Constant(Type.INTEGRAL, ((Number) value).intValue());
+        } else if (value instanceof Long && Math.abs((Long) value) <= (1L << 53)) {
+            return new Constant(Type.INTEGRAL, (Long) value);
+        }
+        // Strings, unknown variables and the like are left to JEXL
+        throw new UnsupportedExpressionException("Unsupported variable '" + name + "'");
+    }
+}
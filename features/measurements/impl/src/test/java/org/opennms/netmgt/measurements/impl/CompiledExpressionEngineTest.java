@@ -0,0 +1,223 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.opennms.netmgt.measurements.api.ExpressionEngine;
+import org.opennms.netmgt.measurements.api.FetchResults;
+import org.opennms.netmgt.measurements.api.exceptions.ExpressionException;
+import org.opennms.netmgt.measurements.model.Expression;
+import org.opennms.netmgt.measurements.model.QueryRequest;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+public class CompiledExpressionEngineTest {
+
+    /**
+     * Expressions which must be compiled, and must yield exactly the same results as JEXL.
+     */
+    private static final String[] COMPILED_EXPRESSIONS = {
+            "x * 5 + 7",
+            "-x + 3",
+            "x / 0.62137",
+            "x % 7.5",
+            "0.1 + 0.2",
+            "timestamp / 125.0d",
+            "timestamp / 1000",
+            "__i * 2",
+            "1 * __diff_time",
+            "1 * __step",
+            "speed * ratio + x",
+            "x == NaN ? 0 : x",
+            "x != y ? x : 0.5",
+            "x > 50 ? x : 0",
+            "x > 50 ? 0.1 : x",
+            "y == 0 ? 0 : x / y",
+            "x > 50 && y < 10 ? 1 : 0",
+            "x >= 50 || y <= 10 ? x : y",
+            "!(x > 50) ? x : 0",
+            "(x > 10) == (y > 10) ? 1 : 0",
+            "x eq 5 ? 1 : 0",
+            "x lt 10 and y gt 0 ? 1 : 0",
+            "( ( (x == __inf) || (x == __neg_inf) || (y < 10) ) ? NaN : x )",
+            "math:sin(x)",
+            "math:abs(x - 50)",
+            "math:abs(0.1)",
+            "math:max(x, 50)",
+            "math:min(x, y)",
+            "math:round(x / 3.0d)",
+            "math:pow(x, 2)",
+            "math:atan2(x, y)",
+            "strictmath:sqrt(x)",
+            "( ( x == NaN ) ? y : ( ( y == NaN ) ? x : math:max(x,y) ) )",
+    };
+
+    private final JEXLExpressionEngine jexlEngine = new JEXLExpressionEngine();
+
+    @Test
+    public void yieldsTheSameResultsAsJexl() throws ExpressionException {
+        final ExpressionEngine compiledEngine = new CompiledExpressionEngine(new FailingExpressionEngine());
+        for (final String expression : COMPILED_EXPRESSIONS) {
+            final double[] expected = performExpression(jexlEngine, expression);
+            final double[] actual = performExpression(compiledEngine, expression);
+            assertArrayEquals(expression, expected, actual, 0.0d);
+        }
+    }
+
+    @Test
+    public void yieldsTheSameResultsAsJexlForForwardReferences() throws ExpressionException {
+        // The later expression shadows a constant of the same name
+        final QueryRequest request = new QueryRequest();
+        request.setExpressions(Lists.newArrayList(
+                expression("result", "speed * 2", false),
+                expression("speed", "x", false)));
+
+        final Map<String, Object> constants = Maps.newHashMap();
+        constants.put("speed", 65);
+        final FetchResults expected = newResults(constants);
+        jexlEngine.applyExpressions(request, expected);
+        final FetchResults actual = newResults(constants);
+        new CompiledExpressionEngine().applyExpressions(request, actual);
+
+        assertArrayEquals(expected.getColumns().get("result"), actual.getColumns().get("result"), 0.0d);
+        assertArrayEquals(expected.getColumns().get("speed"), actual.getColumns().get("speed"), 0.0d);
+
+        final RecordingExpressionEngine fallback = new RecordingExpressionEngine();
+        new CompiledExpressionEngine(fallback).applyExpressions(request, newResults(constants));
+        assertTrue(fallback.called);
+    }
+
+    @Test
+    public void canReferencePreviousExpressions() throws ExpressionException {
+        final QueryRequest request = new QueryRequest();
+        request.setExpressions(Lists.newArrayList(
+                expression("a", "x * 2", true),
+                expression("b", "a + 1", false),
+                expression("c", "b > 100 ? a : b", false)));
+
+        final FetchResults results = newResults(Maps.newHashMap());
+        new CompiledExpressionEngine(new FailingExpressionEngine()).applyExpressions(request, results);
+
+        final Map<String, double[]> columns = results.getColumns();
+        assertFalse(columns.containsKey("a"));
+        assertEquals(21.0d, columns.get("b")[10], 0.0d);
+        assertEquals(21.0d, columns.get("c")[10], 0.0d);
+        assertEquals(160.0d, columns.get("c")[80], 0.0d);
+    }
+
+    @Test
+    public void fallsBackToJexlForUnsupportedExpressions() throws ExpressionException {
+        final String[] unsupported = {
+                "fn:arrayNaN(\"x\", 5)",
+                "jexl:evaluate(__formula)",
+                "x > 50",
+                "x.y * 2",
+                "unknown * 2",
+                "later * 2",
+        };
+        for (final String expression : unsupported) {
+            final RecordingExpressionEngine fallback = new RecordingExpressionEngine();
+            final QueryRequest request = new QueryRequest();
+            request.setExpressions(Lists.newArrayList(expression("y", expression, false),
+                    expression("later", "x", false)));
+
+            new CompiledExpressionEngine(fallback).applyExpressions(request, newResults(Maps.newHashMap()));
+            assertTrue(expression, fallback.called);
+        }
+    }
+
+    @Test(expected = ExpressionException.class)
+    public void failsOnDivisionByZero() throws ExpressionException {
+        performExpression(new CompiledExpressionEngine(new FailingExpressionEngine()), "x / (y - y)");
+    }
+
+    @Test
+    public void ignoresDivisionByZeroInBranchesNotTaken() throws ExpressionException {
+        final double[] results = performExpression(new CompiledExpressionEngine(new FailingExpressionEngine()),
+                "(y - y) == 0 || x / (y - y) > 1 ? 1 : 0");
+        assertEquals(1.0d, results[0], 0.0d);
+    }
+
+    private static Expression expression(String label, String expression, boolean isTransient) {
+        final Expression exp = new Expression();
+        exp.setLabel(label);
+        exp.setExpression(expression);
+        exp.setTransient(isTransient);
+        return exp;
+    }
+
+    private static FetchResults newResults(Map<String, Object> constants) {
+        final int N = 100;
+        final long[] timestamps = new long[N];
+        final double[] xValues = new double[N];
+        final double[] yValues = new double[N];
+        for (int i = 0; i < N; i++) {
+            timestamps[i] = i * 1000;
+            xValues[i] = i % 13 == 0 ? Double.NaN : i;
+            yValues[i] = i % 7 == 0 ? 0 : (N - i) / 3.0d;
+        }
+        xValues[1] = Double.POSITIVE_INFINITY;
+        xValues[2] = -0.0d;
+        final Map<String, double[]> values = Maps.newHashMap();
+        values.put("x", xValues);
+        values.put("y", yValues);
+        return new FetchResults(timestamps, values, 1, constants, null);
+    }
+
+    private static double[] performExpression(ExpressionEngine engine, String expression) throws ExpressionException {
+        final QueryRequest request = new QueryRequest();
+        request.setExpressions(Lists.newArrayList(expression("result", expression, false)));
+
+        final Map<String, Object> constants = Maps.newHashMap();
+        constants.put("speed", 65);
+        constants.put("ratio", 0.5d);
+        final FetchResults results = newResults(constants);
+        engine.applyExpressions(request, results);
+        return results.getColumns().get("result");
+    }
+
+    private static class FailingExpressionEngine implements ExpressionEngine {
+        @Override
+        public void applyExpressions(QueryRequest request, FetchResults results) {
+            final List<String> expressions = Lists.transform(request.getExpressions(), Expression::getExpression);
+            throw new AssertionError("Expressions should have been compiled: " + expressions);
+        }
+    }
+
+    private static class RecordingExpressionEngine implements ExpressionEngine {
+        private boolean called = false;
+
+        @Override
+        public void applyExpressions(QueryRequest request, FetchResults results) {
+            called = true;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opennms.netmgt.measurements.api.ExpressionEngine;
+import org.opennms.netmgt.measurements.api.FetchResults;
+import org.opennms.netmgt.measurements.model.Expression;
+import org.opennms.netmgt.measurements.model.QueryRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the JEXL and the compiled expression engines on a request shaped like the ones issued by dashboards: a
+ * number of series, each derived from two sources with the expressions commonly found in the graph definitions.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExpressionEngineBenchmark {
+
+    private static final String[] EXPRESSIONS = {
+            "%1$s * 8",
+            "(%1$s + %2$s) / 2",
+            "%2$s == 0 ? 0 : %1$s / %2$s * 100.0d",
+            "( ( %1$s == NaN ) ? %2$s : ( ( %2$s == NaN ) ? %1$s : math:max(%1$s, %2$s) ) )",
+    };
+
+    @Param({"20"})
+    public int series;
+
+    @Param({"10000"})
+    public int rows;
+
+    private final ExpressionEngine jexlEngine = new JEXLExpressionEngine();
+
+    private final ExpressionEngine compiledEngine = new CompiledExpressionEngine();
+
+    private QueryRequest request;
+
+    private long[] timestamps;
+
+    private Map<String, double[]> sources;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timestamps = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            timestamps[i] = 1_600_000_000_000L + i * 300_000L;
+        }
+
+        sources = new HashMap<>();
+        final List<Expression> expressions = new ArrayList<>();
+        for (int s = 0; s < series; s++) {
+            final String in = "in" + s;
+            final String out = "out" + s;
+            final double[] inValues = new double[rows];
+            final double[] outValues = new double[rows];
+            for (int i = 0; i < rows; i++) {
+                // Sprinkle some NaNs and zeros in like real data has
+                inValues[i] = i % 97 == 0 ? Double.NaN : (i * 31 + s) % 1000;
+                outValues[i] = i % 89 == 0 ? 0 : (i * 17 + s) % 1000;
+            }
+            sources.put(in, inValues);
+            sources.put(out, outValues);
+
+            final Expression expression = new Expression();
+            expression.setLabel("series" + s);
+            expression.setExpression(String.format(EXPRESSIONS[s % EXPRESSIONS.length], in, out));
+            expressions.add(expression);
+        }
+
+        request = new QueryRequest();
+        request.setExpressions(expressions);
+    }
+
+    private FetchResults newResults() {
+        // The engines add their results to the columns, so every invocation gets a fresh copy
+        return new FetchResults(timestamps, new HashMap<>(sources), 300_000L, new HashMap<>(), null);
+    }
+
+    @Benchmark
+    public void jexl(final Blackhole blackhole) throws Exception {
+        final FetchResults results = newResults();
+        jexlEngine.applyExpressions(request, results);
+        blackhole.consume(results);
+    }
+
+    @Benchmark
+    public void compiled(final Blackhole blackhole) throws Exception {
+        final FetchResults results = newResults();
+        compiledEngine.applyExpressions(request, results);
+        blackhole.consume(results);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
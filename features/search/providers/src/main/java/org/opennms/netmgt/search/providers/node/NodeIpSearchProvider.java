@@ -52,10 +52,16 @@ public class NodeIpSearchProvider implements SearchProvider {
 
     private final NodeDao nodeDao;
     private final EntityScopeProvider entityScopeProvider;
+    private final NodeSearchIndex nodeSearchIndex;
 
     public NodeIpSearchProvider(final NodeDao nodeDao, final EntityScopeProvider entityScopeProvider) {
+        this(nodeDao, entityScopeProvider, null);
+    }
+
+    public NodeIpSearchProvider(final NodeDao nodeDao, final EntityScopeProvider entityScopeProvider, final NodeSearchIndex nodeSearchIndex) {
         this.nodeDao = Objects.requireNonNull(nodeDao);
         this.entityScopeProvider = Objects.requireNonNull(entityScopeProvider);
+        this.nodeSearchIndex = nodeSearchIndex;
     }
 
     @Override
@@ -66,13 +72,21 @@ public class NodeIpSearchProvider implements SearchProvider {
     @Override
     public SearchResult query(final SearchQuery query) {
         final String input = query.getInput();
-        final CriteriaBuilder criteriaBuilder = new CriteriaBuilder(OnmsNode.class)
-                .alias("ipInterfaces", "ipInterfaces")
-                .ilike("ipInterfaces.ipAddress", QueryUtils.ilike(input))
-                .distinct();
-        final int totalCount = nodeDao.countMatching(criteriaBuilder.toCriteria());
-        final Criteria criteria = criteriaBuilder.orderBy("label").distinct().limit(query.getMaxResults()).toCriteria();
-        final List<OnmsNode> matchingNodes = nodeDao.findMatching(criteria);
+        final int totalCount;
+        final List<OnmsNode> matchingNodes;
+        if (nodeSearchIndex != null && nodeSearchIndex.isReady()) {
+            final List<Integer> nodeIds = nodeSearchIndex.search(NodeSearchIndex.Field.IP_ADDRESS, input);
+            totalCount = nodeIds.size();
+            matchingNodes = nodeSearchIndex.getNodes(QueryUtils.shrink(nodeIds, query.getMaxResults()));
+        } else {
+            final CriteriaBuilder criteriaBuilder = new CriteriaBuilder(OnmsNode.class)
+                    .alias("ipInterfaces", "ipInterfaces")
+                    .ilike("ipInterfaces.ipAddress", QueryUtils.ilike(input))
+                    .distinct();
+            totalCount = nodeDao.countMatching(criteriaBuilder.toCriteria());
+            final Criteria criteria = criteriaBuilder.orderBy("label").distinct().limit(query.getMaxResults()).toCriteria();
+            matchingNodes = nodeDao.findMatching(criteria);
+        }
         final List<SearchResultItem> searchResultItems = matchingNodes.stream().map(node -> {
             final SearchResultItem searchResultItem = new SearchResultItemBuilder().withOnmsNode(node, entityScopeProvider).build();
             node.getIpInterfaces().stream()
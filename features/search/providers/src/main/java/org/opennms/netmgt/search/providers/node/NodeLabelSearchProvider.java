@@ -55,10 +55,16 @@ public class NodeLabelSearchProvider implements SearchProvider {
 
     private final NodeDao nodeDao;
     private final EntityScopeProvider entityScopeProvider;
+    private final NodeSearchIndex nodeSearchIndex;
 
     public NodeLabelSearchProvider(final NodeDao nodeDao, final EntityScopeProvider entityScopeProvider) {
+        this(nodeDao, entityScopeProvider, null);
+    }
+
+    public NodeLabelSearchProvider(final NodeDao nodeDao, final EntityScopeProvider entityScopeProvider, final NodeSearchIndex nodeSearchIndex) {
         this.nodeDao = Objects.requireNonNull(nodeDao);
         this.entityScopeProvider = Objects.requireNonNull(entityScopeProvider);
+        this.nodeSearchIndex = nodeSearchIndex;
     }
 
     @Override
@@ -69,24 +75,32 @@ public class NodeLabelSearchProvider implements SearchProvider {
     @Override
     public SearchResult query(final SearchQuery query) {
         final String input = query.getInput();
-        final List<Restriction> restrictions = Lists.newArrayList(
-                Restrictions.ilike("label", QueryUtils.ilike(input)),
-                Restrictions.eq("foreignSource", input),
-                Restrictions.eq("foreignId", input)
-        );
-        // Try if input could be an id
-        try {
-            int nodeId = Integer.parseInt(input);
-            restrictions.add(Restrictions.eq("id", nodeId));
-        } catch (NumberFormatException ex) {
-            // expected, we ignore it
+        final int totalCount;
+        final List<OnmsNode> matchingNodes;
+        if (nodeSearchIndex != null && nodeSearchIndex.isReady()) {
+            final List<Integer> nodeIds = nodeSearchIndex.search(NodeSearchIndex.Field.LABEL, input);
+            totalCount = nodeIds.size();
+            matchingNodes = nodeSearchIndex.getNodes(QueryUtils.shrink(nodeIds, query.getMaxResults()));
+        } else {
+            final List<Restriction> restrictions = Lists.newArrayList(
+                    Restrictions.ilike("label", QueryUtils.ilike(input)),
+                    Restrictions.eq("foreignSource", input),
+                    Restrictions.eq("foreignId", input)
+            );
+            // Try if input could be an id
+            try {
+                int nodeId = Integer.parseInt(input);
+                restrictions.add(Restrictions.eq("id", nodeId));
+            } catch (NumberFormatException ex) {
+                // expected, we ignore it
+            }
+            final CriteriaBuilder criteriaBuilder = new CriteriaBuilder(OnmsNode.class)
+                    .or(restrictions.toArray(new Restriction[restrictions.size()]))
+                    .distinct();
+            totalCount = nodeDao.countMatching(criteriaBuilder.toCriteria());
+            final Criteria criteria = criteriaBuilder.orderBy("label").limit(query.getMaxResults()).toCriteria();
+            matchingNodes = nodeDao.findMatching(criteria);
         }
-        final CriteriaBuilder criteriaBuilder = new CriteriaBuilder(OnmsNode.class)
-                .or(restrictions.toArray(new Restriction[restrictions.size()]))
-                .distinct();
-        final int totalCount = nodeDao.countMatching(criteriaBuilder.toCriteria());
-        final Criteria criteria = criteriaBuilder.orderBy("label").limit(query.getMaxResults()).toCriteria();
-        final List<OnmsNode> matchingNodes = nodeDao.findMatching(criteria);
         final List<SearchResultItem> searchResultItems = matchingNodes.stream().map(node -> {
             final SearchResultItem searchResultItem = new SearchResultItemBuilder().withOnmsNode(node, entityScopeProvider).build();
             if (QueryUtils.equals(node.getId(), input)) {
@@ -46,10 +46,16 @@ public class NodeMetaDataSearchProvider implements SearchProvider {
 
     private final NodeDao nodeDao;
     private final EntityScopeProvider entityScopeProvider;
+    private final NodeSearchIndex nodeSearchIndex;
 
     public NodeMetaDataSearchProvider(final NodeDao nodeDao, final EntityScopeProvider entityScopeProvider) {
+        this(nodeDao, entityScopeProvider, null);
+    }
+
+    public NodeMetaDataSearchProvider(final NodeDao nodeDao, final EntityScopeProvider entityScopeProvider, final NodeSearchIndex nodeSearchIndex) {
         this.nodeDao = Objects.requireNonNull(nodeDao);
         this.entityScopeProvider = Objects.requireNonNull(entityScopeProvider);
+        this.nodeSearchIndex = nodeSearchIndex;
     }
 
     @Override
@@ -61,17 +67,24 @@ public class NodeMetaDataSearchProvider implements SearchProvider {
     public SearchResult query(final SearchQuery query) {
         final String input = query.getInput();
 
-        final CriteriaBuilder criteriaBuilder = new CriteriaBuilder(OnmsNode.class)
-                .sql("{alias}.nodeid IN (SELECT m.id FROM node_metadata m WHERE m.key !~ '.*([pP]assword|[sS]ecret).*' AND m.value LIKE '%" + StringEscapeUtils.escapeSql(input) + "%')")
-                .distinct();
-        final int totalCount = nodeDao.countMatching(criteriaBuilder.toCriteria());
-        final Criteria criteria = criteriaBuilder.orderBy("label").distinct().limit(query.getMaxResults()).toCriteria();
-
-        final List<OnmsNode> matchingNodes = nodeDao.findMatching(criteria);
+        final int totalCount;
+        final List<OnmsNode> matchingNodes;
+        if (nodeSearchIndex != null && nodeSearchIndex.isReady()) {
+            final List<Integer> nodeIds = nodeSearchIndex.search(NodeSearchIndex.Field.META_DATA, input);
+            totalCount = nodeIds.size();
+            matchingNodes = nodeSearchIndex.getNodes(QueryUtils.shrink(nodeIds, query.getMaxResults()));
+        } else {
+            final CriteriaBuilder criteriaBuilder = new CriteriaBuilder(OnmsNode.class)
+                    .sql("{alias}.nodeid IN (SELECT m.id FROM node_metadata m WHERE m.key !~ '.*([pP]assword|[sS]ecret).*' AND m.value LIKE '%" + StringEscapeUtils.escapeSql(input) + "%')")
+                    .distinct();
+            totalCount = nodeDao.countMatching(criteriaBuilder.toCriteria());
+            final Criteria criteria = criteriaBuilder.orderBy("label").distinct().limit(query.getMaxResults()).toCriteria();
+            matchingNodes = nodeDao.findMatching(criteria);
+        }
         final List<SearchResultItem> searchResultItems = matchingNodes.stream().map(node -> {
             final SearchResultItem searchResultItem = new SearchResultItemBuilder().withOnmsNode(node, entityScopeProvider).build();
             for (OnmsMetaData onmsMetaData : node.getMetaData()) {
-                if (onmsMetaData.getValue() != null && !onmsMetaData.getKey().matches(".*([pP]assword|[sS]ecret).*") && onmsMetaData.getValue().contains(input)) {
+                if (isSearchable(onmsMetaData) && onmsMetaData.getValue().contains(input)) {
                     searchResultItem.addMatch(new Match(onmsMetaData.getContext() + ":" + onmsMetaData.getKey(), "Meta-Data '" + onmsMetaData.getContext() + ":" + onmsMetaData.getKey() + "'", onmsMetaData.getValue()));
                     break;
                 }
@@ -83,4 +96,7 @@ public class NodeMetaDataSearchProvider implements SearchProvider {
         return searchResult;
     }
 
+    static boolean isSearchable(final OnmsMetaData metaData) {
+        return metaData.getValue() != null && !metaData.getKey().matches(".*([pP]assword|[sS]ecret).*");
+    }
 }
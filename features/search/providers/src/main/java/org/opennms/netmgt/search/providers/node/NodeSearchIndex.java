@@ -0,0 +1,385 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.search.providers.node;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.opennms.core.criteria.CriteriaBuilder;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.dao.api.NodeDao;
+import org.opennms.netmgt.dao.api.SessionUtils;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.EventIpcManager;
+import org.opennms.netmgt.events.api.EventListener;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.events.api.model.IParm;
+import org.opennms.netmgt.model.OnmsMetaData;
+import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.search.api.Matcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Keeps the searchable attributes of all nodes in memory, so the node search providers do not
+ * have to scan the node tables using {@code ILIKE} on every keystroke.
+ *
+ * The index is built once on startup and kept up to date by listening for node, interface and
+ * asset events. Affected nodes are reloaded every {@link #setRefreshIntervalMs(long) refresh interval}.
+ * Changes not announced by an event, i.e. meta-data altered using the REST API, are picked up by a
+ * full rebuild every {@link #setRebuildIntervalMs(long) rebuild interval}.
+ *
+ * Until the index is built, {@link #isReady()} returns {@code false} and the providers query the
+ * database instead.
+ */
+public class NodeSearchIndex implements EventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NodeSearchIndex.class);
+
+    // The UEIs this listener is interested in
+    private static final List<String> UEI_LIST = Lists.newArrayList(
+            EventConstants.NODE_ADDED_EVENT_UEI,
+            EventConstants.NODE_UPDATED_EVENT_UEI,
+            EventConstants.NODE_DELETED_EVENT_UEI,
+            EventConstants.NODE_LABEL_CHANGED_EVENT_UEI,
+            EventConstants.NODE_GAINED_INTERFACE_EVENT_UEI,
+            EventConstants.INTERFACE_DELETED_EVENT_UEI,
+            EventConstants.INTERFACE_REPARENTED_EVENT_UEI,
+            EventConstants.ASSET_INFO_CHANGED_EVENT_UEI);
+
+    public enum Field {
+        LABEL(false),
+        IP_ADDRESS(false),
+        META_DATA(true),
+        ASSET(false);
+
+        private final boolean caseSensitive;
+
+        Field(final boolean caseSensitive) {
+            this.caseSensitive = caseSensitive;
+        }
+    }
+
+    private final NodeDao nodeDao;
+    private final SessionUtils sessionUtils;
+    private final EventIpcManager eventIpcManager;
+
+    private boolean enabled = true;
+    private long refreshIntervalMs = 5000;
+    private long rebuildIntervalMs = 3600000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Index index;
+
+    private final Set<Integer> dirtyNodeIds = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService executor;
+
+    public NodeSearchIndex(final NodeDao nodeDao, final SessionUtils sessionUtils, final EventIpcManager eventIpcManager) {
+        this.nodeDao = Objects.requireNonNull(nodeDao);
+        this.sessionUtils = Objects.requireNonNull(sessionUtils);
+        this.eventIpcManager = Objects.requireNonNull(eventIpcManager);
+    }
+
+    public void init() {
+        if (!this.enabled) {
+            return;
+        }
+        this.eventIpcManager.addEventListener(this, UEI_LIST);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("node-search-index")
+                .build());
+        this.executor.scheduleWithFixedDelay(this::rebuild, 0, this.rebuildIntervalMs, TimeUnit.MILLISECONDS);
+        this.executor.scheduleWithFixedDelay(this::refresh, this.refreshIntervalMs, this.refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void destroy() {
+        if (this.executor == null) {
+            return;
+        }
+        this.eventIpcManager.removeEventListener(this, UEI_LIST);
+        this.executor.shutdownNow();
+        this.executor = null;
+        this.index = null;
+    }
+
+    @Override
+    public String getName() {
+        return getClass().getSimpleName();
+    }
+
+    @Override
+    public void onEvent(final IEvent e) {
+        if (e.getNodeid() != null) {
+            this.dirtyNodeIds.add(e.getNodeid().intValue());
+        }
+        if (EventConstants.INTERFACE_REPARENTED_EVENT_UEI.equals(e.getUei())) {
+            markDirty(e.getParm(EventConstants.PARM_OLD_NODEID));
+            markDirty(e.getParm(EventConstants.PARM_NEW_NODEID));
+        }
+    }
+
+    private void markDirty(final IParm parm) {
+        if (parm != null && parm.getValue() != null) {
+            try {
+                this.dirtyNodeIds.add(Integer.parseInt(parm.getValue().getContent()));
+            } catch (final NumberFormatException ex) {
+                LOG.debug("Ignoring invalid node ID: {}", parm.getValue().getContent());
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return this.index != null;
+    }
+
+    /**
+     * Searches for nodes having a value of the given field containing the input.
+     *
+     * For {@link Field#LABEL}, nodes whose ID, foreign source or foreign ID equals the input match as well.
+     *
+     * @return the IDs of the matching nodes, ordered by label
+     */
+    public List<Integer> search(final Field field, final String input) {
+        final Index index = this.index;
+        if (index == null) {
+            throw new IllegalStateException("The node search index has not been built yet.");
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final Set<Integer> ids = new HashSet<>(index.fields.get(field).search(input));
+            if (field == Field.LABEL) {
+                ids.addAll(index.byForeignSource.getOrDefault(input, Collections.emptySet()));
+                ids.addAll(index.byForeignId.getOrDefault(input, Collections.emptySet()));
+                try {
+                    final int nodeId = Integer.parseInt(input);
+                    if (index.labels.containsKey(nodeId)) {
+                        ids.add(nodeId);
+                    }
+                } catch (final NumberFormatException ex) {
+                    // expected, we ignore it
+                }
+            }
+            return ids.stream()
+                    .sorted(Comparator.comparing((Integer id) -> index.labels.get(id), Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(Comparator.naturalOrder()))
+                    .collect(Collectors.toList());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the nodes with the given IDs, ordered by label
+     */
+    public List<OnmsNode> getNodes(final List<Integer> nodeIds) {
+        if (nodeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return this.nodeDao.findMatching(new CriteriaBuilder(OnmsNode.class)
+                .in("id", nodeIds)
+                .orderBy("label")
+                .toCriteria());
+    }
+
+    @VisibleForTesting
+    void rebuild() {
+        try {
+            final long start = System.currentTimeMillis();
+            final Index rebuilt = new Index();
+            this.sessionUtils.withReadOnlyTransaction(() -> {
+                for (final OnmsNode node : this.nodeDao.findAll()) {
+                    rebuilt.put(node);
+                }
+            });
+
+            this.lock.writeLock().lock();
+            try {
+                this.index = rebuilt;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+            LOG.info("Built node search index for {} nodes in {}ms.", rebuilt.labels.size(), System.currentTimeMillis() - start);
+        } catch (final Exception ex) {
+            LOG.error("Failed to build the node search index.", ex);
+        }
+    }
+
+    @VisibleForTesting
+    void refresh() {
+        final Index index = this.index;
+        if (index == null || this.dirtyNodeIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            final List<Integer> nodeIds = new ArrayList<>(this.dirtyNodeIds);
+            this.dirtyNodeIds.removeAll(nodeIds);
+
+            this.sessionUtils.withReadOnlyTransaction(() -> {
+                for (final Integer nodeId : nodeIds) {
+                    final OnmsNode node = this.nodeDao.get(nodeId);
+                    final Map<Field, List<String>> values = node != null ? valuesOf(node) : null;
+
+                    this.lock.writeLock().lock();
+                    try {
+                        if (node != null) {
+                            index.put(node.getId(), node.getLabel(), node.getForeignSource(), node.getForeignId(), values);
+                        } else {
+                            index.remove(nodeId);
+                        }
+                    } finally {
+                        this.lock.writeLock().unlock();
+                    }
+                }
+            });
+            LOG.debug("Refreshed {} nodes in the node search index.", nodeIds.size());
+        } catch (final Exception ex) {
+            LOG.error("Failed to refresh the node search index.", ex);
+        }
+    }
+
+    private static Map<Field, List<String>> valuesOf(final OnmsNode node) {
+        final Map<Field, List<String>> values = new EnumMap<>(Field.class);
+        values.put(Field.LABEL, Collections.singletonList(node.getLabel()));
+        values.put(Field.IP_ADDRESS, node.getIpInterfaces().stream()
+                .filter(ipInterface -> ipInterface.getIpAddress() != null)
+                .map(ipInterface -> InetAddressUtils.str(ipInterface.getIpAddress()))
+                .collect(Collectors.toList()));
+        values.put(Field.META_DATA, node.getMetaData().stream()
+                .filter(NodeMetaDataSearchProvider::isSearchable)
+                .map(OnmsMetaData::getValue)
+                .collect(Collectors.toList()));
+        values.put(Field.ASSET, node.getAssetRecord() == null ? Collections.emptyList()
+                : NodeAssetSearchProvider.getMatchers(node.getAssetRecord()).stream()
+                        .map(Matcher::getValue)
+                        .collect(Collectors.toList()));
+        return values;
+    }
+
+    private static class Index {
+        private final Map<Field, TrigramIndex> fields = new EnumMap<>(Field.class);
+        private final Map<Integer, String> labels = new HashMap<>();
+        private final Map<Integer, String[]> foreignKeys = new HashMap<>();
+        private final Map<String, Set<Integer>> byForeignSource = new HashMap<>();
+        private final Map<String, Set<Integer>> byForeignId = new HashMap<>();
+
+        private Index() {
+            for (final Field field : Field.values()) {
+                this.fields.put(field, new TrigramIndex(field.caseSensitive));
+            }
+        }
+
+        private void put(final OnmsNode node) {
+            put(node.getId(), node.getLabel(), node.getForeignSource(), node.getForeignId(), valuesOf(node));
+        }
+
+        private void put(final int nodeId, final String label, final String foreignSource, final String foreignId,
+                         final Map<Field, List<String>> values) {
+            remove(nodeId);
+            this.labels.put(nodeId, label);
+            this.foreignKeys.put(nodeId, new String[] { foreignSource, foreignId });
+            add(this.byForeignSource, foreignSource, nodeId);
+            add(this.byForeignId, foreignId, nodeId);
+            for (final Map.Entry<Field, List<String>> entry : values.entrySet()) {
+                this.fields.get(entry.getKey()).put(nodeId, entry.getValue());
+            }
+        }
+
+        private void remove(final int nodeId) {
+            this.labels.remove(nodeId);
+            final String[] foreignKeys = this.foreignKeys.remove(nodeId);
+            if (foreignKeys != null) {
+                delete(this.byForeignSource, foreignKeys[0], nodeId);
+                delete(this.byForeignId, foreignKeys[1], nodeId);
+            }
+            for (final TrigramIndex field : this.fields.values()) {
+                field.remove(nodeId);
+            }
+        }
+
+        private static void add(final Map<String, Set<Integer>> map, final String key, final int nodeId) {
+            if (key != null) {
+                map.computeIfAbsent(key, k -> new HashSet<>()).add(nodeId);
+            }
+        }
+
+        private static void delete(final Map<String, Set<Integer>> map, final String key, final int nodeId) {
+            if (key == null) {
+                return;
+            }
+            final Collection<Integer> ids = map.get(key);
+            if (ids != null) {
+                ids.remove(nodeId);
+                if (ids.isEmpty()) {
+                    map.remove(key);
+                }
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getRefreshIntervalMs() {
+        return this.refreshIntervalMs;
+    }
+
+    public void setRefreshIntervalMs(final long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public long getRebuildIntervalMs() {
+        return this.rebuildIntervalMs;
+    }
+
+    public void setRebuildIntervalMs(final long rebuildIntervalMs) {
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.search.providers.node;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers substring queries over the values of a set of documents using trigram postings.
+ *
+ * Each value is split into its trigrams, which map to the documents containing them. A query
+ * intersects the postings of its trigrams, starting with the smallest one, and verifies the
+ * remaining candidates against the actual values. Queries shorter than a trigram match most of
+ * the documents anyway and are answered by scanning the values.
+ *
+ * This class is not thread-safe.
+ */
+public class TrigramIndex {
+
+    private static final int N = 3;
+
+    private final boolean caseSensitive;
+
+    private final Map<Integer, List<String>> values = new HashMap<>();
+
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+
+    public TrigramIndex(final boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+    }
+
+    public void put(final int id, final Collection<String> documentValues) {
+        remove(id);
+
+        final List<String> normalized = new ArrayList<>(documentValues.size());
+        for (final String value : documentValues) {
+            if (value != null && !value.isEmpty()) {
+                normalized.add(normalize(value));
+            }
+        }
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        this.values.put(id, normalized);
+        for (final String trigram : trigrams(normalized)) {
+            this.postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(id);
+        }
+    }
+
+    public void remove(final int id) {
+        final List<String> previous = this.values.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (final String trigram : trigrams(previous)) {
+            final Set<Integer> ids = this.postings.get(trigram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                this.postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * @return the ids of all documents having at least one value containing the input
+     */
+    public Set<Integer> search(final String input) {
+        final String needle = normalize(input);
+
+        if (needle.length() < N) {
+            final Set<Integer> result = new HashSet<>();
+            for (final Map.Entry<Integer, List<String>> entry : this.values.entrySet()) {
+                if (contains(entry.getValue(), needle)) {
+                    result.add(entry.getKey());
+                }
+            }
+            return result;
+        }
+
+        final List<Set<Integer>> lists = new ArrayList<>();
+        for (final String trigram : trigrams(Collections.singletonList(needle))) {
+            final Set<Integer> ids = this.postings.get(trigram);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        final Set<Integer> result = new HashSet<>();
+        candidates:
+        for (final Integer id : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    continue candidates;
+                }
+            }
+            // Having all trigrams does not imply containing the input
+            if (contains(this.values.get(id), needle)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return this.values.size();
+    }
+
+    private String normalize(final String value) {
+        return this.caseSensitive ? value : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean contains(final List<String> values, final String needle) {
+        for (final String value : values) {
+            if (value.contains(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> trigrams(final List<String> values) {
+        final Set<String> trigrams = new HashSet<>();
+        for (final String value : values) {
+            for (int i = 0; i + N <= value.length(); i++) {
+                trigrams.add(value.substring(i, i + N));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.search.providers.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.opennms.core.test.OpenNMSJUnit4ClassRunner;
+import org.opennms.netmgt.dao.api.NodeDao;
+import org.opennms.netmgt.dao.api.SessionUtils;
+import org.opennms.netmgt.dao.mock.MockEventIpcManager;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.model.ImmutableMapper;
+import org.opennms.netmgt.model.OnmsIpInterface;
+import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.test.JUnitConfigurationEnvironment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+
+@RunWith(OpenNMSJUnit4ClassRunner.class)
+@ContextConfiguration(locations = {
+        "classpath:/META-INF/opennms/applicationContext-soa.xml",
+        "classpath:/META-INF/opennms/applicationContext-mockDao.xml",
+        "classpath:/META-INF/opennms/applicationContext-rpc-client-mock.xml"
+})
+@JUnitConfigurationEnvironment
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class NodeSearchIndexTest {
+
+    @Autowired
+    NodeDao nodeDao;
+
+    @Autowired
+    SessionUtils sessionUtils;
+
+    private NodeSearchIndex index;
+
+    @Before
+    public void before() {
+        final OnmsNode router = new OnmsNode();
+        router.setId(1);
+        router.setLabel("router");
+        router.setForeignSource("Network");
+        router.setForeignId("r1");
+        router.addIpInterface(new OnmsIpInterface("192.168.0.1", router));
+        router.addMetaData("requisition", "role", "Core");
+        router.addMetaData("requisition", "password", "Core");
+        router.getAssetRecord().setVendor("ACME");
+        nodeDao.save(router);
+
+        final OnmsNode server = new OnmsNode();
+        server.setId(2);
+        server.setLabel("core-server");
+        server.addIpInterface(new OnmsIpInterface("192.168.1.1", server));
+        nodeDao.save(server);
+
+        index = new NodeSearchIndex(nodeDao, sessionUtils, new MockEventIpcManager());
+    }
+
+    @Test
+    public void canSearchAfterRebuild() {
+        assertFalse(index.isReady());
+        index.rebuild();
+        assertTrue(index.isReady());
+
+        assertThat(index.search(NodeSearchIndex.Field.LABEL, "ER"), contains(2, 1));
+        assertThat(index.search(NodeSearchIndex.Field.LABEL, "Network"), contains(1));
+        assertThat(index.search(NodeSearchIndex.Field.LABEL, "r1"), contains(1));
+        assertThat(index.search(NodeSearchIndex.Field.LABEL, "2"), contains(2));
+        assertThat(index.search(NodeSearchIndex.Field.IP_ADDRESS, "192.168"), contains(2, 1));
+        assertThat(index.search(NodeSearchIndex.Field.IP_ADDRESS, "168.1."), contains(2));
+        assertThat(index.search(NodeSearchIndex.Field.META_DATA, "Core"), contains(1));
+        assertThat(index.search(NodeSearchIndex.Field.META_DATA, "core"), empty());
+        assertThat(index.search(NodeSearchIndex.Field.ASSET, "acme"), contains(1));
+    }
+
+    @Test
+    public void canRefreshChangedNodes() {
+        index.rebuild();
+
+        final OnmsNode router = nodeDao.get(1);
+        router.setLabel("gateway");
+        nodeDao.update(router);
+        nodeDao.delete(2);
+
+        // Not visible until the index is refreshed
+        assertThat(index.search(NodeSearchIndex.Field.LABEL, "gateway"), empty());
+
+        index.onEvent(ImmutableMapper.fromMutableEvent(new EventBuilder(EventConstants.NODE_LABEL_CHANGED_EVENT_UEI, "test")
+                .setNodeid(1)
+                .getEvent()));
+        index.onEvent(ImmutableMapper.fromMutableEvent(new EventBuilder(EventConstants.NODE_DELETED_EVENT_UEI, "test")
+                .setNodeid(2)
+                .getEvent()));
+        index.refresh();
+
+        assertThat(index.search(NodeSearchIndex.Field.LABEL, "gateway"), contains(1));
+        assertThat(index.search(NodeSearchIndex.Field.LABEL, "router"), empty());
+        assertThat(index.search(NodeSearchIndex.Field.IP_ADDRESS, "192.168"), contains(1));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.search.providers.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void canFindSubstrings() {
+        final TrigramIndex index = new TrigramIndex(false);
+        index.put(1, Arrays.asList("router.example.org", "10.0.0.1"));
+        index.put(2, Collections.singletonList("Switch.Example.org"));
+        index.put(3, Collections.singletonList("server"));
+
+        assertThat(index.search("example"), containsInAnyOrder(1, 2));
+        assertThat(index.search("EXAMPLE.ORG"), containsInAnyOrder(1, 2));
+        assertThat(index.search("10.0"), containsInAnyOrder(1));
+        assertThat(index.search("missing"), empty());
+    }
+
+    @Test
+    public void canFindShortInputs() {
+        final TrigramIndex index = new TrigramIndex(false);
+        index.put(1, Collections.singletonList("router"));
+        index.put(2, Collections.singletonList("server"));
+
+        assertThat(index.search("r"), containsInAnyOrder(1, 2));
+        assertThat(index.search("ou"), containsInAnyOrder(1));
+    }
+
+    @Test
+    public void verifiesCandidates() {
+        final TrigramIndex index = new TrigramIndex(false);
+        // Contains all trigrams of "abcd" without containing it
+        index.put(1, Collections.singletonList("abc-bcd"));
+
+        assertThat(index.search("abcd"), empty());
+        assertThat(index.search("bcd"), containsInAnyOrder(1));
+    }
+
+    @Test
+    public void canRespectCase() {
+        final TrigramIndex index = new TrigramIndex(true);
+        index.put(1, Collections.singletonList("Value"));
+
+        assertThat(index.search("Val"), containsInAnyOrder(1));
+        assertThat(index.search("val"), empty());
+    }
+
+    @Test
+    public void canUpdateAndRemove() {
+        final TrigramIndex index = new TrigramIndex(false);
+        index.put(1, Collections.singletonList("router"));
+        index.put(1, Collections.singletonList("switch"));
+
+        assertThat(index.search("router"), empty());
+        assertThat(index.search("switch"), containsInAnyOrder(1));
+
+        index.remove(1);
+        assertThat(index.search("switch"), empty());
+        assertThat(index.search("s"), empty());
+    }
+}
@@ -111,13 +111,20 @@ public abstract class AbstractScriptedCollectionAdapter extends AbstractCollecti
         ScriptedCollectionSetBuilder builder;
         if (bundleContext != null) {
             builder = new ScriptedCollectionSetBuilder(new File(script), bundleContext);
-            scriptUpdateMap.put(builder, false);
-            return builder;
         } else {
             builder = new ScriptedCollectionSetBuilder(new File(script));
-            scriptUpdateMap.put(builder, false);
-            return builder;
         }
+        builder.setInterfaceLabelResolver(getInterfaceLabelResolver());
+        scriptUpdateMap.put(builder, false);
+        return builder;
+    }
+
+    /*
+     * Used by mappings to label interface resources which are only known by
+     * their ifIndex. Adapters with access to the node inventory override this.
+     */
+    protected ProtobufCollectionMapping.InterfaceLabelResolver getInterfaceLabelResolver() {
+        return null;
     }
 
     private ScriptedCollectionSetBuilder checkScript(BundleContext bundleContext, String script)
@@ -0,0 +1,520 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.collection;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.opennms.core.utils.RrdLabelUtils;
+import org.opennms.netmgt.collection.api.AttributeType;
+import org.opennms.netmgt.collection.api.CollectionAgent;
+import org.opennms.netmgt.collection.support.builder.CollectionSetBuilder;
+import org.opennms.netmgt.collection.support.builder.DeferredGenericTypeResource;
+import org.opennms.netmgt.collection.support.builder.InterfaceLevelResource;
+import org.opennms.netmgt.collection.support.builder.NodeLevelResource;
+import org.opennms.netmgt.collection.support.builder.Resource;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import com.google.common.base.Strings;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+
+/**
+ * A declarative alternative to scripts for turning protobuf messages into
+ * collection sets.
+ *
+ * The mapping is read from an XML document of the form:
+ * <pre>
+ * &lt;protobuf-collection-mapping message="TelemetryStream" fallback-script="junos-telemetry-interface.groovy"&gt;
+ *   &lt;sequence-number path="sequence_number"/&gt;
+ *   &lt;resource type="interface" foreach="enterprise.[juniperNetworks].[jnpr_interface_ext].interface_stats"
+ *             name="if_name" if-index="snmp_if_index"&gt;
+ *     &lt;attribute group="mib2-interfaces" name="ifInOctets" path="ingress_stats.if_octets" type="counter"/&gt;
+ *   &lt;/resource&gt;
+ * &lt;/protobuf-collection-mapping&gt;
+ * </pre>
+ *
+ * Paths are dot separated field names, bracketed segments refer to
+ * extensions and repeated fields are iterated. Every path is compiled once
+ * into a chain of accessors which bind to the field descriptors of the first
+ * message they are applied to, so building a collection set boils down to a
+ * series of direct field reads.
+ *
+ * Resources can be of type {@code node}, {@code interface} (labeled by
+ * {@code name}, or by looking up {@code if-index} on the node) or
+ * {@code generic} (using {@code resource-type} and {@code instance}).
+ *
+ * Instances are immutable once loaded and safe to share between threads.
+ */
+public class ProtobufCollectionMapping {
+
+    /**
+     * Resolves the label of an interface given its ifIndex.
+     */
+    @FunctionalInterface
+    public interface InterfaceLabelResolver {
+        /**
+         * @return the label used for the interface's resource, or null if the interface is not known
+         */
+        String getInterfaceLabel(int nodeId, int ifIndex);
+    }
+
+    private final String messageType;
+    private final String fallbackScript;
+    private final Path sequenceNumber;
+    private final List<ResourceMapping> resources;
+
+    private ProtobufCollectionMapping(String messageType, String fallbackScript, Path sequenceNumber, List<ResourceMapping> resources) {
+        this.messageType = messageType;
+        this.fallbackScript = fallbackScript;
+        this.sequenceNumber = sequenceNumber;
+        this.resources = resources;
+    }
+
+    public static ProtobufCollectionMapping load(File file) throws IOException {
+        try (InputStream is = Files.newInputStream(file.toPath())) {
+            return load(is);
+        }
+    }
+
+    public static ProtobufCollectionMapping load(InputStream is) throws IOException {
+        final Element root;
+        try {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setExpandEntityReferences(false);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            root = factory.newDocumentBuilder().parse(is).getDocumentElement();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Failed to parse mapping.", e);
+        }
+        if (!"protobuf-collection-mapping".equals(root.getTagName())) {
+            throw new IOException("Unexpected root element: " + root.getTagName());
+        }
+
+        Path sequenceNumber = null;
+        final List<ResourceMapping> resources = new ArrayList<>();
+        for (Element el : children(root)) {
+            switch (el.getTagName()) {
+                case "sequence-number":
+                    sequenceNumber = Path.compile(required(el, "path"));
+                    break;
+                case "resource":
+                    resources.add(ResourceMapping.parse(el));
+                    break;
+                default:
+                    throw new IOException("Unexpected element: " + el.getTagName());
+            }
+        }
+        return new ProtobufCollectionMapping(Strings.emptyToNull(root.getAttribute("message")),
+                Strings.emptyToNull(root.getAttribute("fallback-script")),
+                sequenceNumber, resources);
+    }
+
+    /**
+     * @return the script used for messages not handled by this mapping, if any
+     */
+    public String getFallbackScript() {
+        return fallbackScript;
+    }
+
+    /**
+     * Checks whether the given message is handled by this mapping. When the
+     * mapping does not restrict the message type, all protobuf messages are.
+     */
+    public boolean supports(Object message) {
+        if (!(message instanceof Message)) {
+            return false;
+        }
+        if (messageType == null) {
+            return true;
+        }
+        final Descriptors.Descriptor type = ((Message) message).getDescriptorForType();
+        return messageType.equals(type.getFullName()) || messageType.equals(type.getName());
+    }
+
+    /**
+     * Adds the resources and attributes extracted from the given message to the builder.
+     *
+     * @throws IllegalStateException if a path does not match the structure of the message
+     */
+    public void build(CollectionSetBuilder builder, CollectionAgent agent, Message message, InterfaceLabelResolver interfaceLabelResolver) {
+        if (sequenceNumber != null) {
+            final Object seq = sequenceNumber.first(message);
+            if (seq instanceof Number) {
+                builder.withSequenceNumber(((Number) seq).longValue());
+            }
+        }
+
+        final NodeLevelResource nodeResource = new NodeLevelResource(agent.getNodeId());
+        final Context ctx = new Context(builder, agent, nodeResource, interfaceLabelResolver);
+        for (ResourceMapping resource : resources) {
+            resource.build(ctx, message);
+        }
+    }
+
+    private static final class Context {
+        private final CollectionSetBuilder builder;
+        private final CollectionAgent agent;
+        private final NodeLevelResource nodeResource;
+        private final InterfaceLabelResolver interfaceLabelResolver;
+
+        private Context(CollectionSetBuilder builder, CollectionAgent agent, NodeLevelResource nodeResource, InterfaceLabelResolver interfaceLabelResolver) {
+            this.builder = builder;
+            this.agent = agent;
+            this.nodeResource = nodeResource;
+            this.interfaceLabelResolver = interfaceLabelResolver;
+        }
+    }
+
+    private static class ResourceMapping {
+        private final String type;
+        private final Path foreach;
+        private final Path name;
+        private final Path ifIndex;
+        private final String resourceType;
+        private final Path instance;
+        private final List<AttributeMapping> attributes;
+
+        private ResourceMapping(String type, Path foreach, Path name, Path ifIndex, String resourceType, Path instance, List<AttributeMapping> attributes) {
+            this.type = type;
+            this.foreach = foreach;
+            this.name = name;
+            this.ifIndex = ifIndex;
+            this.resourceType = resourceType;
+            this.instance = instance;
+            this.attributes = attributes;
+        }
+
+        private static ResourceMapping parse(Element el) throws IOException {
+            final String type = required(el, "type");
+            Path name = null, ifIndex = null, instance = null;
+            String resourceType = null;
+            switch (type) {
+                case "node":
+                    break;
+                case "interface":
+                    name = optionalPath(el, "name");
+                    ifIndex = optionalPath(el, "if-index");
+                    if (name == null && ifIndex == null) {
+                        throw new IOException("Interface resources require a 'name' or an 'if-index' path.");
+                    }
+                    break;
+                case "generic":
+                    resourceType = required(el, "resource-type");
+                    instance = Path.compile(required(el, "instance"));
+                    break;
+                default:
+                    throw new IOException("Unsupported resource type: " + type);
+            }
+
+            final List<AttributeMapping> attributes = new ArrayList<>();
+            for (Element child : children(el)) {
+                if (!"attribute".equals(child.getTagName())) {
+                    throw new IOException("Unexpected element: " + child.getTagName());
+                }
+                final AttributeType attributeType = AttributeType.parse(required(child, "type"));
+                if (attributeType == null) {
+                    throw new IOException("Unsupported attribute type: " + child.getAttribute("type"));
+                }
+                attributes.add(new AttributeMapping(required(child, "group"), required(child, "name"),
+                        Path.compile(required(child, "path")), attributeType));
+            }
+            return new ResourceMapping(type, optionalPath(el, "foreach"), name, ifIndex, resourceType, instance, attributes);
+        }
+
+        private void build(Context ctx, Message message) {
+            if (foreach == null) {
+                buildFor(ctx, message);
+            } else {
+                foreach.forEach(message, value -> {
+                    if (value instanceof Message) {
+                        buildFor(ctx, (Message) value);
+                    }
+                });
+            }
+        }
+
+        private void buildFor(Context ctx, Message message) {
+            final Resource resource = resourceFor(ctx, message);
+            if (resource == null) {
+                return;
+            }
+            for (AttributeMapping attribute : attributes) {
+                attribute.build(ctx.builder, resource, message);
+            }
+        }
+
+        private Resource resourceFor(Context ctx, Message message) {
+            switch (type) {
+                case "interface":
+                    final String label = name != null ? Objects.toString(name.first(message), null) : null;
+                    if (!Strings.isNullOrEmpty(label)) {
+                        return new InterfaceLevelResource(ctx.nodeResource, RrdLabelUtils.computeLabelForRRD(label, null, null));
+                    }
+                    final Object index = ifIndex != null ? ifIndex.first(message) : null;
+                    if (index instanceof Number && ((Number) index).intValue() > 0 && ctx.interfaceLabelResolver != null) {
+                        final String resolved = ctx.interfaceLabelResolver.getInterfaceLabel(ctx.agent.getNodeId(), ((Number) index).intValue());
+                        if (resolved != null) {
+                            return new InterfaceLevelResource(ctx.nodeResource, resolved);
+                        }
+                    }
+                    return null;
+                case "generic":
+                    final Object inst = instance.first(message);
+                    return inst != null ? new DeferredGenericTypeResource(ctx.nodeResource, resourceType, inst.toString()) : null;
+                default:
+                    return ctx.nodeResource;
+            }
+        }
+    }
+
+    private static class AttributeMapping {
+        private final String group;
+        private final String name;
+        private final Path path;
+        private final AttributeType type;
+
+        private AttributeMapping(String group, String name, Path path, AttributeType type) {
+            this.group = group;
+            this.name = name;
+            this.path = path;
+            this.type = type;
+        }
+
+        private void build(CollectionSetBuilder builder, Resource resource, Message message) {
+            final Object value = path.first(message);
+            if (value == null) {
+                return;
+            }
+            if (!type.isNumeric()) {
+                builder.withStringAttribute(resource, group, name, value.toString());
+            } else if (value instanceof Number) {
+                builder.withNumericAttribute(resource, group, name, (Number) value, type);
+            } else if (value instanceof Boolean) {
+                builder.withNumericAttribute(resource, group, name, (Boolean) value ? 1 : 0, type);
+            }
+        }
+    }
+
+    /**
+     * A compiled field path.
+     */
+    private static final class Path {
+        private final String expression;
+        private final Step[] steps;
+
+        private Path(String expression, Step[] steps) {
+            this.expression = expression;
+            this.steps = steps;
+        }
+
+        private static Path compile(String expression) throws IOException {
+            final String[] segments = expression.trim().split("\\.(?![^\\[]*\\])");
+            final Step[] steps = new Step[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                final String segment = segments[i].trim();
+                if (segment.startsWith("[") && segment.endsWith("]") && segment.length() > 2) {
+                    steps[i] = new Step(segment.substring(1, segment.length() - 1), true);
+                } else if (!segment.isEmpty() && segment.indexOf('[') < 0 && segment.indexOf(']') < 0) {
+                    steps[i] = new Step(segment, false);
+                } else {
+                    throw new IOException("Invalid path: " + expression);
+                }
+            }
+            return new Path(expression, steps);
+        }
+
+        /**
+         * @return the first value found at the end of the path, or null if there is none
+         */
+        private Object first(Message message) {
+            Message current = message;
+            for (int i = 0; ; i++) {
+                final Descriptors.FieldDescriptor field = steps[i].bind(current, expression);
+                if (field == null) {
+                    return null;
+                }
+                final Object value;
+                if (field.isRepeated()) {
+                    if (current.getRepeatedFieldCount(field) == 0) {
+                        return null;
+                    }
+                    value = current.getRepeatedField(field, 0);
+                } else {
+                    value = current.getField(field);
+                }
+                if (i == steps.length - 1) {
+                    return valueOf(field, value);
+                }
+                if (!(value instanceof Message)) {
+                    throw new IllegalStateException("Field '" + field.getFullName() + "' in path '" + expression + "' is not a message.");
+                }
+                current = (Message) value;
+            }
+        }
+
+        /**
+         * Invokes the consumer for every value found at the end of the path,
+         * iterating over all repeated fields along the way.
+         */
+        private void forEach(Message message, Consumer<Object> consumer) {
+            visit(message, 0, consumer);
+        }
+
+        private void visit(Message message, int i, Consumer<Object> consumer) {
+            final Descriptors.FieldDescriptor field = steps[i].bind(message, expression);
+            if (field == null) {
+                return;
+            }
+            if (field.isRepeated()) {
+                final int count = message.getRepeatedFieldCount(field);
+                for (int j = 0; j < count; j++) {
+                    accept(field, message.getRepeatedField(field, j), i, consumer);
+                }
+            } else {
+                accept(field, message.getField(field), i, consumer);
+            }
+        }
+
+        private void accept(Descriptors.FieldDescriptor field, Object value, int i, Consumer<Object> consumer) {
+            if (i == steps.length - 1) {
+                consumer.accept(valueOf(field, value));
+            } else if (value instanceof Message) {
+                visit((Message) value, i + 1, consumer);
+            } else {
+                throw new IllegalStateException("Field '" + field.getFullName() + "' in path '" + expression + "' is not a message.");
+            }
+        }
+
+        private static Object valueOf(Descriptors.FieldDescriptor field, Object value) {
+            switch (field.getType()) {
+                case UINT64:
+                case FIXED64:
+                    final long l = (Long) value;
+                    return l < 0 ? UnsignedLong.fromLongBits(l) : value;
+                case UINT32:
+                case FIXED32:
+                    final int n = (Integer) value;
+                    return n < 0 ? UnsignedInteger.fromIntBits(n) : value;
+                case ENUM:
+                    return ((Descriptors.EnumValueDescriptor) value).getName();
+                default:
+                    return value;
+            }
+        }
+    }
+
+    /**
+     * A single field access, bound to the descriptor of the message type it
+     * was last applied to.
+     */
+    private static final class Step {
+        private final String name;
+        private final boolean extension;
+        private volatile Binding binding;
+
+        private Step(String name, boolean extension) {
+            this.name = name;
+            this.extension = extension;
+        }
+
+        private Descriptors.FieldDescriptor bind(Message message, String expression) {
+            final Descriptors.Descriptor type = message.getDescriptorForType();
+            final Binding current = binding;
+            if (current != null && current.type == type) {
+                return current.field;
+            }
+
+            final Descriptors.FieldDescriptor field;
+            if (extension) {
+                // Extensions are not reachable from the descriptor of the extended type,
+                // so look for them among the fields of the message itself
+                field = findExtension(message);
+                if (field == null) {
+                    return null;
+                }
+            } else {
+                field = type.findFieldByName(name);
+                if (field == null) {
+                    throw new IllegalStateException("Message type '" + type.getFullName() + "' has no field '" + name + "' used in path '" + expression + "'.");
+                }
+            }
+            binding = new Binding(type, field);
+            return field;
+        }
+
+        private Descriptors.FieldDescriptor findExtension(Message message) {
+            for (Descriptors.FieldDescriptor field : message.getAllFields().keySet()) {
+                if (field.isExtension() && (name.equals(field.getName()) || name.equals(field.getFullName()))) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Binding {
+        private final Descriptors.Descriptor type;
+        private final Descriptors.FieldDescriptor field;
+
+        private Binding(Descriptors.Descriptor type, Descriptors.FieldDescriptor field) {
+            this.type = type;
+            this.field = field;
+        }
+    }
+
+    private static List<Element> children(Element parent) {
+        final List<Element> children = new ArrayList<>();
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                children.add((Element) node);
+            }
+        }
+        return children;
+    }
+
+    private static String required(Element el, String attribute) throws IOException {
+        final String value = el.getAttribute(attribute);
+        if (Strings.isNullOrEmpty(value)) {
+            throw new IOException("Element '" + el.getTagName() + "' is missing the '" + attribute + "' attribute.");
+        }
+        return value;
+    }
+
+    private static Path optionalPath(Element el, String attribute) throws IOException {
+        final String value = el.getAttribute(attribute);
+        return Strings.isNullOrEmpty(value) ? null : Path.compile(value);
+    }
+}
@@ -22,6 +22,7 @@
 package org.opennms.netmgt.telemetry.protocols.collection;
 
 import com.google.common.io.Files;
+import com.google.protobuf.Message;
 
 import org.opennms.features.osgi.script.OSGiScriptEngineManager;
 import org.opennms.netmgt.collection.api.CollectionAgent;
@@ -46,12 +47,23 @@ import java.util.Map;
  * {@link CollectionSet} from some given object using the
  * {@link CollectionSetBuilder}.
  *
+ * Files with the {@code .xml} extension are loaded as a
+ * {@link ProtobufCollectionMapping} instead, which is applied directly to
+ * supported protobuf messages. Other messages are handed to the mapping's
+ * fallback script, if one is configured.
+ *
  * @author jwhite
  */
 public class ScriptedCollectionSetBuilder {
 
+    private static final String MAPPING_EXTENSION = "xml";
+
     private CompiledScript compiledScript;
 
+    private ProtobufCollectionMapping mapping;
+
+    private ProtobufCollectionMapping.InterfaceLabelResolver interfaceLabelResolver;
+
     public ScriptedCollectionSetBuilder(File script) throws IOException, ScriptException {
         this(script, new ScriptEngineManager());
     }
@@ -65,6 +77,25 @@ public class ScriptedCollectionSetBuilder {
             throw new IllegalStateException("Cannot read script at '" + script + "'.");
         }
 
+        if (MAPPING_EXTENSION.equals(Files.getFileExtension(script.getAbsolutePath()))) {
+            mapping = ProtobufCollectionMapping.load(script);
+            if (mapping.getFallbackScript() != null) {
+                File fallbackScript = new File(mapping.getFallbackScript());
+                if (!fallbackScript.isAbsolute()) {
+                    fallbackScript = new File(script.getAbsoluteFile().getParentFile(), mapping.getFallbackScript());
+                }
+                compiledScript = compile(fallbackScript, manager);
+            }
+        } else {
+            compiledScript = compile(script, manager);
+        }
+    }
+
+    private static CompiledScript compile(File script, ScriptEngineManager manager) throws IOException, ScriptException {
+        if (!script.canRead()) {
+            throw new IllegalStateException("Cannot read script at '" + script + "'.");
+        }
+
         final String ext = Files.getFileExtension(script.getAbsolutePath());
 
         final ScriptEngine engine = manager.getEngineByExtension(ext);
@@ -77,10 +108,17 @@ public class ScriptedCollectionSetBuilder {
         }
         final Compilable compilable = (Compilable) engine;
         try (FileReader reader = new FileReader(script)) {
-            compiledScript = compilable.compile(reader);
+            return compilable.compile(reader);
         }
     }
 
+    /**
+     * Sets the resolver used by mappings to label interface resources by ifIndex.
+     */
+    public void setInterfaceLabelResolver(ProtobufCollectionMapping.InterfaceLabelResolver interfaceLabelResolver) {
+        this.interfaceLabelResolver = interfaceLabelResolver;
+    }
+
     /**
      * Builds a collection set from the given message.
      *
@@ -101,6 +139,17 @@ public class ScriptedCollectionSetBuilder {
         if (timestamp != null && timestamp > 0) {
             builder.withTimestamp(new Date(timestamp));
         }
+        if (mapping != null && mapping.supports(message)) {
+            try {
+                mapping.build(builder, agent, (Message) message, interfaceLabelResolver);
+            } catch (IllegalStateException e) {
+                throw new ScriptException(e);
+            }
+            return builder.build();
+        } else if (compiledScript == null) {
+            throw new ScriptException("No mapping or fallback script found for message of type: " + message.getClass().getName());
+        }
+
         final SimpleBindings globals = new SimpleBindings();
         globals.put("agent", agent);
         globals.put("builder", builder);
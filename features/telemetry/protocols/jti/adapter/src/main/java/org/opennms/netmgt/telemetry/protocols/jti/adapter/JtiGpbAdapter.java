@@ -24,6 +24,8 @@ package org.opennms.netmgt.telemetry.protocols.jti.adapter;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import javax.script.ScriptException;
@@ -35,11 +37,13 @@ import org.opennms.netmgt.dao.api.InterfaceToNodeCache;
 import org.opennms.netmgt.dao.api.NodeDao;
 import org.opennms.netmgt.model.OnmsIpInterface;
 import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.model.OnmsSnmpInterface;
 import org.opennms.netmgt.telemetry.api.adapter.TelemetryMessageLog;
 import org.opennms.netmgt.telemetry.api.adapter.TelemetryMessageLogEntry;
 import org.opennms.netmgt.telemetry.config.api.AdapterDefinition;
 import org.opennms.netmgt.telemetry.protocols.collection.AbstractScriptedCollectionAdapter;
 import org.opennms.netmgt.telemetry.protocols.collection.CollectionSetWithAgent;
+import org.opennms.netmgt.telemetry.protocols.collection.ProtobufCollectionMapping;
 import org.opennms.netmgt.telemetry.protocols.collection.ScriptedCollectionSetBuilder;
 import org.opennms.netmgt.telemetry.protocols.jti.adapter.proto.CpuMemoryUtilizationOuterClass;
 import org.opennms.netmgt.telemetry.protocols.jti.adapter.proto.FirewallOuterClass;
@@ -55,7 +59,10 @@ import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionOperations;
 
 import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.protobuf.ExtensionRegistry;
 import com.google.protobuf.InvalidProtocolBufferException;
 
@@ -63,7 +70,8 @@ import com.google.protobuf.InvalidProtocolBufferException;
  * An adapter for handling Junos Telemetry Interface packets.
  *
  * Messages are decoded using the corresponding classes generated by the Google
- * Protobuf definitions and forwarded to a script for further processing.
+ * Protobuf definitions and forwarded to a script, or a
+ * {@link ProtobufCollectionMapping}, for further processing.
  *
  * @author jwhite
  */
@@ -89,6 +97,15 @@ public class JtiGpbAdapter extends AbstractScriptedCollectionAdapter {
 
     private TransactionOperations transactionTemplate;
 
+    /*
+     * Interface labels by node id and ifIndex, used when mappings only
+     * identify interfaces by their ifIndex.
+     */
+    private final Cache<Long, Optional<String>> interfaceLabels = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+
     public JtiGpbAdapter(final AdapterDefinition adapterConfig,
                          final MetricRegistry metricRegistry) {
         super(adapterConfig, metricRegistry);
@@ -156,6 +173,24 @@ public class JtiGpbAdapter extends AbstractScriptedCollectionAdapter {
         }
     }
 
+    @Override
+    protected ProtobufCollectionMapping.InterfaceLabelResolver getInterfaceLabelResolver() {
+        return this::getInterfaceLabel;
+    }
+
+    private String getInterfaceLabel(int nodeId, int ifIndex) {
+        try {
+            return interfaceLabels.get(((long) nodeId << 32) | (ifIndex & 0xffffffffL), () -> transactionTemplate.execute(status -> {
+                final OnmsNode node = nodeDao.get(nodeId);
+                final OnmsSnmpInterface snmpInterface = node != null ? node.getSnmpInterfaceWithIfIndex(ifIndex) : null;
+                return Optional.ofNullable(snmpInterface != null ? snmpInterface.computeLabelForRRD() : null);
+            })).orElse(null);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            LOG.warn("Failed to lookup interface with ifIndex {} on node {}.", ifIndex, nodeId, e);
+            return null;
+        }
+    }
+
     public void setCollectionAgentFactory(CollectionAgentFactory collectionAgentFactory) {
         this.collectionAgentFactory = collectionAgentFactory;
     }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.jti.adapter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.netmgt.collection.api.CollectionAgent;
+import org.opennms.netmgt.collection.api.CollectionSet;
+import org.opennms.netmgt.telemetry.protocols.collection.ScriptedCollectionSetBuilder;
+import org.opennms.netmgt.telemetry.protocols.jti.adapter.proto.Port;
+import org.opennms.netmgt.telemetry.protocols.jti.adapter.proto.TelemetryTop;
+
+import com.google.protobuf.ExtensionRegistry;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare building collection sets from JTI payloads using
+ * the default Groovy script with using the equivalent {@link org.opennms.netmgt.telemetry.protocols.collection.ProtobufCollectionMapping}.
+ * <p>
+ * Each benchmark call decodes an encoded interface statistics message and builds the collection set for it.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class JtiCollectionMappingBenchmark {
+
+    @Param({"groovy", "xml"})
+    public String extension;
+
+    @Param({"1", "48"})
+    public int interfaces;
+
+    private final ExtensionRegistry registry = ExtensionRegistry.newInstance();
+
+    private CollectionAgent agent;
+
+    private ScriptedCollectionSetBuilder builder;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        Port.registerAllExtensions(registry);
+        TelemetryTop.registerAllExtensions(registry);
+
+        agent = Mockito.mock(CollectionAgent.class);
+        Mockito.when(agent.getNodeId()).thenReturn(1);
+
+        builder = new ScriptedCollectionSetBuilder(JtiCollectionMappingTest.getFile("junos-telemetry-interface." + extension));
+        payload = JtiCollectionMappingTest.generateJtiMessage(interfaces).toByteArray();
+    }
+
+    @Benchmark
+    public CollectionSet build() throws Exception {
+        final TelemetryTop.TelemetryStream msg = TelemetryTop.TelemetryStream.parseFrom(payload, registry);
+        return builder.build(agent, msg, msg.getTimestamp());
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
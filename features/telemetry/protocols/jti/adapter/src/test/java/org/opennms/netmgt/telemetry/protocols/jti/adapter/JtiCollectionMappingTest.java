@@ -0,0 +1,189 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.jti.adapter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.script.ScriptException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennms.netmgt.collection.api.AttributeGroup;
+import org.opennms.netmgt.collection.api.CollectionAgent;
+import org.opennms.netmgt.collection.api.CollectionAttribute;
+import org.opennms.netmgt.collection.api.CollectionResource;
+import org.opennms.netmgt.collection.api.CollectionSet;
+import org.opennms.netmgt.collection.support.AbstractCollectionSetVisitor;
+import org.opennms.netmgt.collection.support.builder.CollectionSetBuilder;
+import org.opennms.netmgt.telemetry.protocols.collection.ProtobufCollectionMapping;
+import org.opennms.netmgt.telemetry.protocols.collection.ScriptedCollectionSetBuilder;
+import org.opennms.netmgt.telemetry.protocols.jti.adapter.proto.Port;
+import org.opennms.netmgt.telemetry.protocols.jti.adapter.proto.TelemetryTop;
+
+public class JtiCollectionMappingTest {
+
+    private CollectionAgent agent;
+
+    @Before
+    public void setUp() {
+        agent = Mockito.mock(CollectionAgent.class);
+        Mockito.when(agent.getNodeId()).thenReturn(1);
+    }
+
+    @Test
+    public void canBuildTheSameCollectionSetAsTheScript() throws Exception {
+        final TelemetryTop.TelemetryStream msg = generateJtiMessage(3);
+
+        final CollectionSet fromScript = new ScriptedCollectionSetBuilder(getFile("junos-telemetry-interface.groovy"))
+                .build(agent, msg, msg.getTimestamp());
+        final CollectionSet fromMapping = new ScriptedCollectionSetBuilder(getFile("junos-telemetry-interface.xml"))
+                .build(agent, msg, msg.getTimestamp());
+
+        final List<String> expected = toStrings(fromScript);
+        assertThat(expected, hasSize(12));
+        assertThat(toStrings(fromMapping), equalTo(expected));
+        assertEquals(fromScript.getSequenceNumber(), fromMapping.getSequenceNumber());
+        assertEquals(fromScript.getCollectionTimestamp(), fromMapping.getCollectionTimestamp());
+    }
+
+    @Test
+    public void canLookupInterfacesByIfIndex() throws Exception {
+        final ProtobufCollectionMapping mapping = loadMapping("<protobuf-collection-mapping message=\"TelemetryStream\">" +
+                "<resource type=\"interface\" foreach=\"enterprise.[juniperNetworks].[jnpr_interface_ext].interface_stats\" if-index=\"snmp_if_index\">" +
+                "<attribute group=\"mib2-interfaces\" name=\"ifInOctets\" path=\"ingress_stats.if_octets\" type=\"counter\"/>" +
+                "</resource>" +
+                "<resource type=\"node\">" +
+                "<attribute group=\"jti\" name=\"sensor\" path=\"sensor_name\" type=\"string\"/>" +
+                "</resource>" +
+                "</protobuf-collection-mapping>");
+
+        // Only the second interface is known to the resolver
+        final CollectionSetBuilder builder = new CollectionSetBuilder(agent);
+        mapping.build(builder, agent, generateJtiMessage(2), (nodeId, ifIndex) -> ifIndex == 2 ? "ge_0_0_1-0011223344" : null);
+
+        assertThat(toStrings(builder.build()), containsInAnyOrder(
+                "if/ge_0_0_1-0011223344 mib2-interfaces ifInOctets counter 2000",
+                "node/node jti sensor string interfaces"));
+    }
+
+    @Test(expected = ScriptException.class)
+    public void failsOnOtherMessagesWithoutFallback() throws Exception {
+        final File file = File.createTempFile("mapping", ".xml");
+        file.deleteOnExit();
+        java.nio.file.Files.write(file.toPath(), "<protobuf-collection-mapping message=\"TelemetryStream\"/>".getBytes(StandardCharsets.UTF_8));
+
+        new ScriptedCollectionSetBuilder(file).build(agent, Port.GPort.getDefaultInstance(), null);
+    }
+
+    @Test(expected = ScriptException.class)
+    public void failsOnUnknownFields() throws Exception {
+        final File file = File.createTempFile("mapping", ".xml");
+        file.deleteOnExit();
+        java.nio.file.Files.write(file.toPath(), ("<protobuf-collection-mapping>" +
+                "<resource type=\"node\"><attribute group=\"jti\" name=\"x\" path=\"no_such_field\" type=\"gauge\"/></resource>" +
+                "</protobuf-collection-mapping>").getBytes(StandardCharsets.UTF_8));
+
+        new ScriptedCollectionSetBuilder(file).build(agent, generateJtiMessage(1), null);
+    }
+
+    protected static TelemetryTop.TelemetryStream generateJtiMessage(int numInterfaces) {
+        final Port.GPort.Builder port = Port.GPort.newBuilder();
+        for (int i = 1; i <= numInterfaces; i++) {
+            port.addInterfaceStats(Port.InterfaceInfos.newBuilder()
+                    .setIfName("ge-0/0/" + (i - 1))
+                    .setInitTime(1457647123)
+                    .setSnmpIfIndex(i)
+                    .setIngressStats(interfaceStats(i * 1000L, i))
+                    .setEgressStats(interfaceStats(i * 2000L, i * 2)));
+        }
+
+        final TelemetryTop.JuniperNetworksSensors jnprSensors = TelemetryTop.JuniperNetworksSensors.newBuilder()
+                .setExtension(Port.jnprInterfaceExt, port.build())
+                .build();
+        return TelemetryTop.TelemetryStream.newBuilder()
+                .setSystemId("jti-router")
+                .setSensorName("interfaces")
+                .setSequenceNumber(42)
+                .setTimestamp(1457647123000L)
+                .setEnterprise(TelemetryTop.EnterpriseSensors.newBuilder()
+                        .setExtension(TelemetryTop.juniperNetworks, jnprSensors))
+                .build();
+    }
+
+    private static Port.InterfaceStats interfaceStats(long octets, long pkts) {
+        return Port.InterfaceStats.newBuilder()
+                .setIfPkts(pkts * 10)
+                .setIfOctets(octets)
+                .setIf1SecPkts(pkts)
+                .setIf1SecOctets(octets / 10)
+                .setIfUcPkts(pkts)
+                .setIfMcPkts(0)
+                .setIfBcPkts(0)
+                .build();
+    }
+
+    // Uses the files shipped with the default configuration
+    static File getFile(String name) {
+        return Paths.get("..", "..", "..", "..", "..", "opennms-base-assembly", "src", "main", "filtered", "etc", "telemetryd-adapters", name).toFile();
+    }
+
+    private static ProtobufCollectionMapping loadMapping(String xml) throws Exception {
+        return ProtobufCollectionMapping.load(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> toStrings(CollectionSet collectionSet) {
+        final List<String> attributes = new ArrayList<>();
+        collectionSet.visit(new AbstractCollectionSetVisitor() {
+            private String resource;
+            private String group;
+
+            @Override
+            public void visitResource(CollectionResource collectionResource) {
+                resource = collectionResource.getResourceTypeName() + "/" + collectionResource.getInstance();
+            }
+
+            @Override
+            public void visitGroup(AttributeGroup attributeGroup) {
+                group = attributeGroup.getName();
+            }
+
+            @Override
+            public void visitAttribute(CollectionAttribute attribute) {
+                attributes.add(String.format("%s %s %s %s %s", resource, group, attribute.getName(), attribute.getType().getName(),
+                        attribute.getType().isNumeric() ? attribute.getNumericValue() : attribute.getStringValue()));
+            }
+        });
+        return attributes;
+    }
+}
@@ -54,6 +54,8 @@ public class Netflow9UdpParser extends UdpParserBase implements UdpParser, Dispa
 
     private final Netflow9MessageBuilder messageBuilder = new Netflow9MessageBuilder();
 
+    private boolean flyweightDecoding = false;
+
     public Netflow9UdpParser(final String name,
                              final AsyncDispatcher<TelemetryMessage> dispatcher,
                              final EventForwarder eventForwarder,
@@ -70,7 +72,7 @@ public class Netflow9UdpParser extends UdpParserBase implements UdpParser, Dispa
     @Override
     protected RecordProvider parse(Session session, ByteBuf buffer) throws Exception {
         final Header header = new Header(slice(buffer, Header.SIZE));
-        final Packet packet = new Packet(session, header, buffer);
+        final Packet packet = new Packet(session, header, buffer, this.flyweightDecoding);
 
         detectClockSkew(header.unixSecs * 1000L, session.getRemoteAddress());
 
@@ -152,4 +154,12 @@ public class Netflow9UdpParser extends UdpParserBase implements UdpParser, Dispa
     public void setFlowSamplingIntervalFallback(final Long flowSamplingIntervalFallback) {
         this.messageBuilder.setFlowSamplingIntervalFallback(flowSamplingIntervalFallback);
     }
+
+    public boolean getFlyweightDecoding() {
+        return this.flyweightDecoding;
+    }
+
+    public void setFlyweightDecoding(final boolean flyweightDecoding) {
+        this.flyweightDecoding = flyweightDecoding;
+    }
 }
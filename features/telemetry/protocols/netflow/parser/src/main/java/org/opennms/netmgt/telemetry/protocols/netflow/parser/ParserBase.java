@@ -273,7 +273,7 @@ public abstract class ParserBase implements Parser {
         // The packets are coming in hot - performance here is critical
         //   LOG.trace("Got packet: {}", packet);
         // Perform the record enrichment and serialization in a thread pool allowing these to be parallelized
-        final var futures = packet.getRecords().map(record -> {
+        final var futures = packet.getFieldRecords().map(record -> {
             this.recordsReceived.mark();
 
             final Timer.Context timerContext = recordEnrichmentTimer.time();
@@ -293,7 +293,7 @@ public abstract class ParserBase implements Parser {
                         // Let's serialize
                         final FlowMessage.Builder flowMessage;
                         try {
-                            flowMessage = this.getMessageBuilder().buildMessage(record, enrichment);
+                            flowMessage = this.getMessageBuilder().buildMessage(record.fields(), enrichment);
                         } catch (final Exception e) {
                             throw new RuntimeException(e);
                         }
@@ -51,6 +51,7 @@ public abstract class UdpParserBase extends ParserBase implements UdpParser {
 
     private final Meter packetsReceived;
     private final Counter parserErrors;
+    private final MetricRegistry metricRegistry;
 
     private UdpSessionManager sessionManager;
 
@@ -68,6 +69,7 @@ public abstract class UdpParserBase extends ParserBase implements UdpParser {
 
         this.packetsReceived = metricRegistry.meter(MetricRegistry.name("parsers",  name, "packetsReceived"));
         this.parserErrors = metricRegistry.counter(MetricRegistry.name("parsers",  name, "parserErrors"));
+        this.metricRegistry = metricRegistry;
 
         String sessionCountGauge = MetricRegistry.name("parsers",  name, "sessionCount");
         // Register only if it's not already there in the registry.
@@ -100,7 +102,8 @@ public abstract class UdpParserBase extends ParserBase implements UdpParser {
     @Override
     public void start(final ScheduledExecutorService executorService) {
         super.start(executorService);
-        this.sessionManager = new UdpSessionManager(this.templateTimeout, this::sequenceNumberTracker);
+        this.sessionManager = new UdpSessionManager(this.templateTimeout, this::sequenceNumberTracker,
+                this.metricRegistry, MetricRegistry.name("parsers", getName()));
         this.housekeepingFuture = executorService.scheduleAtFixedRate(this.sessionManager::doHousekeeping,
                 HOUSEKEEPING_INTERVAL,
                 HOUSEKEEPING_INTERVAL,
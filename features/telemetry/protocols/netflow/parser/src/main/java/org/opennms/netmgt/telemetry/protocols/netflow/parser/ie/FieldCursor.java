@@ -0,0 +1,53 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.ie;
+
+import java.net.InetAddress;
+import java.time.Instant;
+
+/**
+ * A forward-only view on the fields of a single flow record.
+ *
+ * The accessors decode the field the cursor is currently positioned at. This allows message builders to consume a
+ * record without requiring each field to be materialized as a {@link Value} first. Like the value based helpers in
+ * {@code MessageUtils}, the accessors return {@code null} (or {@link Boolean#FALSE}) if the current field is not of
+ * the requested type.
+ */
+public interface FieldCursor {
+
+    /**
+     * Advances the cursor to the next field.
+     *
+     * @return <code>false</code> if there are no more fields
+     */
+    boolean next();
+
+    String getName();
+
+    Long getLongValue();
+
+    Boolean getBooleanValue();
+
+    InetAddress getInetAddress();
+
+    Instant getTime();
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.ie;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.BooleanValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.DateTimeValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv4AddressValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv6AddressValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.UnsignedValue;
+
+/**
+ * A single flow record which can be traversed multiple times using a {@link FieldCursor}.
+ */
+public interface FieldRecord {
+
+    FieldCursor fields();
+
+    static FieldRecord of(final Iterable<Value<?>> values) {
+        Objects.requireNonNull(values);
+        return () -> new ValueCursor(values.iterator());
+    }
+
+    class ValueCursor implements FieldCursor {
+        private final Iterator<Value<?>> values;
+
+        private Value<?> value;
+
+        public ValueCursor(final Iterator<Value<?>> values) {
+            this.values = Objects.requireNonNull(values);
+        }
+
+        @Override
+        public boolean next() {
+            if (this.values.hasNext()) {
+                this.value = this.values.next();
+                return true;
+            }
+            this.value = null;
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return this.value.getName();
+        }
+
+        @Override
+        public Long getLongValue() {
+            if (this.value instanceof UnsignedValue) {
+                return ((UnsignedValue) this.value).getValue().longValue();
+            }
+            return null;
+        }
+
+        @Override
+        public Boolean getBooleanValue() {
+            if (this.value instanceof BooleanValue) {
+                return ((BooleanValue) this.value).getValue();
+            }
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public InetAddress getInetAddress() {
+            if (this.value instanceof IPv4AddressValue || this.value instanceof IPv6AddressValue) {
+                return (InetAddress) this.value.getValue();
+            }
+            return null;
+        }
+
+        @Override
+        public Instant getTime() {
+            if (this.value instanceof DateTimeValue) {
+                return ((DateTimeValue) this.value).getValue();
+            }
+            return null;
+        }
+    }
+}
@@ -29,6 +29,18 @@ import io.netty.buffer.ByteBuf;
 
 public interface InformationElement {
 
+    /**
+     * Describes how the raw bytes of a field can be decoded in place without parsing them into a {@link Value}.
+     */
+    enum Decoding {
+        /** The element must be parsed into a {@link Value}. */
+        NONE,
+        /** Big-endian unsigned integer spanning the whole field. */
+        UNSIGNED,
+        /** IPv4 or IPv6 address spanning the whole field. */
+        ADDRESS,
+    }
+
     Value<?> parse(final Session.Resolver resolver,
                    final ByteBuf buffer) throws InvalidPacketException, MissingTemplateException;
 
@@ -37,4 +49,8 @@ public interface InformationElement {
     int getMinimumFieldLength();
 
     int getMaximumFieldLength();
+
+    default Decoding getDecoding() {
+        return Decoding.NONE;
+    }
 }
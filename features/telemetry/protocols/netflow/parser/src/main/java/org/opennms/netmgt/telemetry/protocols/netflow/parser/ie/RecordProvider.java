@@ -26,6 +26,17 @@ import java.util.stream.Stream;
 public interface RecordProvider {
     Stream<Iterable<Value<?>>> getRecords();
 
+    /** Returns the records of the underlying packet as cursors.
+     *
+     * Implementations can override this to decode the fields directly from the packet buffer instead of materializing
+     * each field as a {@link Value}.
+     *
+     * @return the records of the packet
+     */
+    default Stream<FieldRecord> getFieldRecords() {
+        return this.getRecords().map(FieldRecord::of);
+    }
+
     /** Returns the observation domain ID as specified by the underlying packet used to generate these records.
      *
      * @return the observation domain ID or <code>0</code> if there is no such concept available.
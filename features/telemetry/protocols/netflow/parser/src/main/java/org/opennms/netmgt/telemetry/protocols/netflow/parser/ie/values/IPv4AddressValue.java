@@ -85,6 +85,11 @@ public class IPv4AddressValue extends Value<Inet4Address> {
             public int getMaximumFieldLength() {
                 return 4;
             }
+
+            @Override
+            public Decoding getDecoding() {
+                return Decoding.ADDRESS;
+            }
         };
     }
 
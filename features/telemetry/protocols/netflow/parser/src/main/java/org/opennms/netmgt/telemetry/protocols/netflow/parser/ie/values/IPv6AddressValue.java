@@ -86,6 +86,11 @@ public class IPv6AddressValue extends Value<Inet6Address> {
             public int getMaximumFieldLength() {
                 return 16;
             }
+
+            @Override
+            public Decoding getDecoding() {
+                return Decoding.ADDRESS;
+            }
         };
     }
 
@@ -80,6 +80,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 1;
             }
+
+            @Override
+            public Decoding getDecoding() {
+                return Decoding.UNSIGNED;
+            }
         };
     }
 
@@ -104,6 +109,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 2;
             }
+
+            @Override
+            public Decoding getDecoding() {
+                return Decoding.UNSIGNED;
+            }
         };
     }
 
@@ -128,6 +138,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 3;
             }
+
+            @Override
+            public Decoding getDecoding() {
+                return Decoding.UNSIGNED;
+            }
         };
     }
 
@@ -152,6 +167,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 4;
             }
+
+            @Override
+            public Decoding getDecoding() {
+                return Decoding.UNSIGNED;
+            }
         };
     }
 
@@ -176,6 +196,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 8;
             }
+
+            @Override
+            public Decoding getDecoding() {
+                return Decoding.UNSIGNED;
+            }
         };
     }
 
@@ -47,10 +47,18 @@ public final class DataSet extends FlowSet<DataRecord> {
                    final FlowSetHeader header,
                    final Session.Resolver resolver,
                    final ByteBuf buffer) throws InvalidPacketException, MissingTemplateException {
+        this(packet, header, resolver, resolver.lookupTemplate(header.setId), buffer);
+    }
+
+    public DataSet(final Packet packet,
+                   final FlowSetHeader header,
+                   final Session.Resolver resolver,
+                   final Template template,
+                   final ByteBuf buffer) throws InvalidPacketException, MissingTemplateException {
         super(packet, header);
 
         this.resolver = Objects.requireNonNull(resolver);
-        this.template = this.resolver.lookupTemplate(this.header.setId);
+        this.template = Objects.requireNonNull(template);
 
         final int minimumRecordLength = template.stream()
                 .mapToInt(f -> f.length()).sum();
@@ -0,0 +1,309 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldCursor;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldRecord;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.InformationElement;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Field;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Template;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A data set which is decoded lazily from the packet buffer.
+ *
+ * In contrast to {@link DataSet}, the records of this set are not parsed into {@link Value}s. The offset of each field
+ * inside a record is pre-computed once per template and the fields are decoded in place whenever they are accessed by a
+ * {@link FieldCursor}. The set keeps a reference to the packet buffer, which must therefore not be released before all
+ * records have been consumed.
+ */
+public final class FlyweightDataSet {
+
+    private static final String[] HEADER_NAMES = new String[] {
+            "@recordCount",
+            "@sequenceNumber",
+            "@sysUpTime",
+            "@unixSecs",
+            "@sourceId",
+    };
+
+    private static final LoadingCache<Template, Layout> LAYOUTS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(Layout::new));
+
+    public final Packet packet; // Enclosing packet
+
+    public final FlowSetHeader header;
+
+    public final Template template;
+
+    public final List<Value<?>> options;
+
+    private final Session.Resolver resolver;
+
+    private final Layout layout;
+
+    private final ByteBuf buffer;
+
+    private final int count;
+
+    public FlyweightDataSet(final Packet packet,
+                            final FlowSetHeader header,
+                            final Session.Resolver resolver,
+                            final Template template,
+                            final ByteBuf buffer) throws InvalidPacketException {
+        this.packet = Objects.requireNonNull(packet);
+        this.header = Objects.requireNonNull(header);
+        this.resolver = Objects.requireNonNull(resolver);
+        this.template = Objects.requireNonNull(template);
+        this.buffer = Objects.requireNonNull(buffer);
+
+        this.layout = LAYOUTS.getUnchecked(template);
+
+        this.count = this.layout.length > 0
+                ? this.buffer.readableBytes() / this.layout.length
+                : 0;
+
+        if (this.count == 0) {
+            throw new InvalidPacketException(buffer, "Empty set");
+        }
+
+        // The scope values used to look up options only depend on the packet and the template and are therefore
+        // identical for all records of this set
+        this.options = resolver.lookupOptions(ScopeFieldSpecifier.buildScopeValues(packet.header.sourceId, template.id));
+    }
+
+    public int size() {
+        return this.count;
+    }
+
+    Stream<FieldRecord> getFieldRecords(final long[] headerValues) {
+        return IntStream.range(0, this.count)
+                .<FieldRecord>mapToObj(i -> () -> new Cursor(this.buffer.readerIndex() + i * this.layout.length, headerValues));
+    }
+
+    Stream<List<Value<?>>> getValues() {
+        return IntStream.range(0, this.count)
+                .mapToObj(i -> {
+                    final int offset = this.buffer.readerIndex() + i * this.layout.length;
+
+                    final List<Value<?>> values = new ArrayList<>(this.layout.fields.length);
+                    for (int f = 0; f < this.layout.fields.length; f++) {
+                        try {
+                            values.add(this.layout.fields[f].parse(this.resolver, this.buffer.slice(offset + this.layout.offsets[f], this.layout.lengths[f])));
+                        } catch (final InvalidPacketException | MissingTemplateException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+
+                    return Collections.unmodifiableList(values);
+                });
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("header", this.header)
+                .add("template", this.template.id)
+                .add("records", this.count)
+                .toString();
+    }
+
+    /**
+     * The pre-computed position and decoding of all fields of a template.
+     */
+    private static final class Layout {
+        private final Field[] fields;
+        private final String[] names;
+        private final InformationElement.Decoding[] decodings;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final int length;
+
+        private Layout(final Template template) {
+            final int n = template.fields.size();
+
+            this.fields = new Field[n];
+            this.names = new String[n];
+            this.decodings = new InformationElement.Decoding[n];
+            this.offsets = new int[n];
+            this.lengths = new int[n];
+
+            int offset = 0;
+            int i = 0;
+            for (final Field field : template.fields) {
+                // Data templates consist of field specifiers only
+                final InformationElement informationElement = ((FieldSpecifier) field).informationElement;
+
+                this.fields[i] = field;
+                this.names[i] = informationElement.getName();
+                this.decodings[i] = informationElement.getDecoding();
+                this.offsets[i] = offset;
+                this.lengths[i] = field.length();
+
+                offset += field.length();
+                i++;
+            }
+
+            this.length = offset;
+        }
+    }
+
+    private final class Cursor implements FieldCursor {
+        private final int offset;
+
+        private final long[] headerValues;
+
+        private int index = -1;
+
+        private FieldCursor options;
+
+        private Cursor(final int offset, final long[] headerValues) {
+            this.offset = offset;
+            this.headerValues = headerValues;
+        }
+
+        @Override
+        public boolean next() {
+            if (this.options == null) {
+                this.index++;
+                if (this.index < HEADER_NAMES.length + layout.names.length) {
+                    return true;
+                }
+
+                this.options = new FieldRecord.ValueCursor(FlyweightDataSet.this.options.iterator());
+            }
+
+            return this.options.next();
+        }
+
+        @Override
+        public String getName() {
+            if (this.options != null) {
+                return this.options.getName();
+            }
+
+            if (this.index < HEADER_NAMES.length) {
+                return HEADER_NAMES[this.index];
+            }
+
+            return layout.names[this.index - HEADER_NAMES.length];
+        }
+
+        @Override
+        public Long getLongValue() {
+            if (this.options != null) {
+                return this.options.getLongValue();
+            }
+
+            if (this.index < HEADER_NAMES.length) {
+                return this.headerValues[this.index];
+            }
+
+            final int field = this.index - HEADER_NAMES.length;
+            if (layout.decodings[field] != InformationElement.Decoding.UNSIGNED) {
+                return null;
+            }
+
+            final int position = this.offset + layout.offsets[field];
+            switch (layout.lengths[field]) {
+                case 1:
+                    return (long) buffer.getUnsignedByte(position);
+                case 2:
+                    return (long) buffer.getUnsignedShort(position);
+                case 4:
+                    return buffer.getUnsignedInt(position);
+                case 8:
+                    return buffer.getLong(position);
+                default:
+                    long result = 0;
+                    for (int i = 0; i < layout.lengths[field]; i++) {
+                        result = (result << 8L) | buffer.getUnsignedByte(position + i);
+                    }
+                    return result;
+            }
+        }
+
+        @Override
+        public Boolean getBooleanValue() {
+            if (this.options != null) {
+                return this.options.getBooleanValue();
+            }
+
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public InetAddress getInetAddress() {
+            if (this.options != null) {
+                return this.options.getInetAddress();
+            }
+
+            if (this.index < HEADER_NAMES.length) {
+                return null;
+            }
+
+            final int field = this.index - HEADER_NAMES.length;
+            if (layout.decodings[field] != InformationElement.Decoding.ADDRESS) {
+                return null;
+            }
+
+            final byte[] address = new byte[layout.lengths[field]];
+            buffer.getBytes(this.offset + layout.offsets[field], address);
+            try {
+                return InetAddress.getByAddress(address);
+            } catch (final UnknownHostException e) {
+                // The field length has been verified against the information element while parsing the template
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Instant getTime() {
+            if (this.options != null) {
+                return this.options.getTime();
+            }
+
+            return null;
+        }
+    }
+}
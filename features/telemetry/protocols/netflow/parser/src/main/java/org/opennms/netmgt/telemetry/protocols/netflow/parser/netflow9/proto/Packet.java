@@ -32,6 +32,7 @@ import java.util.stream.Stream;
 
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketException;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldRecord;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.RecordProvider;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.UnsignedValue;
@@ -65,15 +66,28 @@ public final class Packet implements Iterable<FlowSet<?>>, RecordProvider {
     public final List<TemplateSet> templateSets;
     public final List<OptionsTemplateSet> optionTemplateSets;
     public final List<DataSet> dataSets;
+    public final List<FlyweightDataSet> flyweightDataSets;
 
     public Packet(final Session session,
                   final Header header,
                   final ByteBuf buffer) throws InvalidPacketException {
+        this(session, header, buffer, false);
+    }
+
+    /**
+     * @param flyweight if set, data sets are not parsed into {@link DataRecord}s but kept as {@link FlyweightDataSet}s
+     *                  decoding their records directly from the buffer
+     */
+    public Packet(final Session session,
+                  final Header header,
+                  final ByteBuf buffer,
+                  final boolean flyweight) throws InvalidPacketException {
         this.header = Objects.requireNonNull(header);
 
         final List<TemplateSet> templateSets = new LinkedList<>();
         final List<OptionsTemplateSet> optionTemplateSets = new LinkedList<>();
         final List<DataSet> dataSets = new LinkedList<>();
+        final List<FlyweightDataSet> flyweightDataSets = new LinkedList<>();
         while (buffer.isReadable()) {
             // We ignore header.counter here, because different exporters interpret it as flowset count or record count
 
@@ -127,9 +141,22 @@ public final class Packet implements Iterable<FlowSet<?>>, RecordProvider {
                 case DATA_FLOWSET: {
                     final Session.Resolver resolver = session.getResolver(header.sourceId);
 
+                    final Template template;
+                    try {
+                        template = resolver.lookupTemplate(setHeader.setId);
+                    } catch (final MissingTemplateException ex) {
+                        LOG.debug("Skipping data-set due to missing template: {}", ex.getMessage());
+                        break;
+                    }
+
+                    if (flyweight && template.type == Template.Type.TEMPLATE) {
+                        flyweightDataSets.add(new FlyweightDataSet(this, setHeader, resolver, template, payloadBuffer));
+                        break;
+                    }
+
                     final DataSet dataSet;
                     try {
-                        dataSet = new DataSet(this, setHeader, resolver, payloadBuffer);
+                        dataSet = new DataSet(this, setHeader, resolver, template, payloadBuffer);
                     } catch (final MissingTemplateException ex) {
                         LOG.debug("Skipping data-set due to missing template: {}", ex.getMessage());
                         break;
@@ -155,6 +182,7 @@ public final class Packet implements Iterable<FlowSet<?>>, RecordProvider {
         this.templateSets = Collections.unmodifiableList(templateSets);
         this.optionTemplateSets = Collections.unmodifiableList(optionTemplateSets);
         this.dataSets = Collections.unmodifiableList(dataSets);
+        this.flyweightDataSets = Collections.unmodifiableList(flyweightDataSets);
     }
 
     @Override
@@ -166,22 +194,44 @@ public final class Packet implements Iterable<FlowSet<?>>, RecordProvider {
 
     @Override
     public Stream<Iterable<Value<?>>> getRecords() {
-        final int recordCount = this.dataSets.stream()
-                .mapToInt(s -> s.records.size())
-                .sum();
-
-        return this.dataSets.stream()
-                .flatMap(s -> s.records.stream())
-                .map(r -> Iterables.concat(
-                        ImmutableList.of(
-                                new UnsignedValue("@recordCount", recordCount),
-                                new UnsignedValue("@sequenceNumber", this.header.sequenceNumber),
-                                new UnsignedValue("@sysUpTime", this.header.sysUpTime),
-                                new UnsignedValue("@unixSecs", this.header.unixSecs),
-                                new UnsignedValue("@sourceId", this.header.sourceId)),
-                        r.fields,
-                        r.options
-                ));
+        final int recordCount = this.getRecordCount();
+
+        return Stream.concat(
+                this.dataSets.stream().flatMap(s -> s.records.stream()).map(r -> Iterables.concat(this.getHeaderValues(recordCount), r.fields, r.options)),
+                this.flyweightDataSets.stream().flatMap(s -> s.getValues().map(fields -> Iterables.concat(this.getHeaderValues(recordCount), fields, s.options))));
+    }
+
+    @Override
+    public Stream<FieldRecord> getFieldRecords() {
+        if (this.flyweightDataSets.isEmpty()) {
+            return RecordProvider.super.getFieldRecords();
+        }
+
+        final long[] headerValues = new long[] {
+                this.getRecordCount(),
+                this.header.sequenceNumber,
+                this.header.sysUpTime,
+                this.header.unixSecs,
+                this.header.sourceId,
+        };
+
+        return Stream.concat(
+                this.dataSets.stream().flatMap(s -> s.records.stream()).map(r -> FieldRecord.of(Iterables.concat(this.getHeaderValues(headerValues[0]), r.fields, r.options))),
+                this.flyweightDataSets.stream().flatMap(s -> s.getFieldRecords(headerValues)));
+    }
+
+    private int getRecordCount() {
+        return this.dataSets.stream().mapToInt(s -> s.records.size()).sum()
+                + this.flyweightDataSets.stream().mapToInt(FlyweightDataSet::size).sum();
+    }
+
+    private List<Value<?>> getHeaderValues(final long recordCount) {
+        return ImmutableList.of(
+                new UnsignedValue("@recordCount", recordCount),
+                new UnsignedValue("@sequenceNumber", this.header.sequenceNumber),
+                new UnsignedValue("@sysUpTime", this.header.sysUpTime),
+                new UnsignedValue("@unixSecs", this.header.unixSecs),
+                new UnsignedValue("@sourceId", this.header.sourceId));
     }
 
     @Override
@@ -201,6 +251,7 @@ public final class Packet implements Iterable<FlowSet<?>>, RecordProvider {
                 .add("templateSets", this.templateSets)
                 .add("optionTemplateSets", this.optionTemplateSets)
                 .add("dataTemplateSets", this.dataSets)
+                .add("flyweightDataSets", this.flyweightDataSets)
                 .toString();
     }
 }
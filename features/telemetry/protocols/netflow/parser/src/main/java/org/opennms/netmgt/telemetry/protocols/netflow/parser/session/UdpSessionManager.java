@@ -26,13 +26,15 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -44,27 +46,76 @@ import org.opennms.netmgt.telemetry.protocols.netflow.parser.state.OptionState;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.state.ParserState;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.state.TemplateState;
 
-import com.google.common.collect.Iterables;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.Maps;
 
+/**
+ * Keeps the templates, options and sequence numbers of all UDP sessions of a parser.
+ * <p>
+ * State is split into shards by exporter address and, within a shard, into one domain per session and observation
+ * domain. All packets of an exporter arrive on the same listener thread, so a shard is effectively owned by that
+ * thread and its monitor is uncontended; housekeeping only takes it once per interval. Template and option lookups
+ * only ever look at the templates of their own observation domain.
+ * <p>
+ * Templates expire through a per-shard timing wheel: each template is filed under the tick of its deadline and
+ * housekeeping only visits the slots of the ticks that passed since the last run. Refreshing a template only updates
+ * its deadline; it is moved to its new slot when the old one comes up. Domains without templates and exporters without
+ * domains are dropped by housekeeping once they have not been used for the timeout.
+ * <p>
+ * Template lookups are counted per exporter as {@code templates.<exporter>.hits} and {@code .misses}.
+ */
 public class UdpSessionManager {
-    final ConcurrentMap<TemplateKey, TimeWrapper<TemplateOptions>> templates = Maps.newConcurrentMap();
-    private final Map<DomainKey, SequenceNumberTracker> sequenceNumbers = Maps.newConcurrentMap();
+    private static final int WHEEL_SLOTS = 256;
+    private static final int WHEEL_MASK = WHEEL_SLOTS - 1;
+
+    private static final int DEFAULT_SHARDS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+
     private final Duration timeout;
+    private final long tickMs;
     private final Supplier<SequenceNumberTracker> sequenceNumberTracker;
+    private final MetricRegistry metrics;
+    private final String metricsPrefix;
+    private final Shard[] shards;
+    private final LongSupplier clock;
 
     public UdpSessionManager(final Duration timeout, final Supplier<SequenceNumberTracker> sequenceNumberTracker) {
-        this.timeout = timeout;
-        this.sequenceNumberTracker = Objects.requireNonNull(sequenceNumberTracker);
+        this(timeout, sequenceNumberTracker, null, null);
     }
 
-    public void doHousekeeping() {
-        final Instant timeout = Instant.now().minus(this.timeout);
-        this.removeTemplateIf(e -> e.getValue().time.isBefore(timeout));
+    public UdpSessionManager(final Duration timeout,
+                             final Supplier<SequenceNumberTracker> sequenceNumberTracker,
+                             final MetricRegistry metrics,
+                             final String metricsPrefix) {
+        this(timeout, sequenceNumberTracker, metrics, metricsPrefix, System::currentTimeMillis);
+    }
+
+    UdpSessionManager(final Duration timeout,
+                      final Supplier<SequenceNumberTracker> sequenceNumberTracker,
+                      final MetricRegistry metrics,
+                      final String metricsPrefix,
+                      final LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.tickMs = Math.max(1, timeout.toMillis() / (WHEEL_SLOTS / 2));
+        this.sequenceNumberTracker = Objects.requireNonNull(sequenceNumberTracker);
+        this.metrics = metrics;
+        this.metricsPrefix = metricsPrefix;
+
+        final long now = clock.getAsLong();
+        this.shards = new Shard[DEFAULT_SHARDS];
+        for (int i = 0; i < this.shards.length; i++) {
+            this.shards[i] = new Shard(now / this.tickMs);
+        }
     }
 
-    private void removeTemplateIf(final Predicate<Map.Entry<TemplateKey, TimeWrapper<TemplateOptions>>> predicate) {
-        UdpSessionManager.this.templates.entrySet().removeIf(predicate);
+    public void doHousekeeping() {
+        final long now = this.clock.getAsLong();
+        for (final Shard shard : this.shards) {
+            synchronized (shard) {
+                shard.expire(now);
+            }
+        }
     }
 
     public Session getSession(final SessionKey sessionKey) {
@@ -72,41 +123,105 @@ public class UdpSessionManager {
     }
 
     public void drop(final SessionKey sessionKey) {
-        removeTemplateIf(e -> Objects.equals(e.getKey().observationDomainId.sessionKey, sessionKey));
+        final Shard shard = this.shard(sessionKey);
+        synchronized (shard) {
+            for (final Domain domain : shard.domains.values()) {
+                if (Objects.equals(domain.key.sessionKey, sessionKey)) {
+                    shard.removeTemplatesIf(domain, e -> true);
+                }
+            }
+        }
     }
 
     public int count() {
-        return this.templates.size();
+        int count = 0;
+        for (final Shard shard : this.shards) {
+            count += shard.templateCount;
+        }
+        return count;
     }
 
     public Object dumpInternalState() {
         final ParserState.Builder parser = ParserState.builder();
 
-        final Map<DomainKey, List<Map.Entry<TemplateKey, TimeWrapper<TemplateOptions>>>> sessions = this.templates.entrySet().stream()
-                .collect(Collectors.groupingBy(e -> e.getKey().observationDomainId));
+        for (final Shard shard : this.shards) {
+            synchronized (shard) {
+                for (final Domain domain : shard.domains.values()) {
+                    if (domain.templates.isEmpty()) {
+                        continue;
+                    }
 
-        for (final var entry : sessions.entrySet()) {
-            final String key = String.format("%s#%s",
-                    entry.getKey().sessionKey.getDescription(),
-                    entry.getKey().observationDomainId);
+                    final String key = String.format("%s#%s",
+                            domain.key.sessionKey.getDescription(),
+                            domain.key.observationDomainId);
 
-            final ExporterState.Builder exporter = ExporterState.builder(key);
+                    final ExporterState.Builder exporter = ExporterState.builder(key);
 
-            entry.getValue().forEach(e -> {
-                exporter.withTemplate(TemplateState.builder(e.getKey().templateId).withInsertionTime(e.getValue().time));
-                e.getValue().wrapped.options.forEach((selectors, values) ->
-                        exporter.withOptions(OptionState.builder(e.getKey().templateId)
-                                .withInsertionTime(values.time)
-                                .withSelectors(selectors)
-                                .withValues(values.wrapped)));
-            });
+                    domain.templates.forEach((templateId, entry) -> {
+                        exporter.withTemplate(TemplateState.builder(templateId).withInsertionTime(entry.value.time));
+                        entry.value.wrapped.options.forEach((selectors, values) ->
+                                exporter.withOptions(OptionState.builder(templateId)
+                                        .withInsertionTime(values.time)
+                                        .withSelectors(selectors)
+                                        .withValues(values.wrapped)));
+                    });
 
-            parser.withExporter(exporter);
+                    parser.withExporter(exporter);
+                }
+            }
         }
 
         return parser.build();
     }
 
+    TimeWrapper<TemplateOptions> getTemplate(final TemplateKey key) {
+        final Shard shard = this.shard(key.observationDomainId.sessionKey);
+        synchronized (shard) {
+            final Domain domain = shard.domains.get(key.observationDomainId);
+            final TemplateEntry entry = domain != null ? domain.templates.get(key.templateId) : null;
+            return entry != null ? entry.value : null;
+        }
+    }
+
+    Set<TemplateKey> getTemplateKeys() {
+        final Set<TemplateKey> keys = new HashSet<>();
+        for (final Shard shard : this.shards) {
+            synchronized (shard) {
+                for (final Domain domain : shard.domains.values()) {
+                    for (final Integer templateId : domain.templates.keySet()) {
+                        keys.add(new TemplateKey(domain.key.sessionKey, domain.key.observationDomainId, templateId));
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    int getDomainCount() {
+        int count = 0;
+        for (final Shard shard : this.shards) {
+            synchronized (shard) {
+                count += shard.domains.size();
+            }
+        }
+        return count;
+    }
+
+    int getExporterCount() {
+        int count = 0;
+        for (final Shard shard : this.shards) {
+            synchronized (shard) {
+                count += shard.exporters.size();
+            }
+        }
+        return count;
+    }
+
+    private Shard shard(final SessionKey sessionKey) {
+        final int hash = Objects.hashCode(sessionKey.getRemoteAddress());
+        return this.shards[(hash ^ (hash >>> 16)) & (this.shards.length - 1)];
+    }
+
     public interface SessionKey {
         String getDescription();
 
@@ -199,38 +314,232 @@ public class UdpSessionManager {
         }
     }
 
+    /**
+     * The templates and sequence numbers of one observation domain of a session.
+     */
+    private static final class Domain {
+        private final DomainKey key;
+        private final Exporter exporter;
+        private final Map<Integer, TemplateEntry> templates = new HashMap<>();
+        private SequenceNumberTracker sequenceNumbers;
+        private long lastUsed;
+
+        private Domain(final DomainKey key, final Exporter exporter) {
+            this.key = key;
+            this.exporter = exporter;
+        }
+    }
+
+    private static final class Exporter {
+        private final InetAddress address;
+        private final Counter hits;
+        private final Counter misses;
+        private int domainCount;
+
+        private Exporter(final InetAddress address, final Counter hits, final Counter misses) {
+            this.address = address;
+            this.hits = hits;
+            this.misses = misses;
+        }
+    }
+
+    private static final class TemplateEntry {
+        private final Domain domain;
+        private final int templateId;
+        private TimeWrapper<TemplateOptions> value;
+        private long deadline;
+        private boolean removed;
+
+        private TemplateEntry(final Domain domain, final int templateId) {
+            this.domain = domain;
+            this.templateId = templateId;
+        }
+    }
+
+    private final class Shard {
+        private final Map<DomainKey, Domain> domains = new HashMap<>();
+        private final Map<InetAddress, Exporter> exporters = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private final List<TemplateEntry>[] wheel = new List[WHEEL_SLOTS];
+        private long lastTick;
+
+        private volatile int templateCount;
+
+        private Shard(final long tick) {
+            this.lastTick = tick;
+        }
+
+        private Domain domain(final DomainKey key) {
+            final Domain domain = this.domains.computeIfAbsent(key, k -> {
+                final Exporter exporter = this.exporter(k.sessionKey.getRemoteAddress());
+                exporter.domainCount++;
+                return new Domain(k, exporter);
+            });
+            domain.lastUsed = UdpSessionManager.this.clock.getAsLong();
+            return domain;
+        }
+
+        private Exporter exporter(final InetAddress address) {
+            return this.exporters.computeIfAbsent(address, a -> {
+                if (UdpSessionManager.this.metrics == null) {
+                    return new Exporter(a, new Counter(), new Counter());
+                }
+                return new Exporter(a,
+                        UdpSessionManager.this.metrics.counter(metricName(a, "hits")),
+                        UdpSessionManager.this.metrics.counter(metricName(a, "misses")));
+            });
+        }
+
+        private String metricName(final InetAddress address, final String name) {
+            return MetricRegistry.name(UdpSessionManager.this.metricsPrefix, "templates", address != null ? address.getHostAddress() : "unknown", name);
+        }
+
+        /**
+         * Drops the domains which have neither templates nor have been used within the timeout, and the exporters
+         * which are left without domains.
+         */
+        private void removeIdle(final long now) {
+            final long idleBefore = now - UdpSessionManager.this.timeout.toMillis();
+            final Iterator<Domain> it = this.domains.values().iterator();
+            while (it.hasNext()) {
+                final Domain domain = it.next();
+                if (!domain.templates.isEmpty() || domain.lastUsed > idleBefore) {
+                    continue;
+                }
+                it.remove();
+
+                final Exporter exporter = domain.exporter;
+                if (--exporter.domainCount == 0) {
+                    this.exporters.remove(exporter.address);
+                    if (UdpSessionManager.this.metrics != null) {
+                        UdpSessionManager.this.metrics.remove(metricName(exporter.address, "hits"));
+                        UdpSessionManager.this.metrics.remove(metricName(exporter.address, "misses"));
+                    }
+                }
+            }
+        }
+
+        private void addTemplate(final DomainKey key, final Template template) {
+            final Domain domain = this.domain(key);
+            TemplateEntry entry = domain.templates.get(template.id);
+            if (entry == null) {
+                entry = new TemplateEntry(domain, template.id);
+                entry.value = new TimeWrapper<>(new TemplateOptions(template));
+                domain.templates.put(template.id, entry);
+                this.templateCount++;
+                entry.deadline = UdpSessionManager.this.clock.getAsLong() + UdpSessionManager.this.timeout.toMillis();
+                this.schedule(entry);
+            } else {
+                // preserve the old option values, the entry is moved to its new slot once the old one comes up
+                entry.value = new TimeWrapper<>(new TemplateOptions(template, entry.value.wrapped.options));
+                entry.deadline = UdpSessionManager.this.clock.getAsLong() + UdpSessionManager.this.timeout.toMillis();
+            }
+        }
+
+        private void removeTemplatesIf(final Domain domain, final Predicate<TemplateEntry> predicate) {
+            final Iterator<TemplateEntry> it = domain.templates.values().iterator();
+            while (it.hasNext()) {
+                final TemplateEntry entry = it.next();
+                if (predicate.test(entry)) {
+                    it.remove();
+                    entry.removed = true;
+                    this.templateCount--;
+                }
+            }
+        }
+
+        private void schedule(final TemplateEntry entry) {
+            final long tick = Math.max(entry.deadline / UdpSessionManager.this.tickMs, this.lastTick);
+            final int slot = (int) (tick & WHEEL_MASK);
+            if (this.wheel[slot] == null) {
+                this.wheel[slot] = new ArrayList<>();
+            }
+            this.wheel[slot].add(entry);
+        }
+
+        private void expire(final long now) {
+            final long nowTick = now / UdpSessionManager.this.tickMs;
+            // The last visited tick is visited again as templates may have been filed under it since
+            final long first = nowTick - this.lastTick >= WHEEL_SLOTS ? nowTick - WHEEL_SLOTS + 1 : this.lastTick;
+            this.lastTick = nowTick;
+
+            for (long tick = first; tick <= nowTick; tick++) {
+                final int slot = (int) (tick & WHEEL_MASK);
+                final List<TemplateEntry> entries = this.wheel[slot];
+                if (entries == null) {
+                    continue;
+                }
+
+                this.wheel[slot] = null;
+                List<TemplateEntry> retained = null;
+                for (final TemplateEntry entry : entries) {
+                    if (entry.removed) {
+                        continue;
+                    }
+                    if (entry.deadline <= now) {
+                        entry.domain.templates.remove(entry.templateId);
+                        entry.removed = true;
+                        this.templateCount--;
+                    } else if (((entry.deadline / UdpSessionManager.this.tickMs) & WHEEL_MASK) == slot) {
+                        if (retained == null) {
+                            retained = new ArrayList<>();
+                        }
+                        retained.add(entry);
+                    } else {
+                        this.schedule(entry);
+                    }
+                }
+                if (retained != null) {
+                    if (this.wheel[slot] != null) {
+                        retained.addAll(this.wheel[slot]);
+                    }
+                    this.wheel[slot] = retained;
+                }
+            }
+
+            this.removeIdle(now);
+        }
+    }
+
     private final class UdpSession implements Session {
         private final SessionKey sessionKey;
+        private final Shard shard;
 
         public UdpSession(final SessionKey sessionKey) {
             this.sessionKey = Objects.requireNonNull(sessionKey);
+            this.shard = UdpSessionManager.this.shard(sessionKey);
+        }
+
+        private DomainKey key(final long observationDomainId) {
+            return new DomainKey(this.sessionKey, observationDomainId);
         }
 
         @Override
         public void addTemplate(final long observationDomainId, final Template template) {
-            final TemplateKey key = new TemplateKey(this.sessionKey, observationDomainId, template.id);
-            UdpSessionManager.this.templates.compute(key, (k, wrapper) -> {
-                TemplateOptions newTemplateOptions;
-                if (wrapper == null) {
-                    newTemplateOptions = new TemplateOptions(template);
-                } else {
-                    // preserve the old option values
-                    newTemplateOptions = new TemplateOptions(template, wrapper.wrapped.options);
-                }
-                return new TimeWrapper<>(newTemplateOptions);
-            });
+            synchronized (this.shard) {
+                this.shard.addTemplate(this.key(observationDomainId), template);
+            }
         }
 
         @Override
         public void removeTemplate(final long observationDomainId, final int templateId) {
-            final TemplateKey key = new TemplateKey(this.sessionKey, observationDomainId, templateId);
-            UdpSessionManager.this.templates.remove(key);
+            synchronized (this.shard) {
+                final Domain domain = this.shard.domains.get(this.key(observationDomainId));
+                if (domain != null) {
+                    this.shard.removeTemplatesIf(domain, e -> e.templateId == templateId);
+                }
+            }
         }
 
         @Override
         public void removeAllTemplate(final long observationDomainId, final Template.Type type) {
-            final DomainKey domainKey = new DomainKey(this.sessionKey, observationDomainId);
-            UdpSessionManager.this.removeTemplateIf(e -> domainKey.equals(e.getKey().observationDomainId) && e.getValue().wrapped.template.type == type);
+            synchronized (this.shard) {
+                final Domain domain = this.shard.domains.get(this.key(observationDomainId));
+                if (domain != null) {
+                    this.shard.removeTemplatesIf(domain, e -> e.value.wrapped.template.type == type);
+                }
+            }
         }
 
         @Override
@@ -238,13 +547,16 @@ public class UdpSessionManager {
                                final int templateId,
                                final Collection<Value<?>> scopes,
                                final List<Value<?>> values) {
-            final TemplateKey key = new TemplateKey(this.sessionKey, observationDomainId, templateId);
-            UdpSessionManager.this.templates.get(key).wrapped.options.put(new HashSet<>(scopes), new TimeWrapper<>(values));
+            synchronized (this.shard) {
+                final Domain domain = this.shard.domains.get(this.key(observationDomainId));
+                final TemplateEntry entry = domain != null ? domain.templates.get(templateId) : null;
+                Objects.requireNonNull(entry, "No template for options").value.wrapped.options.put(new HashSet<>(scopes), new TimeWrapper<>(values));
+            }
         }
 
         @Override
         public Session.Resolver getResolver(final long observationDomainId) {
-            return new Resolver(observationDomainId);
+            return new Resolver(this.key(observationDomainId));
         }
 
         @Override
@@ -254,30 +566,38 @@ public class UdpSessionManager {
 
         @Override
         public boolean verifySequenceNumber(final long observationDomainId, final long sequenceNumber) {
-            final DomainKey key = new DomainKey(this.sessionKey, observationDomainId);
-            final SequenceNumberTracker tracker = UdpSessionManager.this.sequenceNumbers.computeIfAbsent(key, (k) -> UdpSessionManager.this.sequenceNumberTracker.get());
+            final SequenceNumberTracker tracker;
+            synchronized (this.shard) {
+                final Domain domain = this.shard.domain(this.key(observationDomainId));
+                if (domain.sequenceNumbers == null) {
+                    domain.sequenceNumbers = UdpSessionManager.this.sequenceNumberTracker.get();
+                }
+                tracker = domain.sequenceNumbers;
+            }
             return tracker.verify(sequenceNumber);
         }
 
         private final class Resolver implements Session.Resolver {
-            private final long observationDomainId;
-
-            private Resolver(final long observationDomainId) {
-                this.observationDomainId = observationDomainId;
-            }
+            private final DomainKey domainKey;
 
-            private TemplateKey key(final int templateId) {
-                return new TemplateKey(UdpSession.this.sessionKey, this.observationDomainId, templateId);
+            private Resolver(final DomainKey domainKey) {
+                this.domainKey = domainKey;
             }
 
             @Override
             public Template lookupTemplate(final int templateId) throws MissingTemplateException {
-                final TimeWrapper<TemplateOptions> templateOptions = UdpSessionManager.this.templates.get(key(templateId));
-                if (templateOptions != null) {
-                    return templateOptions.wrapped.template;
-                } else {
-                    throw new MissingTemplateException(templateId);
+                final Template template;
+                synchronized (UdpSession.this.shard) {
+                    final Domain domain = UdpSession.this.shard.domain(this.domainKey);
+                    final TemplateEntry entry = domain.templates.get(templateId);
+                    if (entry == null) {
+                        domain.exporter.misses.inc();
+                        throw new MissingTemplateException(templateId);
+                    }
+                    domain.exporter.hits.inc();
+                    template = entry.value.wrapped.template;
                 }
+                return template;
             }
 
             @Override
@@ -286,22 +606,26 @@ public class UdpSessionManager {
 
                 final Set<String> scoped = values.stream().map(Value::getName).collect(Collectors.toSet());
 
-                for (final var e : Iterables.filter(UdpSessionManager.this.templates.entrySet(),
-                        e -> Objects.equals(e.getKey().observationDomainId.sessionKey, UdpSession.this.sessionKey) &&
-                                Objects.equals(e.getKey().observationDomainId.observationDomainId, this.observationDomainId))) {
+                synchronized (UdpSession.this.shard) {
+                    final Domain domain = UdpSession.this.shard.domains.get(this.domainKey);
+                    if (domain == null) {
+                        return new ArrayList<>();
+                    }
 
-                    final Template template = e.getValue().wrapped.template;
+                    for (final TemplateEntry entry : domain.templates.values()) {
+                        final Template template = entry.value.wrapped.template;
 
-                    if (scoped.containsAll(template.scopeNames)) {
-                        // Found option template where scoped fields is subset of actual data fields
-                        final Set<Value<?>> scopeValues = values.stream()
-                                .filter(s -> template.scopeNames.contains(s.getName()))
-                                .collect(Collectors.toSet());
+                        if (scoped.containsAll(template.scopeNames)) {
+                            // Found option template where scoped fields is subset of actual data fields
+                            final Set<Value<?>> scopeValues = values.stream()
+                                    .filter(s -> template.scopeNames.contains(s.getName()))
+                                    .collect(Collectors.toSet());
 
-                        final TimeWrapper<List<Value<?>>> optionValues = e.getValue().wrapped.options.get(scopeValues);
-                        if (optionValues != null) {
-                            for (final Value<?> value : optionValues.wrapped) {
-                                options.put(value.getName(), value);
+                            final TimeWrapper<List<Value<?>>> optionValues = entry.value.wrapped.options.get(scopeValues);
+                            if (optionValues != null) {
+                                for (final Value<?> value : optionValues.wrapped) {
+                                    options.put(value.getName(), value);
+                                }
                             }
                         }
                     }
@@ -22,9 +22,6 @@
 package org.opennms.netmgt.telemetry.protocols.netflow.parser.transport;
 
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.first;
-import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getInetAddress;
-import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getLongValue;
-import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getTime;
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getUInt32Value;
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getUInt64Value;
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.setDoubleValue;
@@ -36,7 +33,7 @@ import java.time.Instant;
 import java.util.Optional;
 
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
-import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldCursor;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.Direction;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.FlowMessage;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.NetflowVersion;
@@ -55,7 +52,7 @@ public class IpFixMessageBuilder implements MessageBuilder {
     }
 
     @Override
-    public FlowMessage.Builder buildMessage(final Iterable<Value<?>> values, final RecordEnrichment enrichment) {
+    public FlowMessage.Builder buildMessage(final FieldCursor fields, final RecordEnrichment enrichment) {
         final FlowMessage.Builder builder = FlowMessage.newBuilder();
         builder.setDirection(Direction.UNKNOWN);
 
@@ -123,28 +120,28 @@ public class IpFixMessageBuilder implements MessageBuilder {
         UInt32Value outputSnmp = null;
 
 
-        for (Value<?> value : values) {
-            switch (value.getName()) {
+        while (fields.next()) {
+            switch (fields.getName()) {
                 case "@exportTime":
-                    exportTime = getLongValue(value);
+                    exportTime = fields.getLongValue();
                     break;
                 case "octetDeltaCount":
-                    octetDeltaCount = getLongValue(value);
+                    octetDeltaCount = fields.getLongValue();
                     break;
                 case "postOctetDeltaCount":
-                    postOctetDeltaCount = getLongValue(value);
+                    postOctetDeltaCount = fields.getLongValue();
                     break;
                 case "layer2OctetDeltaCount":
-                    layer2OctetDeltaCount = getLongValue(value);
+                    layer2OctetDeltaCount = fields.getLongValue();
                     break;
                 case "postLayer2OctetDeltaCount":
-                    postLayer2OctetDeltaCount = getLongValue(value);
+                    postLayer2OctetDeltaCount = fields.getLongValue();
                     break;
                 case "transportOctetDeltaCount":
-                    transportOctetDeltaCount = getLongValue(value);
+                    transportOctetDeltaCount = fields.getLongValue();
                     break;
                 case "flowDirection":
-                    Long directionValue = getLongValue(value);
+                    Long directionValue = fields.getLongValue();
                     Direction direction = Direction.UNKNOWN;
                     if (directionValue != null) {
                         switch (directionValue.intValue()) {
@@ -159,214 +156,214 @@ public class IpFixMessageBuilder implements MessageBuilder {
                     builder.setDirection(direction);
                     break;
                 case "destinationIPv6Address":
-                    destinationIPv6Address = getInetAddress(value);
+                    destinationIPv6Address = fields.getInetAddress();
                     break;
                 case "destinationIPv4Address":
-                    destinationIPv4Address = getInetAddress(value);
+                    destinationIPv4Address = fields.getInetAddress();
                     break;
                 case "bgpDestinationAsNumber":
-                    getUInt64Value(value).ifPresent(builder::setDstAs);
+                    getUInt64Value(fields.getLongValue()).ifPresent(builder::setDstAs);
                     break;
                 case "destinationIPv6PrefixLength":
-                    destinationIPv6PrefixLength = getLongValue(value);
+                    destinationIPv6PrefixLength = fields.getLongValue();
                     break;
                 case "destinationIPv4PrefixLength":
-                    destinationIPv4PrefixLength = getLongValue(value);
+                    destinationIPv4PrefixLength = fields.getLongValue();
                     break;
                 case "destinationTransportPort":
-                    getUInt32Value(value).ifPresent(builder::setDstPort);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setDstPort);
                     break;
                 case "engineId":
-                    getUInt32Value(value).ifPresent(builder::setEngineId);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setEngineId);
                     break;
                 case "engineType":
-                    getUInt32Value(value).ifPresent(builder::setEngineType);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setEngineType);
                     break;
                 case "@recordCount":
-                    getUInt32Value(value).ifPresent(builder::setNumFlowRecords);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setNumFlowRecords);
                     break;
                 case "@sequenceNumber":
-                    getUInt64Value(value).ifPresent(builder::setFlowSeqNum);
+                    getUInt64Value(fields.getLongValue()).ifPresent(builder::setFlowSeqNum);
                     break;
                 case "ingressInterface":
-                    inputSnmp = getUInt32Value(value).orElse(null);
+                    inputSnmp = getUInt32Value(fields.getLongValue()).orElse(null);
                     break;
                 case "ipVersion":
-                    Long ipVersion = getLongValue(value);
+                    Long ipVersion = fields.getLongValue();
                     if (ipVersion != null) {
                         builder.setIpProtocolVersion(setIntValue(ipVersion.intValue()));
                     }
                     break;
                 case "egressInterface":
-                    outputSnmp = getUInt32Value(value).orElse(null);
+                    outputSnmp = getUInt32Value(fields.getLongValue()).orElse(null);
                     break;
                 case "protocolIdentifier":
-                    getUInt32Value(value).ifPresent(builder::setProtocol);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setProtocol);
                     break;
                 case "tcpControlBits":
-                    getUInt32Value(value).ifPresent(builder::setTcpFlags);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setTcpFlags);
                     break;
                 case "ipClassOfService":
-                    getUInt32Value(value).ifPresent(builder::setTos);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setTos);
                     break;
                 case "@observationDomainId":
-                    Long observationDomainId = getLongValue(value);
+                    Long observationDomainId = fields.getLongValue();
                     if (observationDomainId != null) {
                         builder.setNodeIdentifier(String.valueOf(observationDomainId));
                     }
                     break;
 
                 case "flowStartSeconds":
-                    flowStartSeconds = getTime(value);
+                    flowStartSeconds = fields.getTime();
                     break;
                 case "flowStartMilliseconds":
-                    flowStartMilliseconds = getTime(value);
+                    flowStartMilliseconds = fields.getTime();
                     break;
                 case "flowStartMicroseconds":
-                    flowStartMicroseconds = getTime(value);
+                    flowStartMicroseconds = fields.getTime();
                     break;
                 case "flowStartNanoseconds":
-                    flowStartNanoseconds = getTime(value);
+                    flowStartNanoseconds = fields.getTime();
                     break;
                 case "flowStartDeltaMicroseconds":
-                    flowStartDeltaMicroseconds = getLongValue(value);
+                    flowStartDeltaMicroseconds = fields.getLongValue();
                     break;
                 case "flowStartSysUpTime":
-                    flowStartSysUpTime = getLongValue(value);
+                    flowStartSysUpTime = fields.getLongValue();
                     break;
                 case "systemInitTimeMilliseconds":
-                    systemInitTimeMilliseconds = getTime(value);
+                    systemInitTimeMilliseconds = fields.getTime();
                     break;
                 case "flowEndSeconds":
-                    flowEndSeconds = getTime(value);
+                    flowEndSeconds = fields.getTime();
                     break;
                 case "flowEndMilliseconds":
-                    flowEndMilliseconds = getTime(value);
+                    flowEndMilliseconds = fields.getTime();
                     break;
                 case "flowEndMicroseconds":
-                    flowEndMicroseconds = getTime(value);
+                    flowEndMicroseconds = fields.getTime();
                     break;
                 case "flowEndNanoseconds":
-                    flowEndNanoseconds = getTime(value);
+                    flowEndNanoseconds = fields.getTime();
                 case "flowEndDeltaMicroseconds":
-                    flowEndDeltaMicroseconds = getLongValue(value);
+                    flowEndDeltaMicroseconds = fields.getLongValue();
                     break;
                 case "flowEndSysUpTime":
-                    flowEndSysUpTime = getLongValue(value);
+                    flowEndSysUpTime = fields.getLongValue();
                     break;
                 case "ipNextHopIPv6Address":
-                    ipNextHopIPv6Address = getInetAddress(value);
+                    ipNextHopIPv6Address = fields.getInetAddress();
                     break;
                 case "ipNextHopIPv4Address":
-                    ipNextHopIPv4Address = getInetAddress(value);
+                    ipNextHopIPv4Address = fields.getInetAddress();
                     break;
                 case "bgpNextHopIPv6Address":
-                    bgpNextHopIPv6Address = getInetAddress(value);
+                    bgpNextHopIPv6Address = fields.getInetAddress();
                     break;
                 case "bgpNextHopIPv4Address":
-                    bgpNextHopIPv4Address = getInetAddress(value);
+                    bgpNextHopIPv4Address = fields.getInetAddress();
                     break;
                 case "packetDeltaCount":
-                    packetDeltaCount = getLongValue(value);
+                    packetDeltaCount = fields.getLongValue();
                     break;
                 case "postPacketDeltaCount":
-                    postPacketDeltaCount = getLongValue(value);
+                    postPacketDeltaCount = fields.getLongValue();
                     break;
                 case "transportPacketDeltaCount":
-                    transportPacketDeltaCount = getLongValue(value);
+                    transportPacketDeltaCount = fields.getLongValue();
                     break;
                 case "samplingAlgorithm":
-                    samplingAlgorithm = getLongValue(value);
+                    samplingAlgorithm = fields.getLongValue();
                     break;
                 case "samplerMode":
-                    samplerMode = getLongValue(value);
+                    samplerMode = fields.getLongValue();
                     break;
                 case "selectorAlgorithm":
-                    selectorAlgorithm = getLongValue(value);
+                    selectorAlgorithm = fields.getLongValue();
                     break;
                 case "samplingInterval":
-                    samplingInterval = getLongValue(value);
+                    samplingInterval = fields.getLongValue();
                     break;
                 case "samplerRandomInterval":
-                    samplerRandomInterval = getLongValue(value);
+                    samplerRandomInterval = fields.getLongValue();
                     break;
                 case "samplingFlowInterval":
-                    samplingFlowInterval = getLongValue(value);
+                    samplingFlowInterval = fields.getLongValue();
                     break;
                 case "samplingFlowSpacing":
-                    samplingFlowSpacing = getLongValue(value);
+                    samplingFlowSpacing = fields.getLongValue();
                     break;
                 case "flowSamplingTimeInterval":
-                    flowSamplingTimeInterval = getLongValue(value);
+                    flowSamplingTimeInterval = fields.getLongValue();
                     break;
                 case "flowSamplingTimeSpacing":
-                    flowSamplingTimeSpacing = getLongValue(value);
+                    flowSamplingTimeSpacing = fields.getLongValue();
                     break;
                 case "samplingSize":
-                    samplingSize = getLongValue(value);
+                    samplingSize = fields.getLongValue();
                     break;
                 case "samplingPopulation":
-                    samplingPopulation = getLongValue(value);
+                    samplingPopulation = fields.getLongValue();
                     break;
                 case "samplingProbability":
-                    samplingProbability = getLongValue(value);
+                    samplingProbability = fields.getLongValue();
                     break;
                 case "hashSelectedRangeMin":
-                    hashSelectedRangeMin = getLongValue(value);
+                    hashSelectedRangeMin = fields.getLongValue();
                     break;
                 case "hashSelectedRangeMax":
-                    hashSelectedRangeMax = getLongValue(value);
+                    hashSelectedRangeMax = fields.getLongValue();
                     break;
                 case "hashOutputRangeMin":
-                    hashOutputRangeMin = getLongValue(value);
+                    hashOutputRangeMin = fields.getLongValue();
                     break;
                 case "hashOutputRangeMax":
-                    hashOutputRangeMax = getLongValue(value);
+                    hashOutputRangeMax = fields.getLongValue();
                     break;
                 case "sourceIPv6Address":
-                    sourceIPv6Address = getInetAddress(value);
+                    sourceIPv6Address = fields.getInetAddress();
                     break;
                 case "sourceIPv4Address":
-                    sourceIPv4Address = getInetAddress(value);
+                    sourceIPv4Address = fields.getInetAddress();
                     break;
                 case "sourceIPv6PrefixLength":
-                    sourceIPv6PrefixLength = getLongValue(value);
+                    sourceIPv6PrefixLength = fields.getLongValue();
                     break;
                 case "sourceIPv4PrefixLength":
-                    sourceIPv4PrefixLength = getLongValue(value);
+                    sourceIPv4PrefixLength = fields.getLongValue();
                     break;
                 case "sourceTransportPort":
-                    getUInt32Value(value).ifPresent(builder::setSrcPort);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setSrcPort);
                     break;
                 case "vlanId":
-                    vlanId = getLongValue(value);
+                    vlanId = fields.getLongValue();
                     break;
                 case "postVlanId":
-                    postVlanId = getLongValue(value);
+                    postVlanId = fields.getLongValue();
                     break;
                 case "dot1qVlanId":
-                    dot1qVlanId = getLongValue(value);
+                    dot1qVlanId = fields.getLongValue();
                     break;
                 case "dot1qCustomerVlanId":
-                    dot1qCustomerVlanId = getLongValue(value);
+                    dot1qCustomerVlanId = fields.getLongValue();
                     break;
                 case "postDot1qVlanId":
-                    postDot1qVlanId = getLongValue(value);
+                    postDot1qVlanId = fields.getLongValue();
                     break;
                 case "postDot1qCustomerVlanId":
-                    postDot1qCustomerVlanId = getLongValue(value);
+                    postDot1qCustomerVlanId = fields.getLongValue();
                     break;
                 case "flowActiveTimeout":
-                    flowActiveTimeout = getLongValue(value);
+                    flowActiveTimeout = fields.getLongValue();
                     break;
                 case "flowInactiveTimeout":
-                    flowInactiveTimeout = getLongValue(value);
+                    flowInactiveTimeout = fields.getLongValue();
                     break;
                 case "ingressPhysicalInterface":
-                    ingressPhysicalInterface = getUInt32Value(value).orElse(null);
+                    ingressPhysicalInterface = getUInt32Value(fields.getLongValue()).orElse(null);
                     break;
                 case "egressPhysicalInterface":
-                    egressPhysicalInterface = getUInt32Value(value).orElse(null);
+                    egressPhysicalInterface = getUInt32Value(fields.getLongValue()).orElse(null);
                     break;
             }
         }
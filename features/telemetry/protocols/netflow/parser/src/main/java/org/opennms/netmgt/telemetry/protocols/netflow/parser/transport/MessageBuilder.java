@@ -22,9 +22,15 @@
 package org.opennms.netmgt.telemetry.protocols.netflow.parser.transport;
 
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldCursor;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldRecord;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.FlowMessage;
 
 public interface MessageBuilder {
-    FlowMessage.Builder buildMessage(final Iterable<Value<?>> values, final RecordEnrichment enrichment);
+    FlowMessage.Builder buildMessage(final FieldCursor fields, final RecordEnrichment enrichment);
+
+    default FlowMessage.Builder buildMessage(final Iterable<Value<?>> values, final RecordEnrichment enrichment) {
+        return this.buildMessage(FieldRecord.of(values).fields(), enrichment);
+    }
 }
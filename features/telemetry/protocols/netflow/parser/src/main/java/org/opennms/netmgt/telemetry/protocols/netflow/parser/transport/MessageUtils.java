@@ -83,11 +83,7 @@ public interface MessageUtils {
 
 
     static Optional<UInt64Value> getUInt64Value(Value<?> value) {
-        Long longValue = getLongValue(value);
-        if (longValue != null) {
-            return Optional.of(UInt64Value.newBuilder().setValue(longValue).build());
-        }
-        return Optional.empty();
+        return getUInt64Value(getLongValue(value));
     }
 
     static Optional<UInt64Value> getUInt64Value(Long value) {
@@ -99,18 +95,24 @@ public interface MessageUtils {
 
 
     static Optional<UInt32Value> getUInt32Value(Value<?> value) {
-        Long longValue = getLongValue(value);
-        if (longValue != null) {
-            return Optional.of(UInt32Value.newBuilder().setValue(longValue.intValue()).build());
+        return getUInt32Value(getLongValue(value));
+    }
+
+    static Optional<UInt32Value> getUInt32Value(Long value) {
+        if (value != null) {
+            return Optional.of(UInt32Value.newBuilder().setValue(value.intValue()).build());
         }
         return Optional.empty();
     }
 
 
     static Optional<DoubleValue> getDoubleValue(Value<?> value) {
-        Long longValue = getLongValue(value);
-        if (longValue != null) {
-            return Optional.of(DoubleValue.newBuilder().setValue(longValue.doubleValue()).build());
+        return getDoubleValue(getLongValue(value));
+    }
+
+    static Optional<DoubleValue> getDoubleValue(Long value) {
+        if (value != null) {
+            return Optional.of(DoubleValue.newBuilder().setValue(value.doubleValue()).build());
         }
         return Optional.empty();
     }
@@ -22,10 +22,7 @@
 package org.opennms.netmgt.telemetry.protocols.netflow.parser.transport;
 
 
-import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getBooleanValue;
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getDoubleValue;
-import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getInetAddress;
-import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getLongValue;
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getUInt32Value;
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.getUInt64Value;
 import static org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageUtils.setLongValue;
@@ -34,7 +31,7 @@ import java.net.InetAddress;
 import java.time.Duration;
 
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
-import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldCursor;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.Direction;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.FlowMessage;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.NetflowVersion;
@@ -42,7 +39,7 @@ import org.opennms.netmgt.telemetry.protocols.netflow.transport.SamplingAlgorith
 
 public class Netflow5MessageBuilder implements MessageBuilder {
     @Override
-    public FlowMessage.Builder buildMessage(final Iterable<Value<?>> values, final RecordEnrichment enrichment) {
+    public FlowMessage.Builder buildMessage(final FieldCursor fields, final RecordEnrichment enrichment) {
         final FlowMessage.Builder builder = FlowMessage.newBuilder();
 
         long unixSecs = 0;
@@ -54,92 +51,92 @@ public class Netflow5MessageBuilder implements MessageBuilder {
         InetAddress dstAddr = null;
         InetAddress nextHop = null;
 
-        for (Value<?> value : values) {
-            switch (value.getName()) {
+        while (fields.next()) {
+            switch (fields.getName()) {
                 case "@count":
-                    getUInt32Value(value).ifPresent(builder::setNumFlowRecords);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setNumFlowRecords);
                     break;
                 case "@unixSecs":
-                    unixSecs = getLongValue(value);
+                    unixSecs = fields.getLongValue();
                     break;
                 case "@unixNSecs":
-                    unixNSecs = getLongValue(value);
+                    unixNSecs = fields.getLongValue();
                     break;
                 case "@sysUptime":
-                    sysUpTime = getLongValue(value);
+                    sysUpTime = fields.getLongValue();
                     break;
                 case "@flowSequence":
-                    getUInt64Value(value).ifPresent(builder::setFlowSeqNum);
+                    getUInt64Value(fields.getLongValue()).ifPresent(builder::setFlowSeqNum);
                     break;
                 case "@engineType":
-                    getUInt32Value(value).ifPresent(builder::setEngineType);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setEngineType);
                     break;
                 case "@engineId":
-                    getUInt32Value(value).ifPresent(builder::setEngineId);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setEngineId);
                     break;
                 case "@samplingAlgorithm":
-                builder.setSamplingAlgorithm(getSamplingAlgorithm(value));
+                builder.setSamplingAlgorithm(getSamplingAlgorithm(fields.getLongValue()));
                     break;
                 case "@samplingInterval":
-                    getDoubleValue(value).ifPresent(builder::setSamplingInterval);
+                    getDoubleValue(fields.getLongValue()).ifPresent(builder::setSamplingInterval);
                     break;
 
                 case "srcAddr":
-                    srcAddr = getInetAddress(value);
+                    srcAddr = fields.getInetAddress();
                     break;
                 case "dstAddr":
-                    dstAddr = getInetAddress(value);
+                    dstAddr = fields.getInetAddress();
                     break;
                 case "nextHop":
-                    nextHop = getInetAddress(value);
+                    nextHop = fields.getInetAddress();
                     break;
                 case "input":
-                    getUInt32Value(value).ifPresent(builder::setInputSnmpIfindex);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setInputSnmpIfindex);
                     break;
                 case "output":
-                    getUInt32Value(value).ifPresent(builder::setOutputSnmpIfindex);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setOutputSnmpIfindex);
                     break;
                 case "dPkts":
-                    getUInt64Value(value).ifPresent(builder::setNumPackets);
+                    getUInt64Value(fields.getLongValue()).ifPresent(builder::setNumPackets);
                     break;
                 case "dOctets":
-                    getUInt64Value(value).ifPresent(builder::setNumBytes);
+                    getUInt64Value(fields.getLongValue()).ifPresent(builder::setNumBytes);
                     break;
                 case "first":
-                    first = getLongValue(value);
+                    first = fields.getLongValue();
                     break;
                 case "last":
-                    last = getLongValue(value);
+                    last = fields.getLongValue();
                     break;
                 case "srcPort":
-                    getUInt32Value(value).ifPresent(builder::setSrcPort);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setSrcPort);
                     break;
                 case "dstPort":
-                    getUInt32Value(value).ifPresent(builder::setDstPort);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setDstPort);
                     break;
                 case "tcpFlags":
-                    getUInt32Value(value).ifPresent(builder::setTcpFlags);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setTcpFlags);
                     break;
                 case "proto":
-                    getUInt32Value(value).ifPresent(builder::setProtocol);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setProtocol);
                     break;
                 case "srcAs":
-                    getUInt64Value(value).ifPresent(builder::setSrcAs);
+                    getUInt64Value(fields.getLongValue()).ifPresent(builder::setSrcAs);
                     break;
                 case "dstAs":
-                    getUInt64Value(value).ifPresent(builder::setDstAs);
+                    getUInt64Value(fields.getLongValue()).ifPresent(builder::setDstAs);
                     break;
                 case "tos":
-                    getUInt32Value(value).ifPresent(builder::setTos);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setTos);
                     break;
                 case "srcMask":
-                    getUInt32Value(value).ifPresent(builder::setSrcMaskLen);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setSrcMaskLen);
                     break;
                 case "dstMask":
-                    getUInt32Value(value).ifPresent(builder::setDstMaskLen);
+                    getUInt32Value(fields.getLongValue()).ifPresent(builder::setDstMaskLen);
                     break;
                 case "egress":
-                    boolean egress = getBooleanValue(value);
+                    boolean egress = fields.getBooleanValue();
                     Direction direction = egress ? Direction.EGRESS : Direction.INGRESS;
                     builder.setDirection(direction);
                     break;
@@ -172,8 +169,7 @@ public class Netflow5MessageBuilder implements MessageBuilder {
         return builder;
     }
 
-    private static SamplingAlgorithm getSamplingAlgorithm(final Value<?> value) {
-        Long saValue = getLongValue(value);
+    private static SamplingAlgorithm getSamplingAlgorithm(final Long saValue) {
         SamplingAlgorithm samplingAlgorithm = SamplingAlgorithm.UNASSIGNED;
         if (saValue != null) {
             switch (saValue.intValue()) {
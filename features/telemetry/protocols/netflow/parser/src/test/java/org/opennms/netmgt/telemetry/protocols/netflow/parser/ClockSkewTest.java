@@ -33,7 +33,7 @@ import org.opennms.distributed.core.api.Identity;
 import org.opennms.netmgt.dnsresolver.api.DnsResolver;
 import org.opennms.netmgt.events.api.EventForwarder;
 import org.opennms.netmgt.telemetry.api.receiver.TelemetryMessage;
-import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.FieldCursor;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageBuilder;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.FlowMessage;
 import org.opennms.netmgt.xml.event.Event;
@@ -170,7 +170,7 @@ public class ClockSkewTest {
         protected MessageBuilder getMessageBuilder() {
             return new MessageBuilder() {
                 @Override
-                public FlowMessage.Builder buildMessage(final Iterable<Value<?>> values, final RecordEnrichment enrichment) {
+                public FlowMessage.Builder buildMessage(final FieldCursor fields, final RecordEnrichment enrichment) {
                     return FlowMessage.newBuilder();
                 }
             };
@@ -0,0 +1,116 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.opennms.netmgt.telemetry.listeners.utils.BufferUtils.slice;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Packet;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.SequenceNumberTracker;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.TcpSession;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.Netflow9MessageBuilder;
+import org.opennms.netmgt.telemetry.protocols.netflow.transport.FlowMessage;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Verifies that decoding data sets in place yields the same flow messages as parsing them into values.
+ */
+@RunWith(Parameterized.class)
+public class FlyweightDataSetTest {
+    private final static Path FOLDER = Paths.get("src/test/resources/flows");
+
+    private final static RecordEnrichment ENRICHMENT = address -> Optional.empty();
+
+    @Parameterized.Parameters(name = "file: {0}")
+    public static Iterable<Object[]> data() throws IOException {
+        return BlackboxTest.data();
+    }
+
+    private final List<String> files;
+
+    public FlyweightDataSetTest(final List<String> files) {
+        this.files = files;
+    }
+
+    @Test
+    public void testEquivalentMessages() throws Exception {
+        final Session valueSession = new TcpSession(InetAddress.getLoopbackAddress(), () -> new SequenceNumberTracker(32));
+        final Session flyweightSession = new TcpSession(InetAddress.getLoopbackAddress(), () -> new SequenceNumberTracker(32));
+
+        final Netflow9MessageBuilder messageBuilder = new Netflow9MessageBuilder();
+
+        for (final String file : this.files) {
+            try (final FileChannel channel = FileChannel.open(FOLDER.resolve(file))) {
+                final ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+                channel.read(buffer);
+                buffer.flip();
+
+                final ByteBuf valueBuf = Unpooled.wrappedBuffer(buffer);
+                final ByteBuf flyweightBuf = valueBuf.duplicate();
+
+                do {
+                    final Header valueHeader = new Header(slice(valueBuf, Header.SIZE));
+                    final Packet valuePacket = new Packet(valueSession, valueHeader, valueBuf);
+
+                    final Header flyweightHeader = new Header(slice(flyweightBuf, Header.SIZE));
+                    final Packet flyweightPacket = new Packet(flyweightSession, flyweightHeader, flyweightBuf, true);
+
+                    assertThat(flyweightPacket.dataSets.size(), is(0));
+
+                    final List<FlowMessage> expected = valuePacket.getRecords()
+                            .map(record -> messageBuilder.buildMessage(record, ENRICHMENT).build())
+                            .collect(Collectors.toList());
+
+                    final List<FlowMessage> flyweightFields = flyweightPacket.getFieldRecords()
+                            .map(record -> messageBuilder.buildMessage(record.fields(), ENRICHMENT).build())
+                            .collect(Collectors.toList());
+
+                    final List<FlowMessage> flyweightValues = flyweightPacket.getRecords()
+                            .map(record -> messageBuilder.buildMessage(record, ENRICHMENT).build())
+                            .collect(Collectors.toList());
+
+                    assertThat(flyweightFields, is(expected));
+                    assertThat(flyweightValues, is(expected));
+                } while (valueBuf.isReadable());
+            }
+        }
+    }
+}
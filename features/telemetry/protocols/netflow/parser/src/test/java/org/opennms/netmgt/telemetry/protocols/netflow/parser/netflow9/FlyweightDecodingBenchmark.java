@@ -0,0 +1,113 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9;
+
+import static org.opennms.netmgt.telemetry.listeners.utils.BufferUtils.slice;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Packet;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.SequenceNumberTracker;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.TcpSession;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.Netflow9MessageBuilder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare parsing NetFlow v9 data sets into values with decoding them
+ * in place using {@link org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.FlyweightDataSet}s.
+ * <p>
+ * Each benchmark call decodes a captured data packet and builds the flow messages for all of its records. The
+ * {@code records} counter reports the number of records per second. Run with {@code -prof gc} and divide
+ * {@code gc.alloc.rate.norm} by the records per packet to get the number of bytes allocated per record.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class FlyweightDecodingBenchmark {
+
+    private static final Path FOLDER = Paths.get("src/test/resources/flows");
+
+    private static final RecordEnrichment ENRICHMENT = address -> Optional.empty();
+
+    @Param({"false", "true"})
+    public boolean flyweight;
+
+    private final Netflow9MessageBuilder messageBuilder = new Netflow9MessageBuilder();
+
+    private Session session;
+
+    private byte[] data;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long records;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        this.session = new TcpSession(InetAddress.getLoopbackAddress(), () -> new SequenceNumberTracker(32));
+
+        final ByteBuf templates = Unpooled.wrappedBuffer(Files.readAllBytes(FOLDER.resolve("netflow9_test_cisco_asr9k_tpl260.dat")));
+        while (templates.isReadable()) {
+            new Packet(this.session, new Header(slice(templates, Header.SIZE)), templates);
+        }
+
+        this.data = Files.readAllBytes(FOLDER.resolve("netflow9_test_cisco_asr9k_data260.dat"));
+    }
+
+    @Benchmark
+    public void decode(final Counters counters, final Blackhole blackhole) throws Exception {
+        final ByteBuf buffer = Unpooled.wrappedBuffer(this.data);
+        while (buffer.isReadable()) {
+            final Packet packet = new Packet(this.session, new Header(slice(buffer, Header.SIZE)), buffer, this.flyweight);
+            packet.getFieldRecords().forEach(record -> {
+                blackhole.consume(this.messageBuilder.buildMessage(record.fields(), ENRICHMENT).build());
+                counters.records++;
+            });
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -31,15 +31,19 @@ import org.opennms.netmgt.telemetry.protocols.netflow.parser.Netflow9UdpParser;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.StringValue;
 
+import com.codahale.metrics.MetricRegistry;
+
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
@@ -186,13 +190,13 @@ public class UdpSessionManagerTest {
 
         session.addOptions(observationId1, templateId1, scopesValue, fieldsValue);
 
-        assertThat(udpSessionManager.templates.keySet(), hasItem(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id)));
-        assertThat(udpSessionManager.templates.get(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id)).wrapped.options.entrySet(), not(empty()));
+        assertThat(udpSessionManager.getTemplateKeys(), hasItem(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id)));
+        assertThat(udpSessionManager.getTemplate(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id)).wrapped.options.entrySet(), not(empty()));
 
         udpSessionManager.doHousekeeping();
 
-        assertThat(udpSessionManager.templates.keySet(), not(hasItem(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id))));
-        assertThat(udpSessionManager.templates.get(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id)), nullValue());
+        assertThat(udpSessionManager.getTemplateKeys(), not(hasItem(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id))));
+        assertThat(udpSessionManager.getTemplate(new UdpSessionManager.TemplateKey(sessionKey, observationId1, template.id)), nullValue());
     }
 
     @Test
@@ -219,4 +223,100 @@ public class UdpSessionManagerTest {
         testIpFixSessionKeys(remoteAddress1, localAddress1, remoteAddress4, localAddress1, false);
         testIpFixSessionKeys(remoteAddress1, localAddress1, remoteAddress4, localAddress2, false);
     }
+
+    @Test
+    public void templatesExpireThroughTimingWheel() throws Exception {
+        final AtomicLong clock = new AtomicLong(1_000_000L);
+        final UdpSessionManager udpSessionManager = new UdpSessionManager(Duration.ofMinutes(30), () -> new SequenceNumberTracker(32),
+                null, null, clock::get);
+        final UdpSessionManager.SessionKey sessionKey = new Netflow9UdpParser.SessionKey(remoteAddress1.getAddress(), localAddress1);
+        final Session session = udpSessionManager.getSession(sessionKey);
+
+        final Template template1 = Template.builder(256, Template.Type.TEMPLATE).withFields(new ArrayList<>()).build();
+        final Template template2 = Template.builder(257, Template.Type.TEMPLATE).withFields(new ArrayList<>()).build();
+        session.addTemplate(observationId1, template1);
+        session.addTemplate(observationId1, template2);
+        assertThat(udpSessionManager.count(), equalTo(2));
+
+        // Refresh the first template half way through its lifetime
+        clock.addAndGet(Duration.ofMinutes(15).toMillis());
+        udpSessionManager.doHousekeeping();
+        session.addTemplate(observationId1, template1);
+        assertThat(udpSessionManager.count(), equalTo(2));
+
+        // The second one expires, the refreshed one is kept
+        clock.addAndGet(Duration.ofMinutes(16).toMillis());
+        udpSessionManager.doHousekeeping();
+        assertThat(udpSessionManager.count(), equalTo(1));
+        assertThat(session.getResolver(observationId1).lookupTemplate(256), equalTo(template1));
+
+        // Idle for longer than a full turn of the wheel
+        clock.addAndGet(Duration.ofHours(5).toMillis());
+        udpSessionManager.doHousekeeping();
+        assertThat(udpSessionManager.count(), equalTo(0));
+        assertThat(udpSessionManager.getTemplateKeys(), empty());
+    }
+
+    @Test
+    public void idleDomainsAndExportersAreDropped() throws Exception {
+        final AtomicLong clock = new AtomicLong(1_000_000L);
+        final MetricRegistry metrics = new MetricRegistry();
+        final UdpSessionManager udpSessionManager = new UdpSessionManager(Duration.ofMinutes(30), () -> new SequenceNumberTracker(32),
+                metrics, "parsers.test", clock::get);
+        final Session session1 = udpSessionManager.getSession(new Netflow9UdpParser.SessionKey(remoteAddress1.getAddress(), localAddress1));
+        final Session session3 = udpSessionManager.getSession(new Netflow9UdpParser.SessionKey(remoteAddress3.getAddress(), localAddress1));
+
+        // A domain with a template and one which is only used for sequence numbers and lookups
+        session1.addTemplate(observationId1, Template.builder(256, Template.Type.TEMPLATE).withFields(new ArrayList<>()).build());
+        session3.verifySequenceNumber(observationId2, 1);
+        try {
+            session3.getResolver(observationId2).lookupTemplate(256);
+            Assert.fail("Template of other exporter must not be visible");
+        } catch (final MissingTemplateException e) {
+            // expected
+        }
+        assertThat(udpSessionManager.getDomainCount(), equalTo(2));
+        assertThat(udpSessionManager.getExporterCount(), equalTo(2));
+
+        // The first session is still in use after its template expired
+        clock.addAndGet(Duration.ofMinutes(20).toMillis());
+        session1.verifySequenceNumber(observationId1, 1);
+        clock.addAndGet(Duration.ofMinutes(11).toMillis());
+        udpSessionManager.doHousekeeping();
+        assertThat(udpSessionManager.count(), equalTo(0));
+        assertThat(udpSessionManager.getDomainCount(), equalTo(1));
+        assertThat(udpSessionManager.getExporterCount(), equalTo(1));
+        assertThat(metrics.getCounters().keySet(), not(hasItem("parsers.test.templates.10.10.10.30.misses")));
+
+        clock.addAndGet(Duration.ofMinutes(20).toMillis());
+        udpSessionManager.doHousekeeping();
+        assertThat(udpSessionManager.getDomainCount(), equalTo(0));
+        assertThat(udpSessionManager.getExporterCount(), equalTo(0));
+        assertThat(metrics.getCounters().keySet(), empty());
+    }
+
+    @Test
+    public void countsTemplateHitsAndMissesPerExporter() throws Exception {
+        final MetricRegistry metrics = new MetricRegistry();
+        final UdpSessionManager udpSessionManager = new UdpSessionManager(Duration.ofMinutes(30), () -> new SequenceNumberTracker(32),
+                metrics, "parsers.test");
+        final Session session1 = udpSessionManager.getSession(new Netflow9UdpParser.SessionKey(remoteAddress1.getAddress(), localAddress1));
+        final Session session3 = udpSessionManager.getSession(new Netflow9UdpParser.SessionKey(remoteAddress3.getAddress(), localAddress1));
+
+        session1.addTemplate(observationId1, Template.builder(256, Template.Type.TEMPLATE).withFields(new ArrayList<>()).build());
+
+        session1.getResolver(observationId1).lookupTemplate(256);
+        session1.getResolver(observationId1).lookupTemplate(256);
+        try {
+            session3.getResolver(observationId1).lookupTemplate(256);
+            Assert.fail("Template of other exporter must not be visible");
+        } catch (final MissingTemplateException e) {
+            // expected
+        }
+
+        assertThat(metrics.counter("parsers.test.templates.10.10.10.20.hits").getCount(), equalTo(2L));
+        assertThat(metrics.counter("parsers.test.templates.10.10.10.20.misses").getCount(), equalTo(0L));
+        assertThat(metrics.counter("parsers.test.templates.10.10.10.30.hits").getCount(), equalTo(0L));
+        assertThat(metrics.counter("parsers.test.templates.10.10.10.30.misses").getCount(), equalTo(1L));
+    }
 }
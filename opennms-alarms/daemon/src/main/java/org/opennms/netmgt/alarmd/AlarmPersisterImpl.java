@@ -22,17 +22,24 @@
 package org.opennms.netmgt.alarmd;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
+import org.opennms.core.criteria.CriteriaBuilder;
 import org.opennms.core.sysprops.SystemProperties;
 import org.opennms.netmgt.alarmd.api.AlarmPersisterExtension;
 import org.opennms.netmgt.dao.api.AlarmDao;
@@ -48,6 +55,8 @@ import org.opennms.netmgt.xml.event.UpdateField;
 import org.opennms.netmgt.xml.eventconf.LogDestType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -58,10 +67,15 @@ import com.google.common.util.concurrent.Striped;
 /**
  * Singleton to persist OnmsAlarms.
  *
+ * When batching is enabled, {@link #persist(Event)} only queues the event. A background thread
+ * collects the queued events for a short window, groups them by reduction and clear key and reduces
+ * each group in a single transaction. Repeated events for the same alarm then only cause a single
+ * update of the alarm row, while lifecycle callbacks are still invoked once per event and in order.
+ *
  * @author <a href="mailto:david@opennms.org">David Hustace</a>
  * @version $Id: $
  */
-public class AlarmPersisterImpl implements AlarmPersister {
+public class AlarmPersisterImpl implements AlarmPersister, InitializingBean, DisposableBean {
     private static final Logger LOG = LoggerFactory.getLogger(AlarmPersisterImpl.class);
 
     public static final String RELATED_REDUCTION_KEY_PREFIX = "related-reductionKey";
@@ -69,6 +83,10 @@ public class AlarmPersisterImpl implements AlarmPersister {
     protected static final Integer NUM_STRIPE_LOCKS = SystemProperties.getInteger("org.opennms.alarmd.stripe.locks", Alarmd.THREADS * 4);
     protected static boolean NEW_IF_CLEARED = Boolean.getBoolean("org.opennms.alarmd.newIfClearedAlarmExists");
     protected static boolean LEGACY_ALARM_STATE = Boolean.getBoolean("org.opennms.alarmd.legacyAlarmState");
+    protected static final boolean BATCH_ENABLED = Boolean.getBoolean("org.opennms.alarmd.batch.enabled");
+    protected static final Long BATCH_WINDOW_MS = SystemProperties.getLong("org.opennms.alarmd.batch.windowMs", 100L);
+    protected static final Integer BATCH_SIZE = SystemProperties.getInteger("org.opennms.alarmd.batch.size", 1000);
+    protected static final Integer BATCH_QUEUE_SIZE = SystemProperties.getInteger("org.opennms.alarmd.batch.queueSize", 10000);
 
     @Autowired
     private AlarmDao m_alarmDao;
@@ -93,6 +111,51 @@ public class AlarmPersisterImpl implements AlarmPersister {
     
     private boolean m_legacyAlarmState = LEGACY_ALARM_STATE;
 
+    private boolean m_batchEnabled = BATCH_ENABLED;
+
+    private long m_batchWindowMs = BATCH_WINDOW_MS;
+
+    private int m_batchSize = BATCH_SIZE;
+
+    private volatile BlockingQueue<Event> m_batchQueue;
+
+    private Thread m_batchFlusher;
+
+    private volatile boolean m_batchRunning;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!m_batchEnabled) {
+            return;
+        }
+
+        LOG.info("Batching alarm persistence with window of {}ms and up to {} events per batch.", m_batchWindowMs, m_batchSize);
+        m_batchQueue = new ArrayBlockingQueue<>(BATCH_QUEUE_SIZE);
+        m_batchRunning = true;
+        m_batchFlusher = new Thread(this::flushBatches, "alarmd-batch-persister");
+        m_batchFlusher.setDaemon(true);
+        m_batchFlusher.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (m_batchFlusher == null) {
+            return;
+        }
+
+        // Let the flusher drain the queue before it exits
+        m_batchRunning = false;
+        m_batchFlusher.join(TimeUnit.SECONDS.toMillis(30));
+        m_batchFlusher = null;
+        m_batchQueue = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * If batching is enabled, the event is only queued and <code>null</code> is returned. The caller
+     * blocks while the queue is full.
+     */
     @Override
     public OnmsAlarm persist(Event event) {
         Objects.requireNonNull(event, "Cannot create alarm from null event.");
@@ -104,6 +167,17 @@ public class AlarmPersisterImpl implements AlarmPersister {
             LOG.debug("process: {}; nodeid: {}; ipaddr: {}; serviceid: {}", event.getUei(), event.getNodeid(), event.getInterface(), event.getService());
         }
 
+        final BlockingQueue<Event> batchQueue = m_batchQueue;
+        if (batchQueue != null) {
+            try {
+                batchQueue.put(event);
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while queueing event {} for alarm persistence", event, e);
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+
         // Lock both the reduction and clear keys (if set) using a fair striped lock
         // We do this to ensure that clears and triggers are processed in the same order
         // as the calls are made
@@ -112,7 +186,7 @@ public class AlarmPersisterImpl implements AlarmPersister {
         try {
             locks.forEach(Lock::lock);
             // Process the alarm inside a transaction
-            alarm = m_transactionOperations.execute((action) -> addOrReduceEventAsAlarm(event));
+            alarm = m_transactionOperations.execute((action) -> addOrReduceEventAsAlarm(event, new HashMap<>(), null));
         } catch (Exception e) {
             LOG.warn("Exception while reducing event {} to alarm", event, e);
             return null;
@@ -123,7 +197,116 @@ public class AlarmPersisterImpl implements AlarmPersister {
         return alarm;
     }
 
-    private OnmsAlarm addOrReduceEventAsAlarm(Event event) throws IllegalStateException {
+    private void flushBatches() {
+        final BlockingQueue<Event> batchQueue = m_batchQueue;
+        final List<Event> batch = new ArrayList<>(m_batchSize);
+        while (m_batchRunning || !batchQueue.isEmpty()) {
+            try {
+                final Event first = batchQueue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Collect further events until the window is closed or the batch is full
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_batchWindowMs);
+                while (batch.size() < m_batchSize) {
+                    final Event next = batchQueue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                persistBatch(batch);
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while waiting for events. {} events will not be persisted.", batchQueue.size());
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOG.error("Failed to persist batch of {} events.", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Persists the given events. Events sharing reduction or clear keys are reduced in a single
+     * transaction, in the order they were given.
+     *
+     * @param events the events to persist
+     */
+    protected void persistBatch(List<Event> events) {
+        LOG.debug("persistBatch: persisting batch of {} events", events.size());
+        for (final List<Event> group : ReductionKeyGroups.group(events)) {
+            persistGroup(group);
+        }
+    }
+
+    private void persistGroup(List<Event> group) {
+        final Set<String> keys = new LinkedHashSet<>();
+        group.forEach(event -> keys.addAll(getLockKeys(event)));
+
+        final Iterable<Lock> locks = lockStripes.bulkGet(keys);
+        try {
+            locks.forEach(Lock::lock);
+            m_transactionOperations.execute((action) -> {
+                // Load all events of the group with a single query - they are served from the session afterwards
+                m_eventDao.findMatching(new CriteriaBuilder(OnmsEvent.class)
+                        .in("id", group.stream().map(Event::getDbid).collect(Collectors.toList()))
+                        .toCriteria());
+
+                // Alarms are looked up once and then reduced in memory, so the alarm row is only updated
+                // once per group when the session is flushed
+                final Map<String, OnmsAlarm> alarmsByReductionKey = new HashMap<>();
+                final List<Runnable> notifications = new ArrayList<>();
+                for (final Event event : group) {
+                    addOrReduceEventAsAlarm(event, alarmsByReductionKey, notifications);
+                }
+
+                // Only notify once the changes made by the whole group were accepted by the database. If the
+                // group fails, its events are retried one by one below and the notifications are issued then.
+                m_alarmDao.flush();
+                notifications.forEach(Runnable::run);
+                return null;
+            });
+        } catch (Exception e) {
+            LOG.warn("Exception while reducing group of {} events with keys {} to alarms. Retrying events one by one.", group.size(), keys, e);
+            for (final Event event : group) {
+                try {
+                    m_transactionOperations.execute((action) -> addOrReduceEventAsAlarm(event, new HashMap<>(), null));
+                } catch (Exception ex) {
+                    LOG.warn("Exception while reducing event {} to alarm", event, ex);
+                }
+            }
+        } finally {
+            locks.forEach(Lock::unlock);
+        }
+    }
+
+    /**
+     * Finds the alarm with the given reduction key, using the given map of alarms already retrieved in the
+     * current transaction.
+     */
+    private OnmsAlarm findByReductionKey(String reductionKey, Map<String, OnmsAlarm> alarmsByReductionKey) {
+        OnmsAlarm alarm = alarmsByReductionKey.get(reductionKey);
+        if (alarm == null) {
+            alarm = m_alarmDao.findByReductionKey(reductionKey);
+            if (alarm != null) {
+                alarmsByReductionKey.put(reductionKey, alarm);
+            }
+        }
+        return alarm;
+    }
+
+    /**
+     * Reduces the event into a new or existing alarm.
+     *
+     * @param notifications if not null, the {@link AlarmEntityNotifier} callbacks are added to this list
+     *                      instead of being invoked immediately
+     */
+    private OnmsAlarm addOrReduceEventAsAlarm(Event event, Map<String, OnmsAlarm> alarmsByReductionKey, List<Runnable> notifications) throws IllegalStateException {
         
         final OnmsEvent persistedEvent = m_eventDao.get(event.getDbid());
         if (persistedEvent == null) {
@@ -142,11 +325,11 @@ public class AlarmPersisterImpl implements AlarmPersister {
             didSwapReductionKeyWithClearKey = true;
         }
 
-        OnmsAlarm alarm = m_alarmDao.findByReductionKey(key);
+        OnmsAlarm alarm = findByReductionKey(key, alarmsByReductionKey);
 
         if (alarm == null && didSwapReductionKeyWithClearKey) {
             // if the clearKey returns null, still need to check the reductionKey
-            alarm = m_alarmDao.findByReductionKey(reductionKey);
+            alarm = findByReductionKey(reductionKey, alarmsByReductionKey);
         }
 
         if (alarm == null || (m_createNewAlarmIfClearedAlarmExists && OnmsSeverity.CLEARED.equals(alarm.getSeverity()))) {
@@ -160,15 +343,17 @@ public class AlarmPersisterImpl implements AlarmPersister {
                 alarm.archive();
                 m_alarmDao.save(alarm);
                 m_alarmDao.flush();
+                final OnmsAlarm archivedAlarm = alarm;
+                alarmsByReductionKey.values().removeIf(a -> a == archivedAlarm);
 
-                m_alarmEntityNotifier.didArchiveAlarm(alarm, reductionKey);
+                notifyOrDefer(notifications, () -> m_alarmEntityNotifier.didArchiveAlarm(archivedAlarm, reductionKey));
             }
 
             alarm = createNewAlarm(persistedEvent, event);
 
             // Trigger extensions, allowing them to mangle the alarm
+            final OnmsAlarm alarmCreated = alarm;
             try {
-                final OnmsAlarm alarmCreated = alarm;
                 extensions.forEach(ext -> ext.afterAlarmCreated(alarmCreated, event, persistedEvent));
             } catch (Exception ex) {
                 LOG.error("An error occurred while invoking the extension callbacks.", ex);
@@ -176,15 +361,16 @@ public class AlarmPersisterImpl implements AlarmPersister {
 
             m_alarmDao.save(alarm);
             m_eventDao.saveOrUpdate(persistedEvent);
+            alarmsByReductionKey.put(reductionKey, alarm);
 
-            m_alarmEntityNotifier.didCreateAlarm(alarm);
+            notifyOrDefer(notifications, () -> m_alarmEntityNotifier.didCreateAlarm(alarmCreated));
         } else {
             LOG.debug("addOrReduceEventAsAlarm: reductionKey:{} found, reducing event to existing alarm: {}", reductionKey, alarm.getId());
             reduceEvent(persistedEvent, alarm, event);
 
             // Trigger extensions, allowing them to mangle the alarm
+            final OnmsAlarm alarmUpdated = alarm;
             try {
-                final OnmsAlarm alarmUpdated = alarm;
                 extensions.forEach(ext -> ext.afterAlarmUpdated(alarmUpdated, event, persistedEvent));
             } catch (Exception ex) {
                 LOG.error("An error occurred while invoking the extension callbacks.", ex);
@@ -197,11 +383,19 @@ public class AlarmPersisterImpl implements AlarmPersister {
                 m_eventDao.deletePreviousEventsForAlarm(alarm.getId(), persistedEvent);
             }
 
-            m_alarmEntityNotifier.didUpdateAlarmWithReducedEvent(alarm);
+            notifyOrDefer(notifications, () -> m_alarmEntityNotifier.didUpdateAlarmWithReducedEvent(alarmUpdated));
         }
         return alarm;
     }
 
+    private static void notifyOrDefer(List<Runnable> notifications, Runnable notification) {
+        if (notifications != null) {
+            notifications.add(notification);
+        } else {
+            notification.run();
+        }
+    }
+
     private void reduceEvent(OnmsEvent persistedEvent, OnmsAlarm alarm, Event event) {
         // Always set these
         alarm.setLastEvent(persistedEvent);
@@ -421,7 +615,7 @@ public class AlarmPersisterImpl implements AlarmPersister {
         return true;
     }
 
-    private static Collection<String> getLockKeys(Event event) {
+    static Collection<String> getLockKeys(Event event) {
         if (event.getAlarmData().getClearKey() == null) {
             return Collections.singletonList(event.getAlarmData().getReductionKey());
         } else {
@@ -523,4 +717,28 @@ public class AlarmPersisterImpl implements AlarmPersister {
     public void setLegacyAlarmState(boolean legacyAlarmState) {
         m_legacyAlarmState = legacyAlarmState;
     }
+
+    public boolean isBatchEnabled() {
+        return m_batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        m_batchEnabled = batchEnabled;
+    }
+
+    public long getBatchWindowMs() {
+        return m_batchWindowMs;
+    }
+
+    public void setBatchWindowMs(long batchWindowMs) {
+        m_batchWindowMs = batchWindowMs;
+    }
+
+    public int getBatchSize() {
+        return m_batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        m_batchSize = batchSize;
+    }
 }
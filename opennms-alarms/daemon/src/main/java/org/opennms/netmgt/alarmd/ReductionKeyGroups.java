@@ -0,0 +1,86 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.alarmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opennms.netmgt.xml.event.Event;
+
+/**
+ * Splits a batch of alarm events into groups which can be persisted independently of each other.
+ *
+ * Events sharing a reduction or clear key end up in the same group, so triggers and their clears are
+ * always reduced together and in order. Groups are returned in the order of their first event and
+ * events keep their arrival order within their group.
+ */
+final class ReductionKeyGroups {
+
+    private ReductionKeyGroups() {
+    }
+
+    static List<List<Event>> group(final List<Event> events) {
+        // Union-find over the event indexes, joined by shared keys
+        final int[] parents = new int[events.size()];
+        final Map<String, Integer> eventByKey = new HashMap<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            parents[i] = i;
+            for (final String key : AlarmPersisterImpl.getLockKeys(events.get(i))) {
+                final Integer other = eventByKey.putIfAbsent(key, i);
+                if (other != null) {
+                    union(parents, other, i);
+                }
+            }
+        }
+
+        final Map<Integer, List<Event>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            groups.computeIfAbsent(find(parents, i), root -> new ArrayList<>()).add(events.get(i));
+        }
+
+        // The root of each group is its first event, so insertion order is the order of the first events
+        return new ArrayList<>(groups.values());
+    }
+
+    private static int find(final int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    private static void union(final int[] parents, final int a, final int b) {
+        final int rootA = find(parents, a);
+        final int rootB = find(parents, b);
+        // Keep the smaller index as root so the root is always the first event of its group
+        if (rootA < rootB) {
+            parents[rootB] = rootA;
+        } else if (rootB < rootA) {
+            parents[rootA] = rootB;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.alarmd;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.opennms.netmgt.dao.api.AlarmDao;
+import org.opennms.netmgt.dao.api.AlarmEntityNotifier;
+import org.opennms.netmgt.dao.api.EventDao;
+import org.opennms.netmgt.model.OnmsAlarm;
+import org.opennms.netmgt.model.OnmsEvent;
+import org.opennms.netmgt.model.OnmsSeverity;
+import org.opennms.netmgt.xml.event.AlarmData;
+import org.opennms.netmgt.xml.event.Event;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+public class AlarmPersisterBatchTest {
+
+    /**
+     * Verifies that the {@link AlarmEntityNotifier} callbacks are only issued once per event when the
+     * transaction of a group fails and its events are retried one by one.
+     */
+    @Test
+    public void notifiesOnceWhenGroupIsRetried() {
+        // Alarms visible to the next transaction and those saved in the current one
+        final Map<String, OnmsAlarm> committedAlarms = new HashMap<>();
+        final Map<String, OnmsAlarm> pendingAlarms = new HashMap<>();
+
+        final AlarmDao alarmDao = mock(AlarmDao.class);
+        when(alarmDao.findByReductionKey(anyString())).thenAnswer(invocation -> {
+            final String reductionKey = invocation.getArgument(0);
+            return pendingAlarms.getOrDefault(reductionKey, committedAlarms.get(reductionKey));
+        });
+        doAnswer(invocation -> {
+            final OnmsAlarm alarm = invocation.getArgument(0);
+            pendingAlarms.put(alarm.getReductionKey(), alarm);
+            return null;
+        }).when(alarmDao).save(any(OnmsAlarm.class));
+        // Fail the first flush, which is issued by the group transaction
+        doThrow(new IllegalStateException("Group failed")).doNothing().when(alarmDao).flush();
+
+        final EventDao eventDao = mock(EventDao.class);
+        when(eventDao.get(anyInt())).thenAnswer(invocation -> {
+            final OnmsEvent event = new OnmsEvent();
+            event.setId(invocation.getArgument(0));
+            event.setEventSeverity(OnmsSeverity.MAJOR.getId());
+            return event;
+        });
+
+        final TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                try {
+                    final T result = action.doInTransaction(mock(TransactionStatus.class));
+                    committedAlarms.putAll(pendingAlarms);
+                    return result;
+                } finally {
+                    pendingAlarms.clear();
+                }
+            }
+        };
+
+        final AlarmEntityNotifier alarmEntityNotifier = mock(AlarmEntityNotifier.class);
+
+        final AlarmPersisterImpl alarmPersister = new AlarmPersisterImpl();
+        alarmPersister.setAlarmDao(alarmDao);
+        alarmPersister.setEventDao(eventDao);
+        alarmPersister.setTransactionOperations(transactionOperations);
+        alarmPersister.setAlarmChangeListener(alarmEntityNotifier);
+
+        alarmPersister.persistBatch(Arrays.asList(createEvent(1), createEvent(2), createEvent(3)));
+
+        verify(alarmEntityNotifier, times(1)).didCreateAlarm(any(OnmsAlarm.class));
+        verify(alarmEntityNotifier, times(2)).didUpdateAlarmWithReducedEvent(any(OnmsAlarm.class));
+    }
+
+    private static Event createEvent(int dbid) {
+        final AlarmData alarmData = new AlarmData();
+        alarmData.setAlarmType(1);
+        alarmData.setReductionKey("batch-test");
+
+        final Event event = new Event();
+        event.setUei("uei.opennms.org/test");
+        event.setDbid(dbid);
+        event.setAlarmData(alarmData);
+        return event;
+    }
+}
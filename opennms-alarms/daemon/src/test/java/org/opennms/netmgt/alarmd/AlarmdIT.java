@@ -736,6 +736,38 @@ public class AlarmdIT implements TemporaryDatabaseAware<MockDatabase>, Initializ
 
     }
     
+    @Test
+    public void testBatchedAlarmPersistence() throws Exception {
+        final AlarmPersisterImpl persisterImpl = (AlarmPersisterImpl)m_alarmd.getPersister();
+        persisterImpl.setLegacyAlarmState(false);
+        persisterImpl.setBatchEnabled(true);
+        persisterImpl.setBatchWindowMs(500);
+        persisterImpl.afterPropertiesSet();
+
+        try {
+            final MockNode node = m_mockNetwork.getNode(1);
+
+            // There should be no alarms in the alarms table
+            assertEmptyAlarmTable();
+
+            // Repeated events for the same reduction key should be folded into a single alarm
+            for (int i = 0; i < 10; i++) {
+                sendNodeDownEvent("batchThese", node);
+            }
+            await().atMost(10, SECONDS).until(getNumAlarmsCallable(), equalTo(1));
+            await().atMost(10, SECONDS).until(() -> m_alarmDao.findByReductionKey("batchThese").getCounter(), equalTo(10));
+
+            // A trigger and its clear in the same batch must be reduced in order
+            sendNodeDownEvent(node);
+            sendNodeUpEvent(node);
+            await().atMost(10, SECONDS).until(getNumAlarmsCallable(), equalTo(2));
+            await().atMost(10, SECONDS).until(() -> m_alarmDao.findByReductionKey("uei.opennms.org/nodes/nodeDown:1").getSeverity(), equalTo(OnmsSeverity.CLEARED));
+        } finally {
+            persisterImpl.destroy();
+            persisterImpl.setBatchEnabled(false);
+        }
+    }
+
     private Callable<Integer> getNumAlarmsCallable() {
         return () -> m_alarmDao.countAll();
     }
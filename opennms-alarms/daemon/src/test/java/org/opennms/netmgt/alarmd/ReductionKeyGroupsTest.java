@@ -0,0 +1,89 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.alarmd;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.opennms.netmgt.xml.event.AlarmData;
+import org.opennms.netmgt.xml.event.Event;
+
+public class ReductionKeyGroupsTest {
+
+    @Test
+    public void canGroupByReductionKey() {
+        final Event a1 = event(1, "a", null);
+        final Event b1 = event(2, "b", null);
+        final Event a2 = event(3, "a", null);
+        final Event c1 = event(4, "c", null);
+        final Event b2 = event(5, "b", null);
+
+        final List<List<Event>> groups = ReductionKeyGroups.group(Arrays.asList(a1, b1, a2, c1, b2));
+        assertThat(groups, hasSize(3));
+        assertThat(groups.get(0), contains(a1, a2));
+        assertThat(groups.get(1), contains(b1, b2));
+        assertThat(groups.get(2), contains(c1));
+    }
+
+    @Test
+    public void canGroupClearsWithTheirTriggers() {
+        final Event down = event(1, "down", null);
+        final Event other = event(2, "other", null);
+        final Event up = event(3, "up", "down");
+        final Event down2 = event(4, "down", null);
+        final Event up2 = event(5, "up", null);
+
+        final List<List<Event>> groups = ReductionKeyGroups.group(Arrays.asList(down, other, up, down2, up2));
+        assertThat(groups, hasSize(2));
+        assertThat(groups.get(0), contains(down, up, down2, up2));
+        assertThat(groups.get(1), contains(other));
+    }
+
+    @Test
+    public void canMergeGroupsLinkedByLaterEvents() {
+        final Event a = event(1, "a", null);
+        final Event b = event(2, "b", null);
+        final Event c = event(3, "c", null);
+        final Event bClearsA = event(4, "b", "a");
+
+        final List<List<Event>> groups = ReductionKeyGroups.group(Arrays.asList(a, b, c, bClearsA));
+        assertThat(groups, hasSize(2));
+        assertThat(groups.get(0), contains(a, b, bClearsA));
+        assertThat(groups.get(1), contains(c));
+    }
+
+    private static Event event(final int dbid, final String reductionKey, final String clearKey) {
+        final AlarmData alarmData = new AlarmData();
+        alarmData.setReductionKey(reductionKey);
+        alarmData.setClearKey(clearKey);
+
+        final Event event = new Event();
+        event.setDbid(dbid);
+        event.setAlarmData(alarmData);
+        return event;
+    }
+}
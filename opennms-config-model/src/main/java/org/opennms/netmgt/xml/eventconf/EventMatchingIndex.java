@@ -0,0 +1,506 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.xml.eventconf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Compiled lookup structure for the event definitions of a single {@link Events} scope.
+ *
+ * All definitions of the scope are ranked in matching order. Definitions which are grouped by the {@link Partition}
+ * are reachable by their partition key, as before. The remaining definitions are anchored on the most selective
+ * element of their mask: exact values are kept in a hash map per field and prefix values ({@code foo%}) in a
+ * character trie per field. Definitions which can not be anchored (i.e. regular expressions on every element) are
+ * always considered.
+ *
+ * A lookup merges the rank lists of all candidate buckets in rank order and evaluates the matchers of the candidates
+ * only, which yields the same first match as evaluating all definitions of the scope one after another.
+ */
+public class EventMatchingIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final String VARBIND_PREFIX = "varbind#";
+
+    private final Partition m_partition;
+
+    private final Event[] m_events;
+
+    private final Key[] m_keys;
+
+    private final Map<String, int[]> m_partitioned;
+
+    private final Dimension[] m_dimensions;
+
+    private final int[] m_unanchored;
+
+    private EventMatchingIndex(final Partition partition,
+                               final Event[] events,
+                               final Key[] keys,
+                               final Map<String, int[]> partitioned,
+                               final Dimension[] dimensions,
+                               final int[] unanchored) {
+        m_partition = partition;
+        m_events = events;
+        m_keys = keys;
+        m_partitioned = partitioned;
+        m_dimensions = dimensions;
+        m_unanchored = unanchored;
+    }
+
+    /**
+     * Compiles the index for the given scope.
+     *
+     * If the given previous index was compiled for the same partition and for the same definitions, which did not
+     * change in any way relevant for matching, the previous index is returned as is. This keeps reloads cheap as only
+     * the scopes which have actually been modified must be compiled again.
+     *
+     * @param previous the index previously compiled for the scope, may be {@code null}
+     * @param partition the partition used to group the definitions
+     * @param partitionedEvents the definitions grouped by partition key
+     * @param nullPartitionedEvents the definitions without a partition key
+     * @return the index for the scope
+     */
+    public static EventMatchingIndex compile(final EventMatchingIndex previous,
+                                             final Partition partition,
+                                             final Map<String, List<Event>> partitionedEvents,
+                                             final List<Event> nullPartitionedEvents) {
+        // Rank all definitions of the scope in matching order
+        final TreeSet<Event> sorted = new TreeSet<>(nullPartitionedEvents);
+        partitionedEvents.values().forEach(sorted::addAll);
+
+        final Event[] events = sorted.toArray(new Event[0]);
+
+        final Map<Event, Integer> ranks = new IdentityHashMap<>(events.length);
+        for (int i = 0; i < events.length; i++) {
+            ranks.put(events[i], i);
+        }
+
+        final Map<Event, Boolean> unpartitioned = new IdentityHashMap<>(nullPartitionedEvents.size());
+        nullPartitionedEvents.forEach(e -> unpartitioned.put(e, Boolean.TRUE));
+
+        final Key[] keys = new Key[events.length];
+        for (int i = 0; i < events.length; i++) {
+            keys[i] = new Key(events[i], unpartitioned.containsKey(events[i]));
+        }
+
+        if (previous != null && previous.isCompiledFor(partition, events, keys)) {
+            return previous;
+        }
+
+        final Map<String, int[]> partitioned = new HashMap<>(partitionedEvents.size() * 2);
+        for (final Map.Entry<String, List<Event>> e : partitionedEvents.entrySet()) {
+            partitioned.put(e.getKey(), toRanks(e.getValue(), ranks));
+        }
+
+        final Map<String, DimensionBuilder> dimensions = new LinkedHashMap<>();
+        final List<Integer> unanchored = new ArrayList<>();
+        for (final Event event : nullPartitionedEvents) {
+            final int rank = ranks.get(event);
+
+            final Anchor anchor = anchor(event);
+            if (anchor == Anchor.NEVER) {
+                // The definition can never match anything
+                continue;
+            }
+
+            if (anchor == null) {
+                unanchored.add(rank);
+                continue;
+            }
+
+            final DimensionBuilder dimension = dimensions.computeIfAbsent(anchor.name, k -> new DimensionBuilder(anchor.field));
+            for (final String value : anchor.exact) {
+                dimension.exact.computeIfAbsent(value, k -> new ArrayList<>()).add(rank);
+            }
+            for (final String prefix : anchor.prefixes) {
+                dimension.prefixes.insert(prefix).add(rank);
+            }
+        }
+
+        return new EventMatchingIndex(partition,
+                events,
+                keys,
+                partitioned,
+                dimensions.values().stream().map(DimensionBuilder::build).toArray(Dimension[]::new),
+                unanchored.stream().mapToInt(Integer::intValue).sorted().toArray());
+    }
+
+    /**
+     * Finds the first definition of this scope matching the given event.
+     *
+     * @param matchingEvent the event to match
+     * @return the first matching definition or {@code null} if no definition of this scope matches
+     */
+    public Event findFirstMatchingEvent(final org.opennms.netmgt.xml.event.Event matchingEvent) {
+        final List<int[]> candidates = new ArrayList<>(4);
+
+        final String key = m_partition.group(matchingEvent);
+        if (key != null) {
+            addCandidates(candidates, m_partitioned.get(key));
+        }
+
+        for (final Dimension dimension : m_dimensions) {
+            dimension.collect(matchingEvent, candidates);
+        }
+
+        addCandidates(candidates, m_unanchored);
+
+        switch (candidates.size()) {
+            case 0:
+                return null;
+
+            case 1:
+                for (final int rank : candidates.get(0)) {
+                    if (m_events[rank].matches(matchingEvent).matched()) {
+                        return m_events[rank];
+                    }
+                }
+                return null;
+
+            default:
+                return merge(candidates, matchingEvent);
+        }
+    }
+
+    /**
+     * Visits the candidates of all buckets in rank order and returns the first match.
+     */
+    private Event merge(final List<int[]> candidates, final org.opennms.netmgt.xml.event.Event matchingEvent) {
+        final int[] positions = new int[candidates.size()];
+
+        int last = -1;
+        while (true) {
+            int next = -1;
+            int nextRank = Integer.MAX_VALUE;
+            for (int i = 0; i < positions.length; i++) {
+                final int[] ranks = candidates.get(i);
+                if (positions[i] < ranks.length && ranks[positions[i]] < nextRank) {
+                    next = i;
+                    nextRank = ranks[positions[i]];
+                }
+            }
+
+            if (next < 0) {
+                return null;
+            }
+            positions[next]++;
+
+            // The same definition can be reachable through multiple buckets
+            if (nextRank == last) {
+                continue;
+            }
+            last = nextRank;
+
+            if (m_events[nextRank].matches(matchingEvent).matched()) {
+                return m_events[nextRank];
+            }
+        }
+    }
+
+    public int size() {
+        return m_events.length;
+    }
+
+    private boolean isCompiledFor(final Partition partition, final Event[] events, final Key[] keys) {
+        if (m_partition != partition || m_events.length != events.length) {
+            return false;
+        }
+        for (int i = 0; i < events.length; i++) {
+            if (m_events[i] != events[i]) {
+                return false;
+            }
+        }
+        return Arrays.equals(m_keys, keys);
+    }
+
+    private static int[] toRanks(final Collection<Event> events, final Map<Event, Integer> ranks) {
+        return events.stream().mapToInt(ranks::get).sorted().distinct().toArray();
+    }
+
+    private static void addCandidates(final List<int[]> candidates, final int[] ranks) {
+        if (ranks != null && ranks.length > 0) {
+            candidates.add(ranks);
+        }
+    }
+
+    /**
+     * Selects the element of the mask used to reach the definition.
+     *
+     * @return the anchor, {@code null} if the definition can not be anchored or {@link Anchor#NEVER} if the
+     * definition can never match
+     */
+    private static Anchor anchor(final Event event) {
+        final Mask mask = event.getMask();
+        if (mask == null || mask.getMaskelements().isEmpty()) {
+            // Matched by UEI only - see Event.constructMatcher()
+            if (event.getUei() == null) {
+                return Anchor.NEVER;
+            }
+            return new Anchor(Maskelement.TAG_UEI, EventMatchers.field(Maskelement.TAG_UEI), 0,
+                    Arrays.asList(event.getUei()), new ArrayList<>());
+        }
+
+        Anchor best = null;
+        for (final Maskelement element : mask.getMaskelements()) {
+            final Anchor anchor = Anchor.of(element.getMename(), element.getMevalues(), () -> EventMatchers.field(element.getMename()));
+            if (anchor == Anchor.NEVER) {
+                return Anchor.NEVER;
+            }
+            best = Anchor.better(best, anchor);
+        }
+
+        for (final Varbind varbind : mask.getVarbinds()) {
+            if (varbind.getVbnumber() == null) {
+                // Matches always
+                continue;
+            }
+            final Anchor anchor = Anchor.of(VARBIND_PREFIX + varbind.getVbnumber(), varbind.getVbvalues(), () -> EventMatchers.varbind(varbind.getVbnumber()));
+            if (anchor == Anchor.NEVER) {
+                return Anchor.NEVER;
+            }
+            best = Anchor.better(best, anchor);
+        }
+
+        return best;
+    }
+
+    /**
+     * Copy of the properties of a definition the index is compiled from.
+     *
+     * The definitions are mutable, so the values are copied to detect changes made to the same instances.
+     */
+    private static class Key {
+        private final String uei;
+        private final Integer priority;
+        private final boolean unpartitioned;
+        private final List<List<Object>> maskelements = new ArrayList<>();
+        private final List<List<Object>> varbinds = new ArrayList<>();
+
+        private Key(final Event event, final boolean unpartitioned) {
+            this.uei = event.getUei();
+            this.priority = event.getPriority();
+            this.unpartitioned = unpartitioned;
+            final Mask mask = event.getMask();
+            if (mask != null) {
+                for (final Maskelement element : mask.getMaskelements()) {
+                    maskelements.add(Arrays.asList(element.getMename(), new ArrayList<>(element.getMevalues())));
+                }
+                for (final Varbind varbind : mask.getVarbinds()) {
+                    varbinds.add(Arrays.asList(varbind.getVbnumber(), new ArrayList<>(varbind.getVbvalues())));
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return Objects.equals(this.uei, that.uei)
+                    && Objects.equals(this.priority, that.priority)
+                    && this.unpartitioned == that.unpartitioned
+                    && this.maskelements.equals(that.maskelements)
+                    && this.varbinds.equals(that.varbinds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uei, priority, unpartitioned, maskelements, varbinds);
+        }
+    }
+
+    private static class Anchor {
+        private static final Anchor NEVER = new Anchor(null, null, Integer.MAX_VALUE, null, null);
+
+        private final String name;
+        private final Field field;
+        private final int cost;
+        private final List<String> exact;
+        private final List<String> prefixes;
+
+        private Anchor(final String name, final Field field, final int cost, final List<String> exact, final List<String> prefixes) {
+            this.name = name;
+            this.field = field;
+            this.cost = cost;
+            this.exact = exact;
+            this.prefixes = prefixes;
+        }
+
+        private static Anchor of(final String name, final List<String> values, final Supplier<Field> field) {
+            final List<String> exact = new ArrayList<>();
+            final List<String> prefixes = new ArrayList<>();
+            for (final String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                if (value.startsWith("~")) {
+                    // Regular expressions can not be indexed - the element is unusable as anchor
+                    return null;
+                } else if (value.endsWith("%")) {
+                    if (value.length() == 1) {
+                        // Matches every non-null value
+                        return null;
+                    }
+                    prefixes.add(value.substring(0, value.length() - 1));
+                } else {
+                    exact.add(value);
+                }
+            }
+
+            if (exact.isEmpty() && prefixes.isEmpty()) {
+                // An element without any value never matches - see EventMatchers.or()
+                return NEVER;
+            }
+
+            return new Anchor(name, field.get(), cost(name) + (prefixes.isEmpty() ? 0 : 50), exact, prefixes);
+        }
+
+        private static Anchor better(final Anchor a, final Anchor b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null) {
+                return a;
+            }
+            return b.cost < a.cost ? b : a;
+        }
+
+        /**
+         * Rough selectivity of the fields - lower is better.
+         */
+        private static int cost(final String name) {
+            switch (name) {
+                case Maskelement.TAG_SNMP_EID:
+                    return 0;
+                case Maskelement.TAG_SNMP_TRAPOID:
+                    return 1;
+                case Maskelement.TAG_SNMP_SPECIFIC:
+                    return 2;
+                case Maskelement.TAG_UEI:
+                    return 3;
+                case Maskelement.TAG_SNMP_GENERIC:
+                    // Only a handful of distinct values
+                    return 200;
+                default:
+                    return name.startsWith(VARBIND_PREFIX) ? 5 : 4;
+            }
+        }
+    }
+
+    private static class DimensionBuilder {
+        private final Field field;
+        private final Map<String, List<Integer>> exact = new HashMap<>();
+        private final TrieBuilder prefixes = new TrieBuilder();
+
+        private DimensionBuilder(final Field field) {
+            this.field = field;
+        }
+
+        private Dimension build() {
+            final Map<String, int[]> exact = new HashMap<>(this.exact.size() * 2);
+            this.exact.forEach((value, ranks) -> exact.put(value, toArray(ranks)));
+            return new Dimension(field, exact, prefixes.isEmpty() ? null : prefixes.build());
+        }
+    }
+
+    private static class Dimension {
+        private final Field field;
+        private final Map<String, int[]> exact;
+        private final Trie prefixes;
+
+        private Dimension(final Field field, final Map<String, int[]> exact, final Trie prefixes) {
+            this.field = field;
+            this.exact = exact;
+            this.prefixes = prefixes;
+        }
+
+        private void collect(final org.opennms.netmgt.xml.event.Event matchingEvent, final List<int[]> candidates) {
+            final String value = field.get(matchingEvent);
+            if (value == null) {
+                return;
+            }
+
+            addCandidates(candidates, exact.get(value));
+
+            // Every prefix of the value is a candidate - the root node is never populated
+            Trie node = prefixes;
+            for (int i = 0; node != null && i < value.length(); i++) {
+                node = node.children.get(value.charAt(i));
+                if (node != null) {
+                    addCandidates(candidates, node.ranks);
+                }
+            }
+        }
+    }
+
+    private static class TrieBuilder {
+        private final Map<Character, TrieBuilder> children = new HashMap<>();
+        private final List<Integer> ranks = new ArrayList<>();
+
+        private List<Integer> insert(final String prefix) {
+            TrieBuilder node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), k -> new TrieBuilder());
+            }
+            return node.ranks;
+        }
+
+        private boolean isEmpty() {
+            return children.isEmpty();
+        }
+
+        private Trie build() {
+            final Map<Character, Trie> children = new HashMap<>(this.children.size() * 2);
+            this.children.forEach((c, child) -> children.put(c, child.build()));
+            return new Trie(children, ranks.isEmpty() ? null : toArray(ranks));
+        }
+    }
+
+    private static class Trie {
+        private final Map<Character, Trie> children;
+        private final int[] ranks;
+
+        private Trie(final Map<Character, Trie> children, final int[] ranks) {
+            this.children = children;
+            this.ranks = ranks;
+        }
+    }
+
+    private static int[] toArray(final List<Integer> ranks) {
+        return ranks.isEmpty() ? EMPTY : ranks.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+    }
+}
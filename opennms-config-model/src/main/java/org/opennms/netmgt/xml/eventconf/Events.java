@@ -31,7 +31,6 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -42,7 +41,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -104,6 +102,9 @@ public class Events implements Serializable {
     @XmlTransient
     private List<Event> m_nullPartitionedEvents;
 
+    @XmlTransient
+    private transient EventMatchingIndex m_matchingIndex;
+
     @XmlTransient
     private Map<String, Event> m_eventsByUei = new ConcurrentSkipListMap<>();
 
@@ -277,21 +278,10 @@ public class Events implements Serializable {
             }
         }
 
-        // If the UEI match failed, fallback to searching with the matchers through the partitions
-        final String key = m_partition.group(matchingEvent);
-        Collection<Event> potentialMatches = m_nullPartitionedEvents;
-        if (key != null) {
-            final List<Event> events = m_partitionedEvents.get(key);
-            if (events != null) {
-                potentialMatches = new TreeSet<Event>(m_nullPartitionedEvents);
-                potentialMatches.addAll(events);
-            }
-        }
-
-        for (final Event event : potentialMatches) {
-            if (event.matches(matchingEvent).matched()) {
-                return event;
-            }
+        // If the UEI match failed, fallback to searching with the matchers through the partitions and indexed masks
+        final Event matchedEvent = m_matchingIndex.findFirstMatchingEvent(matchingEvent);
+        if (matchedEvent != null) {
+            return matchedEvent;
         }
 
         for (Events subEvents : m_loadedEventFiles.values()) {
@@ -381,6 +371,9 @@ public class Events implements Serializable {
         m_nullPartitionedEvents.addAll(prioritizedEvents);
         m_nullPartitionedEvents.sort(Comparator.naturalOrder());
 
+        // Only recompiled if the definitions in this scope have changed
+        m_matchingIndex = EventMatchingIndex.compile(m_matchingIndex, m_partition, m_partitionedEvents, m_nullPartitionedEvents);
+
         indexEventsByUei();
     }
 
@@ -0,0 +1,270 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.xml.eventconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+
+public class EventMatchingIndexTest {
+
+    private static final String[] IDS = { ".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.9", ".1.3.6.1.4.1.2636", ".1.3.6.1.4.1.2636.3" };
+
+    private static final String[] TRAP_OIDS = { ".1.3.6.1.4.1.9.0.1", ".1.3.6.1.4.1.9.0.2", ".1.3.6.1.4.1.2636.0.1" };
+
+    private static final String[] VARBINDS = { "up", "down", "unknown" };
+
+    /**
+     * Partitions by exact enterprise ID like the DefaultEventConfDao does.
+     */
+    private static final Partition ID_PARTITION = new Partition() {
+        @Override
+        public List<String> group(final Event eventConf) {
+            final List<String> ids = eventConf.getMaskElementValues(Maskelement.TAG_SNMP_EID);
+            if (ids == null || ids.isEmpty() || ids.stream().anyMatch(id -> id.endsWith("%") || id.startsWith("~"))) {
+                return null;
+            }
+            return ids;
+        }
+
+        @Override
+        public String group(final org.opennms.netmgt.xml.event.Event matchingEvent) {
+            return matchingEvent.getSnmp() == null ? null : matchingEvent.getSnmp().getId();
+        }
+    };
+
+    @Test
+    public void canMatchPrefixesAndExactValues() {
+        final Event prefix = event("uei.opennms.org/test/prefix", 0, element(Maskelement.TAG_SNMP_EID, ".1.3.6.1.4.1.9%"));
+        final Event exact = event("uei.opennms.org/test/exact", 0, element(Maskelement.TAG_SNMP_TRAPOID, ".1.3.6.1.4.1.2636.0.1"));
+        final Event regex = event("uei.opennms.org/test/regex", 0, element(Maskelement.TAG_SNMP_EID, "~^\\.1\\.3\\.6\\.1\\.4\\.1\\.8072.*"));
+
+        final Events events = events(prefix, exact, regex);
+
+        assertSame(prefix, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9.9.41", null, null, null)));
+        assertSame(prefix, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9%", null, null, null)));
+        assertSame(exact, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.2636", ".1.3.6.1.4.1.2636.0.1", null, null)));
+        assertSame(regex, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.8072.4", null, null, null)));
+        assertNull(events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.8", null, null, null)));
+    }
+
+    @Test
+    public void canHonorPriorities() {
+        final Event first = event("uei.opennms.org/test/first", 0, element(Maskelement.TAG_SNMP_EID, ".1.3.6.1.4.1.9"));
+        final Event prioritized = event("uei.opennms.org/test/prioritized", 10, element(Maskelement.TAG_SNMP_GENERIC, "6"));
+
+        final Events events = events(first, prioritized);
+
+        assertSame(prioritized, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9", null, null, 6)));
+        assertSame(first, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9", null, null, 4)));
+    }
+
+    @Test
+    public void canReuseUnchangedIndex() {
+        final Event a = event("uei.opennms.org/test/a", 0, element(Maskelement.TAG_SNMP_EID, ".1.3.6.1.4.1.9%"));
+        final Event b = event("uei.opennms.org/test/b", 0, element(Maskelement.TAG_SNMP_TRAPOID, ".1.3.6.1.4.1.9.0.1"));
+        final EventOrdering ordering = new EventOrdering();
+        a.initialize(ordering.next());
+        b.initialize(ordering.next());
+
+        final List<Event> unpartitioned = new ArrayList<>(Arrays.asList(a, b));
+        final Map<String, List<Event>> partitioned = new LinkedHashMap<>();
+
+        final EventMatchingIndex index = EventMatchingIndex.compile(null, ID_PARTITION, partitioned, unpartitioned);
+        assertEquals(2, index.size());
+        assertSame(index, EventMatchingIndex.compile(index, ID_PARTITION, partitioned, unpartitioned));
+
+        // Changing a mask must invalidate the index
+        b.getMask().getMaskelements().get(0).addMevalue(".1.3.6.1.4.1.9.0.2");
+        b.initialize(ordering.next());
+        final EventMatchingIndex recompiled = EventMatchingIndex.compile(index, ID_PARTITION, partitioned, unpartitioned);
+        assertNotSame(index, recompiled);
+        assertSame(b, recompiled.findFirstMatchingEvent(trap(".1.3.6.1.4.1.2636", ".1.3.6.1.4.1.9.0.2", null, null)));
+
+        // Removing a definition must invalidate the index
+        assertNotSame(recompiled, EventMatchingIndex.compile(recompiled, ID_PARTITION, partitioned, Collections.singletonList(a)));
+    }
+
+    @Test
+    public void canDetectChangesWithEqualHashCodes() {
+        final Event event = event("uei.opennms.org/test/a", 0, element(Maskelement.TAG_SNMP_TRAPOID, "Aa"));
+        event.initialize(new EventOrdering().next());
+
+        final List<Event> unpartitioned = Collections.singletonList(event);
+        final Map<String, List<Event>> partitioned = new LinkedHashMap<>();
+        final EventMatchingIndex index = EventMatchingIndex.compile(null, ID_PARTITION, partitioned, unpartitioned);
+
+        // "Aa" and "BB" share the same hash code
+        final int hashCode = event.getMask().hashCode();
+        event.getMask().getMaskelements().get(0).setMevalues(Collections.singletonList("BB"));
+        assertEquals(hashCode, event.getMask().hashCode());
+
+        final EventMatchingIndex recompiled = EventMatchingIndex.compile(index, ID_PARTITION, partitioned, unpartitioned);
+        assertNotSame(index, recompiled);
+        assertSame(event, recompiled.findFirstMatchingEvent(trap(".1.3.6.1.4.1.2636", "BB", null, null)));
+    }
+
+    /**
+     * Verifies that the index yields the same definition as evaluating all definitions in order.
+     */
+    @Test
+    public void canMatchLikeLinearScan() {
+        final Random random = new Random(42);
+
+        final List<Event> definitions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            definitions.add(randomDefinition(random, i));
+        }
+
+        final Events events = events(definitions.toArray(new Event[0]));
+
+        int matched = 0;
+        for (int i = 0; i < 5000; i++) {
+            final org.opennms.netmgt.xml.event.Event trap = trap(pick(random, IDS) + (random.nextBoolean() ? "" : ".1"),
+                    pick(random, TRAP_OIDS),
+                    random.nextBoolean() ? pick(random, VARBINDS) : null,
+                    random.nextInt(7));
+
+            Event expected = null;
+            for (final Event definition : events.getEvents()) {
+                if (definition.matches(trap).matched()) {
+                    expected = definition;
+                    break;
+                }
+            }
+
+            assertSame(expected, events.findFirstMatchingEvent(trap));
+            if (expected != null) {
+                matched++;
+            }
+        }
+
+        // Make sure the test is meaningful
+        assertEquals(true, matched > 1000);
+    }
+
+    private static Event randomDefinition(final Random random, final int i) {
+        final Mask mask = new Mask();
+        switch (random.nextInt(6)) {
+            case 0:
+                mask.addMaskelement(element(Maskelement.TAG_SNMP_EID, pick(random, IDS)));
+                break;
+            case 1:
+                mask.addMaskelement(element(Maskelement.TAG_SNMP_EID, pick(random, IDS) + "%"));
+                break;
+            case 2:
+                mask.addMaskelement(element(Maskelement.TAG_SNMP_EID, "~^" + pick(random, IDS).replace(".", "\\.") + ".*"));
+                break;
+            case 3:
+                mask.addMaskelement(element(Maskelement.TAG_SNMP_TRAPOID, pick(random, TRAP_OIDS)));
+                break;
+            case 4:
+                mask.addMaskelement(element(Maskelement.TAG_SNMP_GENERIC, Integer.toString(random.nextInt(7))));
+                break;
+            default:
+                break;
+        }
+        if (random.nextBoolean()) {
+            mask.addMaskelement(element(Maskelement.TAG_SNMP_SPECIFIC, Integer.toString(random.nextInt(7)), Integer.toString(random.nextInt(7))));
+        }
+        if (random.nextInt(4) == 0) {
+            final Varbind varbind = new Varbind();
+            varbind.setVbnumber(1);
+            varbind.addVbvalue(pick(random, VARBINDS));
+            mask.addVarbind(varbind);
+        }
+
+        final Event event = new Event();
+        event.setUei("uei.opennms.org/test/" + i);
+        event.setPriority(random.nextInt(10) == 0 ? random.nextInt(3) : 0);
+        if (!mask.getMaskelements().isEmpty()) {
+            event.setMask(mask);
+        }
+        return event;
+    }
+
+    private static Events events(final Event... definitions) {
+        final Events events = new Events();
+        for (final Event definition : definitions) {
+            events.addEvent(definition);
+        }
+        events.initialize(ID_PARTITION, new EventOrdering());
+        return events;
+    }
+
+    private static Event event(final String uei, final int priority, final Maskelement element) {
+        final Mask mask = new Mask();
+        mask.addMaskelement(element);
+
+        final Event event = new Event();
+        event.setUei(uei);
+        event.setPriority(priority);
+        event.setMask(mask);
+        return event;
+    }
+
+    private static Maskelement element(final String name, final String... values) {
+        final Maskelement element = new Maskelement();
+        element.setMename(name);
+        for (final String value : values) {
+            element.addMevalue(value);
+        }
+        return element;
+    }
+
+    private static org.opennms.netmgt.xml.event.Event trap(final String id, final String trapOid, final String varbind, final Integer generic) {
+        final Snmp snmp = new Snmp();
+        snmp.setId(id);
+        if (trapOid != null) {
+            snmp.setTrapOID(trapOid);
+        }
+        if (generic != null) {
+            snmp.setGeneric(generic);
+            snmp.setSpecific(generic);
+        }
+
+        final org.opennms.netmgt.xml.event.Event event = new org.opennms.netmgt.xml.event.Event();
+        event.setUei("uei.opennms.org/default/trap");
+        event.setSnmp(snmp);
+        if (varbind != null) {
+            event.addParm(new Parm(".1.3.6.1.2.1.1.1.0", varbind));
+        }
+        return event;
+    }
+
+    private static String pick(final Random random, final String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.opennms.core.test.ConfigurationTestUtils;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.eventconf.Event;
+import org.opennms.netmgt.xml.eventconf.Maskelement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Measures the lookup of event definitions for traps against the shipped event configuration.
+ *
+ * The traps are derived from the SNMP masks of the shipped definitions, so most of them match a definition which is
+ * not reachable by UEI. A smaller share of the traps uses unknown enterprise IDs and matches no definition at all.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventConfMatchingBenchmark {
+
+    private DefaultEventConfDao eventConfDao;
+
+    private org.opennms.netmgt.xml.event.Event[] traps;
+
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        eventConfDao = new DefaultEventConfDao();
+        eventConfDao.setConfigResource(new FileSystemResource(ConfigurationTestUtils.getFileForConfigFile("eventconf.xml")));
+        eventConfDao.afterPropertiesSet();
+
+        final List<org.opennms.netmgt.xml.event.Event> traps = new ArrayList<>();
+        for (final Event definition : eventConfDao.getAllEvents()) {
+            final String id = exactValue(definition, Maskelement.TAG_SNMP_EID);
+            if (id == null) {
+                continue;
+            }
+
+            final EventBuilder builder = new EventBuilder("uei.opennms.org/default/trap", "benchmark")
+                    .setEnterpriseId(id);
+
+            final String trapOid = exactValue(definition, Maskelement.TAG_SNMP_TRAPOID);
+            if (trapOid != null) {
+                builder.setTrapOID(trapOid);
+            }
+            final String generic = exactValue(definition, Maskelement.TAG_SNMP_GENERIC);
+            builder.setGeneric(generic != null ? Integer.parseInt(generic) : 6);
+            final String specific = exactValue(definition, Maskelement.TAG_SNMP_SPECIFIC);
+            builder.setSpecific(specific != null ? Integer.parseInt(specific) : 0);
+
+            traps.add(builder.getEvent());
+
+            // Mix in some traps which are not defined at all
+            if (traps.size() % 10 == 0) {
+                traps.add(new EventBuilder("uei.opennms.org/default/trap", "benchmark")
+                        .setEnterpriseId(id + ".99999")
+                        .setGeneric(6)
+                        .setSpecific(99999)
+                        .getEvent());
+            }
+        }
+
+        this.traps = traps.toArray(new org.opennms.netmgt.xml.event.Event[0]);
+    }
+
+    @Benchmark
+    public void findByEvent(final Blackhole blackhole) {
+        final org.opennms.netmgt.xml.event.Event trap = traps[next];
+        next = (next + 1) % traps.length;
+        blackhole.consume(eventConfDao.findByEvent(trap));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void reload() {
+        // None of the event files have been modified, so only the root scope is compiled again
+        eventConfDao.reload();
+    }
+
+    private static String exactValue(final Event definition, final String name) {
+        final List<String> values = definition.getMaskElementValues(name);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        final String value = values.get(0);
+        return value.startsWith("~") || value.endsWith("%") ? null : value;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
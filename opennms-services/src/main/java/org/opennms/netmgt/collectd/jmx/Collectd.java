@@ -37,7 +37,7 @@ import javax.management.openmbean.TabularType;
 
 import org.opennms.netmgt.collectd.CollectableService;
 import org.opennms.netmgt.daemon.AbstractSpringContextJmxServiceDaemon;
-import org.opennms.netmgt.scheduler.LegacyScheduler;
+import org.opennms.netmgt.scheduler.ThreadPoolScheduler;
 
 /**
  * <p>Collectd class.</p>
@@ -220,10 +220,10 @@ public class Collectd extends AbstractSpringContextJmxServiceDaemon<org.opennms.
     }
     
     private ThreadPoolExecutor getExecutor() {
-        return (ThreadPoolExecutor) ((LegacyScheduler) getDaemon().getScheduler()).getRunner();
+        return (ThreadPoolExecutor) ((ThreadPoolScheduler) getDaemon().getScheduler()).getRunner();
     }
 
     private boolean getThreadPoolStatsStatus() {
-        return (getDaemon().getScheduler() instanceof LegacyScheduler);
+        return (getDaemon().getScheduler() instanceof ThreadPoolScheduler);
     }
 }
@@ -0,0 +1,291 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.rtc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * In-memory availability model used by {@link AvailabilityServiceIncrementalImpl}.
+ *
+ * The model keeps track of the managed services on every node, and for each
+ * service the outage intervals that still overlap with the rolling window.
+ * Intervals are stored as pairs of lost/regained timestamps in a flat
+ * {@code long[]} and intervals that ended before the start of the window
+ * are evicted as the window slides.
+ *
+ * All of the methods are synchronized, so that the model can be updated from
+ * the event thread while it is being read by the data senders.
+ */
+final class AvailabilityModel {
+
+    /**
+     * Marker used for the regained timestamp of an outage that is still open.
+     */
+    private static final long OPEN = Long.MAX_VALUE;
+
+    private final Map<Integer, List<ServiceAvailability>> m_servicesByNode = new HashMap<>();
+
+    public synchronized void clear() {
+        m_servicesByNode.clear();
+    }
+
+    public synchronized int getNodeCount() {
+        return m_servicesByNode.size();
+    }
+
+    public synchronized void addService(final int nodeId, final String ipAddr, final String svcName) {
+        getOrCreateService(nodeId, ipAddr, svcName);
+    }
+
+    public synchronized void removeService(final int nodeId, final String ipAddr, final String svcName) {
+        final List<ServiceAvailability> services = m_servicesByNode.get(nodeId);
+        if (services == null) {
+            return;
+        }
+        services.removeIf(svc -> svc.matches(ipAddr, svcName));
+        if (services.isEmpty()) {
+            m_servicesByNode.remove(nodeId);
+        }
+    }
+
+    public synchronized void removeInterface(final int nodeId, final String ipAddr) {
+        final List<ServiceAvailability> services = m_servicesByNode.get(nodeId);
+        if (services == null) {
+            return;
+        }
+        services.removeIf(svc -> svc.m_ipAddr.equals(ipAddr));
+        if (services.isEmpty()) {
+            m_servicesByNode.remove(nodeId);
+        }
+    }
+
+    public synchronized void removeNode(final int nodeId) {
+        m_servicesByNode.remove(nodeId);
+    }
+
+    /**
+     * Moves the services, and their outage history, that are bound to the given
+     * interface from one node to another.
+     */
+    public synchronized void interfaceReparented(final String ipAddr, final int oldNodeId, final int newNodeId) {
+        final List<ServiceAvailability> oldServices = m_servicesByNode.get(oldNodeId);
+        if (oldServices == null) {
+            return;
+        }
+        final List<ServiceAvailability> newServices = m_servicesByNode.computeIfAbsent(newNodeId, k -> new ArrayList<>(4));
+        final Iterator<ServiceAvailability> it = oldServices.iterator();
+        while (it.hasNext()) {
+            final ServiceAvailability svc = it.next();
+            if (svc.m_ipAddr.equals(ipAddr)) {
+                it.remove();
+                newServices.add(svc);
+            }
+        }
+        if (oldServices.isEmpty()) {
+            m_servicesByNode.remove(oldNodeId);
+        }
+        if (newServices.isEmpty()) {
+            m_servicesByNode.remove(newNodeId);
+        }
+    }
+
+    /**
+     * Records the start of an outage. Services that were not known to the model
+     * are added, since the outage implies that the service is being monitored.
+     */
+    public synchronized void outageCreated(final int nodeId, final String ipAddr, final String svcName, final long lostAt, final long windowStart) {
+        getOrCreateService(nodeId, ipAddr, svcName).lost(lostAt, windowStart);
+    }
+
+    /**
+     * Records the end of an outage.
+     *
+     * @return false if there was no open outage for the given service
+     */
+    public synchronized boolean outageResolved(final int nodeId, final String ipAddr, final String svcName, final long regainedAt) {
+        final ServiceAvailability svc = getService(nodeId, ipAddr, svcName);
+        return svc != null && svc.regained(regainedAt);
+    }
+
+    /**
+     * Calculates the availability statistics for the services on the given node
+     * whose names are accepted by the filter. Intervals that ended before the
+     * start of the window are evicted along the way.
+     */
+    public synchronized NodeAvailability getNodeAvailability(final int nodeId, final Predicate<String> serviceFilter, final long windowStart, final long windowEnd) {
+        final List<ServiceAvailability> services = m_servicesByNode.get(nodeId);
+        if (services == null) {
+            return NodeAvailability.EMPTY;
+        }
+
+        long outageTime = 0;
+        int numServices = 0;
+        int numServicesDown = 0;
+        for (final ServiceAvailability svc : services) {
+            if (!serviceFilter.test(svc.m_svcName)) {
+                continue;
+            }
+            svc.evict(windowStart);
+            numServices++;
+            outageTime += svc.getOutageTime(windowStart, windowEnd);
+            if (svc.isDown()) {
+                numServicesDown++;
+            }
+        }
+        return new NodeAvailability(outageTime, numServices, numServicesDown);
+    }
+
+    private ServiceAvailability getService(final int nodeId, final String ipAddr, final String svcName) {
+        final List<ServiceAvailability> services = m_servicesByNode.get(nodeId);
+        if (services == null) {
+            return null;
+        }
+        for (final ServiceAvailability svc : services) {
+            if (svc.matches(ipAddr, svcName)) {
+                return svc;
+            }
+        }
+        return null;
+    }
+
+    private ServiceAvailability getOrCreateService(final int nodeId, final String ipAddr, final String svcName) {
+        final List<ServiceAvailability> services = m_servicesByNode.computeIfAbsent(nodeId, k -> new ArrayList<>(4));
+        for (final ServiceAvailability svc : services) {
+            if (svc.matches(ipAddr, svcName)) {
+                return svc;
+            }
+        }
+        final ServiceAvailability svc = new ServiceAvailability(ipAddr, svcName);
+        services.add(svc);
+        return svc;
+    }
+
+    /**
+     * Availability statistics for a single node.
+     */
+    public static final class NodeAvailability {
+        private static final NodeAvailability EMPTY = new NodeAvailability(0, 0, 0);
+
+        private final long m_outageTime;
+        private final int m_numServices;
+        private final int m_numServicesDown;
+
+        private NodeAvailability(final long outageTime, final int numServices, final int numServicesDown) {
+            m_outageTime = outageTime;
+            m_numServices = numServices;
+            m_numServicesDown = numServicesDown;
+        }
+
+        public long getOutageTime() {
+            return m_outageTime;
+        }
+
+        public int getNumServices() {
+            return m_numServices;
+        }
+
+        public int getNumServicesDown() {
+            return m_numServicesDown;
+        }
+    }
+
+    /**
+     * Outage intervals of a single service, stored as lost/regained pairs
+     * in the order in which the outages started.
+     */
+    private static final class ServiceAvailability {
+        private final String m_ipAddr;
+        private final String m_svcName;
+
+        private long[] m_intervals = new long[0];
+        private int m_size = 0;
+
+        private ServiceAvailability(final String ipAddr, final String svcName) {
+            m_ipAddr = Objects.requireNonNull(ipAddr);
+            m_svcName = Objects.requireNonNull(svcName);
+        }
+
+        private boolean matches(final String ipAddr, final String svcName) {
+            return m_svcName.equals(svcName) && m_ipAddr.equals(ipAddr);
+        }
+
+        private boolean isDown() {
+            return m_size > 0 && m_intervals[m_size - 1] == OPEN;
+        }
+
+        private void lost(final long lostAt, final long windowStart) {
+            if (isDown()) {
+                // Duplicate, the service is already down
+                return;
+            }
+            evict(windowStart);
+            if (m_size + 2 > m_intervals.length) {
+                m_intervals = Arrays.copyOf(m_intervals, Math.max(2, m_intervals.length * 2));
+            }
+            m_intervals[m_size++] = lostAt;
+            m_intervals[m_size++] = OPEN;
+        }
+
+        private boolean regained(final long regainedAt) {
+            if (!isDown()) {
+                return false;
+            }
+            m_intervals[m_size - 1] = Math.max(regainedAt, m_intervals[m_size - 2]);
+            return true;
+        }
+
+        private long getOutageTime(final long windowStart, final long windowEnd) {
+            long downtime = 0;
+            for (int i = 0; i < m_size; i += 2) {
+                // Clip the interval to the window
+                final long lostAt = Math.max(windowStart, m_intervals[i]);
+                final long regainedAt = Math.min(windowEnd, m_intervals[i + 1]);
+                if (regainedAt > lostAt) {
+                    downtime += regainedAt - lostAt;
+                }
+            }
+            return downtime;
+        }
+
+        private void evict(final long windowStart) {
+            int j = 0;
+            for (int i = 0; i < m_size; i += 2) {
+                if (m_intervals[i + 1] > windowStart) {
+                    m_intervals[j++] = m_intervals[i];
+                    m_intervals[j++] = m_intervals[i + 1];
+                }
+            }
+            m_size = j;
+            if (m_size == 0 && m_intervals.length > 8) {
+                // Release the storage used by a service that flapped
+                m_intervals = new long[0];
+            }
+        }
+    }
+}
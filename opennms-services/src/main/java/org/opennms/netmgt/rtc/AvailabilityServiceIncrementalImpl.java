@@ -0,0 +1,345 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.rtc;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.opennms.core.criteria.CriteriaBuilder;
+import org.opennms.core.criteria.restrictions.GtRestriction;
+import org.opennms.core.criteria.restrictions.NullRestriction;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.dao.api.MonitoredServiceDao;
+import org.opennms.netmgt.dao.api.OutageDao;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.EventDatetimeFormatter;
+import org.opennms.netmgt.events.api.annotations.EventHandler;
+import org.opennms.netmgt.events.api.annotations.EventListener;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.events.api.model.IParm;
+import org.opennms.netmgt.filter.api.FilterDao;
+import org.opennms.netmgt.model.OnmsMonitoredService;
+import org.opennms.netmgt.model.OnmsOutage;
+import org.opennms.netmgt.rtc.AvailabilityModel.NodeAvailability;
+import org.opennms.netmgt.rtc.datablock.RTCCategory;
+import org.opennms.netmgt.xml.rtc.Category;
+import org.opennms.netmgt.xml.rtc.EuiLevel;
+import org.opennms.netmgt.xml.rtc.Header;
+import org.opennms.netmgt.xml.rtc.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * This implementation of the {@link AvailabilityService} calculates the
+ * availability percentages from an in-memory {@link AvailabilityModel}.
+ *
+ * The model is seeded from the database on first use and is then kept
+ * up-to-date using the outage and inventory events, so that generating
+ * the statistics for a category does not require any database access
+ * beyond resolving the nodes in the category, which is cached until
+ * an event that may change the category membership is received.
+ *
+ * The statistics are identical to the ones calculated by
+ * {@link AvailabilityServiceHibernateImpl}.
+ */
+@EventListener(name="RTC:AvailabilityServiceIncrementalImpl", logPrefix="rtc")
+public class AvailabilityServiceIncrementalImpl implements AvailabilityService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AvailabilityServiceIncrementalImpl.class);
+
+    private static final EventDatetimeFormatter FORMATTER = EventConstants.getEventDatetimeFormatter();
+
+    /**
+     * Sent by the web UI once interfaces or services have been managed or unmanaged
+     */
+    private static final String RESTART_SCM_EVENT_UEI = "uei.opennms.org/internal/restartSCM";
+
+    /**
+     * The rolling window, in milliseconds
+     */
+    private static final long ROLLING_WINDOW = 24L * 60L * 60L * 1000L;
+
+    @Autowired
+    private FilterDao m_filterDao;
+
+    @Autowired
+    private MonitoredServiceDao m_monitoredServiceDao;
+
+    @Autowired
+    private OutageDao m_outageDao;
+
+    @Autowired
+    private TransactionTemplate m_transactionTemplate;
+
+    private final AvailabilityModel m_model = new AvailabilityModel();
+
+    /**
+     * Node ids of the categories, keyed by label. Cleared whenever an event
+     * that may affect the category filters is received.
+     */
+    private final Map<String, List<Integer>> m_nodesByCategory = new ConcurrentHashMap<>();
+
+    private volatile boolean m_seeded = false;
+
+    @Override
+    public Map<String, RTCCategory> getCategories() {
+        return RTCUtils.createCategoriesMap();
+    }
+
+    @Override
+    public EuiLevel getEuiLevel(RTCCategory category) {
+        seedIfNecessary();
+
+        final Header header = new Header();
+        header.setVer("1.9a");
+        header.setMstation("");
+
+        // current time
+        final Date curDate = new Date();
+        final long windowEnd = curDate.getTime();
+        final long windowStart = windowEnd - ROLLING_WINDOW;
+
+        LOG.debug("Retrieving availability statistics for {} with current date: {} and rolling window: {}",
+                category.getLabel(), curDate, ROLLING_WINDOW);
+
+        final EuiLevel level = new EuiLevel();
+        header.setCreated(FORMATTER.format(curDate));
+        level.setHeader(header);
+
+        final Category levelCat = new Category();
+        levelCat.setCatlabel(category.getLabel());
+
+        final Predicate<String> serviceFilter = getServiceFilter(category.getServices());
+
+        double outageTimeInCategory = 0.0;
+        int numServicesInCategory = 0;
+
+        for (final int nodeId : getNodes(category)) {
+            final NodeAvailability availability = m_model.getNodeAvailability(nodeId, serviceFilter, windowStart, windowEnd);
+
+            final Node levelNode = new Node();
+            levelNode.setNodeid(nodeId);
+            levelNode.setNodevalue(RTCUtils.getOutagePercentage(availability.getOutageTime(), ROLLING_WINDOW, availability.getNumServices()));
+            levelNode.setNodesvccount(availability.getNumServices());
+            levelNode.setNodesvcdowncount(availability.getNumServicesDown());
+            levelCat.getNode().add(levelNode);
+
+            numServicesInCategory += availability.getNumServices();
+            outageTimeInCategory += availability.getOutageTime();
+        }
+
+        levelCat.setCatvalue(RTCUtils.getOutagePercentage(outageTimeInCategory, ROLLING_WINDOW, numServicesInCategory));
+        level.getCategory().add(levelCat);
+
+        LOG.debug("Done retrieving availability statistics for {} with {} services.", category.getLabel(), numServicesInCategory);
+
+        return level;
+    }
+
+    @EventHandler(ueis={
+        EventConstants.OUTAGE_CREATED_EVENT_UEI,
+        EventConstants.OUTAGE_RESOLVED_EVENT_UEI,
+        EventConstants.NODE_GAINED_SERVICE_EVENT_UEI,
+        EventConstants.SERVICE_DELETED_EVENT_UEI,
+        EventConstants.SERVICE_UNMANAGED_EVENT_UEI,
+        EventConstants.INTERFACE_DELETED_EVENT_UEI,
+        EventConstants.NODE_DELETED_EVENT_UEI,
+        EventConstants.INTERFACE_REPARENTED_EVENT_UEI,
+        EventConstants.SUSPEND_POLLING_SERVICE_EVENT_UEI,
+        EventConstants.RESUME_POLLING_SERVICE_EVENT_UEI,
+        RESTART_SCM_EVENT_UEI,
+        EventConstants.NODE_CATEGORY_MEMBERSHIP_CHANGED_EVENT_UEI,
+        EventConstants.ASSET_INFO_CHANGED_EVENT_UEI
+    })
+    public void onEvent(IEvent event) {
+        final IParm perspective = event.getParm("perspective");
+        if (perspective != null && perspective.getValue() != null) {
+            LOG.trace("Event's perspective is not null, nothing to process");
+            return;
+        }
+
+        final String uei = event.getUei();
+        final int nodeId = event.hasNodeid() ? event.getNodeid().intValue() : -1;
+        final String ipAddr = event.getInterfaceAddress() != null ? InetAddressUtils.str(event.getInterfaceAddress()) : null;
+        final String svcName = event.getService();
+
+        if (!EventConstants.OUTAGE_CREATED_EVENT_UEI.equals(uei) && !EventConstants.OUTAGE_RESOLVED_EVENT_UEI.equals(uei)) {
+            // Anything other than an outage may change the nodes matched by the category rules
+            m_nodesByCategory.clear();
+        }
+
+        // Hold the lock on the model while checking if it was seeded, so that
+        // events received while seeding are applied once the seeding completes
+        synchronized (m_model) {
+            if (!m_seeded) {
+                return;
+            }
+
+            if (EventConstants.SUSPEND_POLLING_SERVICE_EVENT_UEI.equals(uei)
+                    || EventConstants.RESUME_POLLING_SERVICE_EVENT_UEI.equals(uei)
+                    || RESTART_SCM_EVENT_UEI.equals(uei)) {
+                // Interfaces and services are (re-)managed by updating the database directly and the outages
+                // of re-managed services are not announced, so the model is seeded again on the next use
+                LOG.debug("Interfaces or services have been managed or unmanaged. Seeding the availability model again on next use.");
+                m_seeded = false;
+            } else if (EventConstants.OUTAGE_CREATED_EVENT_UEI.equals(uei)) {
+                if (nodeId != -1 && ipAddr != null && svcName != null) {
+                    final long lostAt = event.getTime().getTime();
+                    m_model.outageCreated(nodeId, ipAddr, svcName, lostAt, System.currentTimeMillis() - ROLLING_WINDOW);
+                }
+            } else if (EventConstants.OUTAGE_RESOLVED_EVENT_UEI.equals(uei)) {
+                if (nodeId != -1 && ipAddr != null && svcName != null) {
+                    if (!m_model.outageResolved(nodeId, ipAddr, svcName, event.getTime().getTime())) {
+                        LOG.debug("No open outage found for nodeid: {} ip: {} svcName: {}", nodeId, ipAddr, svcName);
+                    }
+                }
+            } else if (EventConstants.NODE_GAINED_SERVICE_EVENT_UEI.equals(uei)) {
+                if (nodeId != -1 && ipAddr != null && svcName != null) {
+                    m_model.addService(nodeId, ipAddr, svcName);
+                }
+            } else if (EventConstants.SERVICE_DELETED_EVENT_UEI.equals(uei)
+                    || EventConstants.SERVICE_UNMANAGED_EVENT_UEI.equals(uei)) {
+                if (nodeId != -1 && ipAddr != null && svcName != null) {
+                    m_model.removeService(nodeId, ipAddr, svcName);
+                }
+            } else if (EventConstants.INTERFACE_DELETED_EVENT_UEI.equals(uei)) {
+                if (nodeId != -1 && ipAddr != null) {
+                    m_model.removeInterface(nodeId, ipAddr);
+                }
+            } else if (EventConstants.NODE_DELETED_EVENT_UEI.equals(uei)) {
+                if (nodeId != -1) {
+                    m_model.removeNode(nodeId);
+                }
+            } else if (EventConstants.INTERFACE_REPARENTED_EVENT_UEI.equals(uei)) {
+                final int oldNodeId = getIntParm(event, EventConstants.PARM_OLD_NODEID);
+                final int newNodeId = getIntParm(event, EventConstants.PARM_NEW_NODEID);
+                if (ipAddr != null && oldNodeId != -1 && newNodeId != -1) {
+                    m_model.interfaceReparented(ipAddr, oldNodeId, newNodeId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the managed services and the outages that overlap with the rolling
+     * window from the database.
+     */
+    private void seedIfNecessary() {
+        if (m_seeded) {
+            return;
+        }
+        synchronized (m_model) {
+            if (m_seeded) {
+                return;
+            }
+            final long windowStart = System.currentTimeMillis() - ROLLING_WINDOW;
+            LOG.info("Seeding the availability model with the outages since {}", new Date(windowStart));
+            m_transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+                @Override
+                protected void doInTransactionWithoutResult(TransactionStatus status) {
+                    m_model.clear();
+
+                    final CriteriaBuilder serviceBuilder = new CriteriaBuilder(OnmsMonitoredService.class)
+                        .alias("ipInterface", "ipInterface")
+                        .eq("ipInterface.isManaged", "M");
+                    for (final OnmsMonitoredService svc : m_monitoredServiceDao.findMatching(serviceBuilder.toCriteria())) {
+                        m_model.addService(svc.getNodeId(), InetAddressUtils.str(svc.getIpAddress()), svc.getServiceName());
+                    }
+
+                    final CriteriaBuilder outageBuilder = new CriteriaBuilder(OnmsOutage.class)
+                        .isNull("perspective")
+                        .or(new NullRestriction("ifRegainedService"), // The outage is ongoing
+                            new GtRestriction("ifRegainedService", new Date(windowStart))) // or was cleared in the window
+                        .alias("monitoredService", "monitoredService")
+                        .alias("monitoredService.ipInterface", "ipInterface")
+                        .eq("ipInterface.isManaged", "M")
+                        .orderBy("ifLostService").asc();
+                    for (final OnmsOutage outage : m_outageDao.findMatching(outageBuilder.toCriteria())) {
+                        final int nodeId = outage.getNodeId();
+                        final String ipAddr = InetAddressUtils.str(outage.getIpAddress());
+                        final String svcName = outage.getMonitoredService().getServiceName();
+                        m_model.outageCreated(nodeId, ipAddr, svcName, outage.getIfLostService().getTime(), windowStart);
+                        if (outage.getIfRegainedService() != null) {
+                            m_model.outageResolved(nodeId, ipAddr, svcName, outage.getIfRegainedService().getTime());
+                        }
+                    }
+                }
+            });
+            m_seeded = true;
+            LOG.info("Done seeding the availability model with {} nodes.", m_model.getNodeCount());
+        }
+    }
+
+    private List<Integer> getNodes(RTCCategory category) {
+        List<Integer> nodeIds = m_nodesByCategory.get(category.getLabel());
+        if (nodeIds == null) {
+            // Refresh the list of nodes contained inside the RTCCategory
+            category.clearNodes();
+            category.addAllNodes(RTCUtils.getNodeIdsForCategory(m_filterDao, category));
+            nodeIds = new ArrayList<>(category.getNodes());
+            m_nodesByCategory.put(category.getLabel(), nodeIds);
+        }
+        return nodeIds;
+    }
+
+    /**
+     * Mirrors the service name restrictions used by {@link AvailabilityServiceHibernateImpl}:
+     * names prefixed with '~' are treated as regular expressions.
+     */
+    static Predicate<String> getServiceFilter(final List<String> serviceNames) {
+        if (serviceNames == null || serviceNames.isEmpty()) {
+            return svcName -> true;
+        }
+        Predicate<String> filter = svcName -> false;
+        for (final String serviceName : serviceNames) {
+            if (serviceName.startsWith("~")) {
+                final Pattern pattern = Pattern.compile(serviceName.substring(1));
+                filter = filter.or(svcName -> pattern.matcher(svcName).find());
+            } else {
+                filter = filter.or(serviceName::equals);
+            }
+        }
+        return filter;
+    }
+
+    private static int getIntParm(final IEvent event, final String name) {
+        final IParm parm = event.getParm(name);
+        if (parm == null || parm.getValue() == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(parm.getValue().getContent());
+        } catch (NumberFormatException e) {
+            LOG.warn("Parameter {} cannot be non-numeric", name, e);
+            return -1;
+        }
+    }
+}
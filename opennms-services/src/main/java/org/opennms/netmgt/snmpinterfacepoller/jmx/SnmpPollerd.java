@@ -22,7 +22,7 @@
 package org.opennms.netmgt.snmpinterfacepoller.jmx;
 
 import org.opennms.netmgt.daemon.AbstractSpringContextJmxServiceDaemon;
-import org.opennms.netmgt.scheduler.LegacyScheduler;
+import org.opennms.netmgt.scheduler.ThreadPoolScheduler;
 
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -147,11 +147,11 @@ public class SnmpPollerd extends AbstractSpringContextJmxServiceDaemon<org.openn
     }
 
     private ThreadPoolExecutor getExecutor() {
-        return (ThreadPoolExecutor) ((LegacyScheduler) getDaemon().getScheduler()).getRunner();
+        return (ThreadPoolExecutor) ((ThreadPoolScheduler) getDaemon().getScheduler()).getRunner();
     }
 
     private boolean getThreadPoolStatsStatus() {
-        return (getDaemon().getScheduler() instanceof LegacyScheduler);
+        return (getDaemon().getScheduler() instanceof ThreadPoolScheduler);
     }
 
 }
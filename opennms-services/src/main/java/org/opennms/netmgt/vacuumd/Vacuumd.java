@@ -46,9 +46,10 @@ import org.opennms.netmgt.events.api.EventListener;
 import org.opennms.netmgt.events.api.model.IEvent;
 import org.opennms.netmgt.events.api.model.IParm;
 import org.opennms.netmgt.model.events.EventBuilder;
-import org.opennms.netmgt.scheduler.LegacyScheduler;
 import org.opennms.netmgt.scheduler.Schedule;
 import org.opennms.netmgt.scheduler.Scheduler;
+import org.opennms.netmgt.scheduler.SchedulerFactory;
+import org.opennms.netmgt.scheduler.ThreadPoolScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,7 +73,7 @@ public class Vacuumd extends AbstractServiceDaemon implements Runnable, EventLis
 
     private volatile boolean m_stopped = false;
 
-    private volatile LegacyScheduler m_scheduler;
+    private volatile ThreadPoolScheduler m_scheduler;
 
     private volatile EventIpcManager m_eventMgr;
 
@@ -291,7 +292,7 @@ public class Vacuumd extends AbstractServiceDaemon implements Runnable, EventLis
     private void createScheduler() {
         try {
             LOG.debug("init: Creating Vacuumd scheduler");
-            m_scheduler = new LegacyScheduler("Vacuumd", 2);
+            m_scheduler = SchedulerFactory.createScheduler("Vacuumd", 2);
         } catch (RuntimeException e) {
             LOG.error("init: Failed to create Vacuumd scheduler", e);
             throw e;
@@ -0,0 +1,148 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.rtc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.opennms.netmgt.rtc.AvailabilityModel.NodeAvailability;
+
+public class AvailabilityModelTest {
+
+    private static final long HOUR = 60L * 60L * 1000L;
+
+    private static final long WINDOW = 24L * HOUR;
+
+    private static final Predicate<String> ALL = svcName -> true;
+
+    @Test
+    public void canCalculateOutageTimeInWindow() {
+        final long now = 100 * WINDOW;
+        final AvailabilityModel model = new AvailabilityModel();
+        model.addService(1, "192.168.1.1", "ICMP");
+        model.addService(1, "192.168.1.1", "HTTP");
+        model.addService(2, "192.168.1.2", "ICMP");
+
+        // Closed outage inside the window
+        model.outageCreated(1, "192.168.1.1", "ICMP", now - 2 * HOUR, now - WINDOW);
+        assertTrue(model.outageResolved(1, "192.168.1.1", "ICMP", now - HOUR));
+        // Ongoing outage that started before the window
+        model.outageCreated(1, "192.168.1.1", "HTTP", now - 2 * WINDOW, now - WINDOW);
+
+        NodeAvailability availability = model.getNodeAvailability(1, ALL, now - WINDOW, now);
+        assertEquals(HOUR + WINDOW, availability.getOutageTime());
+        assertEquals(2, availability.getNumServices());
+        assertEquals(1, availability.getNumServicesDown());
+        assertEquals(100.0 * (1.0 - 25.0 / 48.0), RTCUtils.getOutagePercentage(availability.getOutageTime(), WINDOW, availability.getNumServices()), 0.0001);
+
+        availability = model.getNodeAvailability(2, ALL, now - WINDOW, now);
+        assertEquals(0, availability.getOutageTime());
+        assertEquals(1, availability.getNumServices());
+        assertEquals(0, availability.getNumServicesDown());
+
+        // Unknown nodes have no services
+        availability = model.getNodeAvailability(99, ALL, now - WINDOW, now);
+        assertEquals(0, availability.getNumServices());
+    }
+
+    @Test
+    public void canSlideWindow() {
+        final long now = 100 * WINDOW;
+        final AvailabilityModel model = new AvailabilityModel();
+        model.outageCreated(1, "192.168.1.1", "ICMP", now - 3 * HOUR, now - WINDOW);
+        model.outageResolved(1, "192.168.1.1", "ICMP", now - 2 * HOUR);
+
+        assertEquals(HOUR, model.getNodeAvailability(1, ALL, now - WINDOW, now).getOutageTime());
+
+        // Only half of the outage is left in the window
+        final long later = now + WINDOW - 2 * HOUR - HOUR / 2;
+        assertEquals(HOUR / 2, model.getNodeAvailability(1, ALL, later - WINDOW, later).getOutageTime());
+
+        // The outage has left the window and is evicted
+        final long evening = now + WINDOW;
+        assertEquals(0, model.getNodeAvailability(1, ALL, evening - WINDOW, evening).getOutageTime());
+        assertEquals(0, model.getNodeAvailability(1, ALL, now - WINDOW, now).getOutageTime());
+        assertEquals(1, model.getNodeAvailability(1, ALL, evening - WINDOW, evening).getNumServices());
+    }
+
+    @Test
+    public void ignoresDuplicateOutageEvents() {
+        final long now = 100 * WINDOW;
+        final AvailabilityModel model = new AvailabilityModel();
+        model.outageCreated(1, "192.168.1.1", "ICMP", now - 2 * HOUR, now - WINDOW);
+        model.outageCreated(1, "192.168.1.1", "ICMP", now - HOUR, now - WINDOW);
+        assertEquals(2 * HOUR, model.getNodeAvailability(1, ALL, now - WINDOW, now).getOutageTime());
+
+        assertTrue(model.outageResolved(1, "192.168.1.1", "ICMP", now - HOUR));
+        assertFalse(model.outageResolved(1, "192.168.1.1", "ICMP", now));
+        assertEquals(HOUR, model.getNodeAvailability(1, ALL, now - WINDOW, now).getOutageTime());
+        assertEquals(0, model.getNodeAvailability(1, ALL, now - WINDOW, now).getNumServicesDown());
+    }
+
+    @Test
+    public void canUpdateInventory() {
+        final long now = 100 * WINDOW;
+        final AvailabilityModel model = new AvailabilityModel();
+        model.addService(1, "192.168.1.1", "ICMP");
+        model.addService(1, "192.168.1.2", "ICMP");
+        model.addService(1, "192.168.1.2", "SNMP");
+        model.outageCreated(1, "192.168.1.2", "ICMP", now - HOUR, now - WINDOW);
+
+        model.interfaceReparented("192.168.1.2", 1, 2);
+        assertEquals(1, model.getNodeAvailability(1, ALL, now - WINDOW, now).getNumServices());
+        NodeAvailability availability = model.getNodeAvailability(2, ALL, now - WINDOW, now);
+        assertEquals(2, availability.getNumServices());
+        assertEquals(1, availability.getNumServicesDown());
+        assertEquals(HOUR, availability.getOutageTime());
+
+        model.removeService(2, "192.168.1.2", "ICMP");
+        availability = model.getNodeAvailability(2, ALL, now - WINDOW, now);
+        assertEquals(1, availability.getNumServices());
+        assertEquals(0, availability.getNumServicesDown());
+
+        model.removeInterface(2, "192.168.1.2");
+        assertEquals(0, model.getNodeAvailability(2, ALL, now - WINDOW, now).getNumServices());
+
+        model.removeNode(1);
+        assertEquals(0, model.getNodeCount());
+    }
+
+    @Test
+    public void canFilterServices() {
+        final long now = 100 * WINDOW;
+        final AvailabilityModel model = new AvailabilityModel();
+        model.addService(1, "192.168.1.1", "ICMP");
+        model.addService(1, "192.168.1.1", "HTTP");
+        model.addService(1, "192.168.1.1", "SMTP");
+
+        final Predicate<String> byName = AvailabilityServiceIncrementalImpl.getServiceFilter(Arrays.asList("SMTP", "HTTP"));
+        final Predicate<String> byRegExp = AvailabilityServiceIncrementalImpl.getServiceFilter(Arrays.asList("~[HS].TP"));
+        assertEquals(2, model.getNodeAvailability(1, byName, now - WINDOW, now).getNumServices());
+        assertEquals(2, model.getNodeAvailability(1, byRegExp, now - WINDOW, now).getNumServices());
+        assertEquals(3, model.getNodeAvailability(1, AvailabilityServiceIncrementalImpl.getServiceFilter(null), now - WINDOW, now).getNumServices());
+    }
+}
@@ -41,16 +41,19 @@ import org.opennms.core.test.db.TemporaryDatabaseAware;
 import org.opennms.core.test.db.annotations.JUnitTemporaryDatabase;
 import org.opennms.netmgt.dao.api.MonitoredServiceDao;
 import org.opennms.netmgt.dao.api.OutageDao;
+import org.opennms.netmgt.events.api.model.ImmutableMapper;
 import org.opennms.netmgt.mock.MockNetwork;
 import org.opennms.netmgt.mock.MockService;
 import org.opennms.netmgt.model.OnmsMonitoredService;
 import org.opennms.netmgt.model.OnmsOutage;
+import org.opennms.netmgt.model.events.EventBuilder;
 import org.opennms.netmgt.rtc.datablock.RTCCategory;
 import org.opennms.netmgt.xml.rtc.Category;
 import org.opennms.netmgt.xml.rtc.EuiLevel;
 import org.opennms.netmgt.xml.rtc.Node;
 import org.opennms.test.JUnitConfigurationEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -72,8 +75,12 @@ import com.google.common.collect.Lists;
 public class AvailabilityServiceIT implements TemporaryDatabaseAware<MockDatabase> {
 
     @Autowired
+    @Qualifier("availabilityServiceHibernateImpl")
     private AvailabilityService m_availabilityService;
 
+    @Autowired
+    private AvailabilityServiceIncrementalImpl m_incrementalAvailabilityService;
+
     @Autowired
     private OutageDao m_outageDao;
 
@@ -278,6 +285,61 @@ public class AvailabilityServiceIT implements TemporaryDatabaseAware<MockDatabas
         verifyNode(nodes.get(2), 3, 100.0f);
     }
 
+    @Test
+    @Transactional
+    public void verifyIncrementalImplMatchesHibernateImpl() {
+        final MockNetwork mockNetwork = new MockNetwork();
+        mockNetwork.createStandardNetwork();
+        m_mockDatabase.populate(mockNetwork);
+
+        final RTCCategory rtcCat = mock(RTCCategory.class);
+        when(rtcCat.getLabel()).thenReturn("TEST");
+        when(rtcCat.getNodes()).thenReturn(Lists.newArrayList(1, 2, 3));
+
+        final Date now = new Date();
+        final Date oneHourAgo = new Date(now.getTime() - (60 * 60 * 1000));
+        final Date thirtyMinutesAgo = new Date(now.getTime() - (30 * 60 * 1000));
+
+        final OnmsOutage outage = new OnmsOutage();
+        outage.setMonitoredService(toMonitoredService(mockNetwork.getService(1, "192.168.1.1", "ICMP")));
+        outage.setIfLostService(oneHourAgo);
+        outage.setIfRegainedService(thirtyMinutesAgo);
+        m_outageDao.save(outage);
+        createOutage(mockNetwork.getService(2, "192.168.1.3", "HTTP"), thirtyMinutesAgo.getTime());
+        m_outageDao.flush();
+
+        // The incremental implementation is seeded on first use
+        compareImplementations(rtcCat);
+
+        // Changes made through the web UI are not announced in detail, so the model is seeded again
+        createOutage(mockNetwork.getService(1, "192.168.1.2", "SMTP"), oneHourAgo.getTime());
+        m_outageDao.flush();
+        m_incrementalAvailabilityService.onEvent(ImmutableMapper.fromMutableEvent(new EventBuilder("uei.opennms.org/internal/restartSCM", "web ui").getEvent()));
+
+        compareImplementations(rtcCat);
+    }
+
+    private void compareImplementations(final RTCCategory rtcCat) {
+        final EuiLevel hibernateLevel = m_availabilityService.getEuiLevel(rtcCat);
+        final EuiLevel incrementalLevel = m_incrementalAvailabilityService.getEuiLevel(rtcCat);
+        assertEquals(1, hibernateLevel.getCategory().size());
+        assertEquals(1, incrementalLevel.getCategory().size());
+
+        final Category c1 = hibernateLevel.getCategory().get(0);
+        final Category c2 = incrementalLevel.getCategory().get(0);
+        // Open outages are accounted up to the time the levels were calculated
+        assertEquals(c1.getCatvalue(), c2.getCatvalue(), 0.001);
+        assertEquals(c1.getNode().size(), c2.getNode().size());
+        for (int i = 0; i < c1.getNode().size(); i++) {
+            final Node n1 = c1.getNode().get(i);
+            final Node n2 = c2.getNode().get(i);
+            assertEquals(n1.getNodeid(), n2.getNodeid());
+            assertEquals(n1.getNodesvccount(), n2.getNodesvccount());
+            assertEquals(n1.getNodesvcdowncount(), n2.getNodesvcdowncount());
+            assertEquals(n1.getNodevalue(), n2.getNodevalue(), 0.001);
+        }
+    }
+
     private OnmsMonitoredService toMonitoredService(MockService svc) {
         return m_monitoredServiceDao.get(svc.getNodeId(), svc.getAddress(), svc.getSvcName());
     }